@@ -40,6 +40,7 @@ import static org.opcfoundation.ua.codegen.JavaUtils.toFullClassName;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -59,6 +60,17 @@ import org.xml.sax.SAXException;
 public class Main2 {
 
 	public static final File DEST = new File("../src/main/java");
+
+	/** Max number of constants in an identifier family, larger types are split by first letter */
+	public static final int MAX_IDENTIFIER_FAMILY_SIZE = 850;
+
+	/** Fields, as Type.Field, whose element name starts with a lower case letter */
+	static final Set<String> LOWER_CASE_ELEMENTS = new HashSet<String>(Arrays.asList(
+		"ApplicationDescription.ApplicationUri", "ApplicationDescription.ProductUri",
+		"ApplicationDescription.ApplicationName", "ApplicationDescription.ApplicationType",
+		"ApplicationDescription.GatewayServerUri", "ApplicationDescription.DiscoveryProfileUri",
+		"ApplicationDescription.DiscoveryUrls", "BuildInfo.ProductUri", "RegisteredServer.ProductUri",
+		"RegisteredServer.GatewayServerUri", "RegisteredServer.DiscoveryUrls"));
 	
 	public static void main(String[] args) 
 	throws Throwable {
@@ -81,12 +93,12 @@ public class Main2 {
 		buildStructures( dom, overrides );
 		
 		// Build EncodeableSerializer.java
-		buildSerializer( dom );
+		buildSerializer( dom, identifiers );
 		
 		// Build ChannelService.java 
 		buildChannelService( dom );
 		
-		// Build Identifiers.java
+		// Build Identifiers.java and the *Identifiers.java families
 		buildIdentifiers("org.opcfoundation.ua.core.Identifiers", identifiers);
 		
 		// Build Standard Engineering Units
@@ -141,6 +153,7 @@ public class Main2 {
 	throws IOException
 	{
 		Template identifiersTemplate = Template.load("src/main/resources/codegen_data/templates/IdentifiersTemplate.java");		
+		Template familyTemplate = Template.load("src/main/resources/codegen_data/templates/IdentifierFamilyTemplate.java");
 		String className = getClassName(fullClassName);
 		File file = toFile(DEST, fullClassName);
 		HashMap<String, Object> map = new HashMap<String, Object>();
@@ -169,16 +182,88 @@ public class Main2 {
 			Collections.sort(list, IdentifiersUtil.NAME_COMPARATOR);
 		
 		
+		// Split into families, one per type. A family is initialized on first
+		// access of one of its constants, and class initialization time grows
+		// with the number of constants, so large types are split further by
+		// the first letter of the names.
+		List<String> familyNames = new ArrayList<String>();
+		List<String> familyDescriptions = new ArrayList<String>();
+		List<List<IdentifiersUtil.Identifier>> families = new ArrayList<List<IdentifiersUtil.Identifier>>();
 		for (String type : sorted.keySet())
 		{
-			content.add("// "+type);
-			for (IdentifiersUtil.Identifier id : sorted.get(type))
+			List<IdentifiersUtil.Identifier> list = sorted.get(type);
+			String description = type.replaceAll("([a-z])([A-Z])", "$1 $2").toLowerCase()+"s";
+			if (list.size() <= MAX_IDENTIFIER_FAMILY_SIZE) {
+				familyNames.add(type+"Identifiers");
+				familyDescriptions.add(description);
+				families.add(list);
+				continue;
+			}
+			int begin = 0;
+			while (begin < list.size())
 			{
-				content.add("public static final NodeId "+id.name+" = init("+id.id+");");
+				char first = Character.toUpperCase(list.get(begin).name.charAt(0));
+				char last = first;
+				int end = begin;
+				// Add whole letters while the family stays within the limit
+				while (end < list.size())
+				{
+					char letter = Character.toUpperCase(list.get(end).name.charAt(0));
+					int next = end;
+					while (next < list.size() && Character.toUpperCase(list.get(next).name.charAt(0)) == letter) next++;
+					if (end > begin && next - begin > MAX_IDENTIFIER_FAMILY_SIZE) break;
+					last = letter;
+					end = next;
+				}
+				familyNames.add(type+"Identifiers"+first+(first==last ? "" : ""+last));
+				familyDescriptions.add(description+", of the types and instances starting with "+first+(first==last ? "" : "-"+last));
+				families.add(list.subList(begin, end));
+				begin = end;
 			}
-			content.add("");
 		}
-		
+
+		int maxId = 0;
+		for (IdentifiersUtil.Identifier id : identifiers)
+			maxId = Math.max(maxId, id.id);
+		char[] familyOfId = new char[maxId+1];
+		Arrays.fill(familyOfId, '-');
+		for (int i=0; i<families.size(); i++)
+		{
+			String familyName = familyNames.get(i);
+			HashMap<String, Object> familyMap = new HashMap<String, Object>();
+			List<String> familyContent = new ArrayList<String>();
+			familyMap.put(Template.KEY_PACKAGE_NAME, getPackageName(fullClassName));
+			familyMap.put(Template.KEY_CLASSNAME, familyName);
+			familyMap.put(Template.KEY_DESCRIPTION, familyDescriptions.get(i));
+			familyMap.put(Template.KEY_CONTENT, familyContent);
+			familyMap.put(Template.KEY_IMPORTS, new ArrayList<String>());
+			for (IdentifiersUtil.Identifier id : families.get(i))
+			{
+				familyContent.add("public static final NodeId "+id.name+" = "+className+".init("+id.id+");");
+				familyOfId[id.id] = (char) ('A'+i);
+			}
+			familyTemplate.buildToFile(familyMap, toFile(DEST, getPackageName(fullClassName)+"."+familyName));
+		}
+
+		StringBuilder implemented = new StringBuilder();
+		content.add("private static final Class<?>[] FAMILIES = {");
+		for (int i=0; i<familyNames.size(); i++)
+		{
+			String separator = i<familyNames.size()-1 ? "," : "";
+			implemented.append("    "+familyNames.get(i)+separator+(separator.isEmpty() ? "" : "\n"));
+			content.add("    "+familyNames.get(i)+".class"+separator);
+		}
+		content.add("};");
+		content.add("");
+		content.add("/** Index of the family of each identifier in FAMILIES as 'A' + index, '-' if none */");
+		content.add("private static final String FAMILY_OF_ID =");
+		for (int i=0; i<familyOfId.length; i+=100)
+		{
+			String chunk = new String(familyOfId, i, Math.min(100, familyOfId.length-i));
+			content.add("    \""+chunk+"\""+(i+100<familyOfId.length ? " +" : ";"));
+		}
+		map.put(Template.KEY_ADDITION, implemented.toString());
+
 		identifiersTemplate.buildToFile(map, file);		
 	}	
 	
@@ -753,6 +838,111 @@ public class Main2 {
 		}
 		
 		javaTemplate.buildToFile(map, file);
+
+		buildStatusCodeNames(fullClassName, identifiers);
+	}
+
+	/**
+	 * Build the table of the names of the status codes, sorted by code, that
+	 * StatusCodeDescriptions looks up without reflection.
+	 * 
+	 * @param statusCodesClassName full name of the StatusCodes class
+	 * @param identifiers status codes
+	 * @throws IOException on write error
+	 */
+	static void buildStatusCodeNames(String statusCodesClassName, List<IdentifiersUtil.Identifier> identifiers)
+	throws IOException
+	{
+		Template javaTemplate = Template.load("src/main/resources/codegen_data/templates/Template.java");
+		String fullClassName = getPackageName(statusCodesClassName)+".StatusCodeNames";
+		String className = getClassName(fullClassName);
+		File file = toFile(DEST, fullClassName);
+		HashMap<String, Object> map = new HashMap<String, Object>();
+		List<String> content = new ArrayList<String>();
+		List<String> imports = new ArrayList<String>();
+		map.put(Template.KEY_PACKAGE_NAME, getPackageName(fullClassName));
+		map.put(Template.KEY_CLASSNAME, className);
+		map.put(Template.KEY_CONTENT, content);
+		map.put(Template.KEY_IMPORTS, imports);		
+
+		// Sorted as unsigned, the last name of a code wins
+		TreeMap<Long, String> names = new TreeMap<Long, String>();
+		for (Identifier id : identifiers)
+		{
+			long value = ((long)id.id)<<16;
+			if (id.name.startsWith("Bad")) value |= 0x80000000L;
+			if (id.name.startsWith("Uncertain")) value |= 0x40000000L;
+			names.put(value, id.name);
+		}
+		List<String> codes = new ArrayList<String>();
+		List<String> quotedNames = new ArrayList<String>();
+		for (Map.Entry<Long, String> e : names.entrySet())
+		{
+			codes.add(String.format("0x%08X", e.getKey()));
+			quotedNames.add("\""+e.getValue()+"\"");
+		}
+
+		content.add("/** Codes of the fields of {@link StatusCodes}, sorted as unsigned */");
+		content.add("private static final int[] CODES = {");
+		addRows(content, codes, 8);
+		content.add("};");
+		content.add("");
+		content.add("/** Names of the fields of {@link StatusCodes}, in the order of CODES */");
+		content.add("private static final String[] NAMES = {");
+		addRows(content, quotedNames, 1);
+		content.add("};");
+		content.add("");
+		content.add("private "+className+"() {");
+		content.add("}");
+		content.add("");
+		content.add("/**");
+		content.add(" * Get the number of codes");
+		content.add(" *");
+		content.add(" * @return number of codes");
+		content.add(" */");
+		content.add("public static int size() {");
+		content.add("    return CODES.length;");
+		content.add("}");
+		content.add("");
+		content.add("/**");
+		content.add(" * Get the index of a code");
+		content.add(" *");
+		content.add(" * @param code severity and sub code bits of a status code");
+		content.add(" * @return index or -1 if the code is not standard");
+		content.add(" */");
+		content.add("public static int indexOf(int code) {");
+		content.add("    int low = 0, high = CODES.length - 1;");
+		content.add("    while (low <= high) {");
+		content.add("        int mid = (low + high) >>> 1;");
+		content.add("        int c = Integer.compareUnsigned(CODES[mid], code);");
+		content.add("        if (c < 0) low = mid + 1;");
+		content.add("        else if (c > 0) high = mid - 1;");
+		content.add("        else return mid;");
+		content.add("    }");
+		content.add("    return -1;");
+		content.add("}");
+		content.add("");
+		content.add("/**");
+		content.add(" * Get the code at an index");
+		content.add(" *");
+		content.add(" * @param index index");
+		content.add(" * @return severity and sub code bits of the status code");
+		content.add(" */");
+		content.add("public static int getCode(int index) {");
+		content.add("    return CODES[index];");
+		content.add("}");
+		content.add("");
+		content.add("/**");
+		content.add(" * Get the name of the code at an index");
+		content.add(" *");
+		content.add(" * @param index index");
+		content.add(" * @return name of the field of StatusCodes");
+		content.add(" */");
+		content.add("public static String getName(int index) {");
+		content.add("    return NAMES[index];");
+		content.add("}");
+
+		javaTemplate.buildToFile(map, file);
 	}
 	
 	public static void buildAttributes(DictionaryTypes.TypeDictionary dt) throws IOException
@@ -796,7 +986,7 @@ public class Main2 {
 		javaTemplate.buildToFile(map, file);
 	}
 
-	public static void buildSerializer(DictionaryTypes2.ModelDesign dom)
+	public static void buildSerializer(DictionaryTypes2.ModelDesign dom, List<IdentifiersUtil.Identifier> identifiers)
 	throws IOException
 	{
 		Template serializerTemplate = Template.load("src/main/resources/codegen_data/templates/SerializerTemplate.java");
@@ -813,16 +1003,60 @@ public class Main2 {
 		map.put(Template.KEY_CONTENT, content);
 		map.put(Template.KEY_IMPORTS, imports);		
 
+		HashMap<String, Integer> ids = new HashMap<String, Integer>();
+		for (IdentifiersUtil.Identifier id : identifiers)
+			ids.put(id.name, id.id);
+
+		// Classes by name, in the order of the cases of create(int). Types
+		// without encodings have no class.
+		TreeMap<String, DictionaryTypes2.ModelDesign.DataType> structures = new TreeMap<String, DictionaryTypes2.ModelDesign.DataType>();
 		for (DictionaryTypes2.ModelDesign.DataType t : pickStructures(dom))
+			if (ids.containsKey(t.Name+"_Encoding_DefaultBinary"))
+				structures.put(t.Name, t);
+		List<String> names = new ArrayList<String>(structures.keySet());
+
+		// Type and encoding ids with the index of their class
+		TreeMap<Integer, Integer> idClasses = new TreeMap<Integer, Integer>();
+		for (int i=0; i<names.size(); i++)
+		{
+			for (String suffix : new String[] {"", "_Encoding_DefaultBinary", "_Encoding_DefaultXml"})
+			{
+				Integer id = ids.get(names.get(i)+suffix);
+				if (id==null) throw new RuntimeException("No identifier "+names.get(i)+suffix);
+				idClasses.put(id, i);
+			}
+		}
+
+		List<String> quotedNames = new ArrayList<String>();
+		for (String name : names)
+			quotedNames.add("\""+name+"\"");
+		content.add("/** Simple names of the classes, sorted, in the order of {@link #create(int)} */");
+		content.add("private static final String[] CLASS_NAMES = {");
+		addRows(content, quotedNames, 4);
+		content.add("};");
+		content.add("");
+		content.add("/** Type, binary encoding and XML encoding ids of the classes, sorted */");
+		content.add("private static final int[] IDS = {");
+		addRows(content, idClasses.keySet(), 12);
+		content.add("};");
+		content.add("");
+		content.add("/** Index in CLASS_NAMES of the class of each id of IDS */");
+		content.add("private static final short[] ID_CLASSES = {");
+		addRows(content, idClasses.values(), 16);
+		content.add("};");
+
+		StringBuilder cases = new StringBuilder();
+		for (int i=0; i<names.size(); i++)
 		{
-			content.add("\t// "+t.Name);
-			content.add("\taddSerializer(");
-			content.add("\t\tnew AbstractSerializer("+t.Name+".class, "+t.Name+".BINARY, "+t.Name+".XML, "+t.Name+".ID) {");
+			DictionaryTypes2.ModelDesign.DataType t = structures.get(names.get(i));
+			List<String> lines = new ArrayList<String>();
+			lines.add("case "+i+": // "+t.Name);
+			lines.add("    return new AbstractSerializer("+t.Name+".class, "+t.Name+".BINARY, "+t.Name+".XML, "+t.Name+".ID) {");
 
 			// Calculator 
-			content.add("\t\t\tpublic void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {");
+			lines.add("        public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {");
 			if (!t.getAllFields().isEmpty())
-				content.add("\t\t\t\t"+t.Name+" obj = ("+t.Name+") encodeable;");			
+				lines.add("            "+t.Name+" obj = ("+t.Name+") encodeable;");			
 			for (FieldType f : t.getAllFields()) {	
 				DictionaryTypes2.ModelDesign.DataType fieldType = dom.getDataType( f.getDataType() ); 
 				fieldType = fixWrapper(fieldType);
@@ -830,78 +1064,76 @@ public class Main2 {
 				boolean isEnum = isEnumeration(fieldType);
 				
 				String fieldTypeFullClassName = toFullClassName(fieldType.SymbolicName);
-//				imports.add(fieldTypeFullClassName);
 				String dataTypeClassName = getClassName(fieldTypeFullClassName);
 				Integer builtinsId = BuiltinsMap.ID_MAP.get(fieldType.SymbolicName);
 				String builtinsName = BuiltinsMap.NAME_MAP.get(fieldType.SymbolicName);
+				String value = "(obj == null) ? null : obj.get"+f.Name+"()";
 
 				if (builtinsId!=null) {
 					if (isArray)
-//						content.add("\t\t\t\tcalculator.put"+builtinsName+"Array(null, ("+dataTypeClassName+"[]) ((obj==null)?null:obj.get"+f.Name+"()) );");
-						content.add("\t\t\t\tcalculator.put"+builtinsName+"Array(null, ((obj==null)?null:obj.get"+f.Name+"()) );");
+						lines.add("            calculator.put"+builtinsName+"Array(null, ("+value+"));");
 					else {
 						if (builtinsId<=11)
-							content.add("\t\t\t\tcalculator.put"+builtinsName+"(null, null /*obj.get"+f.Name+"()*/);");
+							lines.add("            calculator.put"+builtinsName+"(null, null /*obj.get"+f.Name+"()*/);");
 						else
-							content.add("\t\t\t\tcalculator.put"+builtinsName+"(null,  (obj==null)?null:obj.get"+f.Name+"() );");
+							lines.add("            calculator.put"+builtinsName+"(null, "+value+");");
 					}
 				} else if (isEnum) {
 					if (isArray)
-						content.add("\t\t\t\tcalculator.putEnumerationArray(null,  (obj==null)?null:obj.get"+f.Name+"() );");
+						lines.add("            calculator.putEnumerationArray(null, "+value+");");
 					else
-						content.add("\t\t\t\tcalculator.putEnumeration(null, null /*obj.get"+f.Name+"()*/);");
+						lines.add("            calculator.putEnumeration(null, null /*obj.get"+f.Name+"()*/);");
 				} else {						
 					if (isArray)
-						content.add("\t\t\t\tcalculator.putEncodeableArray(null, "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
+						lines.add("            calculator.putEncodeableArray(null, "+dataTypeClassName+".class, "+value+");");
 					else
-						content.add("\t\t\t\tcalculator.putEncodeable(null, "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
+						lines.add("            calculator.putEncodeable(null, "+dataTypeClassName+".class, "+value+");");
 				}
 			}
-			content.add("\t\t\t}");
+			lines.add("        }");
+			lines.add("");
 
-			
 			// Write
-			content.add("\t\t\tpublic void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {");
+			lines.add("        public void putEncodeable(IEncodeable encodeable, IEncoder encoder) throws EncodingException {");
 			if (!t.getAllFields().isEmpty())
-				content.add("\t\t\t\t"+t.Name+" obj = ("+t.Name+") encodeable;");
+				lines.add("            "+t.Name+" obj = ("+t.Name+") encodeable;");
 			for (FieldType f : t.getAllFields()) {				
 				DictionaryTypes2.ModelDesign.DataType fieldType = dom.getDataType( f.getDataType() ); 
 				String fieldTypeName = fieldType.SymbolicName;
-//				if (fieldTypeName.equals("http://opcfoundation.org/UA/ExtensionObject")) 
-//					fieldTypeName = "http://opcfoundation.org/UA/Structure";
 				fieldType = fixWrapper(fieldType);
 				boolean isArray = f.ValueRank!=null;
 				boolean isEnum = isEnumeration(fieldType);
 				
 				String fieldTypeFullClassName = toFullClassName(fieldTypeName);
-//				imports.add(fieldTypeFullClassName);
 				String dataTypeClassName = getClassName(fieldTypeFullClassName);
 				Integer builtinsId = BuiltinsMap.ID_MAP.get(fieldType.SymbolicName);
 				String builtinsName = BuiltinsMap.NAME_MAP.get(fieldType.SymbolicName);
-				String fieldName = f.Name;
+				String fieldName = getElementName(t, f);
+				String value = "(obj == null) ? null : obj.get"+f.Name+"()";
 
 				if (builtinsId!=null) {
 					if (isArray)
-						content.add("\t\t\t\tencoder.put"+builtinsName+"Array(\""+fieldName+"\", (obj==null)?null:obj.get"+f.Name+"() );");
+						lines.add("            encoder.put"+builtinsName+"Array(\""+fieldName+"\", "+value+");");
 					else
-						content.add("\t\t\t\tencoder.put"+builtinsName+"(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");						
+						lines.add("            encoder.put"+builtinsName+"(\""+fieldName+"\", "+value+");");						
 				} else if (isEnum) {
 					if (isArray)
-						content.add("\t\t\t\tencoder.putEnumerationArray(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");
+						lines.add("            encoder.putEnumerationArray(\""+fieldName+"\", "+value+");");
 					else
-						content.add("\t\t\t\tencoder.putEnumeration(\""+fieldName+"\",  (obj==null)?null:obj.get"+f.Name+"() );");
+						lines.add("            encoder.putEnumeration(\""+fieldName+"\", "+value+");");
 				} else {					
 					if (isArray)
-						content.add("\t\t\t\tencoder.putEncodeableArray(\""+fieldName+"\", "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
+						lines.add("            encoder.putEncodeableArray(\""+fieldName+"\", "+dataTypeClassName+".class, "+value+");");
 					else
-						content.add("\t\t\t\tencoder.putEncodeable(\""+fieldName+"\", "+dataTypeClassName+".class, (obj==null)?null:obj.get"+f.Name+"());");
+						lines.add("            encoder.putEncodeable(\""+fieldName+"\", "+dataTypeClassName+".class, "+value+");");
 				}
 			}
-			content.add("\t\t\t}");
+			lines.add("        }");
+			lines.add("");
 			
 			// Read
-			content.add("\t\t\tpublic IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {");
-			content.add("\t\t\t\t"+t.Name+" result = new "+t.Name+"();");
+			lines.add("        public IEncodeable getEncodeable(IDecoder decoder) throws DecodingException {");
+			lines.add("            "+t.Name+" result = new "+t.Name+"();");
 			for (FieldType f : t.getAllFields()) {				
 				DictionaryTypes2.ModelDesign.DataType fieldType = dom.getDataType( f.getDataType() ); 
 				fieldType = fixWrapper(fieldType);
@@ -909,58 +1141,78 @@ public class Main2 {
 				boolean isEnum = isEnumeration(fieldType);
 				
 				String fieldTypeFullClassName = toFullClassName(fieldType.SymbolicName);
-//				imports.add(fieldTypeFullClassName);
 				String dataTypeClassName = getClassName(fieldTypeFullClassName);
 				Integer builtinsId = BuiltinsMap.ID_MAP.get(fieldType.SymbolicName);
 				String builtinsName = BuiltinsMap.NAME_MAP.get(fieldType.SymbolicName);
-				String fieldName = f.Name;
+				String fieldName = getElementName(t, f);
 
 				if (builtinsId!=null) {
 					if (isArray)
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.get"+builtinsName+"Array(\""+fieldName+"\") );");
+						lines.add("            result.set"+f.Name+"(decoder.get"+builtinsName+"Array(\""+fieldName+"\"));");
 					else
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.get"+builtinsName+"(\""+fieldName+"\") );");						
+						lines.add("            result.set"+f.Name+"(decoder.get"+builtinsName+"(\""+fieldName+"\"));");						
 				} else if (isEnum) {
 					if (isArray)
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.getEnumerationArray(\""+fieldName+"\", "+dataTypeClassName+".class) );");
+						lines.add("            result.set"+f.Name+"(decoder.getEnumerationArray(\""+fieldName+"\", "+dataTypeClassName+".class));");
 					else
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.getEnumeration(\""+fieldName+"\", "+dataTypeClassName+".class) );");
+						lines.add("            result.set"+f.Name+"(decoder.getEnumeration(\""+fieldName+"\", "+dataTypeClassName+".class));");
 				} else {					
 					if (isArray)
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.getEncodeableArray(\""+fieldName+"\", "+dataTypeClassName+".class) );");
+						lines.add("            result.set"+f.Name+"(decoder.getEncodeableArray(\""+fieldName+"\", "+dataTypeClassName+".class));");
 					else
-						content.add("\t\t\t\tresult.set"+f.Name+"( decoder.getEncodeable(\""+fieldName+"\", "+dataTypeClassName+".class) );");
+						lines.add("            result.set"+f.Name+"(decoder.getEncodeable(\""+fieldName+"\", "+dataTypeClassName+".class));");
 				}
 			}
 			if (t.Name.equals("ResponseHeader"))
-				content.add("\t\t\t\tDecoderUtils.fixResponseHeader(result);");
-			content.add("\t\t\t\treturn result;");
-			content.add("\t\t\t}");
-			
-			content.add("\t\t});");
-			content.add("");
+				lines.add("            DecoderUtils.fixResponseHeader(result);");
+			lines.add("            return result;");
+			lines.add("        }");
+			lines.add("    };");
+
+			// The cases are inserted as they are, indent them in the switch
+			cases.append("\n");
+			for (String line : lines)
+				cases.append(line.isEmpty() ? "\n" : "            "+line+"\n");
 		}
-		
-		/*
-		addSerializer( 
-		    new AbstractSerializer(CreateMonitoredItemsRequest.class, CreateMonitoredItemsRequest.ID) {
-		    	public void calcEncodeable(IEncodeable encodeable, IEncoder calculator) throws EncodingException {
-		    		
-		    	}
-		    	public IEncodeable getEncodeable(IDecoder decoder)
-		    	throws DecodingException, IOException {
-		    		return null;
-		    	}
-		    	public void putEncodeable(IEncodeable encodeable, IEncoder encoder)
-		    	throws EncodingException, IOException {
-		    		
-		    	}
-		    }
-		);		
- */
+		map.put(Template.KEY_ADDITION, cases.toString());
 		
 		serializerTemplate.buildToFile(map, file);		
 	}
-	
+
+	/**
+	 * Get the name of the element of a field in the encoding
+	 * 
+	 * @param t structure
+	 * @param f field of the structure
+	 * @return element name
+	 */
+	static String getElementName(DictionaryTypes2.ModelDesign.DataType t, FieldType f)
+	{
+		if (!LOWER_CASE_ELEMENTS.contains(t.Name+"."+f.Name)) return f.Name;
+		return Character.toLowerCase(f.Name.charAt(0))+f.Name.substring(1);
+	}
+
+	/**
+	 * Add values as rows of an array initializer
+	 * 
+	 * @param content lines
+	 * @param values values
+	 * @param valuesPerRow max number of values on a row
+	 */
+	static void addRows(List<String> content, Collection<?> values, int valuesPerRow)
+	{
+		StringBuilder row = new StringBuilder();
+		int count = 0;
+		for (Object value : values)
+		{
+			if (row.length()>0) row.append(", ");
+			row.append(value);
+			count++;
+			if (count % valuesPerRow == 0 || count == values.size()) {
+				content.add("        "+row+(count == values.size() ? "" : ","));
+				row.setLength(0);
+			}
+		}
+	}
 	
 }
@@ -29,19 +29,67 @@
 
 package _PackageName_;
 
+import java.util.Arrays;
+
 import org.opcfoundation.ua.builtintypes.NodeId;
-import org.opcfoundation.ua.builtintypes.UnsignedInteger;
 
 _imports_
 
+/**
+ * NodeIds of the standard nodes of namespace 0.
+ * <p>
+ * The constants are declared by family in the interfaces implemented by this
+ * class, e.g. {@link DataTypeIdentifiers}. A family is initialized when one of
+ * its constants is first accessed, so an application only pays for the
+ * families it uses.
+ */
 @Description("_description_")
-public class _ClassName_ {
+public class _ClassName_ implements
+_Additions_ {
 	
 _Content_ 
 
+	/** Constants of the initialized families by numeric identifier */
+	private static volatile NodeId[] STANDARD = new NodeId[0];
+
+	/**
+	 * Get the constant of a numeric identifier of namespace 0. The family of
+	 * the identifier is initialized, if it is not yet.
+	 *
+	 * @param value numeric identifier
+	 * @return the constant or null if the identifier is not standard
+	 */
+	public static NodeId getStandardNodeId(int value)
+	{
+		if (value < 0 || value >= FAMILY_OF_ID.length()) return null;
+		NodeId[] standard = STANDARD;
+		if (value < standard.length && standard[value] != null) return standard[value];
+		int family = FAMILY_OF_ID.charAt(value) - 'A';
+		if (family < 0) return null;
+		Class<?> clazz = FAMILIES[family];
+		try {
+			Class.forName(clazz.getName(), true, clazz.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			throw new Error(e);
+		}
+		standard = STANDARD;
+		return value < standard.length ? standard[value] : null;
+	}
+
 	static NodeId init(int value)
 	{
-		return new NodeId(0, UnsignedInteger.getFromBits(value));
+		NodeId nodeId = new NodeId(0, value);
+		register(value, nodeId);
+		return nodeId;
+	}
+
+	private static synchronized void register(int value, NodeId nodeId)
+	{
+		NodeId[] standard = STANDARD;
+		if (value >= standard.length)
+			standard = Arrays.copyOf(standard, Math.min(FAMILY_OF_ID.length(), Math.max(value + 1, standard.length * 2)));
+		standard[value] = nodeId;
+		STANDARD = standard;
 	}
 
 }
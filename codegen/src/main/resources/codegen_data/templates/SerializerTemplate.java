@@ -29,45 +29,88 @@
 
 package org.opcfoundation.ua.core;
 
-import java.io.IOException;
+import java.util.Arrays;
 
-import org.opcfoundation.ua.encoding.DecodingException;
-import org.opcfoundation.ua.encoding.EncodingException;
-import org.opcfoundation.ua.encoding.IDecoder;
-import org.opcfoundation.ua.encoding.IEncodeable;
-import org.opcfoundation.ua.encoding.IEncoder;
-import org.opcfoundation.ua.encoding.binary.EncoderCalc;
-import org.opcfoundation.ua.encoding.binary.DecoderUtils;
-import org.opcfoundation.ua.encoding.binary.EncodeableReflectionSerializer;
-import org.opcfoundation.ua.encoding.binary.IEncodeableSerializer;
-import org.opcfoundation.ua.encoding.utils.AbstractSerializer;
-import org.opcfoundation.ua.encoding.utils.SerializerComposition;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.encoding.*;
+import org.opcfoundation.ua.encoding.binary.*;
+import org.opcfoundation.ua.encoding.utils.*;
 _imports_
 
 /**
  * Code-generated encodeable serializer.
- * 
+ * <p>
+ * The serializer of a class is created and added when the class, or one of
+ * its type or encoding ids, is first looked up, so that only the classes
+ * that are used are loaded.
+ *
  * @see EncodeableReflectionSerializer Reflection based implementation
  * @see IEncodeableSerializer Serializer interface
  */
 public class EncodeableSerializer extends SerializerComposition {
 
-	private static EncodeableSerializer INSTANCE;
-	
-	/**
-	 * Get singleton instance
-	 * @return singleton instance
-	 */
-	public synchronized static EncodeableSerializer getInstance() 
-	{
-		return (INSTANCE!=null) ? INSTANCE : (INSTANCE = new EncodeableSerializer()); 
-	}
-	
-	public EncodeableSerializer() {
-		
-		_Content_ 
-		
-	}
-	
+    private static EncodeableSerializer INSTANCE;
+
+_Content_
+    private static final String PREFIX = "org.opcfoundation.ua.core.";
+
+    /** Classes of CLASS_NAMES whose serializer has been added */
+    private final boolean[] added = new boolean[CLASS_NAMES.length];
+
+    /**
+     * Get singleton instance
+     *
+     * @return singleton instance
+     */
+    public synchronized static EncodeableSerializer getInstance() {
+        return (INSTANCE != null) ? INSTANCE : (INSTANCE = new EncodeableSerializer());
+    }
+
+    public EncodeableSerializer() {
+    }
+
+    @Override
+    protected boolean addSerializerOf(Class<? extends IEncodeable> clazz) {
+        String name = clazz.getName();
+        if (!name.startsWith(PREFIX)) return false;
+        return add(Arrays.binarySearch(CLASS_NAMES, name.substring(PREFIX.length())));
+    }
+
+    @Override
+    protected boolean addSerializerOf(ExpandedNodeId id) {
+        if (id.getNamespaceIndex() != 0 || id.getIdType() != IdType.Numeric || !id.isLocal()) return false;
+        String uri = id.getNamespaceUri();
+        if (uri != null && !uri.equals(NamespaceTable.OPCUA_NAMESPACE)) return false;
+        int i = Arrays.binarySearch(IDS, ((UnsignedInteger) id.getValue()).intValue());
+        return i >= 0 && add(ID_CLASSES[i]);
+    }
+
+    @Override
+    protected void addAllSerializers() {
+        for (int i = 0; i < CLASS_NAMES.length; i++)
+            add(i);
+    }
+
+    private synchronized boolean add(int index) {
+        if (index < 0 || added[index]) return false;
+        added[index] = true;
+        addSerializer(create(index));
+        return true;
+    }
+
+    /**
+     * Create the serializer of a class.
+     *
+     * @param index index of the class in CLASS_NAMES
+     * @return serializer
+     */
+    private static IEncodeableSerializer create(int index) {
+        switch (index) {
+_Additions_
+            default:
+                throw new IllegalArgumentException("No class " + index);
+        }
+    }
 
 }
@@ -183,6 +183,7 @@ public class SampleClient {
     ///////////// SHUTDOWN /////////////
     mySession.close();
     mySession.closeAsync();
+    myCertStore.close();
     //////////////////////////////////////
 
   }
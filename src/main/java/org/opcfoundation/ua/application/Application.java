@@ -28,6 +28,7 @@ import org.opcfoundation.ua.utils.*;
 import java.net.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * This class contains the mechanisms that are common for both client and server
@@ -82,6 +83,11 @@ public class Application {
     @Getter
     private EncoderContext encoderContext = new EncoderContext(new NamespaceTable(), new ServerTable(), StackUtils.getDefaultSerializer());
 
+    /**
+     * Modification count of the certificates and the application description, see {@link #getDescriptionVersion()}
+     */
+    private final AtomicInteger descriptionVersion = new AtomicInteger();
+
     /**
      * <p>Constructor for Application.</p>
      */
@@ -180,6 +186,7 @@ public class Application {
         Objects.requireNonNull(cert);
 
         applicationInstanceCertificates.add(cert);
+        descriptionVersion.incrementAndGet();
     }
 
     /**
@@ -189,7 +196,8 @@ public class Application {
      */
     public void removeApplicationInstanceCertificate(KeyPair applicationInstanceCertificate) {
 
-        applicationInstanceCertificates.remove(applicationInstanceCertificate);
+        if (applicationInstanceCertificates.remove(applicationInstanceCertificate))
+            descriptionVersion.incrementAndGet();
     }
 
     /**
@@ -244,6 +252,7 @@ public class Application {
     public void setApplicationUri(String applicationUri) {
 
         applicationDescription.setApplicationUri(applicationUri);
+        descriptionVersion.incrementAndGet();
     }
 
     /**
@@ -254,6 +263,7 @@ public class Application {
     public void setApplicationName(LocalizedText applicationName) {
 
         applicationDescription.setApplicationName(applicationName);
+        descriptionVersion.incrementAndGet();
     }
 
     /**
@@ -274,6 +284,20 @@ public class Application {
     public void setProductUri(String productUri) {
 
         applicationDescription.setProductUri(productUri);
+        descriptionVersion.incrementAndGet();
+    }
+
+    /**
+     * Get the modification count of the data of the application that servers
+     * publish in their endpoint descriptions: the application instance
+     * certificates, and the application URI, name and product URI. Changes
+     * made directly to the object of {@link #getApplicationDescription()} are
+     * not counted.
+     *
+     * @return a number that changes when the data changes
+     */
+    int getDescriptionVersion() {
+        return descriptionVersion.get();
     }
 
     /**
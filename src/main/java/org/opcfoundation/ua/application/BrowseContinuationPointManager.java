@@ -0,0 +1,312 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.application;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.opcfoundation.ua.builtintypes.ByteString;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.core.BrowseResult;
+import org.opcfoundation.ua.core.ReferenceDescription;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.utils.ObjectUtils;
+
+/**
+ * Server side continuation points of the Browse and BrowseNext services.
+ * <p>
+ * A continuation point is a cursor over an immutable slice of the reference
+ * storage of the address space, e.g. the pre-sorted references of a folder.
+ * The remaining references are never copied; each page of a BrowseResult is
+ * a copy of at most <tt>maxReferencesPerNode</tt> array elements. The caller
+ * must not modify an array after passing it to {@link #browse}.
+ * <p>
+ * Continuation points are limited per session, as advertised in
+ * MaxBrowseContinuationPoints, and by a per-session and a global memory budget.
+ * The memory of a continuation point is estimated from the number of references
+ * it keeps reachable. When the global budget is exceeded, the least recently
+ * used continuation points of any session are released. When the limits of the
+ * session are exceeded, or a continuation point does not fit the budgets at all,
+ * the operation fails with Bad_NoContinuationPoints.
+ * <p>
+ * Call {@link #closeSession(NodeId)} when a session is closed or times out.
+ */
+public class BrowseContinuationPointManager {
+
+	/** Estimated memory of one reference kept reachable by a continuation point */
+	public static final int BYTES_PER_REFERENCE = 256;
+	/** Estimated memory of a continuation point */
+	static final int CURSOR_OVERHEAD = 128;
+
+	final int maxContinuationPointsPerSession;
+	final long maxBytesPerSession;
+	final long maxBytes;
+
+	/** Continuation points in access order, least recently used first */
+	final LinkedHashMap<ByteString, Cursor> cursors = new LinkedHashMap<ByteString, Cursor>(16, 0.75f, true);
+	final Map<NodeId, SessionUsage> sessions = new HashMap<NodeId, SessionUsage>();
+	long bytes;
+	long evictions;
+
+	final SecureRandom random = new SecureRandom();
+
+	/**
+	 * Create a new continuation point manager.
+	 *
+	 * @param maxContinuationPointsPerSession max continuation points per session (MaxBrowseContinuationPoints)
+	 * @param maxBytesPerSession memory budget per session in bytes
+	 * @param maxBytes global memory budget in bytes
+	 */
+	public BrowseContinuationPointManager(int maxContinuationPointsPerSession, long maxBytesPerSession, long maxBytes)
+	{
+		if (maxContinuationPointsPerSession<0 || maxBytesPerSession<0 || maxBytes<0)
+			throw new IllegalArgumentException("negative limit");
+		this.maxContinuationPointsPerSession = maxContinuationPointsPerSession;
+		this.maxBytesPerSession = maxBytesPerSession;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Create the BrowseResult of one node to browse.
+	 *
+	 * @param sessionId session
+	 * @param references references that match the browse description, not modified afterwards
+	 * @param maxReferencesPerNode requestedMaxReferencesPerNode, 0 for no limit
+	 * @return browse result
+	 */
+	public BrowseResult browse(NodeId sessionId, ReferenceDescription[] references, int maxReferencesPerNode)
+	{
+		return browse(sessionId, references, 0, references.length, maxReferencesPerNode);
+	}
+
+	/**
+	 * Create the BrowseResult of one node to browse from a slice of reference storage.
+	 *
+	 * @param sessionId session
+	 * @param references reference storage, not modified afterwards
+	 * @param from index of the first reference of the slice
+	 * @param to index after the last reference of the slice
+	 * @param maxReferencesPerNode requestedMaxReferencesPerNode, 0 for no limit
+	 * @return browse result
+	 */
+	public BrowseResult browse(NodeId sessionId, ReferenceDescription[] references, int from, int to, int maxReferencesPerNode)
+	{
+		if (from<0 || to>references.length || from>to)
+			throw new IndexOutOfBoundsException(from+".."+to+" of "+references.length);
+		if (maxReferencesPerNode<=0 || to-from<=maxReferencesPerNode)
+			return new BrowseResult(StatusCode.GOOD, null, page(references, from, to));
+
+		Cursor c = new Cursor(sessionId, references, from+maxReferencesPerNode, to, maxReferencesPerNode);
+		synchronized (this) {
+			if (!admit(c))
+				return new BrowseResult(new StatusCode(StatusCodes.Bad_NoContinuationPoints), null, null);
+			c.id = newId();
+			cursors.put(c.id, c);
+			add(c);
+		}
+		return new BrowseResult(StatusCode.GOOD, c.id, page(references, from, from+maxReferencesPerNode));
+	}
+
+	/**
+	 * Create the BrowseResult of one continuation point of BrowseNext.
+	 *
+	 * @param sessionId session
+	 * @param continuationPoint continuation point
+	 * @param release true to release the continuation point (releaseContinuationPoints)
+	 * @return browse result, Bad_ContinuationPointInvalid if the continuation point
+	 *   is unknown, released or belongs to another session
+	 */
+	public BrowseResult browseNext(NodeId sessionId, ByteString continuationPoint, boolean release)
+	{
+		Cursor c;
+		int from, to;
+		synchronized (this) {
+			c = continuationPoint==null ? null : cursors.get(continuationPoint);
+			if (c==null || !ObjectUtils.objectEquals(c.sessionId, sessionId))
+				return new BrowseResult(new StatusCode(StatusCodes.Bad_ContinuationPointInvalid), null, null);
+			if (release) {
+				remove(c);
+				return new BrowseResult(StatusCode.GOOD, null, null);
+			}
+			from = c.position;
+			to = Math.min(c.end, from+c.maxReferencesPerNode);
+			if (to>=c.end) {
+				remove(c);
+			} else {
+				long before = c.bytes();
+				c.position = to;
+				changed(c, c.bytes()-before);
+			}
+		}
+		return new BrowseResult(StatusCode.GOOD, to>=c.end ? null : c.id, page(c.references, from, to));
+	}
+
+	/**
+	 * Release all continuation points of a session.
+	 *
+	 * @param sessionId session
+	 */
+	public synchronized void closeSession(NodeId sessionId)
+	{
+		SessionUsage usage = sessions.remove(sessionId);
+		if (usage==null) return;
+		Iterator<Cursor> i = cursors.values().iterator();
+		while (i.hasNext()) {
+			Cursor c = i.next();
+			if (ObjectUtils.objectEquals(c.sessionId, sessionId)) {
+				i.remove();
+				bytes -= c.bytes();
+			}
+		}
+	}
+
+	/**
+	 * @param sessionId session
+	 * @return number of continuation points of the session
+	 */
+	public synchronized int getContinuationPointCount(NodeId sessionId)
+	{
+		SessionUsage usage = sessions.get(sessionId);
+		return usage==null ? 0 : usage.count;
+	}
+
+	/**
+	 * @return number of continuation points of all sessions
+	 */
+	public synchronized int getContinuationPointCount()
+	{
+		return cursors.size();
+	}
+
+	/**
+	 * @return estimated memory of all continuation points in bytes
+	 */
+	public synchronized long getEstimatedBytes()
+	{
+		return bytes;
+	}
+
+	/**
+	 * @return number of continuation points released to keep within the global budget
+	 */
+	public synchronized long getEvictions()
+	{
+		return evictions;
+	}
+
+	private boolean admit(Cursor c)
+	{
+		long size = c.bytes();
+		if (size>maxBytes || size>maxBytesPerSession) return false;
+		SessionUsage usage = sessions.get(c.sessionId);
+		if (usage!=null && (usage.count>=maxContinuationPointsPerSession || usage.bytes+size>maxBytesPerSession))
+			return false;
+		if (usage==null && maxContinuationPointsPerSession==0) return false;
+		// Release least recently used continuation points to fit the global budget
+		Iterator<Cursor> i = cursors.values().iterator();
+		while (bytes+size>maxBytes && i.hasNext()) {
+			Cursor old = i.next();
+			i.remove();
+			release(old);
+			evictions++;
+		}
+		return true;
+	}
+
+	private void add(Cursor c)
+	{
+		SessionUsage usage = sessions.get(c.sessionId);
+		if (usage==null) sessions.put(c.sessionId, usage = new SessionUsage());
+		usage.count++;
+		usage.bytes += c.bytes();
+		bytes += c.bytes();
+	}
+
+	private void remove(Cursor c)
+	{
+		cursors.remove(c.id);
+		release(c);
+	}
+
+	private void release(Cursor c)
+	{
+		long size = c.bytes();
+		bytes -= size;
+		SessionUsage usage = sessions.get(c.sessionId);
+		if (usage==null) return;
+		usage.bytes -= size;
+		if (--usage.count==0) sessions.remove(c.sessionId);
+	}
+
+	private void changed(Cursor c, long delta)
+	{
+		bytes += delta;
+		SessionUsage usage = sessions.get(c.sessionId);
+		if (usage!=null) usage.bytes += delta;
+	}
+
+	private ByteString newId()
+	{
+		byte[] id = new byte[16];
+		ByteString result;
+		do {
+			random.nextBytes(id);
+			result = ByteString.valueOf(id.clone());
+		} while (cursors.containsKey(result));
+		return result;
+	}
+
+	private static ReferenceDescription[] page(ReferenceDescription[] references, int from, int to)
+	{
+		// Always a copy, so the result does not alias the reference storage
+		return Arrays.copyOfRange(references, from, to);
+	}
+
+	/**
+	 * Continuation point.
+	 */
+	static final class Cursor {
+		final NodeId sessionId;
+		final ReferenceDescription[] references;
+		final int end;
+		final int maxReferencesPerNode;
+		int position;
+		ByteString id;
+
+		Cursor(NodeId sessionId, ReferenceDescription[] references, int position, int end, int maxReferencesPerNode) {
+			this.sessionId = sessionId;
+			this.references = references;
+			this.position = position;
+			this.end = end;
+			this.maxReferencesPerNode = maxReferencesPerNode;
+		}
+
+		long bytes() {
+			return CURSOR_OVERHEAD + (long) (end-position) * BYTES_PER_REFERENCE;
+		}
+	}
+
+	/**
+	 * Continuation point usage of a session.
+	 */
+	static final class SessionUsage {
+		int count;
+		long bytes;
+	}
+
+}
@@ -0,0 +1,564 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.QualifiedName;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.core.BrowsePath;
+import org.opcfoundation.ua.core.BrowsePathResult;
+import org.opcfoundation.ua.core.BrowsePathTarget;
+import org.opcfoundation.ua.core.Identifiers;
+import org.opcfoundation.ua.core.RelativePath;
+import org.opcfoundation.ua.core.RelativePathElement;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.utils.ObjectUtils;
+
+/**
+ * Server side implementation of the TranslateBrowsePathsToNodeIds service.
+ * <p>
+ * The resolver keeps an index of the references of the address space. The
+ * references of each node are indexed by the BrowseName of the node they
+ * point to, so each element of a RelativePath is resolved with a hash lookup
+ * followed by a reference type check against the precomputed subtype closure
+ * of the requested reference type.
+ * <p>
+ * Complete resolutions are cached by (startingNode, RelativePath). Every change
+ * to the model clears the cache. When the cache is full, entries are evicted
+ * with the CLOCK (second chance) approximation of LRU. Large batches of BrowsePaths are split over
+ * the executor given in the constructor.
+ * <p>
+ * The model is updated with {@link #addNode}, {@link #addReference},
+ * {@link #addReferenceType} and the matching remove methods.
+ */
+public class BrowsePathResolver {
+
+	/** RemainingPathIndex of a target that resolved the complete path */
+	public static final UnsignedInteger RESOLVED = UnsignedInteger.MAX_VALUE;
+
+	/** Batches smaller than this are resolved in the calling thread */
+	static final int MIN_PARALLEL_BATCH = 64;
+
+	static final Edge[] NO_EDGES = new Edge[0];
+
+	final Executor executor;
+	final int maxCacheEntries;
+
+	final ConcurrentHashMap<NodeId, Node> nodes = new ConcurrentHashMap<NodeId, Node>();
+	final ConcurrentHashMap<NodeId, NodeId> superTypes = new ConcurrentHashMap<NodeId, NodeId>();
+	final ConcurrentHashMap<NodeId, Set<NodeId>> subtypeClosures = new ConcurrentHashMap<NodeId, Set<NodeId>>();
+	final ConcurrentHashMap<PathKey, CacheEntry> cache = new ConcurrentHashMap<PathKey, CacheEntry>();
+	final ConcurrentLinkedQueue<CacheEntry> clock = new ConcurrentLinkedQueue<CacheEntry>();
+	final AtomicLong modelVersion = new AtomicLong();
+	final AtomicLong hits = new AtomicLong();
+	final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Create a new resolver.
+	 *
+	 * @param executor executor for large batches, or null to resolve in the calling thread
+	 * @param maxCacheEntries max number of cached path resolutions
+	 */
+	public BrowsePathResolver(Executor executor, int maxCacheEntries)
+	{
+		this.executor = executor;
+		this.maxCacheEntries = maxCacheEntries;
+	}
+
+	/**
+	 * Add the standard hierarchy of the reference types of namespace 0.
+	 */
+	public void addStandardReferenceTypes()
+	{
+		addReferenceType(Identifiers.HierarchicalReferences, Identifiers.References);
+		addReferenceType(Identifiers.NonHierarchicalReferences, Identifiers.References);
+		addReferenceType(Identifiers.HasChild, Identifiers.HierarchicalReferences);
+		addReferenceType(Identifiers.Organizes, Identifiers.HierarchicalReferences);
+		addReferenceType(Identifiers.HasEventSource, Identifiers.HierarchicalReferences);
+		addReferenceType(Identifiers.HasNotifier, Identifiers.HasEventSource);
+		addReferenceType(Identifiers.Aggregates, Identifiers.HasChild);
+		addReferenceType(Identifiers.HasSubtype, Identifiers.HasChild);
+		addReferenceType(Identifiers.HasProperty, Identifiers.Aggregates);
+		addReferenceType(Identifiers.HasComponent, Identifiers.Aggregates);
+		addReferenceType(Identifiers.HasHistoricalConfiguration, Identifiers.Aggregates);
+		addReferenceType(Identifiers.HasOrderedComponent, Identifiers.HasComponent);
+		addReferenceType(Identifiers.HasSubStateMachine, Identifiers.HasComponent);
+		addReferenceType(Identifiers.HasModellingRule, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.HasTypeDefinition, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.HasEncoding, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.HasDescription, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.GeneratesEvent, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.AlwaysGeneratesEvent, Identifiers.GeneratesEvent);
+		addReferenceType(Identifiers.HasCause, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.HasEffect, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.FromState, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.ToState, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.HasCondition, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.HasTrueSubState, Identifiers.NonHierarchicalReferences);
+		addReferenceType(Identifiers.HasFalseSubState, Identifiers.NonHierarchicalReferences);
+	}
+
+	/**
+	 * Add a reference type.
+	 *
+	 * @param referenceTypeId reference type
+	 * @param superTypeId the super type, or null for a root type
+	 */
+	public synchronized void addReferenceType(NodeId referenceTypeId, NodeId superTypeId)
+	{
+		if (superTypeId!=null) superTypes.put(referenceTypeId, superTypeId);
+		// After the version changes, so a closure computed before is either cleared or discarded
+		modelChanged();
+		subtypeClosures.clear();
+	}
+
+	/**
+	 * Add a node or change its BrowseName.
+	 *
+	 * @param nodeId node id
+	 * @param browseName browse name
+	 */
+	public synchronized void addNode(NodeId nodeId, QualifiedName browseName)
+	{
+		Node node = nodes.get(nodeId);
+		if (node==null) {
+			nodes.put(nodeId, new Node(browseName));
+		} else if (!ObjectUtils.objectEquals(node.browseName, browseName)) {
+			// Reindex the references that point to this node
+			List<Edge[]> incoming = new ArrayList<Edge[]>();
+			for (Edge[] edges : node.byName.values()) incoming.add(edges);
+			QualifiedName oldName = node.browseName;
+			node.browseName = browseName;
+			for (Edge[] edges : incoming)
+				for (Edge e : edges) {
+					Node other = nodes.get(e.target);
+					if (other==null) continue;
+					Edge reverse = new Edge(e.referenceTypeId, !e.inverse, nodeId);
+					if (other.remove(oldName, reverse)) other.add(browseName, reverse);
+				}
+		}
+		modelChanged();
+	}
+
+	/**
+	 * Remove a node and its references.
+	 *
+	 * @param nodeId node id
+	 */
+	public synchronized void removeNode(NodeId nodeId)
+	{
+		Node node = nodes.remove(nodeId);
+		if (node==null) return;
+		for (Edge[] edges : node.byName.values())
+			for (Edge e : edges) {
+				Node other = nodes.get(e.target);
+				if (other!=null) other.remove(node.browseName, new Edge(e.referenceTypeId, !e.inverse, nodeId));
+			}
+		modelChanged();
+	}
+
+	/**
+	 * Add a reference. Both nodes must have been added.
+	 *
+	 * @param sourceId source node
+	 * @param referenceTypeId reference type
+	 * @param targetId target node
+	 */
+	public synchronized void addReference(NodeId sourceId, NodeId referenceTypeId, NodeId targetId)
+	{
+		Node source = nodes.get(sourceId);
+		Node target = nodes.get(targetId);
+		if (source==null || target==null)
+			throw new IllegalArgumentException("Unknown node "+(source==null ? sourceId : targetId));
+		source.add(target.browseName, new Edge(referenceTypeId, false, targetId));
+		target.add(source.browseName, new Edge(referenceTypeId, true, sourceId));
+		modelChanged();
+	}
+
+	/**
+	 * Remove a reference.
+	 *
+	 * @param sourceId source node
+	 * @param referenceTypeId reference type
+	 * @param targetId target node
+	 */
+	public synchronized void removeReference(NodeId sourceId, NodeId referenceTypeId, NodeId targetId)
+	{
+		Node source = nodes.get(sourceId);
+		Node target = nodes.get(targetId);
+		if (source==null || target==null) return;
+		source.remove(target.browseName, new Edge(referenceTypeId, false, targetId));
+		target.remove(source.browseName, new Edge(referenceTypeId, true, sourceId));
+		modelChanged();
+	}
+
+	/**
+	 * Clear cached path resolutions. Called on every change made through this
+	 * class; call it directly if the resolver is used together with other
+	 * caches of the same model.
+	 */
+	public void modelChanged()
+	{
+		modelVersion.incrementAndGet();
+		cache.clear();
+		clock.clear();
+	}
+
+	/**
+	 * Translate browse paths.
+	 *
+	 * @param browsePaths browse paths
+	 * @return results, one for each browse path
+	 */
+	public BrowsePathResult[] translate(final BrowsePath[] browsePaths)
+	{
+		final BrowsePathResult[] results = new BrowsePathResult[browsePaths.length];
+		int chunks = executor==null ? 1 : Math.min(Runtime.getRuntime().availableProcessors(), browsePaths.length / MIN_PARALLEL_BATCH);
+		if (chunks<=1) {
+			for (int i=0; i<browsePaths.length; i++)
+				results[i] = translate(browsePaths[i]);
+			return results;
+		}
+
+		final int chunkSize = (browsePaths.length + chunks - 1) / chunks;
+		final CountDownLatch done = new CountDownLatch(chunks - 1);
+		final AtomicInteger failed = new AtomicInteger();
+		for (int c=1; c<chunks; c++) {
+			final int from = c * chunkSize;
+			final int to = Math.min(browsePaths.length, from + chunkSize);
+			try {
+				executor.execute(new Runnable() {
+					@Override
+					public void run() {
+						try {
+							for (int i=from; i<to; i++)
+								results[i] = translate(browsePaths[i]);
+						} finally {
+							done.countDown();
+						}
+					}
+				});
+			} catch (RuntimeException e) {
+				// Rejected, resolve the chunk below
+				failed.incrementAndGet();
+				done.countDown();
+			}
+		}
+		for (int i=0; i<Math.min(chunkSize, browsePaths.length); i++)
+			results[i] = translate(browsePaths[i]);
+		boolean interrupted = false;
+		while (true) {
+			try {
+				done.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) Thread.currentThread().interrupt();
+		// Fill in chunks that were rejected by the executor
+		if (failed.get()>0)
+			for (int i=0; i<results.length; i++)
+				if (results[i]==null) results[i] = translate(browsePaths[i]);
+		return results;
+	}
+
+	/**
+	 * Translate a browse path.
+	 *
+	 * @param browsePath browse path
+	 * @return result
+	 */
+	public BrowsePathResult translate(BrowsePath browsePath)
+	{
+		NodeId startingNode = browsePath.getStartingNode();
+		RelativePath path = browsePath.getRelativePath();
+		RelativePathElement[] elements = path==null ? null : path.getElements();
+		if (elements==null || elements.length==0)
+			return new BrowsePathResult(new StatusCode(StatusCodes.Bad_NothingToDo), null);
+
+		PathKey key = new PathKey(startingNode, elements);
+		CacheEntry cached = cache.get(key);
+		if (cached!=null) {
+			cached.referenced = true;
+			hits.incrementAndGet();
+			return copy(cached.result);
+		}
+		misses.incrementAndGet();
+
+		long version = modelVersion.get();
+		BrowsePathResult result = resolve(startingNode, elements);
+		if (maxCacheEntries>0 && result.getStatusCode().isGood()) {
+			CacheEntry e = new CacheEntry(key, result);
+			CacheEntry old = cache.put(key, e);
+			if (old!=null) old.removed = true;
+			clock.add(e);
+			// The model changed while resolving, the result may be stale
+			if (modelVersion.get()!=version && cache.remove(key, e)) e.removed = true;
+			evict();
+		}
+		return copy(result);
+	}
+
+	private void evict()
+	{
+		int budget = 2 * (cache.size() + 1);
+		while (cache.size()>maxCacheEntries && budget-->0) {
+			CacheEntry e = clock.poll();
+			if (e==null) break;
+			if (e.removed) continue;
+			if (e.referenced) {
+				// Second chance
+				e.referenced = false;
+				clock.add(e);
+				continue;
+			}
+			if (cache.remove(e.key, e)) e.removed = true;
+		}
+	}
+
+	/**
+	 * @return number of paths resolved from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of paths resolved from the index
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	private BrowsePathResult resolve(NodeId startingNode, RelativePathElement[] elements)
+	{
+		if (startingNode==null || !nodes.containsKey(startingNode))
+			return new BrowsePathResult(new StatusCode(StatusCodes.Bad_NodeIdUnknown), null);
+		for (int i=0; i<elements.length-1; i++)
+			if (isEmpty(elements[i].getTargetName()))
+				return new BrowsePathResult(new StatusCode(StatusCodes.Bad_BrowseNameInvalid), null);
+
+		Set<NodeId> current = Collections.singleton(startingNode);
+		for (int i=0; i<elements.length; i++) {
+			RelativePathElement element = elements[i];
+			Set<NodeId> types = referenceTypes(element);
+			boolean inverse = Boolean.TRUE.equals(element.getIsInverse());
+			QualifiedName name = element.getTargetName();
+			Set<NodeId> next = new LinkedHashSet<NodeId>();
+			for (NodeId nodeId : current) {
+				Node node = nodes.get(nodeId);
+				if (node==null) continue;
+				if (isEmpty(name)) {
+					for (Edge[] edges : node.byName.values()) match(edges, types, inverse, next);
+				} else {
+					match(node.get(name), types, inverse, next);
+				}
+			}
+			if (next.isEmpty())
+				return new BrowsePathResult(new StatusCode(StatusCodes.Bad_NoMatch), null);
+			current = next;
+		}
+
+		BrowsePathTarget[] targets = new BrowsePathTarget[current.size()];
+		int i = 0;
+		for (NodeId nodeId : current)
+			targets[i++] = new BrowsePathTarget(new ExpandedNodeId(nodeId), RESOLVED);
+		return new BrowsePathResult(StatusCode.GOOD, targets);
+	}
+
+	private static void match(Edge[] edges, Set<NodeId> types, boolean inverse, Set<NodeId> result)
+	{
+		for (Edge e : edges)
+			if (e.inverse==inverse && (types==null || types.contains(e.referenceTypeId)))
+				result.add(e.target);
+	}
+
+	/**
+	 * @return accepted reference types, or null for any
+	 */
+	private Set<NodeId> referenceTypes(RelativePathElement element)
+	{
+		NodeId type = element.getReferenceTypeId();
+		if (NodeId.isNull(type)) return null;
+		if (!Boolean.TRUE.equals(element.getIncludeSubtypes())) return Collections.singleton(type);
+		if (type.equals(Identifiers.References)) return null;
+		Set<NodeId> closure = subtypeClosures.get(type);
+		if (closure==null) {
+			long version = modelVersion.get();
+			closure = new HashSet<NodeId>();
+			closure.add(type);
+			for (NodeId candidate : superTypes.keySet())
+				for (NodeId t = candidate; t!=null && closure.size()<=superTypes.size(); t = superTypes.get(t))
+					if (t.equals(type)) {
+						closure.add(candidate);
+						break;
+					}
+			subtypeClosures.put(type, closure);
+			// A reference type was added while computing, the closure may be stale
+			if (modelVersion.get()!=version) subtypeClosures.remove(type, closure);
+		}
+		return closure;
+	}
+
+	private static boolean isEmpty(QualifiedName name)
+	{
+		return name==null || name.getName()==null || name.getName().isEmpty();
+	}
+
+	private static BrowsePathResult copy(BrowsePathResult result)
+	{
+		BrowsePathTarget[] targets = result.getTargets();
+		return new BrowsePathResult(result.getStatusCode(), targets==null ? null : targets.clone());
+	}
+
+	/**
+	 * Reference from a node.
+	 */
+	static final class Edge {
+		final NodeId referenceTypeId;
+		final boolean inverse;
+		final NodeId target;
+
+		Edge(NodeId referenceTypeId, boolean inverse, NodeId target) {
+			this.referenceTypeId = referenceTypeId;
+			this.inverse = inverse;
+			this.target = target;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Edge)) return false;
+			Edge other = (Edge) obj;
+			return inverse==other.inverse && referenceTypeId.equals(other.referenceTypeId) && target.equals(other.target);
+		}
+
+		@Override
+		public int hashCode() {
+			return referenceTypeId.hashCode() * 31 + target.hashCode() + (inverse ? 1 : 0);
+		}
+	}
+
+	/**
+	 * Indexed node. The references of the node are indexed by the BrowseName
+	 * of the node at the other end of the reference.
+	 */
+	static final class Node {
+		volatile QualifiedName browseName;
+		final Map<QualifiedName, Edge[]> byName = new ConcurrentHashMap<QualifiedName, Edge[]>();
+
+		Node(QualifiedName browseName) {
+			this.browseName = browseName;
+		}
+
+		Edge[] get(QualifiedName name) {
+			Edge[] edges = byName.get(name);
+			return edges==null ? NO_EDGES : edges;
+		}
+
+		void add(QualifiedName name, Edge e) {
+			Edge[] edges = get(name);
+			for (Edge old : edges) if (old.equals(e)) return;
+			edges = Arrays.copyOf(edges, edges.length+1);
+			edges[edges.length-1] = e;
+			byName.put(name, edges);
+		}
+
+		boolean remove(QualifiedName name, Edge e) {
+			Edge[] edges = get(name);
+			for (int i=0; i<edges.length; i++)
+				if (edges[i].equals(e)) {
+					if (edges.length==1) {
+						byName.remove(name);
+					} else {
+						Edge[] newEdges = new Edge[edges.length-1];
+						System.arraycopy(edges, 0, newEdges, 0, i);
+						System.arraycopy(edges, i+1, newEdges, i, edges.length-i-1);
+						byName.put(name, newEdges);
+					}
+					return true;
+				}
+			return false;
+		}
+	}
+
+	/**
+	 * Immutable key of a path resolution.
+	 */
+	static final class PathKey {
+		final NodeId startingNode;
+		final NodeId[] referenceTypes;
+		final QualifiedName[] names;
+		/** IsInverse (bit 0) and IncludeSubtypes (bit 1) of each element */
+		final byte[] flags;
+		final int hash;
+
+		PathKey(NodeId startingNode, RelativePathElement[] elements) {
+			this.startingNode = startingNode;
+			int n = elements.length;
+			referenceTypes = new NodeId[n];
+			names = new QualifiedName[n];
+			flags = new byte[n];
+			for (int i=0; i<n; i++) {
+				referenceTypes[i] = elements[i].getReferenceTypeId();
+				names[i] = elements[i].getTargetName();
+				flags[i] = (byte) ((Boolean.TRUE.equals(elements[i].getIsInverse()) ? 1 : 0)
+						+ (Boolean.TRUE.equals(elements[i].getIncludeSubtypes()) ? 2 : 0));
+			}
+			hash = ObjectUtils.hashCode(startingNode) * 31 * 31 + Arrays.hashCode(names) * 31 + Arrays.hashCode(flags);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof PathKey)) return false;
+			PathKey other = (PathKey) obj;
+			return hash==other.hash && Arrays.equals(flags, other.flags) && ObjectUtils.objectEquals(startingNode, other.startingNode)
+					&& Arrays.equals(names, other.names) && Arrays.equals(referenceTypes, other.referenceTypes);
+		}
+	}
+
+	static final class CacheEntry {
+		final PathKey key;
+		final BrowsePathResult result;
+		volatile boolean referenced;
+		volatile boolean removed;
+
+		CacheEntry(PathKey key, BrowsePathResult result) {
+			this.key = key;
+			this.result = result;
+		}
+	}
+
+}
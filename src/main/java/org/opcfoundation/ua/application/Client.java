@@ -39,6 +39,7 @@ public class Client {
 
     Application application;
     EndpointConfiguration endpointConfiguration = EndpointConfiguration.defaults();
+    EndpointCache endpointCache;
 
     /**
      * <p>createClientApplication.</p>
@@ -315,6 +316,12 @@ public class Client {
      * To close the object, both secure channel and the session must be close
      * separately. SessionChannel.closeSession()
      * SessionChannel.closeSecureChannel()
+     * <p>
+     * If an endpoint cache is set, the endpoints are taken from the cache
+     * when possible. If connecting with cached endpoints fails, the entry is
+     * invalidated and the endpoints are discovered again. To skip discovery
+     * altogether, pass an already selected endpoint to
+     * {@link #createSessionChannel(String, EndpointDescription)}.
      *
      * @param connectUrl  address that contains the socket address to the endpoint
      * @param endpointUri endpoint identifier
@@ -322,8 +329,25 @@ public class Client {
      * @throws org.opcfoundation.ua.common.ServiceResultException if error
      */
     public SessionChannel createSessionChannel(String connectUrl, String endpointUri) throws ServiceResultException {
-        // Discover server's endpoints, and choose one
-        EndpointDescription[] endpoints = discoverEndpoints(connectUrl, connectUrl);
+        EndpointCache cache = endpointCache;
+        EndpointDescription[] endpoints = cache == null ? null : cache.get(connectUrl);
+        if (endpoints == null)
+            return createSessionChannel(connectUrl, endpointUri, discoverEndpoints(connectUrl, connectUrl, cache));
+        try {
+            SessionChannel sessionChannel = createSessionChannel(connectUrl, endpointUri, endpoints);
+            // A server certificate that none of the endpoints has tells that the entry is stale
+            Cert serverCertificate = sessionChannel.getSession().getServerCertificate();
+            cache.checkServerCertificate(connectUrl, serverCertificate == null ? null : serverCertificate.getEncodedCertificate());
+            return sessionChannel;
+        } catch (ServiceResultException se) {
+            log.debug("Failed to connect with cached endpoints of {}, discovering again: {}", connectUrl, se.getMessage());
+            cache.invalidate(connectUrl);
+            return createSessionChannel(connectUrl, endpointUri, discoverEndpoints(connectUrl, connectUrl, cache));
+        }
+    }
+
+    private SessionChannel createSessionChannel(String connectUrl, String endpointUri, EndpointDescription[] endpoints)
+            throws ServiceResultException {
         // Suitable endpoint
         EndpointDescription endpoint = select(endpoints, endpointUri);
         // Crete service channel
@@ -701,6 +725,92 @@ public class Client {
         return new ServiceChannel(createSecureChannel(settings));
     }
 
+    /**
+     * Create a pool of service channels to an endpoint. The first channel is
+     * opened before this method returns and the others in the background.
+     *
+     * @param connectUrl address that contains the socket address to the endpoint
+     * @param endpoint   endpoint description
+     * @param size       number of secure channels
+     * @return an open pool
+     * @throws org.opcfoundation.ua.common.ServiceResultException if the first channel cannot be opened
+     */
+    public RequestChannelPool createServiceChannelPool(final String connectUrl, final EndpointDescription endpoint, int size)
+            throws ServiceResultException {
+        RequestChannelPool pool = new RequestChannelPool(new RequestChannelPool.ChannelFactory() {
+            @Override
+            public RequestChannel createChannel() throws ServiceResultException {
+                return createServiceChannel(connectUrl, endpoint);
+            }
+
+            @Override
+            public void closeChannel(RequestChannel channel) {
+                ((ServiceChannel) channel).close();
+            }
+        }, size);
+        pool.open();
+        return pool;
+    }
+
+    /**
+     * Create a pool of activated session channels to an endpoint. Each
+     * channel of the pool has a secure channel and a session of its own. The
+     * first channel is opened before this method returns and the others in
+     * the background.
+     *
+     * @param connectUrl address that contains the socket address to the endpoint
+     * @param endpoint   endpoint description
+     * @param size       number of session channels
+     * @param username   user name, or null to activate the sessions anonymously
+     * @param password   password
+     * @return an open pool
+     * @throws org.opcfoundation.ua.common.ServiceResultException if the first channel cannot be opened
+     */
+    public RequestChannelPool createSessionChannelPool(final String connectUrl, final EndpointDescription endpoint, int size,
+                                                       final String username, final String password)
+            throws ServiceResultException {
+        RequestChannelPool pool = new RequestChannelPool(new RequestChannelPool.ChannelFactory() {
+            @Override
+            public RequestChannel createChannel() throws ServiceResultException {
+                SessionChannel channel = createSessionChannel(connectUrl, endpoint);
+                try {
+                    if (username == null)
+                        channel.activate();
+                    else
+                        channel.activate(username, password);
+                } catch (ServiceResultException se) {
+                    closeSessionChannel(channel);
+                    throw se;
+                }
+                return channel;
+            }
+
+            @Override
+            public void closeChannel(RequestChannel channel) {
+                closeSessionChannel((SessionChannel) channel);
+            }
+        }, size);
+        pool.open();
+        return pool;
+    }
+
+    /**
+     * Close the session of a pooled channel and then its secure channel. The
+     * secure channel is closed also if CloseSession fails, as it does when the
+     * session or the connection has been lost.
+     *
+     * @param channel the channel
+     */
+    private static void closeSessionChannel(SessionChannel channel) {
+        try {
+            channel.CloseSession(null, true);
+        } catch (ServiceResultException e) {
+            log.debug("CloseSession of a pooled channel failed: {}", e.getMessage());
+        } finally {
+            channel.closeSecureChannel();
+        }
+    }
+
     /**
      * Discover endpoints
      *
@@ -739,6 +849,14 @@ public class Client {
         }
     }
 
+    private EndpointDescription[] discoverEndpoints(String connectUrl, String discoveryEndpointUri, EndpointCache cache)
+            throws ServiceResultException {
+        EndpointDescription[] result = discoverEndpoints(connectUrl, discoveryEndpointUri);
+        if (cache != null && result != null)
+            cache.put(connectUrl, result);
+        return result;
+    }
+
     /**
      * Discover applications
      *
@@ -927,6 +1045,26 @@ public class Client {
         this.endpointConfiguration = endpointConfiguration;
     }
 
+    /**
+     * Set the cache of discovered endpoints that
+     * {@link #createSessionChannel(String, String)} uses. There is no cache
+     * by default.
+     *
+     * @param endpointCache the cache, or null to discover the endpoints on every call
+     */
+    public void setEndpointCache(EndpointCache endpointCache) {
+        this.endpointCache = endpointCache;
+    }
+
+    /**
+     * <p>getEndpointCache.</p>
+     *
+     * @return the cache of discovered endpoints, or null
+     */
+    public EndpointCache getEndpointCache() {
+        return endpointCache;
+    }
+
     private void validateEndpoints(String uri, EndpointDescription[] endpoints,
                                    EndpointDescription[] discoveredEndpoints) throws ServiceResultException {
         // if discoveredEndpoints parameter is null, skip the test
@@ -0,0 +1,206 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.application;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opcfoundation.ua.builtintypes.ByteString;
+import org.opcfoundation.ua.core.EndpointDescription;
+import org.opcfoundation.ua.utils.CertificateUtils;
+
+/**
+ * Cache of discovered endpoints by discovery URL, used by {@link Client} to
+ * skip the GetEndpoints round trip when it reconnects to a server.
+ * <p>
+ * Entries expire after a time to live, and the least recently used entries
+ * are evicted when the cache is full. An entry is also invalidated when the
+ * server presents a certificate that is not the server certificate of any
+ * of its endpoints, see {@link #checkServerCertificate(String, byte[])}.
+ */
+public class EndpointCache {
+
+	/** Default time to live of an entry, 5 minutes */
+	public static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(5);
+
+	/** Default max number of entries */
+	public static final int DEFAULT_MAX_ENTRIES = 4096;
+
+	private final long timeToLive;
+	private final int maxEntries;
+
+	/** Entries by discovery URL, least recently used first */
+	private final Map<String, Entry> entries;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Create a cache with the default time to live and size.
+	 */
+	public EndpointCache()
+	{
+		this(DEFAULT_TIME_TO_LIVE, DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * Create a cache.
+	 *
+	 * @param timeToLive time to live of an entry in milliseconds
+	 * @param maxEntries max number of entries
+	 */
+	public EndpointCache(long timeToLive, final int maxEntries)
+	{
+		if (timeToLive<0 || maxEntries<0) throw new IllegalArgumentException("negative bound");
+		this.timeToLive = timeToLive;
+		this.maxEntries = maxEntries;
+		entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Get the endpoints of a discovery URL.
+	 *
+	 * @param discoveryUrl discovery URL
+	 * @return the endpoints, or null if there is no entry or it has expired
+	 */
+	public EndpointDescription[] get(String discoveryUrl)
+	{
+		return get(discoveryUrl, System.nanoTime());
+	}
+
+	synchronized EndpointDescription[] get(String discoveryUrl, long now)
+	{
+		Entry e = entries.get(discoveryUrl);
+		if (e!=null && now-e.expires>=0) {
+			entries.remove(discoveryUrl);
+			e = null;
+		}
+		(e==null ? misses : hits).incrementAndGet();
+		return e==null ? null : e.endpoints;
+	}
+
+	/**
+	 * Put the discovered endpoints of a discovery URL.
+	 *
+	 * @param discoveryUrl discovery URL
+	 * @param endpoints endpoints returned by GetEndpoints
+	 */
+	public void put(String discoveryUrl, EndpointDescription[] endpoints)
+	{
+		put(discoveryUrl, endpoints, System.nanoTime());
+	}
+
+	synchronized void put(String discoveryUrl, EndpointDescription[] endpoints, long now)
+	{
+		if (discoveryUrl==null || endpoints==null) throw new IllegalArgumentException("null");
+		if (maxEntries==0) return;
+		entries.put(discoveryUrl, new Entry(endpoints, now + TimeUnit.MILLISECONDS.toNanos(timeToLive)));
+	}
+
+	/**
+	 * Check the certificate that a server presented against the cached
+	 * endpoints of its discovery URL. If the certificate is not the server
+	 * certificate of any of the endpoints, the entry is stale and it is
+	 * invalidated.
+	 *
+	 * @param discoveryUrl discovery URL
+	 * @param serverCertificate encoded certificate of the server, or null if the server sent none
+	 * @return false if the entry was invalidated
+	 */
+	public boolean checkServerCertificate(String discoveryUrl, byte[] serverCertificate)
+	{
+		ByteString thumbprint = serverCertificate==null || serverCertificate.length==0 ? null
+				: ByteString.valueOf(CertificateUtils.createThumbprint(serverCertificate));
+		synchronized(this) {
+			Entry e = entries.get(discoveryUrl);
+			if (e==null || e.thumbprints.contains(thumbprint)) return true;
+			entries.remove(discoveryUrl);
+			return false;
+		}
+	}
+
+	/**
+	 * Remove the entry of a discovery URL.
+	 *
+	 * @param discoveryUrl discovery URL
+	 */
+	public synchronized void invalidate(String discoveryUrl)
+	{
+		entries.remove(discoveryUrl);
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	public synchronized void clear()
+	{
+		entries.clear();
+	}
+
+	/**
+	 * <p>size.</p>
+	 *
+	 * @return the number of entries, including expired ones that have not been removed yet
+	 */
+	public synchronized int size()
+	{
+		return entries.size();
+	}
+
+	/**
+	 * <p>getHits.</p>
+	 *
+	 * @return the number of lookups that found an entry
+	 */
+	public long getHits()
+	{
+		return hits.get();
+	}
+
+	/**
+	 * <p>getMisses.</p>
+	 *
+	 * @return the number of lookups that found no entry or an expired one
+	 */
+	public long getMisses()
+	{
+		return misses.get();
+	}
+
+	static class Entry {
+		final EndpointDescription[] endpoints;
+		final long expires;
+		/** Thumbprints of the server certificates of the endpoints, null for endpoints without one */
+		final Set<ByteString> thumbprints = new HashSet<ByteString>();
+
+		Entry(EndpointDescription[] endpoints, long expires) {
+			this.endpoints = endpoints;
+			this.expires = expires;
+			for (EndpointDescription e : endpoints) {
+				byte[] cert = ByteString.asByteArray(e.getServerCertificate());
+				thumbprints.add(cert==null || cert.length==0 ? null : ByteString.valueOf(CertificateUtils.createThumbprint(cert)));
+			}
+		}
+	}
+
+}
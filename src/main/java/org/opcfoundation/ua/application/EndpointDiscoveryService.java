@@ -16,7 +16,10 @@ import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,6 +29,10 @@ import org.opcfoundation.ua.core.EndpointDescription;
 import org.opcfoundation.ua.core.GetEndpointsRequest;
 import org.opcfoundation.ua.core.GetEndpointsResponse;
 import org.opcfoundation.ua.core.ResponseHeader;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.EncodingException;
+import org.opcfoundation.ua.encoding.binary.PreEncodedResponse;
+import org.opcfoundation.ua.transport.AsyncWrite;
 import org.opcfoundation.ua.transport.endpoint.EndpointBindingCollection;
 import org.opcfoundation.ua.transport.endpoint.EndpointServiceRequest;
 
@@ -33,12 +40,26 @@ import org.opcfoundation.ua.transport.endpoint.EndpointServiceRequest;
 
 /**
  * Service handler that serves onGetEndpoints request.
+ * <p>
+ * The responses are built and encoded once for each combination of local
+ * address, host and server name of the EndpointUrl and ProfileUris of the
+ * requests, and sent as {@link PreEncodedResponse}s. The least recently used
+ * responses are dropped when the cache is full, and all of them are dropped
+ * when the endpoint bindings, the user token policies or the certificates
+ * and description of the application change.
  */
 public class EndpointDiscoveryService {
 
+	/** Max number of cached responses */
+	static final int MAX_CACHED_RESPONSES = 256;
+
 	EndpointBindingCollection endpointBindings;
 	private static Logger logger = LoggerFactory.getLogger(EndpointDiscoveryService.class);
 	
+	/** Cached responses, replaced when the data of the responses changes */
+	private volatile ResponseCache responseCache = new ResponseCache(null);
+	private volatile boolean responseCacheEnabled = true;
+	
 	/**
 	 * <p>Constructor for EndpointDiscoveryService.</p>
 	 *
@@ -56,6 +77,38 @@ public class EndpointDiscoveryService {
 	public void setEndpointBindingCollection(EndpointBindingCollection endpointBindings)
 	{
 		this.endpointBindings = endpointBindings;
+		invalidate();
+	}
+	
+	/**
+	 * Drop the cached responses. This is needed only after changes that the
+	 * service cannot see, such as changes made directly to the application
+	 * description object of the application.
+	 */
+	public void invalidate()
+	{
+		responseCache = new ResponseCache(null);
+	}
+	
+	/**
+	 * Set whether GetEndpoints responses are cached. They are by default.
+	 *
+	 * @param enabled true to cache the responses
+	 */
+	public void setResponseCacheEnabled(boolean enabled)
+	{
+		responseCacheEnabled = enabled;
+		invalidate();
+	}
+	
+	/**
+	 * <p>isResponseCacheEnabled.</p>
+	 *
+	 * @return true if GetEndpoints responses are cached
+	 */
+	public boolean isResponseCacheEnabled()
+	{
+		return responseCacheEnabled;
 	}
 	
 	/**
@@ -70,11 +123,88 @@ public class EndpointDiscoveryService {
 		logger.debug("onGetEndpoints: requestAddress={}", requestAddress);
 		
 		logger.trace("onGetEndpoints: Request={}", messageExchange.getRequest());
-		GetEndpointsResponse res = new GetEndpointsResponse();
-		String requestUrl = trimUrl(messageExchange.getRequest().getEndpointUrl());
+		GetEndpointsRequest req = messageExchange.getRequest();
+		ResponseHeader h = new ResponseHeader(DateTime.currentTime(), req.getRequestHeader().getRequestHandle(), null,
+				null, null, null);
+		
+		Server server = messageExchange.getServer();
+		if (!responseCacheEnabled || server == null) {
+			GetEndpointsResponse res = new GetEndpointsResponse(null, getEndpoints(requestAddress, req));
+			res.setResponseHeader(h);
+			messageExchange.sendResponse(res);
+			return;
+		}
+		
+		ResponseCache cache = responseCache;
+		long[] version = getVersion();
+		if (!Arrays.equals(cache.version, version)) {
+			cache = new ResponseCache(version);
+			responseCache = cache;
+		}
+		List<Object> key = getCacheKey(requestAddress, req);
+		PreEncodedResponse cached = cache.get(key);
+		if (cached == null) {
+			GetEndpointsResponse res = new GetEndpointsResponse(new ResponseHeader(), getEndpoints(requestAddress, req));
+			EncoderContext ctx = server.getEncoderContext();
+			try {
+				cached = PreEncodedResponse.encode(res, ctx);
+			} catch (EncodingException e) {
+				logger.warn("onGetEndpoints: cannot pre-encode the response", e);
+				res.setResponseHeader(h);
+				messageExchange.sendResponse(res);
+				return;
+			}
+			cache.put(key, cached);
+		}
+		messageExchange.sendResponse(new AsyncWrite(cached.withResponseHeader(h)));
+	}
+	
+	/**
+	 * Get the versions of the data of the responses: the version of the
+	 * bindings, followed by the description version of each server. The
+	 * versions only increase, so they differ from all earlier ones when
+	 * the data changes.
+	 */
+	private long[] getVersion() {
+		EndpointBindingCollection bindings = endpointBindings;
+		int bindingsVersion = bindings.getVersion();
+		List<Server> servers = bindings.getServiceServers();
+		long[] result = new long[servers.size() + 1];
+		result[0] = bindingsVersion;
+		for (int i = 0; i < servers.size(); i++)
+			result[i + 1] = servers.get(i).getDescriptionVersion();
+		return result;
+	}
+	
+	/**
+	 * Get the key of the cached response to a request. The key contains only
+	 * the parts of the request that {@link #getEndpoints(SocketAddress, GetEndpointsRequest)}
+	 * uses, so URLs that differ by port, case of the host or a trailing '/'
+	 * share the response.
+	 */
+	List<Object> getCacheKey(SocketAddress requestAddress, GetEndpointsRequest request) {
+		String requestUrl = trimUrl(request.getEndpointUrl());
+		if (requestUrl.isEmpty())
+			return Arrays.<Object>asList(requestAddress, null, null, asList(request.getProfileUris()));
+		return Arrays.<Object>asList(requestAddress, getUrlHost(requestUrl), getUrlServerName(requestUrl), asList(request.getProfileUris()));
+	}
+	
+	private static List<String> asList(String[] values) {
+		return values == null ? Collections.<String>emptyList() : Arrays.asList(values);
+	}
+	
+	/**
+	 * Select the endpoints of a GetEndpoints request.
+	 *
+	 * @param requestAddress local address where the request came from
+	 * @param request the request
+	 * @return the endpoints
+	 */
+	EndpointDescription[] getEndpoints(SocketAddress requestAddress, GetEndpointsRequest request) {
+		String requestUrl = trimUrl(request.getEndpointUrl());
 		String requestHost = getUrlHost(requestUrl);
 		String requestServerName = getUrlServerName(requestUrl);
-		String[] profileUriArray = messageExchange.getRequest().getProfileUris();
+		String[] profileUriArray = request.getProfileUris();
 		logger.debug("onGetEndpoints: requestUrl={}", requestUrl);
 		logger.debug("onGetEndpoints: host={}", requestHost);
 		logger.debug("onGetEndpoints: serverName={}", requestServerName);
@@ -142,12 +272,7 @@ public class EndpointDiscoveryService {
 			}
 		}
 		logger.trace("onGetEndpoints: list={}", list);
-		res.setEndpoints(list.toArray(new EndpointDescription[0]));
-		ResponseHeader h = new ResponseHeader(DateTime.currentTime(), messageExchange
-				.getRequest().getRequestHeader().getRequestHandle(), null,
-				null, null, null);
-		res.setResponseHeader(h);
-		messageExchange.sendResponse(res);
+		return list.toArray(new EndpointDescription[0]);
 	}
 
 	/**
@@ -213,4 +338,36 @@ public class EndpointDiscoveryService {
 		return uri.substring(beginIndex);
 	}
 	
+	/**
+	 * Responses by the cache key of the request, for one version of the data
+	 * of the responses. Holds up to {@link #MAX_CACHED_RESPONSES} responses,
+	 * least recently used first.
+	 */
+	static class ResponseCache {
+		final long[] version;
+		private final Map<List<Object>, PreEncodedResponse> responses = new LinkedHashMap<List<Object>, PreEncodedResponse>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<List<Object>, PreEncodedResponse> eldest) {
+				return size() > MAX_CACHED_RESPONSES;
+			}
+		};
+		
+		ResponseCache(long[] version) {
+			this.version = version;
+		}
+		
+		synchronized PreEncodedResponse get(List<Object> key) {
+			return responses.get(key);
+		}
+		
+		synchronized void put(List<Object> key, PreEncodedResponse response) {
+			responses.put(key, response);
+		}
+		
+		synchronized int size() {
+			return responses.size();
+		}
+	}
+	
 }
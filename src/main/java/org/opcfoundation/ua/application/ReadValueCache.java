@@ -0,0 +1,495 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.application;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opcfoundation.ua.builtintypes.ByteString;
+import org.opcfoundation.ua.builtintypes.DataValue;
+import org.opcfoundation.ua.builtintypes.DateTime;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.QualifiedName;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.builtintypes.Variant;
+import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.core.ReadRequest;
+import org.opcfoundation.ua.core.ReadValueId;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.core.TimestampsToReturn;
+import org.opcfoundation.ua.utils.ObjectUtils;
+
+/**
+ * Read layer between a Read service handler and the data source of the server.
+ * <p>
+ * Concurrent reads of the same (NodeId, AttributeId, IndexRange, DataEncoding)
+ * are merged into one fetch from the {@link DataSource}, and fetched values
+ * are kept in a bounded cache so that reads with <tt>maxAge &gt; 0</tt> can be
+ * served from memory. The age of a cached value is the time since it was
+ * fetched from the data source, as defined for the ServerTimestamp of the
+ * Read service.
+ * <p>
+ * The cache is bounded by the number of entries and by an estimate of the
+ * memory used by the values. Entries are evicted with the CLOCK (second chance)
+ * approximation of LRU. Values with Bad status are never cached.
+ * <p>
+ * Typical use in {@link org.opcfoundation.ua.core.AttributeServiceSetHandler#onRead}:
+ * <pre>
+ * DataValue[] results = cache.read(request);
+ * </pre>
+ */
+public class ReadValueCache {
+
+	/**
+	 * The data source of the values.
+	 */
+	public interface DataSource {
+		/**
+		 * Read values from the data source. The result must contain a value
+		 * for each element of nodesToRead, in the same order.
+		 *
+		 * @param nodesToRead nodes to read, with no duplicates
+		 * @return values
+		 * @throws ServiceResultException if the read fails as a whole
+		 */
+		DataValue[] read(ReadValueId[] nodesToRead) throws ServiceResultException;
+	}
+
+	/** Max Int32, maxAge at or above which any cached value is accepted */
+	public static final double MAX_AGE_ANY = Integer.MAX_VALUE;
+
+	/** Estimated fixed cost of a cache entry in bytes */
+	static final int ENTRY_OVERHEAD = 128;
+
+	final DataSource source;
+	final int maxEntries;
+	final long maxBytes;
+
+	final ConcurrentHashMap<Key, Entry> cache = new ConcurrentHashMap<Key, Entry>();
+	final ConcurrentLinkedQueue<Entry> clock = new ConcurrentLinkedQueue<Entry>();
+	/** Approximate number of entries in clock, including removed entries not yet dropped */
+	final AtomicInteger clockSize = new AtomicInteger();
+	final ConcurrentHashMap<Key, Fetch> inflight = new ConcurrentHashMap<Key, Fetch>();
+
+	final AtomicLong bytes = new AtomicLong();
+	final AtomicLong hits = new AtomicLong();
+	final AtomicLong misses = new AtomicLong();
+	final AtomicLong coalesced = new AtomicLong();
+	final AtomicLong evictions = new AtomicLong();
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param source data source
+	 * @param maxEntries max number of cached values
+	 * @param maxBytes max estimated memory of cached values in bytes
+	 */
+	public ReadValueCache(DataSource source, int maxEntries, long maxBytes)
+	{
+		if (source==null) throw new IllegalArgumentException("null");
+		if (maxEntries<0 || maxBytes<0) throw new IllegalArgumentException("negative bound");
+		this.source = source;
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Read the nodes of a Read request, with the maxAge and timestampsToReturn
+	 * of the request.
+	 *
+	 * @param request read request
+	 * @return values, one for each element of NodesToRead
+	 * @throws ServiceResultException Bad_MaxAgeInvalid, Bad_TimestampsToReturnInvalid or Bad_NothingToDo
+	 */
+	public DataValue[] read(ReadRequest request) throws ServiceResultException
+	{
+		if (request.getTimestampsToReturn()==null)
+			throw new ServiceResultException(StatusCodes.Bad_TimestampsToReturnInvalid);
+		ReadValueId[] nodesToRead = request.getNodesToRead();
+		if (nodesToRead==null || nodesToRead.length==0)
+			throw new ServiceResultException(StatusCodes.Bad_NothingToDo);
+		double maxAge = request.getMaxAge()==null ? 0 : request.getMaxAge();
+		return read(nodesToRead, maxAge, request.getTimestampsToReturn());
+	}
+
+	/**
+	 * Read values.
+	 *
+	 * @param nodesToRead nodes to read
+	 * @param maxAge max age of the values in milliseconds, 0 to always fetch a new value
+	 * @param timestampsToReturn timestamps to return
+	 * @return values, one for each element of nodesToRead
+	 * @throws ServiceResultException Bad_MaxAgeInvalid if maxAge is negative
+	 */
+	public DataValue[] read(ReadValueId[] nodesToRead, double maxAge, TimestampsToReturn timestampsToReturn)
+	throws ServiceResultException
+	{
+		if (maxAge<0 || Double.isNaN(maxAge))
+			throw new ServiceResultException(StatusCodes.Bad_MaxAgeInvalid);
+		long now = System.currentTimeMillis();
+		int n = nodesToRead.length;
+		DataValue[] results = new DataValue[n];
+		Key[] keys = new Key[n];
+		Fetch[] waits = new Fetch[n];
+
+		// Fetches this thread is responsible for
+		List<Key> ownKeys = new ArrayList<Key>();
+		List<ReadValueId> ownIds = new ArrayList<ReadValueId>();
+		Fetch own = null;
+
+		for (int i=0; i<n; i++) {
+			ReadValueId id = nodesToRead[i];
+			Key key = keys[i] = new Key(id);
+			if (maxAge>0) {
+				Entry e = cache.get(key);
+				if (e!=null && (maxAge>=MAX_AGE_ANY || now-e.fetchTime<=maxAge)) {
+					e.referenced = true;
+					hits.incrementAndGet();
+					results[i] = e.value;
+					continue;
+				}
+			}
+			if (own==null) own = new Fetch();
+			Fetch f = inflight.putIfAbsent(key, own);
+			// Counted after joining, so a miss is always visible to a fetch in progress
+			misses.incrementAndGet();
+			if (f==null) {
+				f = own;
+				ownKeys.add(key);
+				ownIds.add(id);
+			} else if (f!=own) {
+				coalesced.incrementAndGet();
+			}
+			waits[i] = f;
+		}
+
+		if (own!=null) fetch(own, ownKeys, ownIds);
+
+		for (int i=0; i<n; i++) {
+			if (waits[i]!=null) results[i] = waits[i].get(keys[i]);
+			results[i] = filter(results[i], timestampsToReturn);
+		}
+		return results;
+	}
+
+	private void fetch(Fetch fetch, List<Key> keys, List<ReadValueId> ids)
+	{
+		try {
+			if (keys.isEmpty()) return;
+			DataValue[] values;
+			try {
+				values = source.read(ids.toArray(new ReadValueId[ids.size()]));
+				if (values==null || values.length!=keys.size())
+					throw new ServiceResultException(StatusCodes.Bad_InternalError, "DataSource returned wrong number of values");
+			} catch (ServiceResultException e) {
+				values = new DataValue[keys.size()];
+				StatusCode status = e.getStatusCode();
+				for (int i=0; i<values.length; i++)
+					values[i] = new DataValue(status);
+			} catch (RuntimeException e) {
+				values = new DataValue[keys.size()];
+				for (int i=0; i<values.length; i++)
+					values[i] = new DataValue(new StatusCode(StatusCodes.Bad_InternalError));
+			}
+
+			long fetchTime = System.currentTimeMillis();
+			DateTime serverTimestamp = DateTime.fromMillis(fetchTime);
+			for (int i=0; i<values.length; i++) {
+				DataValue v = values[i];
+				if (v==null) v = new DataValue(new StatusCode(StatusCodes.Bad_InternalError));
+				if (v.getServerTimestamp()==null) v.setServerTimestamp(serverTimestamp);
+				values[i] = v;
+				fetch.values.put(keys.get(i), v);
+			}
+			// Release waiting readers before updating the cache
+			fetch.done.countDown();
+			for (int i=0; i<values.length; i++)
+				if (values[i].getStatusCode()==null || !values[i].getStatusCode().isBad())
+					put(keys.get(i), values[i], fetchTime);
+		} finally {
+			// Also if the fetch failed with an Error, waiting readers then get Bad_InternalError
+			fetch.done.countDown();
+			for (Key key : keys)
+				inflight.remove(key, fetch);
+		}
+	}
+
+	private void put(Key key, DataValue value, long fetchTime)
+	{
+		if (maxEntries==0) return;
+		Entry e = new Entry(key, value, fetchTime, estimateSize(key, value));
+		if (e.size>maxBytes) return;
+		Entry old = cache.put(key, e);
+		if (old!=null) {
+			old.removed = true;
+			bytes.addAndGet(-old.size);
+		}
+		bytes.addAndGet(e.size);
+		clock.add(e);
+		// Replaced and invalidated entries stay in the clock until dropped here or by evict
+		if (clockSize.incrementAndGet() > 2 * cache.size() + 16)
+			compact();
+		evict();
+	}
+
+	/**
+	 * Drop removed entries from the clock.
+	 */
+	private void compact()
+	{
+		synchronized (clock) {
+			int n = 0;
+			Iterator<Entry> i = clock.iterator();
+			while (i.hasNext()) {
+				if (i.next().removed) i.remove();
+				else n++;
+			}
+			clockSize.set(n);
+		}
+	}
+
+	private void evict()
+	{
+		// Only second chances use the budget, removed entries are simply dropped
+		int budget = 2 * (cache.size() + 1);
+		while (cache.size()>maxEntries || bytes.get()>maxBytes) {
+			Entry e = clock.poll();
+			if (e==null) break;
+			clockSize.decrementAndGet();
+			if (e.removed) continue;
+			if (e.referenced && budget-->0) {
+				// Second chance
+				e.referenced = false;
+				clock.add(e);
+				clockSize.incrementAndGet();
+				continue;
+			}
+			if (cache.remove(e.key, e)) {
+				e.removed = true;
+				bytes.addAndGet(-e.size);
+				evictions.incrementAndGet();
+			}
+		}
+	}
+
+	/**
+	 * Remove cached values of a node, e.g. after it has been written to.
+	 *
+	 * @param nodeId node id
+	 */
+	public void invalidate(NodeId nodeId)
+	{
+		Iterator<Entry> i = cache.values().iterator();
+		while (i.hasNext()) {
+			Entry e = i.next();
+			if (ObjectUtils.objectEquals(e.key.nodeId, nodeId) && cache.remove(e.key, e)) {
+				e.removed = true;
+				bytes.addAndGet(-e.size);
+			}
+		}
+	}
+
+	/**
+	 * Remove all cached values.
+	 */
+	public void invalidateAll()
+	{
+		Iterator<Entry> i = cache.values().iterator();
+		while (i.hasNext()) {
+			Entry e = i.next();
+			if (cache.remove(e.key, e)) {
+				e.removed = true;
+				bytes.addAndGet(-e.size);
+			}
+		}
+		synchronized (clock) {
+			clock.clear();
+			clockSize.set(0);
+		}
+	}
+
+	/**
+	 * @return number of values served from the cache
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return number of values not served from the cache
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * @return number of misses that were merged into another fetch in progress
+	 */
+	public long getCoalesced() {
+		return coalesced.get();
+	}
+
+	/**
+	 * @return number of values evicted to keep the cache within its bounds
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	/**
+	 * @return number of cached values
+	 */
+	public int size() {
+		return cache.size();
+	}
+
+	/**
+	 * @return estimated memory of cached values in bytes
+	 */
+	public long getEstimatedBytes() {
+		return bytes.get();
+	}
+
+	/**
+	 * Apply timestampsToReturn to a value. Cached values are shared, so a new
+	 * instance is returned when timestamps are removed.
+	 */
+	static DataValue filter(DataValue v, TimestampsToReturn timestampsToReturn)
+	{
+		boolean source = timestampsToReturn==TimestampsToReturn.Source || timestampsToReturn==TimestampsToReturn.Both;
+		boolean server = timestampsToReturn==TimestampsToReturn.Server || timestampsToReturn==TimestampsToReturn.Both;
+		if ((source || v.getSourceTimestamp()==null) && (server || v.getServerTimestamp()==null))
+			return v;
+		return new DataValue(v.getValue(), v.getStatusCode(),
+				source ? v.getSourceTimestamp() : null, source ? v.getSourcePicoseconds() : null,
+				server ? v.getServerTimestamp() : null, server ? v.getServerPicoseconds() : null);
+	}
+
+	/**
+	 * Estimate the memory used by a cache entry.
+	 */
+	static long estimateSize(Key key, DataValue value)
+	{
+		long size = ENTRY_OVERHEAD;
+		if (key.indexRange!=null) size += 40 + 2 * key.indexRange.length();
+		Variant v = value.getValue();
+		if (v!=null) size += estimateSize(v.getValue());
+		return size;
+	}
+
+	private static long estimateSize(Object o)
+	{
+		if (o==null) return 0;
+		if (o instanceof String) return 40 + 2 * ((String) o).length();
+		if (o instanceof ByteString) return 32 + ((ByteString) o).getLength();
+		if (o instanceof byte[]) return 16 + ((byte[]) o).length;
+		Class<?> clazz = o.getClass();
+		if (clazz.isArray()) {
+			int len = Array.getLength(o);
+			Class<?> component = clazz.getComponentType();
+			if (component.isPrimitive()) return 16 + 8L * len;
+			long size = 16 + 4L * len;
+			for (int i=0; i<len; i++)
+				size += estimateSize(Array.get(o, i));
+			return size;
+		}
+		return 24;
+	}
+
+	/**
+	 * Cache key.
+	 */
+	static final class Key {
+		final NodeId nodeId;
+		final UnsignedInteger attributeId;
+		final String indexRange;
+		final QualifiedName dataEncoding;
+		final int hash;
+
+		Key(ReadValueId id) {
+			this.nodeId = id.getNodeId();
+			this.attributeId = id.getAttributeId();
+			this.indexRange = id.getIndexRange();
+			this.dataEncoding = id.getDataEncoding();
+			this.hash = ObjectUtils.hashCode(nodeId) * 31 * 31 * 31 + ObjectUtils.hashCode(attributeId) * 31 * 31
+					+ ObjectUtils.hashCode(indexRange) * 31 + ObjectUtils.hashCode(dataEncoding);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj==this) return true;
+			if (!(obj instanceof Key)) return false;
+			Key other = (Key) obj;
+			return hash==other.hash && ObjectUtils.objectEquals(nodeId, other.nodeId)
+					&& ObjectUtils.objectEquals(attributeId, other.attributeId)
+					&& ObjectUtils.objectEquals(indexRange, other.indexRange)
+					&& ObjectUtils.objectEquals(dataEncoding, other.dataEncoding);
+		}
+	}
+
+	/**
+	 * Cached value.
+	 */
+	static final class Entry {
+		final Key key;
+		final DataValue value;
+		final long fetchTime;
+		final long size;
+		volatile boolean referenced;
+		volatile boolean removed;
+
+		Entry(Key key, DataValue value, long fetchTime, long size) {
+			this.key = key;
+			this.value = value;
+			this.fetchTime = fetchTime;
+			this.size = size;
+		}
+	}
+
+	/**
+	 * Fetch of a batch of values from the data source, in progress or complete.
+	 */
+	static final class Fetch {
+		final CountDownLatch done = new CountDownLatch(1);
+		final ConcurrentHashMap<Key, DataValue> values = new ConcurrentHashMap<Key, DataValue>();
+
+		DataValue get(Key key) {
+			boolean interrupted = false;
+			while (true) {
+				try {
+					done.await();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) Thread.currentThread().interrupt();
+			DataValue v = values.get(key);
+			return v!=null ? v : new DataValue(new StatusCode(StatusCodes.Bad_InternalError));
+		}
+	}
+
+}
@@ -0,0 +1,329 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.application;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.core.IdType;
+import org.opcfoundation.ua.core.StatusCodes;
+
+/**
+ * Server side implementation of the RegisterNodes and UnregisterNodes services.
+ * <p>
+ * Registered String, Guid and Opaque NodeIds are replaced with numeric alias
+ * NodeIds in a namespace reserved for aliases. An alias is scoped to the session
+ * that registered it and resolves with an array lookup to a node handle that was
+ * resolved once at registration. Handlers of Read, Write and CreateMonitoredItems
+ * use {@link #resolve(NodeId, NodeId)} to get the handle of a node, which skips
+ * hashing of the original identifier. Numeric NodeIds are already compact and
+ * are returned unchanged.
+ * <p>
+ * The alias namespace index must be reserved for this purpose in the
+ * NamespaceTable of the server, so that aliases cannot collide with real nodes.
+ * An alias carries a generation number in its high bits so that a stale alias
+ * of an unregistered node does not resolve to a node registered later.
+ * <p>
+ * Call {@link #closeSession(NodeId)} when a session is closed or times out.
+ *
+ * @param <H> node handle type
+ */
+public class RegisteredNodeManager<H> {
+
+	/**
+	 * Resolves a NodeId to a node handle.
+	 *
+	 * @param <H> node handle type
+	 */
+	public interface NodeResolver<H> {
+		/**
+		 * Resolve a node.
+		 *
+		 * @param nodeId node id
+		 * @return node handle, or null if the node does not exist
+		 */
+		H resolve(NodeId nodeId);
+	}
+
+	/** Number of low bits of an alias used for the slot index */
+	static final int SLOT_BITS = 20;
+	static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+	/** Generation bits above the slot index, aliases are kept positive to fit an Int32 */
+	static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+	final int aliasNamespaceIndex;
+	final int maxNodesPerSession;
+	final NodeResolver<H> resolver;
+	final ConcurrentHashMap<NodeId, Registry<H>> sessions = new ConcurrentHashMap<NodeId, Registry<H>>();
+
+	/**
+	 * Create a new registration manager.
+	 *
+	 * @param aliasNamespaceIndex namespace index reserved for alias NodeIds
+	 * @param maxNodesPerSession max number of registered nodes per session
+	 * @param resolver resolver of node handles
+	 */
+	public RegisteredNodeManager(int aliasNamespaceIndex, int maxNodesPerSession, NodeResolver<H> resolver)
+	{
+		if (resolver==null) throw new IllegalArgumentException("null");
+		if (aliasNamespaceIndex<=0 || aliasNamespaceIndex>0xFFFF)
+			throw new IllegalArgumentException("aliasNamespaceIndex out of bounds");
+		if (maxNodesPerSession<0 || maxNodesPerSession>SLOT_MASK)
+			throw new IllegalArgumentException("maxNodesPerSession out of bounds");
+		this.aliasNamespaceIndex = aliasNamespaceIndex;
+		this.maxNodesPerSession = maxNodesPerSession;
+		this.resolver = resolver;
+	}
+
+	/**
+	 * Register nodes of a session.
+	 *
+	 * @param sessionId session
+	 * @param nodesToRegister nodes to register
+	 * @return NodeIds for the client to use, in the order of nodesToRegister
+	 * @throws ServiceResultException Bad_NothingToDo if there are no nodes,
+	 *   Bad_NodeIdInvalid if a node is null and Bad_TooManyOperations if the
+	 *   session would exceed its limit of registered nodes
+	 */
+	public NodeId[] register(NodeId sessionId, NodeId[] nodesToRegister) throws ServiceResultException
+	{
+		if (nodesToRegister==null || nodesToRegister.length==0)
+			throw new ServiceResultException(StatusCodes.Bad_NothingToDo);
+		for (NodeId nodeId : nodesToRegister)
+			if (nodeId==null) throw new ServiceResultException(StatusCodes.Bad_NodeIdInvalid);
+
+		Registry<H> registry = sessions.get(sessionId);
+		if (registry==null) {
+			Registry<H> newRegistry = new Registry<H>();
+			registry = sessions.putIfAbsent(sessionId, newRegistry);
+			if (registry==null) registry = newRegistry;
+		}
+
+		NodeId[] result = new NodeId[nodesToRegister.length];
+		synchronized (registry) {
+			// A node listed more than once in the request is registered once
+			HashSet<NodeId> added = new HashSet<NodeId>();
+			for (NodeId nodeId : nodesToRegister)
+				if (isAliased(nodeId) && !registry.aliases.containsKey(nodeId)) added.add(nodeId);
+			int additions = added.size();
+			if (registry.aliases.size()+additions>maxNodesPerSession)
+				throw new ServiceResultException(StatusCodes.Bad_TooManyOperations);
+
+			registry.beginUpdate(additions);
+			try {
+				for (int i=0; i<nodesToRegister.length; i++) {
+					NodeId nodeId = nodesToRegister[i];
+					if (!isAliased(nodeId)) {
+						result[i] = nodeId;
+						continue;
+					}
+					Integer alias = registry.aliases.get(nodeId);
+					// Unknown nodes are registered too, the error is reported by the service that uses the alias
+					if (alias==null) alias = registry.add(nodeId, resolver.resolve(nodeId));
+					result[i] = toAlias(alias);
+				}
+			} finally {
+				registry.endUpdate();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Unregister nodes of a session. NodeIds that are not registered are ignored.
+	 *
+	 * @param sessionId session
+	 * @param nodesToUnregister aliases or NodeIds returned by {@link #register(NodeId, NodeId[])}
+	 * @throws ServiceResultException Bad_NothingToDo if there are no nodes
+	 */
+	public void unregister(NodeId sessionId, NodeId[] nodesToUnregister) throws ServiceResultException
+	{
+		if (nodesToUnregister==null || nodesToUnregister.length==0)
+			throw new ServiceResultException(StatusCodes.Bad_NothingToDo);
+		Registry<H> registry = sessions.get(sessionId);
+		if (registry==null) return;
+		synchronized (registry) {
+			registry.beginUpdate(0);
+			try {
+				for (NodeId nodeId : nodesToUnregister) {
+					int alias = toAliasValue(nodeId);
+					if (alias>=0) registry.remove(alias);
+				}
+			} finally {
+				registry.endUpdate();
+			}
+		}
+	}
+
+	/**
+	 * Release all registered nodes of a session.
+	 *
+	 * @param sessionId session
+	 */
+	public void closeSession(NodeId sessionId)
+	{
+		sessions.remove(sessionId);
+	}
+
+	/**
+	 * Resolve the node handle of a NodeId used by a session. Aliases are
+	 * resolved with an array lookup, other NodeIds with the {@link NodeResolver}.
+	 *
+	 * @param sessionId session
+	 * @param nodeId node id or alias
+	 * @return node handle or null if the node does not exist
+	 */
+	public H resolve(NodeId sessionId, NodeId nodeId)
+	{
+		int alias = toAliasValue(nodeId);
+		if (alias<0) return resolver.resolve(nodeId);
+		Slot<H> slot = lookup(sessionId, alias);
+		return slot==null ? null : slot.handle;
+	}
+
+	/**
+	 * Get the NodeId that an alias of a session was registered for.
+	 *
+	 * @param sessionId session
+	 * @param nodeId node id or alias
+	 * @return the registered NodeId, nodeId if it is not an alias, or null if the alias is not registered
+	 */
+	public NodeId getRegisteredNodeId(NodeId sessionId, NodeId nodeId)
+	{
+		int alias = toAliasValue(nodeId);
+		if (alias<0) return nodeId;
+		Slot<H> slot = lookup(sessionId, alias);
+		return slot==null ? null : slot.nodeId;
+	}
+
+	/**
+	 * Get the number of nodes registered by a session.
+	 *
+	 * @param sessionId session
+	 * @return number of registered nodes
+	 */
+	public int getRegisteredNodeCount(NodeId sessionId)
+	{
+		Registry<H> registry = sessions.get(sessionId);
+		if (registry==null) return 0;
+		synchronized (registry) {
+			return registry.aliases.size();
+		}
+	}
+
+	/**
+	 * Test whether a NodeId is an alias created by this manager.
+	 *
+	 * @param nodeId node id
+	 * @return true if nodeId is in the alias namespace
+	 */
+	public boolean isAlias(NodeId nodeId)
+	{
+		return toAliasValue(nodeId)>=0;
+	}
+
+	private Slot<H> lookup(NodeId sessionId, int alias)
+	{
+		Registry<H> registry = sessions.get(sessionId);
+		if (registry==null) return null;
+		Slot<H>[] slots = registry.slots;
+		int index = alias & SLOT_MASK;
+		if (index>=slots.length) return null;
+		Slot<H> slot = slots[index];
+		return (slot==null || slot.alias!=alias) ? null : slot;
+	}
+
+	private boolean isAliased(NodeId nodeId)
+	{
+		return nodeId.getIdType()!=IdType.Numeric && nodeId.getNamespaceIndex()!=aliasNamespaceIndex;
+	}
+
+	private NodeId toAlias(int alias)
+	{
+		return new NodeId(aliasNamespaceIndex, UnsignedInteger.getFromBits(alias));
+	}
+
+	private int toAliasValue(NodeId nodeId)
+	{
+		if (nodeId==null || nodeId.getNamespaceIndex()!=aliasNamespaceIndex || nodeId.getIdType()!=IdType.Numeric)
+			return -1;
+		return ((UnsignedInteger) nodeId.getValue()).intValue() & 0x7FFFFFFF;
+	}
+
+	/**
+	 * Registered node.
+	 */
+	static final class Slot<H> {
+		final int alias;
+		final NodeId nodeId;
+		final H handle;
+
+		Slot(int alias, NodeId nodeId, H handle) {
+			this.alias = alias;
+			this.nodeId = nodeId;
+			this.handle = handle;
+		}
+	}
+
+	/**
+	 * Registered nodes of one session. Updates are synchronized on the registry
+	 * and are made to a copy of the slot array that is published at the end of
+	 * the update, so that resolution needs no locking.
+	 */
+	static final class Registry<H> {
+		@SuppressWarnings("unchecked")
+		volatile Slot<H>[] slots = new Slot[0];
+		final Map<NodeId, Integer> aliases = new HashMap<NodeId, Integer>();
+		Slot<H>[] work;
+		int size;
+		int[] free = new int[0];
+		int freeCount;
+		int generation;
+
+		void beginUpdate(int additions) {
+			Slot<H>[] current = slots;
+			int needed = size + Math.max(0, additions - freeCount);
+			work = needed > current.length ? Arrays.copyOf(current, Math.max(needed, current.length * 2)) : current.clone();
+		}
+
+		void endUpdate() {
+			slots = work;
+			work = null;
+		}
+
+		int add(NodeId nodeId, H handle) {
+			int index = freeCount>0 ? free[--freeCount] : size++;
+			generation = (generation+1) & GENERATION_MASK;
+			int alias = (generation << SLOT_BITS) | index;
+			work[index] = new Slot<H>(alias, nodeId, handle);
+			aliases.put(nodeId, alias);
+			return alias;
+		}
+
+		void remove(int alias) {
+			int index = alias & SLOT_MASK;
+			if (index>=size || work[index]==null || work[index].alias!=alias) return;
+			aliases.remove(work[index].nodeId);
+			work[index] = null;
+			if (freeCount==free.length) free = Arrays.copyOf(free, Math.max(4, free.length*2));
+			free[freeCount++] = index;
+		}
+	}
+
+}
@@ -0,0 +1,458 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.application;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opcfoundation.ua.builtintypes.ServiceRequest;
+import org.opcfoundation.ua.builtintypes.ServiceResponse;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.encoding.IEncodeable;
+import org.opcfoundation.ua.transport.AsyncResult;
+import org.opcfoundation.ua.transport.ChannelService;
+import org.opcfoundation.ua.transport.RequestChannel;
+import org.opcfoundation.ua.transport.ResultListener;
+import org.opcfoundation.ua.transport.impl.AsyncResultImpl;
+import org.opcfoundation.ua.utils.StackUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of request channels to the same endpoint, for example secure
+ * channels or activated session channels, with client service methods.
+ * See {@link ChannelService}.
+ * <p>
+ * A single channel serializes all requests through one socket and one
+ * sequence number space. The pool keeps a fixed number of channels and
+ * stripes the requests over them, either to the channel with the least
+ * outstanding requests or to a channel chosen by an affinity key, so that
+ * the requests with the same key keep their order.
+ * <p>
+ * {@link #open()} opens the first channel and warms up the others in the
+ * background. A channel whose request fails with a status that tells that
+ * the connection or the session is lost is closed and replaced in the
+ * background, and the requests go to the other channels meanwhile. Failed
+ * reconnects are retried with a growing delay.
+ * <p>
+ * Typical use:
+ * <pre>
+ * RequestChannelPool pool = client.createSessionChannelPool(url, endpoint, 4, null, null);
+ * ReadResponse res = pool.Read(null, 0.0, TimestampsToReturn.Both, nodesToRead);
+ * </pre>
+ */
+public class RequestChannelPool extends ChannelService implements RequestChannel {
+
+	static Logger LOGGER = LoggerFactory.getLogger(RequestChannelPool.class);
+
+	/**
+	 * Creates and closes the channels of a pool.
+	 */
+	public interface ChannelFactory {
+		/**
+		 * Open a new channel to the endpoint.
+		 *
+		 * @return an open channel
+		 * @throws ServiceResultException if the channel cannot be opened
+		 */
+		RequestChannel createChannel() throws ServiceResultException;
+
+		/**
+		 * Close a channel that was created by {@link #createChannel()}.
+		 *
+		 * @param channel the channel
+		 */
+		void closeChannel(RequestChannel channel);
+	}
+
+	/**
+	 * How the requests without an affinity key are assigned to the channels.
+	 */
+	public enum Striping {
+		/** The channel with the least outstanding requests */
+		LeastOutstanding,
+		/** The calling thread is the affinity key */
+		ThreadAffinity
+	}
+
+	/** Status codes of a request that tell that the channel is lost */
+	static final UnsignedInteger[] CHANNEL_LOST = {
+		StatusCodes.Bad_CommunicationError,
+		StatusCodes.Bad_ConnectionClosed,
+		StatusCodes.Bad_NotConnected,
+		StatusCodes.Bad_SecureChannelClosed,
+		StatusCodes.Bad_SecureChannelIdInvalid,
+		StatusCodes.Bad_SecureChannelTokenUnknown,
+		StatusCodes.Bad_ServerNotConnected,
+		StatusCodes.Bad_SessionClosed,
+		StatusCodes.Bad_SessionIdInvalid,
+		StatusCodes.Bad_TcpSecureChannelUnknown,
+	};
+
+	/** Initial delay of a reconnect after a failed one, in milliseconds */
+	static final long MIN_RETRY_DELAY = 500;
+	/** Max delay of a reconnect, in milliseconds */
+	static final long MAX_RETRY_DELAY = 30000;
+
+	final ChannelFactory factory;
+	final Executor executor;
+	final Slot[] slots;
+	volatile Striping striping = Striping.LeastOutstanding;
+	volatile boolean closed;
+	final AtomicLong replacements = new AtomicLong();
+
+	/**
+	 * Create a new pool. The channels are opened with {@link #open()} and
+	 * warmed up and replaced in the blocking work executor of the stack.
+	 *
+	 * @param factory channel factory
+	 * @param size number of channels
+	 */
+	public RequestChannelPool(ChannelFactory factory, int size)
+	{
+		this(factory, size, StackUtils.getBlockingWorkExecutor());
+	}
+
+	/**
+	 * Create a new pool.
+	 *
+	 * @param factory channel factory
+	 * @param size number of channels
+	 * @param executor executor that opens and closes the channels in the background
+	 */
+	public RequestChannelPool(ChannelFactory factory, int size, Executor executor)
+	{
+		super();
+		if (factory==null || executor==null) throw new IllegalArgumentException("null");
+		if (size<1) throw new IllegalArgumentException("size must be at least 1");
+		this.factory = factory;
+		this.executor = executor;
+		slots = new Slot[size];
+		for (int i=0; i<size; i++)
+			slots[i] = new Slot(i);
+		setRequestChannel(this);
+	}
+
+	/**
+	 * Open the first channel and start opening the others in the background.
+	 *
+	 * @throws ServiceResultException if the first channel cannot be opened
+	 */
+	public void open() throws ServiceResultException
+	{
+		Slot first = slots[0];
+		if (first.member.get()==null && first.connecting.compareAndSet(false, true)) {
+			try {
+				first.install(factory.createChannel());
+			} finally {
+				first.connecting.set(false);
+			}
+		}
+		for (Slot s : slots)
+			s.connect();
+	}
+
+	/**
+	 * Close all channels of the pool. Requests made after this fail with
+	 * Bad_ServerNotConnected.
+	 */
+	public void close()
+	{
+		closed = true;
+		for (Slot s : slots) {
+			Member m = s.member.getAndSet(null);
+			if (m!=null) factory.closeChannel(m.channel);
+		}
+	}
+
+	/**
+	 * Set how the requests without an affinity key are assigned to the channels.
+	 *
+	 * @param striping striping, default is {@link Striping#LeastOutstanding}
+	 */
+	public void setStriping(Striping striping)
+	{
+		if (striping==null) throw new IllegalArgumentException("null");
+		this.striping = striping;
+	}
+
+	/**
+	 * <p>getStriping.</p>
+	 *
+	 * @return striping of the requests without an affinity key
+	 */
+	public Striping getStriping()
+	{
+		return striping;
+	}
+
+	/**
+	 * <p>getSize.</p>
+	 *
+	 * @return the number of channels in the pool
+	 */
+	public int getSize()
+	{
+		return slots.length;
+	}
+
+	/**
+	 * <p>getOpenChannelCount.</p>
+	 *
+	 * @return the number of channels that are open
+	 */
+	public int getOpenChannelCount()
+	{
+		int result = 0;
+		for (Slot s : slots)
+			if (s.member.get()!=null) result++;
+		return result;
+	}
+
+	/**
+	 * <p>getOutstandingRequestCount.</p>
+	 *
+	 * @return the number of requests that wait for a response
+	 */
+	public int getOutstandingRequestCount()
+	{
+		int result = 0;
+		for (Slot s : slots) {
+			Member m = s.member.get();
+			if (m!=null) result += m.outstanding.get();
+		}
+		return result;
+	}
+
+	/**
+	 * <p>getReplacementCount.</p>
+	 *
+	 * @return the number of channels that have been replaced after a failure
+	 */
+	public long getReplacementCount()
+	{
+		return replacements.get();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public IEncodeable serviceRequest(ServiceRequest request) throws ServiceResultException
+	{
+		return serviceRequest(request, null);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public AsyncResult<ServiceResponse> serviceRequestAsync(ServiceRequest request)
+	{
+		return serviceRequestAsync(request, null);
+	}
+
+	/**
+	 * Send a request over the channel of an affinity key. The requests with
+	 * equal keys go to the same channel while it is open.
+	 *
+	 * @param request the request
+	 * @param affinityKey the key, or null to use the striping of the pool
+	 * @return the response
+	 * @throws ServiceResultException if error
+	 */
+	public IEncodeable serviceRequest(ServiceRequest request, Object affinityKey) throws ServiceResultException
+	{
+		Member m = select(affinityKey);
+		m.outstanding.incrementAndGet();
+		try {
+			return m.channel.serviceRequest(request);
+		} catch (ServiceResultException e) {
+			m.check(e);
+			throw e;
+		} finally {
+			m.outstanding.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Asynchronous operation to send a request over the channel of an
+	 * affinity key.
+	 *
+	 * @param request the request
+	 * @param affinityKey the key, or null to use the striping of the pool
+	 * @return the result
+	 */
+	public AsyncResult<ServiceResponse> serviceRequestAsync(ServiceRequest request, Object affinityKey)
+	{
+		final AsyncResultImpl<ServiceResponse> result = new AsyncResultImpl<ServiceResponse>();
+		final Member m;
+		try {
+			m = select(affinityKey);
+		} catch (ServiceResultException e) {
+			result.setError(e);
+			return result;
+		}
+		m.outstanding.incrementAndGet();
+		AsyncResult<ServiceResponse> r;
+		try {
+			r = m.channel.serviceRequestAsync(request);
+		} catch (RuntimeException e) {
+			m.outstanding.decrementAndGet();
+			throw e;
+		}
+		r.setListener(new ResultListener<ServiceResponse>() {
+			@Override
+			public void onCompleted(ServiceResponse response) {
+				m.outstanding.decrementAndGet();
+				result.setResult(response);
+			}
+			@Override
+			public void onError(ServiceResultException error) {
+				m.outstanding.decrementAndGet();
+				m.check(error);
+				result.setError(error);
+			}});
+		return result;
+	}
+
+	Member select(Object affinityKey) throws ServiceResultException
+	{
+		if (closed)
+			throw new ServiceResultException(StatusCodes.Bad_ServerNotConnected, "The channel pool is closed");
+		if (affinityKey==null && striping==Striping.ThreadAffinity)
+			affinityKey = Thread.currentThread();
+		Member result = null;
+		int n = slots.length;
+		if (affinityKey!=null) {
+			int start = (affinityKey.hashCode() & 0x7fffffff) % n;
+			for (int i=0; i<n; i++) {
+				Slot s = slots[(start+i) % n];
+				Member m = s.member.get();
+				if (m==null) s.connect();
+				else if (result==null) result = m;
+			}
+		} else {
+			int min = Integer.MAX_VALUE;
+			for (Slot s : slots) {
+				Member m = s.member.get();
+				if (m==null) {
+					s.connect();
+					continue;
+				}
+				int outstanding = m.outstanding.get();
+				if (outstanding<min) {
+					min = outstanding;
+					result = m;
+				}
+			}
+		}
+		if (result==null)
+			throw new ServiceResultException(StatusCodes.Bad_ServerNotConnected, "No open channel in the pool");
+		return result;
+	}
+
+	static boolean isChannelLost(ServiceResultException e)
+	{
+		UnsignedInteger code = e.getStatusCode().getValue();
+		for (UnsignedInteger c : CHANNEL_LOST)
+			if (c.equals(code)) return true;
+		return false;
+	}
+
+	/**
+	 * A place of a channel in the pool.
+	 */
+	class Slot {
+		final int index;
+		final AtomicReference<Member> member = new AtomicReference<Member>();
+		final AtomicBoolean connecting = new AtomicBoolean();
+		volatile long retryTime;
+		volatile long retryDelay = MIN_RETRY_DELAY;
+
+		Slot(int index) {
+			this.index = index;
+		}
+
+		/**
+		 * Start opening a channel in the background, unless this slot has a
+		 * channel, is already opening one or waits for the retry time.
+		 */
+		void connect() {
+			if (closed || member.get()!=null || System.currentTimeMillis()<retryTime) return;
+			if (!connecting.compareAndSet(false, true)) return;
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						install(factory.createChannel());
+						retryDelay = MIN_RETRY_DELAY;
+					} catch (ServiceResultException e) {
+						LOGGER.warn("Failed to open channel {} of pool: {}", index, e.getMessage());
+						retryTime = System.currentTimeMillis() + retryDelay;
+						retryDelay = Math.min(retryDelay*2, MAX_RETRY_DELAY);
+					} catch (RuntimeException e) {
+						LOGGER.error("Failed to open channel "+index+" of pool", e);
+						retryTime = System.currentTimeMillis() + retryDelay;
+						retryDelay = Math.min(retryDelay*2, MAX_RETRY_DELAY);
+					} finally {
+						connecting.set(false);
+					}
+				}});
+		}
+
+		void install(RequestChannel channel) {
+			if (closed || !member.compareAndSet(null, new Member(this, channel))) {
+				factory.closeChannel(channel);
+				return;
+			}
+			// The pool may have been closed meanwhile
+			if (closed) {
+				Member m = member.getAndSet(null);
+				if (m!=null) factory.closeChannel(m.channel);
+			}
+		}
+
+		void replace(final Member m) {
+			if (!member.compareAndSet(m, null)) return;
+			replacements.incrementAndGet();
+			LOGGER.info("Replacing lost channel {} of pool", index);
+			executor.execute(new Runnable() {
+				@Override
+				public void run() {
+					factory.closeChannel(m.channel);
+				}});
+			connect();
+		}
+	}
+
+	/**
+	 * An open channel of the pool.
+	 */
+	static class Member {
+		final Slot slot;
+		final RequestChannel channel;
+		final AtomicInteger outstanding = new AtomicInteger();
+
+		Member(Slot slot, RequestChannel channel) {
+			this.slot = slot;
+			this.channel = channel;
+		}
+
+		void check(ServiceResultException e) {
+			if (isChannelLost(e)) slot.replace(this);
+		}
+	}
+
+}
@@ -32,6 +32,7 @@ import org.opcfoundation.ua.utils.*;
 import java.net.*;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 /**
  * This object represents a service server. It is an application that responds
@@ -73,6 +74,11 @@ public class Server {
      */
     protected List<UserTokenPolicy> userTokenPolicies = new CopyOnWriteArrayList<UserTokenPolicy>();
 
+    /**
+     * Modification count of the user token policies
+     */
+    private final AtomicInteger userTokenPolicyVersion = new AtomicInteger();
+
     /**
      * Endpoints
      */
@@ -140,7 +146,17 @@ public class Server {
      */
     public synchronized void setEndpointBindings(EndpointBindingCollection newBindings) {
         this.endpointBindings = newBindings;
-        endpointDiscoveryService.endpointBindings = newBindings;
+        endpointDiscoveryService.setEndpointBindingCollection(newBindings);
+    }
+
+    /**
+     * Get a number that changes when the data that this server publishes in
+     * its endpoint descriptions changes, other than the endpoint bindings.
+     *
+     * @return modification count of the user token policies and of the application
+     */
+    int getDescriptionVersion() {
+        return userTokenPolicyVersion.get() + application.getDescriptionVersion();
     }
 
     /**
@@ -246,6 +262,7 @@ public class Server {
      */
     public void addUserTokenPolicy(UserTokenPolicy policy) {
         this.userTokenPolicies.add(policy);
+        userTokenPolicyVersion.incrementAndGet();
     }
 
     /**
@@ -254,7 +271,8 @@ public class Server {
      * @param policy a {@link org.opcfoundation.ua.core.UserTokenPolicy} object.
      */
     public void removeUserTokenPolicy(UserTokenPolicy policy) {
-        this.userTokenPolicies.remove(policy);
+        if (this.userTokenPolicies.remove(policy))
+            userTokenPolicyVersion.incrementAndGet();
     }
 
     /**
@@ -12,12 +12,15 @@
 
 package org.opcfoundation.ua.application;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,6 +30,7 @@ import org.slf4j.LoggerFactory;
 import org.opcfoundation.ua.builtintypes.ServiceRequest;
 import org.opcfoundation.ua.common.ServiceFaultException;
 import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.core.EncodeableSerializer;
 import org.opcfoundation.ua.core.ServiceFault;
 import org.opcfoundation.ua.core.SessionServiceSetHandler;
 import org.opcfoundation.ua.core.StatusCodes;
@@ -65,6 +69,11 @@ public class ServiceHandlerComposition implements ServiceHandler {
 	Map<Class<? extends IEncodeable>, Object> handlerMap2 = 
 		new HashMap<Class<? extends IEncodeable>, Object>();
 	ServiceHandler[] handlers;
+
+	/** Serializer that assigns the type indices used in dispatch */
+	final EncodeableSerializer serializer = EncodeableSerializer.getInstance();
+	/** Handlers indexed by the type index of the request's binary encoding id */
+	volatile ServiceHandler[] dispatchTable = new ServiceHandler[0];
 	
 	/**
 	 * <p>Constructor for ServiceHandlerComposition.</p>
@@ -112,6 +121,22 @@ public class ServiceHandlerComposition implements ServiceHandler {
 			readWithReflection(o, this);
 		}
 		handlers = handlerMap.values().toArray(new ServiceHandler[0]);
+		updateDispatchTable();
+	}
+
+	private void updateDispatchTable()
+	{
+		// Looking up the type indices may add serializers, so the table is sized after
+		Map<Integer, ServiceHandler> indices = new HashMap<Integer, ServiceHandler>();
+		for (Map.Entry<Class<? extends IEncodeable>, ServiceHandler> e : handlerMap.entrySet())
+		{
+			int index = serializer.getTypeIndex(e.getKey());
+			if (index>=0) indices.put(index, e.getValue());
+		}
+		ServiceHandler[] table = new ServiceHandler[serializer.getTypeCount()];
+		for (Map.Entry<Integer, ServiceHandler> e : indices.entrySet())
+			table[e.getKey()] = e.getValue();
+		dispatchTable = table;
 	}
 	
 	/**
@@ -128,17 +153,20 @@ public class ServiceHandlerComposition implements ServiceHandler {
 	@Override
 	public void serve(EndpointServiceRequest<?, ?> request) throws ServiceResultException 
 	{
-		//Check isDebugEnabled() left here for possible performance reasons.
-		if (log.isDebugEnabled()) {
-			log.debug("serve: {}", request.getRequest().getClass().getSimpleName());
-			log.debug("serve: handlerMap={}", Arrays.toString(handlerMap.keySet().toArray(new Class[0])));
-		}
-		ServiceHandler handler = handlerMap.get(request.getRequest().getClass());
-		log.debug("serve: handler={}", handler);
+		ServiceRequest serviceRequest = request.getRequest();
+		ServiceHandler handler = null;
+		ServiceHandler[] table = dispatchTable;
+		int index = serializer.getTypeIndex(serviceRequest.getBinaryEncodeId());
+		if (index>=0 && index<table.length) 
+			handler = table[index];
+		// Request types that are not known to the serializer
+		if (handler==null)
+			handler = handlerMap.get(serviceRequest.getClass());
+		log.debug("serve: {} handler={}", serviceRequest.getClass().getSimpleName(), handler);
 		if (handler==null) {						
-			log.info("Service {} is not supported", request.getRequest().getClass().getSimpleName());
+			log.info("Service {} is not supported", serviceRequest.getClass().getSimpleName());
 			sendErrorResponse(request, new ServiceResultException(StatusCodes.Bad_ServiceUnsupported,
-					request.getRequest().getClass().getSimpleName()));
+					serviceRequest.getClass().getSimpleName()));
 			return;
 		}
 		try {
@@ -228,28 +256,79 @@ public class ServiceHandlerComposition implements ServiceHandler {
 			if (!m.isAccessible())
 				throw new Error(clazz.getName() +"."+ m.getName()+" is not accessible to be used as a service handler");
 			
+			final ServiceMethod method = bind(serviceHandler, m);
 			ServiceHandler h = new AbstractServiceHandler(req) {
 				@Override
 				public void serve(EndpointServiceRequest<?, ?> request) throws ServiceResultException {
 					try {
-						m.invoke(serviceHandler, request);
-					} catch (IllegalArgumentException e) {
-						throw new Error(e);
-					} catch (IllegalAccessException e) {
-						throw new Error(e);
-					} catch (InvocationTargetException e) {
-						Throwable e2 = e.getCause() != null ? e.getCause() : e;
-
+						method.invoke(request);
+					} catch (ServiceResultException e) {
+						throw e;
+					} catch (Throwable e) {
 						// Throw error in service handling as a service result exception which will 
 						// be adapted to a service response object.
-						if (e2 instanceof ServiceResultException) throw (ServiceResultException) e2;
-						else throw new ServiceFaultException(e2);						
+						throw new ServiceFaultException(e);						
 					}
 				}};
 			result.add( h );
 			result.handlerMap2.put(req, serviceHandler);
 		}		
 	}
-	
-	
+
+	/**
+	 * Call site of a service handling method, bound to the handler object.
+	 */
+	interface ServiceMethod {
+		void invoke(EndpointServiceRequest<?, ?> request) throws Throwable;
+	}
+
+	/**
+	 * Compile a service handling method into a {@link ServiceMethod}. The method 
+	 * is bound once with {@link LambdaMetafactory} so that it is called directly.
+	 * Methods that the metafactory cannot access, e.g. methods of anonymous classes
+	 * of other packages or classes of other class loaders, are called through a 
+	 * bound {@link MethodHandle} instead.
+	 *
+	 * @param serviceHandler object that implements the method
+	 * @param m an accessible service handling method
+	 * @return bound service method
+	 */
+	static ServiceMethod bind(Object serviceHandler, Method m)
+	{
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		final MethodHandle mh;
+		try {
+			mh = lookup.unreflect(m);
+		} catch (IllegalAccessException e) {
+			throw new Error(e);
+		}
+		Class<?> paramType = m.getParameterTypes()[0];
+		if (isVisible(m.getDeclaringClass()) && isVisible(paramType)) try {
+			CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", 
+					MethodType.methodType(ServiceMethod.class, serviceHandler.getClass()),
+					MethodType.methodType(void.class, EndpointServiceRequest.class),
+					mh, MethodType.methodType(void.class, paramType));
+			return (ServiceMethod) site.getTarget().invoke(serviceHandler);
+		} catch (Throwable e) {
+			log.debug("Using method handle for {}.{}: {}", serviceHandler.getClass().getName(), m.getName(), e.toString());
+		}
+		final MethodHandle bound = mh.bindTo(serviceHandler)
+				.asType(MethodType.methodType(void.class, EndpointServiceRequest.class));
+		return new ServiceMethod() {
+			@Override
+			public void invoke(EndpointServiceRequest<?, ?> request) throws Throwable {
+				bound.invokeExact(request);
+			}
+		};
+	}
+
+	private static boolean isVisible(Class<?> clazz)
+	{
+		try {
+			return Class.forName(clazz.getName(), false, ServiceHandlerComposition.class.getClassLoader()) == clazz;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
 }
@@ -12,6 +12,7 @@
 
 package org.opcfoundation.ua.builtintypes;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.opcfoundation.ua.utils.CryptoUtil;
@@ -22,6 +23,11 @@ import org.opcfoundation.ua.utils.CryptoUtil;
  * 
  * Also the constructor is private to avoid situations where the given value would be null,
  * now the static factory methods returns null if given ByteString Null equivalent byte[].
+ * <p>
+ * A ByteString created with {@link #view(byte[], int, int)} refers to a range of an
+ * existing array without copying it, e.g. to a range of a received message. The
+ * bytes are copied only when they escape with {@link #getValue()}. Encoders write
+ * the range with a bulk put using {@link #asByteBuffer()}.
  */
 public final class ByteString implements Comparable<ByteString>{
 
@@ -49,24 +55,73 @@ public final class ByteString implements Comparable<ByteString>{
     if(byteArray.length == 0){
       return EMPTY;
     }
-    return new ByteString(byteArray);
+    return new ByteString(Arrays.copyOf(byteArray, byteArray.length), 0, byteArray.length);
+  }
+  
+  /**
+   * Creates a ByteString that refers to a range of an array without copying it.
+   * The range must not be modified while the ByteString is in use.
+   * 
+   * @param array the byte array
+   * @param offset offset of the range
+   * @param length length of the range
+   * @return new ByteString or null if given null array
+   */
+  public static ByteString view(byte[] array, int offset, int length){
+    if(array == null){
+      return null;
+    }
+    if(offset < 0 || length < 0 || offset > array.length - length){
+      throw new IndexOutOfBoundsException(offset + "+" + length + " > " + array.length);
+    }
+    if(length == 0){
+      return EMPTY;
+    }
+    return new ByteString(array, offset, length);
+  }
+  
+  /**
+   * Creates a ByteString of the remaining bytes of a buffer. The bytes of an array
+   * backed buffer are not copied and must not be modified while the ByteString
+   * is in use; the bytes of a direct or read-only buffer are copied. The position
+   * of the buffer is not changed.
+   * 
+   * @param buffer the buffer
+   * @return new ByteString or null if given null buffer
+   */
+  public static ByteString view(ByteBuffer buffer){
+    if(buffer == null){
+      return null;
+    }
+    if(buffer.hasArray()){
+      return view(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+    byte[] copy = new byte[buffer.remaining()];
+    buffer.duplicate().get(copy);
+    return view(copy, 0, copy.length);
   }
   
   /**
    * ByteString instance that models empty ByteString.
    */
-  public static final ByteString EMPTY = new ByteString(new byte[0]);
+  public static final ByteString EMPTY = new ByteString(new byte[0], 0, 0);
   
   private final byte[] value;
+  private final int offset;
+  private final int length;
   
   /**
-   * Create new ByteString from an array of bytes. 
-   * NOTE! the given array is copied.
+   * Create new ByteString of a range of an array of bytes. 
+   * NOTE! the given array is not copied.
    * 
    * @param value value, shall not be null
+   * @param offset offset of the range
+   * @param length length of the range
    */
-  private ByteString(byte[] value) {
-    this.value = Arrays.copyOf(value, value.length);
+  private ByteString(byte[] value, int offset, int length) {
+    this.value = value;
+    this.offset = offset;
+    this.length = length;
   }
   
   @Override
@@ -78,8 +133,11 @@ public final class ByteString implements Comparable<ByteString>{
     if (getClass() != obj.getClass())
       return false;
     ByteString other = (ByteString) obj;
-    if (!Arrays.equals(value, other.value))
+    if (length != other.length)
       return false;
+    for (int i = 0; i < length; i++)
+      if (value[offset + i] != other.value[other.offset + i])
+        return false;
     return true;
   }
 
@@ -89,7 +147,16 @@ public final class ByteString implements Comparable<ByteString>{
    * @return copy of the value as byte array. Not null.
    */
   public byte[] getValue(){
-    return Arrays.copyOf(value, value.length);
+    return Arrays.copyOfRange(value, offset, offset + length);
+  }
+  
+  /**
+   * Get the value of this ByteString as a read-only buffer without copying it.
+   * 
+   * @return read-only buffer with the bytes between position and limit
+   */
+  public ByteBuffer asByteBuffer(){
+    return ByteBuffer.wrap(value, offset, length).asReadOnlyBuffer();
   }
   
   /**
@@ -98,20 +165,21 @@ public final class ByteString implements Comparable<ByteString>{
    * @return
    */
   public int getLength(){
-    return value.length;
+    return length;
   }
 
   @Override
   public int hashCode() {
-    final int prime = 31;
+    // Same as 31 + Arrays.hashCode(getValue())
     int result = 1;
-    result = prime * result + Arrays.hashCode(value);
-    return result;
+    for (int i = offset; i < offset + length; i++)
+      result = 31 * result + value[i];
+    return 31 + result;
   }
 
   @Override
   public String toString() {
-    return CryptoUtil.toHex(value, 0);
+    return CryptoUtil.toHex(offset == 0 && length == value.length ? value : getValue(), 0);
   }
 
 @Override
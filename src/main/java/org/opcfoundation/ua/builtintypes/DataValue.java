@@ -19,19 +19,37 @@ import org.opcfoundation.ua.utils.ObjectUtils;
 
 /**
  * <p>DataValue class.</p>
- *
+ * <p>
+ * The status code, timestamps and picoseconds are stored as primitive values.
+ * The {@link StatusCode} and {@link DateTime} objects are created only when
+ * they are requested, and encoders may use the primitive getters, such as
+ * {@link #getSourceTimestampValue()}, to avoid creating them at all.
  */
 public class DataValue implements Cloneable {
 
 	/** Constant <code>ID</code> */
 	public static final NodeId ID = Identifiers.DataValue;
 	
+	/** Bits of {@link #nulls} */
+	private static final int NULL_STATUS_CODE = 1;
+	private static final int NULL_SOURCE_TIMESTAMP = 2;
+	private static final int NULL_SERVER_TIMESTAMP = 4;
+	private static final int NULL_SOURCE_PICOSECONDS = 8;
+	private static final int NULL_SERVER_PICOSECONDS = 16;
+
 	Variant value;
-    StatusCode statusCode;
-    DateTime sourceTimestamp;
-    UnsignedShort sourcePicoseconds;
-    DateTime serverTimestamp;
-    UnsignedShort serverPicoseconds;
+	int statusCode;
+	long sourceTimestamp;
+	int sourcePicoseconds;
+	long serverTimestamp;
+	int serverPicoseconds;
+	/** Fields that are null */
+	int nulls;
+
+	/** Objects created of the primitive values */
+	StatusCode statusCodeObject;
+	DateTime sourceTimestampObject;
+	DateTime serverTimestampObject;
 
 	/**
 	 * <p>Constructor for DataValue.</p>
@@ -52,13 +70,36 @@ public class DataValue implements Cloneable {
      */
     public DataValue(Variant value, StatusCode statusCode, DateTime sourceTimestamp, UnsignedShort sourcePicoseconds, DateTime serverTimestamp, UnsignedShort serverPicoseconds) {
         super();
+		setStatusCode(statusCode);
+		setSourceTimestamp(sourceTimestamp);
+		setServerTimestamp(serverTimestamp);
+		setSourcePicoseconds(sourcePicoseconds == null ? UnsignedShort.ZERO : sourcePicoseconds);
+		setServerPicoseconds(serverPicoseconds == null ? UnsignedShort.ZERO : serverPicoseconds);
+		setValue(value);
+	}
+
+	/**
+	 * Constructor for DataValue of primitive values. A timestamp value of 0
+	 * ({@link DateTime#MIN_VALUE}) means that the timestamp is not set.
+	 *
+	 * @param value the value
+	 * @param statusCode the status code bits, see {@link StatusCode#getValueAsIntBits()}
+	 * @param sourceTimestamp the source timestamp in 100 nanosecond intervals, see {@link DateTime#getValue()}
+	 * @param sourcePicoseconds the source picoseconds
+	 * @param serverTimestamp the server timestamp in 100 nanosecond intervals, see {@link DateTime#getValue()}
+	 * @param serverPicoseconds the server picoseconds
+	 */
+	public DataValue(Variant value, int statusCode, long sourceTimestamp, int sourcePicoseconds, long serverTimestamp, int serverPicoseconds) {
+		super();
         this.statusCode = statusCode;
         this.sourceTimestamp = sourceTimestamp;
+		this.sourcePicoseconds = sourcePicoseconds & 0xFFFF;
         this.serverTimestamp = serverTimestamp;
-		this.sourcePicoseconds = sourcePicoseconds == null ? UnsignedShort.ZERO
-				: sourcePicoseconds;
-		this.serverPicoseconds = serverPicoseconds == null ? UnsignedShort.ZERO
-				: serverPicoseconds;
+		this.serverPicoseconds = serverPicoseconds & 0xFFFF;
+		if (sourceTimestamp == 0)
+			nulls |= NULL_SOURCE_TIMESTAMP;
+		if (serverTimestamp == 0)
+			nulls |= NULL_SERVER_TIMESTAMP;
         setValue(value);
     }
 
@@ -108,7 +149,11 @@ public class DataValue implements Cloneable {
 	 * @return a {@link org.opcfoundation.ua.builtintypes.DateTime} object.
 	 */
 	public DateTime getServerTimestamp() {
-        return serverTimestamp;
+		if ((nulls & NULL_SERVER_TIMESTAMP) != 0)
+			return null;
+		if (serverTimestampObject == null)
+			serverTimestampObject = toDateTime(serverTimestamp);
+		return serverTimestampObject;
     }
 
     /**
@@ -117,7 +162,18 @@ public class DataValue implements Cloneable {
      * @param serverTimestamp a {@link org.opcfoundation.ua.builtintypes.DateTime} object.
      */
     public void setServerTimestamp(DateTime serverTimestamp) {
-        this.serverTimestamp = serverTimestamp;
+		this.serverTimestampObject = serverTimestamp;
+		this.serverTimestamp = serverTimestamp == null ? 0 : serverTimestamp.getValue();
+		nulls = serverTimestamp == null ? nulls | NULL_SERVER_TIMESTAMP : nulls & ~NULL_SERVER_TIMESTAMP;
+	}
+
+	/**
+	 * Get the server timestamp in 100 nanosecond intervals.
+	 *
+	 * @return the timestamp, or 0 if it is null
+	 */
+	public long getServerTimestampValue() {
+		return serverTimestamp;
     }
 
     /**
@@ -126,7 +182,11 @@ public class DataValue implements Cloneable {
      * @return a {@link org.opcfoundation.ua.builtintypes.DateTime} object.
      */
     public DateTime getSourceTimestamp() {
-        return sourceTimestamp;
+		if ((nulls & NULL_SOURCE_TIMESTAMP) != 0)
+			return null;
+		if (sourceTimestampObject == null)
+			sourceTimestampObject = toDateTime(sourceTimestamp);
+		return sourceTimestampObject;
     }
 
     /**
@@ -135,7 +195,18 @@ public class DataValue implements Cloneable {
      * @param sourceTimestamp a {@link org.opcfoundation.ua.builtintypes.DateTime} object.
      */
     public void setSourceTimestamp(DateTime sourceTimestamp) {
-        this.sourceTimestamp = sourceTimestamp;
+		this.sourceTimestampObject = sourceTimestamp;
+		this.sourceTimestamp = sourceTimestamp == null ? 0 : sourceTimestamp.getValue();
+		nulls = sourceTimestamp == null ? nulls | NULL_SOURCE_TIMESTAMP : nulls & ~NULL_SOURCE_TIMESTAMP;
+	}
+
+	/**
+	 * Get the source timestamp in 100 nanosecond intervals.
+	 *
+	 * @return the timestamp, or 0 if it is null
+	 */
+	public long getSourceTimestampValue() {
+		return sourceTimestamp;
     }
 
     /**
@@ -144,7 +215,11 @@ public class DataValue implements Cloneable {
      * @return a {@link org.opcfoundation.ua.builtintypes.StatusCode} object.
      */
     public StatusCode getStatusCode() {
-        return statusCode;
+		if ((nulls & NULL_STATUS_CODE) != 0)
+			return null;
+		if (statusCodeObject == null)
+			statusCodeObject = StatusCode.getFromBits(statusCode);
+		return statusCodeObject;
     }
 
     /**
@@ -153,7 +228,9 @@ public class DataValue implements Cloneable {
      * @param statusCode a {@link org.opcfoundation.ua.builtintypes.StatusCode} object.
      */
     public void setStatusCode(StatusCode statusCode) {
-        this.statusCode = statusCode;
+		this.statusCodeObject = statusCode;
+		this.statusCode = statusCode == null ? StatusCode.SEVERITY_GOOD : statusCode.getValueAsIntBits();
+		nulls = statusCode == null ? nulls | NULL_STATUS_CODE : nulls & ~NULL_STATUS_CODE;
     }
 
 	/**
@@ -162,7 +239,16 @@ public class DataValue implements Cloneable {
 	 * @param value a {@link org.opcfoundation.ua.builtintypes.UnsignedInteger} object.
 	 */
 	public void setStatusCode(UnsignedInteger value) {
-		setStatusCode(new StatusCode(value));
+		setStatusCode(StatusCode.getFromBits(value.intValue()));
+	}
+
+	/**
+	 * Get the bits of the status code.
+	 *
+	 * @return the status code bits, or the bits of {@link StatusCode#GOOD} if it is null
+	 */
+	public int getStatusCodeAsIntBits() {
+		return statusCode;
 	}
 
 	/**
@@ -200,11 +286,11 @@ public class DataValue implements Cloneable {
     public int hashCode() {
     	return 
 		ObjectUtils.hashCode(value) |
-		ObjectUtils.hashCode(statusCode) |
-		ObjectUtils.hashCode(sourceTimestamp) |
-		ObjectUtils.hashCode(sourcePicoseconds) |
-		ObjectUtils.hashCode(serverTimestamp) |
-		ObjectUtils.hashCode(serverPicoseconds);
+		statusCode |
+		(int) (sourceTimestamp ^ (sourceTimestamp >> 32)) |
+		sourcePicoseconds |
+		(int) (serverTimestamp ^ (serverTimestamp >> 32)) |
+		serverPicoseconds;
     }
     
     /** {@inheritDoc} */
@@ -213,12 +299,13 @@ public class DataValue implements Cloneable {
     	if (!(obj instanceof DataValue)) return false;
     	DataValue o = (DataValue) obj;
     	return 
-			ObjectUtils.objectEquals(o.value, value) &&
-			ObjectUtils.objectEquals(o.statusCode, statusCode) &&
-			ObjectUtils.objectEquals(o.sourceTimestamp, sourceTimestamp) &&
-			ObjectUtils.objectEquals(o.serverTimestamp, serverTimestamp) &&
-			ObjectUtils.objectEquals(o.sourcePicoseconds, sourcePicoseconds) &&
-			ObjectUtils.objectEquals(o.serverPicoseconds, serverPicoseconds);		
+			o.nulls == nulls &&
+			o.statusCode == statusCode &&
+			o.sourceTimestamp == sourceTimestamp &&
+			o.serverTimestamp == serverTimestamp &&
+			o.sourcePicoseconds == sourcePicoseconds &&
+			o.serverPicoseconds == serverPicoseconds &&
+			ObjectUtils.objectEquals(o.value, value);
     }
     
     /**
@@ -227,7 +314,9 @@ public class DataValue implements Cloneable {
      * @return a {@link org.opcfoundation.ua.builtintypes.UnsignedShort} object.
      */
     public UnsignedShort getSourcePicoseconds() {
-		return sourcePicoseconds;
+		if ((nulls & NULL_SOURCE_PICOSECONDS) != 0)
+			return null;
+		return UnsignedShort.valueOf(sourcePicoseconds);
 	}
 
 	/**
@@ -236,7 +325,17 @@ public class DataValue implements Cloneable {
 	 * @param sourcePicoseconds a {@link org.opcfoundation.ua.builtintypes.UnsignedShort} object.
 	 */
 	public void setSourcePicoseconds(UnsignedShort sourcePicoseconds) {
-		this.sourcePicoseconds = sourcePicoseconds;
+		this.sourcePicoseconds = sourcePicoseconds == null ? 0 : sourcePicoseconds.getValue();
+		nulls = sourcePicoseconds == null ? nulls | NULL_SOURCE_PICOSECONDS : nulls & ~NULL_SOURCE_PICOSECONDS;
+	}
+
+	/**
+	 * Get the source picoseconds.
+	 *
+	 * @return the picoseconds, or 0 if they are null
+	 */
+	public int getSourcePicosecondsValue() {
+		return sourcePicoseconds;
 	}
 
 	/**
@@ -245,7 +344,9 @@ public class DataValue implements Cloneable {
 	 * @return a {@link org.opcfoundation.ua.builtintypes.UnsignedShort} object.
 	 */
 	public UnsignedShort getServerPicoseconds() {
-		return serverPicoseconds;
+		if ((nulls & NULL_SERVER_PICOSECONDS) != 0)
+			return null;
+		return UnsignedShort.valueOf(serverPicoseconds);
 	}
 
 	/**
@@ -254,7 +355,25 @@ public class DataValue implements Cloneable {
 	 * @param serverPicoseconds a {@link org.opcfoundation.ua.builtintypes.UnsignedShort} object.
 	 */
 	public void setServerPicoseconds(UnsignedShort serverPicoseconds) {
-		this.serverPicoseconds = serverPicoseconds;
+		this.serverPicoseconds = serverPicoseconds == null ? 0 : serverPicoseconds.getValue();
+		nulls = serverPicoseconds == null ? nulls | NULL_SERVER_PICOSECONDS : nulls & ~NULL_SERVER_PICOSECONDS;
+	}
+
+	/**
+	 * Get the server picoseconds.
+	 *
+	 * @return the picoseconds, or 0 if they are null
+	 */
+	public int getServerPicosecondsValue() {
+		return serverPicoseconds;
+	}
+
+	private static DateTime toDateTime(long value) {
+		if (value == 0)
+			return DateTime.MIN_VALUE;
+		if (value == DateTime.MAX_VALUE.getValue())
+			return DateTime.MAX_VALUE;
+		return new DateTime(value);
 	}
 	
 	/** {@inheritDoc} */
@@ -263,11 +382,11 @@ public class DataValue implements Cloneable {
 		StringBuilder sb = new StringBuilder();
 		sb.append("DataValue(");
 		sb.append("value="+value);
-		sb.append(", statusCode="+statusCode);
-		sb.append(", sourceTimestamp="+sourceTimestamp);
-		sb.append(", sourcePicoseconds="+sourcePicoseconds);
-		sb.append(", serverTimestamp="+serverTimestamp);
-		sb.append(", serverPicoseconds="+serverPicoseconds);
+		sb.append(", statusCode="+getStatusCode());
+		sb.append(", sourceTimestamp="+getSourceTimestamp());
+		sb.append(", sourcePicoseconds="+getSourcePicoseconds());
+		sb.append(", serverTimestamp="+getServerTimestamp());
+		sb.append(", serverPicoseconds="+getServerPicoseconds());
 		sb.append(")");
 		return sb.toString();
 	}
@@ -275,10 +394,12 @@ public class DataValue implements Cloneable {
 	/** {@inheritDoc} */
 	@Override
 	public Object clone() {
-		return new DataValue(getValue(),
-				getStatusCode(), getSourceTimestamp(),
-				getServerPicoseconds(),
-				getServerTimestamp(),
-				getServerPicoseconds());	}
+		DataValue result = new DataValue(value, statusCode, sourceTimestamp, sourcePicoseconds, serverTimestamp, serverPicoseconds);
+		result.nulls = nulls;
+		result.statusCodeObject = statusCodeObject;
+		result.sourceTimestampObject = sourceTimestampObject;
+		result.serverTimestampObject = serverTimestampObject;
+		return result;
+	}
 	   
 }
@@ -276,6 +276,9 @@ public class DateTime implements Serializable, Comparable<DateTime> {
 	 * Incorrect:<br>
 	 * 2002-10-09T19:00:00 </blockquote>
 	 *
+	 * A fraction of the second, for example 2002-10-09T19:00:00.1234567Z, is
+	 * read in 100 nanosecond precision.
+	 *
 	 * @param s the string to parse
 	 * @return a new DateTime value, corresponding to the timestamp
 	 * @throws java.text.ParseException if the DateTime cannot be parsed from s
@@ -292,15 +295,24 @@ public class DateTime implements Serializable, Comparable<DateTime> {
 		int hour = (l < 13) ? 0 : Integer.parseInt(s.substring(11,13));
 		int min = (l < 16) ? 0 : Integer.parseInt(s.substring(14,16));
 		int sec = (l < 19) ? 0 : Integer.parseInt(s.substring(17,19));
+		// Parse the fraction of the second, in up to 100 nanosecond precision
+		int nanos = 0;
+		int i = 19;
+		if (l > 20 && s.charAt(19) == '.') {
+			i = 20;
+			while (i < l && Character.isDigit(s.charAt(i)))
+				i++;
+			nanos = Integer.parseInt((s.substring(20, Math.min(i, 29)) + "00000000").substring(0, 9));
+		}
 		// Parse the timezone
 		TimeZone timeZone = UTC;
-		if (l > 19) {
-			String tz = s.substring(19);
+		if (l > i) {
+			String tz = s.substring(i);
 			if (tz.charAt(0) == '+' || tz.charAt(0) == '-')
 				tz = "GMT" + tz;
 			timeZone = TimeZone.getTimeZone(tz);
 		}
-		return new DateTime(year, month-1, day, hour, min, sec, 0, timeZone);
+		return new DateTime(year, month-1, day, hour, min, sec, nanos, timeZone);
 	}
 
 	/**
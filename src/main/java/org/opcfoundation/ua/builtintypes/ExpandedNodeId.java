@@ -279,8 +279,9 @@ public final class ExpandedNodeId implements Comparable<ExpandedNodeId>{
 			if ((namespaceUri!=null && namespaceUri != NamespaceTable.OPCUA_NAMESPACE) || !isLocal()) return false;
 			NodeId other = (NodeId) obj;
 			if (other.namespaceIndex!=namespaceIndex || other.type!=type) return false;
-			if (this.value==other.value) return true;
-			return other.value.equals(value);
+			Object otherValue = other.getValue();
+			if (this.value==otherValue) return true;
+			return otherValue.equals(value);
 		} else
 			if (obj instanceof ExpandedNodeId) {
 				ExpandedNodeId other = (ExpandedNodeId) obj;
@@ -27,6 +27,7 @@ import org.opcfoundation.ua.encoding.binary.BinaryEncoder;
 import org.opcfoundation.ua.encoding.binary.EncoderCalc;
 import org.opcfoundation.ua.encoding.binary.IEncodeableSerializer;
 import org.opcfoundation.ua.encoding.xml.XmlDecoder;
+import org.opcfoundation.ua.encoding.xml.XmlEncoder;
 import org.opcfoundation.ua.utils.StackUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,7 +61,7 @@ public class ExtensionObject {
 				return ExtensionObject.binaryEncode(encodeable, serializer, ctx);
 
 		if (encodingType.equals(QualifiedName.DEFAULT_XML_ENCODING))
-			return ExtensionObject.xmlEncode(encodeable, serializer);
+			return ExtensionObject.xmlEncode(encodeable, serializer, ctx);
 		throw new EncodingException(StatusCodes.Bad_DataEncodingUnsupported);
 	}
 	
@@ -128,12 +129,12 @@ public class ExtensionObject {
 	 *
 	 * @param encodeable encodeable
 	 * @return xml encoded encodeable
-	 * @throws org.opcfoundation.ua.encoding.EncodingException on encoding problem. Currently always, since the encoding is not supported.
+	 * @throws org.opcfoundation.ua.encoding.EncodingException on encoding problem
 	 */
 	public static ExtensionObject xmlEncode(Structure encodeable)
 	throws EncodingException
 	{
-		throw new EncodingException(StatusCodes.Bad_DataEncodingUnsupported);
+		return xmlEncode(encodeable, StackUtils.getDefaultSerializer());
 	}	
 	
 	/**
@@ -142,13 +143,32 @@ public class ExtensionObject {
 	 * @param encodeable encodeable
 	 * @param serializer serializer
 	 * @return xml encoded encodeable
-	 * @throws org.opcfoundation.ua.encoding.EncodingException on encoding problem. Currently always, since the encoding is not supported.
+	 * @throws org.opcfoundation.ua.encoding.EncodingException on encoding problem
 	 */
 	public static ExtensionObject xmlEncode(Structure encodeable, IEncodeableSerializer serializer)
 	throws EncodingException
 	{
-		throw new EncodingException(StatusCodes.Bad_DataEncodingUnsupported);
+		return xmlEncode(encodeable, serializer, new EncoderContext(NamespaceTable.getDefaultInstance(), null, serializer));
 	}		
+
+	/**
+	 * Create extension object by encoding an encodeable to xml format
+	 *
+	 * @param encodeable encodeable
+	 * @param serializer serializer
+	 * @return xml encoded encodeable
+	 * @throws org.opcfoundation.ua.encoding.EncodingException on encoding problem
+	 * @param ctx a {@link org.opcfoundation.ua.encoding.EncoderContext} object.
+	 */
+	public static ExtensionObject xmlEncode(Structure encodeable, IEncodeableSerializer serializer, EncoderContext ctx)
+	throws EncodingException
+	{
+		ctx.setEncodeableSerializer(serializer);
+		XmlEncoder enc = new XmlEncoder();
+		enc.setEncoderContext(ctx);
+		enc.putEncodeable(encodeable.getClass().getSimpleName(), encodeable);
+		return new ExtensionObject(encodeable.getXmlEncodeId(), enc.toXmlElement());
+	}
 	
 	final Object object;
 	final ExpandedNodeId typeId; // NodeId of a DataType
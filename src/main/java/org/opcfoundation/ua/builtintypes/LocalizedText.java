@@ -70,10 +70,10 @@ public final class LocalizedText {
 	public static final LocalizedText EMPTY_EN = english("");
 	
 	/** Localized text */
-	private String text;
+	private final String text;
 	
 	/** Optional locale */
-	private String locale;
+	private final String locale;
 
 	/**
 	 * Convert UA LocateId to {@link Locale} 
@@ -0,0 +1,461 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.builtintypes;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+
+import org.opcfoundation.ua.utils.MultiDimensionArrayUtils;
+import org.opcfoundation.ua.utils.NumericRange;
+
+/**
+ * Multi-dimension array of a numeric or Boolean builtin type, stored in a flat
+ * primitive array.
+ * <p>
+ * The elements are addressed with row-major strides from an offset in the
+ * data array, so {@link #slice(NumericRange)} returns a view that shares the
+ * data of this array. The data of the unsigned types is stored in the signed
+ * primitive type of the same size, e.g. UInt16 in a short[].
+ * <p>
+ * An NDArray can be used as the value of a {@link Variant}, in which case the
+ * binary encoding copies the data in bulk. {@link #toArray()} converts it to
+ * the nested array form, e.g. Float[][], that is otherwise used for
+ * multi-dimension Variant values, and {@link #fromArray(Object)} converts back.
+ * <p>
+ * The data array is not copied, so the array must not be modified while the
+ * NDArray is in use.
+ */
+public final class NDArray {
+
+	/** Primitive types of the data of the builtin types, by builtin type id */
+	private static final Class<?>[] PRIMITIVE_TYPES = {
+		null, boolean.class, byte.class, byte.class, short.class, short.class,
+		int.class, int.class, long.class, long.class, float.class, double.class
+	};
+
+	/** Classes of the elements of the builtin types, by builtin type id */
+	private static final Class<?>[] ELEMENT_CLASSES = {
+		null, Boolean.class, Byte.class, UnsignedByte.class, Short.class, UnsignedShort.class,
+		Integer.class, UnsignedInteger.class, Long.class, UnsignedLong.class, Float.class, Double.class
+	};
+
+	/** Encoded sizes of the elements of the builtin types, by builtin type id */
+	private static final int[] ELEMENT_SIZES = { 0, 1, 1, 1, 2, 2, 4, 4, 8, 8, 4, 8 };
+
+	final int builtinType;
+	final Object data;
+	final int offset;
+	final int[] dimensions;
+	final int[] strides;
+	/** Nested array form, created on demand */
+	Object array;
+
+	/**
+	 * Create an array of the signed builtin type of the data.
+	 *
+	 * @param data boolean[], byte[], short[], int[], long[], float[] or double[]
+	 * @param dimensions the lengths of the dimensions
+	 */
+	public NDArray(Object data, int... dimensions)
+	{
+		this(builtinTypeOf(data), data, dimensions);
+	}
+
+	/**
+	 * Create an array.
+	 *
+	 * @param builtinType builtin type id of the elements, Boolean (1) to Double (11)
+	 * @param data primitive array of the builtin type, see {@link #getPrimitiveType(int)}
+	 * @param dimensions the lengths of the dimensions
+	 */
+	public NDArray(int builtinType, Object data, int... dimensions)
+	{
+		this(builtinType, data, 0, dimensions.clone(), rowMajorStrides(dimensions));
+		if (data.getClass().getComponentType() != getPrimitiveType(builtinType))
+			throw new IllegalArgumentException("Data of builtin type "+builtinType+" must be "+getPrimitiveType(builtinType)+"[]");
+		if (getLength() != Array.getLength(data))
+			throw new IllegalArgumentException("The dimensions do not match the length of the data");
+	}
+
+	NDArray(int builtinType, Object data, int offset, int[] dimensions, int[] strides)
+	{
+		this.builtinType = builtinType;
+		this.data = data;
+		this.offset = offset;
+		this.dimensions = dimensions;
+		this.strides = strides;
+		for (int d : dimensions)
+			if (d < 0) throw new IllegalArgumentException("Negative dimension");
+	}
+
+	/**
+	 * Convert a (multi-dimension) array of a numeric or Boolean type, e.g.
+	 * Float[][] or float[][], to an NDArray.
+	 *
+	 * @param array the array, all arrays of a dimension must be equal in length
+	 * @return new NDArray
+	 * @throws IllegalArgumentException if the component type is not supported
+	 */
+	public static NDArray fromArray(Object array)
+	{
+		Class<?> componentType = MultiDimensionArrayUtils.getComponentType(array.getClass());
+		int builtinType = -1;
+		for (int i = 1; i < ELEMENT_CLASSES.length; i++)
+			if (ELEMENT_CLASSES[i] == componentType || (PRIMITIVE_TYPES[i] == componentType && i != 3 && i != 5 && i != 7 && i != 9))
+				builtinType = i;
+		if (builtinType < 0)
+			throw new IllegalArgumentException("NDArray cannot be "+componentType.getName());
+		int[] dims = MultiDimensionArrayUtils.getArrayLengths(array);
+		Object elements = MultiDimensionArrayUtils.muxArray(array, dims, componentType);
+		int length = Array.getLength(elements);
+		Object data = Array.newInstance(PRIMITIVE_TYPES[builtinType], length);
+		if (componentType.isPrimitive())
+			System.arraycopy(elements, 0, data, 0, length);
+		else
+			for (int i = 0; i < length; i++)
+				setBits(builtinType, data, i, Array.get(elements, i));
+		NDArray result = new NDArray(builtinType, data, dims);
+		if (!componentType.isPrimitive())
+			result.array = array;
+		return result;
+	}
+
+	/**
+	 * Get the primitive type that stores the elements of a builtin type.
+	 *
+	 * @param builtinType builtin type id
+	 * @return the primitive type or null, if the builtin type is not supported
+	 */
+	public static Class<?> getPrimitiveType(int builtinType)
+	{
+		return isSupported(builtinType) ? PRIMITIVE_TYPES[builtinType] : null;
+	}
+
+	/**
+	 * Get the encoded size of an element of a builtin type.
+	 *
+	 * @param builtinType builtin type id
+	 * @return the size in bytes or 0, if the builtin type is not supported
+	 */
+	public static int getElementSize(int builtinType)
+	{
+		return isSupported(builtinType) ? ELEMENT_SIZES[builtinType] : 0;
+	}
+
+	/**
+	 * @param builtinType builtin type id
+	 * @return true if the elements of an NDArray can be of the builtin type
+	 */
+	public static boolean isSupported(int builtinType)
+	{
+		return builtinType >= 1 && builtinType < ELEMENT_CLASSES.length;
+	}
+
+	/**
+	 * @return the builtin type id of the elements
+	 */
+	public int getBuiltinType()
+	{
+		return builtinType;
+	}
+
+	/**
+	 * @return the class of the elements in the nested array form, e.g. UnsignedShort
+	 */
+	public Class<?> getElementClass()
+	{
+		return ELEMENT_CLASSES[builtinType];
+	}
+
+	/**
+	 * @return the primitive data array, shared with slices of the array
+	 */
+	public Object getData()
+	{
+		return data;
+	}
+
+	/**
+	 * @return position of the first element in the data
+	 */
+	public int getOffset()
+	{
+		return offset;
+	}
+
+	/**
+	 * @return the lengths of the dimensions
+	 */
+	public int[] getDimensions()
+	{
+		return dimensions.clone();
+	}
+
+	/**
+	 * @return the distances in the data of consecutive elements of each dimension
+	 */
+	public int[] getStrides()
+	{
+		return strides.clone();
+	}
+
+	/**
+	 * @return the number of dimensions
+	 */
+	public int getDimension()
+	{
+		return dimensions.length;
+	}
+
+	/**
+	 * @return the total number of elements
+	 */
+	public int getLength()
+	{
+		return MultiDimensionArrayUtils.getLength(dimensions);
+	}
+
+	/**
+	 * @return true if the elements are consecutive in row-major order in the data
+	 */
+	public boolean isContiguous()
+	{
+		int stride = 1;
+		for (int i = dimensions.length - 1; i >= 0; i--) {
+			if (dimensions[i] > 1 && strides[i] != stride)
+				return false;
+			stride *= dimensions[i];
+		}
+		return true;
+	}
+
+	/**
+	 * Get the position of an element in the data.
+	 *
+	 * @param index the index of each dimension
+	 * @return position in {@link #getData()}
+	 * @throws ArrayIndexOutOfBoundsException if the index is out of bounds
+	 */
+	public int indexOf(int... index)
+	{
+		if (index.length != dimensions.length)
+			throw new IllegalArgumentException("Expected "+dimensions.length+" indexes");
+		int pos = offset;
+		for (int i = 0; i < index.length; i++) {
+			if (index[i] < 0 || index[i] >= dimensions[i])
+				throw new ArrayIndexOutOfBoundsException(index[i]);
+			pos += index[i] * strides[i];
+		}
+		return pos;
+	}
+
+	/**
+	 * Get an element as the class of the nested array form.
+	 *
+	 * @param index the index of each dimension
+	 * @return the element, e.g. Float or UnsignedShort
+	 */
+	public Object get(int... index)
+	{
+		return getElement(indexOf(index));
+	}
+
+	/**
+	 * Get an element as a double.
+	 *
+	 * @param index the index of each dimension
+	 * @return the element
+	 */
+	public double getDouble(int... index)
+	{
+		int pos = indexOf(index);
+		switch (builtinType) {
+		case 1: return ((boolean[]) data)[pos] ? 1 : 0;
+		case 2: return ((byte[]) data)[pos];
+		case 3: return ((byte[]) data)[pos] & 0xFF;
+		case 4: return ((short[]) data)[pos];
+		case 5: return ((short[]) data)[pos] & 0xFFFF;
+		case 6: return ((int[]) data)[pos];
+		case 7: return ((int[]) data)[pos] & 0xFFFFFFFFL;
+		case 8: return ((long[]) data)[pos];
+		case 9: return UnsignedLong.getFromBits(((long[]) data)[pos]).doubleValue();
+		case 10: return ((float[]) data)[pos];
+		default: return ((double[]) data)[pos];
+		}
+	}
+
+	/**
+	 * Get a sub-array. The result shares the data of this array.
+	 *
+	 * @param range the range of each dimension, an empty or missing dimension
+	 *            of the range selects the whole dimension
+	 * @return the sub-array
+	 * @throws IllegalArgumentException if the range is out of the bounds of the array
+	 */
+	public NDArray slice(NumericRange range)
+	{
+		if (range.getDimensions() > dimensions.length)
+			throw new IllegalArgumentException("The range has more dimensions than the array");
+		int pos = offset;
+		int[] dims = dimensions.clone();
+		for (int i = 0; i < range.getDimensions(); i++) {
+			if (range.isEmpty(i))
+				continue;
+			int begin = range.getBegin(i);
+			int end = range.getEnd(i);
+			if (begin < 0 || end < begin || end >= dimensions[i])
+				throw new IllegalArgumentException("Range "+range+" is out of bounds "+Arrays.toString(dimensions));
+			pos += begin * strides[i];
+			dims[i] = end - begin + 1;
+		}
+		return new NDArray(builtinType, data, pos, dims, strides);
+	}
+
+	/**
+	 * Get the elements in contiguous row-major order.
+	 *
+	 * @return this, if the array is contiguous, otherwise a copy
+	 */
+	public NDArray compact()
+	{
+		if (isContiguous())
+			return this;
+		int length = getLength();
+		Object dst = Array.newInstance(PRIMITIVE_TYPES[builtinType], length);
+		if (length > 0)
+			copy(0, offset, dst, new int[] { 0 });
+		return new NDArray(builtinType, dst, 0, dimensions.clone(), rowMajorStrides(dimensions));
+	}
+
+	/**
+	 * Convert to the nested array form, e.g. Float[][]. The result is created
+	 * on the first call.
+	 *
+	 * @return the nested array
+	 */
+	public Object toArray()
+	{
+		Object result = array;
+		if (result == null) {
+			NDArray a = compact();
+			int length = a.getLength();
+			Object[] elements = (Object[]) Array.newInstance(getElementClass(), length);
+			for (int i = 0; i < length; i++)
+				elements[i] = a.getElement(a.offset + i);
+			result = MultiDimensionArrayUtils.demuxArray(elements, dimensions, getElementClass());
+			array = result;
+		}
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int hashCode()
+	{
+		NDArray a = compact();
+		int hash = builtinType * 31 + Arrays.hashCode(dimensions);
+		for (int i = 0, n = a.getLength(); i < n; i++)
+			hash = 31 * hash + a.getElement(a.offset + i).hashCode();
+		return hash;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (obj == this) return true;
+		if (!(obj instanceof NDArray)) return false;
+		NDArray o = (NDArray) obj;
+		if (builtinType != o.builtinType || !Arrays.equals(dimensions, o.dimensions)) return false;
+		NDArray a = compact(), b = o.compact();
+		for (int i = 0, n = a.getLength(); i < n; i++)
+			if (!a.getElement(a.offset + i).equals(b.getElement(b.offset + i))) return false;
+		return true;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString()
+	{
+		return MultiDimensionArrayUtils.toString(toArray());
+	}
+
+	private void copy(int dim, int pos, Object dst, int[] dstPos)
+	{
+		if (dim == dimensions.length - 1) {
+			int n = dimensions[dim];
+			if (strides[dim] == 1) {
+				System.arraycopy(data, pos, dst, dstPos[0], n);
+				dstPos[0] += n;
+			} else
+				for (int i = 0; i < n; i++, pos += strides[dim])
+					Array.set(dst, dstPos[0]++, Array.get(data, pos));
+			return;
+		}
+		for (int i = 0; i < dimensions[dim]; i++, pos += strides[dim])
+			copy(dim + 1, pos, dst, dstPos);
+	}
+
+	private Object getElement(int pos)
+	{
+		switch (builtinType) {
+		case 1: return ((boolean[]) data)[pos];
+		case 2: return ((byte[]) data)[pos];
+		case 3: return UnsignedByte.getFromBits(((byte[]) data)[pos]);
+		case 4: return ((short[]) data)[pos];
+		case 5: return UnsignedShort.getFromBits(((short[]) data)[pos]);
+		case 6: return ((int[]) data)[pos];
+		case 7: return UnsignedInteger.getFromBits(((int[]) data)[pos]);
+		case 8: return ((long[]) data)[pos];
+		case 9: return UnsignedLong.getFromBits(((long[]) data)[pos]);
+		case 10: return ((float[]) data)[pos];
+		default: return ((double[]) data)[pos];
+		}
+	}
+
+	private static void setBits(int builtinType, Object data, int pos, Object value)
+	{
+		switch (builtinType) {
+		case 3: ((byte[]) data)[pos] = ((UnsignedByte) value).toByteBits(); break;
+		case 5: ((short[]) data)[pos] = ((UnsignedShort) value).toShortBits(); break;
+		case 7: ((int[]) data)[pos] = ((UnsignedInteger) value).toIntBits(); break;
+		case 9: ((long[]) data)[pos] = ((UnsignedLong) value).toLongBits(); break;
+		default: Array.set(data, pos, value);
+		}
+	}
+
+	private static int builtinTypeOf(Object data)
+	{
+		Class<?> type = data.getClass().getComponentType();
+		if (type == boolean.class) return 1;
+		if (type == byte.class) return 2;
+		if (type == short.class) return 4;
+		if (type == int.class) return 6;
+		if (type == long.class) return 8;
+		if (type == float.class) return 10;
+		if (type == double.class) return 11;
+		throw new IllegalArgumentException("NDArray cannot be "+data.getClass().getName());
+	}
+
+	private static int[] rowMajorStrides(int[] dimensions)
+	{
+		int[] strides = new int[dimensions.length];
+		int stride = 1;
+		for (int i = dimensions.length - 1; i >= 0; i--) {
+			strides[i] = stride;
+			stride *= dimensions[i];
+		}
+		return strides;
+	}
+
+}
@@ -29,6 +29,12 @@ import org.opcfoundation.ua.utils.CryptoUtil;
  * <p>
  * NodeIds are equals comparable with ExpandedNodeIds that are constructed with NamespaceIndex
  * and no ServerIndex.
+ * <p>
+ * The identifier of a numeric NodeId is kept as a primitive, which is used by
+ * equals, hashCode and the binary encoding; its UnsignedInteger is only created
+ * when {@link #getValue()} is called. {@link #numeric(int, int)} returns
+ * shared instances of the NodeIds of {@link Identifiers} and of NodeIds added
+ * with {@link #intern(NodeId)}, so decoding them allocates nothing.
  * 
  * @see ExpandedNodeId An identifier optional ServerIndex and/or explicit NamespaceUri
  * @see NamespaceTable 
@@ -48,9 +54,67 @@ public final class NodeId implements Comparable<NodeId> {
 	public static final NodeId ID = Identifiers.NodeId;
 
 	
+	/** Max number of interned application NodeIds, see {@link #intern(NodeId)} */
+	static final int INTERN_TABLE_SIZE = 4096;
+	static final NodeId[] INTERNED = new NodeId[INTERN_TABLE_SIZE];
+	
 	final IdType type;
 	final int namespaceIndex;
-	final Object value;
+	/** Identifier, created lazily from numeric for a numeric NodeId */
+	volatile Object value;
+	/** Bits of the identifier of a numeric NodeId, 0 for other types */
+	final int numeric;
+
+	/**
+	 * Get a numeric NodeId. Standard NodeIds of namespace 0 and interned NodeIds
+	 * are returned without allocation.
+	 * 
+	 * @param namespaceIndex 0..65535
+	 * @param value bits of an unsigned 32-bit identifier
+	 * @return NodeId
+	 */
+	public static NodeId numeric(int namespaceIndex, int value)
+	{
+		if (namespaceIndex==0) {
+			NodeId standard = Identifiers.getStandardNodeId(value);
+			if (standard!=null) return standard;
+		}
+		NodeId interned = INTERNED[internSlot(namespaceIndex, value)];
+		if (interned!=null && interned.numeric==value && interned.namespaceIndex==namespaceIndex)
+			return interned;
+		return new NodeId(namespaceIndex, value);
+	}
+
+	/**
+	 * Intern a frequently used numeric NodeId, so that {@link #numeric(int, int)}
+	 * and the binary decoder return the same instance. The intern table is bounded;
+	 * a NodeId may replace a previously interned NodeId with a colliding hash.
+	 * Other than numeric NodeIds are returned as is.
+	 * 
+	 * @param nodeId node id
+	 * @return the interned instance
+	 */
+	public static NodeId intern(NodeId nodeId)
+	{
+		if (nodeId==null || nodeId.type!=IdType.Numeric) return nodeId;
+		int namespaceIndex = nodeId.namespaceIndex, value = nodeId.numeric;
+		if (namespaceIndex==0) {
+			NodeId standard = Identifiers.getStandardNodeId(value);
+			if (standard!=null) return standard;
+		}
+		int slot = internSlot(namespaceIndex, value);
+		NodeId interned = INTERNED[slot];
+		if (interned!=null && interned.numeric==value && interned.namespaceIndex==namespaceIndex)
+			return interned;
+		INTERNED[slot] = nodeId;
+		return nodeId;
+	}
+
+	private static int internSlot(int namespaceIndex, int value)
+	{
+		int h = namespaceIndex * 31 + value;
+		return (h ^ (h >>> 16)) & (INTERN_TABLE_SIZE - 1);
+	}
 
 	public static NodeId get(IdType type, int namespaceIndex, Object value)
 	{
@@ -74,7 +138,11 @@ public final class NodeId implements Comparable<NodeId> {
 	 */
 	public NodeId(int namespaceIndex, int value)
 	{
-		this(namespaceIndex, UnsignedInteger.getFromBits(value));
+		if (namespaceIndex<0 || namespaceIndex>65535) 
+			throw new IllegalArgumentException("namespaceIndex out of bounds");		
+		this.namespaceIndex = namespaceIndex;
+		this.numeric = value;
+		type = IdType.Numeric;
 	}
 	
 	/**
@@ -90,6 +158,7 @@ public final class NodeId implements Comparable<NodeId> {
 			throw new IllegalArgumentException("namespaceIndex out of bounds");		
 		this.value = value;
 		this.namespaceIndex = namespaceIndex;
+		this.numeric = value.toIntBits();
 		type = IdType.Numeric;
 	}
 	
@@ -107,6 +176,7 @@ public final class NodeId implements Comparable<NodeId> {
 		type = IdType.String;
 		this.value = value;
 		this.namespaceIndex = namespaceIndex;
+		this.numeric = 0;
 	}
 	
 	/**
@@ -123,6 +193,7 @@ public final class NodeId implements Comparable<NodeId> {
 		type = IdType.Guid;
 		this.value = value;
 		this.namespaceIndex = namespaceIndex;
+		this.numeric = 0;
 	}
 	
 	/**
@@ -152,6 +223,7 @@ public final class NodeId implements Comparable<NodeId> {
 		this.type = IdType.Opaque;
 		this.value = value;
 		this.namespaceIndex = namespaceIndex;
+		this.numeric = 0;
 	}
 	
 	/**
@@ -159,14 +231,14 @@ public final class NodeId implements Comparable<NodeId> {
 	 * @return Whether the object represents a Null NodeId.
 	 */
 	public boolean isNullNodeId() {
-		if (this.value == null)
+		if (this.type != IdType.Numeric && this.value == null)
 			return true;
 		if (this.namespaceIndex != 0)
 			return false;
 		// Note: equals checks for IsNull, so we cannot use equals
 		switch (this.type) {
 		case Numeric:
-			return ((UnsignedInteger) this.value).intValue() == 0;
+			return this.numeric == 0;
 		case String:
 			return ((String)this.value).length() == 0;
 		case Guid:
@@ -203,13 +275,28 @@ public final class NodeId implements Comparable<NodeId> {
 	 */
 	public Object getValue()
 	{
-		return value;
+		Object v = value;
+		if (v == null && type == IdType.Numeric)
+			value = v = UnsignedInteger.getFromBits(numeric);
+		return v;
+	}
+
+	/**
+	 * 
+	 * @return the bits of the identifier of a numeric NodeId, 0 for other types
+	 */
+	public int getNumericValue()
+	{
+		return numeric;
 	}
 	
 	@Override
 	public int hashCode() {
 		int hashCode = 13*namespaceIndex;
-		if (value != null)
+		// Same as value.hashCode() of UnsignedInteger
+		if (type == IdType.Numeric)
+			hashCode += 3 * numeric;
+		else if (value != null)
 			hashCode += 3 * value.hashCode();
 		return hashCode;
 	}
@@ -222,6 +309,9 @@ public final class NodeId implements Comparable<NodeId> {
 			return isNull(this);
 		if (obj instanceof NodeId) {
 			NodeId other = (NodeId) obj;
+			// Only ns=0;i=0 is a null numeric NodeId
+			if (type==IdType.Numeric && other.type==IdType.Numeric)
+				return numeric==other.numeric && namespaceIndex==other.namespaceIndex;
 			if (isNull(this) || isNull(other)) return isNull(this) == isNull(other); //handle null
 			if (other.namespaceIndex!=namespaceIndex || other.type!=type) return false;
 			if (this.value==other.value) return true;
@@ -231,8 +321,9 @@ public final class NodeId implements Comparable<NodeId> {
 			ExpandedNodeId other = (ExpandedNodeId) obj;
 			if ((other.namespaceUri!=null && other.namespaceUri != NamespaceTable.OPCUA_NAMESPACE) || !other.isLocal()) return false;
 			if (this.namespaceIndex!=other.namespaceIndex || this.type!=other.type) return false;
-			if (this.value==other.value) return true;
-			return this.value.equals(other.value);
+			Object value = getValue();
+			if (value==other.value) return true;
+			return value.equals(other.value);
 		} else
 		return false;
 	}
@@ -246,8 +337,7 @@ public final class NodeId implements Comparable<NodeId> {
 		if (value == 0)
 			switch (type) {
 			case Numeric:
-				return ((UnsignedInteger) this.value)
-						.compareTo((UnsignedInteger) other.value);
+				return Integer.compare(this.numeric ^ Integer.MIN_VALUE, other.numeric ^ Integer.MIN_VALUE);
 			case String:
 				return ((String) this.value).compareTo((String) other.value);
 			case Guid:
@@ -263,7 +353,7 @@ public final class NodeId implements Comparable<NodeId> {
 	@Override
 	public String toString() {
 		String nsPart = namespaceIndex>0 ? "ns="+namespaceIndex+";" : "";
-		if (type == IdType.Numeric) return nsPart+"i="+value;
+		if (type == IdType.Numeric) return nsPart+"i="+(numeric & 0xFFFFFFFFL);
 		if (type == IdType.String) return nsPart+"s="+value;
 		if (type == IdType.Guid) return nsPart+"g="+value;
 		if (type == IdType.Opaque) {
@@ -413,4 +503,5 @@ public final class NodeId implements Comparable<NodeId> {
 			return left.equals(right);
 		}
 	}
+
 }
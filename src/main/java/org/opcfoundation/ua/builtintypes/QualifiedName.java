@@ -25,8 +25,8 @@ public final class QualifiedName {
 	public static final QualifiedName NULL = new QualifiedName(UnsignedShort.valueOf(0), null); 
 	public static final QualifiedName DEFAULT_BINARY_ENCODING = new QualifiedName("Default Binary"); 
 	public static final QualifiedName DEFAULT_XML_ENCODING = new QualifiedName("Default XML");
-	private int namespaceIndex;
-	private String name;
+	private final int namespaceIndex;
+	private final String name;
 
 	/**
 	 * Initializes the object with default values.
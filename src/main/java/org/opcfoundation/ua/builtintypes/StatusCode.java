@@ -12,6 +12,9 @@
 
 package org.opcfoundation.ua.builtintypes;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
 import org.opcfoundation.ua.common.StatusCodeDescriptions;
 import org.opcfoundation.ua.core.Identifiers;
 import org.opcfoundation.ua.core.StatusCodes;
@@ -45,9 +48,9 @@ public final class StatusCode {
 	public static final int SEVERITY_BAD		= 0x80000000;		
 
 	/** GOOD Result */
-	public static final StatusCode GOOD = getFromBits(SEVERITY_GOOD);
+	public static final StatusCode GOOD = new StatusCode(SEVERITY_GOOD);
 	/** Constant <code>BAD</code> */
-	public static final StatusCode BAD = getFromBits(SEVERITY_BAD);
+	public static final StatusCode BAD = new StatusCode(SEVERITY_BAD);
 		
 	/** Reserved for future use. Shall always be zero. */
 	public static final int RES1_MASK		= 0x30000000;
@@ -176,14 +179,25 @@ public final class StatusCode {
 	private final int value;
 	
 	/**
-	 * <p>getFromBits.</p>
+	 * Get the StatusCode of the bits. The codes of {@link StatusCodes} are
+	 * returned as canonical instances without allocation.
 	 *
 	 * @param value a int.
 	 * @return a {@link org.opcfoundation.ua.builtintypes.StatusCode} object.
 	 */
 	public static StatusCode getFromBits(int value)
 	{
-		return new StatusCode(value);
+		if (value == SEVERITY_GOOD)
+			return GOOD;
+		StatusCode[] table = Canonical.TABLE;
+		int mask = table.length - 1;
+		for (int i = Canonical.slot(value, mask);; i = (i + 1) & mask) {
+			StatusCode c = table[i];
+			if (c == null)
+				return new StatusCode(value);
+			if (c.value == value)
+				return c;
+		}
 	}
 
 	/**
@@ -438,5 +452,46 @@ public final class StatusCode {
 	public boolean equalsStatusCode(StatusCode statusCode) {
 		return isStatusCode(statusCode.getValue());
 	}
-	
+
+	/**
+	 * Open addressing table of the canonical instances, loaded on first use.
+	 */
+	static final class Canonical {
+		static final StatusCode[] TABLE = load();
+
+		static int slot(int value, int mask) {
+			return (value ^ (value >>> 16)) & mask;
+		}
+
+		private static StatusCode[] load() {
+			Field[] fields = StatusCodes.class.getFields();
+			StatusCode[] table = new StatusCode[Integer.highestOneBit(fields.length + 3) * 4];
+			int mask = table.length - 1;
+			add(table, mask, BAD);
+			add(table, mask, new StatusCode(SEVERITY_UNCERTAIN));
+			for (Field f : fields) {
+				if (!Modifier.isStatic(f.getModifiers()) || f.getType() != UnsignedInteger.class) continue;
+				try {
+					UnsignedInteger code = (UnsignedInteger) f.get(null);
+					if (code != null && code.intValue() != SEVERITY_GOOD)
+						add(table, mask, new StatusCode(code));
+				} catch (IllegalAccessException e) {
+					continue;
+				}
+			}
+			return table;
+		}
+
+		private static void add(StatusCode[] table, int mask, StatusCode code) {
+			for (int i = slot(code.value, mask);; i = (i + 1) & mask) {
+				if (table[i] == null) {
+					table[i] = code;
+					return;
+				}
+				if (table[i].value == code.value)
+					return;
+			}
+		}
+	}
+
 }
@@ -35,6 +35,9 @@ import org.slf4j.LoggerFactory;
  *  e.g. new Variant( new NotificationData() );
  *
  * Encoders write a structure as an {@link ExtensionObject}.
+ * <p>
+ * A multi-dimension array of a numeric type may also be an {@link NDArray},
+ * which the binary encoding writes and reads in bulk.
  */
 public class Variant {
 	
@@ -132,6 +135,12 @@ public class Variant {
 	    return;
 	  }
 	  
+	  if (value instanceof NDArray) {
+	    this.value = value;
+	    this.compositeClass = ((NDArray) value).getElementClass();
+	    return;
+	  }
+	  
 	  // Find the non-array composite class of the value
 	  final Class<?> composite = MultiDimensionArrayUtils.getComponentType(value.getClass());
 	  
@@ -240,7 +249,7 @@ public class Variant {
 	public boolean isArray() {
 		if (value == null)
 			return false;
-		return value.getClass().isArray();
+		return value.getClass().isArray() || value instanceof NDArray;
 	}
 
 	/**
@@ -288,7 +297,7 @@ public class Variant {
 				classStr = String.format("(%s[%s]) ", compositeClassToString(),
 						sb.toString());
 			}
-			valueStr = MultiDimensionArrayUtils.toString(value);
+			valueStr = value instanceof NDArray ? value.toString() : MultiDimensionArrayUtils.toString(value);
 		} else {
 			if (includeCompositeClass)
 				classStr = String.format("(%s) ", compositeClassToString());
@@ -323,6 +332,8 @@ public class Variant {
 	 * @return an array of int.
 	 */
 	public int[] getArrayDimensions() {
+		if (value instanceof NDArray)
+			return ((NDArray) value).getDimensions();
 		return calculateArrayDimensions(value, false);
 	}
 
@@ -353,6 +364,8 @@ public class Variant {
 	 * @return a int.
 	 */
 	public int getDimension() {
+		if (value instanceof NDArray)
+			return ((NDArray) value).getDimension();
 		return MultiDimensionArrayUtils.getDimension(value);
 	}
 
@@ -361,7 +374,7 @@ public class Variant {
 	public int hashCode() {
 		if (value == null)
 			return 0;
-		if (!isArray())
+		if (!isArray() || value instanceof NDArray)
 			return value.hashCode();
 		return Arrays.deepHashCode((Object[]) value);
 	}
@@ -384,7 +397,7 @@ public class Variant {
 		Class<?> c = value.getClass();
 		if (!c.equals(o.value.getClass()))
 			return false;
-		if (!isArray())
+		if (!isArray() || value instanceof NDArray)
 			return value.equals(o.value);
 		return Arrays.deepEquals((Object[]) value, (Object[]) o.value);
 	}
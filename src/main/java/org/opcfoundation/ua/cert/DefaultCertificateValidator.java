@@ -12,16 +12,28 @@
 
 package org.opcfoundation.ua.cert;
 
+import java.lang.ref.WeakReference;
 import java.security.GeneralSecurityException;
-import java.security.PublicKey;
 import java.security.cert.CertificateExpiredException;
 import java.security.cert.CertificateNotYetValidException;
 import java.security.cert.CertificateParsingException;
 import java.security.cert.X509CRL;
+import java.security.cert.X509CRLEntry;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.security.auth.x500.X500Principal;
+
+import org.opcfoundation.ua.builtintypes.ByteString;
 import org.opcfoundation.ua.builtintypes.StatusCode;
 import org.opcfoundation.ua.core.ApplicationDescription;
 import org.opcfoundation.ua.core.StatusCodes;
@@ -33,18 +45,83 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A certificate validator implementation.
+ * <p>
+ * The trusted certificates and revocation lists of the store are indexed by
+ * subject, key identifier and issuer, so the issuers of a certificate are
+ * found without trying every trusted certificate. The results of the
+ * signature and revocation checks are cached per certificate, until the
+ * contents of the store change or an issuer in the chain expires. Stores that
+ * notify {@link DefaultCertificateStoreListener}s invalidate the cache as
+ * certificates are added. Otherwise a change is noticed when the store returns
+ * other sets than before, like the snapshots of
+ * {@link PkiDirectoryCertificateStore}, or sets of another size; a store that
+ * modifies the returned sets in place must be followed by {@link #invalidate()}.
+ * <p>
+ * The issuers in the chain are validated like the certificate itself, so a
+ * validation listener is asked about them as well. The chain check results
+ * are then not cached, unless {@link #setValidateIssuersWithListener(boolean)}
+ * is used to validate issuers against the store only.
  */
 public class DefaultCertificateValidator implements CertificateValidator {
 
 	private static final Logger logger = LoggerFactory.getLogger(DefaultCertificateValidator.class);
 	private static final String INVALID_URI_ERROR = "invalid URI name:";
 	
+	/** Max number of cached check results */
+	private static final int MAX_CACHED_RESULTS = 1000;
+	
+	/** Max length of an issuer chain, which stops cycles of cross-signed certificates */
+	private static final int MAX_CHAIN_DEPTH = 32;
+	
+	private static final String SUBJECT_KEY_IDENTIFIER = "2.5.29.14";
+	private static final String AUTHORITY_KEY_IDENTIFIER = "2.5.29.35";
+	
 	private volatile DefaultCertificateValidatorListener validationListener;
 
+	private volatile boolean validateIssuersWithListener = true;
+
 	private final CertificateStore store;
 	
+	/** Index of the current contents of the store, null if not built or invalidated */
+	private volatile Index index;
+	
+	private final AtomicInteger generation = new AtomicInteger();
+	
+	/** Chain check results by certificate thumbprint, least recently used first */
+	private final Map<ByteString, ChainResult> results = new LinkedHashMap<ByteString, ChainResult>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ByteString, ChainResult> eldest) {
+			return size() > MAX_CACHED_RESULTS;
+		}
+	};
+	
+	private final DefaultCertificateStoreListener storeListener = new DefaultCertificateStoreListener() {
+		@Override
+		public void onTrustedCertificateAdded(Cert cert) {
+			Index i = index;
+			if (i != null && !i.trusted.contains(cert))
+				invalidate();
+		}
+		@Override
+		public void onRejectedCertificateAdded(Cert cert) {
+			// Rejecting a certificate removes it from the trusted certificates
+			Index i = index;
+			if (i != null && i.trusted.contains(cert))
+				invalidate();
+		}
+		@Override
+		public void onRevokedListAdded(X509CRL crl) {
+			invalidate();
+		}
+	};
+	
 	public DefaultCertificateValidator(CertificateStore certificateStore){
 		this.store = certificateStore;
+		if (certificateStore instanceof PkiDirectoryCertificateStore) {
+			PkiDirectoryCertificateStore pkiStore = (PkiDirectoryCertificateStore) certificateStore;
+			pkiStore.addListener(new WeakStoreListener(this, pkiStore));
+		}
 	}
 	
 	/**
@@ -76,23 +153,74 @@ public class DefaultCertificateValidator implements CertificateValidator {
 		this.validationListener = validationListener;
 	} 
 
+	/**
+	 * @return true, if the validation listener is asked about the issuers of a certificate
+	 */
+	public boolean isValidateIssuersWithListener() {
+		return validateIssuersWithListener;
+	}
+
+	/**
+	 * Set whether the validation listener is asked about the issuers of a
+	 * certificate, as it is about the certificate itself. If not, issuers are
+	 * accepted only if the store trusts them and they pass all checks, and
+	 * the chain check results can be cached. The default is true.
+	 *
+	 * @param validateIssuersWithListener false to validate issuers against the store only
+	 */
+	public void setValidateIssuersWithListener(boolean validateIssuersWithListener) {
+		this.validateIssuersWithListener = validateIssuersWithListener;
+		invalidate();
+	}
+
+	/**
+	 * Get the listener that invalidates the cached validation results of this
+	 * validator. A listener that does not keep the validator reachable is
+	 * added automatically to a {@link PkiDirectoryCertificateStore}; add this
+	 * one to other stores that notify about their changes.
+	 *
+	 * @return the store listener
+	 */
+	public DefaultCertificateStoreListener getStoreListener() {
+		return storeListener;
+	}
+
+	/**
+	 * Discard the cached validation results, e.g. after the certificates of
+	 * the store have been changed outside of this validator.
+	 */
+	public void invalidate() {
+		index = null;
+		generation.incrementAndGet();
+	}
+
 	@Override
 	public StatusCode validateCertificate(ApplicationDescription applicationDescription, Cert cert) {
+		return validateCertificate(applicationDescription, cert, null, 0);
+	}
+
+	/**
+	 * Validate a certificate, or an issuer in the chain of a certificate.
+	 *
+	 * @param current the index of the chain being validated, or null to get the current one
+	 * @param depth the position of the certificate in the chain being validated
+	 */
+	private StatusCode validateCertificate(ApplicationDescription applicationDescription, Cert cert, Index current, int depth) {
 		try{
 			logger.debug("validateCertificate: applicationDescription={}", applicationDescription);
 			logger.debug("cert={}", cert);
 	
-			boolean isRevoked = isRevoked(cert);
-			logger.debug("isRevoked={}", isRevoked);
-			if (isRevoked)
+			final Index index = current != null ? current : getIndex();
+			final ChainResult chain = getChainResult(cert, index, depth);
+			logger.debug("isRevoked={}", chain.revoked);
+			if (chain.revoked)
 				return new StatusCode(StatusCodes.Bad_CertificateRevoked);
 	
 			// Default result if not revoked
 			StatusCode result = StatusCode.GOOD;
 			EnumSet<CertificateCheck> passedChecks = EnumSet.noneOf(CertificateCheck.class);
-			final Set<Cert> trustedCerts = store.getTrustedCerts();
 			
-			if (trustedCerts != null && trustedCerts.contains(cert)) {
+			if (index.trusted.contains(cert)) {
 				logger.debug("trusted=yes");
 				passedChecks.add(CertificateCheck.Trusted);
 			}
@@ -112,51 +240,16 @@ public class DefaultCertificateValidator implements CertificateValidator {
 	
 			// Check the signature
 	
-			try {
-				// self-signed?
-				certificate.verify(certificate.getPublicKey());
+			if (chain.selfSigned) {
 				logger.debug("signature=yes");
 				logger.debug("self-signed=yes");
 				passedChecks.add(CertificateCheck.Signature);
 				passedChecks.add(CertificateCheck.SelfSigned);
-			} catch (GeneralSecurityException e) {
-				// NOT self signed
-				// Is it signed by a trusted signer?
-				boolean issuerFound = false;
-				for (Cert c : trustedCerts) {
-					try {
-						PublicKey pkey = c.getCertificate().getPublicKey();
-						certificate.verify(pkey);
-						issuerFound = true;
-						StatusCode issuerResult = validateCertificate(c);
-						if (issuerResult.isStatusCode(
-								StatusCodes.Bad_CertificateRevoked))
-							result = new StatusCode(
-									StatusCodes.Bad_CertificateIssuerRevoked);
-						else if (issuerResult.isStatusCode(
-								StatusCodes.Bad_CertificateTimeInvalid))
-							result = new StatusCode(
-									StatusCodes.Bad_CertificateIssuerTimeInvalid);
-						else if (issuerResult.isStatusCode(
-								StatusCodes.Bad_CertificateChainIncomplete)
-								|| issuerResult.isStatusCode(
-										StatusCodes.Bad_CertificateIssuerRevoked)
-								|| issuerResult.isStatusCode(
-										StatusCodes.Bad_CertificateIssuerTimeInvalid))
-							result = issuerResult;
-						else if (issuerResult.isNotGood())
-							result = new StatusCode(
-									StatusCodes.Bad_CertificateInvalid);
-					} catch (GeneralSecurityException e1) {
-						continue;
-					}
-				}
-				if (!issuerFound)
-					result = new StatusCode(
-							StatusCodes.Bad_CertificateChainIncomplete);
-				if (result.isNotGood()) {
+			} else {
+				// NOT self signed, signed by a trusted signer?
+				if (chain.result.isNotGood()) {
 					store.addCertificate(ValidationResult.Reject, cert);
-					return result;
+					return chain.result;
 				}
 				logger.debug("signature=yes");
 				passedChecks.add(CertificateCheck.Signature);
@@ -247,14 +340,356 @@ public class DefaultCertificateValidator implements CertificateValidator {
 		}
 	}
 
-	private boolean isRevoked(Cert cert) {
+	/**
+	 * Get the index of the trusted certificates and revocation lists of the
+	 * store. The index is rebuilt, if the store returns different contents.
+	 * The sets are only compared element by element, when the store returns
+	 * other instances than last time.
+	 */
+	private Index getIndex() {
+		Set<Cert> trusted = store.getTrustedCerts();
 		Set<X509CRL> crls = store.getRevocationLists();
-		for(X509CRL crl : crls){
-			if(crl.isRevoked(cert.getCertificate())){
-				return true;
+		if (trusted == null) trusted = Collections.emptySet();
+		if (crls == null) crls = Collections.emptySet();
+		Index i = index;
+		if (i != null && i.matches(trusted, crls))
+			return i;
+		i = new Index(generation.incrementAndGet(), trusted, crls);
+		index = i;
+		return i;
+	}
+
+	/**
+	 * Get the result of the revocation and signature checks of a certificate,
+	 * from the cache if possible.
+	 *
+	 * @param cert the certificate
+	 * @param index the current index
+	 * @param depth the position of the certificate in the chain being checked
+	 */
+	private ChainResult getChainResult(Cert cert, Index index, int depth) {
+		ByteString key = ByteString.valueOf(cert.getEncodedCertificateThumbprint());
+		long now = System.currentTimeMillis();
+		ChainResult r;
+		synchronized (results) {
+			r = results.get(key);
+		}
+		if (r != null && r.generation == index.generation && now < r.expires)
+			return r;
+		r = checkChain(cert.getCertificate(), index, depth, now);
+		if (now < r.expires)
+			synchronized (results) {
+				results.put(key, r);
+			}
+		return r;
+	}
+
+	private ChainResult checkChain(X509Certificate certificate, Index index, int depth, long now) {
+		if (index.isRevoked(certificate))
+			return new ChainResult(index.generation, true, false, null, Long.MAX_VALUE);
+		try {
+			// self-signed?
+			certificate.verify(certificate.getPublicKey());
+			return new ChainResult(index.generation, false, true, StatusCode.GOOD, Long.MAX_VALUE);
+		} catch (GeneralSecurityException e) {
+			// NOT self signed
+		}
+		StatusCode result = StatusCode.GOOD;
+		long expires = Long.MAX_VALUE;
+		boolean issuerFound = false;
+		boolean withListener = validateIssuersWithListener && validationListener != null;
+		if (depth < MAX_CHAIN_DEPTH)
+			for (Cert c : index.getIssuerCandidates(certificate)) {
+				try {
+					certificate.verify(c.getCertificate().getPublicKey());
+				} catch (GeneralSecurityException e) {
+					continue;
+				}
+				issuerFound = true;
+				StatusCode issuerResult;
+				if (withListener) {
+					issuerResult = validateCertificate(null, c, index, depth + 1);
+					// The decision of the listener is not cached
+					expires = now;
+				} else {
+					ChainResult issuerChain = getChainResult(c, index, depth + 1);
+					expires = Math.min(expires, Math.min(issuerChain.expires, nextValidityChange(c.getCertificate(), now)));
+					issuerResult = validateIssuer(c.getCertificate(), issuerChain, now);
+					// An issuer that fails validation is rejected, as it would be when validated itself
+					if (issuerResult.isNotGood() && !issuerResult.isStatusCode(StatusCodes.Bad_CertificateRevoked))
+						store.addCertificate(ValidationResult.Reject, c);
+				}
+				if (issuerResult.isStatusCode(
+						StatusCodes.Bad_CertificateRevoked))
+					result = new StatusCode(
+							StatusCodes.Bad_CertificateIssuerRevoked);
+				else if (issuerResult.isStatusCode(
+						StatusCodes.Bad_CertificateTimeInvalid))
+					result = new StatusCode(
+							StatusCodes.Bad_CertificateIssuerTimeInvalid);
+				else if (issuerResult.isStatusCode(
+						StatusCodes.Bad_CertificateChainIncomplete)
+						|| issuerResult.isStatusCode(
+								StatusCodes.Bad_CertificateIssuerRevoked)
+						|| issuerResult.isStatusCode(
+								StatusCodes.Bad_CertificateIssuerTimeInvalid))
+					result = issuerResult;
+				else if (issuerResult.isNotGood())
+					result = new StatusCode(
+							StatusCodes.Bad_CertificateInvalid);
 			}
+		if (!issuerFound)
+			result = new StatusCode(
+					StatusCodes.Bad_CertificateChainIncomplete);
+		return new ChainResult(index.generation, false, false, result, expires);
+	}
+
+	/**
+	 * Validate a trusted issuer certificate, as {@link #validateCertificate(Cert)}
+	 * would without a validation listener.
+	 */
+	private static StatusCode validateIssuer(X509Certificate issuer, ChainResult issuerChain, long now) {
+		if (issuerChain.revoked)
+			return new StatusCode(StatusCodes.Bad_CertificateRevoked);
+		if (!issuerChain.selfSigned && issuerChain.result.isNotGood())
+			return issuerChain.result;
+		if (now < issuer.getNotBefore().getTime() || now > issuer.getNotAfter().getTime())
+			return new StatusCode(StatusCodes.Bad_CertificateTimeInvalid);
+		return StatusCode.GOOD;
+	}
+
+	/**
+	 * @return the next time, when the certificate becomes valid or expires
+	 */
+	private static long nextValidityChange(X509Certificate certificate, long now) {
+		long notBefore = certificate.getNotBefore().getTime();
+		if (now < notBefore)
+			return notBefore;
+		long notAfter = certificate.getNotAfter().getTime();
+		if (now <= notAfter)
+			return notAfter + 1;
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Get the key identifier of a certificate from its subject or authority
+	 * key identifier extension.
+	 *
+	 * @return the key identifier or null, if the extension is not present or cannot be parsed
+	 */
+	static ByteString getKeyIdentifier(X509Certificate certificate, boolean authority) {
+		byte[] ext = certificate.getExtensionValue(authority ? AUTHORITY_KEY_IDENTIFIER : SUBJECT_KEY_IDENTIFIER);
+		if (ext == null)
+			return null;
+		// OCTET STRING, which contains the extension value
+		int[] pos = { 0 };
+		if (readTag(ext, pos, 0x04) < 0)
+			return null;
+		int len;
+		if (authority) {
+			// SEQUENCE { [0] keyIdentifier OPTIONAL, ... }
+			if (readTag(ext, pos, 0x30) < 0)
+				return null;
+			len = readTag(ext, pos, 0x80);
+		} else {
+			len = readTag(ext, pos, 0x04);
+		}
+		if (len < 0 || pos[0] + len > ext.length)
+			return null;
+		byte[] id = new byte[len];
+		System.arraycopy(ext, pos[0], id, 0, len);
+		return ByteString.valueOf(id);
+	}
+
+	/**
+	 * Read the header of a DER element.
+	 *
+	 * @return the length of the contents, or -1 if the element does not have the expected tag
+	 */
+	private static int readTag(byte[] der, int[] pos, int tag) {
+		int p = pos[0];
+		if (p + 2 > der.length || (der[p] & 0xff) != tag)
+			return -1;
+		int len = der[p + 1] & 0xff;
+		p += 2;
+		if (len > 0x80) {
+			int n = len & 0x7f;
+			if (n > 3 || p + n > der.length)
+				return -1;
+			len = 0;
+			for (int i = 0; i < n; i++)
+				len = (len << 8) | (der[p++] & 0xff);
+		} else if (len == 0x80) {
+			return -1;
+		}
+		pos[0] = p;
+		return len;
+	}
+
+	/**
+	 * Trusted certificates and revocation lists of the store, indexed for the
+	 * lookup of issuers.
+	 */
+	private static final class Index {
+		final int generation;
+		/** Copies of the sets returned by the store, in case the store modifies them */
+		final Set<Cert> trusted;
+		final Set<X509CRL> crls;
+		/** The sets last returned by the store with the same contents */
+		volatile Set<Cert> trustedSeen;
+		volatile Set<X509CRL> crlsSeen;
+		final Map<X500Principal, List<Cert>> bySubject = new HashMap<X500Principal, List<Cert>>();
+		final Map<ByteString, List<Cert>> byKeyIdentifier = new HashMap<ByteString, List<Cert>>();
+		final Map<X500Principal, List<X509CRL>> crlsByIssuer = new HashMap<X500Principal, List<X509CRL>>();
+		/** Indirect revocation lists, which may revoke certificates of other issuers */
+		final List<X509CRL> indirectCrls = new ArrayList<X509CRL>();
+
+		Index(int generation, Set<Cert> trusted, Set<X509CRL> crls) {
+			this.generation = generation;
+			this.trusted = new HashSet<Cert>(trusted);
+			this.crls = new HashSet<X509CRL>(crls);
+			this.trustedSeen = trusted;
+			this.crlsSeen = crls;
+			for (Cert c : trusted) {
+				X509Certificate certificate = c.getCertificate();
+				add(bySubject, certificate.getSubjectX500Principal(), c);
+				ByteString keyId = getKeyIdentifier(certificate, false);
+				if (keyId != null)
+					add(byKeyIdentifier, keyId, c);
+			}
+			for (X509CRL crl : crls) {
+				if (isIndirect(crl))
+					indirectCrls.add(crl);
+				else
+					add(crlsByIssuer, crl.getIssuerX500Principal(), crl);
+			}
+		}
+
+		boolean matches(Set<Cert> trusted, Set<X509CRL> crls) {
+			if (trusted == trustedSeen) {
+				if (trusted.size() != this.trusted.size())
+					return false;
+			} else if (this.trusted.equals(trusted))
+				trustedSeen = trusted;
+			else
+				return false;
+			if (crls == crlsSeen)
+				return crls.size() == this.crls.size();
+			if (!this.crls.equals(crls))
+				return false;
+			crlsSeen = crls;
+			return true;
+		}
+
+		boolean isRevoked(X509Certificate certificate) {
+			List<X509CRL> list = crlsByIssuer.get(certificate.getIssuerX500Principal());
+			if (list != null)
+				for (X509CRL crl : list)
+					if (crl.isRevoked(certificate))
+						return true;
+			for (X509CRL crl : indirectCrls)
+				if (crl.isRevoked(certificate))
+					return true;
+			return false;
+		}
+
+		/**
+		 * Get the trusted certificates that may have signed the certificate: the
+		 * ones with the authority key identifier of the certificate, or if not
+		 * known, the ones with the issuer name of the certificate.
+		 */
+		List<Cert> getIssuerCandidates(X509Certificate certificate) {
+			ByteString keyId = getKeyIdentifier(certificate, true);
+			List<Cert> list = keyId == null ? null : byKeyIdentifier.get(keyId);
+			if (list == null)
+				list = bySubject.get(certificate.getIssuerX500Principal());
+			return list == null ? Collections.<Cert>emptyList() : list;
+		}
+
+		private static boolean isIndirect(X509CRL crl) {
+			Set<? extends X509CRLEntry> entries = crl.getRevokedCertificates();
+			if (entries != null)
+				for (X509CRLEntry e : entries)
+					if (e.getCertificateIssuer() != null)
+						return true;
+			return false;
+		}
+
+		private static <K, V> void add(Map<K, List<V>> map, K key, V value) {
+			List<V> list = map.get(key);
+			if (list == null) {
+				list = new ArrayList<V>(1);
+				map.put(key, list);
+			}
+			list.add(value);
+		}
+	}
+
+	/**
+	 * Forwards the notifications of a store to a validator, without keeping
+	 * the validator reachable. Removes itself from the store after the
+	 * validator has been garbage collected.
+	 */
+	private static final class WeakStoreListener implements DefaultCertificateStoreListener {
+		final WeakReference<DefaultCertificateValidator> validator;
+		final PkiDirectoryCertificateStore store;
+
+		WeakStoreListener(DefaultCertificateValidator validator, PkiDirectoryCertificateStore store) {
+			this.validator = new WeakReference<DefaultCertificateValidator>(validator);
+			this.store = store;
+		}
+
+		private DefaultCertificateStoreListener get() {
+			DefaultCertificateValidator v = validator.get();
+			if (v == null) {
+				store.removeListener(this);
+				return null;
+			}
+			return v.storeListener;
+		}
+
+		@Override
+		public void onTrustedCertificateAdded(Cert cert) {
+			DefaultCertificateStoreListener l = get();
+			if (l != null)
+				l.onTrustedCertificateAdded(cert);
+		}
+
+		@Override
+		public void onRejectedCertificateAdded(Cert cert) {
+			DefaultCertificateStoreListener l = get();
+			if (l != null)
+				l.onRejectedCertificateAdded(cert);
+		}
+
+		@Override
+		public void onRevokedListAdded(X509CRL crl) {
+			DefaultCertificateStoreListener l = get();
+			if (l != null)
+				l.onRevokedListAdded(crl);
+		}
+	}
+
+	/**
+	 * The result of the revocation and signature checks of a certificate.
+	 */
+	private static final class ChainResult {
+		/** Generation of the index, that the result was computed with */
+		final int generation;
+		final boolean revoked;
+		final boolean selfSigned;
+		/** Result of the issuer chain validation of a certificate that is not self-signed */
+		final StatusCode result;
+		/** The time when the validity of an issuer changes, until which the result may be reused */
+		final long expires;
+
+		ChainResult(int generation, boolean revoked, boolean selfSigned, StatusCode result, long expires) {
+			this.generation = generation;
+			this.revoked = revoked;
+			this.selfSigned = selfSigned;
+			this.result = result;
+			this.expires = expires;
 		}
-		return false;
 	}
 
 	/*
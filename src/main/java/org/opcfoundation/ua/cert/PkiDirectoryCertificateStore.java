@@ -16,35 +16,69 @@ import org.opcfoundation.ua.transport.security.*;
 import org.slf4j.*;
 
 import java.io.*;
-import java.security.*;
+import java.nio.file.*;
 import java.security.cert.*;
 import java.util.*;
-import java.util.Map.*;
 import java.util.concurrent.*;
 
-public class PkiDirectoryCertificateStore implements CertificateStore{
+/**
+ * A certificate store, which keeps the certificates in directories.
+ * <p>
+ * The directories are watched with a {@link WatchService}, and only the files
+ * that have changed are read again. If the directories cannot be watched, they
+ * are rescanned at most once per second, comparing the modification time and
+ * size of the files. The contents are published as immutable snapshots, so
+ * the sets returned by the getters are consistent and stay the same until
+ * the contents change. A snapshot is built when the contents are read after
+ * a change.
+ * <p>
+ * Rejected certificates are written to the disk in the background. If too
+ * many are waiting to be written, the rest are not written, and are kept in
+ * memory until the directory is scanned again.
+ * <p>
+ * {@link #close()} the store when it is no longer used, to stop watching the
+ * directories.
+ */
+public class PkiDirectoryCertificateStore implements CertificateStore, Closeable{
 
 	private static final Logger logger = LoggerFactory.getLogger(PkiDirectoryCertificateStore.class);
 	
 	private static final String FILE_EXTENSION = ".der";
 
+	private static final String CRL_FILE_EXTENSION = ".crl";
 	
 	private static final String HEXES = "0123456789ABCDEF";
 	
+	/** Min interval of directory rescans, if the directories cannot be watched */
+	private static final long SCAN_INTERVAL = 1000;
 	
-	private final Map<String, Cert> rejectedCertificates = new ConcurrentHashMap<String, Cert>();
-	private final Map<String, Cert> trustedCertificates = new ConcurrentHashMap<String, Cert>();
-	private final Set<X509CRL> revocationLists = new CopyOnWriteArraySet<X509CRL>();
+	/** Max number of rejected certificates waiting to be written */
+	private static final int MAX_PENDING_REJECTED_WRITES = 100;
 	
 	private final File baseDir;
 	private final File revocationDir;
 	private final File rejectedDir;
 
-
-
 	private final File trustedDir;
 
-	private final CopyOnWriteArraySet<PublicKey> trustedPublicKeys = new CopyOnWriteArraySet<PublicKey>();
+	/** The files of each directory. Guarded by this. */
+	private final Map<File, FileEntry> trustedFiles = new HashMap<File, FileEntry>();
+	private final Map<File, FileEntry> rejectedFiles = new HashMap<File, FileEntry>();
+	private final Map<File, FileEntry> revocationFiles = new HashMap<File, FileEntry>();
+	
+	/** Revocation lists added with {@link #addRevocationList(X509CRL)}. Guarded by this. */
+	private final Set<X509CRL> addedRevocationLists = new HashSet<X509CRL>();
+	
+	/** The current contents, or null if they have changed since the last snapshot */
+	private volatile Snapshot snapshot;
+	
+	/** Watches the directories, or null if not supported */
+	private WatchService watchService;
+	
+	/** Time of the last scan of the directories. Guarded by this. */
+	private long lastScanTime;
+	
+	private final ThreadPoolExecutor rejectedWriter;
 	
 	private boolean storeAcceptOnceCertificates = true;
 
@@ -93,13 +127,29 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 	 */
 	public PkiDirectoryCertificateStore(String baseDir, String trustedDir, String rejectedDir,
 			String revocationDir) {
-		this.listeners = new ArrayList<DefaultCertificateStoreListener>();
+		this.listeners = new CopyOnWriteArrayList<DefaultCertificateStoreListener>();
 		this.baseDir = new File(baseDir);
 		// if (!this.baseDir.exists())
 		// this.baseDir.mkdir();
 		this.trustedDir = new File(baseDir, trustedDir);
 		this.rejectedDir = new File(baseDir, rejectedDir);
 		this.revocationDir = new File(baseDir, revocationDir);
+		this.rejectedWriter = new ThreadPoolExecutor(1, 1, 3L, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<Runnable>(MAX_PENDING_REJECTED_WRITES), new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "PkiDirectoryCertificateStore-Writer");
+						t.setDaemon(true);
+						return t;
+					}
+				}, new RejectedExecutionHandler() {
+					@Override
+					public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+						logger.warn("Too many rejected certificates waiting to be written, {} is kept in memory only", r);
+						((RejectedWrite) r).dropped();
+					}
+				});
+		this.rejectedWriter.allowCoreThreadTimeOut(true);
 		init();
 	}
 	
@@ -111,14 +161,25 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 	
 	
 	/**
-	 * Add a certificate to the rejected certificates.
+	 * Add a certificate to the rejected certificates. The certificate file
+	 * is written in the background.
 	 *
 	 * @param certificate
 	 *            the certificate to add
 	 */
 	public void addRejectedCertificate(Cert certificate){
-		listAdd(rejectedCertificates, rejectedDir, certificate);
-		removeCertificate(trustedCertificates, trustedDir, certificate);
+		synchronized (this) {
+			File file = getFileForCert(rejectedDir, certificate);
+			FileEntry e = rejectedFiles.get(file);
+			if (e == null || e.cert == null) {
+				FileEntry entry = new FileEntry(certificate, null);
+				entry.pending = true;
+				rejectedFiles.put(file, entry);
+				rejectedWriter.execute(new RejectedWrite(file, entry));
+			}
+			removeCertificate(trustedFiles, certificate);
+			contentsChanged();
+		}
 		logger.info("Certificate '{}' added to rejected certificates.", getCertKey(certificate));
 		fireAddedRejected(certificate);
 	}
@@ -131,7 +192,10 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 	 * @param crl revocation list to add
 	 */
 	public void addRevocationList(X509CRL crl){
-		revocationLists.add(crl);
+		synchronized (this) {
+			addedRevocationLists.add(crl);
+			contentsChanged();
+		}
 		fireAddedRevocationList(crl);
 	}
 	
@@ -143,40 +207,41 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 	 */
 	public void addTrustedCertificate(Cert certificate) {
 		logger.debug("addTrustedCertificate");
-		listAdd(trustedCertificates, trustedDir, certificate);
-		removeCertificate(rejectedCertificates, rejectedDir, certificate);
+		synchronized (this) {
+			File file = getFileForCert(trustedDir, certificate);
+			try {
+				if (!file.exists())
+					certificate.save(file);
+			} catch (IOException e) {
+				logger.error("Cannot write to directory " + trustedDir, e);
+			}
+			FileEntry entry = new FileEntry(certificate, null);
+			entry.lastModified = file.lastModified();
+			entry.length = file.length();
+			trustedFiles.put(file, entry);
+			removeCertificate(rejectedFiles, certificate);
+			contentsChanged();
+		}
 		logger.info("Certificate '{}' added to trusted certificates.", getCertKey(certificate));
 		fireAddedTrusted(certificate);
 	}
 	
 	@Override
 	public Set<Cert> getTrustedCerts() {
-		init();
-		HashSet<Cert> set = new HashSet<Cert>();
-		for(Entry<String, Cert> e : trustedCertificates.entrySet()){
-			set.add(e.getValue());
-		}
-		return Collections.unmodifiableSet(set);
+		update();
+		return getSnapshot().trustedCerts;
 	}
 	
 	@Override
 	public Set<Cert> getRejectedCerts() {
-		init();
-		HashSet<Cert> set = new HashSet<Cert>();
-		for(Entry<String, Cert> e : rejectedCertificates.entrySet()){
-			set.add(e.getValue());
-		}
-		return Collections.unmodifiableSet(set);
+		update();
+		return getSnapshot().rejectedCerts;
 	}
 
 	@Override
 	public Set<X509CRL> getRevocationLists() {
-		init();
-		HashSet<X509CRL> set = new HashSet<X509CRL>();
-		for(X509CRL crl : revocationLists){
-			set.add(crl);
-		}
-		return Collections.unmodifiableSet(set); 
+		update();
+		return getSnapshot().revocationLists;
 	}
 
 	@Override
@@ -249,10 +314,11 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 		if (cert == null)
 			return null;
 
-		if (trustedCertificates.containsKey(getCertKey(cert)))
+		Snapshot s = getSnapshot();
+		if (s.trusted.containsKey(getCertKey(cert)))
 			return getFileForCert(trustedDir, cert);
 
-		if (rejectedCertificates.containsKey(getCertKey(cert)))
+		if (s.rejected.containsKey(getCertKey(cert)))
 			return getFileForCert(rejectedDir, cert);
 
 		return null;
@@ -280,10 +346,15 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 	 * Refresh certificates. Call this method in case you change certificates
 	 * outside of this instance (e.g. move files on disk) and want to refresh
 	 * before a validateCertificate call happens (which does this
-	 * automatically).
+	 * automatically, once the change has been noticed).
+	 * <p>
+	 * All directories are scanned, but only the files that have changed are read.
 	 */
 	public void refresh() {
-		init();
+		synchronized (this) {
+			if (scan())
+				contentsChanged();
+		}
 	}
 	
 	
@@ -303,83 +374,295 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 	 *            with this!
 	 */
 	public void clear(boolean removeFiles) {
-		if (removeFiles) {
-			for (File f : trustedDir.listFiles())
-				f.delete();
-
-			for (File f : rejectedDir.listFiles())
-				f.delete();
-
-			for (File f : revocationDir.listFiles())
-				f.delete();
+		synchronized (this) {
+			if (removeFiles) {
+				deleteFiles(trustedDir);
+				deleteFiles(rejectedDir);
+				deleteFiles(revocationDir);
+			}
+			trustedFiles.clear();
+			rejectedFiles.clear();
+			revocationFiles.clear();
+			scan();
+			contentsChanged();
+		}
+	}
+	
+	/**
+	 * Stop watching the directories and finish writing the rejected
+	 * certificates. The store can still be used, but the directories are
+	 * then only rescanned periodically.
+	 */
+	public void close() {
+		synchronized (this) {
+			if (watchService != null) {
+				try {
+					watchService.close();
+				} catch (IOException e) {
+					logger.debug("Cannot close watch service", e);
+				}
+				watchService = null;
+			}
 		}
-		trustedCertificates.clear();
-		rejectedCertificates.clear();
+		rejectedWriter.shutdown();
 	}
 	
 	/**
 	 * Initialize the certificate lists by reading the certificates from the
-	 * directories.
-	 *
-	 * Synchronized because we should not allow refresh and validateCertificate
-	 * calls to init at the same time.
+	 * directories, and start watching the directories.
 	 */
 	private synchronized void init() {
-		initCertificates(trustedCertificates, trustedDir, rejectedCertificates);
-		for (Cert c : trustedCertificates.values())
-			trustedPublicKeys.add(c.getCertificate().getPublicKey());
-		initCertificates(rejectedCertificates, rejectedDir, trustedCertificates);
+		trustedDir.mkdirs();
+		rejectedDir.mkdirs();
+		revocationDir.mkdirs();
+		try {
+			// Start watching before the scan, so that no change is missed
+			WatchService ws = FileSystems.getDefault().newWatchService();
+			try {
+				for (File dir : new File[] { trustedDir, rejectedDir, revocationDir })
+					dir.toPath().register(ws, StandardWatchEventKinds.ENTRY_CREATE,
+							StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+				watchService = ws;
+			} catch (IOException e) {
+				ws.close();
+				throw e;
+			}
+		} catch (IOException e) {
+			logger.info("Cannot watch certificate directories, scanning them periodically: {}", e.getMessage());
+		} catch (UnsupportedOperationException e) {
+			logger.info("Cannot watch certificate directories, scanning them periodically: {}", e.getMessage());
+		}
+		scan();
+		contentsChanged();
+	}
+	
+	/**
+	 * Read the files that have changed since the last call.
+	 */
+	private void update() {
+		WatchService ws = watchService;
+		if (ws != null) {
+			WatchKey key;
+			try {
+				key = ws.poll();
+			} catch (ClosedWatchServiceException e) {
+				return;
+			}
+			if (key == null)
+				return;
+			synchronized (this) {
+				boolean changed = false;
+				boolean overflow = false;
+				for (; key != null; key = ws.poll()) {
+					File dir = ((Path) key.watchable()).toFile();
+					for (WatchEvent<?> event : key.pollEvents()) {
+						if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+							overflow = true;
+						else
+							changed |= update(new File(dir, event.context().toString()), getFiles(dir), dir.equals(revocationDir));
+					}
+					if (!key.reset()) {
+						// The directory has been removed
+						overflow = true;
+					}
+				}
+				if (overflow)
+					changed |= scan();
+				if (changed)
+					contentsChanged();
+			}
+		} else {
+			synchronized (this) {
+				if (System.currentTimeMillis() - lastScanTime < SCAN_INTERVAL)
+					return;
+				if (scan())
+					contentsChanged();
+			}
+		}
 	}
 	
-	private void initCertificates(Map<String, Cert> certificates, File dir, Map<String, Cert> removeFromCertificateList) {
+	/**
+	 * Scan all directories for changed files.
+	 *
+	 * @return true if something changed
+	 */
+	private boolean scan() {
+		lastScanTime = System.currentTimeMillis();
+		boolean changed = scan(trustedDir, trustedFiles, false);
+		changed |= scan(rejectedDir, rejectedFiles, false);
+		changed |= scan(revocationDir, revocationFiles, true);
+		return changed;
+	}
+	
+	private boolean scan(File dir, Map<File, FileEntry> files, boolean crl) {
 		if (!dir.exists())
 			dir.mkdirs();
-		if (dir.isDirectory())
-			for (File file : dir.listFiles())
-				if (dir.equals(revocationDir) && file.getName().endsWith(".crl"))
-					initCRL(file);
-				else
-					try {
-						final Cert certificate = Cert.load(file);
-						listAdd(certificates, dir, certificate);
-						logger.debug("Certificate from '{}' added to accepted certificates", file);
-						if (removeFromCertificateList != null)
-							removeFromCertificateList.remove(getCertKey(certificate));
-					} catch (IOException e) {
-						logger.info("File '{}' is not a certificate: {}", file, e.getMessage());
-					} catch (CertificateException e) {
-						logger.info("File '{}' is not a valid certificate: {}", file, e.getMessage());
-					}
+		File[] list = dir.listFiles();
+		if (list == null)
+			return false;
+		boolean changed = false;
+		Set<File> found = new HashSet<File>();
+		for (File file : list) {
+			found.add(file);
+			changed |= update(file, files, crl);
+		}
+		for (Iterator<Map.Entry<File, FileEntry>> i = files.entrySet().iterator(); i.hasNext();) {
+			Map.Entry<File, FileEntry> e = i.next();
+			if (!e.getValue().pending && !found.contains(e.getKey())) {
+				i.remove();
+				changed = true;
+			}
+		}
+		return changed;
 	}
 	
-	private void initCRL(File file) {
+	/**
+	 * Read a file, if it has changed.
+	 *
+	 * @return true if something changed
+	 */
+	private boolean update(File file, Map<File, FileEntry> files, boolean crl) {
+		FileEntry e = files.get(file);
+		if (e != null && e.pending)
+			return false;
+		if (!file.isFile()) {
+			if (e == null)
+				return false;
+			files.remove(file);
+			return true;
+		}
+		long lastModified = file.lastModified();
+		long length = file.length();
+		if (e != null && e.lastModified == lastModified && e.length == length)
+			return false;
+		FileEntry entry = crl ? readCRL(file) : readCertificate(file);
+		entry.lastModified = lastModified;
+		entry.length = length;
+		files.put(file, entry);
+		return true;
+	}
+	
+	private FileEntry readCertificate(File file) {
+		try {
+			Cert certificate = Cert.load(file);
+			logger.debug("Certificate from '{}' added to accepted certificates", file);
+			return new FileEntry(certificate, null);
+		} catch (IOException e) {
+			logger.info("File '{}' is not a certificate: {}", file, e.getMessage());
+		} catch (CertificateException e) {
+			logger.info("File '{}' is not a valid certificate: {}", file, e.getMessage());
+		}
+		return new FileEntry(null, null);
+	}
+	
+	private FileEntry readCRL(File file) {
+		if (!file.getName().endsWith(CRL_FILE_EXTENSION))
+			return new FileEntry(null, null);
 		try {
 			CertificateFactory certFactory = CertificateFactory.getInstance("X.509");
 			FileInputStream fis = new FileInputStream(file);
-			X509CRL crl = (X509CRL) certFactory.generateCRL(fis);
-			revocationLists.add(crl);
+			X509CRL crl;
+			try {
+				crl = (X509CRL) certFactory.generateCRL(fis);
+			} finally {
+				fis.close();
+			}
 			logger.info("CRL initialized from " + file + ": " + (crl.getRevokedCertificates() == null
 					? "no revoked certificates" : crl.getRevokedCertificates().size() + " certificates revoked"));
+			return new FileEntry(null, crl);
 		} catch (Exception e) {
 			logger.warn("Could not read CRL file {}: {}", file, e.getMessage());
+			return new FileEntry(null, null);
 		}
 	}
 	
-	private void listAdd(Map<String, Cert> certificates, File dir, Cert certificate) {
-		logger.debug("listAdd: cert={}; dir={}", getCertKey(certificate), dir);
-		if (!certificates.containsKey(certificate)) {
+	private Map<File, FileEntry> getFiles(File dir) {
+		if (dir.equals(trustedDir))
+			return trustedFiles;
+		if (dir.equals(rejectedDir))
+			return rejectedFiles;
+		return revocationFiles;
+	}
+	
+	/**
+	 * Discard the snapshot after the contents have changed. Guarded by this.
+	 */
+	private void contentsChanged() {
+		snapshot = null;
+	}
+	
+	/**
+	 * Get the snapshot of the current contents, building it if the contents
+	 * have changed. A certificate which is both trusted and rejected is rejected.
+	 */
+	private Snapshot getSnapshot() {
+		Snapshot s = snapshot;
+		if (s != null)
+			return s;
+		synchronized (this) {
+			if (snapshot == null)
+				snapshot = buildSnapshot();
+			return snapshot;
+		}
+	}
+	
+	private Snapshot buildSnapshot() {
+		Map<String, Cert> rejected = new HashMap<String, Cert>();
+		for (FileEntry e : rejectedFiles.values())
+			if (e.cert != null)
+				rejected.put(getCertKey(e.cert), e.cert);
+		Map<String, Cert> trusted = new HashMap<String, Cert>();
+		for (FileEntry e : trustedFiles.values())
+			if (e.cert != null && !rejected.containsKey(getCertKey(e.cert)))
+				trusted.put(getCertKey(e.cert), e.cert);
+		Set<X509CRL> crls = new HashSet<X509CRL>(addedRevocationLists);
+		for (FileEntry e : revocationFiles.values())
+			if (e.crl != null)
+				crls.add(e.crl);
+		logger.debug("certificates: trusted={} rejected={} crls={}", trusted.size(), rejected.size(), crls.size());
+		return new Snapshot(trusted, rejected, crls);
+	}
+	
+	private void writeRejected(File file, FileEntry entry) {
+		synchronized (this) {
+			// The certificate may have been trusted or cleared meanwhile
+			if (rejectedFiles.get(file) != entry)
+				return;
 			try {
-				final File fileForCert = getFileForCert(dir, certificate);
-				if (!fileForCert.exists())
-					certificate.save(fileForCert);
+				if (!file.exists())
+					entry.cert.save(file);
+				entry.lastModified = file.lastModified();
+				entry.length = file.length();
 			} catch (IOException e) {
-				logger.error("Cannot write to directory " + dir, e);
+				logger.error("Cannot write to directory " + rejectedDir, e);
 			}
-			certificates.put(getCertKey(certificate), certificate);
+			entry.pending = false;
 		}
-		logger.debug("certificates.size()={}", certificates.size());
 	}
-
+	
+	/**
+	 * Delete the files of a certificate from a directory.
+	 */
+	private void removeCertificate(Map<File, FileEntry> files, Cert certificate) {
+		String key = getCertKey(certificate);
+		logger.debug("removeCertificate: cert={}", key);
+		for (Iterator<Map.Entry<File, FileEntry>> i = files.entrySet().iterator(); i.hasNext();) {
+			Map.Entry<File, FileEntry> e = i.next();
+			Cert c = e.getValue().cert;
+			if (c != null && key.equals(getCertKey(c))) {
+				e.getKey().delete();
+				i.remove();
+			}
+		}
+	}
+	
+	private static void deleteFiles(File dir) {
+		File[] files = dir.listFiles();
+		if (files != null)
+			for (File f : files)
+				f.delete();
+	}
+	
 	private String getCertKey(Cert certificate) {
 		return getHex(certificate.getEncodedCertificateThumbprint());
 	}
@@ -409,16 +692,71 @@ public class PkiDirectoryCertificateStore implements CertificateStore{
 		}
 	}
 	
-	private void removeCertificate(Map<String, Cert> certificates, File dir, Cert certificate) {
-		logger.debug("removeCertificate: cert={} dir={}", getCertKey(certificate), dir);
-		logger.debug("certificates.size()={}", certificates.size());
+	/**
+	 * Writes a rejected certificate in the background.
+	 */
+	private final class RejectedWrite implements Runnable {
+		final File file;
+		final FileEntry entry;
+		
+		RejectedWrite(File file, FileEntry entry) {
+			this.file = file;
+			this.entry = entry;
+		}
+		
+		@Override
+		public void run() {
+			writeRejected(file, entry);
+		}
+		
+		/**
+		 * The write was dropped, so the directory decides again about the file.
+		 */
+		void dropped() {
+			synchronized (PkiDirectoryCertificateStore.this) {
+				entry.pending = false;
+			}
+		}
+		
+		@Override
+		public String toString() {
+			return file.getName();
+		}
+	}
+	
+	/**
+	 * A file in a directory and its contents.
+	 */
+	private static final class FileEntry {
+		final Cert cert;
+		final X509CRL crl;
+		long lastModified;
+		long length;
+		/** True, if the file has not been written yet */
+		boolean pending;
+
+		FileEntry(Cert cert, X509CRL crl) {
+			this.cert = cert;
+			this.crl = crl;
+		}
+	}
+	
+	/**
+	 * Immutable contents of the store.
+	 */
+	private static final class Snapshot {
+		final Map<String, Cert> trusted;
+		final Map<String, Cert> rejected;
+		final Set<Cert> trustedCerts;
+		final Set<Cert> rejectedCerts;
+		final Set<X509CRL> revocationLists;
 
-		File file = getFileForCert(dir, certificate);
-		file.delete();
-		Cert c = certificates.remove(getCertKey(certificate));
-		if (logger.isDebugEnabled()) {
-			logger.debug("c=" + (c == null ? "null" : c.getEncodedCertificateThumbprint()));
-			logger.debug("certificates.size()={}", certificates.size());
+		Snapshot(Map<String, Cert> trusted, Map<String, Cert> rejected, Set<X509CRL> revocationLists) {
+			this.trusted = trusted;
+			this.rejected = rejected;
+			this.trustedCerts = Collections.unmodifiableSet(new HashSet<Cert>(trusted.values()));
+			this.rejectedCerts = Collections.unmodifiableSet(new HashSet<Cert>(rejected.values()));
+			this.revocationLists = Collections.unmodifiableSet(revocationLists);
 		}
 	}
 
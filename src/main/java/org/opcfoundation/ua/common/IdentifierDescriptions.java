@@ -13,49 +13,23 @@
 package org.opcfoundation.ua.common;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.opcfoundation.ua.builtintypes.NodeId;
-import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.core.Identifiers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Reads statuscode description annotations from generated StatusCode class
- * using reflection. Based on StatusCodeDescriptions.
+ * Looks up the NodeIds of the generated Identifiers class by name using
+ * reflection. Only the family of Identifiers that declares the name is
+ * initialized.
  *
- * @see StatusCode
+ * @see Identifiers
  * @author Otso Palonen (otso.palonen@prosys.fi)
  */
 public class IdentifierDescriptions {
 
-	private static Map<String, NodeId> NAME_MAP = null;
-
-	private static synchronized void readDescriptions() {
-		if (NAME_MAP != null)
-			return;
-
-		NAME_MAP = new HashMap<String, NodeId>();
-
-		Class<?> clazz;
-		try {
-			clazz = Class.forName("org.opcfoundation.ua.core.Identifiers");
-			for (Field f : clazz.getFields()) {
-				if (!f.getType().equals(NodeId.class))
-					continue;
-				f.setAccessible(true);
-				NodeId nodeId = (NodeId) f.get(null);
-				String name = f.getName();
-				NAME_MAP.put(name, nodeId);
-			}
-		} catch (ClassNotFoundException e) {
-			e.printStackTrace();
-		} catch (IllegalArgumentException e) {
-			e.printStackTrace();
-		} catch (IllegalAccessException e) {
-			e.printStackTrace();
-		}
-
-	}
+	private static final Logger logger = LoggerFactory.getLogger(IdentifierDescriptions.class);
 
 	/**
 	 * <p>toNodeId.</p>
@@ -64,8 +38,16 @@ public class IdentifierDescriptions {
 	 * @return a {@link org.opcfoundation.ua.builtintypes.NodeId} object.
 	 */
 	public static NodeId toNodeId(String name) {
-		readDescriptions();
-		NodeId nodeId = NAME_MAP.get(name);
+		NodeId nodeId = null;
+		try {
+			Field f = Identifiers.class.getField(name);
+			if (f.getType().equals(NodeId.class))
+				nodeId = (NodeId) f.get(null);
+		} catch (NoSuchFieldException e) {
+			logger.debug("No identifier {}", name);
+		} catch (IllegalAccessException e) {
+			logger.error("Cannot read identifier " + name, e);
+		}
 		if (nodeId == null)
 			throw new IllegalArgumentException("NodeId not found: " + name);
 		return nodeId;
@@ -12,54 +12,65 @@
 
 package org.opcfoundation.ua.common;
 
-import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Map;
 
 import org.opcfoundation.ua.builtintypes.StatusCode;
 import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.core.StatusCodeNames;
+import org.opcfoundation.ua.core.StatusCodes;
 import org.opcfoundation.ua.utils.Description;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Reads statuscode description annotations from generated StatusCode class
  * using reflection.
+ * <p>
+ * The codes and names are looked up in the generated {@link StatusCodeNames}
+ * table. The description annotations are read only when a description is
+ * first requested.
  *
  * @see StatusCode
  * @author Toni Kalajainen (toni.kalajainen@vtt.fi)
  */
 public class StatusCodeDescriptions {
 
-    private static Map<UnsignedInteger, String> ERROR_NAMES = null;
-    private static Map<UnsignedInteger, String> ERROR_DESCRIPTIONS = null;
-    private static Map<String, UnsignedInteger> ERROR_NAMES_REV = null;
+    private static final Logger logger = LoggerFactory.getLogger(StatusCodeDescriptions.class);
 
-    private static final int MASK = StatusCode.SEVERITY_MASK | StatusCode.SUBCODE_MASK;      
-    
-    private static synchronized void readDescriptions() {
-    	if (ERROR_NAMES!=null) return;
-    	ERROR_NAMES = new HashMap<UnsignedInteger, String>();
-    	ERROR_DESCRIPTIONS = new HashMap<UnsignedInteger, String>();
-    	ERROR_NAMES_REV = new HashMap<String, UnsignedInteger>();
-    	try {
-			Class<?> clazz = Class.forName("org.opcfoundation.ua.core.StatusCodes");			
-			
-			for (Field f : clazz.getFields()) {
-				if (!f.getType().equals(UnsignedInteger.class)) continue;
-				f.setAccessible(true);
-				UnsignedInteger statusCode = (UnsignedInteger) f.get(null);
-				int code = statusCode.intValue() & MASK;
-				String name = f.getName();
-				Description _summary = f.getAnnotation(Description.class);
-				String summary = _summary==null?"":_summary.value();				
-				statusCode = UnsignedInteger.getFromBits(code);				
-				ERROR_DESCRIPTIONS.put(statusCode, summary);
-				ERROR_NAMES.put(statusCode, name);
-				ERROR_NAMES_REV.put(name, statusCode);
-			}			
-		} catch (Exception e) {
-		}
+    private static final int MASK = StatusCode.SEVERITY_MASK | StatusCode.SUBCODE_MASK;
+
+    /**
+     * The codes of the status codes by name.
+     */
+    static final class Names {
+        static final Map<String, UnsignedInteger> NAMES_REV = new HashMap<String, UnsignedInteger>();
+
+        static {
+            for (int i = 0; i < StatusCodeNames.size(); i++)
+                NAMES_REV.put(StatusCodeNames.getName(i), UnsignedInteger.getFromBits(StatusCodeNames.getCode(i)));
+        }
     }
-    
+
+    /**
+     * The descriptions of the codes of {@link StatusCodeNames}.
+     */
+    static final class Descriptions {
+        static final String[] DESCRIPTIONS = new String[StatusCodeNames.size()];
+
+        static {
+            for (int i = 0; i < DESCRIPTIONS.length; i++) {
+                Description summary = null;
+                try {
+                    summary = StatusCodes.class.getField(StatusCodeNames.getName(i)).getAnnotation(Description.class);
+                } catch (NoSuchFieldException e) {
+                    logger.warn("No field for status code {}", StatusCodeNames.getName(i));
+                }
+                DESCRIPTIONS[i] = summary == null ? "" : summary.value();
+            }
+        }
+    }
+
     /**
      * <p>getStatusCode.</p>
      *
@@ -68,9 +79,8 @@ public class StatusCodeDescriptions {
      */
     public static String getStatusCode(int statuscode)
     {
-    	readDescriptions();
-    	UnsignedInteger i = UnsignedInteger.getFromBits(statuscode & MASK);
-    	return ERROR_NAMES.get(i);
+    	int i = StatusCodeNames.indexOf(statuscode & MASK);
+    	return i < 0 ? null : StatusCodeNames.getName(i);
     }
 
     /**
@@ -81,9 +91,8 @@ public class StatusCodeDescriptions {
      */
     public static String getStatusCodeDescription(int statuscode)
     {
-    	readDescriptions();
-    	UnsignedInteger i = UnsignedInteger.getFromBits(statuscode & MASK);
-    	return ERROR_DESCRIPTIONS.get(i);
+    	int i = StatusCodeNames.indexOf(statuscode & MASK);
+    	return i < 0 ? null : Descriptions.DESCRIPTIONS[i];
     }
 
     /**
@@ -94,9 +103,8 @@ public class StatusCodeDescriptions {
      */
     public static String getStatusCodeDescription(StatusCode statusCode)
     {
-    	readDescriptions();
-    	UnsignedInteger i = UnsignedInteger.getFromBits(statusCode.getValueAsIntBits());
-    	return ERROR_DESCRIPTIONS.get(i);
+    	int i = StatusCodeNames.indexOf(statusCode.getValueAsIntBits() & MASK);
+    	return i < 0 || (statusCode.getValueAsIntBits() & ~MASK) != 0 ? null : Descriptions.DESCRIPTIONS[i];
     }
 
     /**
@@ -107,8 +115,7 @@ public class StatusCodeDescriptions {
      */
     public static UnsignedInteger getStatusCode(String description)
     {
-    	readDescriptions();
-    	return ERROR_NAMES_REV.get(description);
+    	return Names.NAMES_REV.get(description);
     }
     
 }
@@ -12,16 +12,52 @@
 package org.opcfoundation.ua.common;
 
 import java.util.Arrays;
-
-import org.opcfoundation.ua.utils.BijectionMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * <p>UriTable class.</p>
- *
+ * <p>
+ * The table is kept in an immutable snapshot that is replaced on every change,
+ * so lookups are lock free: {@link #getUri(int)} is an array lookup and
+ * {@link #getIndex(String)} a hash lookup. Changes are synchronized and are
+ * reported to the {@link UriTableListener}s of the table, e.g. to invalidate
+ * caches of converted ids.
  */
 public class UriTable {
 
-	BijectionMap<Integer, String> indexUriMap = new BijectionMap<Integer, String>();
+	/**
+	 * Listener of changes to a table.
+	 */
+	public interface UriTableListener {
+		/**
+		 * Called after the table has changed.
+		 *
+		 * @param table the table
+		 */
+		void onChange(UriTable table);
+	}
+
+	/**
+	 * Immutable contents of the table.
+	 */
+	static final class Snapshot {
+		static final Snapshot EMPTY = new Snapshot(new String[0], new HashMap<String, Integer>());
+
+		/** URIs by index, null for unused indexes */
+		final String[] uris;
+		final Map<String, Integer> indexes;
+
+		Snapshot(String[] uris, Map<String, Integer> indexes) {
+			this.uris = uris;
+			this.indexes = indexes;
+		}
+	}
+
+	volatile Snapshot snapshot = Snapshot.EMPTY;
+	final List<UriTableListener> listeners = new CopyOnWriteArrayList<UriTableListener>();
 
 	/**
 	 * <p>Constructor for UriTable.</p>
@@ -35,16 +71,9 @@ public class UriTable {
 	 *
 	 * @return an array of {@link java.lang.String} objects.
 	 */
-	public synchronized String[] toArray() {
-		int len = 0;
-		for (Integer i : indexUriMap.getLeftSet())
-			if (i > len)
-				len = i;
-		len++;
-		String result[] = new String[len];
-		for (int i = 0; i < len; i++)
-			result[i] = indexUriMap.getRight(i);
-		return result;
+	public String[] toArray() {
+		String[] uris = snapshot.uris;
+		return uris.length == 0 ? new String[1] : uris.clone();
 	}
 
 	/**
@@ -56,7 +85,8 @@ public class UriTable {
 	 *         index
 	 */
 	public String getUri(int index) {
-		return indexUriMap.getRight(index);
+		String[] uris = snapshot.uris;
+		return index < 0 || index >= uris.length ? null : uris[index];
 	}
 
 	/**
@@ -67,7 +97,7 @@ public class UriTable {
 	 * @return the index of the URI or -1, if it is not in the table
 	 */
 	public int getIndex(String namespaceUri) {
-		Integer i = indexUriMap.getLeft(namespaceUri);
+		Integer i = snapshot.indexes.get(namespaceUri);
 		if (i == null)
 			return -1;
 		return i;
@@ -84,21 +114,21 @@ public class UriTable {
 		return add(-1, uri);
 	}
 
-	private int nextIndex() {
-		int result = -1;
-		for (int i : indexUriMap.getLeftSet())
-			if (i > result)
-				result = i;
-		return result + 1;
-	}
-
 	/**
 	 * Remove the entry for the specified index
 	 *
 	 * @param index a int.
 	 */
 	public void remove(int index) {
-		indexUriMap.removeWithLeft(index);
+		boolean changed;
+		synchronized (this) {
+			String uri = getUri(index);
+			changed = uri != null;
+			if (changed)
+				removeEntry(index, uri);
+		}
+		if (changed)
+			fireChange();
 	}
 
 	/**
@@ -107,7 +137,15 @@ public class UriTable {
 	 * @param uri a {@link java.lang.String} object.
 	 */
 	public void remove(String uri) {
-		indexUriMap.removeWithRight(uri);
+		boolean changed;
+		synchronized (this) {
+			int index = getIndex(uri);
+			changed = index >= 0;
+			if (changed)
+				removeEntry(index, uri);
+		}
+		if (changed)
+			fireChange();
 	}
 
 	/**
@@ -122,18 +160,15 @@ public class UriTable {
 	 *             if the index is already in use
 	 * @return a int.
 	 */
-	public synchronized int add(int index, String uri) {
-		// check if namespaceIndex already exists
-		int i = getIndex(uri);
-		if (i >= 0)
-			return i;
-		if (index < 0)
-			index = nextIndex();
-		else if (getUri(index) != null)
-			throw new IllegalArgumentException(
-					"namespaceTable already has namespaceIndex " + index);
-		// in other case we are able to add new namespaceIndex with value
-		indexUriMap.map(index, uri);
+	public int add(int index, String uri) {
+		synchronized (this) {
+			// check if namespaceIndex already exists
+			int i = getIndex(uri);
+			if (i >= 0)
+				return i;
+			index = addEntry(index, uri);
+		}
+		fireChange();
 		return index;
 	}
 
@@ -143,8 +178,37 @@ public class UriTable {
 	 * @param namespaceArray an array of {@link java.lang.String} objects.
 	 */
 	public void addAll(String[] namespaceArray) {
-		for (int i = 0; i < namespaceArray.length; i++)
-			add(i, namespaceArray[i]);
+		boolean changed = false;
+		try {
+			synchronized (this) {
+				for (int i = 0; i < namespaceArray.length; i++)
+					if (getIndex(namespaceArray[i]) < 0) {
+						addEntry(i, namespaceArray[i]);
+						changed = true;
+					}
+			}
+		} finally {
+			if (changed)
+				fireChange();
+		}
+	}
+
+	/**
+	 * Add a listener of changes to the table.
+	 *
+	 * @param listener the listener
+	 */
+	public void addListener(UriTableListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Remove a listener of changes to the table.
+	 *
+	 * @param listener the listener
+	 */
+	public void removeListener(UriTableListener listener) {
+		listeners.remove(listener);
 	}
 
 	/**
@@ -162,7 +226,40 @@ public class UriTable {
 	 * @return a int.
 	 */
 	public int size() {
-		return indexUriMap.size();
+		return snapshot.indexes.size();
+	}
+
+	private int addEntry(int index, String uri) {
+		Snapshot s = snapshot;
+		if (index < 0)
+			index = s.uris.length;
+		else if (getUri(index) != null)
+			throw new IllegalArgumentException(
+					"namespaceTable already has namespaceIndex " + index);
+		// in other case we are able to add new namespaceIndex with value
+		String[] uris = Arrays.copyOf(s.uris, Math.max(s.uris.length, index + 1));
+		uris[index] = uri;
+		Map<String, Integer> indexes = new HashMap<String, Integer>(s.indexes);
+		indexes.put(uri, index);
+		snapshot = new Snapshot(uris, indexes);
+		return index;
+	}
+
+	private void removeEntry(int index, String uri) {
+		Snapshot s = snapshot;
+		int length = s.uris.length;
+		String[] uris = s.uris.clone();
+		uris[index] = null;
+		while (length > 0 && uris[length - 1] == null)
+			length--;
+		Map<String, Integer> indexes = new HashMap<String, Integer>(s.indexes);
+		indexes.remove(uri);
+		snapshot = new Snapshot(Arrays.copyOf(uris, length), indexes);
+	}
+
+	private void fireChange() {
+		for (UriTableListener listener : listeners)
+			listener.onChange(this);
 	}
 
 }
@@ -0,0 +1,339 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard data types. Accessed through {@link Identifiers}.
+ */
+public interface DataTypeIdentifiers {
+	
+    public static final NodeId ActivateSessionRequest = Identifiers.init(465);
+    public static final NodeId ActivateSessionResponse = Identifiers.init(468);
+    public static final NodeId AddNodesItem = Identifiers.init(376);
+    public static final NodeId AddNodesRequest = Identifiers.init(486);
+    public static final NodeId AddNodesResponse = Identifiers.init(489);
+    public static final NodeId AddNodesResult = Identifiers.init(483);
+    public static final NodeId AddReferencesItem = Identifiers.init(379);
+    public static final NodeId AddReferencesRequest = Identifiers.init(492);
+    public static final NodeId AddReferencesResponse = Identifiers.init(495);
+    public static final NodeId AggregateConfiguration = Identifiers.init(948);
+    public static final NodeId AggregateFilter = Identifiers.init(728);
+    public static final NodeId AggregateFilterResult = Identifiers.init(737);
+    public static final NodeId Annotation = Identifiers.init(891);
+    public static final NodeId AnonymousIdentityToken = Identifiers.init(319);
+    public static final NodeId ApplicationDescription = Identifiers.init(308);
+    public static final NodeId ApplicationInstanceCertificate = Identifiers.init(311);
+    public static final NodeId ApplicationType = Identifiers.init(307);
+    public static final NodeId Argument = Identifiers.init(296);
+    public static final NodeId AttributeOperand = Identifiers.init(598);
+    public static final NodeId AttributeWriteMask = Identifiers.init(347);
+    public static final NodeId AxisInformation = Identifiers.init(12079);
+    public static final NodeId AxisScaleEnumeration = Identifiers.init(12077);
+    public static final NodeId BaseDataType = Identifiers.init(24);
+    public static final NodeId BitFieldMaskDataType = Identifiers.init(11737);
+    public static final NodeId Boolean = Identifiers.init(1);
+    public static final NodeId BrowseDescription = Identifiers.init(514);
+    public static final NodeId BrowseDirection = Identifiers.init(510);
+    public static final NodeId BrowseNextRequest = Identifiers.init(531);
+    public static final NodeId BrowseNextResponse = Identifiers.init(534);
+    public static final NodeId BrowsePath = Identifiers.init(543);
+    public static final NodeId BrowsePathResult = Identifiers.init(549);
+    public static final NodeId BrowsePathTarget = Identifiers.init(546);
+    public static final NodeId BrowseRequest = Identifiers.init(525);
+    public static final NodeId BrowseResponse = Identifiers.init(528);
+    public static final NodeId BrowseResult = Identifiers.init(522);
+    public static final NodeId BrowseResultMask = Identifiers.init(517);
+    public static final NodeId BuildInfo = Identifiers.init(338);
+    public static final NodeId Byte = Identifiers.init(3);
+    public static final NodeId ByteString = Identifiers.init(15);
+    public static final NodeId CallMethodRequest = Identifiers.init(704);
+    public static final NodeId CallMethodResult = Identifiers.init(707);
+    public static final NodeId CallRequest = Identifiers.init(710);
+    public static final NodeId CallResponse = Identifiers.init(713);
+    public static final NodeId CancelRequest = Identifiers.init(477);
+    public static final NodeId CancelResponse = Identifiers.init(480);
+    public static final NodeId ChannelSecurityToken = Identifiers.init(441);
+    public static final NodeId CloseSecureChannelRequest = Identifiers.init(450);
+    public static final NodeId CloseSecureChannelResponse = Identifiers.init(453);
+    public static final NodeId CloseSessionRequest = Identifiers.init(471);
+    public static final NodeId CloseSessionResponse = Identifiers.init(474);
+    public static final NodeId ComplexNumberType = Identifiers.init(12171);
+    public static final NodeId ContentFilter = Identifiers.init(586);
+    public static final NodeId ContentFilterElement = Identifiers.init(583);
+    public static final NodeId ContentFilterElementResult = Identifiers.init(604);
+    public static final NodeId ContentFilterResult = Identifiers.init(607);
+    public static final NodeId ContinuationPoint = Identifiers.init(521);
+    public static final NodeId Counter = Identifiers.init(289);
+    public static final NodeId CreateMonitoredItemsRequest = Identifiers.init(749);
+    public static final NodeId CreateMonitoredItemsResponse = Identifiers.init(752);
+    public static final NodeId CreateSessionRequest = Identifiers.init(459);
+    public static final NodeId CreateSessionResponse = Identifiers.init(462);
+    public static final NodeId CreateSubscriptionRequest = Identifiers.init(785);
+    public static final NodeId CreateSubscriptionResponse = Identifiers.init(788);
+    public static final NodeId DataChangeFilter = Identifiers.init(722);
+    public static final NodeId DataChangeNotification = Identifiers.init(809);
+    public static final NodeId DataChangeTrigger = Identifiers.init(717);
+    public static final NodeId DataTypeAttributes = Identifiers.init(370);
+    public static final NodeId DataTypeNode = Identifiers.init(282);
+    public static final NodeId DataValue = Identifiers.init(23);
+    public static final NodeId Date = Identifiers.init(293);
+    public static final NodeId DateString = Identifiers.init(12881);
+    public static final NodeId DateTime = Identifiers.init(13);
+    public static final NodeId DeadbandType = Identifiers.init(718);
+    public static final NodeId Decimal128 = Identifiers.init(121);
+    public static final NodeId DecimalString = Identifiers.init(12878);
+    public static final NodeId DeleteAtTimeDetails = Identifiers.init(689);
+    public static final NodeId DeleteEventDetails = Identifiers.init(692);
+    public static final NodeId DeleteMonitoredItemsRequest = Identifiers.init(779);
+    public static final NodeId DeleteMonitoredItemsResponse = Identifiers.init(782);
+    public static final NodeId DeleteNodesItem = Identifiers.init(382);
+    public static final NodeId DeleteNodesRequest = Identifiers.init(498);
+    public static final NodeId DeleteNodesResponse = Identifiers.init(501);
+    public static final NodeId DeleteRawModifiedDetails = Identifiers.init(686);
+    public static final NodeId DeleteReferencesItem = Identifiers.init(385);
+    public static final NodeId DeleteReferencesRequest = Identifiers.init(504);
+    public static final NodeId DeleteReferencesResponse = Identifiers.init(507);
+    public static final NodeId DeleteSubscriptionsRequest = Identifiers.init(845);
+    public static final NodeId DeleteSubscriptionsResponse = Identifiers.init(848);
+    public static final NodeId DiagnosticInfo = Identifiers.init(25);
+    public static final NodeId DiscoveryConfiguration = Identifiers.init(12890);
+    public static final NodeId Double = Identifiers.init(11);
+    public static final NodeId DoubleComplexNumberType = Identifiers.init(12172);
+    public static final NodeId Duration = Identifiers.init(290);
+    public static final NodeId DurationString = Identifiers.init(12879);
+    public static final NodeId EUInformation = Identifiers.init(887);
+    public static final NodeId ElementOperand = Identifiers.init(592);
+    public static final NodeId EndpointConfiguration = Identifiers.init(331);
+    public static final NodeId EndpointDescription = Identifiers.init(312);
+    public static final NodeId EndpointUrlListDataType = Identifiers.init(11943);
+    public static final NodeId EnumValueType = Identifiers.init(7594);
+    public static final NodeId Enumeration = Identifiers.init(29);
+    public static final NodeId EventFieldList = Identifiers.init(917);
+    public static final NodeId EventFilter = Identifiers.init(725);
+    public static final NodeId EventFilterResult = Identifiers.init(734);
+    public static final NodeId EventNotificationList = Identifiers.init(914);
+    public static final NodeId ExceptionDeviationFormat = Identifiers.init(890);
+    public static final NodeId ExpandedNodeId = Identifiers.init(18);
+    public static final NodeId FilterOperand = Identifiers.init(589);
+    public static final NodeId FilterOperator = Identifiers.init(576);
+    public static final NodeId FindServersOnNetworkRequest = Identifiers.init(12190);
+    public static final NodeId FindServersOnNetworkResponse = Identifiers.init(12191);
+    public static final NodeId FindServersRequest = Identifiers.init(420);
+    public static final NodeId FindServersResponse = Identifiers.init(423);
+    public static final NodeId Float = Identifiers.init(10);
+    public static final NodeId GetEndpointsRequest = Identifiers.init(426);
+    public static final NodeId GetEndpointsResponse = Identifiers.init(429);
+    public static final NodeId Guid = Identifiers.init(14);
+    public static final NodeId HistoryData = Identifiers.init(656);
+    public static final NodeId HistoryEvent = Identifiers.init(659);
+    public static final NodeId HistoryEventFieldList = Identifiers.init(920);
+    public static final NodeId HistoryModifiedData = Identifiers.init(11217);
+    public static final NodeId HistoryReadDetails = Identifiers.init(641);
+    public static final NodeId HistoryReadRequest = Identifiers.init(662);
+    public static final NodeId HistoryReadResponse = Identifiers.init(665);
+    public static final NodeId HistoryReadResult = Identifiers.init(638);
+    public static final NodeId HistoryReadValueId = Identifiers.init(635);
+    public static final NodeId HistoryUpdateDetails = Identifiers.init(677);
+    public static final NodeId HistoryUpdateRequest = Identifiers.init(698);
+    public static final NodeId HistoryUpdateResponse = Identifiers.init(701);
+    public static final NodeId HistoryUpdateResult = Identifiers.init(695);
+    public static final NodeId HistoryUpdateType = Identifiers.init(11234);
+    public static final NodeId IdType = Identifiers.init(256);
+    public static final NodeId Image = Identifiers.init(30);
+    public static final NodeId ImageBMP = Identifiers.init(2000);
+    public static final NodeId ImageGIF = Identifiers.init(2001);
+    public static final NodeId ImageJPG = Identifiers.init(2002);
+    public static final NodeId ImagePNG = Identifiers.init(2003);
+    public static final NodeId InstanceNode = Identifiers.init(11879);
+    public static final NodeId Int16 = Identifiers.init(4);
+    public static final NodeId Int32 = Identifiers.init(6);
+    public static final NodeId Int64 = Identifiers.init(8);
+    public static final NodeId Integer = Identifiers.init(27);
+    public static final NodeId IntegerId = Identifiers.init(288);
+    public static final NodeId IssuedIdentityToken = Identifiers.init(938);
+    public static final NodeId LiteralOperand = Identifiers.init(595);
+    public static final NodeId LocaleId = Identifiers.init(295);
+    public static final NodeId LocalizedText = Identifiers.init(21);
+    public static final NodeId MdnsDiscoveryConfiguration = Identifiers.init(12891);
+    public static final NodeId MessageSecurityMode = Identifiers.init(302);
+    public static final NodeId MethodAttributes = Identifiers.init(358);
+    public static final NodeId MethodNode = Identifiers.init(276);
+    public static final NodeId ModelChangeStructureDataType = Identifiers.init(877);
+    public static final NodeId ModelChangeStructureVerbMask = Identifiers.init(11941);
+    public static final NodeId ModificationInfo = Identifiers.init(11216);
+    public static final NodeId ModifyMonitoredItemsRequest = Identifiers.init(761);
+    public static final NodeId ModifyMonitoredItemsResponse = Identifiers.init(764);
+    public static final NodeId ModifySubscriptionRequest = Identifiers.init(791);
+    public static final NodeId ModifySubscriptionResponse = Identifiers.init(794);
+    public static final NodeId MonitoredItemCreateRequest = Identifiers.init(743);
+    public static final NodeId MonitoredItemCreateResult = Identifiers.init(746);
+    public static final NodeId MonitoredItemModifyRequest = Identifiers.init(755);
+    public static final NodeId MonitoredItemModifyResult = Identifiers.init(758);
+    public static final NodeId MonitoredItemNotification = Identifiers.init(806);
+    public static final NodeId MonitoringFilter = Identifiers.init(719);
+    public static final NodeId MonitoringFilterResult = Identifiers.init(731);
+    public static final NodeId MonitoringMode = Identifiers.init(716);
+    public static final NodeId MonitoringParameters = Identifiers.init(740);
+    public static final NodeId NamingRuleType = Identifiers.init(120);
+    public static final NodeId NetworkGroupDataType = Identifiers.init(11944);
+    public static final NodeId Node = Identifiers.init(258);
+    public static final NodeId NodeAttributes = Identifiers.init(349);
+    public static final NodeId NodeAttributesMask = Identifiers.init(348);
+    public static final NodeId NodeClass = Identifiers.init(257);
+    public static final NodeId NodeId = Identifiers.init(17);
+    public static final NodeId NodeReference = Identifiers.init(580);
+    public static final NodeId NodeTypeDescription = Identifiers.init(573);
+    public static final NodeId NormalizedString = Identifiers.init(12877);
+    public static final NodeId NotificationData = Identifiers.init(945);
+    public static final NodeId NotificationMessage = Identifiers.init(803);
+    public static final NodeId Number = Identifiers.init(26);
+    public static final NodeId NumericRange = Identifiers.init(291);
+    public static final NodeId ObjectAttributes = Identifiers.init(352);
+    public static final NodeId ObjectNode = Identifiers.init(261);
+    public static final NodeId ObjectTypeAttributes = Identifiers.init(361);
+    public static final NodeId ObjectTypeNode = Identifiers.init(264);
+    public static final NodeId OpenFileMode = Identifiers.init(11939);
+    public static final NodeId OpenSecureChannelRequest = Identifiers.init(444);
+    public static final NodeId OpenSecureChannelResponse = Identifiers.init(447);
+    public static final NodeId OptionSet = Identifiers.init(12755);
+    public static final NodeId ParsingResult = Identifiers.init(610);
+    public static final NodeId PerformUpdateType = Identifiers.init(11293);
+    public static final NodeId ProgramDiagnosticDataType = Identifiers.init(894);
+    public static final NodeId PublishRequest = Identifiers.init(824);
+    public static final NodeId PublishResponse = Identifiers.init(827);
+    public static final NodeId QualifiedName = Identifiers.init(20);
+    public static final NodeId QueryDataDescription = Identifiers.init(570);
+    public static final NodeId QueryDataSet = Identifiers.init(577);
+    public static final NodeId QueryFirstRequest = Identifiers.init(613);
+    public static final NodeId QueryFirstResponse = Identifiers.init(616);
+    public static final NodeId QueryNextRequest = Identifiers.init(619);
+    public static final NodeId QueryNextResponse = Identifiers.init(622);
+    public static final NodeId Range = Identifiers.init(884);
+    public static final NodeId ReadAtTimeDetails = Identifiers.init(653);
+    public static final NodeId ReadEventDetails = Identifiers.init(644);
+    public static final NodeId ReadProcessedDetails = Identifiers.init(650);
+    public static final NodeId ReadRawModifiedDetails = Identifiers.init(647);
+    public static final NodeId ReadRequest = Identifiers.init(629);
+    public static final NodeId ReadResponse = Identifiers.init(632);
+    public static final NodeId ReadValueId = Identifiers.init(626);
+    public static final NodeId RedundancySupport = Identifiers.init(851);
+    public static final NodeId RedundantServerDataType = Identifiers.init(853);
+    public static final NodeId ReferenceDescription = Identifiers.init(518);
+    public static final NodeId ReferenceNode = Identifiers.init(285);
+    public static final NodeId ReferenceTypeAttributes = Identifiers.init(367);
+    public static final NodeId ReferenceTypeNode = Identifiers.init(273);
+    public static final NodeId RegisterNodesRequest = Identifiers.init(558);
+    public static final NodeId RegisterNodesResponse = Identifiers.init(561);
+    public static final NodeId RegisterServer2Request = Identifiers.init(12193);
+    public static final NodeId RegisterServer2Response = Identifiers.init(12194);
+    public static final NodeId RegisterServerRequest = Identifiers.init(435);
+    public static final NodeId RegisterServerResponse = Identifiers.init(438);
+    public static final NodeId RegisteredServer = Identifiers.init(432);
+    public static final NodeId RelativePath = Identifiers.init(540);
+    public static final NodeId RelativePathElement = Identifiers.init(537);
+    public static final NodeId RepublishRequest = Identifiers.init(830);
+    public static final NodeId RepublishResponse = Identifiers.init(833);
+    public static final NodeId RequestHeader = Identifiers.init(389);
+    public static final NodeId ResponseHeader = Identifiers.init(392);
+    public static final NodeId SByte = Identifiers.init(2);
+    public static final NodeId SamplingIntervalDiagnosticsDataType = Identifiers.init(856);
+    public static final NodeId SecurityTokenRequestType = Identifiers.init(315);
+    public static final NodeId SemanticChangeStructureDataType = Identifiers.init(897);
+    public static final NodeId ServerDiagnosticsSummaryDataType = Identifiers.init(859);
+    public static final NodeId ServerOnNetwork = Identifiers.init(12189);
+    public static final NodeId ServerState = Identifiers.init(852);
+    public static final NodeId ServerStatusDataType = Identifiers.init(862);
+    public static final NodeId ServiceCounterDataType = Identifiers.init(871);
+    public static final NodeId ServiceFault = Identifiers.init(395);
+    public static final NodeId SessionAuthenticationToken = Identifiers.init(388);
+    public static final NodeId SessionDiagnosticsDataType = Identifiers.init(865);
+    public static final NodeId SessionSecurityDiagnosticsDataType = Identifiers.init(868);
+    public static final NodeId SetMonitoringModeRequest = Identifiers.init(767);
+    public static final NodeId SetMonitoringModeResponse = Identifiers.init(770);
+    public static final NodeId SetPublishingModeRequest = Identifiers.init(797);
+    public static final NodeId SetPublishingModeResponse = Identifiers.init(800);
+    public static final NodeId SetTriggeringRequest = Identifiers.init(773);
+    public static final NodeId SetTriggeringResponse = Identifiers.init(776);
+    public static final NodeId SignatureData = Identifiers.init(456);
+    public static final NodeId SignedSoftwareCertificate = Identifiers.init(344);
+    public static final NodeId SimpleAttributeOperand = Identifiers.init(601);
+    public static final NodeId StatusChangeNotification = Identifiers.init(818);
+    public static final NodeId StatusCode = Identifiers.init(19);
+    public static final NodeId StatusResult = Identifiers.init(299);
+    public static final NodeId String = Identifiers.init(12);
+    public static final NodeId Structure = Identifiers.init(22);
+    public static final NodeId SubscriptionAcknowledgement = Identifiers.init(821);
+    public static final NodeId SubscriptionDiagnosticsDataType = Identifiers.init(874);
+    public static final NodeId Time = Identifiers.init(292);
+    public static final NodeId TimeString = Identifiers.init(12880);
+    public static final NodeId TimeZoneDataType = Identifiers.init(8912);
+    public static final NodeId TimestampsToReturn = Identifiers.init(625);
+    public static final NodeId TransferResult = Identifiers.init(836);
+    public static final NodeId TransferSubscriptionsRequest = Identifiers.init(839);
+    public static final NodeId TransferSubscriptionsResponse = Identifiers.init(842);
+    public static final NodeId TranslateBrowsePathsToNodeIdsRequest = Identifiers.init(552);
+    public static final NodeId TranslateBrowsePathsToNodeIdsResponse = Identifiers.init(555);
+    public static final NodeId TrustListDataType = Identifiers.init(12554);
+    public static final NodeId TrustListMasks = Identifiers.init(12552);
+    public static final NodeId TypeNode = Identifiers.init(11880);
+    public static final NodeId UInt16 = Identifiers.init(5);
+    public static final NodeId UInt32 = Identifiers.init(7);
+    public static final NodeId UInt64 = Identifiers.init(9);
+    public static final NodeId UInteger = Identifiers.init(28);
+    public static final NodeId Union = Identifiers.init(12756);
+    public static final NodeId UnregisterNodesRequest = Identifiers.init(564);
+    public static final NodeId UnregisterNodesResponse = Identifiers.init(567);
+    public static final NodeId UpdateDataDetails = Identifiers.init(680);
+    public static final NodeId UpdateEventDetails = Identifiers.init(683);
+    public static final NodeId UpdateStructureDataDetails = Identifiers.init(11295);
+    public static final NodeId UserIdentityToken = Identifiers.init(316);
+    public static final NodeId UserNameIdentityToken = Identifiers.init(322);
+    public static final NodeId UserTokenPolicy = Identifiers.init(304);
+    public static final NodeId UserTokenType = Identifiers.init(303);
+    public static final NodeId UtcTime = Identifiers.init(294);
+    public static final NodeId VariableAttributes = Identifiers.init(355);
+    public static final NodeId VariableNode = Identifiers.init(267);
+    public static final NodeId VariableTypeAttributes = Identifiers.init(364);
+    public static final NodeId VariableTypeNode = Identifiers.init(270);
+    public static final NodeId ViewAttributes = Identifiers.init(373);
+    public static final NodeId ViewDescription = Identifiers.init(511);
+    public static final NodeId ViewNode = Identifiers.init(279);
+    public static final NodeId WriteRequest = Identifiers.init(671);
+    public static final NodeId WriteResponse = Identifiers.init(674);
+    public static final NodeId WriteValue = Identifiers.init(668);
+    public static final NodeId X509IdentityToken = Identifiers.init(325);
+    public static final NodeId XVType = Identifiers.init(12080);
+    public static final NodeId XmlElement = Identifiers.init(16);
+ 
+}
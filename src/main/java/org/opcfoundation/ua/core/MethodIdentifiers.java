@@ -0,0 +1,449 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard methods. Accessed through {@link Identifiers}.
+ */
+public interface MethodIdentifiers {
+	
+    public static final NodeId AcknowledgeableConditionType_Acknowledge = Identifiers.init(9111);
+    public static final NodeId AcknowledgeableConditionType_AddComment = Identifiers.init(9091);
+    public static final NodeId AcknowledgeableConditionType_ConditionRefresh = Identifiers.init(5123);
+    public static final NodeId AcknowledgeableConditionType_ConditionRefresh2 = Identifiers.init(12918);
+    public static final NodeId AcknowledgeableConditionType_Confirm = Identifiers.init(9113);
+    public static final NodeId AcknowledgeableConditionType_Disable = Identifiers.init(9090);
+    public static final NodeId AcknowledgeableConditionType_Enable = Identifiers.init(9089);
+    public static final NodeId AddCertificateMethodType = Identifiers.init(12518);
+    public static final NodeId AddCommentMethodType = Identifiers.init(3863);
+    public static final NodeId AddressSpaceFileType_Close = Identifiers.init(11603);
+    public static final NodeId AddressSpaceFileType_ExportNamespace = Identifiers.init(11615);
+    public static final NodeId AddressSpaceFileType_GetPosition = Identifiers.init(11610);
+    public static final NodeId AddressSpaceFileType_Open = Identifiers.init(11600);
+    public static final NodeId AddressSpaceFileType_Read = Identifiers.init(11605);
+    public static final NodeId AddressSpaceFileType_SetPosition = Identifiers.init(11613);
+    public static final NodeId AddressSpaceFileType_Write = Identifiers.init(11608);
+    public static final NodeId AlarmConditionType_Acknowledge = Identifiers.init(9156);
+    public static final NodeId AlarmConditionType_AddComment = Identifiers.init(9136);
+    public static final NodeId AlarmConditionType_ConditionRefresh = Identifiers.init(5550);
+    public static final NodeId AlarmConditionType_ConditionRefresh2 = Identifiers.init(12984);
+    public static final NodeId AlarmConditionType_Confirm = Identifiers.init(9158);
+    public static final NodeId AlarmConditionType_Disable = Identifiers.init(9135);
+    public static final NodeId AlarmConditionType_Enable = Identifiers.init(9134);
+    public static final NodeId AlarmConditionType_ShelvingState_OneShotShelve = Identifiers.init(9212);
+    public static final NodeId AlarmConditionType_ShelvingState_TimedShelve = Identifiers.init(9213);
+    public static final NodeId AlarmConditionType_ShelvingState_Unshelve = Identifiers.init(9211);
+    public static final NodeId CertificateExpirationAlarmType_Acknowledge = Identifiers.init(13282);
+    public static final NodeId CertificateExpirationAlarmType_AddComment = Identifiers.init(13258);
+    public static final NodeId CertificateExpirationAlarmType_ConditionRefresh = Identifiers.init(13260);
+    public static final NodeId CertificateExpirationAlarmType_ConditionRefresh2 = Identifiers.init(13262);
+    public static final NodeId CertificateExpirationAlarmType_Confirm = Identifiers.init(13284);
+    public static final NodeId CertificateExpirationAlarmType_Disable = Identifiers.init(13256);
+    public static final NodeId CertificateExpirationAlarmType_Enable = Identifiers.init(13257);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_OneShotShelve = Identifiers.init(13319);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_TimedShelve = Identifiers.init(13320);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_Unshelve = Identifiers.init(13318);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_AddCertificate = Identifiers.init(13945);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Close = Identifiers.init(13926);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_CloseAndUpdate = Identifiers.init(13942);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_GetPosition = Identifiers.init(13933);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Open = Identifiers.init(13923);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_OpenWithMasks = Identifiers.init(13939);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Read = Identifiers.init(13928);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_RemoveCertificate = Identifiers.init(13947);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_SetPosition = Identifiers.init(13936);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Write = Identifiers.init(13931);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_AddCertificate = Identifiers.init(13843);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Close = Identifiers.init(13824);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_CloseAndUpdate = Identifiers.init(13840);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_GetPosition = Identifiers.init(13831);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Open = Identifiers.init(13821);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_OpenWithMasks = Identifiers.init(13837);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Read = Identifiers.init(13826);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_RemoveCertificate = Identifiers.init(13845);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_SetPosition = Identifiers.init(13834);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Write = Identifiers.init(13829);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_AddCertificate = Identifiers.init(13877);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Close = Identifiers.init(13858);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_CloseAndUpdate = Identifiers.init(13874);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_GetPosition = Identifiers.init(13865);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Open = Identifiers.init(13855);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_OpenWithMasks = Identifiers.init(13871);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Read = Identifiers.init(13860);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_RemoveCertificate = Identifiers.init(13879);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_SetPosition = Identifiers.init(13868);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Write = Identifiers.init(13863);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_AddCertificate = Identifiers.init(13911);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Close = Identifiers.init(13892);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_CloseAndUpdate = Identifiers.init(13908);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_GetPosition = Identifiers.init(13899);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Open = Identifiers.init(13889);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_OpenWithMasks = Identifiers.init(13905);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Read = Identifiers.init(13894);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_RemoveCertificate = Identifiers.init(13913);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_SetPosition = Identifiers.init(13902);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Write = Identifiers.init(13897);
+    public static final NodeId CertificateGroupType_TrustList_AddCertificate = Identifiers.init(13627);
+    public static final NodeId CertificateGroupType_TrustList_Close = Identifiers.init(13608);
+    public static final NodeId CertificateGroupType_TrustList_CloseAndUpdate = Identifiers.init(13624);
+    public static final NodeId CertificateGroupType_TrustList_GetPosition = Identifiers.init(13615);
+    public static final NodeId CertificateGroupType_TrustList_Open = Identifiers.init(13605);
+    public static final NodeId CertificateGroupType_TrustList_OpenWithMasks = Identifiers.init(13621);
+    public static final NodeId CertificateGroupType_TrustList_Read = Identifiers.init(13610);
+    public static final NodeId CertificateGroupType_TrustList_RemoveCertificate = Identifiers.init(13629);
+    public static final NodeId CertificateGroupType_TrustList_SetPosition = Identifiers.init(13618);
+    public static final NodeId CertificateGroupType_TrustList_Write = Identifiers.init(13613);
+    public static final NodeId CloseAndUpdateMethodType = Identifiers.init(12516);
+    public static final NodeId CloseMethodType = Identifiers.init(11741);
+    public static final NodeId ConditionRefresh2MethodType = Identifiers.init(12914);
+    public static final NodeId ConditionRefreshMethodType = Identifiers.init(9007);
+    public static final NodeId ConditionType_AddComment = Identifiers.init(9029);
+    public static final NodeId ConditionType_ConditionRefresh = Identifiers.init(3875);
+    public static final NodeId ConditionType_ConditionRefresh2 = Identifiers.init(12912);
+    public static final NodeId ConditionType_Disable = Identifiers.init(9028);
+    public static final NodeId ConditionType_Enable = Identifiers.init(9027);
+    public static final NodeId CreateDirectoryMethodType = Identifiers.init(13342);
+    public static final NodeId CreateFileMethodType = Identifiers.init(13345);
+    public static final NodeId CreateSigningRequestMethodType = Identifiers.init(12741);
+    public static final NodeId DeleteFileMethodType = Identifiers.init(13348);
+    public static final NodeId DialogConditionType_AddComment = Identifiers.init(9053);
+    public static final NodeId DialogConditionType_ConditionRefresh = Identifiers.init(4198);
+    public static final NodeId DialogConditionType_ConditionRefresh2 = Identifiers.init(12916);
+    public static final NodeId DialogConditionType_Disable = Identifiers.init(9052);
+    public static final NodeId DialogConditionType_Enable = Identifiers.init(9051);
+    public static final NodeId DialogConditionType_Respond = Identifiers.init(9069);
+    public static final NodeId DialogResponseMethodType = Identifiers.init(9031);
+    public static final NodeId DiscreteAlarmType_Acknowledge = Identifiers.init(10576);
+    public static final NodeId DiscreteAlarmType_AddComment = Identifiers.init(10554);
+    public static final NodeId DiscreteAlarmType_ConditionRefresh = Identifiers.init(10556);
+    public static final NodeId DiscreteAlarmType_ConditionRefresh2 = Identifiers.init(13004);
+    public static final NodeId DiscreteAlarmType_Confirm = Identifiers.init(10578);
+    public static final NodeId DiscreteAlarmType_Disable = Identifiers.init(10553);
+    public static final NodeId DiscreteAlarmType_Enable = Identifiers.init(10552);
+    public static final NodeId DiscreteAlarmType_ShelvingState_OneShotShelve = Identifiers.init(10632);
+    public static final NodeId DiscreteAlarmType_ShelvingState_TimedShelve = Identifiers.init(10633);
+    public static final NodeId DiscreteAlarmType_ShelvingState_Unshelve = Identifiers.init(10631);
+    public static final NodeId ExclusiveDeviationAlarmType_Acknowledge = Identifiers.init(9817);
+    public static final NodeId ExclusiveDeviationAlarmType_AddComment = Identifiers.init(9795);
+    public static final NodeId ExclusiveDeviationAlarmType_ConditionRefresh = Identifiers.init(9797);
+    public static final NodeId ExclusiveDeviationAlarmType_ConditionRefresh2 = Identifiers.init(12998);
+    public static final NodeId ExclusiveDeviationAlarmType_Confirm = Identifiers.init(9819);
+    public static final NodeId ExclusiveDeviationAlarmType_Disable = Identifiers.init(9794);
+    public static final NodeId ExclusiveDeviationAlarmType_Enable = Identifiers.init(9793);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_OneShotShelve = Identifiers.init(9873);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_TimedShelve = Identifiers.init(9874);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_Unshelve = Identifiers.init(9872);
+    public static final NodeId ExclusiveLevelAlarmType_Acknowledge = Identifiers.init(9535);
+    public static final NodeId ExclusiveLevelAlarmType_AddComment = Identifiers.init(9513);
+    public static final NodeId ExclusiveLevelAlarmType_ConditionRefresh = Identifiers.init(9515);
+    public static final NodeId ExclusiveLevelAlarmType_ConditionRefresh2 = Identifiers.init(12994);
+    public static final NodeId ExclusiveLevelAlarmType_Confirm = Identifiers.init(9537);
+    public static final NodeId ExclusiveLevelAlarmType_Disable = Identifiers.init(9512);
+    public static final NodeId ExclusiveLevelAlarmType_Enable = Identifiers.init(9511);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_OneShotShelve = Identifiers.init(9591);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_TimedShelve = Identifiers.init(9592);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_Unshelve = Identifiers.init(9590);
+    public static final NodeId ExclusiveLimitAlarmType_Acknowledge = Identifiers.init(9394);
+    public static final NodeId ExclusiveLimitAlarmType_AddComment = Identifiers.init(9372);
+    public static final NodeId ExclusiveLimitAlarmType_ConditionRefresh = Identifiers.init(9374);
+    public static final NodeId ExclusiveLimitAlarmType_ConditionRefresh2 = Identifiers.init(12988);
+    public static final NodeId ExclusiveLimitAlarmType_Confirm = Identifiers.init(9396);
+    public static final NodeId ExclusiveLimitAlarmType_Disable = Identifiers.init(9371);
+    public static final NodeId ExclusiveLimitAlarmType_Enable = Identifiers.init(9370);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_OneShotShelve = Identifiers.init(9450);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_TimedShelve = Identifiers.init(9451);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_Unshelve = Identifiers.init(9449);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Acknowledge = Identifiers.init(9676);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AddComment = Identifiers.init(9654);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConditionRefresh = Identifiers.init(9656);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConditionRefresh2 = Identifiers.init(13002);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Confirm = Identifiers.init(9678);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Disable = Identifiers.init(9653);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Enable = Identifiers.init(9652);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_OneShotShelve = Identifiers.init(9732);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_TimedShelve = Identifiers.init(9733);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_Unshelve = Identifiers.init(9731);
+    public static final NodeId FileDirectoryType_CreateDirectory = Identifiers.init(13387);
+    public static final NodeId FileDirectoryType_CreateFile = Identifiers.init(13390);
+    public static final NodeId FileDirectoryType_Delete = Identifiers.init(13393);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_CreateDirectory = Identifiers.init(13355);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_CreateFile = Identifiers.init(13358);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_Delete = Identifiers.init(13361);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_MoveOrCopy = Identifiers.init(13363);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Close = Identifiers.init(13375);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_GetPosition = Identifiers.init(13382);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Open = Identifiers.init(13372);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Read = Identifiers.init(13377);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_SetPosition = Identifiers.init(13385);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Write = Identifiers.init(13380);
+    public static final NodeId FileDirectoryType_MoveOrCopy = Identifiers.init(13395);
+    public static final NodeId FileType_Close = Identifiers.init(11583);
+    public static final NodeId FileType_GetPosition = Identifiers.init(11590);
+    public static final NodeId FileType_Open = Identifiers.init(11580);
+    public static final NodeId FileType_Read = Identifiers.init(11585);
+    public static final NodeId FileType_SetPosition = Identifiers.init(11593);
+    public static final NodeId FileType_Write = Identifiers.init(11588);
+    public static final NodeId GetMonitoredItemsMethodType = Identifiers.init(11495);
+    public static final NodeId GetPositionMethodType = Identifiers.init(11748);
+    public static final NodeId GetRejectedListMethodType = Identifiers.init(12773);
+    public static final NodeId LimitAlarmType_Acknowledge = Identifiers.init(9257);
+    public static final NodeId LimitAlarmType_AddComment = Identifiers.init(9237);
+    public static final NodeId LimitAlarmType_ConditionRefresh = Identifiers.init(6126);
+    public static final NodeId LimitAlarmType_ConditionRefresh2 = Identifiers.init(12986);
+    public static final NodeId LimitAlarmType_Confirm = Identifiers.init(9259);
+    public static final NodeId LimitAlarmType_Disable = Identifiers.init(9236);
+    public static final NodeId LimitAlarmType_Enable = Identifiers.init(9235);
+    public static final NodeId LimitAlarmType_ShelvingState_OneShotShelve = Identifiers.init(9313);
+    public static final NodeId LimitAlarmType_ShelvingState_TimedShelve = Identifiers.init(9314);
+    public static final NodeId LimitAlarmType_ShelvingState_Unshelve = Identifiers.init(9312);
+    public static final NodeId MoveOrCopyMethodType = Identifiers.init(13350);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Close = Identifiers.init(11632);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_ExportNamespace = Identifiers.init(11644);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_GetPosition = Identifiers.init(11639);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Open = Identifiers.init(11629);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Read = Identifiers.init(11634);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_SetPosition = Identifiers.init(11642);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Write = Identifiers.init(11637);
+    public static final NodeId NamespacesType_AddressSpaceFile_Close = Identifiers.init(11683);
+    public static final NodeId NamespacesType_AddressSpaceFile_ExportNamespace = Identifiers.init(11695);
+    public static final NodeId NamespacesType_AddressSpaceFile_GetPosition = Identifiers.init(11690);
+    public static final NodeId NamespacesType_AddressSpaceFile_Open = Identifiers.init(11680);
+    public static final NodeId NamespacesType_AddressSpaceFile_Read = Identifiers.init(11685);
+    public static final NodeId NamespacesType_AddressSpaceFile_SetPosition = Identifiers.init(11693);
+    public static final NodeId NamespacesType_AddressSpaceFile_Write = Identifiers.init(11688);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Close = Identifiers.init(11662);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_ExportNamespace = Identifiers.init(11674);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_GetPosition = Identifiers.init(11669);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Open = Identifiers.init(11659);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Read = Identifiers.init(11664);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_SetPosition = Identifiers.init(11672);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Write = Identifiers.init(11667);
+    public static final NodeId NonExclusiveDeviationAlarmType_Acknowledge = Identifiers.init(10421);
+    public static final NodeId NonExclusiveDeviationAlarmType_AddComment = Identifiers.init(10399);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConditionRefresh = Identifiers.init(10401);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConditionRefresh2 = Identifiers.init(12996);
+    public static final NodeId NonExclusiveDeviationAlarmType_Confirm = Identifiers.init(10423);
+    public static final NodeId NonExclusiveDeviationAlarmType_Disable = Identifiers.init(10398);
+    public static final NodeId NonExclusiveDeviationAlarmType_Enable = Identifiers.init(10397);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_OneShotShelve = Identifiers.init(10477);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_TimedShelve = Identifiers.init(10478);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_Unshelve = Identifiers.init(10476);
+    public static final NodeId NonExclusiveLevelAlarmType_Acknowledge = Identifiers.init(10113);
+    public static final NodeId NonExclusiveLevelAlarmType_AddComment = Identifiers.init(10091);
+    public static final NodeId NonExclusiveLevelAlarmType_ConditionRefresh = Identifiers.init(10093);
+    public static final NodeId NonExclusiveLevelAlarmType_ConditionRefresh2 = Identifiers.init(12992);
+    public static final NodeId NonExclusiveLevelAlarmType_Confirm = Identifiers.init(10115);
+    public static final NodeId NonExclusiveLevelAlarmType_Disable = Identifiers.init(10090);
+    public static final NodeId NonExclusiveLevelAlarmType_Enable = Identifiers.init(10089);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_OneShotShelve = Identifiers.init(10169);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_TimedShelve = Identifiers.init(10170);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_Unshelve = Identifiers.init(10168);
+    public static final NodeId NonExclusiveLimitAlarmType_Acknowledge = Identifiers.init(9959);
+    public static final NodeId NonExclusiveLimitAlarmType_AddComment = Identifiers.init(9937);
+    public static final NodeId NonExclusiveLimitAlarmType_ConditionRefresh = Identifiers.init(9939);
+    public static final NodeId NonExclusiveLimitAlarmType_ConditionRefresh2 = Identifiers.init(12990);
+    public static final NodeId NonExclusiveLimitAlarmType_Confirm = Identifiers.init(9961);
+    public static final NodeId NonExclusiveLimitAlarmType_Disable = Identifiers.init(9936);
+    public static final NodeId NonExclusiveLimitAlarmType_Enable = Identifiers.init(9935);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_OneShotShelve = Identifiers.init(10015);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_TimedShelve = Identifiers.init(10016);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_Unshelve = Identifiers.init(10014);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Acknowledge = Identifiers.init(10267);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AddComment = Identifiers.init(10245);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConditionRefresh = Identifiers.init(10247);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConditionRefresh2 = Identifiers.init(13000);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Confirm = Identifiers.init(10269);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Disable = Identifiers.init(10244);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Enable = Identifiers.init(10243);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_OneShotShelve = Identifiers.init(10323);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_TimedShelve = Identifiers.init(10324);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_Unshelve = Identifiers.init(10322);
+    public static final NodeId OffNormalAlarmType_Acknowledge = Identifiers.init(10690);
+    public static final NodeId OffNormalAlarmType_AddComment = Identifiers.init(10668);
+    public static final NodeId OffNormalAlarmType_ConditionRefresh = Identifiers.init(10670);
+    public static final NodeId OffNormalAlarmType_ConditionRefresh2 = Identifiers.init(13006);
+    public static final NodeId OffNormalAlarmType_Confirm = Identifiers.init(10692);
+    public static final NodeId OffNormalAlarmType_Disable = Identifiers.init(10667);
+    public static final NodeId OffNormalAlarmType_Enable = Identifiers.init(10666);
+    public static final NodeId OffNormalAlarmType_ShelvingState_OneShotShelve = Identifiers.init(10746);
+    public static final NodeId OffNormalAlarmType_ShelvingState_TimedShelve = Identifiers.init(10747);
+    public static final NodeId OffNormalAlarmType_ShelvingState_Unshelve = Identifiers.init(10745);
+    public static final NodeId OpenMethodType = Identifiers.init(11738);
+    public static final NodeId OpenWithMasksMethodType = Identifiers.init(12513);
+    public static final NodeId ProgramStateMachineType_Halt = Identifiers.init(2429);
+    public static final NodeId ProgramStateMachineType_Reset = Identifiers.init(2430);
+    public static final NodeId ProgramStateMachineType_Resume = Identifiers.init(2428);
+    public static final NodeId ProgramStateMachineType_Start = Identifiers.init(2426);
+    public static final NodeId ProgramStateMachineType_Suspend = Identifiers.init(2427);
+    public static final NodeId ReadMethodType = Identifiers.init(11743);
+    public static final NodeId RemoveCertificateMethodType = Identifiers.init(12520);
+    public static final NodeId RequestServerStateChangeMethodType = Identifiers.init(12888);
+    public static final NodeId ResendDataMethodType = Identifiers.init(12875);
+    public static final NodeId ServerConfigurationType_ApplyChanges = Identifiers.init(12734);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_AddCertificate = Identifiers.init(13980);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Close = Identifiers.init(13961);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_CloseAndUpdate = Identifiers.init(13977);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_GetPosition = Identifiers.init(13968);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Open = Identifiers.init(13958);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_OpenWithMasks = Identifiers.init(13974);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Read = Identifiers.init(13963);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_RemoveCertificate = Identifiers.init(13982);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_SetPosition = Identifiers.init(13971);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Write = Identifiers.init(13966);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_AddCertificate = Identifiers.init(14014);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Close = Identifiers.init(13995);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_CloseAndUpdate = Identifiers.init(14011);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_GetPosition = Identifiers.init(14002);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Open = Identifiers.init(13992);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_OpenWithMasks = Identifiers.init(14008);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Read = Identifiers.init(13997);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_RemoveCertificate = Identifiers.init(14016);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_SetPosition = Identifiers.init(14005);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Write = Identifiers.init(14000);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_AddCertificate = Identifiers.init(14048);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Close = Identifiers.init(14029);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_CloseAndUpdate = Identifiers.init(14045);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_GetPosition = Identifiers.init(14036);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Open = Identifiers.init(14026);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_OpenWithMasks = Identifiers.init(14042);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Read = Identifiers.init(14031);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_RemoveCertificate = Identifiers.init(14050);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_SetPosition = Identifiers.init(14039);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Write = Identifiers.init(14034);
+    public static final NodeId ServerConfigurationType_CreateSigningRequest = Identifiers.init(12731);
+    public static final NodeId ServerConfigurationType_GetRejectedList = Identifiers.init(12775);
+    public static final NodeId ServerConfigurationType_UpdateCertificate = Identifiers.init(12616);
+    public static final NodeId ServerConfiguration_ApplyChanges = Identifiers.init(12740);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_AddCertificate = Identifiers.init(12668);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Close = Identifiers.init(12650);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_CloseAndUpdate = Identifiers.init(12666);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_GetPosition = Identifiers.init(12657);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Open = Identifiers.init(12647);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_OpenWithMasks = Identifiers.init(12663);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Read = Identifiers.init(12652);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_RemoveCertificate = Identifiers.init(12670);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_SetPosition = Identifiers.init(12660);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Write = Identifiers.init(12655);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_AddCertificate = Identifiers.init(14117);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Close = Identifiers.init(14098);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_CloseAndUpdate = Identifiers.init(14114);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_GetPosition = Identifiers.init(14105);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Open = Identifiers.init(14095);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_OpenWithMasks = Identifiers.init(14111);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Read = Identifiers.init(14100);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_RemoveCertificate = Identifiers.init(14119);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_SetPosition = Identifiers.init(14108);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Write = Identifiers.init(14103);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_AddCertificate = Identifiers.init(14151);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Close = Identifiers.init(14132);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_CloseAndUpdate = Identifiers.init(14148);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_GetPosition = Identifiers.init(14139);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Open = Identifiers.init(14129);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_OpenWithMasks = Identifiers.init(14145);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Read = Identifiers.init(14134);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_RemoveCertificate = Identifiers.init(14153);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_SetPosition = Identifiers.init(14142);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Write = Identifiers.init(14137);
+    public static final NodeId ServerConfiguration_CreateSigningRequest = Identifiers.init(12737);
+    public static final NodeId ServerConfiguration_GetRejectedList = Identifiers.init(12777);
+    public static final NodeId ServerConfiguration_UpdateCertificate = Identifiers.init(13737);
+    public static final NodeId ServerType_GetMonitoredItems = Identifiers.init(11489);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Close = Identifiers.init(11536);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_ExportNamespace = Identifiers.init(11548);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_GetPosition = Identifiers.init(11543);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Open = Identifiers.init(11533);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Read = Identifiers.init(11538);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_SetPosition = Identifiers.init(11546);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Write = Identifiers.init(11541);
+    public static final NodeId ServerType_RequestServerStateChange = Identifiers.init(12883);
+    public static final NodeId ServerType_ResendData = Identifiers.init(12871);
+    public static final NodeId ServerType_SetSubscriptionDurable = Identifiers.init(12746);
+    public static final NodeId Server_GetMonitoredItems = Identifiers.init(11492);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Close = Identifiers.init(11724);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_ExportNamespace = Identifiers.init(11736);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_GetPosition = Identifiers.init(11731);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Open = Identifiers.init(11721);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Read = Identifiers.init(11726);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_SetPosition = Identifiers.init(11734);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Write = Identifiers.init(11729);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Close = Identifiers.init(15199);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_ExportNamespace = Identifiers.init(15211);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_GetPosition = Identifiers.init(15206);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Open = Identifiers.init(15196);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Read = Identifiers.init(15201);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_SetPosition = Identifiers.init(15209);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Write = Identifiers.init(15204);
+    public static final NodeId Server_RequestServerStateChange = Identifiers.init(12886);
+    public static final NodeId Server_ResendData = Identifiers.init(12873);
+    public static final NodeId Server_SetSubscriptionDurable = Identifiers.init(12749);
+    public static final NodeId SetPositionMethodType = Identifiers.init(11751);
+    public static final NodeId SetSubscriptionDurableMethodType = Identifiers.init(12752);
+    public static final NodeId ShelvedStateMachineType_OneShotShelve = Identifiers.init(2948);
+    public static final NodeId ShelvedStateMachineType_TimedShelve = Identifiers.init(2949);
+    public static final NodeId ShelvedStateMachineType_Unshelve = Identifiers.init(2947);
+    public static final NodeId SystemOffNormalAlarmType_Acknowledge = Identifiers.init(11808);
+    public static final NodeId SystemOffNormalAlarmType_AddComment = Identifiers.init(11786);
+    public static final NodeId SystemOffNormalAlarmType_ConditionRefresh = Identifiers.init(11788);
+    public static final NodeId SystemOffNormalAlarmType_ConditionRefresh2 = Identifiers.init(13008);
+    public static final NodeId SystemOffNormalAlarmType_Confirm = Identifiers.init(11810);
+    public static final NodeId SystemOffNormalAlarmType_Disable = Identifiers.init(11784);
+    public static final NodeId SystemOffNormalAlarmType_Enable = Identifiers.init(11785);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_OneShotShelve = Identifiers.init(11845);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_TimedShelve = Identifiers.init(11846);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_Unshelve = Identifiers.init(11844);
+    public static final NodeId TimedShelveMethodType = Identifiers.init(6102);
+    public static final NodeId TripAlarmType_Acknowledge = Identifiers.init(10804);
+    public static final NodeId TripAlarmType_AddComment = Identifiers.init(10782);
+    public static final NodeId TripAlarmType_ConditionRefresh = Identifiers.init(10784);
+    public static final NodeId TripAlarmType_ConditionRefresh2 = Identifiers.init(13010);
+    public static final NodeId TripAlarmType_Confirm = Identifiers.init(10806);
+    public static final NodeId TripAlarmType_Disable = Identifiers.init(10781);
+    public static final NodeId TripAlarmType_Enable = Identifiers.init(10780);
+    public static final NodeId TripAlarmType_ShelvingState_OneShotShelve = Identifiers.init(10860);
+    public static final NodeId TripAlarmType_ShelvingState_TimedShelve = Identifiers.init(10861);
+    public static final NodeId TripAlarmType_ShelvingState_Unshelve = Identifiers.init(10859);
+    public static final NodeId TrustListType_AddCertificate = Identifiers.init(12548);
+    public static final NodeId TrustListType_Close = Identifiers.init(12530);
+    public static final NodeId TrustListType_CloseAndUpdate = Identifiers.init(12546);
+    public static final NodeId TrustListType_GetPosition = Identifiers.init(12537);
+    public static final NodeId TrustListType_Open = Identifiers.init(12527);
+    public static final NodeId TrustListType_OpenWithMasks = Identifiers.init(12543);
+    public static final NodeId TrustListType_Read = Identifiers.init(12532);
+    public static final NodeId TrustListType_RemoveCertificate = Identifiers.init(12550);
+    public static final NodeId TrustListType_SetPosition = Identifiers.init(12540);
+    public static final NodeId TrustListType_Write = Identifiers.init(12535);
+    public static final NodeId UpdateCertificateMethodType = Identifiers.init(12578);
+    public static final NodeId WriteMethodType = Identifiers.init(11746);
+ 
+}
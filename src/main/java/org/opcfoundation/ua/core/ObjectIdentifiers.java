@@ -0,0 +1,654 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard objects. Accessed through {@link Identifiers}.
+ */
+public interface ObjectIdentifiers {
+	
+    public static final NodeId ActivateSessionRequest_Encoding_DefaultBinary = Identifiers.init(467);
+    public static final NodeId ActivateSessionRequest_Encoding_DefaultXml = Identifiers.init(466);
+    public static final NodeId ActivateSessionResponse_Encoding_DefaultBinary = Identifiers.init(470);
+    public static final NodeId ActivateSessionResponse_Encoding_DefaultXml = Identifiers.init(469);
+    public static final NodeId AddNodesItem_Encoding_DefaultBinary = Identifiers.init(378);
+    public static final NodeId AddNodesItem_Encoding_DefaultXml = Identifiers.init(377);
+    public static final NodeId AddNodesRequest_Encoding_DefaultBinary = Identifiers.init(488);
+    public static final NodeId AddNodesRequest_Encoding_DefaultXml = Identifiers.init(487);
+    public static final NodeId AddNodesResponse_Encoding_DefaultBinary = Identifiers.init(491);
+    public static final NodeId AddNodesResponse_Encoding_DefaultXml = Identifiers.init(490);
+    public static final NodeId AddNodesResult_Encoding_DefaultBinary = Identifiers.init(485);
+    public static final NodeId AddNodesResult_Encoding_DefaultXml = Identifiers.init(484);
+    public static final NodeId AddReferencesItem_Encoding_DefaultBinary = Identifiers.init(381);
+    public static final NodeId AddReferencesItem_Encoding_DefaultXml = Identifiers.init(380);
+    public static final NodeId AddReferencesRequest_Encoding_DefaultBinary = Identifiers.init(494);
+    public static final NodeId AddReferencesRequest_Encoding_DefaultXml = Identifiers.init(493);
+    public static final NodeId AddReferencesResponse_Encoding_DefaultBinary = Identifiers.init(497);
+    public static final NodeId AddReferencesResponse_Encoding_DefaultXml = Identifiers.init(496);
+    public static final NodeId AggregateConfiguration_Encoding_DefaultBinary = Identifiers.init(950);
+    public static final NodeId AggregateConfiguration_Encoding_DefaultXml = Identifiers.init(949);
+    public static final NodeId AggregateFilterResult_Encoding_DefaultBinary = Identifiers.init(739);
+    public static final NodeId AggregateFilterResult_Encoding_DefaultXml = Identifiers.init(738);
+    public static final NodeId AggregateFilter_Encoding_DefaultBinary = Identifiers.init(730);
+    public static final NodeId AggregateFilter_Encoding_DefaultXml = Identifiers.init(729);
+    public static final NodeId AggregateFunction_AnnotationCount = Identifiers.init(2351);
+    public static final NodeId AggregateFunction_Average = Identifiers.init(2342);
+    public static final NodeId AggregateFunction_Count = Identifiers.init(2352);
+    public static final NodeId AggregateFunction_Delta = Identifiers.init(2359);
+    public static final NodeId AggregateFunction_DeltaBounds = Identifiers.init(11507);
+    public static final NodeId AggregateFunction_DurationBad = Identifiers.init(2361);
+    public static final NodeId AggregateFunction_DurationGood = Identifiers.init(2360);
+    public static final NodeId AggregateFunction_DurationInStateNonZero = Identifiers.init(11308);
+    public static final NodeId AggregateFunction_DurationInStateZero = Identifiers.init(11307);
+    public static final NodeId AggregateFunction_End = Identifiers.init(2358);
+    public static final NodeId AggregateFunction_EndBound = Identifiers.init(11506);
+    public static final NodeId AggregateFunction_Interpolative = Identifiers.init(2341);
+    public static final NodeId AggregateFunction_Maximum = Identifiers.init(2347);
+    public static final NodeId AggregateFunction_Maximum2 = Identifiers.init(11287);
+    public static final NodeId AggregateFunction_MaximumActualTime = Identifiers.init(2349);
+    public static final NodeId AggregateFunction_MaximumActualTime2 = Identifiers.init(11306);
+    public static final NodeId AggregateFunction_Minimum = Identifiers.init(2346);
+    public static final NodeId AggregateFunction_Minimum2 = Identifiers.init(11286);
+    public static final NodeId AggregateFunction_MinimumActualTime = Identifiers.init(2348);
+    public static final NodeId AggregateFunction_MinimumActualTime2 = Identifiers.init(11305);
+    public static final NodeId AggregateFunction_NumberOfTransitions = Identifiers.init(2355);
+    public static final NodeId AggregateFunction_PercentBad = Identifiers.init(2363);
+    public static final NodeId AggregateFunction_PercentGood = Identifiers.init(2362);
+    public static final NodeId AggregateFunction_Range = Identifiers.init(2350);
+    public static final NodeId AggregateFunction_Range2 = Identifiers.init(11288);
+    public static final NodeId AggregateFunction_StandardDeviationPopulation = Identifiers.init(11427);
+    public static final NodeId AggregateFunction_StandardDeviationSample = Identifiers.init(11426);
+    public static final NodeId AggregateFunction_Start = Identifiers.init(2357);
+    public static final NodeId AggregateFunction_StartBound = Identifiers.init(11505);
+    public static final NodeId AggregateFunction_TimeAverage = Identifiers.init(2343);
+    public static final NodeId AggregateFunction_TimeAverage2 = Identifiers.init(11285);
+    public static final NodeId AggregateFunction_Total = Identifiers.init(2344);
+    public static final NodeId AggregateFunction_Total2 = Identifiers.init(11304);
+    public static final NodeId AggregateFunction_VariancePopulation = Identifiers.init(11429);
+    public static final NodeId AggregateFunction_VarianceSample = Identifiers.init(11428);
+    public static final NodeId AggregateFunction_WorstQuality = Identifiers.init(2364);
+    public static final NodeId AggregateFunction_WorstQuality2 = Identifiers.init(11292);
+    public static final NodeId AlarmConditionType_ShelvingState = Identifiers.init(9178);
+    public static final NodeId Annotation_Encoding_DefaultBinary = Identifiers.init(893);
+    public static final NodeId Annotation_Encoding_DefaultXml = Identifiers.init(892);
+    public static final NodeId AnonymousIdentityToken_Encoding_DefaultBinary = Identifiers.init(321);
+    public static final NodeId AnonymousIdentityToken_Encoding_DefaultXml = Identifiers.init(320);
+    public static final NodeId ApplicationDescription_Encoding_DefaultBinary = Identifiers.init(310);
+    public static final NodeId ApplicationDescription_Encoding_DefaultXml = Identifiers.init(309);
+    public static final NodeId Argument_Encoding_DefaultBinary = Identifiers.init(298);
+    public static final NodeId Argument_Encoding_DefaultXml = Identifiers.init(297);
+    public static final NodeId AttributeOperand_Encoding_DefaultBinary = Identifiers.init(600);
+    public static final NodeId AttributeOperand_Encoding_DefaultXml = Identifiers.init(599);
+    public static final NodeId AxisInformation_Encoding_DefaultBinary = Identifiers.init(12089);
+    public static final NodeId AxisInformation_Encoding_DefaultXml = Identifiers.init(12081);
+    public static final NodeId BrowseDescription_Encoding_DefaultBinary = Identifiers.init(516);
+    public static final NodeId BrowseDescription_Encoding_DefaultXml = Identifiers.init(515);
+    public static final NodeId BrowseNextRequest_Encoding_DefaultBinary = Identifiers.init(533);
+    public static final NodeId BrowseNextRequest_Encoding_DefaultXml = Identifiers.init(532);
+    public static final NodeId BrowseNextResponse_Encoding_DefaultBinary = Identifiers.init(536);
+    public static final NodeId BrowseNextResponse_Encoding_DefaultXml = Identifiers.init(535);
+    public static final NodeId BrowsePathResult_Encoding_DefaultBinary = Identifiers.init(551);
+    public static final NodeId BrowsePathResult_Encoding_DefaultXml = Identifiers.init(550);
+    public static final NodeId BrowsePathTarget_Encoding_DefaultBinary = Identifiers.init(548);
+    public static final NodeId BrowsePathTarget_Encoding_DefaultXml = Identifiers.init(547);
+    public static final NodeId BrowsePath_Encoding_DefaultBinary = Identifiers.init(545);
+    public static final NodeId BrowsePath_Encoding_DefaultXml = Identifiers.init(544);
+    public static final NodeId BrowseRequest_Encoding_DefaultBinary = Identifiers.init(527);
+    public static final NodeId BrowseRequest_Encoding_DefaultXml = Identifiers.init(526);
+    public static final NodeId BrowseResponse_Encoding_DefaultBinary = Identifiers.init(530);
+    public static final NodeId BrowseResponse_Encoding_DefaultXml = Identifiers.init(529);
+    public static final NodeId BrowseResult_Encoding_DefaultBinary = Identifiers.init(524);
+    public static final NodeId BrowseResult_Encoding_DefaultXml = Identifiers.init(523);
+    public static final NodeId BuildInfo_Encoding_DefaultBinary = Identifiers.init(340);
+    public static final NodeId BuildInfo_Encoding_DefaultXml = Identifiers.init(339);
+    public static final NodeId CallMethodRequest_Encoding_DefaultBinary = Identifiers.init(706);
+    public static final NodeId CallMethodRequest_Encoding_DefaultXml = Identifiers.init(705);
+    public static final NodeId CallMethodResult_Encoding_DefaultBinary = Identifiers.init(709);
+    public static final NodeId CallMethodResult_Encoding_DefaultXml = Identifiers.init(708);
+    public static final NodeId CallRequest_Encoding_DefaultBinary = Identifiers.init(712);
+    public static final NodeId CallRequest_Encoding_DefaultXml = Identifiers.init(711);
+    public static final NodeId CallResponse_Encoding_DefaultBinary = Identifiers.init(715);
+    public static final NodeId CallResponse_Encoding_DefaultXml = Identifiers.init(714);
+    public static final NodeId CancelRequest_Encoding_DefaultBinary = Identifiers.init(479);
+    public static final NodeId CancelRequest_Encoding_DefaultXml = Identifiers.init(478);
+    public static final NodeId CancelResponse_Encoding_DefaultBinary = Identifiers.init(482);
+    public static final NodeId CancelResponse_Encoding_DefaultXml = Identifiers.init(481);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState = Identifiers.init(13305);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder = Identifiers.init(13916);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList = Identifiers.init(13917);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup = Identifiers.init(13814);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList = Identifiers.init(13815);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup = Identifiers.init(13848);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList = Identifiers.init(13849);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup = Identifiers.init(13882);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList = Identifiers.init(13883);
+    public static final NodeId CertificateGroupType_TrustList = Identifiers.init(13599);
+    public static final NodeId ChannelSecurityToken_Encoding_DefaultBinary = Identifiers.init(443);
+    public static final NodeId ChannelSecurityToken_Encoding_DefaultXml = Identifiers.init(442);
+    public static final NodeId CloseSecureChannelRequest_Encoding_DefaultBinary = Identifiers.init(452);
+    public static final NodeId CloseSecureChannelRequest_Encoding_DefaultXml = Identifiers.init(451);
+    public static final NodeId CloseSecureChannelResponse_Encoding_DefaultBinary = Identifiers.init(455);
+    public static final NodeId CloseSecureChannelResponse_Encoding_DefaultXml = Identifiers.init(454);
+    public static final NodeId CloseSessionRequest_Encoding_DefaultBinary = Identifiers.init(473);
+    public static final NodeId CloseSessionRequest_Encoding_DefaultXml = Identifiers.init(472);
+    public static final NodeId CloseSessionResponse_Encoding_DefaultBinary = Identifiers.init(476);
+    public static final NodeId CloseSessionResponse_Encoding_DefaultXml = Identifiers.init(475);
+    public static final NodeId ComplexNumberType_Encoding_DefaultBinary = Identifiers.init(12181);
+    public static final NodeId ComplexNumberType_Encoding_DefaultXml = Identifiers.init(12173);
+    public static final NodeId ContentFilterElementResult_Encoding_DefaultBinary = Identifiers.init(606);
+    public static final NodeId ContentFilterElementResult_Encoding_DefaultXml = Identifiers.init(605);
+    public static final NodeId ContentFilterElement_Encoding_DefaultBinary = Identifiers.init(585);
+    public static final NodeId ContentFilterElement_Encoding_DefaultXml = Identifiers.init(584);
+    public static final NodeId ContentFilterResult_Encoding_DefaultBinary = Identifiers.init(609);
+    public static final NodeId ContentFilterResult_Encoding_DefaultXml = Identifiers.init(608);
+    public static final NodeId ContentFilter_Encoding_DefaultBinary = Identifiers.init(588);
+    public static final NodeId ContentFilter_Encoding_DefaultXml = Identifiers.init(587);
+    public static final NodeId CreateMonitoredItemsRequest_Encoding_DefaultBinary = Identifiers.init(751);
+    public static final NodeId CreateMonitoredItemsRequest_Encoding_DefaultXml = Identifiers.init(750);
+    public static final NodeId CreateMonitoredItemsResponse_Encoding_DefaultBinary = Identifiers.init(754);
+    public static final NodeId CreateMonitoredItemsResponse_Encoding_DefaultXml = Identifiers.init(753);
+    public static final NodeId CreateSessionRequest_Encoding_DefaultBinary = Identifiers.init(461);
+    public static final NodeId CreateSessionRequest_Encoding_DefaultXml = Identifiers.init(460);
+    public static final NodeId CreateSessionResponse_Encoding_DefaultBinary = Identifiers.init(464);
+    public static final NodeId CreateSessionResponse_Encoding_DefaultXml = Identifiers.init(463);
+    public static final NodeId CreateSubscriptionRequest_Encoding_DefaultBinary = Identifiers.init(787);
+    public static final NodeId CreateSubscriptionRequest_Encoding_DefaultXml = Identifiers.init(786);
+    public static final NodeId CreateSubscriptionResponse_Encoding_DefaultBinary = Identifiers.init(790);
+    public static final NodeId CreateSubscriptionResponse_Encoding_DefaultXml = Identifiers.init(789);
+    public static final NodeId DataChangeFilter_Encoding_DefaultBinary = Identifiers.init(724);
+    public static final NodeId DataChangeFilter_Encoding_DefaultXml = Identifiers.init(723);
+    public static final NodeId DataChangeNotification_Encoding_DefaultBinary = Identifiers.init(811);
+    public static final NodeId DataChangeNotification_Encoding_DefaultXml = Identifiers.init(810);
+    public static final NodeId DataTypeAttributes_Encoding_DefaultBinary = Identifiers.init(372);
+    public static final NodeId DataTypeAttributes_Encoding_DefaultXml = Identifiers.init(371);
+    public static final NodeId DataTypeNode_Encoding_DefaultBinary = Identifiers.init(284);
+    public static final NodeId DataTypeNode_Encoding_DefaultXml = Identifiers.init(283);
+    public static final NodeId DataTypesFolder = Identifiers.init(90);
+    public static final NodeId DefaultBinary = Identifiers.init(3062);
+    public static final NodeId DefaultXml = Identifiers.init(3063);
+    public static final NodeId DeleteAtTimeDetails_Encoding_DefaultBinary = Identifiers.init(691);
+    public static final NodeId DeleteAtTimeDetails_Encoding_DefaultXml = Identifiers.init(690);
+    public static final NodeId DeleteEventDetails_Encoding_DefaultBinary = Identifiers.init(694);
+    public static final NodeId DeleteEventDetails_Encoding_DefaultXml = Identifiers.init(693);
+    public static final NodeId DeleteMonitoredItemsRequest_Encoding_DefaultBinary = Identifiers.init(781);
+    public static final NodeId DeleteMonitoredItemsRequest_Encoding_DefaultXml = Identifiers.init(780);
+    public static final NodeId DeleteMonitoredItemsResponse_Encoding_DefaultBinary = Identifiers.init(784);
+    public static final NodeId DeleteMonitoredItemsResponse_Encoding_DefaultXml = Identifiers.init(783);
+    public static final NodeId DeleteNodesItem_Encoding_DefaultBinary = Identifiers.init(384);
+    public static final NodeId DeleteNodesItem_Encoding_DefaultXml = Identifiers.init(383);
+    public static final NodeId DeleteNodesRequest_Encoding_DefaultBinary = Identifiers.init(500);
+    public static final NodeId DeleteNodesRequest_Encoding_DefaultXml = Identifiers.init(499);
+    public static final NodeId DeleteNodesResponse_Encoding_DefaultBinary = Identifiers.init(503);
+    public static final NodeId DeleteNodesResponse_Encoding_DefaultXml = Identifiers.init(502);
+    public static final NodeId DeleteRawModifiedDetails_Encoding_DefaultBinary = Identifiers.init(688);
+    public static final NodeId DeleteRawModifiedDetails_Encoding_DefaultXml = Identifiers.init(687);
+    public static final NodeId DeleteReferencesItem_Encoding_DefaultBinary = Identifiers.init(387);
+    public static final NodeId DeleteReferencesItem_Encoding_DefaultXml = Identifiers.init(386);
+    public static final NodeId DeleteReferencesRequest_Encoding_DefaultBinary = Identifiers.init(506);
+    public static final NodeId DeleteReferencesRequest_Encoding_DefaultXml = Identifiers.init(505);
+    public static final NodeId DeleteReferencesResponse_Encoding_DefaultBinary = Identifiers.init(509);
+    public static final NodeId DeleteReferencesResponse_Encoding_DefaultXml = Identifiers.init(508);
+    public static final NodeId DeleteSubscriptionsRequest_Encoding_DefaultBinary = Identifiers.init(847);
+    public static final NodeId DeleteSubscriptionsRequest_Encoding_DefaultXml = Identifiers.init(846);
+    public static final NodeId DeleteSubscriptionsResponse_Encoding_DefaultBinary = Identifiers.init(850);
+    public static final NodeId DeleteSubscriptionsResponse_Encoding_DefaultXml = Identifiers.init(849);
+    public static final NodeId DiscoveryConfiguration_Encoding_DefaultBinary = Identifiers.init(12900);
+    public static final NodeId DiscoveryConfiguration_Encoding_DefaultXml = Identifiers.init(12892);
+    public static final NodeId DiscreteAlarmType_ShelvingState = Identifiers.init(10598);
+    public static final NodeId DoubleComplexNumberType_Encoding_DefaultBinary = Identifiers.init(12182);
+    public static final NodeId DoubleComplexNumberType_Encoding_DefaultXml = Identifiers.init(12174);
+    public static final NodeId EUInformation_Encoding_DefaultBinary = Identifiers.init(889);
+    public static final NodeId EUInformation_Encoding_DefaultXml = Identifiers.init(888);
+    public static final NodeId ElementOperand_Encoding_DefaultBinary = Identifiers.init(594);
+    public static final NodeId ElementOperand_Encoding_DefaultXml = Identifiers.init(593);
+    public static final NodeId EndpointConfiguration_Encoding_DefaultBinary = Identifiers.init(333);
+    public static final NodeId EndpointConfiguration_Encoding_DefaultXml = Identifiers.init(332);
+    public static final NodeId EndpointDescription_Encoding_DefaultBinary = Identifiers.init(314);
+    public static final NodeId EndpointDescription_Encoding_DefaultXml = Identifiers.init(313);
+    public static final NodeId EndpointUrlListDataType_Encoding_DefaultBinary = Identifiers.init(11957);
+    public static final NodeId EndpointUrlListDataType_Encoding_DefaultXml = Identifiers.init(11949);
+    public static final NodeId EnumValueType_Encoding_DefaultBinary = Identifiers.init(8251);
+    public static final NodeId EnumValueType_Encoding_DefaultXml = Identifiers.init(7616);
+    public static final NodeId EventFieldList_Encoding_DefaultBinary = Identifiers.init(919);
+    public static final NodeId EventFieldList_Encoding_DefaultXml = Identifiers.init(918);
+    public static final NodeId EventFilterResult_Encoding_DefaultBinary = Identifiers.init(736);
+    public static final NodeId EventFilterResult_Encoding_DefaultXml = Identifiers.init(735);
+    public static final NodeId EventFilter_Encoding_DefaultBinary = Identifiers.init(727);
+    public static final NodeId EventFilter_Encoding_DefaultXml = Identifiers.init(726);
+    public static final NodeId EventNotificationList_Encoding_DefaultBinary = Identifiers.init(916);
+    public static final NodeId EventNotificationList_Encoding_DefaultXml = Identifiers.init(915);
+    public static final NodeId EventTypesFolder = Identifiers.init(3048);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState = Identifiers.init(9878);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState = Identifiers.init(9839);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState = Identifiers.init(9596);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState = Identifiers.init(9557);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState = Identifiers.init(9455);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState = Identifiers.init(9416);
+    public static final NodeId ExclusiveLimitStateMachineType_High = Identifiers.init(9331);
+    public static final NodeId ExclusiveLimitStateMachineType_HighHigh = Identifiers.init(9329);
+    public static final NodeId ExclusiveLimitStateMachineType_HighHighToHigh = Identifiers.init(9339);
+    public static final NodeId ExclusiveLimitStateMachineType_HighToHighHigh = Identifiers.init(9340);
+    public static final NodeId ExclusiveLimitStateMachineType_Low = Identifiers.init(9333);
+    public static final NodeId ExclusiveLimitStateMachineType_LowLow = Identifiers.init(9335);
+    public static final NodeId ExclusiveLimitStateMachineType_LowLowToLow = Identifiers.init(9337);
+    public static final NodeId ExclusiveLimitStateMachineType_LowToLowLow = Identifiers.init(9338);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState = Identifiers.init(9737);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState = Identifiers.init(9698);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder = Identifiers.init(13354);
+    public static final NodeId FileDirectoryType_FileName_Placeholder = Identifiers.init(13366);
+    public static final NodeId FilterOperand_Encoding_DefaultBinary = Identifiers.init(591);
+    public static final NodeId FilterOperand_Encoding_DefaultXml = Identifiers.init(590);
+    public static final NodeId FindServersOnNetworkRequest_Encoding_DefaultBinary = Identifiers.init(12208);
+    public static final NodeId FindServersOnNetworkRequest_Encoding_DefaultXml = Identifiers.init(12196);
+    public static final NodeId FindServersOnNetworkResponse_Encoding_DefaultBinary = Identifiers.init(12209);
+    public static final NodeId FindServersOnNetworkResponse_Encoding_DefaultXml = Identifiers.init(12197);
+    public static final NodeId FindServersRequest_Encoding_DefaultBinary = Identifiers.init(422);
+    public static final NodeId FindServersRequest_Encoding_DefaultXml = Identifiers.init(421);
+    public static final NodeId FindServersResponse_Encoding_DefaultBinary = Identifiers.init(425);
+    public static final NodeId FindServersResponse_Encoding_DefaultXml = Identifiers.init(424);
+    public static final NodeId GetEndpointsRequest_Encoding_DefaultBinary = Identifiers.init(428);
+    public static final NodeId GetEndpointsRequest_Encoding_DefaultXml = Identifiers.init(427);
+    public static final NodeId GetEndpointsResponse_Encoding_DefaultBinary = Identifiers.init(431);
+    public static final NodeId GetEndpointsResponse_Encoding_DefaultXml = Identifiers.init(430);
+    public static final NodeId HAConfiguration = Identifiers.init(11202);
+    public static final NodeId HAConfiguration_AggregateConfiguration = Identifiers.init(11203);
+    public static final NodeId HAConfiguration_AggregateFunctions = Identifiers.init(11877);
+    public static final NodeId HistoricalDataConfigurationType_AggregateConfiguration = Identifiers.init(3059);
+    public static final NodeId HistoricalDataConfigurationType_AggregateFunctions = Identifiers.init(11876);
+    public static final NodeId HistoryData_Encoding_DefaultBinary = Identifiers.init(658);
+    public static final NodeId HistoryData_Encoding_DefaultXml = Identifiers.init(657);
+    public static final NodeId HistoryEventFieldList_Encoding_DefaultBinary = Identifiers.init(922);
+    public static final NodeId HistoryEventFieldList_Encoding_DefaultXml = Identifiers.init(921);
+    public static final NodeId HistoryEvent_Encoding_DefaultBinary = Identifiers.init(661);
+    public static final NodeId HistoryEvent_Encoding_DefaultXml = Identifiers.init(660);
+    public static final NodeId HistoryModifiedData_Encoding_DefaultBinary = Identifiers.init(11227);
+    public static final NodeId HistoryModifiedData_Encoding_DefaultXml = Identifiers.init(11219);
+    public static final NodeId HistoryReadDetails_Encoding_DefaultBinary = Identifiers.init(643);
+    public static final NodeId HistoryReadDetails_Encoding_DefaultXml = Identifiers.init(642);
+    public static final NodeId HistoryReadRequest_Encoding_DefaultBinary = Identifiers.init(664);
+    public static final NodeId HistoryReadRequest_Encoding_DefaultXml = Identifiers.init(663);
+    public static final NodeId HistoryReadResponse_Encoding_DefaultBinary = Identifiers.init(667);
+    public static final NodeId HistoryReadResponse_Encoding_DefaultXml = Identifiers.init(666);
+    public static final NodeId HistoryReadResult_Encoding_DefaultBinary = Identifiers.init(640);
+    public static final NodeId HistoryReadResult_Encoding_DefaultXml = Identifiers.init(639);
+    public static final NodeId HistoryReadValueId_Encoding_DefaultBinary = Identifiers.init(637);
+    public static final NodeId HistoryReadValueId_Encoding_DefaultXml = Identifiers.init(636);
+    public static final NodeId HistoryServerCapabilities = Identifiers.init(11192);
+    public static final NodeId HistoryServerCapabilitiesType_AggregateFunctions = Identifiers.init(11172);
+    public static final NodeId HistoryServerCapabilities_AggregateFunctions = Identifiers.init(11201);
+    public static final NodeId HistoryUpdateDetails_Encoding_DefaultBinary = Identifiers.init(679);
+    public static final NodeId HistoryUpdateDetails_Encoding_DefaultXml = Identifiers.init(678);
+    public static final NodeId HistoryUpdateRequest_Encoding_DefaultBinary = Identifiers.init(700);
+    public static final NodeId HistoryUpdateRequest_Encoding_DefaultXml = Identifiers.init(699);
+    public static final NodeId HistoryUpdateResponse_Encoding_DefaultBinary = Identifiers.init(703);
+    public static final NodeId HistoryUpdateResponse_Encoding_DefaultXml = Identifiers.init(702);
+    public static final NodeId HistoryUpdateResult_Encoding_DefaultBinary = Identifiers.init(697);
+    public static final NodeId HistoryUpdateResult_Encoding_DefaultXml = Identifiers.init(696);
+    public static final NodeId InstanceNode_Encoding_DefaultBinary = Identifiers.init(11889);
+    public static final NodeId InstanceNode_Encoding_DefaultXml = Identifiers.init(11887);
+    public static final NodeId IssuedIdentityToken_Encoding_DefaultBinary = Identifiers.init(940);
+    public static final NodeId IssuedIdentityToken_Encoding_DefaultXml = Identifiers.init(939);
+    public static final NodeId LimitAlarmType_ShelvingState = Identifiers.init(9279);
+    public static final NodeId LiteralOperand_Encoding_DefaultBinary = Identifiers.init(597);
+    public static final NodeId LiteralOperand_Encoding_DefaultXml = Identifiers.init(596);
+    public static final NodeId MdnsDiscoveryConfiguration_Encoding_DefaultBinary = Identifiers.init(12901);
+    public static final NodeId MdnsDiscoveryConfiguration_Encoding_DefaultXml = Identifiers.init(12893);
+    public static final NodeId MethodAttributes_Encoding_DefaultBinary = Identifiers.init(360);
+    public static final NodeId MethodAttributes_Encoding_DefaultXml = Identifiers.init(359);
+    public static final NodeId MethodNode_Encoding_DefaultBinary = Identifiers.init(278);
+    public static final NodeId MethodNode_Encoding_DefaultXml = Identifiers.init(277);
+    public static final NodeId ModelChangeStructureDataType_Encoding_DefaultBinary = Identifiers.init(879);
+    public static final NodeId ModelChangeStructureDataType_Encoding_DefaultXml = Identifiers.init(878);
+    public static final NodeId ModellingRule_ExposesItsArray = Identifiers.init(83);
+    public static final NodeId ModellingRule_Mandatory = Identifiers.init(78);
+    public static final NodeId ModellingRule_MandatoryPlaceholder = Identifiers.init(11510);
+    public static final NodeId ModellingRule_MandatoryShared = Identifiers.init(79);
+    public static final NodeId ModellingRule_Optional = Identifiers.init(80);
+    public static final NodeId ModellingRule_OptionalPlaceholder = Identifiers.init(11508);
+    public static final NodeId ModificationInfo_Encoding_DefaultBinary = Identifiers.init(11226);
+    public static final NodeId ModificationInfo_Encoding_DefaultXml = Identifiers.init(11218);
+    public static final NodeId ModifyMonitoredItemsRequest_Encoding_DefaultBinary = Identifiers.init(763);
+    public static final NodeId ModifyMonitoredItemsRequest_Encoding_DefaultXml = Identifiers.init(762);
+    public static final NodeId ModifyMonitoredItemsResponse_Encoding_DefaultBinary = Identifiers.init(766);
+    public static final NodeId ModifyMonitoredItemsResponse_Encoding_DefaultXml = Identifiers.init(765);
+    public static final NodeId ModifySubscriptionRequest_Encoding_DefaultBinary = Identifiers.init(793);
+    public static final NodeId ModifySubscriptionRequest_Encoding_DefaultXml = Identifiers.init(792);
+    public static final NodeId ModifySubscriptionResponse_Encoding_DefaultBinary = Identifiers.init(796);
+    public static final NodeId ModifySubscriptionResponse_Encoding_DefaultXml = Identifiers.init(795);
+    public static final NodeId MonitoredItemCreateRequest_Encoding_DefaultBinary = Identifiers.init(745);
+    public static final NodeId MonitoredItemCreateRequest_Encoding_DefaultXml = Identifiers.init(744);
+    public static final NodeId MonitoredItemCreateResult_Encoding_DefaultBinary = Identifiers.init(748);
+    public static final NodeId MonitoredItemCreateResult_Encoding_DefaultXml = Identifiers.init(747);
+    public static final NodeId MonitoredItemModifyRequest_Encoding_DefaultBinary = Identifiers.init(757);
+    public static final NodeId MonitoredItemModifyRequest_Encoding_DefaultXml = Identifiers.init(756);
+    public static final NodeId MonitoredItemModifyResult_Encoding_DefaultBinary = Identifiers.init(760);
+    public static final NodeId MonitoredItemModifyResult_Encoding_DefaultXml = Identifiers.init(759);
+    public static final NodeId MonitoredItemNotification_Encoding_DefaultBinary = Identifiers.init(808);
+    public static final NodeId MonitoredItemNotification_Encoding_DefaultXml = Identifiers.init(807);
+    public static final NodeId MonitoringFilterResult_Encoding_DefaultBinary = Identifiers.init(733);
+    public static final NodeId MonitoringFilterResult_Encoding_DefaultXml = Identifiers.init(732);
+    public static final NodeId MonitoringFilter_Encoding_DefaultBinary = Identifiers.init(721);
+    public static final NodeId MonitoringFilter_Encoding_DefaultXml = Identifiers.init(720);
+    public static final NodeId MonitoringParameters_Encoding_DefaultBinary = Identifiers.init(742);
+    public static final NodeId MonitoringParameters_Encoding_DefaultXml = Identifiers.init(741);
+    public static final NodeId NamespaceMetadataType_NamespaceFile = Identifiers.init(11624);
+    public static final NodeId NamespacesType_AddressSpaceFile = Identifiers.init(11675);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder = Identifiers.init(11646);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile = Identifiers.init(11654);
+    public static final NodeId NetworkGroupDataType_Encoding_DefaultBinary = Identifiers.init(11958);
+    public static final NodeId NetworkGroupDataType_Encoding_DefaultXml = Identifiers.init(11950);
+    public static final NodeId NodeAttributes_Encoding_DefaultBinary = Identifiers.init(351);
+    public static final NodeId NodeAttributes_Encoding_DefaultXml = Identifiers.init(350);
+    public static final NodeId NodeReference_Encoding_DefaultBinary = Identifiers.init(582);
+    public static final NodeId NodeReference_Encoding_DefaultXml = Identifiers.init(581);
+    public static final NodeId NodeTypeDescription_Encoding_DefaultBinary = Identifiers.init(575);
+    public static final NodeId NodeTypeDescription_Encoding_DefaultXml = Identifiers.init(574);
+    public static final NodeId Node_Encoding_DefaultBinary = Identifiers.init(260);
+    public static final NodeId Node_Encoding_DefaultXml = Identifiers.init(259);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState = Identifiers.init(10443);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState = Identifiers.init(10135);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState = Identifiers.init(9981);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState = Identifiers.init(10289);
+    public static final NodeId NotificationData_Encoding_DefaultBinary = Identifiers.init(947);
+    public static final NodeId NotificationData_Encoding_DefaultXml = Identifiers.init(946);
+    public static final NodeId NotificationMessage_Encoding_DefaultBinary = Identifiers.init(805);
+    public static final NodeId NotificationMessage_Encoding_DefaultXml = Identifiers.init(804);
+    public static final NodeId OPCBinarySchema_TypeSystem = Identifiers.init(93);
+    public static final NodeId ObjectAttributes_Encoding_DefaultBinary = Identifiers.init(354);
+    public static final NodeId ObjectAttributes_Encoding_DefaultXml = Identifiers.init(353);
+    public static final NodeId ObjectNode_Encoding_DefaultBinary = Identifiers.init(263);
+    public static final NodeId ObjectNode_Encoding_DefaultXml = Identifiers.init(262);
+    public static final NodeId ObjectTypeAttributes_Encoding_DefaultBinary = Identifiers.init(363);
+    public static final NodeId ObjectTypeAttributes_Encoding_DefaultXml = Identifiers.init(362);
+    public static final NodeId ObjectTypeNode_Encoding_DefaultBinary = Identifiers.init(266);
+    public static final NodeId ObjectTypeNode_Encoding_DefaultXml = Identifiers.init(265);
+    public static final NodeId ObjectTypesFolder = Identifiers.init(88);
+    public static final NodeId ObjectsFolder = Identifiers.init(85);
+    public static final NodeId OffNormalAlarmType_ShelvingState = Identifiers.init(10712);
+    public static final NodeId OpenSecureChannelRequest_Encoding_DefaultBinary = Identifiers.init(446);
+    public static final NodeId OpenSecureChannelRequest_Encoding_DefaultXml = Identifiers.init(445);
+    public static final NodeId OpenSecureChannelResponse_Encoding_DefaultBinary = Identifiers.init(449);
+    public static final NodeId OpenSecureChannelResponse_Encoding_DefaultXml = Identifiers.init(448);
+    public static final NodeId OptionSet_Encoding_DefaultBinary = Identifiers.init(12765);
+    public static final NodeId OptionSet_Encoding_DefaultXml = Identifiers.init(12757);
+    public static final NodeId ParsingResult_Encoding_DefaultBinary = Identifiers.init(612);
+    public static final NodeId ParsingResult_Encoding_DefaultXml = Identifiers.init(611);
+    public static final NodeId ProgramDiagnosticDataType_Encoding_DefaultBinary = Identifiers.init(896);
+    public static final NodeId ProgramDiagnosticDataType_Encoding_DefaultXml = Identifiers.init(895);
+    public static final NodeId ProgramStateMachineType_FinalResultData = Identifiers.init(3850);
+    public static final NodeId ProgramStateMachineType_Halted = Identifiers.init(2406);
+    public static final NodeId ProgramStateMachineType_HaltedToReady = Identifiers.init(2408);
+    public static final NodeId ProgramStateMachineType_Ready = Identifiers.init(2400);
+    public static final NodeId ProgramStateMachineType_ReadyToHalted = Identifiers.init(2424);
+    public static final NodeId ProgramStateMachineType_ReadyToRunning = Identifiers.init(2410);
+    public static final NodeId ProgramStateMachineType_Running = Identifiers.init(2402);
+    public static final NodeId ProgramStateMachineType_RunningToHalted = Identifiers.init(2412);
+    public static final NodeId ProgramStateMachineType_RunningToReady = Identifiers.init(2414);
+    public static final NodeId ProgramStateMachineType_RunningToSuspended = Identifiers.init(2416);
+    public static final NodeId ProgramStateMachineType_Suspended = Identifiers.init(2404);
+    public static final NodeId ProgramStateMachineType_SuspendedToHalted = Identifiers.init(2420);
+    public static final NodeId ProgramStateMachineType_SuspendedToReady = Identifiers.init(2422);
+    public static final NodeId ProgramStateMachineType_SuspendedToRunning = Identifiers.init(2418);
+    public static final NodeId PublishRequest_Encoding_DefaultBinary = Identifiers.init(826);
+    public static final NodeId PublishRequest_Encoding_DefaultXml = Identifiers.init(825);
+    public static final NodeId PublishResponse_Encoding_DefaultBinary = Identifiers.init(829);
+    public static final NodeId PublishResponse_Encoding_DefaultXml = Identifiers.init(828);
+    public static final NodeId QueryDataDescription_Encoding_DefaultBinary = Identifiers.init(572);
+    public static final NodeId QueryDataDescription_Encoding_DefaultXml = Identifiers.init(571);
+    public static final NodeId QueryDataSet_Encoding_DefaultBinary = Identifiers.init(579);
+    public static final NodeId QueryDataSet_Encoding_DefaultXml = Identifiers.init(578);
+    public static final NodeId QueryFirstRequest_Encoding_DefaultBinary = Identifiers.init(615);
+    public static final NodeId QueryFirstRequest_Encoding_DefaultXml = Identifiers.init(614);
+    public static final NodeId QueryFirstResponse_Encoding_DefaultBinary = Identifiers.init(618);
+    public static final NodeId QueryFirstResponse_Encoding_DefaultXml = Identifiers.init(617);
+    public static final NodeId QueryNextRequest_Encoding_DefaultBinary = Identifiers.init(621);
+    public static final NodeId QueryNextRequest_Encoding_DefaultXml = Identifiers.init(620);
+    public static final NodeId QueryNextResponse_Encoding_DefaultBinary = Identifiers.init(624);
+    public static final NodeId QueryNextResponse_Encoding_DefaultXml = Identifiers.init(623);
+    public static final NodeId Range_Encoding_DefaultBinary = Identifiers.init(886);
+    public static final NodeId Range_Encoding_DefaultXml = Identifiers.init(885);
+    public static final NodeId ReadAtTimeDetails_Encoding_DefaultBinary = Identifiers.init(655);
+    public static final NodeId ReadAtTimeDetails_Encoding_DefaultXml = Identifiers.init(654);
+    public static final NodeId ReadEventDetails_Encoding_DefaultBinary = Identifiers.init(646);
+    public static final NodeId ReadEventDetails_Encoding_DefaultXml = Identifiers.init(645);
+    public static final NodeId ReadProcessedDetails_Encoding_DefaultBinary = Identifiers.init(652);
+    public static final NodeId ReadProcessedDetails_Encoding_DefaultXml = Identifiers.init(651);
+    public static final NodeId ReadRawModifiedDetails_Encoding_DefaultBinary = Identifiers.init(649);
+    public static final NodeId ReadRawModifiedDetails_Encoding_DefaultXml = Identifiers.init(648);
+    public static final NodeId ReadRequest_Encoding_DefaultBinary = Identifiers.init(631);
+    public static final NodeId ReadRequest_Encoding_DefaultXml = Identifiers.init(630);
+    public static final NodeId ReadResponse_Encoding_DefaultBinary = Identifiers.init(634);
+    public static final NodeId ReadResponse_Encoding_DefaultXml = Identifiers.init(633);
+    public static final NodeId ReadValueId_Encoding_DefaultBinary = Identifiers.init(628);
+    public static final NodeId ReadValueId_Encoding_DefaultXml = Identifiers.init(627);
+    public static final NodeId RedundantServerDataType_Encoding_DefaultBinary = Identifiers.init(855);
+    public static final NodeId RedundantServerDataType_Encoding_DefaultXml = Identifiers.init(854);
+    public static final NodeId ReferenceDescription_Encoding_DefaultBinary = Identifiers.init(520);
+    public static final NodeId ReferenceDescription_Encoding_DefaultXml = Identifiers.init(519);
+    public static final NodeId ReferenceNode_Encoding_DefaultBinary = Identifiers.init(287);
+    public static final NodeId ReferenceNode_Encoding_DefaultXml = Identifiers.init(286);
+    public static final NodeId ReferenceTypeAttributes_Encoding_DefaultBinary = Identifiers.init(369);
+    public static final NodeId ReferenceTypeAttributes_Encoding_DefaultXml = Identifiers.init(368);
+    public static final NodeId ReferenceTypeNode_Encoding_DefaultBinary = Identifiers.init(275);
+    public static final NodeId ReferenceTypeNode_Encoding_DefaultXml = Identifiers.init(274);
+    public static final NodeId ReferenceTypesFolder = Identifiers.init(91);
+    public static final NodeId RegisterNodesRequest_Encoding_DefaultBinary = Identifiers.init(560);
+    public static final NodeId RegisterNodesRequest_Encoding_DefaultXml = Identifiers.init(559);
+    public static final NodeId RegisterNodesResponse_Encoding_DefaultBinary = Identifiers.init(563);
+    public static final NodeId RegisterNodesResponse_Encoding_DefaultXml = Identifiers.init(562);
+    public static final NodeId RegisterServer2Request_Encoding_DefaultBinary = Identifiers.init(12211);
+    public static final NodeId RegisterServer2Request_Encoding_DefaultXml = Identifiers.init(12199);
+    public static final NodeId RegisterServer2Response_Encoding_DefaultBinary = Identifiers.init(12212);
+    public static final NodeId RegisterServer2Response_Encoding_DefaultXml = Identifiers.init(12200);
+    public static final NodeId RegisterServerRequest_Encoding_DefaultBinary = Identifiers.init(437);
+    public static final NodeId RegisterServerRequest_Encoding_DefaultXml = Identifiers.init(436);
+    public static final NodeId RegisterServerResponse_Encoding_DefaultBinary = Identifiers.init(440);
+    public static final NodeId RegisterServerResponse_Encoding_DefaultXml = Identifiers.init(439);
+    public static final NodeId RegisteredServer_Encoding_DefaultBinary = Identifiers.init(434);
+    public static final NodeId RegisteredServer_Encoding_DefaultXml = Identifiers.init(433);
+    public static final NodeId RelativePathElement_Encoding_DefaultBinary = Identifiers.init(539);
+    public static final NodeId RelativePathElement_Encoding_DefaultXml = Identifiers.init(538);
+    public static final NodeId RelativePath_Encoding_DefaultBinary = Identifiers.init(542);
+    public static final NodeId RelativePath_Encoding_DefaultXml = Identifiers.init(541);
+    public static final NodeId RepublishRequest_Encoding_DefaultBinary = Identifiers.init(832);
+    public static final NodeId RepublishRequest_Encoding_DefaultXml = Identifiers.init(831);
+    public static final NodeId RepublishResponse_Encoding_DefaultBinary = Identifiers.init(835);
+    public static final NodeId RepublishResponse_Encoding_DefaultXml = Identifiers.init(834);
+    public static final NodeId RequestHeader_Encoding_DefaultBinary = Identifiers.init(391);
+    public static final NodeId RequestHeader_Encoding_DefaultXml = Identifiers.init(390);
+    public static final NodeId ResponseHeader_Encoding_DefaultBinary = Identifiers.init(394);
+    public static final NodeId ResponseHeader_Encoding_DefaultXml = Identifiers.init(393);
+    public static final NodeId RootFolder = Identifiers.init(84);
+    public static final NodeId SamplingIntervalDiagnosticsDataType_Encoding_DefaultBinary = Identifiers.init(858);
+    public static final NodeId SamplingIntervalDiagnosticsDataType_Encoding_DefaultXml = Identifiers.init(857);
+    public static final NodeId SemanticChangeStructureDataType_Encoding_DefaultBinary = Identifiers.init(899);
+    public static final NodeId SemanticChangeStructureDataType_Encoding_DefaultXml = Identifiers.init(898);
+    public static final NodeId Server = Identifiers.init(2253);
+    public static final NodeId ServerCapabilitiesType_AggregateFunctions = Identifiers.init(2754);
+    public static final NodeId ServerCapabilitiesType_ModellingRules = Identifiers.init(2019);
+    public static final NodeId ServerCapabilitiesType_OperationLimits = Identifiers.init(11551);
+    public static final NodeId ServerConfiguration = Identifiers.init(12637);
+    public static final NodeId ServerConfigurationType_CertificateGroups = Identifiers.init(13950);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup = Identifiers.init(13951);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList = Identifiers.init(13952);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup = Identifiers.init(13985);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList = Identifiers.init(13986);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup = Identifiers.init(14019);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList = Identifiers.init(14020);
+    public static final NodeId ServerConfiguration_CertificateGroups = Identifiers.init(14053);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup = Identifiers.init(14156);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList = Identifiers.init(12642);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup = Identifiers.init(14088);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList = Identifiers.init(14089);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup = Identifiers.init(14122);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList = Identifiers.init(14123);
+    public static final NodeId ServerDiagnosticsSummaryDataType_Encoding_DefaultBinary = Identifiers.init(861);
+    public static final NodeId ServerDiagnosticsSummaryDataType_Encoding_DefaultXml = Identifiers.init(860);
+    public static final NodeId ServerDiagnosticsType_SessionsDiagnosticsSummary = Identifiers.init(2744);
+    public static final NodeId ServerOnNetwork_Encoding_DefaultBinary = Identifiers.init(12207);
+    public static final NodeId ServerOnNetwork_Encoding_DefaultXml = Identifiers.init(12195);
+    public static final NodeId ServerStatusDataType_Encoding_DefaultBinary = Identifiers.init(864);
+    public static final NodeId ServerStatusDataType_Encoding_DefaultXml = Identifiers.init(863);
+    public static final NodeId ServerType_Namespaces = Identifiers.init(11527);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile = Identifiers.init(11528);
+    public static final NodeId ServerType_ServerCapabilities = Identifiers.init(2009);
+    public static final NodeId ServerType_ServerCapabilities_AggregateFunctions = Identifiers.init(3094);
+    public static final NodeId ServerType_ServerCapabilities_ModellingRules = Identifiers.init(3093);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits = Identifiers.init(11516);
+    public static final NodeId ServerType_ServerDiagnostics = Identifiers.init(2010);
+    public static final NodeId ServerType_ServerDiagnostics_SessionsDiagnosticsSummary = Identifiers.init(3111);
+    public static final NodeId ServerType_ServerRedundancy = Identifiers.init(2012);
+    public static final NodeId ServerType_VendorServerInfo = Identifiers.init(2011);
+    public static final NodeId Server_Namespaces = Identifiers.init(11715);
+    public static final NodeId Server_Namespaces_AddressSpaceFile = Identifiers.init(11716);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri = Identifiers.init(15182);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile = Identifiers.init(15190);
+    public static final NodeId Server_ServerCapabilities = Identifiers.init(2268);
+    public static final NodeId Server_ServerCapabilities_AggregateFunctions = Identifiers.init(2997);
+    public static final NodeId Server_ServerCapabilities_ModellingRules = Identifiers.init(2996);
+    public static final NodeId Server_ServerCapabilities_OperationLimits = Identifiers.init(11704);
+    public static final NodeId Server_ServerDiagnostics = Identifiers.init(2274);
+    public static final NodeId Server_ServerDiagnostics_SessionsDiagnosticsSummary = Identifiers.init(3706);
+    public static final NodeId Server_ServerRedundancy = Identifiers.init(2296);
+    public static final NodeId Server_VendorServerInfo = Identifiers.init(2295);
+    public static final NodeId ServiceCounterDataType_Encoding_DefaultBinary = Identifiers.init(873);
+    public static final NodeId ServiceCounterDataType_Encoding_DefaultXml = Identifiers.init(872);
+    public static final NodeId ServiceFault_Encoding_DefaultBinary = Identifiers.init(397);
+    public static final NodeId ServiceFault_Encoding_DefaultXml = Identifiers.init(396);
+    public static final NodeId SessionDiagnosticsDataType_Encoding_DefaultBinary = Identifiers.init(867);
+    public static final NodeId SessionDiagnosticsDataType_Encoding_DefaultXml = Identifiers.init(866);
+    public static final NodeId SessionSecurityDiagnosticsDataType_Encoding_DefaultBinary = Identifiers.init(870);
+    public static final NodeId SessionSecurityDiagnosticsDataType_Encoding_DefaultXml = Identifiers.init(869);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder = Identifiers.init(12097);
+    public static final NodeId SetMonitoringModeRequest_Encoding_DefaultBinary = Identifiers.init(769);
+    public static final NodeId SetMonitoringModeRequest_Encoding_DefaultXml = Identifiers.init(768);
+    public static final NodeId SetMonitoringModeResponse_Encoding_DefaultBinary = Identifiers.init(772);
+    public static final NodeId SetMonitoringModeResponse_Encoding_DefaultXml = Identifiers.init(771);
+    public static final NodeId SetPublishingModeRequest_Encoding_DefaultBinary = Identifiers.init(799);
+    public static final NodeId SetPublishingModeRequest_Encoding_DefaultXml = Identifiers.init(798);
+    public static final NodeId SetPublishingModeResponse_Encoding_DefaultBinary = Identifiers.init(802);
+    public static final NodeId SetPublishingModeResponse_Encoding_DefaultXml = Identifiers.init(801);
+    public static final NodeId SetTriggeringRequest_Encoding_DefaultBinary = Identifiers.init(775);
+    public static final NodeId SetTriggeringRequest_Encoding_DefaultXml = Identifiers.init(774);
+    public static final NodeId SetTriggeringResponse_Encoding_DefaultBinary = Identifiers.init(778);
+    public static final NodeId SetTriggeringResponse_Encoding_DefaultXml = Identifiers.init(777);
+    public static final NodeId ShelvedStateMachineType_OneShotShelved = Identifiers.init(2933);
+    public static final NodeId ShelvedStateMachineType_OneShotShelvedToTimedShelved = Identifiers.init(2945);
+    public static final NodeId ShelvedStateMachineType_OneShotShelvedToUnshelved = Identifiers.init(2943);
+    public static final NodeId ShelvedStateMachineType_TimedShelved = Identifiers.init(2932);
+    public static final NodeId ShelvedStateMachineType_TimedShelvedToOneShotShelved = Identifiers.init(2942);
+    public static final NodeId ShelvedStateMachineType_TimedShelvedToUnshelved = Identifiers.init(2940);
+    public static final NodeId ShelvedStateMachineType_Unshelved = Identifiers.init(2930);
+    public static final NodeId ShelvedStateMachineType_UnshelvedToOneShotShelved = Identifiers.init(2936);
+    public static final NodeId ShelvedStateMachineType_UnshelvedToTimedShelved = Identifiers.init(2935);
+    public static final NodeId SignatureData_Encoding_DefaultBinary = Identifiers.init(458);
+    public static final NodeId SignatureData_Encoding_DefaultXml = Identifiers.init(457);
+    public static final NodeId SignedSoftwareCertificate_Encoding_DefaultBinary = Identifiers.init(346);
+    public static final NodeId SignedSoftwareCertificate_Encoding_DefaultXml = Identifiers.init(345);
+    public static final NodeId SimpleAttributeOperand_Encoding_DefaultBinary = Identifiers.init(603);
+    public static final NodeId SimpleAttributeOperand_Encoding_DefaultXml = Identifiers.init(602);
+    public static final NodeId StatusChangeNotification_Encoding_DefaultBinary = Identifiers.init(820);
+    public static final NodeId StatusChangeNotification_Encoding_DefaultXml = Identifiers.init(819);
+    public static final NodeId StatusResult_Encoding_DefaultBinary = Identifiers.init(301);
+    public static final NodeId StatusResult_Encoding_DefaultXml = Identifiers.init(300);
+    public static final NodeId SubscriptionAcknowledgement_Encoding_DefaultBinary = Identifiers.init(823);
+    public static final NodeId SubscriptionAcknowledgement_Encoding_DefaultXml = Identifiers.init(822);
+    public static final NodeId SubscriptionDiagnosticsDataType_Encoding_DefaultBinary = Identifiers.init(876);
+    public static final NodeId SubscriptionDiagnosticsDataType_Encoding_DefaultXml = Identifiers.init(875);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState = Identifiers.init(11831);
+    public static final NodeId TimeZoneDataType_Encoding_DefaultBinary = Identifiers.init(8917);
+    public static final NodeId TimeZoneDataType_Encoding_DefaultXml = Identifiers.init(8913);
+    public static final NodeId TransferResult_Encoding_DefaultBinary = Identifiers.init(838);
+    public static final NodeId TransferResult_Encoding_DefaultXml = Identifiers.init(837);
+    public static final NodeId TransferSubscriptionsRequest_Encoding_DefaultBinary = Identifiers.init(841);
+    public static final NodeId TransferSubscriptionsRequest_Encoding_DefaultXml = Identifiers.init(840);
+    public static final NodeId TransferSubscriptionsResponse_Encoding_DefaultBinary = Identifiers.init(844);
+    public static final NodeId TransferSubscriptionsResponse_Encoding_DefaultXml = Identifiers.init(843);
+    public static final NodeId TranslateBrowsePathsToNodeIdsRequest_Encoding_DefaultBinary = Identifiers.init(554);
+    public static final NodeId TranslateBrowsePathsToNodeIdsRequest_Encoding_DefaultXml = Identifiers.init(553);
+    public static final NodeId TranslateBrowsePathsToNodeIdsResponse_Encoding_DefaultBinary = Identifiers.init(557);
+    public static final NodeId TranslateBrowsePathsToNodeIdsResponse_Encoding_DefaultXml = Identifiers.init(556);
+    public static final NodeId TripAlarmType_ShelvingState = Identifiers.init(10826);
+    public static final NodeId TrustListDataType_Encoding_DefaultBinary = Identifiers.init(12680);
+    public static final NodeId TrustListDataType_Encoding_DefaultXml = Identifiers.init(12676);
+    public static final NodeId TypeNode_Encoding_DefaultBinary = Identifiers.init(11890);
+    public static final NodeId TypeNode_Encoding_DefaultXml = Identifiers.init(11888);
+    public static final NodeId TypesFolder = Identifiers.init(86);
+    public static final NodeId Union_Encoding_DefaultBinary = Identifiers.init(12766);
+    public static final NodeId Union_Encoding_DefaultXml = Identifiers.init(12758);
+    public static final NodeId UnregisterNodesRequest_Encoding_DefaultBinary = Identifiers.init(566);
+    public static final NodeId UnregisterNodesRequest_Encoding_DefaultXml = Identifiers.init(565);
+    public static final NodeId UnregisterNodesResponse_Encoding_DefaultBinary = Identifiers.init(569);
+    public static final NodeId UnregisterNodesResponse_Encoding_DefaultXml = Identifiers.init(568);
+    public static final NodeId UpdateDataDetails_Encoding_DefaultBinary = Identifiers.init(682);
+    public static final NodeId UpdateDataDetails_Encoding_DefaultXml = Identifiers.init(681);
+    public static final NodeId UpdateEventDetails_Encoding_DefaultBinary = Identifiers.init(685);
+    public static final NodeId UpdateEventDetails_Encoding_DefaultXml = Identifiers.init(684);
+    public static final NodeId UpdateStructureDataDetails_Encoding_DefaultBinary = Identifiers.init(11300);
+    public static final NodeId UpdateStructureDataDetails_Encoding_DefaultXml = Identifiers.init(11296);
+    public static final NodeId UserIdentityToken_Encoding_DefaultBinary = Identifiers.init(318);
+    public static final NodeId UserIdentityToken_Encoding_DefaultXml = Identifiers.init(317);
+    public static final NodeId UserNameIdentityToken_Encoding_DefaultBinary = Identifiers.init(324);
+    public static final NodeId UserNameIdentityToken_Encoding_DefaultXml = Identifiers.init(323);
+    public static final NodeId UserTokenPolicy_Encoding_DefaultBinary = Identifiers.init(306);
+    public static final NodeId UserTokenPolicy_Encoding_DefaultXml = Identifiers.init(305);
+    public static final NodeId VariableAttributes_Encoding_DefaultBinary = Identifiers.init(357);
+    public static final NodeId VariableAttributes_Encoding_DefaultXml = Identifiers.init(356);
+    public static final NodeId VariableNode_Encoding_DefaultBinary = Identifiers.init(269);
+    public static final NodeId VariableNode_Encoding_DefaultXml = Identifiers.init(268);
+    public static final NodeId VariableTypeAttributes_Encoding_DefaultBinary = Identifiers.init(366);
+    public static final NodeId VariableTypeAttributes_Encoding_DefaultXml = Identifiers.init(365);
+    public static final NodeId VariableTypeNode_Encoding_DefaultBinary = Identifiers.init(272);
+    public static final NodeId VariableTypeNode_Encoding_DefaultXml = Identifiers.init(271);
+    public static final NodeId VariableTypesFolder = Identifiers.init(89);
+    public static final NodeId ViewAttributes_Encoding_DefaultBinary = Identifiers.init(375);
+    public static final NodeId ViewAttributes_Encoding_DefaultXml = Identifiers.init(374);
+    public static final NodeId ViewDescription_Encoding_DefaultBinary = Identifiers.init(513);
+    public static final NodeId ViewDescription_Encoding_DefaultXml = Identifiers.init(512);
+    public static final NodeId ViewNode_Encoding_DefaultBinary = Identifiers.init(281);
+    public static final NodeId ViewNode_Encoding_DefaultXml = Identifiers.init(280);
+    public static final NodeId ViewsFolder = Identifiers.init(87);
+    public static final NodeId WriteRequest_Encoding_DefaultBinary = Identifiers.init(673);
+    public static final NodeId WriteRequest_Encoding_DefaultXml = Identifiers.init(672);
+    public static final NodeId WriteResponse_Encoding_DefaultBinary = Identifiers.init(676);
+    public static final NodeId WriteResponse_Encoding_DefaultXml = Identifiers.init(675);
+    public static final NodeId WriteValue_Encoding_DefaultBinary = Identifiers.init(670);
+    public static final NodeId WriteValue_Encoding_DefaultXml = Identifiers.init(669);
+    public static final NodeId X509IdentityToken_Encoding_DefaultBinary = Identifiers.init(327);
+    public static final NodeId X509IdentityToken_Encoding_DefaultXml = Identifiers.init(326);
+    public static final NodeId XVType_Encoding_DefaultBinary = Identifiers.init(12090);
+    public static final NodeId XVType_Encoding_DefaultXml = Identifiers.init(12082);
+    public static final NodeId XmlSchema_TypeSystem = Identifiers.init(92);
+ 
+}
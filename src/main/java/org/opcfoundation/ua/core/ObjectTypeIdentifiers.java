@@ -0,0 +1,163 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard object types. Accessed through {@link Identifiers}.
+ */
+public interface ObjectTypeIdentifiers {
+	
+    public static final NodeId AcknowledgeableConditionType = Identifiers.init(2881);
+    public static final NodeId AddressSpaceFileType = Identifiers.init(11595);
+    public static final NodeId AggregateConfigurationType = Identifiers.init(11187);
+    public static final NodeId AggregateFunctionType = Identifiers.init(2340);
+    public static final NodeId AlarmConditionType = Identifiers.init(2915);
+    public static final NodeId ApplicationCertificateType = Identifiers.init(12557);
+    public static final NodeId AuditActivateSessionEventType = Identifiers.init(2075);
+    public static final NodeId AuditAddNodesEventType = Identifiers.init(2091);
+    public static final NodeId AuditAddReferencesEventType = Identifiers.init(2095);
+    public static final NodeId AuditCancelEventType = Identifiers.init(2078);
+    public static final NodeId AuditCertificateDataMismatchEventType = Identifiers.init(2082);
+    public static final NodeId AuditCertificateEventType = Identifiers.init(2080);
+    public static final NodeId AuditCertificateExpiredEventType = Identifiers.init(2085);
+    public static final NodeId AuditCertificateInvalidEventType = Identifiers.init(2086);
+    public static final NodeId AuditCertificateMismatchEventType = Identifiers.init(2089);
+    public static final NodeId AuditCertificateRevokedEventType = Identifiers.init(2088);
+    public static final NodeId AuditCertificateUntrustedEventType = Identifiers.init(2087);
+    public static final NodeId AuditChannelEventType = Identifiers.init(2059);
+    public static final NodeId AuditConditionAcknowledgeEventType = Identifiers.init(8944);
+    public static final NodeId AuditConditionCommentEventType = Identifiers.init(2829);
+    public static final NodeId AuditConditionConfirmEventType = Identifiers.init(8961);
+    public static final NodeId AuditConditionEnableEventType = Identifiers.init(2803);
+    public static final NodeId AuditConditionEventType = Identifiers.init(2790);
+    public static final NodeId AuditConditionRespondEventType = Identifiers.init(8927);
+    public static final NodeId AuditConditionShelvingEventType = Identifiers.init(11093);
+    public static final NodeId AuditCreateSessionEventType = Identifiers.init(2071);
+    public static final NodeId AuditDeleteNodesEventType = Identifiers.init(2093);
+    public static final NodeId AuditDeleteReferencesEventType = Identifiers.init(2097);
+    public static final NodeId AuditEventType = Identifiers.init(2052);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType = Identifiers.init(3019);
+    public static final NodeId AuditHistoryDeleteEventType = Identifiers.init(3012);
+    public static final NodeId AuditHistoryEventDeleteEventType = Identifiers.init(3022);
+    public static final NodeId AuditHistoryEventUpdateEventType = Identifiers.init(2999);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType = Identifiers.init(3014);
+    public static final NodeId AuditHistoryUpdateEventType = Identifiers.init(2104);
+    public static final NodeId AuditHistoryValueUpdateEventType = Identifiers.init(3006);
+    public static final NodeId AuditNodeManagementEventType = Identifiers.init(2090);
+    public static final NodeId AuditOpenSecureChannelEventType = Identifiers.init(2060);
+    public static final NodeId AuditProgramTransitionEventType = Identifiers.init(11856);
+    public static final NodeId AuditSecurityEventType = Identifiers.init(2058);
+    public static final NodeId AuditSessionEventType = Identifiers.init(2069);
+    public static final NodeId AuditUpdateEventType = Identifiers.init(2099);
+    public static final NodeId AuditUpdateMethodEventType = Identifiers.init(2127);
+    public static final NodeId AuditUpdateStateEventType = Identifiers.init(2315);
+    public static final NodeId AuditUrlMismatchEventType = Identifiers.init(2748);
+    public static final NodeId AuditWriteUpdateEventType = Identifiers.init(2100);
+    public static final NodeId BaseConditionClassType = Identifiers.init(11163);
+    public static final NodeId BaseEventType = Identifiers.init(2041);
+    public static final NodeId BaseModelChangeEventType = Identifiers.init(2132);
+    public static final NodeId BaseObjectType = Identifiers.init(58);
+    public static final NodeId CertificateExpirationAlarmType = Identifiers.init(13225);
+    public static final NodeId CertificateGroupFolderType = Identifiers.init(13813);
+    public static final NodeId CertificateGroupType = Identifiers.init(12555);
+    public static final NodeId CertificateType = Identifiers.init(12556);
+    public static final NodeId CertificateUpdatedAuditEventType = Identifiers.init(12620);
+    public static final NodeId ConditionType = Identifiers.init(2782);
+    public static final NodeId DataTypeEncodingType = Identifiers.init(76);
+    public static final NodeId DataTypeSystemType = Identifiers.init(75);
+    public static final NodeId DeviceFailureEventType = Identifiers.init(2131);
+    public static final NodeId DialogConditionType = Identifiers.init(2830);
+    public static final NodeId DiscreteAlarmType = Identifiers.init(10523);
+    public static final NodeId EventQueueOverflowEventType = Identifiers.init(3035);
+    public static final NodeId ExclusiveDeviationAlarmType = Identifiers.init(9764);
+    public static final NodeId ExclusiveLevelAlarmType = Identifiers.init(9482);
+    public static final NodeId ExclusiveLimitAlarmType = Identifiers.init(9341);
+    public static final NodeId ExclusiveLimitStateMachineType = Identifiers.init(9318);
+    public static final NodeId ExclusiveRateOfChangeAlarmType = Identifiers.init(9623);
+    public static final NodeId FileDirectoryType = Identifiers.init(13353);
+    public static final NodeId FileType = Identifiers.init(11575);
+    public static final NodeId FiniteStateMachineType = Identifiers.init(2771);
+    public static final NodeId FolderType = Identifiers.init(61);
+    public static final NodeId GeneralModelChangeEventType = Identifiers.init(2133);
+    public static final NodeId HistoricalDataConfigurationType = Identifiers.init(2318);
+    public static final NodeId HistoryServerCapabilitiesType = Identifiers.init(2330);
+    public static final NodeId HttpsCertificateType = Identifiers.init(12558);
+    public static final NodeId InitialStateType = Identifiers.init(2309);
+    public static final NodeId LimitAlarmType = Identifiers.init(2955);
+    public static final NodeId MaintenanceConditionClassType = Identifiers.init(11165);
+    public static final NodeId ModellingRuleType = Identifiers.init(77);
+    public static final NodeId NamespaceMetadataType = Identifiers.init(11616);
+    public static final NodeId NamespacesType = Identifiers.init(11645);
+    public static final NodeId NonExclusiveDeviationAlarmType = Identifiers.init(10368);
+    public static final NodeId NonExclusiveLevelAlarmType = Identifiers.init(10060);
+    public static final NodeId NonExclusiveLimitAlarmType = Identifiers.init(9906);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType = Identifiers.init(10214);
+    public static final NodeId NonTransparentNetworkRedundancyType = Identifiers.init(11945);
+    public static final NodeId NonTransparentRedundancyType = Identifiers.init(2039);
+    public static final NodeId OffNormalAlarmType = Identifiers.init(10637);
+    public static final NodeId OperationLimitsType = Identifiers.init(11564);
+    public static final NodeId ProcessConditionClassType = Identifiers.init(11164);
+    public static final NodeId ProgramStateMachineType = Identifiers.init(2391);
+    public static final NodeId ProgramTransitionAuditEventType = Identifiers.init(3806);
+    public static final NodeId ProgramTransitionEventType = Identifiers.init(2378);
+    public static final NodeId ProgressEventType = Identifiers.init(11436);
+    public static final NodeId RefreshEndEventType = Identifiers.init(2788);
+    public static final NodeId RefreshRequiredEventType = Identifiers.init(2789);
+    public static final NodeId RefreshStartEventType = Identifiers.init(2787);
+    public static final NodeId RsaMinApplicationCertificateType = Identifiers.init(12559);
+    public static final NodeId RsaSha256ApplicationCertificateType = Identifiers.init(12560);
+    public static final NodeId SemanticChangeEventType = Identifiers.init(2738);
+    public static final NodeId ServerCapabilitiesType = Identifiers.init(2013);
+    public static final NodeId ServerConfigurationType = Identifiers.init(12581);
+    public static final NodeId ServerDiagnosticsType = Identifiers.init(2020);
+    public static final NodeId ServerRedundancyType = Identifiers.init(2034);
+    public static final NodeId ServerType = Identifiers.init(2004);
+    public static final NodeId SessionDiagnosticsObjectType = Identifiers.init(2029);
+    public static final NodeId SessionsDiagnosticsSummaryType = Identifiers.init(2026);
+    public static final NodeId ShelvedStateMachineType = Identifiers.init(2929);
+    public static final NodeId StateMachineType = Identifiers.init(2299);
+    public static final NodeId StateType = Identifiers.init(2307);
+    public static final NodeId SystemConditionClassType = Identifiers.init(11166);
+    public static final NodeId SystemEventType = Identifiers.init(2130);
+    public static final NodeId SystemOffNormalAlarmType = Identifiers.init(11753);
+    public static final NodeId SystemStatusChangeEventType = Identifiers.init(11446);
+    public static final NodeId TransitionEventType = Identifiers.init(2311);
+    public static final NodeId TransitionType = Identifiers.init(2310);
+    public static final NodeId TransparentRedundancyType = Identifiers.init(2036);
+    public static final NodeId TripAlarmType = Identifiers.init(10751);
+    public static final NodeId TrustListType = Identifiers.init(12522);
+    public static final NodeId TrustListUpdatedAuditEventType = Identifiers.init(12561);
+    public static final NodeId VendorServerInfoType = Identifiers.init(2033);
+ 
+}
@@ -0,0 +1,69 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard reference types. Accessed through {@link Identifiers}.
+ */
+public interface ReferenceTypeIdentifiers {
+	
+    public static final NodeId Aggregates = Identifiers.init(44);
+    public static final NodeId AlwaysGeneratesEvent = Identifiers.init(3065);
+    public static final NodeId FromState = Identifiers.init(51);
+    public static final NodeId GeneratesEvent = Identifiers.init(41);
+    public static final NodeId HasCause = Identifiers.init(53);
+    public static final NodeId HasChild = Identifiers.init(34);
+    public static final NodeId HasComponent = Identifiers.init(47);
+    public static final NodeId HasCondition = Identifiers.init(9006);
+    public static final NodeId HasDescription = Identifiers.init(39);
+    public static final NodeId HasEffect = Identifiers.init(54);
+    public static final NodeId HasEncoding = Identifiers.init(38);
+    public static final NodeId HasEventSource = Identifiers.init(36);
+    public static final NodeId HasFalseSubState = Identifiers.init(9005);
+    public static final NodeId HasHistoricalConfiguration = Identifiers.init(56);
+    public static final NodeId HasModellingRule = Identifiers.init(37);
+    public static final NodeId HasNotifier = Identifiers.init(48);
+    public static final NodeId HasOrderedComponent = Identifiers.init(49);
+    public static final NodeId HasProperty = Identifiers.init(46);
+    public static final NodeId HasSubStateMachine = Identifiers.init(117);
+    public static final NodeId HasSubtype = Identifiers.init(45);
+    public static final NodeId HasTrueSubState = Identifiers.init(9004);
+    public static final NodeId HasTypeDefinition = Identifiers.init(40);
+    public static final NodeId HierarchicalReferences = Identifiers.init(33);
+    public static final NodeId NonHierarchicalReferences = Identifiers.init(32);
+    public static final NodeId Organizes = Identifiers.init(35);
+    public static final NodeId References = Identifiers.init(31);
+    public static final NodeId ToState = Identifiers.init(52);
+ 
+}
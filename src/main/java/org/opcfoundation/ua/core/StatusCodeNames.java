@@ -0,0 +1,355 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+
+
+
+public class StatusCodeNames {
+	
+    /** Codes of the fields of {@link StatusCodes}, sorted as unsigned */
+    private static final int[] CODES = {
+            0x002D0000, 0x002E0000, 0x002F0000, 0x00300000, 0x00960000, 0x00A20000, 0x00A30000, 0x00A50000,
+            0x00A60000, 0x00A70000, 0x00A80000, 0x00A90000, 0x00AA0000, 0x00BA0000, 0x00D90000, 0x00DC0000,
+            0x00DD0000, 0x00E00000, 0x406C0000, 0x408F0000, 0x40900000, 0x40910000, 0x40920000, 0x40930000,
+            0x40940000, 0x40950000, 0x40A40000, 0x40BC0000, 0x40C00000, 0x40DE0000, 0x40E20000, 0x80010000,
+            0x80020000, 0x80030000, 0x80040000, 0x80050000, 0x80060000, 0x80070000, 0x80080000, 0x80090000,
+            0x800A0000, 0x800B0000, 0x800C0000, 0x800D0000, 0x800E0000, 0x800F0000, 0x80100000, 0x80110000,
+            0x80120000, 0x80130000, 0x80140000, 0x80150000, 0x80160000, 0x80170000, 0x80180000, 0x80190000,
+            0x801A0000, 0x801B0000, 0x801C0000, 0x801D0000, 0x801E0000, 0x801F0000, 0x80200000, 0x80210000,
+            0x80220000, 0x80230000, 0x80240000, 0x80250000, 0x80260000, 0x80270000, 0x80280000, 0x802A0000,
+            0x802B0000, 0x802C0000, 0x80310000, 0x80320000, 0x80330000, 0x80340000, 0x80350000, 0x80360000,
+            0x80370000, 0x80380000, 0x80390000, 0x803A0000, 0x803B0000, 0x803C0000, 0x803D0000, 0x803E0000,
+            0x803F0000, 0x80400000, 0x80410000, 0x80420000, 0x80430000, 0x80440000, 0x80450000, 0x80460000,
+            0x80470000, 0x80480000, 0x80490000, 0x804A0000, 0x804B0000, 0x804C0000, 0x804D0000, 0x804E0000,
+            0x804F0000, 0x80500000, 0x80510000, 0x80520000, 0x80530000, 0x80540000, 0x80550000, 0x80560000,
+            0x80570000, 0x80580000, 0x80590000, 0x805A0000, 0x805B0000, 0x805C0000, 0x805D0000, 0x805E0000,
+            0x805F0000, 0x80600000, 0x80610000, 0x80620000, 0x80630000, 0x80640000, 0x80650000, 0x80660000,
+            0x80670000, 0x80680000, 0x80690000, 0x806A0000, 0x806B0000, 0x806D0000, 0x806E0000, 0x806F0000,
+            0x80700000, 0x80710000, 0x80720000, 0x80730000, 0x80740000, 0x80750000, 0x80760000, 0x80770000,
+            0x80780000, 0x80790000, 0x807A0000, 0x807B0000, 0x807C0000, 0x807D0000, 0x807E0000, 0x807F0000,
+            0x80800000, 0x80810000, 0x80820000, 0x80830000, 0x80840000, 0x80850000, 0x80860000, 0x80870000,
+            0x80880000, 0x80890000, 0x808A0000, 0x808B0000, 0x808C0000, 0x808D0000, 0x808E0000, 0x80970000,
+            0x80980000, 0x80990000, 0x809A0000, 0x809B0000, 0x809D0000, 0x809E0000, 0x809F0000, 0x80A00000,
+            0x80A10000, 0x80AB0000, 0x80AC0000, 0x80AD0000, 0x80AE0000, 0x80AF0000, 0x80B00000, 0x80B10000,
+            0x80B20000, 0x80B30000, 0x80B40000, 0x80B50000, 0x80B60000, 0x80B70000, 0x80B80000, 0x80B90000,
+            0x80BB0000, 0x80BD0000, 0x80BE0000, 0x80BF0000, 0x80C10000, 0x80C20000, 0x80C30000, 0x80C40000,
+            0x80C50000, 0x80C60000, 0x80C80000, 0x80C90000, 0x80CA0000, 0x80CB0000, 0x80CC0000, 0x80CD0000,
+            0x80CE0000, 0x80CF0000, 0x80D00000, 0x80D10000, 0x80D20000, 0x80D30000, 0x80D40000, 0x80D50000,
+            0x80D60000, 0x80D70000, 0x80D80000, 0x80DA0000, 0x80DB0000, 0x80E10000, 0x80E30000, 0x80E40000,
+            0x80E50000, 0x80E60000, 0x810D0000, 0x810E0000, 0x810F0000, 0x81100000
+    };
+    
+    /** Names of the fields of {@link StatusCodes}, in the order of CODES */
+    private static final String[] NAMES = {
+            "Good_SubscriptionTransferred",
+            "Good_CompletesAsynchronously",
+            "Good_Overload",
+            "Good_Clamped",
+            "Good_LocalOverride",
+            "Good_EntryInserted",
+            "Good_EntryReplaced",
+            "Good_NoData",
+            "Good_MoreData",
+            "Good_CommunicationEvent",
+            "Good_ShutdownEvent",
+            "Good_CallAgain",
+            "Good_NonCriticalTimeout",
+            "Good_ResultsMayBeIncomplete",
+            "Good_DataIgnored",
+            "Good_Edited",
+            "Good_PostActionFailed",
+            "Good_DependentValueChanged",
+            "Uncertain_ReferenceOutOfServer",
+            "Uncertain_NoCommunicationLastUsableValue",
+            "Uncertain_LastUsableValue",
+            "Uncertain_SubstituteValue",
+            "Uncertain_InitialValue",
+            "Uncertain_SensorNotAccurate",
+            "Uncertain_EngineeringUnitsExceeded",
+            "Uncertain_SubNormal",
+            "Uncertain_DataSubNormal",
+            "Uncertain_ReferenceNotDeleted",
+            "Uncertain_NotAllNodesAvailable",
+            "Uncertain_DominantValueChanged",
+            "Uncertain_DependentValueChanged",
+            "Bad_UnexpectedError",
+            "Bad_InternalError",
+            "Bad_OutOfMemory",
+            "Bad_ResourceUnavailable",
+            "Bad_CommunicationError",
+            "Bad_EncodingError",
+            "Bad_DecodingError",
+            "Bad_EncodingLimitsExceeded",
+            "Bad_UnknownResponse",
+            "Bad_Timeout",
+            "Bad_ServiceUnsupported",
+            "Bad_Shutdown",
+            "Bad_ServerNotConnected",
+            "Bad_ServerHalted",
+            "Bad_NothingToDo",
+            "Bad_TooManyOperations",
+            "Bad_DataTypeIdUnknown",
+            "Bad_CertificateInvalid",
+            "Bad_SecurityChecksFailed",
+            "Bad_CertificateTimeInvalid",
+            "Bad_CertificateIssuerTimeInvalid",
+            "Bad_CertificateHostNameInvalid",
+            "Bad_CertificateUriInvalid",
+            "Bad_CertificateUseNotAllowed",
+            "Bad_CertificateIssuerUseNotAllowed",
+            "Bad_CertificateUntrusted",
+            "Bad_CertificateRevocationUnknown",
+            "Bad_CertificateIssuerRevocationUnknown",
+            "Bad_CertificateRevoked",
+            "Bad_CertificateIssuerRevoked",
+            "Bad_UserAccessDenied",
+            "Bad_IdentityTokenInvalid",
+            "Bad_IdentityTokenRejected",
+            "Bad_SecureChannelIdInvalid",
+            "Bad_InvalidTimestamp",
+            "Bad_NonceInvalid",
+            "Bad_SessionIdInvalid",
+            "Bad_SessionClosed",
+            "Bad_SessionNotActivated",
+            "Bad_SubscriptionIdInvalid",
+            "Bad_RequestHeaderInvalid",
+            "Bad_TimestampsToReturnInvalid",
+            "Bad_RequestCancelledByClient",
+            "Bad_NoCommunication",
+            "Bad_WaitingForInitialData",
+            "Bad_NodeIdInvalid",
+            "Bad_NodeIdUnknown",
+            "Bad_AttributeIdInvalid",
+            "Bad_IndexRangeInvalid",
+            "Bad_IndexRangeNoData",
+            "Bad_DataEncodingInvalid",
+            "Bad_DataEncodingUnsupported",
+            "Bad_NotReadable",
+            "Bad_NotWritable",
+            "Bad_OutOfRange",
+            "Bad_NotSupported",
+            "Bad_NotFound",
+            "Bad_ObjectDeleted",
+            "Bad_NotImplemented",
+            "Bad_MonitoringModeInvalid",
+            "Bad_MonitoredItemIdInvalid",
+            "Bad_MonitoredItemFilterInvalid",
+            "Bad_MonitoredItemFilterUnsupported",
+            "Bad_FilterNotAllowed",
+            "Bad_StructureMissing",
+            "Bad_EventFilterInvalid",
+            "Bad_ContentFilterInvalid",
+            "Bad_FilterOperandInvalid",
+            "Bad_ContinuationPointInvalid",
+            "Bad_NoContinuationPoints",
+            "Bad_ReferenceTypeIdInvalid",
+            "Bad_BrowseDirectionInvalid",
+            "Bad_NodeNotInView",
+            "Bad_ServerUriInvalid",
+            "Bad_ServerNameMissing",
+            "Bad_DiscoveryUrlMissing",
+            "Bad_SempahoreFileMissing",
+            "Bad_RequestTypeInvalid",
+            "Bad_SecurityModeRejected",
+            "Bad_SecurityPolicyRejected",
+            "Bad_TooManySessions",
+            "Bad_UserSignatureInvalid",
+            "Bad_ApplicationSignatureInvalid",
+            "Bad_NoValidCertificates",
+            "Bad_RequestCancelledByRequest",
+            "Bad_ParentNodeIdInvalid",
+            "Bad_ReferenceNotAllowed",
+            "Bad_NodeIdRejected",
+            "Bad_NodeIdExists",
+            "Bad_NodeClassInvalid",
+            "Bad_BrowseNameInvalid",
+            "Bad_BrowseNameDuplicated",
+            "Bad_NodeAttributesInvalid",
+            "Bad_TypeDefinitionInvalid",
+            "Bad_SourceNodeIdInvalid",
+            "Bad_TargetNodeIdInvalid",
+            "Bad_DuplicateReferenceNotAllowed",
+            "Bad_InvalidSelfReference",
+            "Bad_ReferenceLocalOnly",
+            "Bad_NoDeleteRights",
+            "Bad_ServerIndexInvalid",
+            "Bad_ViewIdUnknown",
+            "Bad_TooManyMatches",
+            "Bad_QueryTooComplex",
+            "Bad_NoMatch",
+            "Bad_MaxAgeInvalid",
+            "Bad_HistoryOperationInvalid",
+            "Bad_HistoryOperationUnsupported",
+            "Bad_WriteNotSupported",
+            "Bad_TypeMismatch",
+            "Bad_MethodInvalid",
+            "Bad_ArgumentsMissing",
+            "Bad_TooManySubscriptions",
+            "Bad_TooManyPublishRequests",
+            "Bad_NoSubscription",
+            "Bad_SequenceNumberUnknown",
+            "Bad_MessageNotAvailable",
+            "Bad_InsufficientClientProfile",
+            "Bad_TcpServerTooBusy",
+            "Bad_TcpMessageTypeInvalid",
+            "Bad_TcpSecureChannelUnknown",
+            "Bad_TcpMessageTooLarge",
+            "Bad_TcpNotEnoughResources",
+            "Bad_TcpInternalError",
+            "Bad_TcpEndpointUrlInvalid",
+            "Bad_RequestInterrupted",
+            "Bad_RequestTimeout",
+            "Bad_SecureChannelClosed",
+            "Bad_SecureChannelTokenUnknown",
+            "Bad_SequenceNumberInvalid",
+            "Bad_ConfigurationError",
+            "Bad_NotConnected",
+            "Bad_DeviceFailure",
+            "Bad_SensorFailure",
+            "Bad_OutOfService",
+            "Bad_DeadbandFilterInvalid",
+            "Bad_RefreshInProgress",
+            "Bad_ConditionAlreadyDisabled",
+            "Bad_ConditionDisabled",
+            "Bad_EventIdUnknown",
+            "Bad_NoData",
+            "Bad_DataLost",
+            "Bad_DataUnavailable",
+            "Bad_EntryExists",
+            "Bad_NoEntryExists",
+            "Bad_TimestampNotSupported",
+            "Bad_InvalidArgument",
+            "Bad_ConnectionRejected",
+            "Bad_Disconnect",
+            "Bad_ConnectionClosed",
+            "Bad_InvalidState",
+            "Bad_EndOfStream",
+            "Bad_NoDataAvailable",
+            "Bad_WaitingForResponse",
+            "Bad_OperationAbandoned",
+            "Bad_ExpectedStreamToBlock",
+            "Bad_WouldBlock",
+            "Bad_SyntaxError",
+            "Bad_MaxConnectionsReached",
+            "Bad_RequestTooLarge",
+            "Bad_ResponseTooLarge",
+            "Bad_EventNotAcknowledgeable",
+            "Bad_InvalidTimestampArgument",
+            "Bad_ProtocolVersionUnsupported",
+            "Bad_StateNotActive",
+            "Bad_FilterOperatorInvalid",
+            "Bad_FilterOperatorUnsupported",
+            "Bad_FilterOperandCountMismatch",
+            "Bad_FilterElementInvalid",
+            "Bad_FilterLiteralInvalid",
+            "Bad_IdentityChangeNotSupported",
+            "Bad_NotTypeDefinition",
+            "Bad_ViewTimestampInvalid",
+            "Bad_ViewParameterMismatch",
+            "Bad_ViewVersionInvalid",
+            "Bad_ConditionAlreadyEnabled",
+            "Bad_DialogNotActive",
+            "Bad_DialogResponseInvalid",
+            "Bad_ConditionBranchAlreadyAcked",
+            "Bad_ConditionBranchAlreadyConfirmed",
+            "Bad_ConditionAlreadyShelved",
+            "Bad_ConditionNotShelved",
+            "Bad_ShelvingTimeOutOfRange",
+            "Bad_AggregateListMismatch",
+            "Bad_AggregateNotSupported",
+            "Bad_AggregateInvalidInputs",
+            "Bad_BoundNotFound",
+            "Bad_BoundNotSupported",
+            "Bad_AggregateConfigurationRejected",
+            "Bad_TooManyMonitoredItems",
+            "Bad_DominantValueChanged",
+            "Bad_DependentValueChanged",
+            "Bad_RequestNotAllowed",
+            "Bad_TooManyArguments",
+            "Bad_SecurityModeInsufficient",
+            "Bad_CertificateChainIncomplete",
+            "Bad_LicenseExpired",
+            "Bad_LicenseLimitsExceeded",
+            "Bad_LicenseNotAvailable"
+    };
+    
+    private StatusCodeNames() {
+    }
+    
+    /**
+     * Get the number of codes
+     *
+     * @return number of codes
+     */
+    public static int size() {
+        return CODES.length;
+    }
+    
+    /**
+     * Get the index of a code
+     *
+     * @param code severity and sub code bits of a status code
+     * @return index or -1 if the code is not standard
+     */
+    public static int indexOf(int code) {
+        int low = 0, high = CODES.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = Integer.compareUnsigned(CODES[mid], code);
+            if (c < 0) low = mid + 1;
+            else if (c > 0) high = mid - 1;
+            else return mid;
+        }
+        return -1;
+    }
+    
+    /**
+     * Get the code at an index
+     *
+     * @param index index
+     * @return severity and sub code bits of the status code
+     */
+    public static int getCode(int index) {
+        return CODES[index];
+    }
+    
+    /**
+     * Get the name of the code at an index
+     *
+     * @param index index
+     * @return name of the field of StatusCodes
+     */
+    public static String getName(int index) {
+        return NAMES[index];
+    }
+ 
+
+}
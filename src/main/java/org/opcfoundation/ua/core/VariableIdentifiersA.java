@@ -0,0 +1,880 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard variables, of the types and instances starting with A. Accessed through {@link Identifiers}.
+ */
+public interface VariableIdentifiersA {
+	
+    public static final NodeId AcknowledgeableConditionType_AckedState = Identifiers.init(9093);
+    public static final NodeId AcknowledgeableConditionType_AckedState_EffectiveDisplayName = Identifiers.init(9097);
+    public static final NodeId AcknowledgeableConditionType_AckedState_EffectiveTransitionTime = Identifiers.init(9099);
+    public static final NodeId AcknowledgeableConditionType_AckedState_FalseState = Identifiers.init(9101);
+    public static final NodeId AcknowledgeableConditionType_AckedState_Id = Identifiers.init(9094);
+    public static final NodeId AcknowledgeableConditionType_AckedState_Name = Identifiers.init(9095);
+    public static final NodeId AcknowledgeableConditionType_AckedState_Number = Identifiers.init(9096);
+    public static final NodeId AcknowledgeableConditionType_AckedState_TransitionTime = Identifiers.init(9098);
+    public static final NodeId AcknowledgeableConditionType_AckedState_TrueState = Identifiers.init(9100);
+    public static final NodeId AcknowledgeableConditionType_Acknowledge_InputArguments = Identifiers.init(9112);
+    public static final NodeId AcknowledgeableConditionType_AddComment_InputArguments = Identifiers.init(9092);
+    public static final NodeId AcknowledgeableConditionType_BranchId = Identifiers.init(9072);
+    public static final NodeId AcknowledgeableConditionType_ClientUserId = Identifiers.init(9088);
+    public static final NodeId AcknowledgeableConditionType_Comment = Identifiers.init(9086);
+    public static final NodeId AcknowledgeableConditionType_Comment_SourceTimestamp = Identifiers.init(9087);
+    public static final NodeId AcknowledgeableConditionType_ConditionClassId = Identifiers.init(11116);
+    public static final NodeId AcknowledgeableConditionType_ConditionClassName = Identifiers.init(11117);
+    public static final NodeId AcknowledgeableConditionType_ConditionName = Identifiers.init(9071);
+    public static final NodeId AcknowledgeableConditionType_ConditionRefresh2_InputArguments = Identifiers.init(12919);
+    public static final NodeId AcknowledgeableConditionType_ConditionRefresh_InputArguments = Identifiers.init(5124);
+    public static final NodeId AcknowledgeableConditionType_Confirm_InputArguments = Identifiers.init(9114);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState = Identifiers.init(9102);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState_EffectiveDisplayName = Identifiers.init(9106);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(9108);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState_FalseState = Identifiers.init(9110);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState_Id = Identifiers.init(9103);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState_Name = Identifiers.init(9104);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState_Number = Identifiers.init(9105);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState_TransitionTime = Identifiers.init(9107);
+    public static final NodeId AcknowledgeableConditionType_ConfirmedState_TrueState = Identifiers.init(9109);
+    public static final NodeId AcknowledgeableConditionType_EnabledState = Identifiers.init(9073);
+    public static final NodeId AcknowledgeableConditionType_EnabledState_EffectiveDisplayName = Identifiers.init(9077);
+    public static final NodeId AcknowledgeableConditionType_EnabledState_EffectiveTransitionTime = Identifiers.init(9079);
+    public static final NodeId AcknowledgeableConditionType_EnabledState_FalseState = Identifiers.init(9081);
+    public static final NodeId AcknowledgeableConditionType_EnabledState_Id = Identifiers.init(9074);
+    public static final NodeId AcknowledgeableConditionType_EnabledState_Name = Identifiers.init(9075);
+    public static final NodeId AcknowledgeableConditionType_EnabledState_Number = Identifiers.init(9076);
+    public static final NodeId AcknowledgeableConditionType_EnabledState_TransitionTime = Identifiers.init(9078);
+    public static final NodeId AcknowledgeableConditionType_EnabledState_TrueState = Identifiers.init(9080);
+    public static final NodeId AcknowledgeableConditionType_EventId = Identifiers.init(5113);
+    public static final NodeId AcknowledgeableConditionType_EventType = Identifiers.init(5114);
+    public static final NodeId AcknowledgeableConditionType_LastSeverity = Identifiers.init(9084);
+    public static final NodeId AcknowledgeableConditionType_LastSeverity_SourceTimestamp = Identifiers.init(9085);
+    public static final NodeId AcknowledgeableConditionType_LocalTime = Identifiers.init(5119);
+    public static final NodeId AcknowledgeableConditionType_Message = Identifiers.init(5120);
+    public static final NodeId AcknowledgeableConditionType_Quality = Identifiers.init(9082);
+    public static final NodeId AcknowledgeableConditionType_Quality_SourceTimestamp = Identifiers.init(9083);
+    public static final NodeId AcknowledgeableConditionType_ReceiveTime = Identifiers.init(5118);
+    public static final NodeId AcknowledgeableConditionType_Retain = Identifiers.init(5122);
+    public static final NodeId AcknowledgeableConditionType_Severity = Identifiers.init(5121);
+    public static final NodeId AcknowledgeableConditionType_SourceName = Identifiers.init(5116);
+    public static final NodeId AcknowledgeableConditionType_SourceNode = Identifiers.init(5115);
+    public static final NodeId AcknowledgeableConditionType_Time = Identifiers.init(5117);
+    public static final NodeId AddCertificateMethodType_InputArguments = Identifiers.init(12519);
+    public static final NodeId AddCommentMethodType_InputArguments = Identifiers.init(3864);
+    public static final NodeId AddressSpaceFileType_Close_InputArguments = Identifiers.init(11604);
+    public static final NodeId AddressSpaceFileType_GetPosition_InputArguments = Identifiers.init(11611);
+    public static final NodeId AddressSpaceFileType_GetPosition_OutputArguments = Identifiers.init(11612);
+    public static final NodeId AddressSpaceFileType_MimeType = Identifiers.init(13398);
+    public static final NodeId AddressSpaceFileType_OpenCount = Identifiers.init(11599);
+    public static final NodeId AddressSpaceFileType_Open_InputArguments = Identifiers.init(11601);
+    public static final NodeId AddressSpaceFileType_Open_OutputArguments = Identifiers.init(11602);
+    public static final NodeId AddressSpaceFileType_Read_InputArguments = Identifiers.init(11606);
+    public static final NodeId AddressSpaceFileType_Read_OutputArguments = Identifiers.init(11607);
+    public static final NodeId AddressSpaceFileType_SetPosition_InputArguments = Identifiers.init(11614);
+    public static final NodeId AddressSpaceFileType_Size = Identifiers.init(11596);
+    public static final NodeId AddressSpaceFileType_UserWritable = Identifiers.init(12689);
+    public static final NodeId AddressSpaceFileType_Writable = Identifiers.init(12688);
+    public static final NodeId AddressSpaceFileType_Write_InputArguments = Identifiers.init(11609);
+    public static final NodeId AggregateConfigurationType_PercentDataBad = Identifiers.init(11189);
+    public static final NodeId AggregateConfigurationType_PercentDataGood = Identifiers.init(11190);
+    public static final NodeId AggregateConfigurationType_TreatUncertainAsBad = Identifiers.init(11188);
+    public static final NodeId AggregateConfigurationType_UseSlopedExtrapolation = Identifiers.init(11191);
+    public static final NodeId AlarmConditionType_AckedState = Identifiers.init(9138);
+    public static final NodeId AlarmConditionType_AckedState_EffectiveDisplayName = Identifiers.init(9142);
+    public static final NodeId AlarmConditionType_AckedState_EffectiveTransitionTime = Identifiers.init(9144);
+    public static final NodeId AlarmConditionType_AckedState_FalseState = Identifiers.init(9146);
+    public static final NodeId AlarmConditionType_AckedState_Id = Identifiers.init(9139);
+    public static final NodeId AlarmConditionType_AckedState_Name = Identifiers.init(9140);
+    public static final NodeId AlarmConditionType_AckedState_Number = Identifiers.init(9141);
+    public static final NodeId AlarmConditionType_AckedState_TransitionTime = Identifiers.init(9143);
+    public static final NodeId AlarmConditionType_AckedState_TrueState = Identifiers.init(9145);
+    public static final NodeId AlarmConditionType_Acknowledge_InputArguments = Identifiers.init(9157);
+    public static final NodeId AlarmConditionType_ActiveState = Identifiers.init(9160);
+    public static final NodeId AlarmConditionType_ActiveState_EffectiveDisplayName = Identifiers.init(9164);
+    public static final NodeId AlarmConditionType_ActiveState_EffectiveTransitionTime = Identifiers.init(9166);
+    public static final NodeId AlarmConditionType_ActiveState_FalseState = Identifiers.init(9168);
+    public static final NodeId AlarmConditionType_ActiveState_Id = Identifiers.init(9161);
+    public static final NodeId AlarmConditionType_ActiveState_Name = Identifiers.init(9162);
+    public static final NodeId AlarmConditionType_ActiveState_Number = Identifiers.init(9163);
+    public static final NodeId AlarmConditionType_ActiveState_TransitionTime = Identifiers.init(9165);
+    public static final NodeId AlarmConditionType_ActiveState_TrueState = Identifiers.init(9167);
+    public static final NodeId AlarmConditionType_AddComment_InputArguments = Identifiers.init(9137);
+    public static final NodeId AlarmConditionType_BranchId = Identifiers.init(9117);
+    public static final NodeId AlarmConditionType_ClientUserId = Identifiers.init(9133);
+    public static final NodeId AlarmConditionType_Comment = Identifiers.init(9131);
+    public static final NodeId AlarmConditionType_Comment_SourceTimestamp = Identifiers.init(9132);
+    public static final NodeId AlarmConditionType_ConditionClassId = Identifiers.init(11118);
+    public static final NodeId AlarmConditionType_ConditionClassName = Identifiers.init(11119);
+    public static final NodeId AlarmConditionType_ConditionName = Identifiers.init(9116);
+    public static final NodeId AlarmConditionType_ConditionRefresh2_InputArguments = Identifiers.init(12985);
+    public static final NodeId AlarmConditionType_ConditionRefresh_InputArguments = Identifiers.init(5551);
+    public static final NodeId AlarmConditionType_Confirm_InputArguments = Identifiers.init(9159);
+    public static final NodeId AlarmConditionType_ConfirmedState = Identifiers.init(9147);
+    public static final NodeId AlarmConditionType_ConfirmedState_EffectiveDisplayName = Identifiers.init(9151);
+    public static final NodeId AlarmConditionType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(9153);
+    public static final NodeId AlarmConditionType_ConfirmedState_FalseState = Identifiers.init(9155);
+    public static final NodeId AlarmConditionType_ConfirmedState_Id = Identifiers.init(9148);
+    public static final NodeId AlarmConditionType_ConfirmedState_Name = Identifiers.init(9149);
+    public static final NodeId AlarmConditionType_ConfirmedState_Number = Identifiers.init(9150);
+    public static final NodeId AlarmConditionType_ConfirmedState_TransitionTime = Identifiers.init(9152);
+    public static final NodeId AlarmConditionType_ConfirmedState_TrueState = Identifiers.init(9154);
+    public static final NodeId AlarmConditionType_EnabledState = Identifiers.init(9118);
+    public static final NodeId AlarmConditionType_EnabledState_EffectiveDisplayName = Identifiers.init(9122);
+    public static final NodeId AlarmConditionType_EnabledState_EffectiveTransitionTime = Identifiers.init(9124);
+    public static final NodeId AlarmConditionType_EnabledState_FalseState = Identifiers.init(9126);
+    public static final NodeId AlarmConditionType_EnabledState_Id = Identifiers.init(9119);
+    public static final NodeId AlarmConditionType_EnabledState_Name = Identifiers.init(9120);
+    public static final NodeId AlarmConditionType_EnabledState_Number = Identifiers.init(9121);
+    public static final NodeId AlarmConditionType_EnabledState_TransitionTime = Identifiers.init(9123);
+    public static final NodeId AlarmConditionType_EnabledState_TrueState = Identifiers.init(9125);
+    public static final NodeId AlarmConditionType_EventId = Identifiers.init(5540);
+    public static final NodeId AlarmConditionType_EventType = Identifiers.init(5541);
+    public static final NodeId AlarmConditionType_InputNode = Identifiers.init(11120);
+    public static final NodeId AlarmConditionType_LastSeverity = Identifiers.init(9129);
+    public static final NodeId AlarmConditionType_LastSeverity_SourceTimestamp = Identifiers.init(9130);
+    public static final NodeId AlarmConditionType_LocalTime = Identifiers.init(5546);
+    public static final NodeId AlarmConditionType_MaxTimeShelved = Identifiers.init(9216);
+    public static final NodeId AlarmConditionType_Message = Identifiers.init(5547);
+    public static final NodeId AlarmConditionType_Quality = Identifiers.init(9127);
+    public static final NodeId AlarmConditionType_Quality_SourceTimestamp = Identifiers.init(9128);
+    public static final NodeId AlarmConditionType_ReceiveTime = Identifiers.init(5545);
+    public static final NodeId AlarmConditionType_Retain = Identifiers.init(5549);
+    public static final NodeId AlarmConditionType_Severity = Identifiers.init(5548);
+    public static final NodeId AlarmConditionType_ShelvingState_CurrentState = Identifiers.init(9179);
+    public static final NodeId AlarmConditionType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(9183);
+    public static final NodeId AlarmConditionType_ShelvingState_CurrentState_Id = Identifiers.init(9180);
+    public static final NodeId AlarmConditionType_ShelvingState_CurrentState_Name = Identifiers.init(9181);
+    public static final NodeId AlarmConditionType_ShelvingState_CurrentState_Number = Identifiers.init(9182);
+    public static final NodeId AlarmConditionType_ShelvingState_LastTransition = Identifiers.init(9184);
+    public static final NodeId AlarmConditionType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11466);
+    public static final NodeId AlarmConditionType_ShelvingState_LastTransition_Id = Identifiers.init(9185);
+    public static final NodeId AlarmConditionType_ShelvingState_LastTransition_Name = Identifiers.init(9186);
+    public static final NodeId AlarmConditionType_ShelvingState_LastTransition_Number = Identifiers.init(9187);
+    public static final NodeId AlarmConditionType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(9188);
+    public static final NodeId AlarmConditionType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(9214);
+    public static final NodeId AlarmConditionType_ShelvingState_UnshelveTime = Identifiers.init(9189);
+    public static final NodeId AlarmConditionType_SourceName = Identifiers.init(5543);
+    public static final NodeId AlarmConditionType_SourceNode = Identifiers.init(5542);
+    public static final NodeId AlarmConditionType_SuppressedOrShelved = Identifiers.init(9215);
+    public static final NodeId AlarmConditionType_SuppressedState = Identifiers.init(9169);
+    public static final NodeId AlarmConditionType_SuppressedState_EffectiveDisplayName = Identifiers.init(9173);
+    public static final NodeId AlarmConditionType_SuppressedState_EffectiveTransitionTime = Identifiers.init(9175);
+    public static final NodeId AlarmConditionType_SuppressedState_FalseState = Identifiers.init(9177);
+    public static final NodeId AlarmConditionType_SuppressedState_Id = Identifiers.init(9170);
+    public static final NodeId AlarmConditionType_SuppressedState_Name = Identifiers.init(9171);
+    public static final NodeId AlarmConditionType_SuppressedState_Number = Identifiers.init(9172);
+    public static final NodeId AlarmConditionType_SuppressedState_TransitionTime = Identifiers.init(9174);
+    public static final NodeId AlarmConditionType_SuppressedState_TrueState = Identifiers.init(9176);
+    public static final NodeId AlarmConditionType_Time = Identifiers.init(5544);
+    public static final NodeId AllowNulls = Identifiers.init(3070);
+    public static final NodeId AnalogItemType_Definition = Identifiers.init(3774);
+    public static final NodeId AnalogItemType_EURange = Identifiers.init(2369);
+    public static final NodeId AnalogItemType_EngineeringUnits = Identifiers.init(2371);
+    public static final NodeId AnalogItemType_InstrumentRange = Identifiers.init(2370);
+    public static final NodeId AnalogItemType_ValuePrecision = Identifiers.init(3775);
+    public static final NodeId Annotations = Identifiers.init(11214);
+    public static final NodeId ApplicationType_EnumStrings = Identifiers.init(7597);
+    public static final NodeId ArrayItemType_AxisScaleType = Identifiers.init(12028);
+    public static final NodeId ArrayItemType_Definition = Identifiers.init(12022);
+    public static final NodeId ArrayItemType_EURange = Identifiers.init(12025);
+    public static final NodeId ArrayItemType_EngineeringUnits = Identifiers.init(12026);
+    public static final NodeId ArrayItemType_InstrumentRange = Identifiers.init(12024);
+    public static final NodeId ArrayItemType_Title = Identifiers.init(12027);
+    public static final NodeId ArrayItemType_ValuePrecision = Identifiers.init(12023);
+    public static final NodeId AttributeWriteMask_EnumValues = Identifiers.init(11882);
+    public static final NodeId AuditActivateSessionEventType_ActionTimeStamp = Identifiers.init(3309);
+    public static final NodeId AuditActivateSessionEventType_ClientAuditEntryId = Identifiers.init(3312);
+    public static final NodeId AuditActivateSessionEventType_ClientSoftwareCertificates = Identifiers.init(2076);
+    public static final NodeId AuditActivateSessionEventType_ClientUserId = Identifiers.init(3313);
+    public static final NodeId AuditActivateSessionEventType_EventId = Identifiers.init(3300);
+    public static final NodeId AuditActivateSessionEventType_EventType = Identifiers.init(3301);
+    public static final NodeId AuditActivateSessionEventType_LocalTime = Identifiers.init(3306);
+    public static final NodeId AuditActivateSessionEventType_Message = Identifiers.init(3307);
+    public static final NodeId AuditActivateSessionEventType_ReceiveTime = Identifiers.init(3305);
+    public static final NodeId AuditActivateSessionEventType_SecureChannelId = Identifiers.init(11485);
+    public static final NodeId AuditActivateSessionEventType_ServerId = Identifiers.init(3311);
+    public static final NodeId AuditActivateSessionEventType_SessionId = Identifiers.init(3314);
+    public static final NodeId AuditActivateSessionEventType_Severity = Identifiers.init(3308);
+    public static final NodeId AuditActivateSessionEventType_SourceName = Identifiers.init(3303);
+    public static final NodeId AuditActivateSessionEventType_SourceNode = Identifiers.init(3302);
+    public static final NodeId AuditActivateSessionEventType_Status = Identifiers.init(3310);
+    public static final NodeId AuditActivateSessionEventType_Time = Identifiers.init(3304);
+    public static final NodeId AuditActivateSessionEventType_UserIdentityToken = Identifiers.init(2077);
+    public static final NodeId AuditAddNodesEventType_ActionTimeStamp = Identifiers.init(3457);
+    public static final NodeId AuditAddNodesEventType_ClientAuditEntryId = Identifiers.init(3460);
+    public static final NodeId AuditAddNodesEventType_ClientUserId = Identifiers.init(3461);
+    public static final NodeId AuditAddNodesEventType_EventId = Identifiers.init(3448);
+    public static final NodeId AuditAddNodesEventType_EventType = Identifiers.init(3449);
+    public static final NodeId AuditAddNodesEventType_LocalTime = Identifiers.init(3454);
+    public static final NodeId AuditAddNodesEventType_Message = Identifiers.init(3455);
+    public static final NodeId AuditAddNodesEventType_NodesToAdd = Identifiers.init(2092);
+    public static final NodeId AuditAddNodesEventType_ReceiveTime = Identifiers.init(3453);
+    public static final NodeId AuditAddNodesEventType_ServerId = Identifiers.init(3459);
+    public static final NodeId AuditAddNodesEventType_Severity = Identifiers.init(3456);
+    public static final NodeId AuditAddNodesEventType_SourceName = Identifiers.init(3451);
+    public static final NodeId AuditAddNodesEventType_SourceNode = Identifiers.init(3450);
+    public static final NodeId AuditAddNodesEventType_Status = Identifiers.init(3458);
+    public static final NodeId AuditAddNodesEventType_Time = Identifiers.init(3452);
+    public static final NodeId AuditAddReferencesEventType_ActionTimeStamp = Identifiers.init(3485);
+    public static final NodeId AuditAddReferencesEventType_ClientAuditEntryId = Identifiers.init(3488);
+    public static final NodeId AuditAddReferencesEventType_ClientUserId = Identifiers.init(3489);
+    public static final NodeId AuditAddReferencesEventType_EventId = Identifiers.init(3476);
+    public static final NodeId AuditAddReferencesEventType_EventType = Identifiers.init(3477);
+    public static final NodeId AuditAddReferencesEventType_LocalTime = Identifiers.init(3482);
+    public static final NodeId AuditAddReferencesEventType_Message = Identifiers.init(3483);
+    public static final NodeId AuditAddReferencesEventType_ReceiveTime = Identifiers.init(3481);
+    public static final NodeId AuditAddReferencesEventType_ReferencesToAdd = Identifiers.init(2096);
+    public static final NodeId AuditAddReferencesEventType_ServerId = Identifiers.init(3487);
+    public static final NodeId AuditAddReferencesEventType_Severity = Identifiers.init(3484);
+    public static final NodeId AuditAddReferencesEventType_SourceName = Identifiers.init(3479);
+    public static final NodeId AuditAddReferencesEventType_SourceNode = Identifiers.init(3478);
+    public static final NodeId AuditAddReferencesEventType_Status = Identifiers.init(3486);
+    public static final NodeId AuditAddReferencesEventType_Time = Identifiers.init(3480);
+    public static final NodeId AuditCancelEventType_ActionTimeStamp = Identifiers.init(3324);
+    public static final NodeId AuditCancelEventType_ClientAuditEntryId = Identifiers.init(3327);
+    public static final NodeId AuditCancelEventType_ClientUserId = Identifiers.init(3328);
+    public static final NodeId AuditCancelEventType_EventId = Identifiers.init(3315);
+    public static final NodeId AuditCancelEventType_EventType = Identifiers.init(3316);
+    public static final NodeId AuditCancelEventType_LocalTime = Identifiers.init(3321);
+    public static final NodeId AuditCancelEventType_Message = Identifiers.init(3322);
+    public static final NodeId AuditCancelEventType_ReceiveTime = Identifiers.init(3320);
+    public static final NodeId AuditCancelEventType_RequestHandle = Identifiers.init(2079);
+    public static final NodeId AuditCancelEventType_ServerId = Identifiers.init(3326);
+    public static final NodeId AuditCancelEventType_SessionId = Identifiers.init(3329);
+    public static final NodeId AuditCancelEventType_Severity = Identifiers.init(3323);
+    public static final NodeId AuditCancelEventType_SourceName = Identifiers.init(3318);
+    public static final NodeId AuditCancelEventType_SourceNode = Identifiers.init(3317);
+    public static final NodeId AuditCancelEventType_Status = Identifiers.init(3325);
+    public static final NodeId AuditCancelEventType_Time = Identifiers.init(3319);
+    public static final NodeId AuditCertificateDataMismatchEventType_ActionTimeStamp = Identifiers.init(3353);
+    public static final NodeId AuditCertificateDataMismatchEventType_Certificate = Identifiers.init(3358);
+    public static final NodeId AuditCertificateDataMismatchEventType_ClientAuditEntryId = Identifiers.init(3356);
+    public static final NodeId AuditCertificateDataMismatchEventType_ClientUserId = Identifiers.init(3357);
+    public static final NodeId AuditCertificateDataMismatchEventType_EventId = Identifiers.init(3344);
+    public static final NodeId AuditCertificateDataMismatchEventType_EventType = Identifiers.init(3345);
+    public static final NodeId AuditCertificateDataMismatchEventType_InvalidHostname = Identifiers.init(2083);
+    public static final NodeId AuditCertificateDataMismatchEventType_InvalidUri = Identifiers.init(2084);
+    public static final NodeId AuditCertificateDataMismatchEventType_LocalTime = Identifiers.init(3350);
+    public static final NodeId AuditCertificateDataMismatchEventType_Message = Identifiers.init(3351);
+    public static final NodeId AuditCertificateDataMismatchEventType_ReceiveTime = Identifiers.init(3349);
+    public static final NodeId AuditCertificateDataMismatchEventType_ServerId = Identifiers.init(3355);
+    public static final NodeId AuditCertificateDataMismatchEventType_Severity = Identifiers.init(3352);
+    public static final NodeId AuditCertificateDataMismatchEventType_SourceName = Identifiers.init(3347);
+    public static final NodeId AuditCertificateDataMismatchEventType_SourceNode = Identifiers.init(3346);
+    public static final NodeId AuditCertificateDataMismatchEventType_Status = Identifiers.init(3354);
+    public static final NodeId AuditCertificateDataMismatchEventType_Time = Identifiers.init(3348);
+    public static final NodeId AuditCertificateEventType_ActionTimeStamp = Identifiers.init(3339);
+    public static final NodeId AuditCertificateEventType_Certificate = Identifiers.init(2081);
+    public static final NodeId AuditCertificateEventType_ClientAuditEntryId = Identifiers.init(3342);
+    public static final NodeId AuditCertificateEventType_ClientUserId = Identifiers.init(3343);
+    public static final NodeId AuditCertificateEventType_EventId = Identifiers.init(3330);
+    public static final NodeId AuditCertificateEventType_EventType = Identifiers.init(3331);
+    public static final NodeId AuditCertificateEventType_LocalTime = Identifiers.init(3336);
+    public static final NodeId AuditCertificateEventType_Message = Identifiers.init(3337);
+    public static final NodeId AuditCertificateEventType_ReceiveTime = Identifiers.init(3335);
+    public static final NodeId AuditCertificateEventType_ServerId = Identifiers.init(3341);
+    public static final NodeId AuditCertificateEventType_Severity = Identifiers.init(3338);
+    public static final NodeId AuditCertificateEventType_SourceName = Identifiers.init(3333);
+    public static final NodeId AuditCertificateEventType_SourceNode = Identifiers.init(3332);
+    public static final NodeId AuditCertificateEventType_Status = Identifiers.init(3340);
+    public static final NodeId AuditCertificateEventType_Time = Identifiers.init(3334);
+    public static final NodeId AuditCertificateExpiredEventType_ActionTimeStamp = Identifiers.init(3368);
+    public static final NodeId AuditCertificateExpiredEventType_Certificate = Identifiers.init(3373);
+    public static final NodeId AuditCertificateExpiredEventType_ClientAuditEntryId = Identifiers.init(3371);
+    public static final NodeId AuditCertificateExpiredEventType_ClientUserId = Identifiers.init(3372);
+    public static final NodeId AuditCertificateExpiredEventType_EventId = Identifiers.init(3359);
+    public static final NodeId AuditCertificateExpiredEventType_EventType = Identifiers.init(3360);
+    public static final NodeId AuditCertificateExpiredEventType_LocalTime = Identifiers.init(3365);
+    public static final NodeId AuditCertificateExpiredEventType_Message = Identifiers.init(3366);
+    public static final NodeId AuditCertificateExpiredEventType_ReceiveTime = Identifiers.init(3364);
+    public static final NodeId AuditCertificateExpiredEventType_ServerId = Identifiers.init(3370);
+    public static final NodeId AuditCertificateExpiredEventType_Severity = Identifiers.init(3367);
+    public static final NodeId AuditCertificateExpiredEventType_SourceName = Identifiers.init(3362);
+    public static final NodeId AuditCertificateExpiredEventType_SourceNode = Identifiers.init(3361);
+    public static final NodeId AuditCertificateExpiredEventType_Status = Identifiers.init(3369);
+    public static final NodeId AuditCertificateExpiredEventType_Time = Identifiers.init(3363);
+    public static final NodeId AuditCertificateInvalidEventType_ActionTimeStamp = Identifiers.init(3383);
+    public static final NodeId AuditCertificateInvalidEventType_Certificate = Identifiers.init(3388);
+    public static final NodeId AuditCertificateInvalidEventType_ClientAuditEntryId = Identifiers.init(3386);
+    public static final NodeId AuditCertificateInvalidEventType_ClientUserId = Identifiers.init(3387);
+    public static final NodeId AuditCertificateInvalidEventType_EventId = Identifiers.init(3374);
+    public static final NodeId AuditCertificateInvalidEventType_EventType = Identifiers.init(3375);
+    public static final NodeId AuditCertificateInvalidEventType_LocalTime = Identifiers.init(3380);
+    public static final NodeId AuditCertificateInvalidEventType_Message = Identifiers.init(3381);
+    public static final NodeId AuditCertificateInvalidEventType_ReceiveTime = Identifiers.init(3379);
+    public static final NodeId AuditCertificateInvalidEventType_ServerId = Identifiers.init(3385);
+    public static final NodeId AuditCertificateInvalidEventType_Severity = Identifiers.init(3382);
+    public static final NodeId AuditCertificateInvalidEventType_SourceName = Identifiers.init(3377);
+    public static final NodeId AuditCertificateInvalidEventType_SourceNode = Identifiers.init(3376);
+    public static final NodeId AuditCertificateInvalidEventType_Status = Identifiers.init(3384);
+    public static final NodeId AuditCertificateInvalidEventType_Time = Identifiers.init(3378);
+    public static final NodeId AuditCertificateMismatchEventType_ActionTimeStamp = Identifiers.init(3428);
+    public static final NodeId AuditCertificateMismatchEventType_Certificate = Identifiers.init(3433);
+    public static final NodeId AuditCertificateMismatchEventType_ClientAuditEntryId = Identifiers.init(3431);
+    public static final NodeId AuditCertificateMismatchEventType_ClientUserId = Identifiers.init(3432);
+    public static final NodeId AuditCertificateMismatchEventType_EventId = Identifiers.init(3419);
+    public static final NodeId AuditCertificateMismatchEventType_EventType = Identifiers.init(3420);
+    public static final NodeId AuditCertificateMismatchEventType_LocalTime = Identifiers.init(3425);
+    public static final NodeId AuditCertificateMismatchEventType_Message = Identifiers.init(3426);
+    public static final NodeId AuditCertificateMismatchEventType_ReceiveTime = Identifiers.init(3424);
+    public static final NodeId AuditCertificateMismatchEventType_ServerId = Identifiers.init(3430);
+    public static final NodeId AuditCertificateMismatchEventType_Severity = Identifiers.init(3427);
+    public static final NodeId AuditCertificateMismatchEventType_SourceName = Identifiers.init(3422);
+    public static final NodeId AuditCertificateMismatchEventType_SourceNode = Identifiers.init(3421);
+    public static final NodeId AuditCertificateMismatchEventType_Status = Identifiers.init(3429);
+    public static final NodeId AuditCertificateMismatchEventType_Time = Identifiers.init(3423);
+    public static final NodeId AuditCertificateRevokedEventType_ActionTimeStamp = Identifiers.init(3413);
+    public static final NodeId AuditCertificateRevokedEventType_Certificate = Identifiers.init(3418);
+    public static final NodeId AuditCertificateRevokedEventType_ClientAuditEntryId = Identifiers.init(3416);
+    public static final NodeId AuditCertificateRevokedEventType_ClientUserId = Identifiers.init(3417);
+    public static final NodeId AuditCertificateRevokedEventType_EventId = Identifiers.init(3404);
+    public static final NodeId AuditCertificateRevokedEventType_EventType = Identifiers.init(3405);
+    public static final NodeId AuditCertificateRevokedEventType_LocalTime = Identifiers.init(3410);
+    public static final NodeId AuditCertificateRevokedEventType_Message = Identifiers.init(3411);
+    public static final NodeId AuditCertificateRevokedEventType_ReceiveTime = Identifiers.init(3409);
+    public static final NodeId AuditCertificateRevokedEventType_ServerId = Identifiers.init(3415);
+    public static final NodeId AuditCertificateRevokedEventType_Severity = Identifiers.init(3412);
+    public static final NodeId AuditCertificateRevokedEventType_SourceName = Identifiers.init(3407);
+    public static final NodeId AuditCertificateRevokedEventType_SourceNode = Identifiers.init(3406);
+    public static final NodeId AuditCertificateRevokedEventType_Status = Identifiers.init(3414);
+    public static final NodeId AuditCertificateRevokedEventType_Time = Identifiers.init(3408);
+    public static final NodeId AuditCertificateUntrustedEventType_ActionTimeStamp = Identifiers.init(3398);
+    public static final NodeId AuditCertificateUntrustedEventType_Certificate = Identifiers.init(3403);
+    public static final NodeId AuditCertificateUntrustedEventType_ClientAuditEntryId = Identifiers.init(3401);
+    public static final NodeId AuditCertificateUntrustedEventType_ClientUserId = Identifiers.init(3402);
+    public static final NodeId AuditCertificateUntrustedEventType_EventId = Identifiers.init(3389);
+    public static final NodeId AuditCertificateUntrustedEventType_EventType = Identifiers.init(3390);
+    public static final NodeId AuditCertificateUntrustedEventType_LocalTime = Identifiers.init(3395);
+    public static final NodeId AuditCertificateUntrustedEventType_Message = Identifiers.init(3396);
+    public static final NodeId AuditCertificateUntrustedEventType_ReceiveTime = Identifiers.init(3394);
+    public static final NodeId AuditCertificateUntrustedEventType_ServerId = Identifiers.init(3400);
+    public static final NodeId AuditCertificateUntrustedEventType_Severity = Identifiers.init(3397);
+    public static final NodeId AuditCertificateUntrustedEventType_SourceName = Identifiers.init(3392);
+    public static final NodeId AuditCertificateUntrustedEventType_SourceNode = Identifiers.init(3391);
+    public static final NodeId AuditCertificateUntrustedEventType_Status = Identifiers.init(3399);
+    public static final NodeId AuditCertificateUntrustedEventType_Time = Identifiers.init(3393);
+    public static final NodeId AuditChannelEventType_ActionTimeStamp = Identifiers.init(3232);
+    public static final NodeId AuditChannelEventType_ClientAuditEntryId = Identifiers.init(3235);
+    public static final NodeId AuditChannelEventType_ClientUserId = Identifiers.init(3236);
+    public static final NodeId AuditChannelEventType_EventId = Identifiers.init(3223);
+    public static final NodeId AuditChannelEventType_EventType = Identifiers.init(3224);
+    public static final NodeId AuditChannelEventType_LocalTime = Identifiers.init(3229);
+    public static final NodeId AuditChannelEventType_Message = Identifiers.init(3230);
+    public static final NodeId AuditChannelEventType_ReceiveTime = Identifiers.init(3228);
+    public static final NodeId AuditChannelEventType_SecureChannelId = Identifiers.init(2745);
+    public static final NodeId AuditChannelEventType_ServerId = Identifiers.init(3234);
+    public static final NodeId AuditChannelEventType_Severity = Identifiers.init(3231);
+    public static final NodeId AuditChannelEventType_SourceName = Identifiers.init(3226);
+    public static final NodeId AuditChannelEventType_SourceNode = Identifiers.init(3225);
+    public static final NodeId AuditChannelEventType_Status = Identifiers.init(3233);
+    public static final NodeId AuditChannelEventType_Time = Identifiers.init(3227);
+    public static final NodeId AuditConditionAcknowledgeEventType_ActionTimeStamp = Identifiers.init(8954);
+    public static final NodeId AuditConditionAcknowledgeEventType_ClientAuditEntryId = Identifiers.init(8957);
+    public static final NodeId AuditConditionAcknowledgeEventType_ClientUserId = Identifiers.init(8958);
+    public static final NodeId AuditConditionAcknowledgeEventType_Comment = Identifiers.init(11853);
+    public static final NodeId AuditConditionAcknowledgeEventType_EventId = Identifiers.init(8945);
+    public static final NodeId AuditConditionAcknowledgeEventType_EventType = Identifiers.init(8946);
+    public static final NodeId AuditConditionAcknowledgeEventType_InputArguments = Identifiers.init(8960);
+    public static final NodeId AuditConditionAcknowledgeEventType_LocalTime = Identifiers.init(8951);
+    public static final NodeId AuditConditionAcknowledgeEventType_Message = Identifiers.init(8952);
+    public static final NodeId AuditConditionAcknowledgeEventType_MethodId = Identifiers.init(8959);
+    public static final NodeId AuditConditionAcknowledgeEventType_ReceiveTime = Identifiers.init(8950);
+    public static final NodeId AuditConditionAcknowledgeEventType_ServerId = Identifiers.init(8956);
+    public static final NodeId AuditConditionAcknowledgeEventType_Severity = Identifiers.init(8953);
+    public static final NodeId AuditConditionAcknowledgeEventType_SourceName = Identifiers.init(8948);
+    public static final NodeId AuditConditionAcknowledgeEventType_SourceNode = Identifiers.init(8947);
+    public static final NodeId AuditConditionAcknowledgeEventType_Status = Identifiers.init(8955);
+    public static final NodeId AuditConditionAcknowledgeEventType_Time = Identifiers.init(8949);
+    public static final NodeId AuditConditionCommentEventType_ActionTimeStamp = Identifiers.init(4179);
+    public static final NodeId AuditConditionCommentEventType_ClientAuditEntryId = Identifiers.init(4182);
+    public static final NodeId AuditConditionCommentEventType_ClientUserId = Identifiers.init(4183);
+    public static final NodeId AuditConditionCommentEventType_Comment = Identifiers.init(11851);
+    public static final NodeId AuditConditionCommentEventType_EventId = Identifiers.init(4170);
+    public static final NodeId AuditConditionCommentEventType_EventType = Identifiers.init(4171);
+    public static final NodeId AuditConditionCommentEventType_InputArguments = Identifiers.init(4185);
+    public static final NodeId AuditConditionCommentEventType_LocalTime = Identifiers.init(4176);
+    public static final NodeId AuditConditionCommentEventType_Message = Identifiers.init(4177);
+    public static final NodeId AuditConditionCommentEventType_MethodId = Identifiers.init(4184);
+    public static final NodeId AuditConditionCommentEventType_ReceiveTime = Identifiers.init(4175);
+    public static final NodeId AuditConditionCommentEventType_ServerId = Identifiers.init(4181);
+    public static final NodeId AuditConditionCommentEventType_Severity = Identifiers.init(4178);
+    public static final NodeId AuditConditionCommentEventType_SourceName = Identifiers.init(4173);
+    public static final NodeId AuditConditionCommentEventType_SourceNode = Identifiers.init(4172);
+    public static final NodeId AuditConditionCommentEventType_Status = Identifiers.init(4180);
+    public static final NodeId AuditConditionCommentEventType_Time = Identifiers.init(4174);
+    public static final NodeId AuditConditionConfirmEventType_ActionTimeStamp = Identifiers.init(8971);
+    public static final NodeId AuditConditionConfirmEventType_ClientAuditEntryId = Identifiers.init(8974);
+    public static final NodeId AuditConditionConfirmEventType_ClientUserId = Identifiers.init(8975);
+    public static final NodeId AuditConditionConfirmEventType_Comment = Identifiers.init(11854);
+    public static final NodeId AuditConditionConfirmEventType_EventId = Identifiers.init(8962);
+    public static final NodeId AuditConditionConfirmEventType_EventType = Identifiers.init(8963);
+    public static final NodeId AuditConditionConfirmEventType_InputArguments = Identifiers.init(8977);
+    public static final NodeId AuditConditionConfirmEventType_LocalTime = Identifiers.init(8968);
+    public static final NodeId AuditConditionConfirmEventType_Message = Identifiers.init(8969);
+    public static final NodeId AuditConditionConfirmEventType_MethodId = Identifiers.init(8976);
+    public static final NodeId AuditConditionConfirmEventType_ReceiveTime = Identifiers.init(8967);
+    public static final NodeId AuditConditionConfirmEventType_ServerId = Identifiers.init(8973);
+    public static final NodeId AuditConditionConfirmEventType_Severity = Identifiers.init(8970);
+    public static final NodeId AuditConditionConfirmEventType_SourceName = Identifiers.init(8965);
+    public static final NodeId AuditConditionConfirmEventType_SourceNode = Identifiers.init(8964);
+    public static final NodeId AuditConditionConfirmEventType_Status = Identifiers.init(8972);
+    public static final NodeId AuditConditionConfirmEventType_Time = Identifiers.init(8966);
+    public static final NodeId AuditConditionEnableEventType_ActionTimeStamp = Identifiers.init(4115);
+    public static final NodeId AuditConditionEnableEventType_ClientAuditEntryId = Identifiers.init(4118);
+    public static final NodeId AuditConditionEnableEventType_ClientUserId = Identifiers.init(4119);
+    public static final NodeId AuditConditionEnableEventType_EventId = Identifiers.init(4106);
+    public static final NodeId AuditConditionEnableEventType_EventType = Identifiers.init(4107);
+    public static final NodeId AuditConditionEnableEventType_InputArguments = Identifiers.init(4121);
+    public static final NodeId AuditConditionEnableEventType_LocalTime = Identifiers.init(4112);
+    public static final NodeId AuditConditionEnableEventType_Message = Identifiers.init(4113);
+    public static final NodeId AuditConditionEnableEventType_MethodId = Identifiers.init(4120);
+    public static final NodeId AuditConditionEnableEventType_ReceiveTime = Identifiers.init(4111);
+    public static final NodeId AuditConditionEnableEventType_ServerId = Identifiers.init(4117);
+    public static final NodeId AuditConditionEnableEventType_Severity = Identifiers.init(4114);
+    public static final NodeId AuditConditionEnableEventType_SourceName = Identifiers.init(4109);
+    public static final NodeId AuditConditionEnableEventType_SourceNode = Identifiers.init(4108);
+    public static final NodeId AuditConditionEnableEventType_Status = Identifiers.init(4116);
+    public static final NodeId AuditConditionEnableEventType_Time = Identifiers.init(4110);
+    public static final NodeId AuditConditionEventType_ActionTimeStamp = Identifiers.init(4005);
+    public static final NodeId AuditConditionEventType_ClientAuditEntryId = Identifiers.init(4008);
+    public static final NodeId AuditConditionEventType_ClientUserId = Identifiers.init(4009);
+    public static final NodeId AuditConditionEventType_EventId = Identifiers.init(3996);
+    public static final NodeId AuditConditionEventType_EventType = Identifiers.init(3997);
+    public static final NodeId AuditConditionEventType_InputArguments = Identifiers.init(4011);
+    public static final NodeId AuditConditionEventType_LocalTime = Identifiers.init(4002);
+    public static final NodeId AuditConditionEventType_Message = Identifiers.init(4003);
+    public static final NodeId AuditConditionEventType_MethodId = Identifiers.init(4010);
+    public static final NodeId AuditConditionEventType_ReceiveTime = Identifiers.init(4001);
+    public static final NodeId AuditConditionEventType_ServerId = Identifiers.init(4007);
+    public static final NodeId AuditConditionEventType_Severity = Identifiers.init(4004);
+    public static final NodeId AuditConditionEventType_SourceName = Identifiers.init(3999);
+    public static final NodeId AuditConditionEventType_SourceNode = Identifiers.init(3998);
+    public static final NodeId AuditConditionEventType_Status = Identifiers.init(4006);
+    public static final NodeId AuditConditionEventType_Time = Identifiers.init(4000);
+    public static final NodeId AuditConditionRespondEventType_ActionTimeStamp = Identifiers.init(8937);
+    public static final NodeId AuditConditionRespondEventType_ClientAuditEntryId = Identifiers.init(8940);
+    public static final NodeId AuditConditionRespondEventType_ClientUserId = Identifiers.init(8941);
+    public static final NodeId AuditConditionRespondEventType_EventId = Identifiers.init(8928);
+    public static final NodeId AuditConditionRespondEventType_EventType = Identifiers.init(8929);
+    public static final NodeId AuditConditionRespondEventType_InputArguments = Identifiers.init(8943);
+    public static final NodeId AuditConditionRespondEventType_LocalTime = Identifiers.init(8934);
+    public static final NodeId AuditConditionRespondEventType_Message = Identifiers.init(8935);
+    public static final NodeId AuditConditionRespondEventType_MethodId = Identifiers.init(8942);
+    public static final NodeId AuditConditionRespondEventType_ReceiveTime = Identifiers.init(8933);
+    public static final NodeId AuditConditionRespondEventType_SelectedResponse = Identifiers.init(11852);
+    public static final NodeId AuditConditionRespondEventType_ServerId = Identifiers.init(8939);
+    public static final NodeId AuditConditionRespondEventType_Severity = Identifiers.init(8936);
+    public static final NodeId AuditConditionRespondEventType_SourceName = Identifiers.init(8931);
+    public static final NodeId AuditConditionRespondEventType_SourceNode = Identifiers.init(8930);
+    public static final NodeId AuditConditionRespondEventType_Status = Identifiers.init(8938);
+    public static final NodeId AuditConditionRespondEventType_Time = Identifiers.init(8932);
+    public static final NodeId AuditConditionShelvingEventType_ActionTimeStamp = Identifiers.init(11103);
+    public static final NodeId AuditConditionShelvingEventType_ClientAuditEntryId = Identifiers.init(11106);
+    public static final NodeId AuditConditionShelvingEventType_ClientUserId = Identifiers.init(11107);
+    public static final NodeId AuditConditionShelvingEventType_EventId = Identifiers.init(11094);
+    public static final NodeId AuditConditionShelvingEventType_EventType = Identifiers.init(11095);
+    public static final NodeId AuditConditionShelvingEventType_InputArguments = Identifiers.init(11109);
+    public static final NodeId AuditConditionShelvingEventType_LocalTime = Identifiers.init(11100);
+    public static final NodeId AuditConditionShelvingEventType_Message = Identifiers.init(11101);
+    public static final NodeId AuditConditionShelvingEventType_MethodId = Identifiers.init(11108);
+    public static final NodeId AuditConditionShelvingEventType_ReceiveTime = Identifiers.init(11099);
+    public static final NodeId AuditConditionShelvingEventType_ServerId = Identifiers.init(11105);
+    public static final NodeId AuditConditionShelvingEventType_Severity = Identifiers.init(11102);
+    public static final NodeId AuditConditionShelvingEventType_ShelvingTime = Identifiers.init(11855);
+    public static final NodeId AuditConditionShelvingEventType_SourceName = Identifiers.init(11097);
+    public static final NodeId AuditConditionShelvingEventType_SourceNode = Identifiers.init(11096);
+    public static final NodeId AuditConditionShelvingEventType_Status = Identifiers.init(11104);
+    public static final NodeId AuditConditionShelvingEventType_Time = Identifiers.init(11098);
+    public static final NodeId AuditCreateSessionEventType_ActionTimeStamp = Identifiers.init(3275);
+    public static final NodeId AuditCreateSessionEventType_ClientAuditEntryId = Identifiers.init(3278);
+    public static final NodeId AuditCreateSessionEventType_ClientCertificate = Identifiers.init(2073);
+    public static final NodeId AuditCreateSessionEventType_ClientCertificateThumbprint = Identifiers.init(2747);
+    public static final NodeId AuditCreateSessionEventType_ClientUserId = Identifiers.init(3279);
+    public static final NodeId AuditCreateSessionEventType_EventId = Identifiers.init(3266);
+    public static final NodeId AuditCreateSessionEventType_EventType = Identifiers.init(3267);
+    public static final NodeId AuditCreateSessionEventType_LocalTime = Identifiers.init(3272);
+    public static final NodeId AuditCreateSessionEventType_Message = Identifiers.init(3273);
+    public static final NodeId AuditCreateSessionEventType_ReceiveTime = Identifiers.init(3271);
+    public static final NodeId AuditCreateSessionEventType_RevisedSessionTimeout = Identifiers.init(2074);
+    public static final NodeId AuditCreateSessionEventType_SecureChannelId = Identifiers.init(2072);
+    public static final NodeId AuditCreateSessionEventType_ServerId = Identifiers.init(3277);
+    public static final NodeId AuditCreateSessionEventType_SessionId = Identifiers.init(14413);
+    public static final NodeId AuditCreateSessionEventType_Severity = Identifiers.init(3274);
+    public static final NodeId AuditCreateSessionEventType_SourceName = Identifiers.init(3269);
+    public static final NodeId AuditCreateSessionEventType_SourceNode = Identifiers.init(3268);
+    public static final NodeId AuditCreateSessionEventType_Status = Identifiers.init(3276);
+    public static final NodeId AuditCreateSessionEventType_Time = Identifiers.init(3270);
+    public static final NodeId AuditDeleteNodesEventType_ActionTimeStamp = Identifiers.init(3471);
+    public static final NodeId AuditDeleteNodesEventType_ClientAuditEntryId = Identifiers.init(3474);
+    public static final NodeId AuditDeleteNodesEventType_ClientUserId = Identifiers.init(3475);
+    public static final NodeId AuditDeleteNodesEventType_EventId = Identifiers.init(3462);
+    public static final NodeId AuditDeleteNodesEventType_EventType = Identifiers.init(3463);
+    public static final NodeId AuditDeleteNodesEventType_LocalTime = Identifiers.init(3468);
+    public static final NodeId AuditDeleteNodesEventType_Message = Identifiers.init(3469);
+    public static final NodeId AuditDeleteNodesEventType_NodesToDelete = Identifiers.init(2094);
+    public static final NodeId AuditDeleteNodesEventType_ReceiveTime = Identifiers.init(3467);
+    public static final NodeId AuditDeleteNodesEventType_ServerId = Identifiers.init(3473);
+    public static final NodeId AuditDeleteNodesEventType_Severity = Identifiers.init(3470);
+    public static final NodeId AuditDeleteNodesEventType_SourceName = Identifiers.init(3465);
+    public static final NodeId AuditDeleteNodesEventType_SourceNode = Identifiers.init(3464);
+    public static final NodeId AuditDeleteNodesEventType_Status = Identifiers.init(3472);
+    public static final NodeId AuditDeleteNodesEventType_Time = Identifiers.init(3466);
+    public static final NodeId AuditDeleteReferencesEventType_ActionTimeStamp = Identifiers.init(3499);
+    public static final NodeId AuditDeleteReferencesEventType_ClientAuditEntryId = Identifiers.init(3502);
+    public static final NodeId AuditDeleteReferencesEventType_ClientUserId = Identifiers.init(3503);
+    public static final NodeId AuditDeleteReferencesEventType_EventId = Identifiers.init(3490);
+    public static final NodeId AuditDeleteReferencesEventType_EventType = Identifiers.init(3491);
+    public static final NodeId AuditDeleteReferencesEventType_LocalTime = Identifiers.init(3496);
+    public static final NodeId AuditDeleteReferencesEventType_Message = Identifiers.init(3497);
+    public static final NodeId AuditDeleteReferencesEventType_ReceiveTime = Identifiers.init(3495);
+    public static final NodeId AuditDeleteReferencesEventType_ReferencesToDelete = Identifiers.init(2098);
+    public static final NodeId AuditDeleteReferencesEventType_ServerId = Identifiers.init(3501);
+    public static final NodeId AuditDeleteReferencesEventType_Severity = Identifiers.init(3498);
+    public static final NodeId AuditDeleteReferencesEventType_SourceName = Identifiers.init(3493);
+    public static final NodeId AuditDeleteReferencesEventType_SourceNode = Identifiers.init(3492);
+    public static final NodeId AuditDeleteReferencesEventType_Status = Identifiers.init(3500);
+    public static final NodeId AuditDeleteReferencesEventType_Time = Identifiers.init(3494);
+    public static final NodeId AuditEventType_ActionTimeStamp = Identifiers.init(2053);
+    public static final NodeId AuditEventType_ClientAuditEntryId = Identifiers.init(2056);
+    public static final NodeId AuditEventType_ClientUserId = Identifiers.init(2057);
+    public static final NodeId AuditEventType_EventId = Identifiers.init(3200);
+    public static final NodeId AuditEventType_EventType = Identifiers.init(3201);
+    public static final NodeId AuditEventType_LocalTime = Identifiers.init(3206);
+    public static final NodeId AuditEventType_Message = Identifiers.init(3207);
+    public static final NodeId AuditEventType_ReceiveTime = Identifiers.init(3205);
+    public static final NodeId AuditEventType_ServerId = Identifiers.init(2055);
+    public static final NodeId AuditEventType_Severity = Identifiers.init(3208);
+    public static final NodeId AuditEventType_SourceName = Identifiers.init(3203);
+    public static final NodeId AuditEventType_SourceNode = Identifiers.init(3202);
+    public static final NodeId AuditEventType_Status = Identifiers.init(2054);
+    public static final NodeId AuditEventType_Time = Identifiers.init(3204);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_ActionTimeStamp = Identifiers.init(3616);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_ClientAuditEntryId = Identifiers.init(3619);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_ClientUserId = Identifiers.init(3620);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_EventId = Identifiers.init(3607);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_EventType = Identifiers.init(3608);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_LocalTime = Identifiers.init(3613);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_Message = Identifiers.init(3614);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_OldValues = Identifiers.init(3021);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_ParameterDataTypeId = Identifiers.init(3621);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_ReceiveTime = Identifiers.init(3612);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_ReqTimes = Identifiers.init(3020);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_ServerId = Identifiers.init(3618);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_Severity = Identifiers.init(3615);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_SourceName = Identifiers.init(3610);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_SourceNode = Identifiers.init(3609);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_Status = Identifiers.init(3617);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_Time = Identifiers.init(3611);
+    public static final NodeId AuditHistoryAtTimeDeleteEventType_UpdatedNode = Identifiers.init(3622);
+    public static final NodeId AuditHistoryDeleteEventType_ActionTimeStamp = Identifiers.init(3585);
+    public static final NodeId AuditHistoryDeleteEventType_ClientAuditEntryId = Identifiers.init(3588);
+    public static final NodeId AuditHistoryDeleteEventType_ClientUserId = Identifiers.init(3589);
+    public static final NodeId AuditHistoryDeleteEventType_EventId = Identifiers.init(3576);
+    public static final NodeId AuditHistoryDeleteEventType_EventType = Identifiers.init(3577);
+    public static final NodeId AuditHistoryDeleteEventType_LocalTime = Identifiers.init(3582);
+    public static final NodeId AuditHistoryDeleteEventType_Message = Identifiers.init(3583);
+    public static final NodeId AuditHistoryDeleteEventType_ParameterDataTypeId = Identifiers.init(3590);
+    public static final NodeId AuditHistoryDeleteEventType_ReceiveTime = Identifiers.init(3581);
+    public static final NodeId AuditHistoryDeleteEventType_ServerId = Identifiers.init(3587);
+    public static final NodeId AuditHistoryDeleteEventType_Severity = Identifiers.init(3584);
+    public static final NodeId AuditHistoryDeleteEventType_SourceName = Identifiers.init(3579);
+    public static final NodeId AuditHistoryDeleteEventType_SourceNode = Identifiers.init(3578);
+    public static final NodeId AuditHistoryDeleteEventType_Status = Identifiers.init(3586);
+    public static final NodeId AuditHistoryDeleteEventType_Time = Identifiers.init(3580);
+    public static final NodeId AuditHistoryDeleteEventType_UpdatedNode = Identifiers.init(3027);
+    public static final NodeId AuditHistoryEventDeleteEventType_ActionTimeStamp = Identifiers.init(3632);
+    public static final NodeId AuditHistoryEventDeleteEventType_ClientAuditEntryId = Identifiers.init(3635);
+    public static final NodeId AuditHistoryEventDeleteEventType_ClientUserId = Identifiers.init(3636);
+    public static final NodeId AuditHistoryEventDeleteEventType_EventId = Identifiers.init(3623);
+    public static final NodeId AuditHistoryEventDeleteEventType_EventIds = Identifiers.init(3023);
+    public static final NodeId AuditHistoryEventDeleteEventType_EventType = Identifiers.init(3624);
+    public static final NodeId AuditHistoryEventDeleteEventType_LocalTime = Identifiers.init(3629);
+    public static final NodeId AuditHistoryEventDeleteEventType_Message = Identifiers.init(3630);
+    public static final NodeId AuditHistoryEventDeleteEventType_OldValues = Identifiers.init(3024);
+    public static final NodeId AuditHistoryEventDeleteEventType_ParameterDataTypeId = Identifiers.init(3637);
+    public static final NodeId AuditHistoryEventDeleteEventType_ReceiveTime = Identifiers.init(3628);
+    public static final NodeId AuditHistoryEventDeleteEventType_ServerId = Identifiers.init(3634);
+    public static final NodeId AuditHistoryEventDeleteEventType_Severity = Identifiers.init(3631);
+    public static final NodeId AuditHistoryEventDeleteEventType_SourceName = Identifiers.init(3626);
+    public static final NodeId AuditHistoryEventDeleteEventType_SourceNode = Identifiers.init(3625);
+    public static final NodeId AuditHistoryEventDeleteEventType_Status = Identifiers.init(3633);
+    public static final NodeId AuditHistoryEventDeleteEventType_Time = Identifiers.init(3627);
+    public static final NodeId AuditHistoryEventDeleteEventType_UpdatedNode = Identifiers.init(3638);
+    public static final NodeId AuditHistoryEventUpdateEventType_ActionTimeStamp = Identifiers.init(3555);
+    public static final NodeId AuditHistoryEventUpdateEventType_ClientAuditEntryId = Identifiers.init(3558);
+    public static final NodeId AuditHistoryEventUpdateEventType_ClientUserId = Identifiers.init(3559);
+    public static final NodeId AuditHistoryEventUpdateEventType_EventId = Identifiers.init(3546);
+    public static final NodeId AuditHistoryEventUpdateEventType_EventType = Identifiers.init(3547);
+    public static final NodeId AuditHistoryEventUpdateEventType_Filter = Identifiers.init(3003);
+    public static final NodeId AuditHistoryEventUpdateEventType_LocalTime = Identifiers.init(3552);
+    public static final NodeId AuditHistoryEventUpdateEventType_Message = Identifiers.init(3553);
+    public static final NodeId AuditHistoryEventUpdateEventType_NewValues = Identifiers.init(3029);
+    public static final NodeId AuditHistoryEventUpdateEventType_OldValues = Identifiers.init(3030);
+    public static final NodeId AuditHistoryEventUpdateEventType_ParameterDataTypeId = Identifiers.init(3560);
+    public static final NodeId AuditHistoryEventUpdateEventType_PerformInsertReplace = Identifiers.init(3028);
+    public static final NodeId AuditHistoryEventUpdateEventType_ReceiveTime = Identifiers.init(3551);
+    public static final NodeId AuditHistoryEventUpdateEventType_ServerId = Identifiers.init(3557);
+    public static final NodeId AuditHistoryEventUpdateEventType_Severity = Identifiers.init(3554);
+    public static final NodeId AuditHistoryEventUpdateEventType_SourceName = Identifiers.init(3549);
+    public static final NodeId AuditHistoryEventUpdateEventType_SourceNode = Identifiers.init(3548);
+    public static final NodeId AuditHistoryEventUpdateEventType_Status = Identifiers.init(3556);
+    public static final NodeId AuditHistoryEventUpdateEventType_Time = Identifiers.init(3550);
+    public static final NodeId AuditHistoryEventUpdateEventType_UpdatedNode = Identifiers.init(3025);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_ActionTimeStamp = Identifiers.init(3600);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_ClientAuditEntryId = Identifiers.init(3603);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_ClientUserId = Identifiers.init(3604);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_EndTime = Identifiers.init(3017);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_EventId = Identifiers.init(3591);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_EventType = Identifiers.init(3592);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_IsDeleteModified = Identifiers.init(3015);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_LocalTime = Identifiers.init(3597);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_Message = Identifiers.init(3598);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_OldValues = Identifiers.init(3034);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_ParameterDataTypeId = Identifiers.init(3605);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_ReceiveTime = Identifiers.init(3596);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_ServerId = Identifiers.init(3602);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_Severity = Identifiers.init(3599);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_SourceName = Identifiers.init(3594);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_SourceNode = Identifiers.init(3593);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_StartTime = Identifiers.init(3016);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_Status = Identifiers.init(3601);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_Time = Identifiers.init(3595);
+    public static final NodeId AuditHistoryRawModifyDeleteEventType_UpdatedNode = Identifiers.init(3606);
+    public static final NodeId AuditHistoryUpdateEventType_ActionTimeStamp = Identifiers.init(3541);
+    public static final NodeId AuditHistoryUpdateEventType_ClientAuditEntryId = Identifiers.init(3544);
+    public static final NodeId AuditHistoryUpdateEventType_ClientUserId = Identifiers.init(3545);
+    public static final NodeId AuditHistoryUpdateEventType_EventId = Identifiers.init(3532);
+    public static final NodeId AuditHistoryUpdateEventType_EventType = Identifiers.init(3533);
+    public static final NodeId AuditHistoryUpdateEventType_LocalTime = Identifiers.init(3538);
+    public static final NodeId AuditHistoryUpdateEventType_Message = Identifiers.init(3539);
+    public static final NodeId AuditHistoryUpdateEventType_ParameterDataTypeId = Identifiers.init(2751);
+    public static final NodeId AuditHistoryUpdateEventType_ReceiveTime = Identifiers.init(3537);
+    public static final NodeId AuditHistoryUpdateEventType_ServerId = Identifiers.init(3543);
+    public static final NodeId AuditHistoryUpdateEventType_Severity = Identifiers.init(3540);
+    public static final NodeId AuditHistoryUpdateEventType_SourceName = Identifiers.init(3535);
+    public static final NodeId AuditHistoryUpdateEventType_SourceNode = Identifiers.init(3534);
+    public static final NodeId AuditHistoryUpdateEventType_Status = Identifiers.init(3542);
+    public static final NodeId AuditHistoryUpdateEventType_Time = Identifiers.init(3536);
+    public static final NodeId AuditHistoryValueUpdateEventType_ActionTimeStamp = Identifiers.init(3570);
+    public static final NodeId AuditHistoryValueUpdateEventType_ClientAuditEntryId = Identifiers.init(3573);
+    public static final NodeId AuditHistoryValueUpdateEventType_ClientUserId = Identifiers.init(3574);
+    public static final NodeId AuditHistoryValueUpdateEventType_EventId = Identifiers.init(3561);
+    public static final NodeId AuditHistoryValueUpdateEventType_EventType = Identifiers.init(3562);
+    public static final NodeId AuditHistoryValueUpdateEventType_LocalTime = Identifiers.init(3567);
+    public static final NodeId AuditHistoryValueUpdateEventType_Message = Identifiers.init(3568);
+    public static final NodeId AuditHistoryValueUpdateEventType_NewValues = Identifiers.init(3032);
+    public static final NodeId AuditHistoryValueUpdateEventType_OldValues = Identifiers.init(3033);
+    public static final NodeId AuditHistoryValueUpdateEventType_ParameterDataTypeId = Identifiers.init(3575);
+    public static final NodeId AuditHistoryValueUpdateEventType_PerformInsertReplace = Identifiers.init(3031);
+    public static final NodeId AuditHistoryValueUpdateEventType_ReceiveTime = Identifiers.init(3566);
+    public static final NodeId AuditHistoryValueUpdateEventType_ServerId = Identifiers.init(3572);
+    public static final NodeId AuditHistoryValueUpdateEventType_Severity = Identifiers.init(3569);
+    public static final NodeId AuditHistoryValueUpdateEventType_SourceName = Identifiers.init(3564);
+    public static final NodeId AuditHistoryValueUpdateEventType_SourceNode = Identifiers.init(3563);
+    public static final NodeId AuditHistoryValueUpdateEventType_Status = Identifiers.init(3571);
+    public static final NodeId AuditHistoryValueUpdateEventType_Time = Identifiers.init(3565);
+    public static final NodeId AuditHistoryValueUpdateEventType_UpdatedNode = Identifiers.init(3026);
+    public static final NodeId AuditNodeManagementEventType_ActionTimeStamp = Identifiers.init(3443);
+    public static final NodeId AuditNodeManagementEventType_ClientAuditEntryId = Identifiers.init(3446);
+    public static final NodeId AuditNodeManagementEventType_ClientUserId = Identifiers.init(3447);
+    public static final NodeId AuditNodeManagementEventType_EventId = Identifiers.init(3434);
+    public static final NodeId AuditNodeManagementEventType_EventType = Identifiers.init(3435);
+    public static final NodeId AuditNodeManagementEventType_LocalTime = Identifiers.init(3440);
+    public static final NodeId AuditNodeManagementEventType_Message = Identifiers.init(3441);
+    public static final NodeId AuditNodeManagementEventType_ReceiveTime = Identifiers.init(3439);
+    public static final NodeId AuditNodeManagementEventType_ServerId = Identifiers.init(3445);
+    public static final NodeId AuditNodeManagementEventType_Severity = Identifiers.init(3442);
+    public static final NodeId AuditNodeManagementEventType_SourceName = Identifiers.init(3437);
+    public static final NodeId AuditNodeManagementEventType_SourceNode = Identifiers.init(3436);
+    public static final NodeId AuditNodeManagementEventType_Status = Identifiers.init(3444);
+    public static final NodeId AuditNodeManagementEventType_Time = Identifiers.init(3438);
+    public static final NodeId AuditOpenSecureChannelEventType_ActionTimeStamp = Identifiers.init(3246);
+    public static final NodeId AuditOpenSecureChannelEventType_ClientAuditEntryId = Identifiers.init(3249);
+    public static final NodeId AuditOpenSecureChannelEventType_ClientCertificate = Identifiers.init(2061);
+    public static final NodeId AuditOpenSecureChannelEventType_ClientCertificateThumbprint = Identifiers.init(2746);
+    public static final NodeId AuditOpenSecureChannelEventType_ClientUserId = Identifiers.init(3250);
+    public static final NodeId AuditOpenSecureChannelEventType_EventId = Identifiers.init(3237);
+    public static final NodeId AuditOpenSecureChannelEventType_EventType = Identifiers.init(3238);
+    public static final NodeId AuditOpenSecureChannelEventType_LocalTime = Identifiers.init(3243);
+    public static final NodeId AuditOpenSecureChannelEventType_Message = Identifiers.init(3244);
+    public static final NodeId AuditOpenSecureChannelEventType_ReceiveTime = Identifiers.init(3242);
+    public static final NodeId AuditOpenSecureChannelEventType_RequestType = Identifiers.init(2062);
+    public static final NodeId AuditOpenSecureChannelEventType_RequestedLifetime = Identifiers.init(2066);
+    public static final NodeId AuditOpenSecureChannelEventType_SecureChannelId = Identifiers.init(3251);
+    public static final NodeId AuditOpenSecureChannelEventType_SecurityMode = Identifiers.init(2065);
+    public static final NodeId AuditOpenSecureChannelEventType_SecurityPolicyUri = Identifiers.init(2063);
+    public static final NodeId AuditOpenSecureChannelEventType_ServerId = Identifiers.init(3248);
+    public static final NodeId AuditOpenSecureChannelEventType_Severity = Identifiers.init(3245);
+    public static final NodeId AuditOpenSecureChannelEventType_SourceName = Identifiers.init(3240);
+    public static final NodeId AuditOpenSecureChannelEventType_SourceNode = Identifiers.init(3239);
+    public static final NodeId AuditOpenSecureChannelEventType_Status = Identifiers.init(3247);
+    public static final NodeId AuditOpenSecureChannelEventType_Time = Identifiers.init(3241);
+    public static final NodeId AuditProgramTransitionEventType_ActionTimeStamp = Identifiers.init(11866);
+    public static final NodeId AuditProgramTransitionEventType_ClientAuditEntryId = Identifiers.init(11869);
+    public static final NodeId AuditProgramTransitionEventType_ClientUserId = Identifiers.init(11870);
+    public static final NodeId AuditProgramTransitionEventType_EventId = Identifiers.init(11857);
+    public static final NodeId AuditProgramTransitionEventType_EventType = Identifiers.init(11858);
+    public static final NodeId AuditProgramTransitionEventType_InputArguments = Identifiers.init(11872);
+    public static final NodeId AuditProgramTransitionEventType_LocalTime = Identifiers.init(11863);
+    public static final NodeId AuditProgramTransitionEventType_Message = Identifiers.init(11864);
+    public static final NodeId AuditProgramTransitionEventType_MethodId = Identifiers.init(11871);
+    public static final NodeId AuditProgramTransitionEventType_NewStateId = Identifiers.init(11874);
+    public static final NodeId AuditProgramTransitionEventType_OldStateId = Identifiers.init(11873);
+    public static final NodeId AuditProgramTransitionEventType_ReceiveTime = Identifiers.init(11862);
+    public static final NodeId AuditProgramTransitionEventType_ServerId = Identifiers.init(11868);
+    public static final NodeId AuditProgramTransitionEventType_Severity = Identifiers.init(11865);
+    public static final NodeId AuditProgramTransitionEventType_SourceName = Identifiers.init(11860);
+    public static final NodeId AuditProgramTransitionEventType_SourceNode = Identifiers.init(11859);
+    public static final NodeId AuditProgramTransitionEventType_Status = Identifiers.init(11867);
+    public static final NodeId AuditProgramTransitionEventType_Time = Identifiers.init(11861);
+    public static final NodeId AuditProgramTransitionEventType_TransitionNumber = Identifiers.init(11875);
+    public static final NodeId AuditSecurityEventType_ActionTimeStamp = Identifiers.init(3218);
+    public static final NodeId AuditSecurityEventType_ClientAuditEntryId = Identifiers.init(3221);
+    public static final NodeId AuditSecurityEventType_ClientUserId = Identifiers.init(3222);
+    public static final NodeId AuditSecurityEventType_EventId = Identifiers.init(3209);
+    public static final NodeId AuditSecurityEventType_EventType = Identifiers.init(3210);
+    public static final NodeId AuditSecurityEventType_LocalTime = Identifiers.init(3215);
+    public static final NodeId AuditSecurityEventType_Message = Identifiers.init(3216);
+    public static final NodeId AuditSecurityEventType_ReceiveTime = Identifiers.init(3214);
+    public static final NodeId AuditSecurityEventType_ServerId = Identifiers.init(3220);
+    public static final NodeId AuditSecurityEventType_Severity = Identifiers.init(3217);
+    public static final NodeId AuditSecurityEventType_SourceName = Identifiers.init(3212);
+    public static final NodeId AuditSecurityEventType_SourceNode = Identifiers.init(3211);
+    public static final NodeId AuditSecurityEventType_Status = Identifiers.init(3219);
+    public static final NodeId AuditSecurityEventType_Time = Identifiers.init(3213);
+    public static final NodeId AuditSessionEventType_ActionTimeStamp = Identifiers.init(3261);
+    public static final NodeId AuditSessionEventType_ClientAuditEntryId = Identifiers.init(3264);
+    public static final NodeId AuditSessionEventType_ClientUserId = Identifiers.init(3265);
+    public static final NodeId AuditSessionEventType_EventId = Identifiers.init(3252);
+    public static final NodeId AuditSessionEventType_EventType = Identifiers.init(3253);
+    public static final NodeId AuditSessionEventType_LocalTime = Identifiers.init(3258);
+    public static final NodeId AuditSessionEventType_Message = Identifiers.init(3259);
+    public static final NodeId AuditSessionEventType_ReceiveTime = Identifiers.init(3257);
+    public static final NodeId AuditSessionEventType_ServerId = Identifiers.init(3263);
+    public static final NodeId AuditSessionEventType_SessionId = Identifiers.init(2070);
+    public static final NodeId AuditSessionEventType_Severity = Identifiers.init(3260);
+    public static final NodeId AuditSessionEventType_SourceName = Identifiers.init(3255);
+    public static final NodeId AuditSessionEventType_SourceNode = Identifiers.init(3254);
+    public static final NodeId AuditSessionEventType_Status = Identifiers.init(3262);
+    public static final NodeId AuditSessionEventType_Time = Identifiers.init(3256);
+    public static final NodeId AuditUpdateEventType_ActionTimeStamp = Identifiers.init(3513);
+    public static final NodeId AuditUpdateEventType_ClientAuditEntryId = Identifiers.init(3516);
+    public static final NodeId AuditUpdateEventType_ClientUserId = Identifiers.init(3517);
+    public static final NodeId AuditUpdateEventType_EventId = Identifiers.init(3504);
+    public static final NodeId AuditUpdateEventType_EventType = Identifiers.init(3505);
+    public static final NodeId AuditUpdateEventType_LocalTime = Identifiers.init(3510);
+    public static final NodeId AuditUpdateEventType_Message = Identifiers.init(3511);
+    public static final NodeId AuditUpdateEventType_ReceiveTime = Identifiers.init(3509);
+    public static final NodeId AuditUpdateEventType_ServerId = Identifiers.init(3515);
+    public static final NodeId AuditUpdateEventType_Severity = Identifiers.init(3512);
+    public static final NodeId AuditUpdateEventType_SourceName = Identifiers.init(3507);
+    public static final NodeId AuditUpdateEventType_SourceNode = Identifiers.init(3506);
+    public static final NodeId AuditUpdateEventType_Status = Identifiers.init(3514);
+    public static final NodeId AuditUpdateEventType_Time = Identifiers.init(3508);
+    public static final NodeId AuditUpdateMethodEventType_ActionTimeStamp = Identifiers.init(3648);
+    public static final NodeId AuditUpdateMethodEventType_ClientAuditEntryId = Identifiers.init(3651);
+    public static final NodeId AuditUpdateMethodEventType_ClientUserId = Identifiers.init(3652);
+    public static final NodeId AuditUpdateMethodEventType_EventId = Identifiers.init(3639);
+    public static final NodeId AuditUpdateMethodEventType_EventType = Identifiers.init(3640);
+    public static final NodeId AuditUpdateMethodEventType_InputArguments = Identifiers.init(2129);
+    public static final NodeId AuditUpdateMethodEventType_LocalTime = Identifiers.init(3645);
+    public static final NodeId AuditUpdateMethodEventType_Message = Identifiers.init(3646);
+    public static final NodeId AuditUpdateMethodEventType_MethodId = Identifiers.init(2128);
+    public static final NodeId AuditUpdateMethodEventType_ReceiveTime = Identifiers.init(3644);
+    public static final NodeId AuditUpdateMethodEventType_ServerId = Identifiers.init(3650);
+    public static final NodeId AuditUpdateMethodEventType_Severity = Identifiers.init(3647);
+    public static final NodeId AuditUpdateMethodEventType_SourceName = Identifiers.init(3642);
+    public static final NodeId AuditUpdateMethodEventType_SourceNode = Identifiers.init(3641);
+    public static final NodeId AuditUpdateMethodEventType_Status = Identifiers.init(3649);
+    public static final NodeId AuditUpdateMethodEventType_Time = Identifiers.init(3643);
+    public static final NodeId AuditUpdateStateEventType_ActionTimeStamp = Identifiers.init(3767);
+    public static final NodeId AuditUpdateStateEventType_ClientAuditEntryId = Identifiers.init(3770);
+    public static final NodeId AuditUpdateStateEventType_ClientUserId = Identifiers.init(3771);
+    public static final NodeId AuditUpdateStateEventType_EventId = Identifiers.init(3758);
+    public static final NodeId AuditUpdateStateEventType_EventType = Identifiers.init(3759);
+    public static final NodeId AuditUpdateStateEventType_InputArguments = Identifiers.init(3773);
+    public static final NodeId AuditUpdateStateEventType_LocalTime = Identifiers.init(3764);
+    public static final NodeId AuditUpdateStateEventType_Message = Identifiers.init(3765);
+    public static final NodeId AuditUpdateStateEventType_MethodId = Identifiers.init(3772);
+    public static final NodeId AuditUpdateStateEventType_NewStateId = Identifiers.init(2778);
+    public static final NodeId AuditUpdateStateEventType_OldStateId = Identifiers.init(2777);
+    public static final NodeId AuditUpdateStateEventType_ReceiveTime = Identifiers.init(3763);
+    public static final NodeId AuditUpdateStateEventType_ServerId = Identifiers.init(3769);
+    public static final NodeId AuditUpdateStateEventType_Severity = Identifiers.init(3766);
+    public static final NodeId AuditUpdateStateEventType_SourceName = Identifiers.init(3761);
+    public static final NodeId AuditUpdateStateEventType_SourceNode = Identifiers.init(3760);
+    public static final NodeId AuditUpdateStateEventType_Status = Identifiers.init(3768);
+    public static final NodeId AuditUpdateStateEventType_Time = Identifiers.init(3762);
+    public static final NodeId AuditUrlMismatchEventType_ActionTimeStamp = Identifiers.init(3290);
+    public static final NodeId AuditUrlMismatchEventType_ClientAuditEntryId = Identifiers.init(3293);
+    public static final NodeId AuditUrlMismatchEventType_ClientCertificate = Identifiers.init(3297);
+    public static final NodeId AuditUrlMismatchEventType_ClientCertificateThumbprint = Identifiers.init(3298);
+    public static final NodeId AuditUrlMismatchEventType_ClientUserId = Identifiers.init(3294);
+    public static final NodeId AuditUrlMismatchEventType_EndpointUrl = Identifiers.init(2749);
+    public static final NodeId AuditUrlMismatchEventType_EventId = Identifiers.init(3281);
+    public static final NodeId AuditUrlMismatchEventType_EventType = Identifiers.init(3282);
+    public static final NodeId AuditUrlMismatchEventType_LocalTime = Identifiers.init(3287);
+    public static final NodeId AuditUrlMismatchEventType_Message = Identifiers.init(3288);
+    public static final NodeId AuditUrlMismatchEventType_ReceiveTime = Identifiers.init(3286);
+    public static final NodeId AuditUrlMismatchEventType_RevisedSessionTimeout = Identifiers.init(3299);
+    public static final NodeId AuditUrlMismatchEventType_SecureChannelId = Identifiers.init(3296);
+    public static final NodeId AuditUrlMismatchEventType_ServerId = Identifiers.init(3292);
+    public static final NodeId AuditUrlMismatchEventType_SessionId = Identifiers.init(14414);
+    public static final NodeId AuditUrlMismatchEventType_Severity = Identifiers.init(3289);
+    public static final NodeId AuditUrlMismatchEventType_SourceName = Identifiers.init(3284);
+    public static final NodeId AuditUrlMismatchEventType_SourceNode = Identifiers.init(3283);
+    public static final NodeId AuditUrlMismatchEventType_Status = Identifiers.init(3291);
+    public static final NodeId AuditUrlMismatchEventType_Time = Identifiers.init(3285);
+    public static final NodeId AuditWriteUpdateEventType_ActionTimeStamp = Identifiers.init(3527);
+    public static final NodeId AuditWriteUpdateEventType_AttributeId = Identifiers.init(2750);
+    public static final NodeId AuditWriteUpdateEventType_ClientAuditEntryId = Identifiers.init(3530);
+    public static final NodeId AuditWriteUpdateEventType_ClientUserId = Identifiers.init(3531);
+    public static final NodeId AuditWriteUpdateEventType_EventId = Identifiers.init(3518);
+    public static final NodeId AuditWriteUpdateEventType_EventType = Identifiers.init(3519);
+    public static final NodeId AuditWriteUpdateEventType_IndexRange = Identifiers.init(2101);
+    public static final NodeId AuditWriteUpdateEventType_LocalTime = Identifiers.init(3524);
+    public static final NodeId AuditWriteUpdateEventType_Message = Identifiers.init(3525);
+    public static final NodeId AuditWriteUpdateEventType_NewValue = Identifiers.init(2103);
+    public static final NodeId AuditWriteUpdateEventType_OldValue = Identifiers.init(2102);
+    public static final NodeId AuditWriteUpdateEventType_ReceiveTime = Identifiers.init(3523);
+    public static final NodeId AuditWriteUpdateEventType_ServerId = Identifiers.init(3529);
+    public static final NodeId AuditWriteUpdateEventType_Severity = Identifiers.init(3526);
+    public static final NodeId AuditWriteUpdateEventType_SourceName = Identifiers.init(3521);
+    public static final NodeId AuditWriteUpdateEventType_SourceNode = Identifiers.init(3520);
+    public static final NodeId AuditWriteUpdateEventType_Status = Identifiers.init(3528);
+    public static final NodeId AuditWriteUpdateEventType_Time = Identifiers.init(3522);
+    public static final NodeId AxisScaleEnumeration_EnumStrings = Identifiers.init(12078);
+ 
+}
@@ -0,0 +1,500 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard variables, of the types and instances starting with B-D. Accessed through {@link Identifiers}.
+ */
+public interface VariableIdentifiersBD {
+	
+    public static final NodeId BaseEventType_EventId = Identifiers.init(2042);
+    public static final NodeId BaseEventType_EventType = Identifiers.init(2043);
+    public static final NodeId BaseEventType_LocalTime = Identifiers.init(3190);
+    public static final NodeId BaseEventType_Message = Identifiers.init(2050);
+    public static final NodeId BaseEventType_ReceiveTime = Identifiers.init(2047);
+    public static final NodeId BaseEventType_Severity = Identifiers.init(2051);
+    public static final NodeId BaseEventType_SourceName = Identifiers.init(2045);
+    public static final NodeId BaseEventType_SourceNode = Identifiers.init(2044);
+    public static final NodeId BaseEventType_Time = Identifiers.init(2046);
+    public static final NodeId BaseModelChangeEventType_EventId = Identifiers.init(3671);
+    public static final NodeId BaseModelChangeEventType_EventType = Identifiers.init(3672);
+    public static final NodeId BaseModelChangeEventType_LocalTime = Identifiers.init(3677);
+    public static final NodeId BaseModelChangeEventType_Message = Identifiers.init(3678);
+    public static final NodeId BaseModelChangeEventType_ReceiveTime = Identifiers.init(3676);
+    public static final NodeId BaseModelChangeEventType_Severity = Identifiers.init(3679);
+    public static final NodeId BaseModelChangeEventType_SourceName = Identifiers.init(3674);
+    public static final NodeId BaseModelChangeEventType_SourceNode = Identifiers.init(3673);
+    public static final NodeId BaseModelChangeEventType_Time = Identifiers.init(3675);
+    public static final NodeId BrowseDirection_EnumStrings = Identifiers.init(7603);
+    public static final NodeId BrowseResultMask_EnumValues = Identifiers.init(11883);
+    public static final NodeId BuildInfoType_BuildDate = Identifiers.init(3057);
+    public static final NodeId BuildInfoType_BuildNumber = Identifiers.init(3056);
+    public static final NodeId BuildInfoType_ManufacturerName = Identifiers.init(3053);
+    public static final NodeId BuildInfoType_ProductName = Identifiers.init(3054);
+    public static final NodeId BuildInfoType_ProductUri = Identifiers.init(3052);
+    public static final NodeId BuildInfoType_SoftwareVersion = Identifiers.init(3055);
+    public static final NodeId CertificateExpirationAlarmType_AckedState = Identifiers.init(13264);
+    public static final NodeId CertificateExpirationAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(13268);
+    public static final NodeId CertificateExpirationAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(13270);
+    public static final NodeId CertificateExpirationAlarmType_AckedState_FalseState = Identifiers.init(13272);
+    public static final NodeId CertificateExpirationAlarmType_AckedState_Id = Identifiers.init(13265);
+    public static final NodeId CertificateExpirationAlarmType_AckedState_Name = Identifiers.init(13266);
+    public static final NodeId CertificateExpirationAlarmType_AckedState_Number = Identifiers.init(13267);
+    public static final NodeId CertificateExpirationAlarmType_AckedState_TransitionTime = Identifiers.init(13269);
+    public static final NodeId CertificateExpirationAlarmType_AckedState_TrueState = Identifiers.init(13271);
+    public static final NodeId CertificateExpirationAlarmType_Acknowledge_InputArguments = Identifiers.init(13283);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState = Identifiers.init(13286);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(13290);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(13292);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState_FalseState = Identifiers.init(13294);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState_Id = Identifiers.init(13287);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState_Name = Identifiers.init(13288);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState_Number = Identifiers.init(13289);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState_TransitionTime = Identifiers.init(13291);
+    public static final NodeId CertificateExpirationAlarmType_ActiveState_TrueState = Identifiers.init(13293);
+    public static final NodeId CertificateExpirationAlarmType_AddComment_InputArguments = Identifiers.init(13259);
+    public static final NodeId CertificateExpirationAlarmType_BranchId = Identifiers.init(13238);
+    public static final NodeId CertificateExpirationAlarmType_Certificate = Identifiers.init(13327);
+    public static final NodeId CertificateExpirationAlarmType_CertificateType = Identifiers.init(13326);
+    public static final NodeId CertificateExpirationAlarmType_ClientUserId = Identifiers.init(13255);
+    public static final NodeId CertificateExpirationAlarmType_Comment = Identifiers.init(13253);
+    public static final NodeId CertificateExpirationAlarmType_Comment_SourceTimestamp = Identifiers.init(13254);
+    public static final NodeId CertificateExpirationAlarmType_ConditionClassId = Identifiers.init(13235);
+    public static final NodeId CertificateExpirationAlarmType_ConditionClassName = Identifiers.init(13236);
+    public static final NodeId CertificateExpirationAlarmType_ConditionName = Identifiers.init(13237);
+    public static final NodeId CertificateExpirationAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(13263);
+    public static final NodeId CertificateExpirationAlarmType_ConditionRefresh_InputArguments = Identifiers.init(13261);
+    public static final NodeId CertificateExpirationAlarmType_Confirm_InputArguments = Identifiers.init(13285);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState = Identifiers.init(13273);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(13277);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(13279);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState_FalseState = Identifiers.init(13281);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState_Id = Identifiers.init(13274);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState_Name = Identifiers.init(13275);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState_Number = Identifiers.init(13276);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState_TransitionTime = Identifiers.init(13278);
+    public static final NodeId CertificateExpirationAlarmType_ConfirmedState_TrueState = Identifiers.init(13280);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState = Identifiers.init(13240);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(13244);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(13246);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState_FalseState = Identifiers.init(13248);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState_Id = Identifiers.init(13241);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState_Name = Identifiers.init(13242);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState_Number = Identifiers.init(13243);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState_TransitionTime = Identifiers.init(13245);
+    public static final NodeId CertificateExpirationAlarmType_EnabledState_TrueState = Identifiers.init(13247);
+    public static final NodeId CertificateExpirationAlarmType_EventId = Identifiers.init(13226);
+    public static final NodeId CertificateExpirationAlarmType_EventType = Identifiers.init(13227);
+    public static final NodeId CertificateExpirationAlarmType_ExpirationDate = Identifiers.init(13325);
+    public static final NodeId CertificateExpirationAlarmType_ExpirationLimit = Identifiers.init(14900);
+    public static final NodeId CertificateExpirationAlarmType_InputNode = Identifiers.init(13295);
+    public static final NodeId CertificateExpirationAlarmType_LastSeverity = Identifiers.init(13251);
+    public static final NodeId CertificateExpirationAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(13252);
+    public static final NodeId CertificateExpirationAlarmType_LocalTime = Identifiers.init(13232);
+    public static final NodeId CertificateExpirationAlarmType_MaxTimeShelved = Identifiers.init(13323);
+    public static final NodeId CertificateExpirationAlarmType_Message = Identifiers.init(13233);
+    public static final NodeId CertificateExpirationAlarmType_NormalState = Identifiers.init(13324);
+    public static final NodeId CertificateExpirationAlarmType_Quality = Identifiers.init(13249);
+    public static final NodeId CertificateExpirationAlarmType_Quality_SourceTimestamp = Identifiers.init(13250);
+    public static final NodeId CertificateExpirationAlarmType_ReceiveTime = Identifiers.init(13231);
+    public static final NodeId CertificateExpirationAlarmType_Retain = Identifiers.init(13239);
+    public static final NodeId CertificateExpirationAlarmType_Severity = Identifiers.init(13234);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_CurrentState = Identifiers.init(13306);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(13310);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(13307);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(13308);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(13309);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_LastTransition = Identifiers.init(13311);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(13316);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(13312);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(13313);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(13314);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(13315);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(13321);
+    public static final NodeId CertificateExpirationAlarmType_ShelvingState_UnshelveTime = Identifiers.init(13317);
+    public static final NodeId CertificateExpirationAlarmType_SourceName = Identifiers.init(13229);
+    public static final NodeId CertificateExpirationAlarmType_SourceNode = Identifiers.init(13228);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedOrShelved = Identifiers.init(13322);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState = Identifiers.init(13296);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(13300);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(13302);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState_FalseState = Identifiers.init(13304);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState_Id = Identifiers.init(13297);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState_Name = Identifiers.init(13298);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState_Number = Identifiers.init(13299);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState_TransitionTime = Identifiers.init(13301);
+    public static final NodeId CertificateExpirationAlarmType_SuppressedState_TrueState = Identifiers.init(13303);
+    public static final NodeId CertificateExpirationAlarmType_Time = Identifiers.init(13230);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_CertificateTypes = Identifiers.init(13949);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_AddCertificate_InputArguments = Identifiers.init(13946);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(13943);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(13944);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Close_InputArguments = Identifiers.init(13927);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_GetPosition_InputArguments = Identifiers.init(13934);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_GetPosition_OutputArguments = Identifiers.init(13935);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_LastUpdateTime = Identifiers.init(13938);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_MimeType = Identifiers.init(13922);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_OpenCount = Identifiers.init(13921);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_OpenWithMasks_InputArguments = Identifiers.init(13940);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(13941);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Open_InputArguments = Identifiers.init(13924);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Open_OutputArguments = Identifiers.init(13925);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Read_InputArguments = Identifiers.init(13929);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Read_OutputArguments = Identifiers.init(13930);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_RemoveCertificate_InputArguments = Identifiers.init(13948);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_SetPosition_InputArguments = Identifiers.init(13937);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Size = Identifiers.init(13918);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_UserWritable = Identifiers.init(13920);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Writable = Identifiers.init(13919);
+    public static final NodeId CertificateGroupFolderType_AdditionalGroup_Placeholder_TrustList_Write_InputArguments = Identifiers.init(13932);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_CertificateTypes = Identifiers.init(13847);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(13844);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(13841);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(13842);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Close_InputArguments = Identifiers.init(13825);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_GetPosition_InputArguments = Identifiers.init(13832);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(13833);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_LastUpdateTime = Identifiers.init(13836);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_MimeType = Identifiers.init(13820);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_OpenCount = Identifiers.init(13819);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(13838);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(13839);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Open_InputArguments = Identifiers.init(13822);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Open_OutputArguments = Identifiers.init(13823);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Read_InputArguments = Identifiers.init(13827);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Read_OutputArguments = Identifiers.init(13828);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(13846);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_SetPosition_InputArguments = Identifiers.init(13835);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Size = Identifiers.init(13816);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_UserWritable = Identifiers.init(13818);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Writable = Identifiers.init(13817);
+    public static final NodeId CertificateGroupFolderType_DefaultApplicationGroup_TrustList_Write_InputArguments = Identifiers.init(13830);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_CertificateTypes = Identifiers.init(13881);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(13878);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(13875);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(13876);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Close_InputArguments = Identifiers.init(13859);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_GetPosition_InputArguments = Identifiers.init(13866);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(13867);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_LastUpdateTime = Identifiers.init(13870);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_MimeType = Identifiers.init(13854);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_OpenCount = Identifiers.init(13853);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(13872);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(13873);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Open_InputArguments = Identifiers.init(13856);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Open_OutputArguments = Identifiers.init(13857);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Read_InputArguments = Identifiers.init(13861);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Read_OutputArguments = Identifiers.init(13862);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(13880);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_SetPosition_InputArguments = Identifiers.init(13869);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Size = Identifiers.init(13850);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_UserWritable = Identifiers.init(13852);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Writable = Identifiers.init(13851);
+    public static final NodeId CertificateGroupFolderType_DefaultHttpsGroup_TrustList_Write_InputArguments = Identifiers.init(13864);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_CertificateTypes = Identifiers.init(13915);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(13912);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(13909);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(13910);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Close_InputArguments = Identifiers.init(13893);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_GetPosition_InputArguments = Identifiers.init(13900);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(13901);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_LastUpdateTime = Identifiers.init(13904);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_MimeType = Identifiers.init(13888);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_OpenCount = Identifiers.init(13887);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(13906);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(13907);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Open_InputArguments = Identifiers.init(13890);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Open_OutputArguments = Identifiers.init(13891);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Read_InputArguments = Identifiers.init(13895);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Read_OutputArguments = Identifiers.init(13896);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(13914);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_SetPosition_InputArguments = Identifiers.init(13903);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Size = Identifiers.init(13884);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_UserWritable = Identifiers.init(13886);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Writable = Identifiers.init(13885);
+    public static final NodeId CertificateGroupFolderType_DefaultUserTokenGroup_TrustList_Write_InputArguments = Identifiers.init(13898);
+    public static final NodeId CertificateGroupType_CertificateTypes = Identifiers.init(13631);
+    public static final NodeId CertificateGroupType_TrustList_AddCertificate_InputArguments = Identifiers.init(13628);
+    public static final NodeId CertificateGroupType_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(13625);
+    public static final NodeId CertificateGroupType_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(13626);
+    public static final NodeId CertificateGroupType_TrustList_Close_InputArguments = Identifiers.init(13609);
+    public static final NodeId CertificateGroupType_TrustList_GetPosition_InputArguments = Identifiers.init(13616);
+    public static final NodeId CertificateGroupType_TrustList_GetPosition_OutputArguments = Identifiers.init(13617);
+    public static final NodeId CertificateGroupType_TrustList_LastUpdateTime = Identifiers.init(13620);
+    public static final NodeId CertificateGroupType_TrustList_MimeType = Identifiers.init(13604);
+    public static final NodeId CertificateGroupType_TrustList_OpenCount = Identifiers.init(13603);
+    public static final NodeId CertificateGroupType_TrustList_OpenWithMasks_InputArguments = Identifiers.init(13622);
+    public static final NodeId CertificateGroupType_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(13623);
+    public static final NodeId CertificateGroupType_TrustList_Open_InputArguments = Identifiers.init(13606);
+    public static final NodeId CertificateGroupType_TrustList_Open_OutputArguments = Identifiers.init(13607);
+    public static final NodeId CertificateGroupType_TrustList_Read_InputArguments = Identifiers.init(13611);
+    public static final NodeId CertificateGroupType_TrustList_Read_OutputArguments = Identifiers.init(13612);
+    public static final NodeId CertificateGroupType_TrustList_RemoveCertificate_InputArguments = Identifiers.init(13630);
+    public static final NodeId CertificateGroupType_TrustList_SetPosition_InputArguments = Identifiers.init(13619);
+    public static final NodeId CertificateGroupType_TrustList_Size = Identifiers.init(13600);
+    public static final NodeId CertificateGroupType_TrustList_UserWritable = Identifiers.init(13602);
+    public static final NodeId CertificateGroupType_TrustList_Writable = Identifiers.init(13601);
+    public static final NodeId CertificateGroupType_TrustList_Write_InputArguments = Identifiers.init(13614);
+    public static final NodeId CertificateUpdatedAuditEventType_ActionTimeStamp = Identifiers.init(12630);
+    public static final NodeId CertificateUpdatedAuditEventType_CertificateGroup = Identifiers.init(13735);
+    public static final NodeId CertificateUpdatedAuditEventType_CertificateType = Identifiers.init(13736);
+    public static final NodeId CertificateUpdatedAuditEventType_ClientAuditEntryId = Identifiers.init(12633);
+    public static final NodeId CertificateUpdatedAuditEventType_ClientUserId = Identifiers.init(12634);
+    public static final NodeId CertificateUpdatedAuditEventType_EventId = Identifiers.init(12621);
+    public static final NodeId CertificateUpdatedAuditEventType_EventType = Identifiers.init(12622);
+    public static final NodeId CertificateUpdatedAuditEventType_InputArguments = Identifiers.init(12636);
+    public static final NodeId CertificateUpdatedAuditEventType_LocalTime = Identifiers.init(12627);
+    public static final NodeId CertificateUpdatedAuditEventType_Message = Identifiers.init(12628);
+    public static final NodeId CertificateUpdatedAuditEventType_MethodId = Identifiers.init(12635);
+    public static final NodeId CertificateUpdatedAuditEventType_ReceiveTime = Identifiers.init(12626);
+    public static final NodeId CertificateUpdatedAuditEventType_ServerId = Identifiers.init(12632);
+    public static final NodeId CertificateUpdatedAuditEventType_Severity = Identifiers.init(12629);
+    public static final NodeId CertificateUpdatedAuditEventType_SourceName = Identifiers.init(12624);
+    public static final NodeId CertificateUpdatedAuditEventType_SourceNode = Identifiers.init(12623);
+    public static final NodeId CertificateUpdatedAuditEventType_Status = Identifiers.init(12631);
+    public static final NodeId CertificateUpdatedAuditEventType_Time = Identifiers.init(12625);
+    public static final NodeId CloseAndUpdateMethodType_InputArguments = Identifiers.init(12704);
+    public static final NodeId CloseAndUpdateMethodType_OutputArguments = Identifiers.init(12517);
+    public static final NodeId CloseMethodType_InputArguments = Identifiers.init(11742);
+    public static final NodeId ConditionRefresh2MethodType_InputArguments = Identifiers.init(12915);
+    public static final NodeId ConditionRefreshMethodType_InputArguments = Identifiers.init(9008);
+    public static final NodeId ConditionType_AddComment_InputArguments = Identifiers.init(9030);
+    public static final NodeId ConditionType_BranchId = Identifiers.init(9010);
+    public static final NodeId ConditionType_ClientUserId = Identifiers.init(9026);
+    public static final NodeId ConditionType_Comment = Identifiers.init(9024);
+    public static final NodeId ConditionType_Comment_SourceTimestamp = Identifiers.init(9025);
+    public static final NodeId ConditionType_ConditionClassId = Identifiers.init(11112);
+    public static final NodeId ConditionType_ConditionClassName = Identifiers.init(11113);
+    public static final NodeId ConditionType_ConditionName = Identifiers.init(9009);
+    public static final NodeId ConditionType_ConditionRefresh2_InputArguments = Identifiers.init(12913);
+    public static final NodeId ConditionType_ConditionRefresh_InputArguments = Identifiers.init(3876);
+    public static final NodeId ConditionType_EnabledState = Identifiers.init(9011);
+    public static final NodeId ConditionType_EnabledState_EffectiveDisplayName = Identifiers.init(9015);
+    public static final NodeId ConditionType_EnabledState_EffectiveTransitionTime = Identifiers.init(9017);
+    public static final NodeId ConditionType_EnabledState_FalseState = Identifiers.init(9019);
+    public static final NodeId ConditionType_EnabledState_Id = Identifiers.init(9012);
+    public static final NodeId ConditionType_EnabledState_Name = Identifiers.init(9013);
+    public static final NodeId ConditionType_EnabledState_Number = Identifiers.init(9014);
+    public static final NodeId ConditionType_EnabledState_TransitionTime = Identifiers.init(9016);
+    public static final NodeId ConditionType_EnabledState_TrueState = Identifiers.init(9018);
+    public static final NodeId ConditionType_EventId = Identifiers.init(3865);
+    public static final NodeId ConditionType_EventType = Identifiers.init(3866);
+    public static final NodeId ConditionType_LastSeverity = Identifiers.init(9022);
+    public static final NodeId ConditionType_LastSeverity_SourceTimestamp = Identifiers.init(9023);
+    public static final NodeId ConditionType_LocalTime = Identifiers.init(3871);
+    public static final NodeId ConditionType_Message = Identifiers.init(3872);
+    public static final NodeId ConditionType_Quality = Identifiers.init(9020);
+    public static final NodeId ConditionType_Quality_SourceTimestamp = Identifiers.init(9021);
+    public static final NodeId ConditionType_ReceiveTime = Identifiers.init(3870);
+    public static final NodeId ConditionType_Retain = Identifiers.init(3874);
+    public static final NodeId ConditionType_Severity = Identifiers.init(3873);
+    public static final NodeId ConditionType_SourceName = Identifiers.init(3868);
+    public static final NodeId ConditionType_SourceNode = Identifiers.init(3867);
+    public static final NodeId ConditionType_Time = Identifiers.init(3869);
+    public static final NodeId ConditionVariableType_SourceTimestamp = Identifiers.init(9003);
+    public static final NodeId CreateDirectoryMethodType_InputArguments = Identifiers.init(13343);
+    public static final NodeId CreateDirectoryMethodType_OutputArguments = Identifiers.init(13344);
+    public static final NodeId CreateFileMethodType_InputArguments = Identifiers.init(13346);
+    public static final NodeId CreateFileMethodType_OutputArguments = Identifiers.init(13347);
+    public static final NodeId CreateSigningRequestMethodType_InputArguments = Identifiers.init(12742);
+    public static final NodeId CreateSigningRequestMethodType_OutputArguments = Identifiers.init(12743);
+    public static final NodeId CubeItemType_AxisScaleType = Identifiers.init(12064);
+    public static final NodeId CubeItemType_Definition = Identifiers.init(12058);
+    public static final NodeId CubeItemType_EURange = Identifiers.init(12061);
+    public static final NodeId CubeItemType_EngineeringUnits = Identifiers.init(12062);
+    public static final NodeId CubeItemType_InstrumentRange = Identifiers.init(12060);
+    public static final NodeId CubeItemType_Title = Identifiers.init(12063);
+    public static final NodeId CubeItemType_ValuePrecision = Identifiers.init(12059);
+    public static final NodeId CubeItemType_XAxisDefinition = Identifiers.init(12065);
+    public static final NodeId CubeItemType_YAxisDefinition = Identifiers.init(12066);
+    public static final NodeId CubeItemType_ZAxisDefinition = Identifiers.init(12067);
+    public static final NodeId DataChangeTrigger_EnumStrings = Identifiers.init(7609);
+    public static final NodeId DataItemType_Definition = Identifiers.init(2366);
+    public static final NodeId DataItemType_ValuePrecision = Identifiers.init(2367);
+    public static final NodeId DataTypeDescriptionType_DataTypeVersion = Identifiers.init(104);
+    public static final NodeId DataTypeDescriptionType_DictionaryFragment = Identifiers.init(105);
+    public static final NodeId DataTypeDictionaryType_DataTypeVersion = Identifiers.init(106);
+    public static final NodeId DataTypeDictionaryType_NamespaceUri = Identifiers.init(107);
+    public static final NodeId DeadbandType_EnumStrings = Identifiers.init(7610);
+    public static final NodeId DeleteFileMethodType_InputArguments = Identifiers.init(13349);
+    public static final NodeId DeviceFailureEventType_EventId = Identifiers.init(3662);
+    public static final NodeId DeviceFailureEventType_EventType = Identifiers.init(3663);
+    public static final NodeId DeviceFailureEventType_LocalTime = Identifiers.init(3668);
+    public static final NodeId DeviceFailureEventType_Message = Identifiers.init(3669);
+    public static final NodeId DeviceFailureEventType_ReceiveTime = Identifiers.init(3667);
+    public static final NodeId DeviceFailureEventType_Severity = Identifiers.init(3670);
+    public static final NodeId DeviceFailureEventType_SourceName = Identifiers.init(3665);
+    public static final NodeId DeviceFailureEventType_SourceNode = Identifiers.init(3664);
+    public static final NodeId DeviceFailureEventType_Time = Identifiers.init(3666);
+    public static final NodeId DialogConditionType_AddComment_InputArguments = Identifiers.init(9054);
+    public static final NodeId DialogConditionType_BranchId = Identifiers.init(9034);
+    public static final NodeId DialogConditionType_CancelResponse = Identifiers.init(9067);
+    public static final NodeId DialogConditionType_ClientUserId = Identifiers.init(9050);
+    public static final NodeId DialogConditionType_Comment = Identifiers.init(9048);
+    public static final NodeId DialogConditionType_Comment_SourceTimestamp = Identifiers.init(9049);
+    public static final NodeId DialogConditionType_ConditionClassId = Identifiers.init(11114);
+    public static final NodeId DialogConditionType_ConditionClassName = Identifiers.init(11115);
+    public static final NodeId DialogConditionType_ConditionName = Identifiers.init(9033);
+    public static final NodeId DialogConditionType_ConditionRefresh2_InputArguments = Identifiers.init(12917);
+    public static final NodeId DialogConditionType_ConditionRefresh_InputArguments = Identifiers.init(4199);
+    public static final NodeId DialogConditionType_DefaultResponse = Identifiers.init(9065);
+    public static final NodeId DialogConditionType_DialogState = Identifiers.init(9055);
+    public static final NodeId DialogConditionType_DialogState_EffectiveDisplayName = Identifiers.init(9059);
+    public static final NodeId DialogConditionType_DialogState_EffectiveTransitionTime = Identifiers.init(9061);
+    public static final NodeId DialogConditionType_DialogState_FalseState = Identifiers.init(9063);
+    public static final NodeId DialogConditionType_DialogState_Id = Identifiers.init(9056);
+    public static final NodeId DialogConditionType_DialogState_Name = Identifiers.init(9057);
+    public static final NodeId DialogConditionType_DialogState_Number = Identifiers.init(9058);
+    public static final NodeId DialogConditionType_DialogState_TransitionTime = Identifiers.init(9060);
+    public static final NodeId DialogConditionType_DialogState_TrueState = Identifiers.init(9062);
+    public static final NodeId DialogConditionType_EnabledState = Identifiers.init(9035);
+    public static final NodeId DialogConditionType_EnabledState_EffectiveDisplayName = Identifiers.init(9039);
+    public static final NodeId DialogConditionType_EnabledState_EffectiveTransitionTime = Identifiers.init(9041);
+    public static final NodeId DialogConditionType_EnabledState_FalseState = Identifiers.init(9043);
+    public static final NodeId DialogConditionType_EnabledState_Id = Identifiers.init(9036);
+    public static final NodeId DialogConditionType_EnabledState_Name = Identifiers.init(9037);
+    public static final NodeId DialogConditionType_EnabledState_Number = Identifiers.init(9038);
+    public static final NodeId DialogConditionType_EnabledState_TransitionTime = Identifiers.init(9040);
+    public static final NodeId DialogConditionType_EnabledState_TrueState = Identifiers.init(9042);
+    public static final NodeId DialogConditionType_EventId = Identifiers.init(4188);
+    public static final NodeId DialogConditionType_EventType = Identifiers.init(4189);
+    public static final NodeId DialogConditionType_LastResponse = Identifiers.init(9068);
+    public static final NodeId DialogConditionType_LastSeverity = Identifiers.init(9046);
+    public static final NodeId DialogConditionType_LastSeverity_SourceTimestamp = Identifiers.init(9047);
+    public static final NodeId DialogConditionType_LocalTime = Identifiers.init(4194);
+    public static final NodeId DialogConditionType_Message = Identifiers.init(4195);
+    public static final NodeId DialogConditionType_OkResponse = Identifiers.init(9066);
+    public static final NodeId DialogConditionType_Prompt = Identifiers.init(2831);
+    public static final NodeId DialogConditionType_Quality = Identifiers.init(9044);
+    public static final NodeId DialogConditionType_Quality_SourceTimestamp = Identifiers.init(9045);
+    public static final NodeId DialogConditionType_ReceiveTime = Identifiers.init(4193);
+    public static final NodeId DialogConditionType_Respond_InputArguments = Identifiers.init(9070);
+    public static final NodeId DialogConditionType_ResponseOptionSet = Identifiers.init(9064);
+    public static final NodeId DialogConditionType_Retain = Identifiers.init(4197);
+    public static final NodeId DialogConditionType_Severity = Identifiers.init(4196);
+    public static final NodeId DialogConditionType_SourceName = Identifiers.init(4191);
+    public static final NodeId DialogConditionType_SourceNode = Identifiers.init(4190);
+    public static final NodeId DialogConditionType_Time = Identifiers.init(4192);
+    public static final NodeId DialogResponseMethodType_InputArguments = Identifiers.init(9032);
+    public static final NodeId DiscreteAlarmType_AckedState = Identifiers.init(10558);
+    public static final NodeId DiscreteAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(10562);
+    public static final NodeId DiscreteAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(10564);
+    public static final NodeId DiscreteAlarmType_AckedState_FalseState = Identifiers.init(10566);
+    public static final NodeId DiscreteAlarmType_AckedState_Id = Identifiers.init(10559);
+    public static final NodeId DiscreteAlarmType_AckedState_Name = Identifiers.init(10560);
+    public static final NodeId DiscreteAlarmType_AckedState_Number = Identifiers.init(10561);
+    public static final NodeId DiscreteAlarmType_AckedState_TransitionTime = Identifiers.init(10563);
+    public static final NodeId DiscreteAlarmType_AckedState_TrueState = Identifiers.init(10565);
+    public static final NodeId DiscreteAlarmType_Acknowledge_InputArguments = Identifiers.init(10577);
+    public static final NodeId DiscreteAlarmType_ActiveState = Identifiers.init(10580);
+    public static final NodeId DiscreteAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(10584);
+    public static final NodeId DiscreteAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(10586);
+    public static final NodeId DiscreteAlarmType_ActiveState_FalseState = Identifiers.init(10588);
+    public static final NodeId DiscreteAlarmType_ActiveState_Id = Identifiers.init(10581);
+    public static final NodeId DiscreteAlarmType_ActiveState_Name = Identifiers.init(10582);
+    public static final NodeId DiscreteAlarmType_ActiveState_Number = Identifiers.init(10583);
+    public static final NodeId DiscreteAlarmType_ActiveState_TransitionTime = Identifiers.init(10585);
+    public static final NodeId DiscreteAlarmType_ActiveState_TrueState = Identifiers.init(10587);
+    public static final NodeId DiscreteAlarmType_AddComment_InputArguments = Identifiers.init(10555);
+    public static final NodeId DiscreteAlarmType_BranchId = Identifiers.init(10534);
+    public static final NodeId DiscreteAlarmType_ClientUserId = Identifiers.init(10551);
+    public static final NodeId DiscreteAlarmType_Comment = Identifiers.init(10549);
+    public static final NodeId DiscreteAlarmType_Comment_SourceTimestamp = Identifiers.init(10550);
+    public static final NodeId DiscreteAlarmType_ConditionClassId = Identifiers.init(11152);
+    public static final NodeId DiscreteAlarmType_ConditionClassName = Identifiers.init(11153);
+    public static final NodeId DiscreteAlarmType_ConditionName = Identifiers.init(10533);
+    public static final NodeId DiscreteAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(13005);
+    public static final NodeId DiscreteAlarmType_ConditionRefresh_InputArguments = Identifiers.init(10557);
+    public static final NodeId DiscreteAlarmType_Confirm_InputArguments = Identifiers.init(10579);
+    public static final NodeId DiscreteAlarmType_ConfirmedState = Identifiers.init(10567);
+    public static final NodeId DiscreteAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(10571);
+    public static final NodeId DiscreteAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(10573);
+    public static final NodeId DiscreteAlarmType_ConfirmedState_FalseState = Identifiers.init(10575);
+    public static final NodeId DiscreteAlarmType_ConfirmedState_Id = Identifiers.init(10568);
+    public static final NodeId DiscreteAlarmType_ConfirmedState_Name = Identifiers.init(10569);
+    public static final NodeId DiscreteAlarmType_ConfirmedState_Number = Identifiers.init(10570);
+    public static final NodeId DiscreteAlarmType_ConfirmedState_TransitionTime = Identifiers.init(10572);
+    public static final NodeId DiscreteAlarmType_ConfirmedState_TrueState = Identifiers.init(10574);
+    public static final NodeId DiscreteAlarmType_EnabledState = Identifiers.init(10536);
+    public static final NodeId DiscreteAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(10540);
+    public static final NodeId DiscreteAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(10542);
+    public static final NodeId DiscreteAlarmType_EnabledState_FalseState = Identifiers.init(10544);
+    public static final NodeId DiscreteAlarmType_EnabledState_Id = Identifiers.init(10537);
+    public static final NodeId DiscreteAlarmType_EnabledState_Name = Identifiers.init(10538);
+    public static final NodeId DiscreteAlarmType_EnabledState_Number = Identifiers.init(10539);
+    public static final NodeId DiscreteAlarmType_EnabledState_TransitionTime = Identifiers.init(10541);
+    public static final NodeId DiscreteAlarmType_EnabledState_TrueState = Identifiers.init(10543);
+    public static final NodeId DiscreteAlarmType_EventId = Identifiers.init(10524);
+    public static final NodeId DiscreteAlarmType_EventType = Identifiers.init(10525);
+    public static final NodeId DiscreteAlarmType_InputNode = Identifiers.init(11154);
+    public static final NodeId DiscreteAlarmType_LastSeverity = Identifiers.init(10547);
+    public static final NodeId DiscreteAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(10548);
+    public static final NodeId DiscreteAlarmType_LocalTime = Identifiers.init(10530);
+    public static final NodeId DiscreteAlarmType_MaxTimeShelved = Identifiers.init(10636);
+    public static final NodeId DiscreteAlarmType_Message = Identifiers.init(10531);
+    public static final NodeId DiscreteAlarmType_Quality = Identifiers.init(10545);
+    public static final NodeId DiscreteAlarmType_Quality_SourceTimestamp = Identifiers.init(10546);
+    public static final NodeId DiscreteAlarmType_ReceiveTime = Identifiers.init(10529);
+    public static final NodeId DiscreteAlarmType_Retain = Identifiers.init(10535);
+    public static final NodeId DiscreteAlarmType_Severity = Identifiers.init(10532);
+    public static final NodeId DiscreteAlarmType_ShelvingState_CurrentState = Identifiers.init(10599);
+    public static final NodeId DiscreteAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(10603);
+    public static final NodeId DiscreteAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(10600);
+    public static final NodeId DiscreteAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(10601);
+    public static final NodeId DiscreteAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(10602);
+    public static final NodeId DiscreteAlarmType_ShelvingState_LastTransition = Identifiers.init(10604);
+    public static final NodeId DiscreteAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11481);
+    public static final NodeId DiscreteAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(10605);
+    public static final NodeId DiscreteAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(10606);
+    public static final NodeId DiscreteAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(10607);
+    public static final NodeId DiscreteAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(10608);
+    public static final NodeId DiscreteAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(10634);
+    public static final NodeId DiscreteAlarmType_ShelvingState_UnshelveTime = Identifiers.init(10609);
+    public static final NodeId DiscreteAlarmType_SourceName = Identifiers.init(10527);
+    public static final NodeId DiscreteAlarmType_SourceNode = Identifiers.init(10526);
+    public static final NodeId DiscreteAlarmType_SuppressedOrShelved = Identifiers.init(10635);
+    public static final NodeId DiscreteAlarmType_SuppressedState = Identifiers.init(10589);
+    public static final NodeId DiscreteAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(10593);
+    public static final NodeId DiscreteAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(10595);
+    public static final NodeId DiscreteAlarmType_SuppressedState_FalseState = Identifiers.init(10597);
+    public static final NodeId DiscreteAlarmType_SuppressedState_Id = Identifiers.init(10590);
+    public static final NodeId DiscreteAlarmType_SuppressedState_Name = Identifiers.init(10591);
+    public static final NodeId DiscreteAlarmType_SuppressedState_Number = Identifiers.init(10592);
+    public static final NodeId DiscreteAlarmType_SuppressedState_TransitionTime = Identifiers.init(10594);
+    public static final NodeId DiscreteAlarmType_SuppressedState_TrueState = Identifiers.init(10596);
+    public static final NodeId DiscreteAlarmType_Time = Identifiers.init(10528);
+    public static final NodeId DiscreteItemType_Definition = Identifiers.init(3776);
+    public static final NodeId DiscreteItemType_ValuePrecision = Identifiers.init(3777);
+ 
+}
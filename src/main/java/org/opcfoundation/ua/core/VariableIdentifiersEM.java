@@ -0,0 +1,742 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard variables, of the types and instances starting with E-M. Accessed through {@link Identifiers}.
+ */
+public interface VariableIdentifiersEM {
+	
+    public static final NodeId EngineeringUnits = Identifiers.init(11513);
+    public static final NodeId EnumStrings = Identifiers.init(11432);
+    public static final NodeId EnumValues = Identifiers.init(3071);
+    public static final NodeId EventQueueOverflowEventType_EventId = Identifiers.init(3191);
+    public static final NodeId EventQueueOverflowEventType_EventType = Identifiers.init(3192);
+    public static final NodeId EventQueueOverflowEventType_LocalTime = Identifiers.init(3197);
+    public static final NodeId EventQueueOverflowEventType_Message = Identifiers.init(3198);
+    public static final NodeId EventQueueOverflowEventType_ReceiveTime = Identifiers.init(3196);
+    public static final NodeId EventQueueOverflowEventType_Severity = Identifiers.init(3199);
+    public static final NodeId EventQueueOverflowEventType_SourceName = Identifiers.init(3194);
+    public static final NodeId EventQueueOverflowEventType_SourceNode = Identifiers.init(3193);
+    public static final NodeId EventQueueOverflowEventType_Time = Identifiers.init(3195);
+    public static final NodeId ExceptionDeviationFormat_EnumStrings = Identifiers.init(7614);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState = Identifiers.init(9799);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(9803);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(9805);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState_FalseState = Identifiers.init(9807);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState_Id = Identifiers.init(9800);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState_Name = Identifiers.init(9801);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState_Number = Identifiers.init(9802);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState_TransitionTime = Identifiers.init(9804);
+    public static final NodeId ExclusiveDeviationAlarmType_AckedState_TrueState = Identifiers.init(9806);
+    public static final NodeId ExclusiveDeviationAlarmType_Acknowledge_InputArguments = Identifiers.init(9818);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState = Identifiers.init(9821);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(9825);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(9827);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState_FalseState = Identifiers.init(9829);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState_Id = Identifiers.init(9822);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState_Name = Identifiers.init(9823);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState_Number = Identifiers.init(9824);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState_TransitionTime = Identifiers.init(9826);
+    public static final NodeId ExclusiveDeviationAlarmType_ActiveState_TrueState = Identifiers.init(9828);
+    public static final NodeId ExclusiveDeviationAlarmType_AddComment_InputArguments = Identifiers.init(9796);
+    public static final NodeId ExclusiveDeviationAlarmType_BranchId = Identifiers.init(9775);
+    public static final NodeId ExclusiveDeviationAlarmType_ClientUserId = Identifiers.init(9792);
+    public static final NodeId ExclusiveDeviationAlarmType_Comment = Identifiers.init(9790);
+    public static final NodeId ExclusiveDeviationAlarmType_Comment_SourceTimestamp = Identifiers.init(9791);
+    public static final NodeId ExclusiveDeviationAlarmType_ConditionClassId = Identifiers.init(11137);
+    public static final NodeId ExclusiveDeviationAlarmType_ConditionClassName = Identifiers.init(11138);
+    public static final NodeId ExclusiveDeviationAlarmType_ConditionName = Identifiers.init(9774);
+    public static final NodeId ExclusiveDeviationAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(12999);
+    public static final NodeId ExclusiveDeviationAlarmType_ConditionRefresh_InputArguments = Identifiers.init(9798);
+    public static final NodeId ExclusiveDeviationAlarmType_Confirm_InputArguments = Identifiers.init(9820);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState = Identifiers.init(9808);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(9812);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(9814);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState_FalseState = Identifiers.init(9816);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState_Id = Identifiers.init(9809);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState_Name = Identifiers.init(9810);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState_Number = Identifiers.init(9811);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState_TransitionTime = Identifiers.init(9813);
+    public static final NodeId ExclusiveDeviationAlarmType_ConfirmedState_TrueState = Identifiers.init(9815);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState = Identifiers.init(9777);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(9781);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(9783);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState_FalseState = Identifiers.init(9785);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState_Id = Identifiers.init(9778);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState_Name = Identifiers.init(9779);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState_Number = Identifiers.init(9780);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState_TransitionTime = Identifiers.init(9782);
+    public static final NodeId ExclusiveDeviationAlarmType_EnabledState_TrueState = Identifiers.init(9784);
+    public static final NodeId ExclusiveDeviationAlarmType_EventId = Identifiers.init(9765);
+    public static final NodeId ExclusiveDeviationAlarmType_EventType = Identifiers.init(9766);
+    public static final NodeId ExclusiveDeviationAlarmType_HighHighLimit = Identifiers.init(9901);
+    public static final NodeId ExclusiveDeviationAlarmType_HighLimit = Identifiers.init(9902);
+    public static final NodeId ExclusiveDeviationAlarmType_InputNode = Identifiers.init(11139);
+    public static final NodeId ExclusiveDeviationAlarmType_LastSeverity = Identifiers.init(9788);
+    public static final NodeId ExclusiveDeviationAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(9789);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_CurrentState = Identifiers.init(9879);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_CurrentState_EffectiveDisplayName = Identifiers.init(9883);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_CurrentState_Id = Identifiers.init(9880);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_CurrentState_Name = Identifiers.init(9881);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_CurrentState_Number = Identifiers.init(9882);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_LastTransition = Identifiers.init(9884);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_LastTransition_EffectiveTransitionTime = Identifiers.init(11476);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_LastTransition_Id = Identifiers.init(9885);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_LastTransition_Name = Identifiers.init(9886);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_LastTransition_Number = Identifiers.init(9887);
+    public static final NodeId ExclusiveDeviationAlarmType_LimitState_LastTransition_TransitionTime = Identifiers.init(9888);
+    public static final NodeId ExclusiveDeviationAlarmType_LocalTime = Identifiers.init(9771);
+    public static final NodeId ExclusiveDeviationAlarmType_LowLimit = Identifiers.init(9903);
+    public static final NodeId ExclusiveDeviationAlarmType_LowLowLimit = Identifiers.init(9904);
+    public static final NodeId ExclusiveDeviationAlarmType_MaxTimeShelved = Identifiers.init(9877);
+    public static final NodeId ExclusiveDeviationAlarmType_Message = Identifiers.init(9772);
+    public static final NodeId ExclusiveDeviationAlarmType_Quality = Identifiers.init(9786);
+    public static final NodeId ExclusiveDeviationAlarmType_Quality_SourceTimestamp = Identifiers.init(9787);
+    public static final NodeId ExclusiveDeviationAlarmType_ReceiveTime = Identifiers.init(9770);
+    public static final NodeId ExclusiveDeviationAlarmType_Retain = Identifiers.init(9776);
+    public static final NodeId ExclusiveDeviationAlarmType_SetpointNode = Identifiers.init(9905);
+    public static final NodeId ExclusiveDeviationAlarmType_Severity = Identifiers.init(9773);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_CurrentState = Identifiers.init(9840);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(9844);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(9841);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(9842);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(9843);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_LastTransition = Identifiers.init(9845);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11475);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(9846);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(9847);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(9848);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(9849);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(9875);
+    public static final NodeId ExclusiveDeviationAlarmType_ShelvingState_UnshelveTime = Identifiers.init(9850);
+    public static final NodeId ExclusiveDeviationAlarmType_SourceName = Identifiers.init(9768);
+    public static final NodeId ExclusiveDeviationAlarmType_SourceNode = Identifiers.init(9767);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedOrShelved = Identifiers.init(9876);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState = Identifiers.init(9830);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(9834);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(9836);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState_FalseState = Identifiers.init(9838);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState_Id = Identifiers.init(9831);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState_Name = Identifiers.init(9832);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState_Number = Identifiers.init(9833);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState_TransitionTime = Identifiers.init(9835);
+    public static final NodeId ExclusiveDeviationAlarmType_SuppressedState_TrueState = Identifiers.init(9837);
+    public static final NodeId ExclusiveDeviationAlarmType_Time = Identifiers.init(9769);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState = Identifiers.init(9517);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(9521);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(9523);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState_FalseState = Identifiers.init(9525);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState_Id = Identifiers.init(9518);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState_Name = Identifiers.init(9519);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState_Number = Identifiers.init(9520);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState_TransitionTime = Identifiers.init(9522);
+    public static final NodeId ExclusiveLevelAlarmType_AckedState_TrueState = Identifiers.init(9524);
+    public static final NodeId ExclusiveLevelAlarmType_Acknowledge_InputArguments = Identifiers.init(9536);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState = Identifiers.init(9539);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(9543);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(9545);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState_FalseState = Identifiers.init(9547);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState_Id = Identifiers.init(9540);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState_Name = Identifiers.init(9541);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState_Number = Identifiers.init(9542);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState_TransitionTime = Identifiers.init(9544);
+    public static final NodeId ExclusiveLevelAlarmType_ActiveState_TrueState = Identifiers.init(9546);
+    public static final NodeId ExclusiveLevelAlarmType_AddComment_InputArguments = Identifiers.init(9514);
+    public static final NodeId ExclusiveLevelAlarmType_BranchId = Identifiers.init(9493);
+    public static final NodeId ExclusiveLevelAlarmType_ClientUserId = Identifiers.init(9510);
+    public static final NodeId ExclusiveLevelAlarmType_Comment = Identifiers.init(9508);
+    public static final NodeId ExclusiveLevelAlarmType_Comment_SourceTimestamp = Identifiers.init(9509);
+    public static final NodeId ExclusiveLevelAlarmType_ConditionClassId = Identifiers.init(11131);
+    public static final NodeId ExclusiveLevelAlarmType_ConditionClassName = Identifiers.init(11132);
+    public static final NodeId ExclusiveLevelAlarmType_ConditionName = Identifiers.init(9492);
+    public static final NodeId ExclusiveLevelAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(12995);
+    public static final NodeId ExclusiveLevelAlarmType_ConditionRefresh_InputArguments = Identifiers.init(9516);
+    public static final NodeId ExclusiveLevelAlarmType_Confirm_InputArguments = Identifiers.init(9538);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState = Identifiers.init(9526);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(9530);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(9532);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState_FalseState = Identifiers.init(9534);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState_Id = Identifiers.init(9527);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState_Name = Identifiers.init(9528);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState_Number = Identifiers.init(9529);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState_TransitionTime = Identifiers.init(9531);
+    public static final NodeId ExclusiveLevelAlarmType_ConfirmedState_TrueState = Identifiers.init(9533);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState = Identifiers.init(9495);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(9499);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(9501);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState_FalseState = Identifiers.init(9503);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState_Id = Identifiers.init(9496);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState_Name = Identifiers.init(9497);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState_Number = Identifiers.init(9498);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState_TransitionTime = Identifiers.init(9500);
+    public static final NodeId ExclusiveLevelAlarmType_EnabledState_TrueState = Identifiers.init(9502);
+    public static final NodeId ExclusiveLevelAlarmType_EventId = Identifiers.init(9483);
+    public static final NodeId ExclusiveLevelAlarmType_EventType = Identifiers.init(9484);
+    public static final NodeId ExclusiveLevelAlarmType_HighHighLimit = Identifiers.init(9619);
+    public static final NodeId ExclusiveLevelAlarmType_HighLimit = Identifiers.init(9620);
+    public static final NodeId ExclusiveLevelAlarmType_InputNode = Identifiers.init(11133);
+    public static final NodeId ExclusiveLevelAlarmType_LastSeverity = Identifiers.init(9506);
+    public static final NodeId ExclusiveLevelAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(9507);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_CurrentState = Identifiers.init(9597);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_CurrentState_EffectiveDisplayName = Identifiers.init(9601);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_CurrentState_Id = Identifiers.init(9598);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_CurrentState_Name = Identifiers.init(9599);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_CurrentState_Number = Identifiers.init(9600);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_LastTransition = Identifiers.init(9602);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_LastTransition_EffectiveTransitionTime = Identifiers.init(11472);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_LastTransition_Id = Identifiers.init(9603);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_LastTransition_Name = Identifiers.init(9604);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_LastTransition_Number = Identifiers.init(9605);
+    public static final NodeId ExclusiveLevelAlarmType_LimitState_LastTransition_TransitionTime = Identifiers.init(9606);
+    public static final NodeId ExclusiveLevelAlarmType_LocalTime = Identifiers.init(9489);
+    public static final NodeId ExclusiveLevelAlarmType_LowLimit = Identifiers.init(9621);
+    public static final NodeId ExclusiveLevelAlarmType_LowLowLimit = Identifiers.init(9622);
+    public static final NodeId ExclusiveLevelAlarmType_MaxTimeShelved = Identifiers.init(9595);
+    public static final NodeId ExclusiveLevelAlarmType_Message = Identifiers.init(9490);
+    public static final NodeId ExclusiveLevelAlarmType_Quality = Identifiers.init(9504);
+    public static final NodeId ExclusiveLevelAlarmType_Quality_SourceTimestamp = Identifiers.init(9505);
+    public static final NodeId ExclusiveLevelAlarmType_ReceiveTime = Identifiers.init(9488);
+    public static final NodeId ExclusiveLevelAlarmType_Retain = Identifiers.init(9494);
+    public static final NodeId ExclusiveLevelAlarmType_Severity = Identifiers.init(9491);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_CurrentState = Identifiers.init(9558);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(9562);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(9559);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(9560);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(9561);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_LastTransition = Identifiers.init(9563);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11471);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(9564);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(9565);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(9566);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(9567);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(9593);
+    public static final NodeId ExclusiveLevelAlarmType_ShelvingState_UnshelveTime = Identifiers.init(9568);
+    public static final NodeId ExclusiveLevelAlarmType_SourceName = Identifiers.init(9486);
+    public static final NodeId ExclusiveLevelAlarmType_SourceNode = Identifiers.init(9485);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedOrShelved = Identifiers.init(9594);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState = Identifiers.init(9548);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(9552);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(9554);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState_FalseState = Identifiers.init(9556);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState_Id = Identifiers.init(9549);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState_Name = Identifiers.init(9550);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState_Number = Identifiers.init(9551);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState_TransitionTime = Identifiers.init(9553);
+    public static final NodeId ExclusiveLevelAlarmType_SuppressedState_TrueState = Identifiers.init(9555);
+    public static final NodeId ExclusiveLevelAlarmType_Time = Identifiers.init(9487);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState = Identifiers.init(9376);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(9380);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(9382);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState_FalseState = Identifiers.init(9384);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState_Id = Identifiers.init(9377);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState_Name = Identifiers.init(9378);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState_Number = Identifiers.init(9379);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState_TransitionTime = Identifiers.init(9381);
+    public static final NodeId ExclusiveLimitAlarmType_AckedState_TrueState = Identifiers.init(9383);
+    public static final NodeId ExclusiveLimitAlarmType_Acknowledge_InputArguments = Identifiers.init(9395);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState = Identifiers.init(9398);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(9402);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(9404);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState_FalseState = Identifiers.init(9406);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState_Id = Identifiers.init(9399);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState_Name = Identifiers.init(9400);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState_Number = Identifiers.init(9401);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState_TransitionTime = Identifiers.init(9403);
+    public static final NodeId ExclusiveLimitAlarmType_ActiveState_TrueState = Identifiers.init(9405);
+    public static final NodeId ExclusiveLimitAlarmType_AddComment_InputArguments = Identifiers.init(9373);
+    public static final NodeId ExclusiveLimitAlarmType_BranchId = Identifiers.init(9352);
+    public static final NodeId ExclusiveLimitAlarmType_ClientUserId = Identifiers.init(9369);
+    public static final NodeId ExclusiveLimitAlarmType_Comment = Identifiers.init(9367);
+    public static final NodeId ExclusiveLimitAlarmType_Comment_SourceTimestamp = Identifiers.init(9368);
+    public static final NodeId ExclusiveLimitAlarmType_ConditionClassId = Identifiers.init(11128);
+    public static final NodeId ExclusiveLimitAlarmType_ConditionClassName = Identifiers.init(11129);
+    public static final NodeId ExclusiveLimitAlarmType_ConditionName = Identifiers.init(9351);
+    public static final NodeId ExclusiveLimitAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(12989);
+    public static final NodeId ExclusiveLimitAlarmType_ConditionRefresh_InputArguments = Identifiers.init(9375);
+    public static final NodeId ExclusiveLimitAlarmType_Confirm_InputArguments = Identifiers.init(9397);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState = Identifiers.init(9385);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(9389);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(9391);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState_FalseState = Identifiers.init(9393);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState_Id = Identifiers.init(9386);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState_Name = Identifiers.init(9387);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState_Number = Identifiers.init(9388);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState_TransitionTime = Identifiers.init(9390);
+    public static final NodeId ExclusiveLimitAlarmType_ConfirmedState_TrueState = Identifiers.init(9392);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState = Identifiers.init(9354);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(9358);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(9360);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState_FalseState = Identifiers.init(9362);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState_Id = Identifiers.init(9355);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState_Name = Identifiers.init(9356);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState_Number = Identifiers.init(9357);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState_TransitionTime = Identifiers.init(9359);
+    public static final NodeId ExclusiveLimitAlarmType_EnabledState_TrueState = Identifiers.init(9361);
+    public static final NodeId ExclusiveLimitAlarmType_EventId = Identifiers.init(9342);
+    public static final NodeId ExclusiveLimitAlarmType_EventType = Identifiers.init(9343);
+    public static final NodeId ExclusiveLimitAlarmType_HighHighLimit = Identifiers.init(9478);
+    public static final NodeId ExclusiveLimitAlarmType_HighLimit = Identifiers.init(9479);
+    public static final NodeId ExclusiveLimitAlarmType_InputNode = Identifiers.init(11130);
+    public static final NodeId ExclusiveLimitAlarmType_LastSeverity = Identifiers.init(9365);
+    public static final NodeId ExclusiveLimitAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(9366);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_CurrentState = Identifiers.init(9456);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_CurrentState_EffectiveDisplayName = Identifiers.init(9460);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_CurrentState_Id = Identifiers.init(9457);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_CurrentState_Name = Identifiers.init(9458);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_CurrentState_Number = Identifiers.init(9459);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_LastTransition = Identifiers.init(9461);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_LastTransition_EffectiveTransitionTime = Identifiers.init(11470);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_LastTransition_Id = Identifiers.init(9462);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_LastTransition_Name = Identifiers.init(9463);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_LastTransition_Number = Identifiers.init(9464);
+    public static final NodeId ExclusiveLimitAlarmType_LimitState_LastTransition_TransitionTime = Identifiers.init(9465);
+    public static final NodeId ExclusiveLimitAlarmType_LocalTime = Identifiers.init(9348);
+    public static final NodeId ExclusiveLimitAlarmType_LowLimit = Identifiers.init(9480);
+    public static final NodeId ExclusiveLimitAlarmType_LowLowLimit = Identifiers.init(9481);
+    public static final NodeId ExclusiveLimitAlarmType_MaxTimeShelved = Identifiers.init(9454);
+    public static final NodeId ExclusiveLimitAlarmType_Message = Identifiers.init(9349);
+    public static final NodeId ExclusiveLimitAlarmType_Quality = Identifiers.init(9363);
+    public static final NodeId ExclusiveLimitAlarmType_Quality_SourceTimestamp = Identifiers.init(9364);
+    public static final NodeId ExclusiveLimitAlarmType_ReceiveTime = Identifiers.init(9347);
+    public static final NodeId ExclusiveLimitAlarmType_Retain = Identifiers.init(9353);
+    public static final NodeId ExclusiveLimitAlarmType_Severity = Identifiers.init(9350);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_CurrentState = Identifiers.init(9417);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(9421);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(9418);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(9419);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(9420);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_LastTransition = Identifiers.init(9422);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11469);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(9423);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(9424);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(9425);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(9426);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(9452);
+    public static final NodeId ExclusiveLimitAlarmType_ShelvingState_UnshelveTime = Identifiers.init(9427);
+    public static final NodeId ExclusiveLimitAlarmType_SourceName = Identifiers.init(9345);
+    public static final NodeId ExclusiveLimitAlarmType_SourceNode = Identifiers.init(9344);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedOrShelved = Identifiers.init(9453);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState = Identifiers.init(9407);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(9411);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(9413);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState_FalseState = Identifiers.init(9415);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState_Id = Identifiers.init(9408);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState_Name = Identifiers.init(9409);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState_Number = Identifiers.init(9410);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState_TransitionTime = Identifiers.init(9412);
+    public static final NodeId ExclusiveLimitAlarmType_SuppressedState_TrueState = Identifiers.init(9414);
+    public static final NodeId ExclusiveLimitAlarmType_Time = Identifiers.init(9346);
+    public static final NodeId ExclusiveLimitStateMachineType_CurrentState = Identifiers.init(9319);
+    public static final NodeId ExclusiveLimitStateMachineType_CurrentState_EffectiveDisplayName = Identifiers.init(9323);
+    public static final NodeId ExclusiveLimitStateMachineType_CurrentState_Id = Identifiers.init(9320);
+    public static final NodeId ExclusiveLimitStateMachineType_CurrentState_Name = Identifiers.init(9321);
+    public static final NodeId ExclusiveLimitStateMachineType_CurrentState_Number = Identifiers.init(9322);
+    public static final NodeId ExclusiveLimitStateMachineType_HighHighToHigh_TransitionNumber = Identifiers.init(11342);
+    public static final NodeId ExclusiveLimitStateMachineType_HighHigh_StateNumber = Identifiers.init(9330);
+    public static final NodeId ExclusiveLimitStateMachineType_HighToHighHigh_TransitionNumber = Identifiers.init(11343);
+    public static final NodeId ExclusiveLimitStateMachineType_High_StateNumber = Identifiers.init(9332);
+    public static final NodeId ExclusiveLimitStateMachineType_LastTransition = Identifiers.init(9324);
+    public static final NodeId ExclusiveLimitStateMachineType_LastTransition_EffectiveTransitionTime = Identifiers.init(11468);
+    public static final NodeId ExclusiveLimitStateMachineType_LastTransition_Id = Identifiers.init(9325);
+    public static final NodeId ExclusiveLimitStateMachineType_LastTransition_Name = Identifiers.init(9326);
+    public static final NodeId ExclusiveLimitStateMachineType_LastTransition_Number = Identifiers.init(9327);
+    public static final NodeId ExclusiveLimitStateMachineType_LastTransition_TransitionTime = Identifiers.init(9328);
+    public static final NodeId ExclusiveLimitStateMachineType_LowLowToLow_TransitionNumber = Identifiers.init(11340);
+    public static final NodeId ExclusiveLimitStateMachineType_LowLow_StateNumber = Identifiers.init(9336);
+    public static final NodeId ExclusiveLimitStateMachineType_LowToLowLow_TransitionNumber = Identifiers.init(11341);
+    public static final NodeId ExclusiveLimitStateMachineType_Low_StateNumber = Identifiers.init(9334);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState = Identifiers.init(9658);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(9662);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(9664);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState_FalseState = Identifiers.init(9666);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState_Id = Identifiers.init(9659);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState_Name = Identifiers.init(9660);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState_Number = Identifiers.init(9661);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState_TransitionTime = Identifiers.init(9663);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AckedState_TrueState = Identifiers.init(9665);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Acknowledge_InputArguments = Identifiers.init(9677);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState = Identifiers.init(9680);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(9684);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(9686);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState_FalseState = Identifiers.init(9688);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState_Id = Identifiers.init(9681);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState_Name = Identifiers.init(9682);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState_Number = Identifiers.init(9683);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState_TransitionTime = Identifiers.init(9685);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ActiveState_TrueState = Identifiers.init(9687);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_AddComment_InputArguments = Identifiers.init(9655);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_BranchId = Identifiers.init(9634);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ClientUserId = Identifiers.init(9651);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Comment = Identifiers.init(9649);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Comment_SourceTimestamp = Identifiers.init(9650);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConditionClassId = Identifiers.init(11134);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConditionClassName = Identifiers.init(11135);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConditionName = Identifiers.init(9633);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(13003);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConditionRefresh_InputArguments = Identifiers.init(9657);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Confirm_InputArguments = Identifiers.init(9679);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState = Identifiers.init(9667);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(9671);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(9673);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState_FalseState = Identifiers.init(9675);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState_Id = Identifiers.init(9668);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState_Name = Identifiers.init(9669);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState_Number = Identifiers.init(9670);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState_TransitionTime = Identifiers.init(9672);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ConfirmedState_TrueState = Identifiers.init(9674);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState = Identifiers.init(9636);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(9640);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(9642);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState_FalseState = Identifiers.init(9644);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState_Id = Identifiers.init(9637);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState_Name = Identifiers.init(9638);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState_Number = Identifiers.init(9639);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState_TransitionTime = Identifiers.init(9641);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EnabledState_TrueState = Identifiers.init(9643);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EventId = Identifiers.init(9624);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_EventType = Identifiers.init(9625);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_HighHighLimit = Identifiers.init(9760);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_HighLimit = Identifiers.init(9761);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_InputNode = Identifiers.init(11136);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LastSeverity = Identifiers.init(9647);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(9648);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_CurrentState = Identifiers.init(9738);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_CurrentState_EffectiveDisplayName = Identifiers.init(9742);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_CurrentState_Id = Identifiers.init(9739);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_CurrentState_Name = Identifiers.init(9740);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_CurrentState_Number = Identifiers.init(9741);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_LastTransition = Identifiers.init(9743);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_LastTransition_EffectiveTransitionTime = Identifiers.init(11474);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_LastTransition_Id = Identifiers.init(9744);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_LastTransition_Name = Identifiers.init(9745);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_LastTransition_Number = Identifiers.init(9746);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LimitState_LastTransition_TransitionTime = Identifiers.init(9747);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LocalTime = Identifiers.init(9630);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LowLimit = Identifiers.init(9762);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_LowLowLimit = Identifiers.init(9763);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_MaxTimeShelved = Identifiers.init(9736);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Message = Identifiers.init(9631);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Quality = Identifiers.init(9645);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Quality_SourceTimestamp = Identifiers.init(9646);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ReceiveTime = Identifiers.init(9629);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Retain = Identifiers.init(9635);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Severity = Identifiers.init(9632);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState = Identifiers.init(9699);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(9703);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(9700);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(9701);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(9702);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition = Identifiers.init(9704);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11473);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(9705);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(9706);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(9707);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(9708);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(9734);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_ShelvingState_UnshelveTime = Identifiers.init(9709);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SourceName = Identifiers.init(9627);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SourceNode = Identifiers.init(9626);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedOrShelved = Identifiers.init(9735);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState = Identifiers.init(9689);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(9693);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(9695);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState_FalseState = Identifiers.init(9697);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState_Id = Identifiers.init(9690);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState_Name = Identifiers.init(9691);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState_Number = Identifiers.init(9692);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState_TransitionTime = Identifiers.init(9694);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_SuppressedState_TrueState = Identifiers.init(9696);
+    public static final NodeId ExclusiveRateOfChangeAlarmType_Time = Identifiers.init(9628);
+    public static final NodeId FileDirectoryType_CreateDirectory_InputArguments = Identifiers.init(13388);
+    public static final NodeId FileDirectoryType_CreateDirectory_OutputArguments = Identifiers.init(13389);
+    public static final NodeId FileDirectoryType_CreateFile_InputArguments = Identifiers.init(13391);
+    public static final NodeId FileDirectoryType_CreateFile_OutputArguments = Identifiers.init(13392);
+    public static final NodeId FileDirectoryType_Delete_InputArguments = Identifiers.init(13394);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_CreateDirectory_InputArguments = Identifiers.init(13356);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_CreateDirectory_OutputArguments = Identifiers.init(13357);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_CreateFile_InputArguments = Identifiers.init(13359);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_CreateFile_OutputArguments = Identifiers.init(13360);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_Delete_InputArguments = Identifiers.init(13362);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_MoveOrCopy_InputArguments = Identifiers.init(13364);
+    public static final NodeId FileDirectoryType_FileDirectoryName_Placeholder_MoveOrCopy_OutputArguments = Identifiers.init(13365);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Close_InputArguments = Identifiers.init(13376);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_GetPosition_InputArguments = Identifiers.init(13383);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_GetPosition_OutputArguments = Identifiers.init(13384);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_MimeType = Identifiers.init(13371);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_OpenCount = Identifiers.init(13370);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Open_InputArguments = Identifiers.init(13373);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Open_OutputArguments = Identifiers.init(13374);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Read_InputArguments = Identifiers.init(13378);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Read_OutputArguments = Identifiers.init(13379);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_SetPosition_InputArguments = Identifiers.init(13386);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Size = Identifiers.init(13367);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_UserWritable = Identifiers.init(13369);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Writable = Identifiers.init(13368);
+    public static final NodeId FileDirectoryType_FileName_Placeholder_Write_InputArguments = Identifiers.init(13381);
+    public static final NodeId FileDirectoryType_MoveOrCopy_InputArguments = Identifiers.init(13396);
+    public static final NodeId FileDirectoryType_MoveOrCopy_OutputArguments = Identifiers.init(13397);
+    public static final NodeId FileType_Close_InputArguments = Identifiers.init(11584);
+    public static final NodeId FileType_GetPosition_InputArguments = Identifiers.init(11591);
+    public static final NodeId FileType_GetPosition_OutputArguments = Identifiers.init(11592);
+    public static final NodeId FileType_MimeType = Identifiers.init(13341);
+    public static final NodeId FileType_OpenCount = Identifiers.init(11579);
+    public static final NodeId FileType_Open_InputArguments = Identifiers.init(11581);
+    public static final NodeId FileType_Open_OutputArguments = Identifiers.init(11582);
+    public static final NodeId FileType_Read_InputArguments = Identifiers.init(11586);
+    public static final NodeId FileType_Read_OutputArguments = Identifiers.init(11587);
+    public static final NodeId FileType_SetPosition_InputArguments = Identifiers.init(11594);
+    public static final NodeId FileType_Size = Identifiers.init(11576);
+    public static final NodeId FileType_UserWritable = Identifiers.init(12687);
+    public static final NodeId FileType_Writable = Identifiers.init(12686);
+    public static final NodeId FileType_Write_InputArguments = Identifiers.init(11589);
+    public static final NodeId FilterOperator_EnumStrings = Identifiers.init(7605);
+    public static final NodeId FiniteStateMachineType_CurrentState = Identifiers.init(2772);
+    public static final NodeId FiniteStateMachineType_CurrentState_EffectiveDisplayName = Identifiers.init(3731);
+    public static final NodeId FiniteStateMachineType_CurrentState_Id = Identifiers.init(3728);
+    public static final NodeId FiniteStateMachineType_CurrentState_Name = Identifiers.init(3729);
+    public static final NodeId FiniteStateMachineType_CurrentState_Number = Identifiers.init(3730);
+    public static final NodeId FiniteStateMachineType_LastTransition = Identifiers.init(2773);
+    public static final NodeId FiniteStateMachineType_LastTransition_EffectiveTransitionTime = Identifiers.init(11459);
+    public static final NodeId FiniteStateMachineType_LastTransition_Id = Identifiers.init(3732);
+    public static final NodeId FiniteStateMachineType_LastTransition_Name = Identifiers.init(3733);
+    public static final NodeId FiniteStateMachineType_LastTransition_Number = Identifiers.init(3734);
+    public static final NodeId FiniteStateMachineType_LastTransition_TransitionTime = Identifiers.init(3735);
+    public static final NodeId FiniteStateVariableType_EffectiveDisplayName = Identifiers.init(3716);
+    public static final NodeId FiniteStateVariableType_Id = Identifiers.init(2761);
+    public static final NodeId FiniteStateVariableType_Name = Identifiers.init(3714);
+    public static final NodeId FiniteStateVariableType_Number = Identifiers.init(3715);
+    public static final NodeId FiniteTransitionVariableType_EffectiveTransitionTime = Identifiers.init(11457);
+    public static final NodeId FiniteTransitionVariableType_Id = Identifiers.init(2768);
+    public static final NodeId FiniteTransitionVariableType_Name = Identifiers.init(3717);
+    public static final NodeId FiniteTransitionVariableType_Number = Identifiers.init(3718);
+    public static final NodeId FiniteTransitionVariableType_TransitionTime = Identifiers.init(3719);
+    public static final NodeId GeneralModelChangeEventType_Changes = Identifiers.init(2134);
+    public static final NodeId GeneralModelChangeEventType_EventId = Identifiers.init(3680);
+    public static final NodeId GeneralModelChangeEventType_EventType = Identifiers.init(3681);
+    public static final NodeId GeneralModelChangeEventType_LocalTime = Identifiers.init(3686);
+    public static final NodeId GeneralModelChangeEventType_Message = Identifiers.init(3687);
+    public static final NodeId GeneralModelChangeEventType_ReceiveTime = Identifiers.init(3685);
+    public static final NodeId GeneralModelChangeEventType_Severity = Identifiers.init(3688);
+    public static final NodeId GeneralModelChangeEventType_SourceName = Identifiers.init(3683);
+    public static final NodeId GeneralModelChangeEventType_SourceNode = Identifiers.init(3682);
+    public static final NodeId GeneralModelChangeEventType_Time = Identifiers.init(3684);
+    public static final NodeId GetMonitoredItemsMethodType_InputArguments = Identifiers.init(11496);
+    public static final NodeId GetMonitoredItemsMethodType_OutputArguments = Identifiers.init(11497);
+    public static final NodeId GetPositionMethodType_InputArguments = Identifiers.init(11749);
+    public static final NodeId GetPositionMethodType_OutputArguments = Identifiers.init(11750);
+    public static final NodeId GetRejectedListMethodType_OutputArguments = Identifiers.init(12774);
+    public static final NodeId HAConfiguration_AggregateConfiguration_PercentDataBad = Identifiers.init(11205);
+    public static final NodeId HAConfiguration_AggregateConfiguration_PercentDataGood = Identifiers.init(11206);
+    public static final NodeId HAConfiguration_AggregateConfiguration_TreatUncertainAsBad = Identifiers.init(11204);
+    public static final NodeId HAConfiguration_AggregateConfiguration_UseSlopedExtrapolation = Identifiers.init(11207);
+    public static final NodeId HAConfiguration_Definition = Identifiers.init(11209);
+    public static final NodeId HAConfiguration_ExceptionDeviation = Identifiers.init(11212);
+    public static final NodeId HAConfiguration_ExceptionDeviationFormat = Identifiers.init(11213);
+    public static final NodeId HAConfiguration_MaxTimeInterval = Identifiers.init(11210);
+    public static final NodeId HAConfiguration_MinTimeInterval = Identifiers.init(11211);
+    public static final NodeId HAConfiguration_StartOfArchive = Identifiers.init(11503);
+    public static final NodeId HAConfiguration_StartOfOnlineArchive = Identifiers.init(11504);
+    public static final NodeId HAConfiguration_Stepped = Identifiers.init(11208);
+    public static final NodeId HistoricalDataConfigurationType_AggregateConfiguration_PercentDataBad = Identifiers.init(11169);
+    public static final NodeId HistoricalDataConfigurationType_AggregateConfiguration_PercentDataGood = Identifiers.init(11170);
+    public static final NodeId HistoricalDataConfigurationType_AggregateConfiguration_TreatUncertainAsBad = Identifiers.init(11168);
+    public static final NodeId HistoricalDataConfigurationType_AggregateConfiguration_UseSlopedExtrapolation = Identifiers.init(11171);
+    public static final NodeId HistoricalDataConfigurationType_Definition = Identifiers.init(2324);
+    public static final NodeId HistoricalDataConfigurationType_ExceptionDeviation = Identifiers.init(2327);
+    public static final NodeId HistoricalDataConfigurationType_ExceptionDeviationFormat = Identifiers.init(2328);
+    public static final NodeId HistoricalDataConfigurationType_MaxTimeInterval = Identifiers.init(2325);
+    public static final NodeId HistoricalDataConfigurationType_MinTimeInterval = Identifiers.init(2326);
+    public static final NodeId HistoricalDataConfigurationType_StartOfArchive = Identifiers.init(11499);
+    public static final NodeId HistoricalDataConfigurationType_StartOfOnlineArchive = Identifiers.init(11500);
+    public static final NodeId HistoricalDataConfigurationType_Stepped = Identifiers.init(2323);
+    public static final NodeId HistoricalEventFilter = Identifiers.init(11215);
+    public static final NodeId HistoryServerCapabilitiesType_AccessHistoryDataCapability = Identifiers.init(2331);
+    public static final NodeId HistoryServerCapabilitiesType_AccessHistoryEventsCapability = Identifiers.init(2332);
+    public static final NodeId HistoryServerCapabilitiesType_DeleteAtTimeCapability = Identifiers.init(2338);
+    public static final NodeId HistoryServerCapabilitiesType_DeleteEventCapability = Identifiers.init(11501);
+    public static final NodeId HistoryServerCapabilitiesType_DeleteRawCapability = Identifiers.init(2337);
+    public static final NodeId HistoryServerCapabilitiesType_InsertAnnotationCapability = Identifiers.init(11270);
+    public static final NodeId HistoryServerCapabilitiesType_InsertDataCapability = Identifiers.init(2334);
+    public static final NodeId HistoryServerCapabilitiesType_InsertEventCapability = Identifiers.init(11278);
+    public static final NodeId HistoryServerCapabilitiesType_MaxReturnDataValues = Identifiers.init(11268);
+    public static final NodeId HistoryServerCapabilitiesType_MaxReturnEventValues = Identifiers.init(11269);
+    public static final NodeId HistoryServerCapabilitiesType_ReplaceDataCapability = Identifiers.init(2335);
+    public static final NodeId HistoryServerCapabilitiesType_ReplaceEventCapability = Identifiers.init(11279);
+    public static final NodeId HistoryServerCapabilitiesType_UpdateDataCapability = Identifiers.init(2336);
+    public static final NodeId HistoryServerCapabilitiesType_UpdateEventCapability = Identifiers.init(11280);
+    public static final NodeId HistoryServerCapabilities_AccessHistoryDataCapability = Identifiers.init(11193);
+    public static final NodeId HistoryServerCapabilities_AccessHistoryEventsCapability = Identifiers.init(11242);
+    public static final NodeId HistoryServerCapabilities_DeleteAtTimeCapability = Identifiers.init(11200);
+    public static final NodeId HistoryServerCapabilities_DeleteEventCapability = Identifiers.init(11502);
+    public static final NodeId HistoryServerCapabilities_DeleteRawCapability = Identifiers.init(11199);
+    public static final NodeId HistoryServerCapabilities_InsertAnnotationCapability = Identifiers.init(11275);
+    public static final NodeId HistoryServerCapabilities_InsertDataCapability = Identifiers.init(11196);
+    public static final NodeId HistoryServerCapabilities_InsertEventCapability = Identifiers.init(11281);
+    public static final NodeId HistoryServerCapabilities_MaxReturnDataValues = Identifiers.init(11273);
+    public static final NodeId HistoryServerCapabilities_MaxReturnEventValues = Identifiers.init(11274);
+    public static final NodeId HistoryServerCapabilities_ReplaceDataCapability = Identifiers.init(11197);
+    public static final NodeId HistoryServerCapabilities_ReplaceEventCapability = Identifiers.init(11282);
+    public static final NodeId HistoryServerCapabilities_UpdateDataCapability = Identifiers.init(11198);
+    public static final NodeId HistoryServerCapabilities_UpdateEventCapability = Identifiers.init(11283);
+    public static final NodeId HistoryUpdateType_EnumValues = Identifiers.init(11884);
+    public static final NodeId Icon = Identifiers.init(3067);
+    public static final NodeId IdType_EnumStrings = Identifiers.init(7591);
+    public static final NodeId ImageItemType_AxisScaleType = Identifiers.init(12054);
+    public static final NodeId ImageItemType_Definition = Identifiers.init(12048);
+    public static final NodeId ImageItemType_EURange = Identifiers.init(12051);
+    public static final NodeId ImageItemType_EngineeringUnits = Identifiers.init(12052);
+    public static final NodeId ImageItemType_InstrumentRange = Identifiers.init(12050);
+    public static final NodeId ImageItemType_Title = Identifiers.init(12053);
+    public static final NodeId ImageItemType_ValuePrecision = Identifiers.init(12049);
+    public static final NodeId ImageItemType_XAxisDefinition = Identifiers.init(12055);
+    public static final NodeId ImageItemType_YAxisDefinition = Identifiers.init(12056);
+    public static final NodeId InitialStateType_StateNumber = Identifiers.init(3736);
+    public static final NodeId InputArguments = Identifiers.init(3072);
+    public static final NodeId LimitAlarmType_AckedState = Identifiers.init(9239);
+    public static final NodeId LimitAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(9243);
+    public static final NodeId LimitAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(9245);
+    public static final NodeId LimitAlarmType_AckedState_FalseState = Identifiers.init(9247);
+    public static final NodeId LimitAlarmType_AckedState_Id = Identifiers.init(9240);
+    public static final NodeId LimitAlarmType_AckedState_Name = Identifiers.init(9241);
+    public static final NodeId LimitAlarmType_AckedState_Number = Identifiers.init(9242);
+    public static final NodeId LimitAlarmType_AckedState_TransitionTime = Identifiers.init(9244);
+    public static final NodeId LimitAlarmType_AckedState_TrueState = Identifiers.init(9246);
+    public static final NodeId LimitAlarmType_Acknowledge_InputArguments = Identifiers.init(9258);
+    public static final NodeId LimitAlarmType_ActiveState = Identifiers.init(9261);
+    public static final NodeId LimitAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(9265);
+    public static final NodeId LimitAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(9267);
+    public static final NodeId LimitAlarmType_ActiveState_FalseState = Identifiers.init(9269);
+    public static final NodeId LimitAlarmType_ActiveState_Id = Identifiers.init(9262);
+    public static final NodeId LimitAlarmType_ActiveState_Name = Identifiers.init(9263);
+    public static final NodeId LimitAlarmType_ActiveState_Number = Identifiers.init(9264);
+    public static final NodeId LimitAlarmType_ActiveState_TransitionTime = Identifiers.init(9266);
+    public static final NodeId LimitAlarmType_ActiveState_TrueState = Identifiers.init(9268);
+    public static final NodeId LimitAlarmType_AddComment_InputArguments = Identifiers.init(9238);
+    public static final NodeId LimitAlarmType_BranchId = Identifiers.init(9218);
+    public static final NodeId LimitAlarmType_ClientUserId = Identifiers.init(9234);
+    public static final NodeId LimitAlarmType_Comment = Identifiers.init(9232);
+    public static final NodeId LimitAlarmType_Comment_SourceTimestamp = Identifiers.init(9233);
+    public static final NodeId LimitAlarmType_ConditionClassId = Identifiers.init(11121);
+    public static final NodeId LimitAlarmType_ConditionClassName = Identifiers.init(11122);
+    public static final NodeId LimitAlarmType_ConditionName = Identifiers.init(9217);
+    public static final NodeId LimitAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(12987);
+    public static final NodeId LimitAlarmType_ConditionRefresh_InputArguments = Identifiers.init(6127);
+    public static final NodeId LimitAlarmType_Confirm_InputArguments = Identifiers.init(9260);
+    public static final NodeId LimitAlarmType_ConfirmedState = Identifiers.init(9248);
+    public static final NodeId LimitAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(9252);
+    public static final NodeId LimitAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(9254);
+    public static final NodeId LimitAlarmType_ConfirmedState_FalseState = Identifiers.init(9256);
+    public static final NodeId LimitAlarmType_ConfirmedState_Id = Identifiers.init(9249);
+    public static final NodeId LimitAlarmType_ConfirmedState_Name = Identifiers.init(9250);
+    public static final NodeId LimitAlarmType_ConfirmedState_Number = Identifiers.init(9251);
+    public static final NodeId LimitAlarmType_ConfirmedState_TransitionTime = Identifiers.init(9253);
+    public static final NodeId LimitAlarmType_ConfirmedState_TrueState = Identifiers.init(9255);
+    public static final NodeId LimitAlarmType_EnabledState = Identifiers.init(9219);
+    public static final NodeId LimitAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(9223);
+    public static final NodeId LimitAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(9225);
+    public static final NodeId LimitAlarmType_EnabledState_FalseState = Identifiers.init(9227);
+    public static final NodeId LimitAlarmType_EnabledState_Id = Identifiers.init(9220);
+    public static final NodeId LimitAlarmType_EnabledState_Name = Identifiers.init(9221);
+    public static final NodeId LimitAlarmType_EnabledState_Number = Identifiers.init(9222);
+    public static final NodeId LimitAlarmType_EnabledState_TransitionTime = Identifiers.init(9224);
+    public static final NodeId LimitAlarmType_EnabledState_TrueState = Identifiers.init(9226);
+    public static final NodeId LimitAlarmType_EventId = Identifiers.init(6116);
+    public static final NodeId LimitAlarmType_EventType = Identifiers.init(6117);
+    public static final NodeId LimitAlarmType_HighHighLimit = Identifiers.init(11124);
+    public static final NodeId LimitAlarmType_HighLimit = Identifiers.init(11125);
+    public static final NodeId LimitAlarmType_InputNode = Identifiers.init(11123);
+    public static final NodeId LimitAlarmType_LastSeverity = Identifiers.init(9230);
+    public static final NodeId LimitAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(9231);
+    public static final NodeId LimitAlarmType_LocalTime = Identifiers.init(6122);
+    public static final NodeId LimitAlarmType_LowLimit = Identifiers.init(11126);
+    public static final NodeId LimitAlarmType_LowLowLimit = Identifiers.init(11127);
+    public static final NodeId LimitAlarmType_MaxTimeShelved = Identifiers.init(9317);
+    public static final NodeId LimitAlarmType_Message = Identifiers.init(6123);
+    public static final NodeId LimitAlarmType_Quality = Identifiers.init(9228);
+    public static final NodeId LimitAlarmType_Quality_SourceTimestamp = Identifiers.init(9229);
+    public static final NodeId LimitAlarmType_ReceiveTime = Identifiers.init(6121);
+    public static final NodeId LimitAlarmType_Retain = Identifiers.init(6125);
+    public static final NodeId LimitAlarmType_Severity = Identifiers.init(6124);
+    public static final NodeId LimitAlarmType_ShelvingState_CurrentState = Identifiers.init(9280);
+    public static final NodeId LimitAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(9284);
+    public static final NodeId LimitAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(9281);
+    public static final NodeId LimitAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(9282);
+    public static final NodeId LimitAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(9283);
+    public static final NodeId LimitAlarmType_ShelvingState_LastTransition = Identifiers.init(9285);
+    public static final NodeId LimitAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11467);
+    public static final NodeId LimitAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(9286);
+    public static final NodeId LimitAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(9287);
+    public static final NodeId LimitAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(9288);
+    public static final NodeId LimitAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(9289);
+    public static final NodeId LimitAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(9315);
+    public static final NodeId LimitAlarmType_ShelvingState_UnshelveTime = Identifiers.init(9290);
+    public static final NodeId LimitAlarmType_SourceName = Identifiers.init(6119);
+    public static final NodeId LimitAlarmType_SourceNode = Identifiers.init(6118);
+    public static final NodeId LimitAlarmType_SuppressedOrShelved = Identifiers.init(9316);
+    public static final NodeId LimitAlarmType_SuppressedState = Identifiers.init(9270);
+    public static final NodeId LimitAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(9274);
+    public static final NodeId LimitAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(9276);
+    public static final NodeId LimitAlarmType_SuppressedState_FalseState = Identifiers.init(9278);
+    public static final NodeId LimitAlarmType_SuppressedState_Id = Identifiers.init(9271);
+    public static final NodeId LimitAlarmType_SuppressedState_Name = Identifiers.init(9272);
+    public static final NodeId LimitAlarmType_SuppressedState_Number = Identifiers.init(9273);
+    public static final NodeId LimitAlarmType_SuppressedState_TransitionTime = Identifiers.init(9275);
+    public static final NodeId LimitAlarmType_SuppressedState_TrueState = Identifiers.init(9277);
+    public static final NodeId LimitAlarmType_Time = Identifiers.init(6120);
+    public static final NodeId LocalTime = Identifiers.init(3069);
+    public static final NodeId MaxArrayLength = Identifiers.init(11512);
+    public static final NodeId MaxByteStringLength = Identifiers.init(12908);
+    public static final NodeId MaxStringLength = Identifiers.init(11498);
+    public static final NodeId MessageSecurityMode_EnumStrings = Identifiers.init(7595);
+    public static final NodeId ModelChangeStructureVerbMask_EnumValues = Identifiers.init(11942);
+    public static final NodeId ModellingRuleType_NamingRule = Identifiers.init(111);
+    public static final NodeId ModellingRule_ExposesItsArray_NamingRule = Identifiers.init(114);
+    public static final NodeId ModellingRule_MandatoryPlaceholder_NamingRule = Identifiers.init(11511);
+    public static final NodeId ModellingRule_MandatoryShared_NamingRule = Identifiers.init(116);
+    public static final NodeId ModellingRule_Mandatory_NamingRule = Identifiers.init(112);
+    public static final NodeId ModellingRule_OptionalPlaceholder_NamingRule = Identifiers.init(11509);
+    public static final NodeId ModellingRule_Optional_NamingRule = Identifiers.init(113);
+    public static final NodeId MonitoringMode_EnumStrings = Identifiers.init(7608);
+    public static final NodeId MoveOrCopyMethodType_InputArguments = Identifiers.init(13351);
+    public static final NodeId MoveOrCopyMethodType_OutputArguments = Identifiers.init(13352);
+    public static final NodeId MultiStateDiscreteType_Definition = Identifiers.init(3780);
+    public static final NodeId MultiStateDiscreteType_EnumStrings = Identifiers.init(2377);
+    public static final NodeId MultiStateDiscreteType_ValuePrecision = Identifiers.init(3781);
+    public static final NodeId MultiStateValueDiscreteType_Definition = Identifiers.init(11239);
+    public static final NodeId MultiStateValueDiscreteType_EnumValues = Identifiers.init(11241);
+    public static final NodeId MultiStateValueDiscreteType_ValueAsText = Identifiers.init(11461);
+    public static final NodeId MultiStateValueDiscreteType_ValuePrecision = Identifiers.init(11240);
+ 
+}
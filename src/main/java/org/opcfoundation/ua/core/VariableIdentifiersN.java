@@ -0,0 +1,624 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard variables, of the types and instances starting with N. Accessed through {@link Identifiers}.
+ */
+public interface VariableIdentifiersN {
+	
+    public static final NodeId NDimensionArrayItemType_AxisDefinition = Identifiers.init(12076);
+    public static final NodeId NDimensionArrayItemType_AxisScaleType = Identifiers.init(12075);
+    public static final NodeId NDimensionArrayItemType_Definition = Identifiers.init(12069);
+    public static final NodeId NDimensionArrayItemType_EURange = Identifiers.init(12072);
+    public static final NodeId NDimensionArrayItemType_EngineeringUnits = Identifiers.init(12073);
+    public static final NodeId NDimensionArrayItemType_InstrumentRange = Identifiers.init(12071);
+    public static final NodeId NDimensionArrayItemType_Title = Identifiers.init(12074);
+    public static final NodeId NDimensionArrayItemType_ValuePrecision = Identifiers.init(12070);
+    public static final NodeId NamespaceMetadataType_IsNamespaceSubset = Identifiers.init(11620);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Close_InputArguments = Identifiers.init(11633);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_GetPosition_InputArguments = Identifiers.init(11640);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_GetPosition_OutputArguments = Identifiers.init(11641);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_MimeType = Identifiers.init(13399);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_OpenCount = Identifiers.init(11628);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Open_InputArguments = Identifiers.init(11630);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Open_OutputArguments = Identifiers.init(11631);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Read_InputArguments = Identifiers.init(11635);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Read_OutputArguments = Identifiers.init(11636);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_SetPosition_InputArguments = Identifiers.init(11643);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Size = Identifiers.init(11625);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_UserWritable = Identifiers.init(12691);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Writable = Identifiers.init(12690);
+    public static final NodeId NamespaceMetadataType_NamespaceFile_Write_InputArguments = Identifiers.init(11638);
+    public static final NodeId NamespaceMetadataType_NamespacePublicationDate = Identifiers.init(11619);
+    public static final NodeId NamespaceMetadataType_NamespaceUri = Identifiers.init(11617);
+    public static final NodeId NamespaceMetadataType_NamespaceVersion = Identifiers.init(11618);
+    public static final NodeId NamespaceMetadataType_StaticNodeIdTypes = Identifiers.init(11621);
+    public static final NodeId NamespaceMetadataType_StaticNumericNodeIdRange = Identifiers.init(11622);
+    public static final NodeId NamespaceMetadataType_StaticStringNodeIdPattern = Identifiers.init(11623);
+    public static final NodeId NamespacesType_AddressSpaceFile_Close_InputArguments = Identifiers.init(11684);
+    public static final NodeId NamespacesType_AddressSpaceFile_GetPosition_InputArguments = Identifiers.init(11691);
+    public static final NodeId NamespacesType_AddressSpaceFile_GetPosition_OutputArguments = Identifiers.init(11692);
+    public static final NodeId NamespacesType_AddressSpaceFile_MimeType = Identifiers.init(13401);
+    public static final NodeId NamespacesType_AddressSpaceFile_OpenCount = Identifiers.init(11679);
+    public static final NodeId NamespacesType_AddressSpaceFile_Open_InputArguments = Identifiers.init(11681);
+    public static final NodeId NamespacesType_AddressSpaceFile_Open_OutputArguments = Identifiers.init(11682);
+    public static final NodeId NamespacesType_AddressSpaceFile_Read_InputArguments = Identifiers.init(11686);
+    public static final NodeId NamespacesType_AddressSpaceFile_Read_OutputArguments = Identifiers.init(11687);
+    public static final NodeId NamespacesType_AddressSpaceFile_SetPosition_InputArguments = Identifiers.init(11694);
+    public static final NodeId NamespacesType_AddressSpaceFile_Size = Identifiers.init(11676);
+    public static final NodeId NamespacesType_AddressSpaceFile_UserWritable = Identifiers.init(12695);
+    public static final NodeId NamespacesType_AddressSpaceFile_Writable = Identifiers.init(12694);
+    public static final NodeId NamespacesType_AddressSpaceFile_Write_InputArguments = Identifiers.init(11689);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_IsNamespaceSubset = Identifiers.init(11650);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Close_InputArguments = Identifiers.init(11663);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_GetPosition_InputArguments = Identifiers.init(11670);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_GetPosition_OutputArguments = Identifiers.init(11671);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_MimeType = Identifiers.init(13400);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_OpenCount = Identifiers.init(11658);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Open_InputArguments = Identifiers.init(11660);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Open_OutputArguments = Identifiers.init(11661);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Read_InputArguments = Identifiers.init(11665);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Read_OutputArguments = Identifiers.init(11666);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_SetPosition_InputArguments = Identifiers.init(11673);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Size = Identifiers.init(11655);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_UserWritable = Identifiers.init(12693);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Writable = Identifiers.init(12692);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceFile_Write_InputArguments = Identifiers.init(11668);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespacePublicationDate = Identifiers.init(11649);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceUri = Identifiers.init(11647);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_NamespaceVersion = Identifiers.init(11648);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_StaticNodeIdTypes = Identifiers.init(11651);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_StaticNumericNodeIdRange = Identifiers.init(11652);
+    public static final NodeId NamespacesType_NamespaceIdentifier_Placeholder_StaticStringNodeIdPattern = Identifiers.init(11653);
+    public static final NodeId NamingRuleType_EnumValues = Identifiers.init(12169);
+    public static final NodeId NodeAttributesMask_EnumValues = Identifiers.init(11881);
+    public static final NodeId NodeClass_EnumValues = Identifiers.init(11878);
+    public static final NodeId NodeVersion = Identifiers.init(3068);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState = Identifiers.init(10403);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(10407);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(10409);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState_FalseState = Identifiers.init(10411);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState_Id = Identifiers.init(10404);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState_Name = Identifiers.init(10405);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState_Number = Identifiers.init(10406);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState_TransitionTime = Identifiers.init(10408);
+    public static final NodeId NonExclusiveDeviationAlarmType_AckedState_TrueState = Identifiers.init(10410);
+    public static final NodeId NonExclusiveDeviationAlarmType_Acknowledge_InputArguments = Identifiers.init(10422);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState = Identifiers.init(10425);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(10429);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(10431);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState_FalseState = Identifiers.init(10433);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState_Id = Identifiers.init(10426);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState_Name = Identifiers.init(10427);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState_Number = Identifiers.init(10428);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState_TransitionTime = Identifiers.init(10430);
+    public static final NodeId NonExclusiveDeviationAlarmType_ActiveState_TrueState = Identifiers.init(10432);
+    public static final NodeId NonExclusiveDeviationAlarmType_AddComment_InputArguments = Identifiers.init(10400);
+    public static final NodeId NonExclusiveDeviationAlarmType_BranchId = Identifiers.init(10379);
+    public static final NodeId NonExclusiveDeviationAlarmType_ClientUserId = Identifiers.init(10396);
+    public static final NodeId NonExclusiveDeviationAlarmType_Comment = Identifiers.init(10394);
+    public static final NodeId NonExclusiveDeviationAlarmType_Comment_SourceTimestamp = Identifiers.init(10395);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConditionClassId = Identifiers.init(11149);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConditionClassName = Identifiers.init(11150);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConditionName = Identifiers.init(10378);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(12997);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConditionRefresh_InputArguments = Identifiers.init(10402);
+    public static final NodeId NonExclusiveDeviationAlarmType_Confirm_InputArguments = Identifiers.init(10424);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState = Identifiers.init(10412);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(10416);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(10418);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState_FalseState = Identifiers.init(10420);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState_Id = Identifiers.init(10413);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState_Name = Identifiers.init(10414);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState_Number = Identifiers.init(10415);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState_TransitionTime = Identifiers.init(10417);
+    public static final NodeId NonExclusiveDeviationAlarmType_ConfirmedState_TrueState = Identifiers.init(10419);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState = Identifiers.init(10381);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(10385);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(10387);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState_FalseState = Identifiers.init(10389);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState_Id = Identifiers.init(10382);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState_Name = Identifiers.init(10383);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState_Number = Identifiers.init(10384);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState_TransitionTime = Identifiers.init(10386);
+    public static final NodeId NonExclusiveDeviationAlarmType_EnabledState_TrueState = Identifiers.init(10388);
+    public static final NodeId NonExclusiveDeviationAlarmType_EventId = Identifiers.init(10369);
+    public static final NodeId NonExclusiveDeviationAlarmType_EventType = Identifiers.init(10370);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighLimit = Identifiers.init(10518);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState = Identifiers.init(10482);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState_EffectiveDisplayName = Identifiers.init(10486);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState_EffectiveTransitionTime = Identifiers.init(10488);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState_FalseState = Identifiers.init(10490);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState_Id = Identifiers.init(10483);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState_Name = Identifiers.init(10484);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState_Number = Identifiers.init(10485);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState_TransitionTime = Identifiers.init(10487);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighHighState_TrueState = Identifiers.init(10489);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighLimit = Identifiers.init(10519);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState = Identifiers.init(10491);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState_EffectiveDisplayName = Identifiers.init(10495);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState_EffectiveTransitionTime = Identifiers.init(10497);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState_FalseState = Identifiers.init(10499);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState_Id = Identifiers.init(10492);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState_Name = Identifiers.init(10493);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState_Number = Identifiers.init(10494);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState_TransitionTime = Identifiers.init(10496);
+    public static final NodeId NonExclusiveDeviationAlarmType_HighState_TrueState = Identifiers.init(10498);
+    public static final NodeId NonExclusiveDeviationAlarmType_InputNode = Identifiers.init(11151);
+    public static final NodeId NonExclusiveDeviationAlarmType_LastSeverity = Identifiers.init(10392);
+    public static final NodeId NonExclusiveDeviationAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(10393);
+    public static final NodeId NonExclusiveDeviationAlarmType_LocalTime = Identifiers.init(10375);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLimit = Identifiers.init(10520);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowLimit = Identifiers.init(10521);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState = Identifiers.init(10509);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState_EffectiveDisplayName = Identifiers.init(10513);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState_EffectiveTransitionTime = Identifiers.init(10515);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState_FalseState = Identifiers.init(10517);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState_Id = Identifiers.init(10510);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState_Name = Identifiers.init(10511);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState_Number = Identifiers.init(10512);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState_TransitionTime = Identifiers.init(10514);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowLowState_TrueState = Identifiers.init(10516);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState = Identifiers.init(10500);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState_EffectiveDisplayName = Identifiers.init(10504);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState_EffectiveTransitionTime = Identifiers.init(10506);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState_FalseState = Identifiers.init(10508);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState_Id = Identifiers.init(10501);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState_Name = Identifiers.init(10502);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState_Number = Identifiers.init(10503);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState_TransitionTime = Identifiers.init(10505);
+    public static final NodeId NonExclusiveDeviationAlarmType_LowState_TrueState = Identifiers.init(10507);
+    public static final NodeId NonExclusiveDeviationAlarmType_MaxTimeShelved = Identifiers.init(10481);
+    public static final NodeId NonExclusiveDeviationAlarmType_Message = Identifiers.init(10376);
+    public static final NodeId NonExclusiveDeviationAlarmType_Quality = Identifiers.init(10390);
+    public static final NodeId NonExclusiveDeviationAlarmType_Quality_SourceTimestamp = Identifiers.init(10391);
+    public static final NodeId NonExclusiveDeviationAlarmType_ReceiveTime = Identifiers.init(10374);
+    public static final NodeId NonExclusiveDeviationAlarmType_Retain = Identifiers.init(10380);
+    public static final NodeId NonExclusiveDeviationAlarmType_SetpointNode = Identifiers.init(10522);
+    public static final NodeId NonExclusiveDeviationAlarmType_Severity = Identifiers.init(10377);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_CurrentState = Identifiers.init(10444);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(10448);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(10445);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(10446);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(10447);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_LastTransition = Identifiers.init(10449);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11480);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(10450);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(10451);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(10452);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(10453);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(10479);
+    public static final NodeId NonExclusiveDeviationAlarmType_ShelvingState_UnshelveTime = Identifiers.init(10454);
+    public static final NodeId NonExclusiveDeviationAlarmType_SourceName = Identifiers.init(10372);
+    public static final NodeId NonExclusiveDeviationAlarmType_SourceNode = Identifiers.init(10371);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedOrShelved = Identifiers.init(10480);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState = Identifiers.init(10434);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(10438);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(10440);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState_FalseState = Identifiers.init(10442);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState_Id = Identifiers.init(10435);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState_Name = Identifiers.init(10436);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState_Number = Identifiers.init(10437);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState_TransitionTime = Identifiers.init(10439);
+    public static final NodeId NonExclusiveDeviationAlarmType_SuppressedState_TrueState = Identifiers.init(10441);
+    public static final NodeId NonExclusiveDeviationAlarmType_Time = Identifiers.init(10373);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState = Identifiers.init(10095);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(10099);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(10101);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState_FalseState = Identifiers.init(10103);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState_Id = Identifiers.init(10096);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState_Name = Identifiers.init(10097);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState_Number = Identifiers.init(10098);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState_TransitionTime = Identifiers.init(10100);
+    public static final NodeId NonExclusiveLevelAlarmType_AckedState_TrueState = Identifiers.init(10102);
+    public static final NodeId NonExclusiveLevelAlarmType_Acknowledge_InputArguments = Identifiers.init(10114);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState = Identifiers.init(10117);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(10121);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(10123);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState_FalseState = Identifiers.init(10125);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState_Id = Identifiers.init(10118);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState_Name = Identifiers.init(10119);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState_Number = Identifiers.init(10120);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState_TransitionTime = Identifiers.init(10122);
+    public static final NodeId NonExclusiveLevelAlarmType_ActiveState_TrueState = Identifiers.init(10124);
+    public static final NodeId NonExclusiveLevelAlarmType_AddComment_InputArguments = Identifiers.init(10092);
+    public static final NodeId NonExclusiveLevelAlarmType_BranchId = Identifiers.init(10071);
+    public static final NodeId NonExclusiveLevelAlarmType_ClientUserId = Identifiers.init(10088);
+    public static final NodeId NonExclusiveLevelAlarmType_Comment = Identifiers.init(10086);
+    public static final NodeId NonExclusiveLevelAlarmType_Comment_SourceTimestamp = Identifiers.init(10087);
+    public static final NodeId NonExclusiveLevelAlarmType_ConditionClassId = Identifiers.init(11143);
+    public static final NodeId NonExclusiveLevelAlarmType_ConditionClassName = Identifiers.init(11144);
+    public static final NodeId NonExclusiveLevelAlarmType_ConditionName = Identifiers.init(10070);
+    public static final NodeId NonExclusiveLevelAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(12993);
+    public static final NodeId NonExclusiveLevelAlarmType_ConditionRefresh_InputArguments = Identifiers.init(10094);
+    public static final NodeId NonExclusiveLevelAlarmType_Confirm_InputArguments = Identifiers.init(10116);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState = Identifiers.init(10104);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(10108);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(10110);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState_FalseState = Identifiers.init(10112);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState_Id = Identifiers.init(10105);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState_Name = Identifiers.init(10106);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState_Number = Identifiers.init(10107);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState_TransitionTime = Identifiers.init(10109);
+    public static final NodeId NonExclusiveLevelAlarmType_ConfirmedState_TrueState = Identifiers.init(10111);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState = Identifiers.init(10073);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(10077);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(10079);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState_FalseState = Identifiers.init(10081);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState_Id = Identifiers.init(10074);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState_Name = Identifiers.init(10075);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState_Number = Identifiers.init(10076);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState_TransitionTime = Identifiers.init(10078);
+    public static final NodeId NonExclusiveLevelAlarmType_EnabledState_TrueState = Identifiers.init(10080);
+    public static final NodeId NonExclusiveLevelAlarmType_EventId = Identifiers.init(10061);
+    public static final NodeId NonExclusiveLevelAlarmType_EventType = Identifiers.init(10062);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighLimit = Identifiers.init(10210);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState = Identifiers.init(10174);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState_EffectiveDisplayName = Identifiers.init(10178);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState_EffectiveTransitionTime = Identifiers.init(10180);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState_FalseState = Identifiers.init(10182);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState_Id = Identifiers.init(10175);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState_Name = Identifiers.init(10176);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState_Number = Identifiers.init(10177);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState_TransitionTime = Identifiers.init(10179);
+    public static final NodeId NonExclusiveLevelAlarmType_HighHighState_TrueState = Identifiers.init(10181);
+    public static final NodeId NonExclusiveLevelAlarmType_HighLimit = Identifiers.init(10211);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState = Identifiers.init(10183);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState_EffectiveDisplayName = Identifiers.init(10187);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState_EffectiveTransitionTime = Identifiers.init(10189);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState_FalseState = Identifiers.init(10191);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState_Id = Identifiers.init(10184);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState_Name = Identifiers.init(10185);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState_Number = Identifiers.init(10186);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState_TransitionTime = Identifiers.init(10188);
+    public static final NodeId NonExclusiveLevelAlarmType_HighState_TrueState = Identifiers.init(10190);
+    public static final NodeId NonExclusiveLevelAlarmType_InputNode = Identifiers.init(11145);
+    public static final NodeId NonExclusiveLevelAlarmType_LastSeverity = Identifiers.init(10084);
+    public static final NodeId NonExclusiveLevelAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(10085);
+    public static final NodeId NonExclusiveLevelAlarmType_LocalTime = Identifiers.init(10067);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLimit = Identifiers.init(10212);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowLimit = Identifiers.init(10213);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState = Identifiers.init(10201);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState_EffectiveDisplayName = Identifiers.init(10205);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState_EffectiveTransitionTime = Identifiers.init(10207);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState_FalseState = Identifiers.init(10209);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState_Id = Identifiers.init(10202);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState_Name = Identifiers.init(10203);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState_Number = Identifiers.init(10204);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState_TransitionTime = Identifiers.init(10206);
+    public static final NodeId NonExclusiveLevelAlarmType_LowLowState_TrueState = Identifiers.init(10208);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState = Identifiers.init(10192);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState_EffectiveDisplayName = Identifiers.init(10196);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState_EffectiveTransitionTime = Identifiers.init(10198);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState_FalseState = Identifiers.init(10200);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState_Id = Identifiers.init(10193);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState_Name = Identifiers.init(10194);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState_Number = Identifiers.init(10195);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState_TransitionTime = Identifiers.init(10197);
+    public static final NodeId NonExclusiveLevelAlarmType_LowState_TrueState = Identifiers.init(10199);
+    public static final NodeId NonExclusiveLevelAlarmType_MaxTimeShelved = Identifiers.init(10173);
+    public static final NodeId NonExclusiveLevelAlarmType_Message = Identifiers.init(10068);
+    public static final NodeId NonExclusiveLevelAlarmType_Quality = Identifiers.init(10082);
+    public static final NodeId NonExclusiveLevelAlarmType_Quality_SourceTimestamp = Identifiers.init(10083);
+    public static final NodeId NonExclusiveLevelAlarmType_ReceiveTime = Identifiers.init(10066);
+    public static final NodeId NonExclusiveLevelAlarmType_Retain = Identifiers.init(10072);
+    public static final NodeId NonExclusiveLevelAlarmType_Severity = Identifiers.init(10069);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_CurrentState = Identifiers.init(10136);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(10140);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(10137);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(10138);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(10139);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_LastTransition = Identifiers.init(10141);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11478);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(10142);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(10143);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(10144);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(10145);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(10171);
+    public static final NodeId NonExclusiveLevelAlarmType_ShelvingState_UnshelveTime = Identifiers.init(10146);
+    public static final NodeId NonExclusiveLevelAlarmType_SourceName = Identifiers.init(10064);
+    public static final NodeId NonExclusiveLevelAlarmType_SourceNode = Identifiers.init(10063);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedOrShelved = Identifiers.init(10172);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState = Identifiers.init(10126);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(10130);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(10132);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState_FalseState = Identifiers.init(10134);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState_Id = Identifiers.init(10127);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState_Name = Identifiers.init(10128);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState_Number = Identifiers.init(10129);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState_TransitionTime = Identifiers.init(10131);
+    public static final NodeId NonExclusiveLevelAlarmType_SuppressedState_TrueState = Identifiers.init(10133);
+    public static final NodeId NonExclusiveLevelAlarmType_Time = Identifiers.init(10065);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState = Identifiers.init(9941);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(9945);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(9947);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState_FalseState = Identifiers.init(9949);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState_Id = Identifiers.init(9942);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState_Name = Identifiers.init(9943);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState_Number = Identifiers.init(9944);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState_TransitionTime = Identifiers.init(9946);
+    public static final NodeId NonExclusiveLimitAlarmType_AckedState_TrueState = Identifiers.init(9948);
+    public static final NodeId NonExclusiveLimitAlarmType_Acknowledge_InputArguments = Identifiers.init(9960);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState = Identifiers.init(9963);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(9967);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(9969);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState_FalseState = Identifiers.init(9971);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState_Id = Identifiers.init(9964);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState_Name = Identifiers.init(9965);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState_Number = Identifiers.init(9966);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState_TransitionTime = Identifiers.init(9968);
+    public static final NodeId NonExclusiveLimitAlarmType_ActiveState_TrueState = Identifiers.init(9970);
+    public static final NodeId NonExclusiveLimitAlarmType_AddComment_InputArguments = Identifiers.init(9938);
+    public static final NodeId NonExclusiveLimitAlarmType_BranchId = Identifiers.init(9917);
+    public static final NodeId NonExclusiveLimitAlarmType_ClientUserId = Identifiers.init(9934);
+    public static final NodeId NonExclusiveLimitAlarmType_Comment = Identifiers.init(9932);
+    public static final NodeId NonExclusiveLimitAlarmType_Comment_SourceTimestamp = Identifiers.init(9933);
+    public static final NodeId NonExclusiveLimitAlarmType_ConditionClassId = Identifiers.init(11140);
+    public static final NodeId NonExclusiveLimitAlarmType_ConditionClassName = Identifiers.init(11141);
+    public static final NodeId NonExclusiveLimitAlarmType_ConditionName = Identifiers.init(9916);
+    public static final NodeId NonExclusiveLimitAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(12991);
+    public static final NodeId NonExclusiveLimitAlarmType_ConditionRefresh_InputArguments = Identifiers.init(9940);
+    public static final NodeId NonExclusiveLimitAlarmType_Confirm_InputArguments = Identifiers.init(9962);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState = Identifiers.init(9950);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(9954);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(9956);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState_FalseState = Identifiers.init(9958);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState_Id = Identifiers.init(9951);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState_Name = Identifiers.init(9952);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState_Number = Identifiers.init(9953);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState_TransitionTime = Identifiers.init(9955);
+    public static final NodeId NonExclusiveLimitAlarmType_ConfirmedState_TrueState = Identifiers.init(9957);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState = Identifiers.init(9919);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(9923);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(9925);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState_FalseState = Identifiers.init(9927);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState_Id = Identifiers.init(9920);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState_Name = Identifiers.init(9921);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState_Number = Identifiers.init(9922);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState_TransitionTime = Identifiers.init(9924);
+    public static final NodeId NonExclusiveLimitAlarmType_EnabledState_TrueState = Identifiers.init(9926);
+    public static final NodeId NonExclusiveLimitAlarmType_EventId = Identifiers.init(9907);
+    public static final NodeId NonExclusiveLimitAlarmType_EventType = Identifiers.init(9908);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighLimit = Identifiers.init(10056);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState = Identifiers.init(10020);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState_EffectiveDisplayName = Identifiers.init(10024);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState_EffectiveTransitionTime = Identifiers.init(10026);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState_FalseState = Identifiers.init(10028);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState_Id = Identifiers.init(10021);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState_Name = Identifiers.init(10022);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState_Number = Identifiers.init(10023);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState_TransitionTime = Identifiers.init(10025);
+    public static final NodeId NonExclusiveLimitAlarmType_HighHighState_TrueState = Identifiers.init(10027);
+    public static final NodeId NonExclusiveLimitAlarmType_HighLimit = Identifiers.init(10057);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState = Identifiers.init(10029);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState_EffectiveDisplayName = Identifiers.init(10033);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState_EffectiveTransitionTime = Identifiers.init(10035);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState_FalseState = Identifiers.init(10037);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState_Id = Identifiers.init(10030);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState_Name = Identifiers.init(10031);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState_Number = Identifiers.init(10032);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState_TransitionTime = Identifiers.init(10034);
+    public static final NodeId NonExclusiveLimitAlarmType_HighState_TrueState = Identifiers.init(10036);
+    public static final NodeId NonExclusiveLimitAlarmType_InputNode = Identifiers.init(11142);
+    public static final NodeId NonExclusiveLimitAlarmType_LastSeverity = Identifiers.init(9930);
+    public static final NodeId NonExclusiveLimitAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(9931);
+    public static final NodeId NonExclusiveLimitAlarmType_LocalTime = Identifiers.init(9913);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLimit = Identifiers.init(10058);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowLimit = Identifiers.init(10059);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState = Identifiers.init(10047);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState_EffectiveDisplayName = Identifiers.init(10051);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState_EffectiveTransitionTime = Identifiers.init(10053);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState_FalseState = Identifiers.init(10055);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState_Id = Identifiers.init(10048);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState_Name = Identifiers.init(10049);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState_Number = Identifiers.init(10050);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState_TransitionTime = Identifiers.init(10052);
+    public static final NodeId NonExclusiveLimitAlarmType_LowLowState_TrueState = Identifiers.init(10054);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState = Identifiers.init(10038);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState_EffectiveDisplayName = Identifiers.init(10042);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState_EffectiveTransitionTime = Identifiers.init(10044);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState_FalseState = Identifiers.init(10046);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState_Id = Identifiers.init(10039);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState_Name = Identifiers.init(10040);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState_Number = Identifiers.init(10041);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState_TransitionTime = Identifiers.init(10043);
+    public static final NodeId NonExclusiveLimitAlarmType_LowState_TrueState = Identifiers.init(10045);
+    public static final NodeId NonExclusiveLimitAlarmType_MaxTimeShelved = Identifiers.init(10019);
+    public static final NodeId NonExclusiveLimitAlarmType_Message = Identifiers.init(9914);
+    public static final NodeId NonExclusiveLimitAlarmType_Quality = Identifiers.init(9928);
+    public static final NodeId NonExclusiveLimitAlarmType_Quality_SourceTimestamp = Identifiers.init(9929);
+    public static final NodeId NonExclusiveLimitAlarmType_ReceiveTime = Identifiers.init(9912);
+    public static final NodeId NonExclusiveLimitAlarmType_Retain = Identifiers.init(9918);
+    public static final NodeId NonExclusiveLimitAlarmType_Severity = Identifiers.init(9915);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_CurrentState = Identifiers.init(9982);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(9986);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(9983);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(9984);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(9985);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_LastTransition = Identifiers.init(9987);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11477);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(9988);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(9989);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(9990);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(9991);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(10017);
+    public static final NodeId NonExclusiveLimitAlarmType_ShelvingState_UnshelveTime = Identifiers.init(9992);
+    public static final NodeId NonExclusiveLimitAlarmType_SourceName = Identifiers.init(9910);
+    public static final NodeId NonExclusiveLimitAlarmType_SourceNode = Identifiers.init(9909);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedOrShelved = Identifiers.init(10018);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState = Identifiers.init(9972);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(9976);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(9978);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState_FalseState = Identifiers.init(9980);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState_Id = Identifiers.init(9973);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState_Name = Identifiers.init(9974);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState_Number = Identifiers.init(9975);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState_TransitionTime = Identifiers.init(9977);
+    public static final NodeId NonExclusiveLimitAlarmType_SuppressedState_TrueState = Identifiers.init(9979);
+    public static final NodeId NonExclusiveLimitAlarmType_Time = Identifiers.init(9911);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState = Identifiers.init(10249);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(10253);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(10255);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState_FalseState = Identifiers.init(10257);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState_Id = Identifiers.init(10250);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState_Name = Identifiers.init(10251);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState_Number = Identifiers.init(10252);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState_TransitionTime = Identifiers.init(10254);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AckedState_TrueState = Identifiers.init(10256);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Acknowledge_InputArguments = Identifiers.init(10268);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState = Identifiers.init(10271);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(10275);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(10277);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState_FalseState = Identifiers.init(10279);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState_Id = Identifiers.init(10272);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState_Name = Identifiers.init(10273);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState_Number = Identifiers.init(10274);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState_TransitionTime = Identifiers.init(10276);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ActiveState_TrueState = Identifiers.init(10278);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_AddComment_InputArguments = Identifiers.init(10246);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_BranchId = Identifiers.init(10225);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ClientUserId = Identifiers.init(10242);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Comment = Identifiers.init(10240);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Comment_SourceTimestamp = Identifiers.init(10241);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConditionClassId = Identifiers.init(11146);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConditionClassName = Identifiers.init(11147);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConditionName = Identifiers.init(10224);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(13001);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConditionRefresh_InputArguments = Identifiers.init(10248);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Confirm_InputArguments = Identifiers.init(10270);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState = Identifiers.init(10258);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(10262);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(10264);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState_FalseState = Identifiers.init(10266);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState_Id = Identifiers.init(10259);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState_Name = Identifiers.init(10260);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState_Number = Identifiers.init(10261);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState_TransitionTime = Identifiers.init(10263);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ConfirmedState_TrueState = Identifiers.init(10265);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState = Identifiers.init(10227);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(10231);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(10233);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState_FalseState = Identifiers.init(10235);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState_Id = Identifiers.init(10228);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState_Name = Identifiers.init(10229);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState_Number = Identifiers.init(10230);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState_TransitionTime = Identifiers.init(10232);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EnabledState_TrueState = Identifiers.init(10234);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EventId = Identifiers.init(10215);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_EventType = Identifiers.init(10216);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighLimit = Identifiers.init(10364);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState = Identifiers.init(10328);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState_EffectiveDisplayName = Identifiers.init(10332);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState_EffectiveTransitionTime = Identifiers.init(10334);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState_FalseState = Identifiers.init(10336);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState_Id = Identifiers.init(10329);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState_Name = Identifiers.init(10330);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState_Number = Identifiers.init(10331);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState_TransitionTime = Identifiers.init(10333);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighHighState_TrueState = Identifiers.init(10335);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighLimit = Identifiers.init(10365);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState = Identifiers.init(10337);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState_EffectiveDisplayName = Identifiers.init(10341);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState_EffectiveTransitionTime = Identifiers.init(10343);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState_FalseState = Identifiers.init(10345);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState_Id = Identifiers.init(10338);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState_Name = Identifiers.init(10339);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState_Number = Identifiers.init(10340);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState_TransitionTime = Identifiers.init(10342);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_HighState_TrueState = Identifiers.init(10344);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_InputNode = Identifiers.init(11148);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LastSeverity = Identifiers.init(10238);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(10239);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LocalTime = Identifiers.init(10221);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLimit = Identifiers.init(10366);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowLimit = Identifiers.init(10367);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState = Identifiers.init(10355);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState_EffectiveDisplayName = Identifiers.init(10359);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState_EffectiveTransitionTime = Identifiers.init(10361);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState_FalseState = Identifiers.init(10363);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState_Id = Identifiers.init(10356);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState_Name = Identifiers.init(10357);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState_Number = Identifiers.init(10358);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState_TransitionTime = Identifiers.init(10360);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowLowState_TrueState = Identifiers.init(10362);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState = Identifiers.init(10346);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState_EffectiveDisplayName = Identifiers.init(10350);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState_EffectiveTransitionTime = Identifiers.init(10352);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState_FalseState = Identifiers.init(10354);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState_Id = Identifiers.init(10347);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState_Name = Identifiers.init(10348);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState_Number = Identifiers.init(10349);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState_TransitionTime = Identifiers.init(10351);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_LowState_TrueState = Identifiers.init(10353);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_MaxTimeShelved = Identifiers.init(10327);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Message = Identifiers.init(10222);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Quality = Identifiers.init(10236);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Quality_SourceTimestamp = Identifiers.init(10237);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ReceiveTime = Identifiers.init(10220);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Retain = Identifiers.init(10226);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Severity = Identifiers.init(10223);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState = Identifiers.init(10290);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(10294);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(10291);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(10292);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(10293);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition = Identifiers.init(10295);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11479);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(10296);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(10297);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(10298);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(10299);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(10325);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_ShelvingState_UnshelveTime = Identifiers.init(10300);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SourceName = Identifiers.init(10218);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SourceNode = Identifiers.init(10217);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedOrShelved = Identifiers.init(10326);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState = Identifiers.init(10280);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(10284);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(10286);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState_FalseState = Identifiers.init(10288);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState_Id = Identifiers.init(10281);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState_Name = Identifiers.init(10282);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState_Number = Identifiers.init(10283);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState_TransitionTime = Identifiers.init(10285);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_SuppressedState_TrueState = Identifiers.init(10287);
+    public static final NodeId NonExclusiveRateOfChangeAlarmType_Time = Identifiers.init(10219);
+    public static final NodeId NonTransparentNetworkRedundancyType_RedundancySupport = Identifiers.init(11946);
+    public static final NodeId NonTransparentNetworkRedundancyType_ServerNetworkGroups = Identifiers.init(11948);
+    public static final NodeId NonTransparentNetworkRedundancyType_ServerUriArray = Identifiers.init(11947);
+    public static final NodeId NonTransparentRedundancyType_RedundancySupport = Identifiers.init(3189);
+    public static final NodeId NonTransparentRedundancyType_ServerUriArray = Identifiers.init(2040);
+ 
+}
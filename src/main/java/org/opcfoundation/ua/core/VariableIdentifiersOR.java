@@ -0,0 +1,664 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard variables, of the types and instances starting with O-R. Accessed through {@link Identifiers}.
+ */
+public interface VariableIdentifiersOR {
+	
+    public static final NodeId OffNormalAlarmType_AckedState = Identifiers.init(10672);
+    public static final NodeId OffNormalAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(10676);
+    public static final NodeId OffNormalAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(10678);
+    public static final NodeId OffNormalAlarmType_AckedState_FalseState = Identifiers.init(10680);
+    public static final NodeId OffNormalAlarmType_AckedState_Id = Identifiers.init(10673);
+    public static final NodeId OffNormalAlarmType_AckedState_Name = Identifiers.init(10674);
+    public static final NodeId OffNormalAlarmType_AckedState_Number = Identifiers.init(10675);
+    public static final NodeId OffNormalAlarmType_AckedState_TransitionTime = Identifiers.init(10677);
+    public static final NodeId OffNormalAlarmType_AckedState_TrueState = Identifiers.init(10679);
+    public static final NodeId OffNormalAlarmType_Acknowledge_InputArguments = Identifiers.init(10691);
+    public static final NodeId OffNormalAlarmType_ActiveState = Identifiers.init(10694);
+    public static final NodeId OffNormalAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(10698);
+    public static final NodeId OffNormalAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(10700);
+    public static final NodeId OffNormalAlarmType_ActiveState_FalseState = Identifiers.init(10702);
+    public static final NodeId OffNormalAlarmType_ActiveState_Id = Identifiers.init(10695);
+    public static final NodeId OffNormalAlarmType_ActiveState_Name = Identifiers.init(10696);
+    public static final NodeId OffNormalAlarmType_ActiveState_Number = Identifiers.init(10697);
+    public static final NodeId OffNormalAlarmType_ActiveState_TransitionTime = Identifiers.init(10699);
+    public static final NodeId OffNormalAlarmType_ActiveState_TrueState = Identifiers.init(10701);
+    public static final NodeId OffNormalAlarmType_AddComment_InputArguments = Identifiers.init(10669);
+    public static final NodeId OffNormalAlarmType_BranchId = Identifiers.init(10648);
+    public static final NodeId OffNormalAlarmType_ClientUserId = Identifiers.init(10665);
+    public static final NodeId OffNormalAlarmType_Comment = Identifiers.init(10663);
+    public static final NodeId OffNormalAlarmType_Comment_SourceTimestamp = Identifiers.init(10664);
+    public static final NodeId OffNormalAlarmType_ConditionClassId = Identifiers.init(11155);
+    public static final NodeId OffNormalAlarmType_ConditionClassName = Identifiers.init(11156);
+    public static final NodeId OffNormalAlarmType_ConditionName = Identifiers.init(10647);
+    public static final NodeId OffNormalAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(13007);
+    public static final NodeId OffNormalAlarmType_ConditionRefresh_InputArguments = Identifiers.init(10671);
+    public static final NodeId OffNormalAlarmType_Confirm_InputArguments = Identifiers.init(10693);
+    public static final NodeId OffNormalAlarmType_ConfirmedState = Identifiers.init(10681);
+    public static final NodeId OffNormalAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(10685);
+    public static final NodeId OffNormalAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(10687);
+    public static final NodeId OffNormalAlarmType_ConfirmedState_FalseState = Identifiers.init(10689);
+    public static final NodeId OffNormalAlarmType_ConfirmedState_Id = Identifiers.init(10682);
+    public static final NodeId OffNormalAlarmType_ConfirmedState_Name = Identifiers.init(10683);
+    public static final NodeId OffNormalAlarmType_ConfirmedState_Number = Identifiers.init(10684);
+    public static final NodeId OffNormalAlarmType_ConfirmedState_TransitionTime = Identifiers.init(10686);
+    public static final NodeId OffNormalAlarmType_ConfirmedState_TrueState = Identifiers.init(10688);
+    public static final NodeId OffNormalAlarmType_EnabledState = Identifiers.init(10650);
+    public static final NodeId OffNormalAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(10654);
+    public static final NodeId OffNormalAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(10656);
+    public static final NodeId OffNormalAlarmType_EnabledState_FalseState = Identifiers.init(10658);
+    public static final NodeId OffNormalAlarmType_EnabledState_Id = Identifiers.init(10651);
+    public static final NodeId OffNormalAlarmType_EnabledState_Name = Identifiers.init(10652);
+    public static final NodeId OffNormalAlarmType_EnabledState_Number = Identifiers.init(10653);
+    public static final NodeId OffNormalAlarmType_EnabledState_TransitionTime = Identifiers.init(10655);
+    public static final NodeId OffNormalAlarmType_EnabledState_TrueState = Identifiers.init(10657);
+    public static final NodeId OffNormalAlarmType_EventId = Identifiers.init(10638);
+    public static final NodeId OffNormalAlarmType_EventType = Identifiers.init(10639);
+    public static final NodeId OffNormalAlarmType_InputNode = Identifiers.init(11157);
+    public static final NodeId OffNormalAlarmType_LastSeverity = Identifiers.init(10661);
+    public static final NodeId OffNormalAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(10662);
+    public static final NodeId OffNormalAlarmType_LocalTime = Identifiers.init(10644);
+    public static final NodeId OffNormalAlarmType_MaxTimeShelved = Identifiers.init(10750);
+    public static final NodeId OffNormalAlarmType_Message = Identifiers.init(10645);
+    public static final NodeId OffNormalAlarmType_NormalState = Identifiers.init(11158);
+    public static final NodeId OffNormalAlarmType_Quality = Identifiers.init(10659);
+    public static final NodeId OffNormalAlarmType_Quality_SourceTimestamp = Identifiers.init(10660);
+    public static final NodeId OffNormalAlarmType_ReceiveTime = Identifiers.init(10643);
+    public static final NodeId OffNormalAlarmType_Retain = Identifiers.init(10649);
+    public static final NodeId OffNormalAlarmType_Severity = Identifiers.init(10646);
+    public static final NodeId OffNormalAlarmType_ShelvingState_CurrentState = Identifiers.init(10713);
+    public static final NodeId OffNormalAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(10717);
+    public static final NodeId OffNormalAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(10714);
+    public static final NodeId OffNormalAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(10715);
+    public static final NodeId OffNormalAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(10716);
+    public static final NodeId OffNormalAlarmType_ShelvingState_LastTransition = Identifiers.init(10718);
+    public static final NodeId OffNormalAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11482);
+    public static final NodeId OffNormalAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(10719);
+    public static final NodeId OffNormalAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(10720);
+    public static final NodeId OffNormalAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(10721);
+    public static final NodeId OffNormalAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(10722);
+    public static final NodeId OffNormalAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(10748);
+    public static final NodeId OffNormalAlarmType_ShelvingState_UnshelveTime = Identifiers.init(10723);
+    public static final NodeId OffNormalAlarmType_SourceName = Identifiers.init(10641);
+    public static final NodeId OffNormalAlarmType_SourceNode = Identifiers.init(10640);
+    public static final NodeId OffNormalAlarmType_SuppressedOrShelved = Identifiers.init(10749);
+    public static final NodeId OffNormalAlarmType_SuppressedState = Identifiers.init(10703);
+    public static final NodeId OffNormalAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(10707);
+    public static final NodeId OffNormalAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(10709);
+    public static final NodeId OffNormalAlarmType_SuppressedState_FalseState = Identifiers.init(10711);
+    public static final NodeId OffNormalAlarmType_SuppressedState_Id = Identifiers.init(10704);
+    public static final NodeId OffNormalAlarmType_SuppressedState_Name = Identifiers.init(10705);
+    public static final NodeId OffNormalAlarmType_SuppressedState_Number = Identifiers.init(10706);
+    public static final NodeId OffNormalAlarmType_SuppressedState_TransitionTime = Identifiers.init(10708);
+    public static final NodeId OffNormalAlarmType_SuppressedState_TrueState = Identifiers.init(10710);
+    public static final NodeId OffNormalAlarmType_Time = Identifiers.init(10642);
+    public static final NodeId OpcUa_BinarySchema = Identifiers.init(7617);
+    public static final NodeId OpcUa_BinarySchema_AddNodesItem = Identifiers.init(7728);
+    public static final NodeId OpcUa_BinarySchema_AddNodesItem_DataTypeVersion = Identifiers.init(7729);
+    public static final NodeId OpcUa_BinarySchema_AddNodesItem_DictionaryFragment = Identifiers.init(7730);
+    public static final NodeId OpcUa_BinarySchema_AddReferencesItem = Identifiers.init(7731);
+    public static final NodeId OpcUa_BinarySchema_AddReferencesItem_DataTypeVersion = Identifiers.init(7732);
+    public static final NodeId OpcUa_BinarySchema_AddReferencesItem_DictionaryFragment = Identifiers.init(7733);
+    public static final NodeId OpcUa_BinarySchema_AggregateConfiguration = Identifiers.init(8076);
+    public static final NodeId OpcUa_BinarySchema_AggregateConfiguration_DataTypeVersion = Identifiers.init(8077);
+    public static final NodeId OpcUa_BinarySchema_AggregateConfiguration_DictionaryFragment = Identifiers.init(8078);
+    public static final NodeId OpcUa_BinarySchema_Annotation = Identifiers.init(8244);
+    public static final NodeId OpcUa_BinarySchema_Annotation_DataTypeVersion = Identifiers.init(8245);
+    public static final NodeId OpcUa_BinarySchema_Annotation_DictionaryFragment = Identifiers.init(8246);
+    public static final NodeId OpcUa_BinarySchema_AnonymousIdentityToken = Identifiers.init(7674);
+    public static final NodeId OpcUa_BinarySchema_AnonymousIdentityToken_DataTypeVersion = Identifiers.init(7675);
+    public static final NodeId OpcUa_BinarySchema_AnonymousIdentityToken_DictionaryFragment = Identifiers.init(7676);
+    public static final NodeId OpcUa_BinarySchema_ApplicationDescription = Identifiers.init(7665);
+    public static final NodeId OpcUa_BinarySchema_ApplicationDescription_DataTypeVersion = Identifiers.init(7666);
+    public static final NodeId OpcUa_BinarySchema_ApplicationDescription_DictionaryFragment = Identifiers.init(7667);
+    public static final NodeId OpcUa_BinarySchema_Argument = Identifiers.init(7650);
+    public static final NodeId OpcUa_BinarySchema_Argument_DataTypeVersion = Identifiers.init(7651);
+    public static final NodeId OpcUa_BinarySchema_Argument_DictionaryFragment = Identifiers.init(7652);
+    public static final NodeId OpcUa_BinarySchema_AttributeOperand = Identifiers.init(7944);
+    public static final NodeId OpcUa_BinarySchema_AttributeOperand_DataTypeVersion = Identifiers.init(7945);
+    public static final NodeId OpcUa_BinarySchema_AttributeOperand_DictionaryFragment = Identifiers.init(7946);
+    public static final NodeId OpcUa_BinarySchema_AxisInformation = Identifiers.init(12091);
+    public static final NodeId OpcUa_BinarySchema_AxisInformation_DataTypeVersion = Identifiers.init(12092);
+    public static final NodeId OpcUa_BinarySchema_AxisInformation_DictionaryFragment = Identifiers.init(12093);
+    public static final NodeId OpcUa_BinarySchema_BuildInfo = Identifiers.init(7692);
+    public static final NodeId OpcUa_BinarySchema_BuildInfo_DataTypeVersion = Identifiers.init(7693);
+    public static final NodeId OpcUa_BinarySchema_BuildInfo_DictionaryFragment = Identifiers.init(7694);
+    public static final NodeId OpcUa_BinarySchema_ComplexNumberType = Identifiers.init(12183);
+    public static final NodeId OpcUa_BinarySchema_ComplexNumberType_DataTypeVersion = Identifiers.init(12184);
+    public static final NodeId OpcUa_BinarySchema_ComplexNumberType_DictionaryFragment = Identifiers.init(12185);
+    public static final NodeId OpcUa_BinarySchema_ContentFilter = Identifiers.init(7932);
+    public static final NodeId OpcUa_BinarySchema_ContentFilterElement = Identifiers.init(7929);
+    public static final NodeId OpcUa_BinarySchema_ContentFilterElement_DataTypeVersion = Identifiers.init(7930);
+    public static final NodeId OpcUa_BinarySchema_ContentFilterElement_DictionaryFragment = Identifiers.init(7931);
+    public static final NodeId OpcUa_BinarySchema_ContentFilter_DataTypeVersion = Identifiers.init(7933);
+    public static final NodeId OpcUa_BinarySchema_ContentFilter_DictionaryFragment = Identifiers.init(7934);
+    public static final NodeId OpcUa_BinarySchema_DataTypeVersion = Identifiers.init(7618);
+    public static final NodeId OpcUa_BinarySchema_DeleteNodesItem = Identifiers.init(7734);
+    public static final NodeId OpcUa_BinarySchema_DeleteNodesItem_DataTypeVersion = Identifiers.init(7735);
+    public static final NodeId OpcUa_BinarySchema_DeleteNodesItem_DictionaryFragment = Identifiers.init(7736);
+    public static final NodeId OpcUa_BinarySchema_DeleteReferencesItem = Identifiers.init(7737);
+    public static final NodeId OpcUa_BinarySchema_DeleteReferencesItem_DataTypeVersion = Identifiers.init(7738);
+    public static final NodeId OpcUa_BinarySchema_DeleteReferencesItem_DictionaryFragment = Identifiers.init(7739);
+    public static final NodeId OpcUa_BinarySchema_DiscoveryConfiguration = Identifiers.init(12902);
+    public static final NodeId OpcUa_BinarySchema_DiscoveryConfiguration_DataTypeVersion = Identifiers.init(12903);
+    public static final NodeId OpcUa_BinarySchema_DiscoveryConfiguration_DictionaryFragment = Identifiers.init(12904);
+    public static final NodeId OpcUa_BinarySchema_DoubleComplexNumberType = Identifiers.init(12186);
+    public static final NodeId OpcUa_BinarySchema_DoubleComplexNumberType_DataTypeVersion = Identifiers.init(12187);
+    public static final NodeId OpcUa_BinarySchema_DoubleComplexNumberType_DictionaryFragment = Identifiers.init(12188);
+    public static final NodeId OpcUa_BinarySchema_EUInformation = Identifiers.init(8241);
+    public static final NodeId OpcUa_BinarySchema_EUInformation_DataTypeVersion = Identifiers.init(8242);
+    public static final NodeId OpcUa_BinarySchema_EUInformation_DictionaryFragment = Identifiers.init(8243);
+    public static final NodeId OpcUa_BinarySchema_ElementOperand = Identifiers.init(7938);
+    public static final NodeId OpcUa_BinarySchema_ElementOperand_DataTypeVersion = Identifiers.init(7939);
+    public static final NodeId OpcUa_BinarySchema_ElementOperand_DictionaryFragment = Identifiers.init(7940);
+    public static final NodeId OpcUa_BinarySchema_EndpointConfiguration = Identifiers.init(7686);
+    public static final NodeId OpcUa_BinarySchema_EndpointConfiguration_DataTypeVersion = Identifiers.init(7687);
+    public static final NodeId OpcUa_BinarySchema_EndpointConfiguration_DictionaryFragment = Identifiers.init(7688);
+    public static final NodeId OpcUa_BinarySchema_EndpointDescription = Identifiers.init(7668);
+    public static final NodeId OpcUa_BinarySchema_EndpointDescription_DataTypeVersion = Identifiers.init(7669);
+    public static final NodeId OpcUa_BinarySchema_EndpointDescription_DictionaryFragment = Identifiers.init(7670);
+    public static final NodeId OpcUa_BinarySchema_EndpointUrlListDataType = Identifiers.init(11959);
+    public static final NodeId OpcUa_BinarySchema_EndpointUrlListDataType_DataTypeVersion = Identifiers.init(11960);
+    public static final NodeId OpcUa_BinarySchema_EndpointUrlListDataType_DictionaryFragment = Identifiers.init(11961);
+    public static final NodeId OpcUa_BinarySchema_EnumValueType = Identifiers.init(7656);
+    public static final NodeId OpcUa_BinarySchema_EnumValueType_DataTypeVersion = Identifiers.init(7657);
+    public static final NodeId OpcUa_BinarySchema_EnumValueType_DictionaryFragment = Identifiers.init(7658);
+    public static final NodeId OpcUa_BinarySchema_EventFilter = Identifiers.init(8073);
+    public static final NodeId OpcUa_BinarySchema_EventFilter_DataTypeVersion = Identifiers.init(8074);
+    public static final NodeId OpcUa_BinarySchema_EventFilter_DictionaryFragment = Identifiers.init(8075);
+    public static final NodeId OpcUa_BinarySchema_FilterOperand = Identifiers.init(7935);
+    public static final NodeId OpcUa_BinarySchema_FilterOperand_DataTypeVersion = Identifiers.init(7936);
+    public static final NodeId OpcUa_BinarySchema_FilterOperand_DictionaryFragment = Identifiers.init(7937);
+    public static final NodeId OpcUa_BinarySchema_HistoryEvent = Identifiers.init(8004);
+    public static final NodeId OpcUa_BinarySchema_HistoryEventFieldList = Identifiers.init(8172);
+    public static final NodeId OpcUa_BinarySchema_HistoryEventFieldList_DataTypeVersion = Identifiers.init(8173);
+    public static final NodeId OpcUa_BinarySchema_HistoryEventFieldList_DictionaryFragment = Identifiers.init(8174);
+    public static final NodeId OpcUa_BinarySchema_HistoryEvent_DataTypeVersion = Identifiers.init(8005);
+    public static final NodeId OpcUa_BinarySchema_HistoryEvent_DictionaryFragment = Identifiers.init(8006);
+    public static final NodeId OpcUa_BinarySchema_IssuedIdentityToken = Identifiers.init(7683);
+    public static final NodeId OpcUa_BinarySchema_IssuedIdentityToken_DataTypeVersion = Identifiers.init(7684);
+    public static final NodeId OpcUa_BinarySchema_IssuedIdentityToken_DictionaryFragment = Identifiers.init(7685);
+    public static final NodeId OpcUa_BinarySchema_LiteralOperand = Identifiers.init(7941);
+    public static final NodeId OpcUa_BinarySchema_LiteralOperand_DataTypeVersion = Identifiers.init(7942);
+    public static final NodeId OpcUa_BinarySchema_LiteralOperand_DictionaryFragment = Identifiers.init(7943);
+    public static final NodeId OpcUa_BinarySchema_MdnsDiscoveryConfiguration = Identifiers.init(12905);
+    public static final NodeId OpcUa_BinarySchema_MdnsDiscoveryConfiguration_DataTypeVersion = Identifiers.init(12906);
+    public static final NodeId OpcUa_BinarySchema_MdnsDiscoveryConfiguration_DictionaryFragment = Identifiers.init(12907);
+    public static final NodeId OpcUa_BinarySchema_ModelChangeStructureDataType = Identifiers.init(8232);
+    public static final NodeId OpcUa_BinarySchema_ModelChangeStructureDataType_DataTypeVersion = Identifiers.init(8233);
+    public static final NodeId OpcUa_BinarySchema_ModelChangeStructureDataType_DictionaryFragment = Identifiers.init(8234);
+    public static final NodeId OpcUa_BinarySchema_MonitoringFilter = Identifiers.init(8067);
+    public static final NodeId OpcUa_BinarySchema_MonitoringFilter_DataTypeVersion = Identifiers.init(8068);
+    public static final NodeId OpcUa_BinarySchema_MonitoringFilter_DictionaryFragment = Identifiers.init(8069);
+    public static final NodeId OpcUa_BinarySchema_NamespaceUri = Identifiers.init(7619);
+    public static final NodeId OpcUa_BinarySchema_NetworkGroupDataType = Identifiers.init(11962);
+    public static final NodeId OpcUa_BinarySchema_NetworkGroupDataType_DataTypeVersion = Identifiers.init(11963);
+    public static final NodeId OpcUa_BinarySchema_NetworkGroupDataType_DictionaryFragment = Identifiers.init(11964);
+    public static final NodeId OpcUa_BinarySchema_OptionSet = Identifiers.init(12767);
+    public static final NodeId OpcUa_BinarySchema_OptionSet_DataTypeVersion = Identifiers.init(12768);
+    public static final NodeId OpcUa_BinarySchema_OptionSet_DictionaryFragment = Identifiers.init(12769);
+    public static final NodeId OpcUa_BinarySchema_ProgramDiagnosticDataType = Identifiers.init(8247);
+    public static final NodeId OpcUa_BinarySchema_ProgramDiagnosticDataType_DataTypeVersion = Identifiers.init(8248);
+    public static final NodeId OpcUa_BinarySchema_ProgramDiagnosticDataType_DictionaryFragment = Identifiers.init(8249);
+    public static final NodeId OpcUa_BinarySchema_Range = Identifiers.init(8238);
+    public static final NodeId OpcUa_BinarySchema_Range_DataTypeVersion = Identifiers.init(8239);
+    public static final NodeId OpcUa_BinarySchema_Range_DictionaryFragment = Identifiers.init(8240);
+    public static final NodeId OpcUa_BinarySchema_RedundantServerDataType = Identifiers.init(8208);
+    public static final NodeId OpcUa_BinarySchema_RedundantServerDataType_DataTypeVersion = Identifiers.init(8209);
+    public static final NodeId OpcUa_BinarySchema_RedundantServerDataType_DictionaryFragment = Identifiers.init(8210);
+    public static final NodeId OpcUa_BinarySchema_RegisteredServer = Identifiers.init(7782);
+    public static final NodeId OpcUa_BinarySchema_RegisteredServer_DataTypeVersion = Identifiers.init(7783);
+    public static final NodeId OpcUa_BinarySchema_RegisteredServer_DictionaryFragment = Identifiers.init(7784);
+    public static final NodeId OpcUa_BinarySchema_RelativePath = Identifiers.init(12721);
+    public static final NodeId OpcUa_BinarySchema_RelativePathElement = Identifiers.init(12718);
+    public static final NodeId OpcUa_BinarySchema_RelativePathElement_DataTypeVersion = Identifiers.init(12719);
+    public static final NodeId OpcUa_BinarySchema_RelativePathElement_DictionaryFragment = Identifiers.init(12720);
+    public static final NodeId OpcUa_BinarySchema_RelativePath_DataTypeVersion = Identifiers.init(12722);
+    public static final NodeId OpcUa_BinarySchema_RelativePath_DictionaryFragment = Identifiers.init(12723);
+    public static final NodeId OpcUa_BinarySchema_SamplingIntervalDiagnosticsDataType = Identifiers.init(8211);
+    public static final NodeId OpcUa_BinarySchema_SamplingIntervalDiagnosticsDataType_DataTypeVersion = Identifiers.init(8212);
+    public static final NodeId OpcUa_BinarySchema_SamplingIntervalDiagnosticsDataType_DictionaryFragment = Identifiers.init(8213);
+    public static final NodeId OpcUa_BinarySchema_SemanticChangeStructureDataType = Identifiers.init(8235);
+    public static final NodeId OpcUa_BinarySchema_SemanticChangeStructureDataType_DataTypeVersion = Identifiers.init(8236);
+    public static final NodeId OpcUa_BinarySchema_SemanticChangeStructureDataType_DictionaryFragment = Identifiers.init(8237);
+    public static final NodeId OpcUa_BinarySchema_ServerDiagnosticsSummaryDataType = Identifiers.init(8214);
+    public static final NodeId OpcUa_BinarySchema_ServerDiagnosticsSummaryDataType_DataTypeVersion = Identifiers.init(8215);
+    public static final NodeId OpcUa_BinarySchema_ServerDiagnosticsSummaryDataType_DictionaryFragment = Identifiers.init(8216);
+    public static final NodeId OpcUa_BinarySchema_ServerOnNetwork = Identifiers.init(12213);
+    public static final NodeId OpcUa_BinarySchema_ServerOnNetwork_DataTypeVersion = Identifiers.init(12214);
+    public static final NodeId OpcUa_BinarySchema_ServerOnNetwork_DictionaryFragment = Identifiers.init(12215);
+    public static final NodeId OpcUa_BinarySchema_ServerStatusDataType = Identifiers.init(8217);
+    public static final NodeId OpcUa_BinarySchema_ServerStatusDataType_DataTypeVersion = Identifiers.init(8218);
+    public static final NodeId OpcUa_BinarySchema_ServerStatusDataType_DictionaryFragment = Identifiers.init(8219);
+    public static final NodeId OpcUa_BinarySchema_ServiceCounterDataType = Identifiers.init(8226);
+    public static final NodeId OpcUa_BinarySchema_ServiceCounterDataType_DataTypeVersion = Identifiers.init(8227);
+    public static final NodeId OpcUa_BinarySchema_ServiceCounterDataType_DictionaryFragment = Identifiers.init(8228);
+    public static final NodeId OpcUa_BinarySchema_SessionDiagnosticsDataType = Identifiers.init(8220);
+    public static final NodeId OpcUa_BinarySchema_SessionDiagnosticsDataType_DataTypeVersion = Identifiers.init(8221);
+    public static final NodeId OpcUa_BinarySchema_SessionDiagnosticsDataType_DictionaryFragment = Identifiers.init(8222);
+    public static final NodeId OpcUa_BinarySchema_SessionSecurityDiagnosticsDataType = Identifiers.init(8223);
+    public static final NodeId OpcUa_BinarySchema_SessionSecurityDiagnosticsDataType_DataTypeVersion = Identifiers.init(8224);
+    public static final NodeId OpcUa_BinarySchema_SessionSecurityDiagnosticsDataType_DictionaryFragment = Identifiers.init(8225);
+    public static final NodeId OpcUa_BinarySchema_SignedSoftwareCertificate = Identifiers.init(7698);
+    public static final NodeId OpcUa_BinarySchema_SignedSoftwareCertificate_DataTypeVersion = Identifiers.init(7699);
+    public static final NodeId OpcUa_BinarySchema_SignedSoftwareCertificate_DictionaryFragment = Identifiers.init(7700);
+    public static final NodeId OpcUa_BinarySchema_SimpleAttributeOperand = Identifiers.init(7947);
+    public static final NodeId OpcUa_BinarySchema_SimpleAttributeOperand_DataTypeVersion = Identifiers.init(7948);
+    public static final NodeId OpcUa_BinarySchema_SimpleAttributeOperand_DictionaryFragment = Identifiers.init(7949);
+    public static final NodeId OpcUa_BinarySchema_StatusResult = Identifiers.init(7659);
+    public static final NodeId OpcUa_BinarySchema_StatusResult_DataTypeVersion = Identifiers.init(7660);
+    public static final NodeId OpcUa_BinarySchema_StatusResult_DictionaryFragment = Identifiers.init(7661);
+    public static final NodeId OpcUa_BinarySchema_SubscriptionDiagnosticsDataType = Identifiers.init(8229);
+    public static final NodeId OpcUa_BinarySchema_SubscriptionDiagnosticsDataType_DataTypeVersion = Identifiers.init(8230);
+    public static final NodeId OpcUa_BinarySchema_SubscriptionDiagnosticsDataType_DictionaryFragment = Identifiers.init(8231);
+    public static final NodeId OpcUa_BinarySchema_TimeZoneDataType = Identifiers.init(8914);
+    public static final NodeId OpcUa_BinarySchema_TimeZoneDataType_DataTypeVersion = Identifiers.init(8915);
+    public static final NodeId OpcUa_BinarySchema_TimeZoneDataType_DictionaryFragment = Identifiers.init(8916);
+    public static final NodeId OpcUa_BinarySchema_TrustListDataType = Identifiers.init(12681);
+    public static final NodeId OpcUa_BinarySchema_TrustListDataType_DataTypeVersion = Identifiers.init(12682);
+    public static final NodeId OpcUa_BinarySchema_TrustListDataType_DictionaryFragment = Identifiers.init(12683);
+    public static final NodeId OpcUa_BinarySchema_Union = Identifiers.init(12770);
+    public static final NodeId OpcUa_BinarySchema_Union_DataTypeVersion = Identifiers.init(12771);
+    public static final NodeId OpcUa_BinarySchema_Union_DictionaryFragment = Identifiers.init(12772);
+    public static final NodeId OpcUa_BinarySchema_UserIdentityToken = Identifiers.init(7671);
+    public static final NodeId OpcUa_BinarySchema_UserIdentityToken_DataTypeVersion = Identifiers.init(7672);
+    public static final NodeId OpcUa_BinarySchema_UserIdentityToken_DictionaryFragment = Identifiers.init(7673);
+    public static final NodeId OpcUa_BinarySchema_UserNameIdentityToken = Identifiers.init(7677);
+    public static final NodeId OpcUa_BinarySchema_UserNameIdentityToken_DataTypeVersion = Identifiers.init(7678);
+    public static final NodeId OpcUa_BinarySchema_UserNameIdentityToken_DictionaryFragment = Identifiers.init(7679);
+    public static final NodeId OpcUa_BinarySchema_UserTokenPolicy = Identifiers.init(7662);
+    public static final NodeId OpcUa_BinarySchema_UserTokenPolicy_DataTypeVersion = Identifiers.init(7663);
+    public static final NodeId OpcUa_BinarySchema_UserTokenPolicy_DictionaryFragment = Identifiers.init(7664);
+    public static final NodeId OpcUa_BinarySchema_X509IdentityToken = Identifiers.init(7680);
+    public static final NodeId OpcUa_BinarySchema_X509IdentityToken_DataTypeVersion = Identifiers.init(7681);
+    public static final NodeId OpcUa_BinarySchema_X509IdentityToken_DictionaryFragment = Identifiers.init(7682);
+    public static final NodeId OpcUa_BinarySchema_XVType = Identifiers.init(12094);
+    public static final NodeId OpcUa_BinarySchema_XVType_DataTypeVersion = Identifiers.init(12095);
+    public static final NodeId OpcUa_BinarySchema_XVType_DictionaryFragment = Identifiers.init(12096);
+    public static final NodeId OpcUa_XmlSchema = Identifiers.init(8252);
+    public static final NodeId OpcUa_XmlSchema_AddNodesItem = Identifiers.init(8363);
+    public static final NodeId OpcUa_XmlSchema_AddNodesItem_DataTypeVersion = Identifiers.init(8364);
+    public static final NodeId OpcUa_XmlSchema_AddNodesItem_DictionaryFragment = Identifiers.init(8365);
+    public static final NodeId OpcUa_XmlSchema_AddReferencesItem = Identifiers.init(8366);
+    public static final NodeId OpcUa_XmlSchema_AddReferencesItem_DataTypeVersion = Identifiers.init(8367);
+    public static final NodeId OpcUa_XmlSchema_AddReferencesItem_DictionaryFragment = Identifiers.init(8368);
+    public static final NodeId OpcUa_XmlSchema_AggregateConfiguration = Identifiers.init(8711);
+    public static final NodeId OpcUa_XmlSchema_AggregateConfiguration_DataTypeVersion = Identifiers.init(8712);
+    public static final NodeId OpcUa_XmlSchema_AggregateConfiguration_DictionaryFragment = Identifiers.init(8713);
+    public static final NodeId OpcUa_XmlSchema_Annotation = Identifiers.init(8879);
+    public static final NodeId OpcUa_XmlSchema_Annotation_DataTypeVersion = Identifiers.init(8880);
+    public static final NodeId OpcUa_XmlSchema_Annotation_DictionaryFragment = Identifiers.init(8881);
+    public static final NodeId OpcUa_XmlSchema_AnonymousIdentityToken = Identifiers.init(8309);
+    public static final NodeId OpcUa_XmlSchema_AnonymousIdentityToken_DataTypeVersion = Identifiers.init(8310);
+    public static final NodeId OpcUa_XmlSchema_AnonymousIdentityToken_DictionaryFragment = Identifiers.init(8311);
+    public static final NodeId OpcUa_XmlSchema_ApplicationDescription = Identifiers.init(8300);
+    public static final NodeId OpcUa_XmlSchema_ApplicationDescription_DataTypeVersion = Identifiers.init(8301);
+    public static final NodeId OpcUa_XmlSchema_ApplicationDescription_DictionaryFragment = Identifiers.init(8302);
+    public static final NodeId OpcUa_XmlSchema_Argument = Identifiers.init(8285);
+    public static final NodeId OpcUa_XmlSchema_Argument_DataTypeVersion = Identifiers.init(8286);
+    public static final NodeId OpcUa_XmlSchema_Argument_DictionaryFragment = Identifiers.init(8287);
+    public static final NodeId OpcUa_XmlSchema_AttributeOperand = Identifiers.init(8579);
+    public static final NodeId OpcUa_XmlSchema_AttributeOperand_DataTypeVersion = Identifiers.init(8580);
+    public static final NodeId OpcUa_XmlSchema_AttributeOperand_DictionaryFragment = Identifiers.init(8581);
+    public static final NodeId OpcUa_XmlSchema_AxisInformation = Identifiers.init(12083);
+    public static final NodeId OpcUa_XmlSchema_AxisInformation_DataTypeVersion = Identifiers.init(12084);
+    public static final NodeId OpcUa_XmlSchema_AxisInformation_DictionaryFragment = Identifiers.init(12085);
+    public static final NodeId OpcUa_XmlSchema_BuildInfo = Identifiers.init(8327);
+    public static final NodeId OpcUa_XmlSchema_BuildInfo_DataTypeVersion = Identifiers.init(8328);
+    public static final NodeId OpcUa_XmlSchema_BuildInfo_DictionaryFragment = Identifiers.init(8329);
+    public static final NodeId OpcUa_XmlSchema_ComplexNumberType = Identifiers.init(12175);
+    public static final NodeId OpcUa_XmlSchema_ComplexNumberType_DataTypeVersion = Identifiers.init(12176);
+    public static final NodeId OpcUa_XmlSchema_ComplexNumberType_DictionaryFragment = Identifiers.init(12177);
+    public static final NodeId OpcUa_XmlSchema_ContentFilter = Identifiers.init(8567);
+    public static final NodeId OpcUa_XmlSchema_ContentFilterElement = Identifiers.init(8564);
+    public static final NodeId OpcUa_XmlSchema_ContentFilterElement_DataTypeVersion = Identifiers.init(8565);
+    public static final NodeId OpcUa_XmlSchema_ContentFilterElement_DictionaryFragment = Identifiers.init(8566);
+    public static final NodeId OpcUa_XmlSchema_ContentFilter_DataTypeVersion = Identifiers.init(8568);
+    public static final NodeId OpcUa_XmlSchema_ContentFilter_DictionaryFragment = Identifiers.init(8569);
+    public static final NodeId OpcUa_XmlSchema_DataTypeVersion = Identifiers.init(8253);
+    public static final NodeId OpcUa_XmlSchema_DeleteNodesItem = Identifiers.init(8369);
+    public static final NodeId OpcUa_XmlSchema_DeleteNodesItem_DataTypeVersion = Identifiers.init(8370);
+    public static final NodeId OpcUa_XmlSchema_DeleteNodesItem_DictionaryFragment = Identifiers.init(8371);
+    public static final NodeId OpcUa_XmlSchema_DeleteReferencesItem = Identifiers.init(8372);
+    public static final NodeId OpcUa_XmlSchema_DeleteReferencesItem_DataTypeVersion = Identifiers.init(8373);
+    public static final NodeId OpcUa_XmlSchema_DeleteReferencesItem_DictionaryFragment = Identifiers.init(8374);
+    public static final NodeId OpcUa_XmlSchema_DiscoveryConfiguration = Identifiers.init(12894);
+    public static final NodeId OpcUa_XmlSchema_DiscoveryConfiguration_DataTypeVersion = Identifiers.init(12895);
+    public static final NodeId OpcUa_XmlSchema_DiscoveryConfiguration_DictionaryFragment = Identifiers.init(12896);
+    public static final NodeId OpcUa_XmlSchema_DoubleComplexNumberType = Identifiers.init(12178);
+    public static final NodeId OpcUa_XmlSchema_DoubleComplexNumberType_DataTypeVersion = Identifiers.init(12179);
+    public static final NodeId OpcUa_XmlSchema_DoubleComplexNumberType_DictionaryFragment = Identifiers.init(12180);
+    public static final NodeId OpcUa_XmlSchema_EUInformation = Identifiers.init(8876);
+    public static final NodeId OpcUa_XmlSchema_EUInformation_DataTypeVersion = Identifiers.init(8877);
+    public static final NodeId OpcUa_XmlSchema_EUInformation_DictionaryFragment = Identifiers.init(8878);
+    public static final NodeId OpcUa_XmlSchema_ElementOperand = Identifiers.init(8573);
+    public static final NodeId OpcUa_XmlSchema_ElementOperand_DataTypeVersion = Identifiers.init(8574);
+    public static final NodeId OpcUa_XmlSchema_ElementOperand_DictionaryFragment = Identifiers.init(8575);
+    public static final NodeId OpcUa_XmlSchema_EndpointConfiguration = Identifiers.init(8321);
+    public static final NodeId OpcUa_XmlSchema_EndpointConfiguration_DataTypeVersion = Identifiers.init(8322);
+    public static final NodeId OpcUa_XmlSchema_EndpointConfiguration_DictionaryFragment = Identifiers.init(8323);
+    public static final NodeId OpcUa_XmlSchema_EndpointDescription = Identifiers.init(8303);
+    public static final NodeId OpcUa_XmlSchema_EndpointDescription_DataTypeVersion = Identifiers.init(8304);
+    public static final NodeId OpcUa_XmlSchema_EndpointDescription_DictionaryFragment = Identifiers.init(8305);
+    public static final NodeId OpcUa_XmlSchema_EndpointUrlListDataType = Identifiers.init(11951);
+    public static final NodeId OpcUa_XmlSchema_EndpointUrlListDataType_DataTypeVersion = Identifiers.init(11952);
+    public static final NodeId OpcUa_XmlSchema_EndpointUrlListDataType_DictionaryFragment = Identifiers.init(11953);
+    public static final NodeId OpcUa_XmlSchema_EnumValueType = Identifiers.init(8291);
+    public static final NodeId OpcUa_XmlSchema_EnumValueType_DataTypeVersion = Identifiers.init(8292);
+    public static final NodeId OpcUa_XmlSchema_EnumValueType_DictionaryFragment = Identifiers.init(8293);
+    public static final NodeId OpcUa_XmlSchema_EventFilter = Identifiers.init(8708);
+    public static final NodeId OpcUa_XmlSchema_EventFilter_DataTypeVersion = Identifiers.init(8709);
+    public static final NodeId OpcUa_XmlSchema_EventFilter_DictionaryFragment = Identifiers.init(8710);
+    public static final NodeId OpcUa_XmlSchema_FilterOperand = Identifiers.init(8570);
+    public static final NodeId OpcUa_XmlSchema_FilterOperand_DataTypeVersion = Identifiers.init(8571);
+    public static final NodeId OpcUa_XmlSchema_FilterOperand_DictionaryFragment = Identifiers.init(8572);
+    public static final NodeId OpcUa_XmlSchema_HistoryEvent = Identifiers.init(8639);
+    public static final NodeId OpcUa_XmlSchema_HistoryEventFieldList = Identifiers.init(8807);
+    public static final NodeId OpcUa_XmlSchema_HistoryEventFieldList_DataTypeVersion = Identifiers.init(8808);
+    public static final NodeId OpcUa_XmlSchema_HistoryEventFieldList_DictionaryFragment = Identifiers.init(8809);
+    public static final NodeId OpcUa_XmlSchema_HistoryEvent_DataTypeVersion = Identifiers.init(8640);
+    public static final NodeId OpcUa_XmlSchema_HistoryEvent_DictionaryFragment = Identifiers.init(8641);
+    public static final NodeId OpcUa_XmlSchema_IssuedIdentityToken = Identifiers.init(8318);
+    public static final NodeId OpcUa_XmlSchema_IssuedIdentityToken_DataTypeVersion = Identifiers.init(8319);
+    public static final NodeId OpcUa_XmlSchema_IssuedIdentityToken_DictionaryFragment = Identifiers.init(8320);
+    public static final NodeId OpcUa_XmlSchema_LiteralOperand = Identifiers.init(8576);
+    public static final NodeId OpcUa_XmlSchema_LiteralOperand_DataTypeVersion = Identifiers.init(8577);
+    public static final NodeId OpcUa_XmlSchema_LiteralOperand_DictionaryFragment = Identifiers.init(8578);
+    public static final NodeId OpcUa_XmlSchema_MdnsDiscoveryConfiguration = Identifiers.init(12897);
+    public static final NodeId OpcUa_XmlSchema_MdnsDiscoveryConfiguration_DataTypeVersion = Identifiers.init(12898);
+    public static final NodeId OpcUa_XmlSchema_MdnsDiscoveryConfiguration_DictionaryFragment = Identifiers.init(12899);
+    public static final NodeId OpcUa_XmlSchema_ModelChangeStructureDataType = Identifiers.init(8867);
+    public static final NodeId OpcUa_XmlSchema_ModelChangeStructureDataType_DataTypeVersion = Identifiers.init(8868);
+    public static final NodeId OpcUa_XmlSchema_ModelChangeStructureDataType_DictionaryFragment = Identifiers.init(8869);
+    public static final NodeId OpcUa_XmlSchema_MonitoringFilter = Identifiers.init(8702);
+    public static final NodeId OpcUa_XmlSchema_MonitoringFilter_DataTypeVersion = Identifiers.init(8703);
+    public static final NodeId OpcUa_XmlSchema_MonitoringFilter_DictionaryFragment = Identifiers.init(8704);
+    public static final NodeId OpcUa_XmlSchema_NamespaceUri = Identifiers.init(8254);
+    public static final NodeId OpcUa_XmlSchema_NetworkGroupDataType = Identifiers.init(11954);
+    public static final NodeId OpcUa_XmlSchema_NetworkGroupDataType_DataTypeVersion = Identifiers.init(11955);
+    public static final NodeId OpcUa_XmlSchema_NetworkGroupDataType_DictionaryFragment = Identifiers.init(11956);
+    public static final NodeId OpcUa_XmlSchema_OptionSet = Identifiers.init(12759);
+    public static final NodeId OpcUa_XmlSchema_OptionSet_DataTypeVersion = Identifiers.init(12760);
+    public static final NodeId OpcUa_XmlSchema_OptionSet_DictionaryFragment = Identifiers.init(12761);
+    public static final NodeId OpcUa_XmlSchema_ProgramDiagnosticDataType = Identifiers.init(8882);
+    public static final NodeId OpcUa_XmlSchema_ProgramDiagnosticDataType_DataTypeVersion = Identifiers.init(8883);
+    public static final NodeId OpcUa_XmlSchema_ProgramDiagnosticDataType_DictionaryFragment = Identifiers.init(8884);
+    public static final NodeId OpcUa_XmlSchema_Range = Identifiers.init(8873);
+    public static final NodeId OpcUa_XmlSchema_Range_DataTypeVersion = Identifiers.init(8874);
+    public static final NodeId OpcUa_XmlSchema_Range_DictionaryFragment = Identifiers.init(8875);
+    public static final NodeId OpcUa_XmlSchema_RedundantServerDataType = Identifiers.init(8843);
+    public static final NodeId OpcUa_XmlSchema_RedundantServerDataType_DataTypeVersion = Identifiers.init(8844);
+    public static final NodeId OpcUa_XmlSchema_RedundantServerDataType_DictionaryFragment = Identifiers.init(8845);
+    public static final NodeId OpcUa_XmlSchema_RegisteredServer = Identifiers.init(8417);
+    public static final NodeId OpcUa_XmlSchema_RegisteredServer_DataTypeVersion = Identifiers.init(8418);
+    public static final NodeId OpcUa_XmlSchema_RegisteredServer_DictionaryFragment = Identifiers.init(8419);
+    public static final NodeId OpcUa_XmlSchema_RelativePath = Identifiers.init(12715);
+    public static final NodeId OpcUa_XmlSchema_RelativePathElement = Identifiers.init(12712);
+    public static final NodeId OpcUa_XmlSchema_RelativePathElement_DataTypeVersion = Identifiers.init(12713);
+    public static final NodeId OpcUa_XmlSchema_RelativePathElement_DictionaryFragment = Identifiers.init(12714);
+    public static final NodeId OpcUa_XmlSchema_RelativePath_DataTypeVersion = Identifiers.init(12716);
+    public static final NodeId OpcUa_XmlSchema_RelativePath_DictionaryFragment = Identifiers.init(12717);
+    public static final NodeId OpcUa_XmlSchema_SamplingIntervalDiagnosticsDataType = Identifiers.init(8846);
+    public static final NodeId OpcUa_XmlSchema_SamplingIntervalDiagnosticsDataType_DataTypeVersion = Identifiers.init(8847);
+    public static final NodeId OpcUa_XmlSchema_SamplingIntervalDiagnosticsDataType_DictionaryFragment = Identifiers.init(8848);
+    public static final NodeId OpcUa_XmlSchema_SemanticChangeStructureDataType = Identifiers.init(8870);
+    public static final NodeId OpcUa_XmlSchema_SemanticChangeStructureDataType_DataTypeVersion = Identifiers.init(8871);
+    public static final NodeId OpcUa_XmlSchema_SemanticChangeStructureDataType_DictionaryFragment = Identifiers.init(8872);
+    public static final NodeId OpcUa_XmlSchema_ServerDiagnosticsSummaryDataType = Identifiers.init(8849);
+    public static final NodeId OpcUa_XmlSchema_ServerDiagnosticsSummaryDataType_DataTypeVersion = Identifiers.init(8850);
+    public static final NodeId OpcUa_XmlSchema_ServerDiagnosticsSummaryDataType_DictionaryFragment = Identifiers.init(8851);
+    public static final NodeId OpcUa_XmlSchema_ServerOnNetwork = Identifiers.init(12201);
+    public static final NodeId OpcUa_XmlSchema_ServerOnNetwork_DataTypeVersion = Identifiers.init(12202);
+    public static final NodeId OpcUa_XmlSchema_ServerOnNetwork_DictionaryFragment = Identifiers.init(12203);
+    public static final NodeId OpcUa_XmlSchema_ServerStatusDataType = Identifiers.init(8852);
+    public static final NodeId OpcUa_XmlSchema_ServerStatusDataType_DataTypeVersion = Identifiers.init(8853);
+    public static final NodeId OpcUa_XmlSchema_ServerStatusDataType_DictionaryFragment = Identifiers.init(8854);
+    public static final NodeId OpcUa_XmlSchema_ServiceCounterDataType = Identifiers.init(8861);
+    public static final NodeId OpcUa_XmlSchema_ServiceCounterDataType_DataTypeVersion = Identifiers.init(8862);
+    public static final NodeId OpcUa_XmlSchema_ServiceCounterDataType_DictionaryFragment = Identifiers.init(8863);
+    public static final NodeId OpcUa_XmlSchema_SessionDiagnosticsDataType = Identifiers.init(8855);
+    public static final NodeId OpcUa_XmlSchema_SessionDiagnosticsDataType_DataTypeVersion = Identifiers.init(8856);
+    public static final NodeId OpcUa_XmlSchema_SessionDiagnosticsDataType_DictionaryFragment = Identifiers.init(8857);
+    public static final NodeId OpcUa_XmlSchema_SessionSecurityDiagnosticsDataType = Identifiers.init(8858);
+    public static final NodeId OpcUa_XmlSchema_SessionSecurityDiagnosticsDataType_DataTypeVersion = Identifiers.init(8859);
+    public static final NodeId OpcUa_XmlSchema_SessionSecurityDiagnosticsDataType_DictionaryFragment = Identifiers.init(8860);
+    public static final NodeId OpcUa_XmlSchema_SignedSoftwareCertificate = Identifiers.init(8333);
+    public static final NodeId OpcUa_XmlSchema_SignedSoftwareCertificate_DataTypeVersion = Identifiers.init(8334);
+    public static final NodeId OpcUa_XmlSchema_SignedSoftwareCertificate_DictionaryFragment = Identifiers.init(8335);
+    public static final NodeId OpcUa_XmlSchema_SimpleAttributeOperand = Identifiers.init(8582);
+    public static final NodeId OpcUa_XmlSchema_SimpleAttributeOperand_DataTypeVersion = Identifiers.init(8583);
+    public static final NodeId OpcUa_XmlSchema_SimpleAttributeOperand_DictionaryFragment = Identifiers.init(8584);
+    public static final NodeId OpcUa_XmlSchema_StatusResult = Identifiers.init(8294);
+    public static final NodeId OpcUa_XmlSchema_StatusResult_DataTypeVersion = Identifiers.init(8295);
+    public static final NodeId OpcUa_XmlSchema_StatusResult_DictionaryFragment = Identifiers.init(8296);
+    public static final NodeId OpcUa_XmlSchema_SubscriptionDiagnosticsDataType = Identifiers.init(8864);
+    public static final NodeId OpcUa_XmlSchema_SubscriptionDiagnosticsDataType_DataTypeVersion = Identifiers.init(8865);
+    public static final NodeId OpcUa_XmlSchema_SubscriptionDiagnosticsDataType_DictionaryFragment = Identifiers.init(8866);
+    public static final NodeId OpcUa_XmlSchema_TimeZoneDataType = Identifiers.init(8918);
+    public static final NodeId OpcUa_XmlSchema_TimeZoneDataType_DataTypeVersion = Identifiers.init(8919);
+    public static final NodeId OpcUa_XmlSchema_TimeZoneDataType_DictionaryFragment = Identifiers.init(8920);
+    public static final NodeId OpcUa_XmlSchema_TrustListDataType = Identifiers.init(12677);
+    public static final NodeId OpcUa_XmlSchema_TrustListDataType_DataTypeVersion = Identifiers.init(12678);
+    public static final NodeId OpcUa_XmlSchema_TrustListDataType_DictionaryFragment = Identifiers.init(12679);
+    public static final NodeId OpcUa_XmlSchema_Union = Identifiers.init(12762);
+    public static final NodeId OpcUa_XmlSchema_Union_DataTypeVersion = Identifiers.init(12763);
+    public static final NodeId OpcUa_XmlSchema_Union_DictionaryFragment = Identifiers.init(12764);
+    public static final NodeId OpcUa_XmlSchema_UserIdentityToken = Identifiers.init(8306);
+    public static final NodeId OpcUa_XmlSchema_UserIdentityToken_DataTypeVersion = Identifiers.init(8307);
+    public static final NodeId OpcUa_XmlSchema_UserIdentityToken_DictionaryFragment = Identifiers.init(8308);
+    public static final NodeId OpcUa_XmlSchema_UserNameIdentityToken = Identifiers.init(8312);
+    public static final NodeId OpcUa_XmlSchema_UserNameIdentityToken_DataTypeVersion = Identifiers.init(8313);
+    public static final NodeId OpcUa_XmlSchema_UserNameIdentityToken_DictionaryFragment = Identifiers.init(8314);
+    public static final NodeId OpcUa_XmlSchema_UserTokenPolicy = Identifiers.init(8297);
+    public static final NodeId OpcUa_XmlSchema_UserTokenPolicy_DataTypeVersion = Identifiers.init(8298);
+    public static final NodeId OpcUa_XmlSchema_UserTokenPolicy_DictionaryFragment = Identifiers.init(8299);
+    public static final NodeId OpcUa_XmlSchema_X509IdentityToken = Identifiers.init(8315);
+    public static final NodeId OpcUa_XmlSchema_X509IdentityToken_DataTypeVersion = Identifiers.init(8316);
+    public static final NodeId OpcUa_XmlSchema_X509IdentityToken_DictionaryFragment = Identifiers.init(8317);
+    public static final NodeId OpcUa_XmlSchema_XVType = Identifiers.init(12086);
+    public static final NodeId OpcUa_XmlSchema_XVType_DataTypeVersion = Identifiers.init(12087);
+    public static final NodeId OpcUa_XmlSchema_XVType_DictionaryFragment = Identifiers.init(12088);
+    public static final NodeId OpenFileMode_EnumValues = Identifiers.init(11940);
+    public static final NodeId OpenMethodType_InputArguments = Identifiers.init(11739);
+    public static final NodeId OpenMethodType_OutputArguments = Identifiers.init(11740);
+    public static final NodeId OpenWithMasksMethodType_InputArguments = Identifiers.init(12514);
+    public static final NodeId OpenWithMasksMethodType_OutputArguments = Identifiers.init(12515);
+    public static final NodeId OperationLimitsType_MaxMonitoredItemsPerCall = Identifiers.init(11574);
+    public static final NodeId OperationLimitsType_MaxNodesPerBrowse = Identifiers.init(11570);
+    public static final NodeId OperationLimitsType_MaxNodesPerHistoryReadData = Identifiers.init(12161);
+    public static final NodeId OperationLimitsType_MaxNodesPerHistoryReadEvents = Identifiers.init(12162);
+    public static final NodeId OperationLimitsType_MaxNodesPerHistoryUpdateData = Identifiers.init(12163);
+    public static final NodeId OperationLimitsType_MaxNodesPerHistoryUpdateEvents = Identifiers.init(12164);
+    public static final NodeId OperationLimitsType_MaxNodesPerMethodCall = Identifiers.init(11569);
+    public static final NodeId OperationLimitsType_MaxNodesPerNodeManagement = Identifiers.init(11573);
+    public static final NodeId OperationLimitsType_MaxNodesPerRead = Identifiers.init(11565);
+    public static final NodeId OperationLimitsType_MaxNodesPerRegisterNodes = Identifiers.init(11571);
+    public static final NodeId OperationLimitsType_MaxNodesPerTranslateBrowsePathsToNodeIds = Identifiers.init(11572);
+    public static final NodeId OperationLimitsType_MaxNodesPerWrite = Identifiers.init(11567);
+    public static final NodeId OptionSetType_BitMask = Identifiers.init(11701);
+    public static final NodeId OptionSetType_OptionSetValues = Identifiers.init(11488);
+    public static final NodeId OptionSetValues = Identifiers.init(12745);
+    public static final NodeId OutputArguments = Identifiers.init(3073);
+    public static final NodeId PerformUpdateType_EnumValues = Identifiers.init(11885);
+    public static final NodeId ProgramDiagnosticType_CreateClientName = Identifiers.init(2382);
+    public static final NodeId ProgramDiagnosticType_CreateSessionId = Identifiers.init(2381);
+    public static final NodeId ProgramDiagnosticType_InvocationCreationTime = Identifiers.init(2383);
+    public static final NodeId ProgramDiagnosticType_LastMethodCall = Identifiers.init(2385);
+    public static final NodeId ProgramDiagnosticType_LastMethodCallTime = Identifiers.init(2389);
+    public static final NodeId ProgramDiagnosticType_LastMethodInputArguments = Identifiers.init(2387);
+    public static final NodeId ProgramDiagnosticType_LastMethodOutputArguments = Identifiers.init(2388);
+    public static final NodeId ProgramDiagnosticType_LastMethodReturnStatus = Identifiers.init(2390);
+    public static final NodeId ProgramDiagnosticType_LastMethodSessionId = Identifiers.init(2386);
+    public static final NodeId ProgramDiagnosticType_LastTransitionTime = Identifiers.init(2384);
+    public static final NodeId ProgramStateMachineType_AutoDelete = Identifiers.init(2394);
+    public static final NodeId ProgramStateMachineType_Creatable = Identifiers.init(2392);
+    public static final NodeId ProgramStateMachineType_CurrentState = Identifiers.init(3830);
+    public static final NodeId ProgramStateMachineType_CurrentState_EffectiveDisplayName = Identifiers.init(3834);
+    public static final NodeId ProgramStateMachineType_CurrentState_Id = Identifiers.init(3831);
+    public static final NodeId ProgramStateMachineType_CurrentState_Name = Identifiers.init(3832);
+    public static final NodeId ProgramStateMachineType_CurrentState_Number = Identifiers.init(3833);
+    public static final NodeId ProgramStateMachineType_Deletable = Identifiers.init(2393);
+    public static final NodeId ProgramStateMachineType_HaltedToReady_TransitionNumber = Identifiers.init(2409);
+    public static final NodeId ProgramStateMachineType_Halted_StateNumber = Identifiers.init(2407);
+    public static final NodeId ProgramStateMachineType_InstanceCount = Identifiers.init(2396);
+    public static final NodeId ProgramStateMachineType_LastTransition = Identifiers.init(3835);
+    public static final NodeId ProgramStateMachineType_LastTransition_EffectiveTransitionTime = Identifiers.init(11464);
+    public static final NodeId ProgramStateMachineType_LastTransition_Id = Identifiers.init(3836);
+    public static final NodeId ProgramStateMachineType_LastTransition_Name = Identifiers.init(3837);
+    public static final NodeId ProgramStateMachineType_LastTransition_Number = Identifiers.init(3838);
+    public static final NodeId ProgramStateMachineType_LastTransition_TransitionTime = Identifiers.init(3839);
+    public static final NodeId ProgramStateMachineType_MaxInstanceCount = Identifiers.init(2397);
+    public static final NodeId ProgramStateMachineType_MaxRecycleCount = Identifiers.init(2398);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics = Identifiers.init(2399);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_CreateClientName = Identifiers.init(3841);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_CreateSessionId = Identifiers.init(3840);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_InvocationCreationTime = Identifiers.init(3842);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_LastMethodCall = Identifiers.init(3844);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_LastMethodCallTime = Identifiers.init(3848);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_LastMethodInputArguments = Identifiers.init(3846);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_LastMethodOutputArguments = Identifiers.init(3847);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_LastMethodReturnStatus = Identifiers.init(3849);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_LastMethodSessionId = Identifiers.init(3845);
+    public static final NodeId ProgramStateMachineType_ProgramDiagnostics_LastTransitionTime = Identifiers.init(3843);
+    public static final NodeId ProgramStateMachineType_ReadyToHalted_TransitionNumber = Identifiers.init(2425);
+    public static final NodeId ProgramStateMachineType_ReadyToRunning_TransitionNumber = Identifiers.init(2411);
+    public static final NodeId ProgramStateMachineType_Ready_StateNumber = Identifiers.init(2401);
+    public static final NodeId ProgramStateMachineType_RecycleCount = Identifiers.init(2395);
+    public static final NodeId ProgramStateMachineType_RunningToHalted_TransitionNumber = Identifiers.init(2413);
+    public static final NodeId ProgramStateMachineType_RunningToReady_TransitionNumber = Identifiers.init(2415);
+    public static final NodeId ProgramStateMachineType_RunningToSuspended_TransitionNumber = Identifiers.init(2417);
+    public static final NodeId ProgramStateMachineType_Running_StateNumber = Identifiers.init(2403);
+    public static final NodeId ProgramStateMachineType_SuspendedToHalted_TransitionNumber = Identifiers.init(2421);
+    public static final NodeId ProgramStateMachineType_SuspendedToReady_TransitionNumber = Identifiers.init(2423);
+    public static final NodeId ProgramStateMachineType_SuspendedToRunning_TransitionNumber = Identifiers.init(2419);
+    public static final NodeId ProgramStateMachineType_Suspended_StateNumber = Identifiers.init(2405);
+    public static final NodeId ProgramTransitionAuditEventType_ActionTimeStamp = Identifiers.init(3816);
+    public static final NodeId ProgramTransitionAuditEventType_ClientAuditEntryId = Identifiers.init(3819);
+    public static final NodeId ProgramTransitionAuditEventType_ClientUserId = Identifiers.init(3820);
+    public static final NodeId ProgramTransitionAuditEventType_EventId = Identifiers.init(3807);
+    public static final NodeId ProgramTransitionAuditEventType_EventType = Identifiers.init(3808);
+    public static final NodeId ProgramTransitionAuditEventType_InputArguments = Identifiers.init(3822);
+    public static final NodeId ProgramTransitionAuditEventType_LocalTime = Identifiers.init(3813);
+    public static final NodeId ProgramTransitionAuditEventType_Message = Identifiers.init(3814);
+    public static final NodeId ProgramTransitionAuditEventType_MethodId = Identifiers.init(3821);
+    public static final NodeId ProgramTransitionAuditEventType_NewStateId = Identifiers.init(3824);
+    public static final NodeId ProgramTransitionAuditEventType_OldStateId = Identifiers.init(3823);
+    public static final NodeId ProgramTransitionAuditEventType_ReceiveTime = Identifiers.init(3812);
+    public static final NodeId ProgramTransitionAuditEventType_ServerId = Identifiers.init(3818);
+    public static final NodeId ProgramTransitionAuditEventType_Severity = Identifiers.init(3815);
+    public static final NodeId ProgramTransitionAuditEventType_SourceName = Identifiers.init(3810);
+    public static final NodeId ProgramTransitionAuditEventType_SourceNode = Identifiers.init(3809);
+    public static final NodeId ProgramTransitionAuditEventType_Status = Identifiers.init(3817);
+    public static final NodeId ProgramTransitionAuditEventType_Time = Identifiers.init(3811);
+    public static final NodeId ProgramTransitionAuditEventType_Transition = Identifiers.init(3825);
+    public static final NodeId ProgramTransitionAuditEventType_Transition_EffectiveTransitionTime = Identifiers.init(11463);
+    public static final NodeId ProgramTransitionAuditEventType_Transition_Id = Identifiers.init(3826);
+    public static final NodeId ProgramTransitionAuditEventType_Transition_Name = Identifiers.init(3827);
+    public static final NodeId ProgramTransitionAuditEventType_Transition_Number = Identifiers.init(3828);
+    public static final NodeId ProgramTransitionAuditEventType_Transition_TransitionTime = Identifiers.init(3829);
+    public static final NodeId ProgramTransitionEventType_EventId = Identifiers.init(3782);
+    public static final NodeId ProgramTransitionEventType_EventType = Identifiers.init(3783);
+    public static final NodeId ProgramTransitionEventType_FromState = Identifiers.init(3791);
+    public static final NodeId ProgramTransitionEventType_FromState_EffectiveDisplayName = Identifiers.init(3795);
+    public static final NodeId ProgramTransitionEventType_FromState_Id = Identifiers.init(3792);
+    public static final NodeId ProgramTransitionEventType_FromState_Name = Identifiers.init(3793);
+    public static final NodeId ProgramTransitionEventType_FromState_Number = Identifiers.init(3794);
+    public static final NodeId ProgramTransitionEventType_IntermediateResult = Identifiers.init(2379);
+    public static final NodeId ProgramTransitionEventType_LocalTime = Identifiers.init(3788);
+    public static final NodeId ProgramTransitionEventType_Message = Identifiers.init(3789);
+    public static final NodeId ProgramTransitionEventType_ReceiveTime = Identifiers.init(3787);
+    public static final NodeId ProgramTransitionEventType_Severity = Identifiers.init(3790);
+    public static final NodeId ProgramTransitionEventType_SourceName = Identifiers.init(3785);
+    public static final NodeId ProgramTransitionEventType_SourceNode = Identifiers.init(3784);
+    public static final NodeId ProgramTransitionEventType_Time = Identifiers.init(3786);
+    public static final NodeId ProgramTransitionEventType_ToState = Identifiers.init(3796);
+    public static final NodeId ProgramTransitionEventType_ToState_EffectiveDisplayName = Identifiers.init(3800);
+    public static final NodeId ProgramTransitionEventType_ToState_Id = Identifiers.init(3797);
+    public static final NodeId ProgramTransitionEventType_ToState_Name = Identifiers.init(3798);
+    public static final NodeId ProgramTransitionEventType_ToState_Number = Identifiers.init(3799);
+    public static final NodeId ProgramTransitionEventType_Transition = Identifiers.init(3801);
+    public static final NodeId ProgramTransitionEventType_Transition_EffectiveTransitionTime = Identifiers.init(11462);
+    public static final NodeId ProgramTransitionEventType_Transition_Id = Identifiers.init(3802);
+    public static final NodeId ProgramTransitionEventType_Transition_Name = Identifiers.init(3803);
+    public static final NodeId ProgramTransitionEventType_Transition_Number = Identifiers.init(3804);
+    public static final NodeId ProgramTransitionEventType_Transition_TransitionTime = Identifiers.init(3805);
+    public static final NodeId ProgressEventType_Context = Identifiers.init(12502);
+    public static final NodeId ProgressEventType_EventId = Identifiers.init(11437);
+    public static final NodeId ProgressEventType_EventType = Identifiers.init(11438);
+    public static final NodeId ProgressEventType_LocalTime = Identifiers.init(11443);
+    public static final NodeId ProgressEventType_Message = Identifiers.init(11444);
+    public static final NodeId ProgressEventType_Progress = Identifiers.init(12503);
+    public static final NodeId ProgressEventType_ReceiveTime = Identifiers.init(11442);
+    public static final NodeId ProgressEventType_Severity = Identifiers.init(11445);
+    public static final NodeId ProgressEventType_SourceName = Identifiers.init(11440);
+    public static final NodeId ProgressEventType_SourceNode = Identifiers.init(11439);
+    public static final NodeId ProgressEventType_Time = Identifiers.init(11441);
+    public static final NodeId ReadMethodType_InputArguments = Identifiers.init(11744);
+    public static final NodeId ReadMethodType_OutputArguments = Identifiers.init(11745);
+    public static final NodeId RedundancySupport_EnumStrings = Identifiers.init(7611);
+    public static final NodeId RefreshEndEventType_EventId = Identifiers.init(3978);
+    public static final NodeId RefreshEndEventType_EventType = Identifiers.init(3979);
+    public static final NodeId RefreshEndEventType_LocalTime = Identifiers.init(3984);
+    public static final NodeId RefreshEndEventType_Message = Identifiers.init(3985);
+    public static final NodeId RefreshEndEventType_ReceiveTime = Identifiers.init(3983);
+    public static final NodeId RefreshEndEventType_Severity = Identifiers.init(3986);
+    public static final NodeId RefreshEndEventType_SourceName = Identifiers.init(3981);
+    public static final NodeId RefreshEndEventType_SourceNode = Identifiers.init(3980);
+    public static final NodeId RefreshEndEventType_Time = Identifiers.init(3982);
+    public static final NodeId RefreshRequiredEventType_EventId = Identifiers.init(3987);
+    public static final NodeId RefreshRequiredEventType_EventType = Identifiers.init(3988);
+    public static final NodeId RefreshRequiredEventType_LocalTime = Identifiers.init(3993);
+    public static final NodeId RefreshRequiredEventType_Message = Identifiers.init(3994);
+    public static final NodeId RefreshRequiredEventType_ReceiveTime = Identifiers.init(3992);
+    public static final NodeId RefreshRequiredEventType_Severity = Identifiers.init(3995);
+    public static final NodeId RefreshRequiredEventType_SourceName = Identifiers.init(3990);
+    public static final NodeId RefreshRequiredEventType_SourceNode = Identifiers.init(3989);
+    public static final NodeId RefreshRequiredEventType_Time = Identifiers.init(3991);
+    public static final NodeId RefreshStartEventType_EventId = Identifiers.init(3969);
+    public static final NodeId RefreshStartEventType_EventType = Identifiers.init(3970);
+    public static final NodeId RefreshStartEventType_LocalTime = Identifiers.init(3975);
+    public static final NodeId RefreshStartEventType_Message = Identifiers.init(3976);
+    public static final NodeId RefreshStartEventType_ReceiveTime = Identifiers.init(3974);
+    public static final NodeId RefreshStartEventType_Severity = Identifiers.init(3977);
+    public static final NodeId RefreshStartEventType_SourceName = Identifiers.init(3972);
+    public static final NodeId RefreshStartEventType_SourceNode = Identifiers.init(3971);
+    public static final NodeId RefreshStartEventType_Time = Identifiers.init(3973);
+    public static final NodeId RemoveCertificateMethodType_InputArguments = Identifiers.init(12521);
+    public static final NodeId RequestServerStateChangeMethodType_InputArguments = Identifiers.init(12889);
+    public static final NodeId ResendDataMethodType_InputArguments = Identifiers.init(12876);
+ 
+}
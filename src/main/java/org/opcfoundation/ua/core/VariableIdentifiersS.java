@@ -0,0 +1,891 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard variables, of the types and instances starting with S. Accessed through {@link Identifiers}.
+ */
+public interface VariableIdentifiersS {
+	
+    public static final NodeId SamplingIntervalDiagnosticsArrayType_SamplingIntervalDiagnostics = Identifiers.init(12779);
+    public static final NodeId SamplingIntervalDiagnosticsArrayType_SamplingIntervalDiagnostics_DisabledMonitoredItemsSamplingCount = Identifiers.init(12783);
+    public static final NodeId SamplingIntervalDiagnosticsArrayType_SamplingIntervalDiagnostics_MaxSampledMonitoredItemsCount = Identifiers.init(12782);
+    public static final NodeId SamplingIntervalDiagnosticsArrayType_SamplingIntervalDiagnostics_SampledMonitoredItemsCount = Identifiers.init(12781);
+    public static final NodeId SamplingIntervalDiagnosticsArrayType_SamplingIntervalDiagnostics_SamplingInterval = Identifiers.init(12780);
+    public static final NodeId SamplingIntervalDiagnosticsType_DisabledMonitoredItemsSamplingCount = Identifiers.init(11699);
+    public static final NodeId SamplingIntervalDiagnosticsType_MaxSampledMonitoredItemsCount = Identifiers.init(11698);
+    public static final NodeId SamplingIntervalDiagnosticsType_SampledMonitoredItemsCount = Identifiers.init(11697);
+    public static final NodeId SamplingIntervalDiagnosticsType_SamplingInterval = Identifiers.init(2166);
+    public static final NodeId SecurityTokenRequestType_EnumStrings = Identifiers.init(7598);
+    public static final NodeId SemanticChangeEventType_Changes = Identifiers.init(2739);
+    public static final NodeId SemanticChangeEventType_EventId = Identifiers.init(3689);
+    public static final NodeId SemanticChangeEventType_EventType = Identifiers.init(3690);
+    public static final NodeId SemanticChangeEventType_LocalTime = Identifiers.init(3695);
+    public static final NodeId SemanticChangeEventType_Message = Identifiers.init(3696);
+    public static final NodeId SemanticChangeEventType_ReceiveTime = Identifiers.init(3694);
+    public static final NodeId SemanticChangeEventType_Severity = Identifiers.init(3697);
+    public static final NodeId SemanticChangeEventType_SourceName = Identifiers.init(3692);
+    public static final NodeId SemanticChangeEventType_SourceNode = Identifiers.init(3691);
+    public static final NodeId SemanticChangeEventType_Time = Identifiers.init(3693);
+    public static final NodeId ServerCapabilitiesType_LocaleIdArray = Identifiers.init(2016);
+    public static final NodeId ServerCapabilitiesType_MaxArrayLength = Identifiers.init(11549);
+    public static final NodeId ServerCapabilitiesType_MaxBrowseContinuationPoints = Identifiers.init(2732);
+    public static final NodeId ServerCapabilitiesType_MaxByteStringLength = Identifiers.init(12910);
+    public static final NodeId ServerCapabilitiesType_MaxHistoryContinuationPoints = Identifiers.init(2734);
+    public static final NodeId ServerCapabilitiesType_MaxQueryContinuationPoints = Identifiers.init(2733);
+    public static final NodeId ServerCapabilitiesType_MaxStringLength = Identifiers.init(11550);
+    public static final NodeId ServerCapabilitiesType_MinSupportedSampleRate = Identifiers.init(2017);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxMonitoredItemsPerCall = Identifiers.init(11561);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerBrowse = Identifiers.init(11557);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerHistoryReadData = Identifiers.init(12157);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerHistoryReadEvents = Identifiers.init(12158);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerHistoryUpdateData = Identifiers.init(12159);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerHistoryUpdateEvents = Identifiers.init(12160);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerMethodCall = Identifiers.init(11556);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerNodeManagement = Identifiers.init(11560);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerRead = Identifiers.init(11552);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerRegisterNodes = Identifiers.init(11558);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerTranslateBrowsePathsToNodeIds = Identifiers.init(11559);
+    public static final NodeId ServerCapabilitiesType_OperationLimits_MaxNodesPerWrite = Identifiers.init(11554);
+    public static final NodeId ServerCapabilitiesType_ServerProfileArray = Identifiers.init(2014);
+    public static final NodeId ServerCapabilitiesType_SoftwareCertificates = Identifiers.init(3049);
+    public static final NodeId ServerCapabilitiesType_VendorCapability_Placeholder = Identifiers.init(11562);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_CertificateTypes = Identifiers.init(13984);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(13981);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(13978);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(13979);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Close_InputArguments = Identifiers.init(13962);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_GetPosition_InputArguments = Identifiers.init(13969);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(13970);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_LastUpdateTime = Identifiers.init(13973);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_MimeType = Identifiers.init(13957);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_OpenCount = Identifiers.init(13956);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(13975);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(13976);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Open_InputArguments = Identifiers.init(13959);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Open_OutputArguments = Identifiers.init(13960);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Read_InputArguments = Identifiers.init(13964);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Read_OutputArguments = Identifiers.init(13965);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(13983);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_SetPosition_InputArguments = Identifiers.init(13972);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Size = Identifiers.init(13953);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_UserWritable = Identifiers.init(13955);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Writable = Identifiers.init(13954);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultApplicationGroup_TrustList_Write_InputArguments = Identifiers.init(13967);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_CertificateTypes = Identifiers.init(14018);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(14015);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(14012);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(14013);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Close_InputArguments = Identifiers.init(13996);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_GetPosition_InputArguments = Identifiers.init(14003);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(14004);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_LastUpdateTime = Identifiers.init(14007);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_MimeType = Identifiers.init(13991);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_OpenCount = Identifiers.init(13990);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(14009);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(14010);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Open_InputArguments = Identifiers.init(13993);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Open_OutputArguments = Identifiers.init(13994);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Read_InputArguments = Identifiers.init(13998);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Read_OutputArguments = Identifiers.init(13999);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(14017);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_SetPosition_InputArguments = Identifiers.init(14006);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Size = Identifiers.init(13987);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_UserWritable = Identifiers.init(13989);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Writable = Identifiers.init(13988);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultHttpsGroup_TrustList_Write_InputArguments = Identifiers.init(14001);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_CertificateTypes = Identifiers.init(14052);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(14049);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(14046);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(14047);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Close_InputArguments = Identifiers.init(14030);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_GetPosition_InputArguments = Identifiers.init(14037);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(14038);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_LastUpdateTime = Identifiers.init(14041);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_MimeType = Identifiers.init(14025);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_OpenCount = Identifiers.init(14024);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(14043);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(14044);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Open_InputArguments = Identifiers.init(14027);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Open_OutputArguments = Identifiers.init(14028);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Read_InputArguments = Identifiers.init(14032);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Read_OutputArguments = Identifiers.init(14033);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(14051);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_SetPosition_InputArguments = Identifiers.init(14040);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Size = Identifiers.init(14021);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_UserWritable = Identifiers.init(14023);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Writable = Identifiers.init(14022);
+    public static final NodeId ServerConfigurationType_CertificateGroups_DefaultUserTokenGroup_TrustList_Write_InputArguments = Identifiers.init(14035);
+    public static final NodeId ServerConfigurationType_CreateSigningRequest_InputArguments = Identifiers.init(12732);
+    public static final NodeId ServerConfigurationType_CreateSigningRequest_OutputArguments = Identifiers.init(12733);
+    public static final NodeId ServerConfigurationType_GetRejectedList_OutputArguments = Identifiers.init(12776);
+    public static final NodeId ServerConfigurationType_MaxTrustListSize = Identifiers.init(12584);
+    public static final NodeId ServerConfigurationType_MulticastDnsEnabled = Identifiers.init(12585);
+    public static final NodeId ServerConfigurationType_ServerCapabilities = Identifiers.init(12708);
+    public static final NodeId ServerConfigurationType_SupportedPrivateKeyFormats = Identifiers.init(12583);
+    public static final NodeId ServerConfigurationType_UpdateCertificate_InputArguments = Identifiers.init(12617);
+    public static final NodeId ServerConfigurationType_UpdateCertificate_OutputArguments = Identifiers.init(12618);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_CertificateTypes = Identifiers.init(14161);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(12669);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(14160);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(12667);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Close_InputArguments = Identifiers.init(12651);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_GetPosition_InputArguments = Identifiers.init(12658);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(12659);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_LastUpdateTime = Identifiers.init(12662);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_MimeType = Identifiers.init(14159);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_OpenCount = Identifiers.init(12646);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(12664);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(12665);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Open_InputArguments = Identifiers.init(12648);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Open_OutputArguments = Identifiers.init(12649);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Read_InputArguments = Identifiers.init(12653);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Read_OutputArguments = Identifiers.init(12654);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(12671);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_SetPosition_InputArguments = Identifiers.init(12661);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Size = Identifiers.init(12643);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_UserWritable = Identifiers.init(14158);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Writable = Identifiers.init(14157);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultApplicationGroup_TrustList_Write_InputArguments = Identifiers.init(12656);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_CertificateTypes = Identifiers.init(14121);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(14118);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(14115);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(14116);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Close_InputArguments = Identifiers.init(14099);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_GetPosition_InputArguments = Identifiers.init(14106);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(14107);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_LastUpdateTime = Identifiers.init(14110);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_MimeType = Identifiers.init(14094);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_OpenCount = Identifiers.init(14093);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(14112);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(14113);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Open_InputArguments = Identifiers.init(14096);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Open_OutputArguments = Identifiers.init(14097);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Read_InputArguments = Identifiers.init(14101);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Read_OutputArguments = Identifiers.init(14102);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(14120);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_SetPosition_InputArguments = Identifiers.init(14109);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Size = Identifiers.init(14090);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_UserWritable = Identifiers.init(14092);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Writable = Identifiers.init(14091);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultHttpsGroup_TrustList_Write_InputArguments = Identifiers.init(14104);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_CertificateTypes = Identifiers.init(14155);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_AddCertificate_InputArguments = Identifiers.init(14152);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_CloseAndUpdate_InputArguments = Identifiers.init(14149);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_CloseAndUpdate_OutputArguments = Identifiers.init(14150);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Close_InputArguments = Identifiers.init(14133);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_GetPosition_InputArguments = Identifiers.init(14140);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_GetPosition_OutputArguments = Identifiers.init(14141);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_LastUpdateTime = Identifiers.init(14144);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_MimeType = Identifiers.init(14128);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_OpenCount = Identifiers.init(14127);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_OpenWithMasks_InputArguments = Identifiers.init(14146);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_OpenWithMasks_OutputArguments = Identifiers.init(14147);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Open_InputArguments = Identifiers.init(14130);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Open_OutputArguments = Identifiers.init(14131);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Read_InputArguments = Identifiers.init(14135);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Read_OutputArguments = Identifiers.init(14136);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_RemoveCertificate_InputArguments = Identifiers.init(14154);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_SetPosition_InputArguments = Identifiers.init(14143);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Size = Identifiers.init(14124);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_UserWritable = Identifiers.init(14126);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Writable = Identifiers.init(14125);
+    public static final NodeId ServerConfiguration_CertificateGroups_DefaultUserTokenGroup_TrustList_Write_InputArguments = Identifiers.init(14138);
+    public static final NodeId ServerConfiguration_CreateSigningRequest_InputArguments = Identifiers.init(12738);
+    public static final NodeId ServerConfiguration_CreateSigningRequest_OutputArguments = Identifiers.init(12739);
+    public static final NodeId ServerConfiguration_GetRejectedList_OutputArguments = Identifiers.init(12778);
+    public static final NodeId ServerConfiguration_MaxTrustListSize = Identifiers.init(12640);
+    public static final NodeId ServerConfiguration_MulticastDnsEnabled = Identifiers.init(12641);
+    public static final NodeId ServerConfiguration_ServerCapabilities = Identifiers.init(12710);
+    public static final NodeId ServerConfiguration_SupportedPrivateKeyFormats = Identifiers.init(12639);
+    public static final NodeId ServerConfiguration_UpdateCertificate_InputArguments = Identifiers.init(13738);
+    public static final NodeId ServerConfiguration_UpdateCertificate_OutputArguments = Identifiers.init(13739);
+    public static final NodeId ServerDiagnosticsSummaryType_CumulatedSessionCount = Identifiers.init(2153);
+    public static final NodeId ServerDiagnosticsSummaryType_CumulatedSubscriptionCount = Identifiers.init(2161);
+    public static final NodeId ServerDiagnosticsSummaryType_CurrentSessionCount = Identifiers.init(2152);
+    public static final NodeId ServerDiagnosticsSummaryType_CurrentSubscriptionCount = Identifiers.init(2160);
+    public static final NodeId ServerDiagnosticsSummaryType_PublishingIntervalCount = Identifiers.init(2159);
+    public static final NodeId ServerDiagnosticsSummaryType_RejectedRequestsCount = Identifiers.init(2163);
+    public static final NodeId ServerDiagnosticsSummaryType_RejectedSessionCount = Identifiers.init(2155);
+    public static final NodeId ServerDiagnosticsSummaryType_SecurityRejectedRequestsCount = Identifiers.init(2162);
+    public static final NodeId ServerDiagnosticsSummaryType_SecurityRejectedSessionCount = Identifiers.init(2154);
+    public static final NodeId ServerDiagnosticsSummaryType_ServerViewCount = Identifiers.init(2151);
+    public static final NodeId ServerDiagnosticsSummaryType_SessionAbortCount = Identifiers.init(2157);
+    public static final NodeId ServerDiagnosticsSummaryType_SessionTimeoutCount = Identifiers.init(2156);
+    public static final NodeId ServerDiagnosticsType_EnabledFlag = Identifiers.init(2025);
+    public static final NodeId ServerDiagnosticsType_SamplingIntervalDiagnosticsArray = Identifiers.init(2022);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary = Identifiers.init(2021);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_CumulatedSessionCount = Identifiers.init(3118);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_CumulatedSubscriptionCount = Identifiers.init(3126);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_CurrentSessionCount = Identifiers.init(3117);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_CurrentSubscriptionCount = Identifiers.init(3125);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_PublishingIntervalCount = Identifiers.init(3124);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_RejectedRequestsCount = Identifiers.init(3128);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_RejectedSessionCount = Identifiers.init(3120);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_SecurityRejectedRequestsCount = Identifiers.init(3127);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_SecurityRejectedSessionCount = Identifiers.init(3119);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_ServerViewCount = Identifiers.init(3116);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_SessionAbortCount = Identifiers.init(3122);
+    public static final NodeId ServerDiagnosticsType_ServerDiagnosticsSummary_SessionTimeoutCount = Identifiers.init(3121);
+    public static final NodeId ServerDiagnosticsType_SessionsDiagnosticsSummary_SessionDiagnosticsArray = Identifiers.init(3129);
+    public static final NodeId ServerDiagnosticsType_SessionsDiagnosticsSummary_SessionSecurityDiagnosticsArray = Identifiers.init(3130);
+    public static final NodeId ServerDiagnosticsType_SubscriptionDiagnosticsArray = Identifiers.init(2023);
+    public static final NodeId ServerRedundancyType_RedundancySupport = Identifiers.init(2035);
+    public static final NodeId ServerState_EnumStrings = Identifiers.init(7612);
+    public static final NodeId ServerStatusType_BuildInfo = Identifiers.init(2142);
+    public static final NodeId ServerStatusType_BuildInfo_BuildDate = Identifiers.init(3703);
+    public static final NodeId ServerStatusType_BuildInfo_BuildNumber = Identifiers.init(3702);
+    public static final NodeId ServerStatusType_BuildInfo_ManufacturerName = Identifiers.init(3699);
+    public static final NodeId ServerStatusType_BuildInfo_ProductName = Identifiers.init(3700);
+    public static final NodeId ServerStatusType_BuildInfo_ProductUri = Identifiers.init(3698);
+    public static final NodeId ServerStatusType_BuildInfo_SoftwareVersion = Identifiers.init(3701);
+    public static final NodeId ServerStatusType_CurrentTime = Identifiers.init(2140);
+    public static final NodeId ServerStatusType_SecondsTillShutdown = Identifiers.init(2752);
+    public static final NodeId ServerStatusType_ShutdownReason = Identifiers.init(2753);
+    public static final NodeId ServerStatusType_StartTime = Identifiers.init(2139);
+    public static final NodeId ServerStatusType_State = Identifiers.init(2141);
+    public static final NodeId ServerType_Auditing = Identifiers.init(2742);
+    public static final NodeId ServerType_EstimatedReturnTime = Identifiers.init(12882);
+    public static final NodeId ServerType_GetMonitoredItems_InputArguments = Identifiers.init(11490);
+    public static final NodeId ServerType_GetMonitoredItems_OutputArguments = Identifiers.init(11491);
+    public static final NodeId ServerType_NamespaceArray = Identifiers.init(2006);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Close_InputArguments = Identifiers.init(11537);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_GetPosition_InputArguments = Identifiers.init(11544);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_GetPosition_OutputArguments = Identifiers.init(11545);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_MimeType = Identifiers.init(13340);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_OpenCount = Identifiers.init(11532);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Open_InputArguments = Identifiers.init(11534);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Open_OutputArguments = Identifiers.init(11535);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Read_InputArguments = Identifiers.init(11539);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Read_OutputArguments = Identifiers.init(11540);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_SetPosition_InputArguments = Identifiers.init(11547);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Size = Identifiers.init(11529);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_UserWritable = Identifiers.init(12685);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Writable = Identifiers.init(12684);
+    public static final NodeId ServerType_Namespaces_AddressSpaceFile_Write_InputArguments = Identifiers.init(11542);
+    public static final NodeId ServerType_RequestServerStateChange_InputArguments = Identifiers.init(12884);
+    public static final NodeId ServerType_ResendData_InputArguments = Identifiers.init(12872);
+    public static final NodeId ServerType_ServerArray = Identifiers.init(2005);
+    public static final NodeId ServerType_ServerCapabilities_LocaleIdArray = Identifiers.init(3087);
+    public static final NodeId ServerType_ServerCapabilities_MaxArrayLength = Identifiers.init(11514);
+    public static final NodeId ServerType_ServerCapabilities_MaxBrowseContinuationPoints = Identifiers.init(3089);
+    public static final NodeId ServerType_ServerCapabilities_MaxByteStringLength = Identifiers.init(12909);
+    public static final NodeId ServerType_ServerCapabilities_MaxHistoryContinuationPoints = Identifiers.init(3091);
+    public static final NodeId ServerType_ServerCapabilities_MaxQueryContinuationPoints = Identifiers.init(3090);
+    public static final NodeId ServerType_ServerCapabilities_MaxStringLength = Identifiers.init(11515);
+    public static final NodeId ServerType_ServerCapabilities_MinSupportedSampleRate = Identifiers.init(3088);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxMonitoredItemsPerCall = Identifiers.init(11526);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerBrowse = Identifiers.init(11522);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerHistoryReadData = Identifiers.init(12153);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerHistoryReadEvents = Identifiers.init(12154);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerHistoryUpdateData = Identifiers.init(12155);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerHistoryUpdateEvents = Identifiers.init(12156);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerMethodCall = Identifiers.init(11521);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerNodeManagement = Identifiers.init(11525);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerRead = Identifiers.init(11517);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerRegisterNodes = Identifiers.init(11523);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerTranslateBrowsePathsToNodeIds = Identifiers.init(11524);
+    public static final NodeId ServerType_ServerCapabilities_OperationLimits_MaxNodesPerWrite = Identifiers.init(11519);
+    public static final NodeId ServerType_ServerCapabilities_ServerProfileArray = Identifiers.init(3086);
+    public static final NodeId ServerType_ServerCapabilities_SoftwareCertificates = Identifiers.init(3092);
+    public static final NodeId ServerType_ServerDiagnostics_EnabledFlag = Identifiers.init(3114);
+    public static final NodeId ServerType_ServerDiagnostics_SamplingIntervalDiagnosticsArray = Identifiers.init(3109);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary = Identifiers.init(3095);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_CumulatedSessionCount = Identifiers.init(3098);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_CumulatedSubscriptionCount = Identifiers.init(3106);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_CurrentSessionCount = Identifiers.init(3097);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_CurrentSubscriptionCount = Identifiers.init(3105);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_PublishingIntervalCount = Identifiers.init(3104);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_RejectedRequestsCount = Identifiers.init(3108);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_RejectedSessionCount = Identifiers.init(3100);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_SecurityRejectedRequestsCount = Identifiers.init(3107);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_SecurityRejectedSessionCount = Identifiers.init(3099);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_ServerViewCount = Identifiers.init(3096);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_SessionAbortCount = Identifiers.init(3102);
+    public static final NodeId ServerType_ServerDiagnostics_ServerDiagnosticsSummary_SessionTimeoutCount = Identifiers.init(3101);
+    public static final NodeId ServerType_ServerDiagnostics_SessionsDiagnosticsSummary_SessionDiagnosticsArray = Identifiers.init(3112);
+    public static final NodeId ServerType_ServerDiagnostics_SessionsDiagnosticsSummary_SessionSecurityDiagnosticsArray = Identifiers.init(3113);
+    public static final NodeId ServerType_ServerDiagnostics_SubscriptionDiagnosticsArray = Identifiers.init(3110);
+    public static final NodeId ServerType_ServerRedundancy_RedundancySupport = Identifiers.init(3115);
+    public static final NodeId ServerType_ServerStatus = Identifiers.init(2007);
+    public static final NodeId ServerType_ServerStatus_BuildInfo = Identifiers.init(3077);
+    public static final NodeId ServerType_ServerStatus_BuildInfo_BuildDate = Identifiers.init(3083);
+    public static final NodeId ServerType_ServerStatus_BuildInfo_BuildNumber = Identifiers.init(3082);
+    public static final NodeId ServerType_ServerStatus_BuildInfo_ManufacturerName = Identifiers.init(3079);
+    public static final NodeId ServerType_ServerStatus_BuildInfo_ProductName = Identifiers.init(3080);
+    public static final NodeId ServerType_ServerStatus_BuildInfo_ProductUri = Identifiers.init(3078);
+    public static final NodeId ServerType_ServerStatus_BuildInfo_SoftwareVersion = Identifiers.init(3081);
+    public static final NodeId ServerType_ServerStatus_CurrentTime = Identifiers.init(3075);
+    public static final NodeId ServerType_ServerStatus_SecondsTillShutdown = Identifiers.init(3084);
+    public static final NodeId ServerType_ServerStatus_ShutdownReason = Identifiers.init(3085);
+    public static final NodeId ServerType_ServerStatus_StartTime = Identifiers.init(3074);
+    public static final NodeId ServerType_ServerStatus_State = Identifiers.init(3076);
+    public static final NodeId ServerType_ServiceLevel = Identifiers.init(2008);
+    public static final NodeId ServerType_SetSubscriptionDurable_InputArguments = Identifiers.init(12747);
+    public static final NodeId ServerType_SetSubscriptionDurable_OutputArguments = Identifiers.init(12748);
+    public static final NodeId Server_Auditing = Identifiers.init(2994);
+    public static final NodeId Server_EstimatedReturnTime = Identifiers.init(12885);
+    public static final NodeId Server_GetMonitoredItems_InputArguments = Identifiers.init(11493);
+    public static final NodeId Server_GetMonitoredItems_OutputArguments = Identifiers.init(11494);
+    public static final NodeId Server_NamespaceArray = Identifiers.init(2255);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Close_InputArguments = Identifiers.init(11725);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_GetPosition_InputArguments = Identifiers.init(11732);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_GetPosition_OutputArguments = Identifiers.init(11733);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_MimeType = Identifiers.init(13402);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_OpenCount = Identifiers.init(11720);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Open_InputArguments = Identifiers.init(11722);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Open_OutputArguments = Identifiers.init(11723);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Read_InputArguments = Identifiers.init(11727);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Read_OutputArguments = Identifiers.init(11728);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_SetPosition_InputArguments = Identifiers.init(11735);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Size = Identifiers.init(11717);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_UserWritable = Identifiers.init(12697);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Writable = Identifiers.init(12696);
+    public static final NodeId Server_Namespaces_AddressSpaceFile_Write_InputArguments = Identifiers.init(11730);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_IsNamespaceSubset = Identifiers.init(15186);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Close_InputArguments = Identifiers.init(15200);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_GetPosition_InputArguments = Identifiers.init(15207);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_GetPosition_OutputArguments = Identifiers.init(15208);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_MimeType = Identifiers.init(15195);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_OpenCount = Identifiers.init(15194);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Open_InputArguments = Identifiers.init(15197);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Open_OutputArguments = Identifiers.init(15198);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Read_InputArguments = Identifiers.init(15202);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Read_OutputArguments = Identifiers.init(15203);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_SetPosition_InputArguments = Identifiers.init(15210);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Size = Identifiers.init(15191);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_UserWritable = Identifiers.init(15193);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Writable = Identifiers.init(15192);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceFile_Write_InputArguments = Identifiers.init(15205);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespacePublicationDate = Identifiers.init(15185);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceUri = Identifiers.init(15183);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_NamespaceVersion = Identifiers.init(15184);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_StaticNodeIdTypes = Identifiers.init(15187);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_StaticNumericNodeIdRange = Identifiers.init(15188);
+    public static final NodeId Server_Namespaces_OPCUANamespaceUri_StaticStringNodeIdPattern = Identifiers.init(15189);
+    public static final NodeId Server_RequestServerStateChange_InputArguments = Identifiers.init(12887);
+    public static final NodeId Server_ResendData_InputArguments = Identifiers.init(12874);
+    public static final NodeId Server_ServerArray = Identifiers.init(2254);
+    public static final NodeId Server_ServerCapabilities_LocaleIdArray = Identifiers.init(2271);
+    public static final NodeId Server_ServerCapabilities_MaxArrayLength = Identifiers.init(11702);
+    public static final NodeId Server_ServerCapabilities_MaxBrowseContinuationPoints = Identifiers.init(2735);
+    public static final NodeId Server_ServerCapabilities_MaxByteStringLength = Identifiers.init(12911);
+    public static final NodeId Server_ServerCapabilities_MaxHistoryContinuationPoints = Identifiers.init(2737);
+    public static final NodeId Server_ServerCapabilities_MaxQueryContinuationPoints = Identifiers.init(2736);
+    public static final NodeId Server_ServerCapabilities_MaxStringLength = Identifiers.init(11703);
+    public static final NodeId Server_ServerCapabilities_MinSupportedSampleRate = Identifiers.init(2272);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxMonitoredItemsPerCall = Identifiers.init(11714);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerBrowse = Identifiers.init(11710);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerHistoryReadData = Identifiers.init(12165);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerHistoryReadEvents = Identifiers.init(12166);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerHistoryUpdateData = Identifiers.init(12167);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerHistoryUpdateEvents = Identifiers.init(12168);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerMethodCall = Identifiers.init(11709);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerNodeManagement = Identifiers.init(11713);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerRead = Identifiers.init(11705);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerRegisterNodes = Identifiers.init(11711);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerTranslateBrowsePathsToNodeIds = Identifiers.init(11712);
+    public static final NodeId Server_ServerCapabilities_OperationLimits_MaxNodesPerWrite = Identifiers.init(11707);
+    public static final NodeId Server_ServerCapabilities_ServerProfileArray = Identifiers.init(2269);
+    public static final NodeId Server_ServerCapabilities_SoftwareCertificates = Identifiers.init(3704);
+    public static final NodeId Server_ServerDiagnostics_EnabledFlag = Identifiers.init(2294);
+    public static final NodeId Server_ServerDiagnostics_SamplingIntervalDiagnosticsArray = Identifiers.init(2289);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary = Identifiers.init(2275);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_CumulatedSessionCount = Identifiers.init(2278);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_CumulatedSubscriptionCount = Identifiers.init(2286);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_CurrentSessionCount = Identifiers.init(2277);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_CurrentSubscriptionCount = Identifiers.init(2285);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_PublishingIntervalCount = Identifiers.init(2284);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_RejectedRequestsCount = Identifiers.init(2288);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_RejectedSessionCount = Identifiers.init(3705);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_SecurityRejectedRequestsCount = Identifiers.init(2287);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_SecurityRejectedSessionCount = Identifiers.init(2279);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_ServerViewCount = Identifiers.init(2276);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_SessionAbortCount = Identifiers.init(2282);
+    public static final NodeId Server_ServerDiagnostics_ServerDiagnosticsSummary_SessionTimeoutCount = Identifiers.init(2281);
+    public static final NodeId Server_ServerDiagnostics_SessionsDiagnosticsSummary_SessionDiagnosticsArray = Identifiers.init(3707);
+    public static final NodeId Server_ServerDiagnostics_SessionsDiagnosticsSummary_SessionSecurityDiagnosticsArray = Identifiers.init(3708);
+    public static final NodeId Server_ServerDiagnostics_SubscriptionDiagnosticsArray = Identifiers.init(2290);
+    public static final NodeId Server_ServerRedundancy_CurrentServerId = Identifiers.init(11312);
+    public static final NodeId Server_ServerRedundancy_RedundancySupport = Identifiers.init(3709);
+    public static final NodeId Server_ServerRedundancy_RedundantServerArray = Identifiers.init(11313);
+    public static final NodeId Server_ServerRedundancy_ServerNetworkGroups = Identifiers.init(14415);
+    public static final NodeId Server_ServerRedundancy_ServerUriArray = Identifiers.init(11314);
+    public static final NodeId Server_ServerStatus = Identifiers.init(2256);
+    public static final NodeId Server_ServerStatus_BuildInfo = Identifiers.init(2260);
+    public static final NodeId Server_ServerStatus_BuildInfo_BuildDate = Identifiers.init(2266);
+    public static final NodeId Server_ServerStatus_BuildInfo_BuildNumber = Identifiers.init(2265);
+    public static final NodeId Server_ServerStatus_BuildInfo_ManufacturerName = Identifiers.init(2263);
+    public static final NodeId Server_ServerStatus_BuildInfo_ProductName = Identifiers.init(2261);
+    public static final NodeId Server_ServerStatus_BuildInfo_ProductUri = Identifiers.init(2262);
+    public static final NodeId Server_ServerStatus_BuildInfo_SoftwareVersion = Identifiers.init(2264);
+    public static final NodeId Server_ServerStatus_CurrentTime = Identifiers.init(2258);
+    public static final NodeId Server_ServerStatus_SecondsTillShutdown = Identifiers.init(2992);
+    public static final NodeId Server_ServerStatus_ShutdownReason = Identifiers.init(2993);
+    public static final NodeId Server_ServerStatus_StartTime = Identifiers.init(2257);
+    public static final NodeId Server_ServerStatus_State = Identifiers.init(2259);
+    public static final NodeId Server_ServiceLevel = Identifiers.init(2267);
+    public static final NodeId Server_SetSubscriptionDurable_InputArguments = Identifiers.init(12750);
+    public static final NodeId Server_SetSubscriptionDurable_OutputArguments = Identifiers.init(12751);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics = Identifiers.init(12816);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_ActualSessionTimeout = Identifiers.init(12823);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_AddNodesCount = Identifiers.init(12849);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_AddReferencesCount = Identifiers.init(12850);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_BrowseCount = Identifiers.init(12853);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_BrowseNextCount = Identifiers.init(12854);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_CallCount = Identifiers.init(12836);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_ClientConnectionTime = Identifiers.init(12825);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_ClientDescription = Identifiers.init(12819);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_ClientLastContactTime = Identifiers.init(12826);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_CreateMonitoredItemsCount = Identifiers.init(12837);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_CreateSubscriptionCount = Identifiers.init(12842);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_CurrentMonitoredItemsCount = Identifiers.init(12828);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_CurrentPublishRequestsInQueue = Identifiers.init(12829);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_CurrentSubscriptionsCount = Identifiers.init(12827);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_DeleteMonitoredItemsCount = Identifiers.init(12841);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_DeleteNodesCount = Identifiers.init(12851);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_DeleteReferencesCount = Identifiers.init(12852);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_DeleteSubscriptionsCount = Identifiers.init(12848);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_EndpointUrl = Identifiers.init(12821);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_HistoryReadCount = Identifiers.init(12833);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_HistoryUpdateCount = Identifiers.init(12835);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_LocaleIds = Identifiers.init(12822);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_MaxResponseMessageSize = Identifiers.init(12824);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_ModifyMonitoredItemsCount = Identifiers.init(12838);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_ModifySubscriptionCount = Identifiers.init(12843);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_PublishCount = Identifiers.init(12845);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_QueryFirstCount = Identifiers.init(12856);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_QueryNextCount = Identifiers.init(12857);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_ReadCount = Identifiers.init(12832);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_RegisterNodesCount = Identifiers.init(12858);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_RepublishCount = Identifiers.init(12846);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_ServerUri = Identifiers.init(12820);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_SessionId = Identifiers.init(12817);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_SessionName = Identifiers.init(12818);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_SetMonitoringModeCount = Identifiers.init(12839);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_SetPublishingModeCount = Identifiers.init(12844);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_SetTriggeringCount = Identifiers.init(12840);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_TotalRequestCount = Identifiers.init(12830);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_TransferSubscriptionsCount = Identifiers.init(12847);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_TranslateBrowsePathsToNodeIdsCount = Identifiers.init(12855);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_UnauthorizedRequestCount = Identifiers.init(12831);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_UnregisterNodesCount = Identifiers.init(12859);
+    public static final NodeId SessionDiagnosticsArrayType_SessionDiagnostics_WriteCount = Identifiers.init(12834);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics = Identifiers.init(2030);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_ActualSessionTimeout = Identifiers.init(3137);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_AddNodesCount = Identifiers.init(3168);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_AddReferencesCount = Identifiers.init(3169);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_BrowseCount = Identifiers.init(3172);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_BrowseNextCount = Identifiers.init(3173);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_CallCount = Identifiers.init(3155);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_ClientConnectionTime = Identifiers.init(3139);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_ClientDescription = Identifiers.init(3133);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_ClientLastContactTime = Identifiers.init(3140);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_CreateMonitoredItemsCount = Identifiers.init(3156);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_CreateSubscriptionCount = Identifiers.init(3161);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_CurrentMonitoredItemsCount = Identifiers.init(3142);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_CurrentPublishRequestsInQueue = Identifiers.init(3143);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_CurrentSubscriptionsCount = Identifiers.init(3141);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_DeleteMonitoredItemsCount = Identifiers.init(3160);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_DeleteNodesCount = Identifiers.init(3170);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_DeleteReferencesCount = Identifiers.init(3171);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_DeleteSubscriptionsCount = Identifiers.init(3167);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_EndpointUrl = Identifiers.init(3135);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_HistoryReadCount = Identifiers.init(3152);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_HistoryUpdateCount = Identifiers.init(3154);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_LocaleIds = Identifiers.init(3136);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_MaxResponseMessageSize = Identifiers.init(3138);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_ModifyMonitoredItemsCount = Identifiers.init(3157);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_ModifySubscriptionCount = Identifiers.init(3162);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_PublishCount = Identifiers.init(3164);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_QueryFirstCount = Identifiers.init(3175);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_QueryNextCount = Identifiers.init(3176);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_ReadCount = Identifiers.init(3151);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_RegisterNodesCount = Identifiers.init(3177);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_RepublishCount = Identifiers.init(3165);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_ServerUri = Identifiers.init(3134);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_SessionId = Identifiers.init(3131);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_SessionName = Identifiers.init(3132);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_SetMonitoringModeCount = Identifiers.init(3158);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_SetPublishingModeCount = Identifiers.init(3163);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_SetTriggeringCount = Identifiers.init(3159);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_TotalRequestCount = Identifiers.init(8898);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_TransferSubscriptionsCount = Identifiers.init(3166);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_TranslateBrowsePathsToNodeIdsCount = Identifiers.init(3174);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_UnauthorizedRequestCount = Identifiers.init(11891);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_UnregisterNodesCount = Identifiers.init(3178);
+    public static final NodeId SessionDiagnosticsObjectType_SessionDiagnostics_WriteCount = Identifiers.init(3153);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics = Identifiers.init(2031);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_AuthenticationMechanism = Identifiers.init(3182);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_ClientCertificate = Identifiers.init(3187);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_ClientUserIdHistory = Identifiers.init(3181);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_ClientUserIdOfSession = Identifiers.init(3180);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_Encoding = Identifiers.init(3183);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_SecurityMode = Identifiers.init(3185);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_SecurityPolicyUri = Identifiers.init(3186);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_SessionId = Identifiers.init(3179);
+    public static final NodeId SessionDiagnosticsObjectType_SessionSecurityDiagnostics_TransportProtocol = Identifiers.init(3184);
+    public static final NodeId SessionDiagnosticsObjectType_SubscriptionDiagnosticsArray = Identifiers.init(2032);
+    public static final NodeId SessionDiagnosticsVariableType_ActualSessionTimeout = Identifiers.init(2204);
+    public static final NodeId SessionDiagnosticsVariableType_AddNodesCount = Identifiers.init(2234);
+    public static final NodeId SessionDiagnosticsVariableType_AddReferencesCount = Identifiers.init(2235);
+    public static final NodeId SessionDiagnosticsVariableType_BrowseCount = Identifiers.init(2238);
+    public static final NodeId SessionDiagnosticsVariableType_BrowseNextCount = Identifiers.init(2239);
+    public static final NodeId SessionDiagnosticsVariableType_CallCount = Identifiers.init(2221);
+    public static final NodeId SessionDiagnosticsVariableType_ClientConnectionTime = Identifiers.init(2205);
+    public static final NodeId SessionDiagnosticsVariableType_ClientDescription = Identifiers.init(2200);
+    public static final NodeId SessionDiagnosticsVariableType_ClientLastContactTime = Identifiers.init(2206);
+    public static final NodeId SessionDiagnosticsVariableType_CreateMonitoredItemsCount = Identifiers.init(2222);
+    public static final NodeId SessionDiagnosticsVariableType_CreateSubscriptionCount = Identifiers.init(2227);
+    public static final NodeId SessionDiagnosticsVariableType_CurrentMonitoredItemsCount = Identifiers.init(2208);
+    public static final NodeId SessionDiagnosticsVariableType_CurrentPublishRequestsInQueue = Identifiers.init(2209);
+    public static final NodeId SessionDiagnosticsVariableType_CurrentSubscriptionsCount = Identifiers.init(2207);
+    public static final NodeId SessionDiagnosticsVariableType_DeleteMonitoredItemsCount = Identifiers.init(2226);
+    public static final NodeId SessionDiagnosticsVariableType_DeleteNodesCount = Identifiers.init(2236);
+    public static final NodeId SessionDiagnosticsVariableType_DeleteReferencesCount = Identifiers.init(2237);
+    public static final NodeId SessionDiagnosticsVariableType_DeleteSubscriptionsCount = Identifiers.init(2233);
+    public static final NodeId SessionDiagnosticsVariableType_EndpointUrl = Identifiers.init(2202);
+    public static final NodeId SessionDiagnosticsVariableType_HistoryReadCount = Identifiers.init(2218);
+    public static final NodeId SessionDiagnosticsVariableType_HistoryUpdateCount = Identifiers.init(2220);
+    public static final NodeId SessionDiagnosticsVariableType_LocaleIds = Identifiers.init(2203);
+    public static final NodeId SessionDiagnosticsVariableType_MaxResponseMessageSize = Identifiers.init(3050);
+    public static final NodeId SessionDiagnosticsVariableType_ModifyMonitoredItemsCount = Identifiers.init(2223);
+    public static final NodeId SessionDiagnosticsVariableType_ModifySubscriptionCount = Identifiers.init(2228);
+    public static final NodeId SessionDiagnosticsVariableType_PublishCount = Identifiers.init(2230);
+    public static final NodeId SessionDiagnosticsVariableType_QueryFirstCount = Identifiers.init(2241);
+    public static final NodeId SessionDiagnosticsVariableType_QueryNextCount = Identifiers.init(2242);
+    public static final NodeId SessionDiagnosticsVariableType_ReadCount = Identifiers.init(2217);
+    public static final NodeId SessionDiagnosticsVariableType_RegisterNodesCount = Identifiers.init(2730);
+    public static final NodeId SessionDiagnosticsVariableType_RepublishCount = Identifiers.init(2231);
+    public static final NodeId SessionDiagnosticsVariableType_ServerUri = Identifiers.init(2201);
+    public static final NodeId SessionDiagnosticsVariableType_SessionId = Identifiers.init(2198);
+    public static final NodeId SessionDiagnosticsVariableType_SessionName = Identifiers.init(2199);
+    public static final NodeId SessionDiagnosticsVariableType_SetMonitoringModeCount = Identifiers.init(2224);
+    public static final NodeId SessionDiagnosticsVariableType_SetPublishingModeCount = Identifiers.init(2229);
+    public static final NodeId SessionDiagnosticsVariableType_SetTriggeringCount = Identifiers.init(2225);
+    public static final NodeId SessionDiagnosticsVariableType_TotalRequestCount = Identifiers.init(8900);
+    public static final NodeId SessionDiagnosticsVariableType_TransferSubscriptionsCount = Identifiers.init(2232);
+    public static final NodeId SessionDiagnosticsVariableType_TranslateBrowsePathsToNodeIdsCount = Identifiers.init(2240);
+    public static final NodeId SessionDiagnosticsVariableType_UnauthorizedRequestCount = Identifiers.init(11892);
+    public static final NodeId SessionDiagnosticsVariableType_UnregisterNodesCount = Identifiers.init(2731);
+    public static final NodeId SessionDiagnosticsVariableType_WriteCount = Identifiers.init(2219);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics = Identifiers.init(12860);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_AuthenticationMechanism = Identifiers.init(12864);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_ClientCertificate = Identifiers.init(12869);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_ClientUserIdHistory = Identifiers.init(12863);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_ClientUserIdOfSession = Identifiers.init(12862);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_Encoding = Identifiers.init(12865);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_SecurityMode = Identifiers.init(12867);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_SecurityPolicyUri = Identifiers.init(12868);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_SessionId = Identifiers.init(12861);
+    public static final NodeId SessionSecurityDiagnosticsArrayType_SessionSecurityDiagnostics_TransportProtocol = Identifiers.init(12866);
+    public static final NodeId SessionSecurityDiagnosticsType_AuthenticationMechanism = Identifiers.init(2248);
+    public static final NodeId SessionSecurityDiagnosticsType_ClientCertificate = Identifiers.init(3058);
+    public static final NodeId SessionSecurityDiagnosticsType_ClientUserIdHistory = Identifiers.init(2247);
+    public static final NodeId SessionSecurityDiagnosticsType_ClientUserIdOfSession = Identifiers.init(2246);
+    public static final NodeId SessionSecurityDiagnosticsType_Encoding = Identifiers.init(2249);
+    public static final NodeId SessionSecurityDiagnosticsType_SecurityMode = Identifiers.init(2251);
+    public static final NodeId SessionSecurityDiagnosticsType_SecurityPolicyUri = Identifiers.init(2252);
+    public static final NodeId SessionSecurityDiagnosticsType_SessionId = Identifiers.init(2245);
+    public static final NodeId SessionSecurityDiagnosticsType_TransportProtocol = Identifiers.init(2250);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics = Identifiers.init(12098);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_ActualSessionTimeout = Identifiers.init(12105);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_AddNodesCount = Identifiers.init(12131);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_AddReferencesCount = Identifiers.init(12132);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_BrowseCount = Identifiers.init(12135);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_BrowseNextCount = Identifiers.init(12136);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_CallCount = Identifiers.init(12118);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_ClientConnectionTime = Identifiers.init(12107);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_ClientDescription = Identifiers.init(12101);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_ClientLastContactTime = Identifiers.init(12108);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_CreateMonitoredItemsCount = Identifiers.init(12119);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_CreateSubscriptionCount = Identifiers.init(12124);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_CurrentMonitoredItemsCount = Identifiers.init(12110);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_CurrentPublishRequestsInQueue = Identifiers.init(12111);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_CurrentSubscriptionsCount = Identifiers.init(12109);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_DeleteMonitoredItemsCount = Identifiers.init(12123);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_DeleteNodesCount = Identifiers.init(12133);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_DeleteReferencesCount = Identifiers.init(12134);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_DeleteSubscriptionsCount = Identifiers.init(12130);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_EndpointUrl = Identifiers.init(12103);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_HistoryReadCount = Identifiers.init(12115);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_HistoryUpdateCount = Identifiers.init(12117);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_LocaleIds = Identifiers.init(12104);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_MaxResponseMessageSize = Identifiers.init(12106);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_ModifyMonitoredItemsCount = Identifiers.init(12120);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_ModifySubscriptionCount = Identifiers.init(12125);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_PublishCount = Identifiers.init(12127);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_QueryFirstCount = Identifiers.init(12138);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_QueryNextCount = Identifiers.init(12139);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_ReadCount = Identifiers.init(12114);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_RegisterNodesCount = Identifiers.init(12140);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_RepublishCount = Identifiers.init(12128);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_ServerUri = Identifiers.init(12102);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_SessionId = Identifiers.init(12099);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_SessionName = Identifiers.init(12100);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_SetMonitoringModeCount = Identifiers.init(12121);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_SetPublishingModeCount = Identifiers.init(12126);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_SetTriggeringCount = Identifiers.init(12122);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_TotalRequestCount = Identifiers.init(12112);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_TransferSubscriptionsCount = Identifiers.init(12129);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_TranslateBrowsePathsToNodeIdsCount = Identifiers.init(12137);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_UnauthorizedRequestCount = Identifiers.init(12113);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_UnregisterNodesCount = Identifiers.init(12141);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionDiagnostics_WriteCount = Identifiers.init(12116);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics = Identifiers.init(12142);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_AuthenticationMechanism = Identifiers.init(12146);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_ClientCertificate = Identifiers.init(12151);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_ClientUserIdHistory = Identifiers.init(12145);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_ClientUserIdOfSession = Identifiers.init(12144);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_Encoding = Identifiers.init(12147);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_SecurityMode = Identifiers.init(12149);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_SecurityPolicyUri = Identifiers.init(12150);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_SessionId = Identifiers.init(12143);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SessionSecurityDiagnostics_TransportProtocol = Identifiers.init(12148);
+    public static final NodeId SessionsDiagnosticsSummaryType_ClientName_Placeholder_SubscriptionDiagnosticsArray = Identifiers.init(12152);
+    public static final NodeId SessionsDiagnosticsSummaryType_SessionDiagnosticsArray = Identifiers.init(2027);
+    public static final NodeId SessionsDiagnosticsSummaryType_SessionSecurityDiagnosticsArray = Identifiers.init(2028);
+    public static final NodeId SetPositionMethodType_InputArguments = Identifiers.init(11752);
+    public static final NodeId SetSubscriptionDurableMethodType_InputArguments = Identifiers.init(12753);
+    public static final NodeId SetSubscriptionDurableMethodType_OutputArguments = Identifiers.init(12754);
+    public static final NodeId ShelvedStateMachineType_CurrentState = Identifiers.init(6088);
+    public static final NodeId ShelvedStateMachineType_CurrentState_EffectiveDisplayName = Identifiers.init(6092);
+    public static final NodeId ShelvedStateMachineType_CurrentState_Id = Identifiers.init(6089);
+    public static final NodeId ShelvedStateMachineType_CurrentState_Name = Identifiers.init(6090);
+    public static final NodeId ShelvedStateMachineType_CurrentState_Number = Identifiers.init(6091);
+    public static final NodeId ShelvedStateMachineType_LastTransition = Identifiers.init(6093);
+    public static final NodeId ShelvedStateMachineType_LastTransition_EffectiveTransitionTime = Identifiers.init(11465);
+    public static final NodeId ShelvedStateMachineType_LastTransition_Id = Identifiers.init(6094);
+    public static final NodeId ShelvedStateMachineType_LastTransition_Name = Identifiers.init(6095);
+    public static final NodeId ShelvedStateMachineType_LastTransition_Number = Identifiers.init(6096);
+    public static final NodeId ShelvedStateMachineType_LastTransition_TransitionTime = Identifiers.init(6097);
+    public static final NodeId ShelvedStateMachineType_OneShotShelvedToTimedShelved_TransitionNumber = Identifiers.init(11327);
+    public static final NodeId ShelvedStateMachineType_OneShotShelvedToUnshelved_TransitionNumber = Identifiers.init(11326);
+    public static final NodeId ShelvedStateMachineType_OneShotShelved_StateNumber = Identifiers.init(6101);
+    public static final NodeId ShelvedStateMachineType_TimedShelve_InputArguments = Identifiers.init(2991);
+    public static final NodeId ShelvedStateMachineType_TimedShelvedToOneShotShelved_TransitionNumber = Identifiers.init(11325);
+    public static final NodeId ShelvedStateMachineType_TimedShelvedToUnshelved_TransitionNumber = Identifiers.init(11324);
+    public static final NodeId ShelvedStateMachineType_TimedShelved_StateNumber = Identifiers.init(6100);
+    public static final NodeId ShelvedStateMachineType_UnshelveTime = Identifiers.init(9115);
+    public static final NodeId ShelvedStateMachineType_UnshelvedToOneShotShelved_TransitionNumber = Identifiers.init(11323);
+    public static final NodeId ShelvedStateMachineType_UnshelvedToTimedShelved_TransitionNumber = Identifiers.init(11322);
+    public static final NodeId ShelvedStateMachineType_Unshelved_StateNumber = Identifiers.init(6098);
+    public static final NodeId StateMachineType_CurrentState = Identifiers.init(2769);
+    public static final NodeId StateMachineType_CurrentState_EffectiveDisplayName = Identifiers.init(3723);
+    public static final NodeId StateMachineType_CurrentState_Id = Identifiers.init(3720);
+    public static final NodeId StateMachineType_CurrentState_Name = Identifiers.init(3721);
+    public static final NodeId StateMachineType_CurrentState_Number = Identifiers.init(3722);
+    public static final NodeId StateMachineType_LastTransition = Identifiers.init(2770);
+    public static final NodeId StateMachineType_LastTransition_EffectiveTransitionTime = Identifiers.init(11458);
+    public static final NodeId StateMachineType_LastTransition_Id = Identifiers.init(3724);
+    public static final NodeId StateMachineType_LastTransition_Name = Identifiers.init(3725);
+    public static final NodeId StateMachineType_LastTransition_Number = Identifiers.init(3726);
+    public static final NodeId StateMachineType_LastTransition_TransitionTime = Identifiers.init(3727);
+    public static final NodeId StateType_StateNumber = Identifiers.init(2308);
+    public static final NodeId StateVariableType_EffectiveDisplayName = Identifiers.init(2759);
+    public static final NodeId StateVariableType_Id = Identifiers.init(2756);
+    public static final NodeId StateVariableType_Name = Identifiers.init(2757);
+    public static final NodeId StateVariableType_Number = Identifiers.init(2758);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics = Identifiers.init(12784);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_CurrentKeepAliveCount = Identifiers.init(12807);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_CurrentLifetimeCount = Identifiers.init(12808);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_DataChangeNotificationsCount = Identifiers.init(12803);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_DisableCount = Identifiers.init(12795);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_DisabledMonitoredItemCount = Identifiers.init(12812);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_DiscardedMessageCount = Identifiers.init(12810);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_EnableCount = Identifiers.init(12794);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_EventNotificationsCount = Identifiers.init(12804);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_EventQueueOverFlowCount = Identifiers.init(12815);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_LatePublishRequestCount = Identifiers.init(12806);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_MaxKeepAliveCount = Identifiers.init(12789);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_MaxLifetimeCount = Identifiers.init(12790);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_MaxNotificationsPerPublish = Identifiers.init(12791);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_ModifyCount = Identifiers.init(12793);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_MonitoredItemCount = Identifiers.init(12811);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_MonitoringQueueOverflowCount = Identifiers.init(12813);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_NextSequenceNumber = Identifiers.init(12814);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_NotificationsCount = Identifiers.init(12805);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_Priority = Identifiers.init(12787);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_PublishRequestCount = Identifiers.init(12802);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_PublishingEnabled = Identifiers.init(12792);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_PublishingInterval = Identifiers.init(12788);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_RepublishMessageCount = Identifiers.init(12798);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_RepublishMessageRequestCount = Identifiers.init(12797);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_RepublishRequestCount = Identifiers.init(12796);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_SessionId = Identifiers.init(12785);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_SubscriptionId = Identifiers.init(12786);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_TransferRequestCount = Identifiers.init(12799);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_TransferredToAltClientCount = Identifiers.init(12800);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_TransferredToSameClientCount = Identifiers.init(12801);
+    public static final NodeId SubscriptionDiagnosticsArrayType_SubscriptionDiagnostics_UnacknowledgedMessageCount = Identifiers.init(12809);
+    public static final NodeId SubscriptionDiagnosticsType_CurrentKeepAliveCount = Identifiers.init(8890);
+    public static final NodeId SubscriptionDiagnosticsType_CurrentLifetimeCount = Identifiers.init(8891);
+    public static final NodeId SubscriptionDiagnosticsType_DataChangeNotificationsCount = Identifiers.init(2191);
+    public static final NodeId SubscriptionDiagnosticsType_DisableCount = Identifiers.init(2183);
+    public static final NodeId SubscriptionDiagnosticsType_DisabledMonitoredItemCount = Identifiers.init(8895);
+    public static final NodeId SubscriptionDiagnosticsType_DiscardedMessageCount = Identifiers.init(8893);
+    public static final NodeId SubscriptionDiagnosticsType_EnableCount = Identifiers.init(2182);
+    public static final NodeId SubscriptionDiagnosticsType_EventNotificationsCount = Identifiers.init(2998);
+    public static final NodeId SubscriptionDiagnosticsType_EventQueueOverFlowCount = Identifiers.init(8902);
+    public static final NodeId SubscriptionDiagnosticsType_LatePublishRequestCount = Identifiers.init(8889);
+    public static final NodeId SubscriptionDiagnosticsType_MaxKeepAliveCount = Identifiers.init(2177);
+    public static final NodeId SubscriptionDiagnosticsType_MaxLifetimeCount = Identifiers.init(8888);
+    public static final NodeId SubscriptionDiagnosticsType_MaxNotificationsPerPublish = Identifiers.init(2179);
+    public static final NodeId SubscriptionDiagnosticsType_ModifyCount = Identifiers.init(2181);
+    public static final NodeId SubscriptionDiagnosticsType_MonitoredItemCount = Identifiers.init(8894);
+    public static final NodeId SubscriptionDiagnosticsType_MonitoringQueueOverflowCount = Identifiers.init(8896);
+    public static final NodeId SubscriptionDiagnosticsType_NextSequenceNumber = Identifiers.init(8897);
+    public static final NodeId SubscriptionDiagnosticsType_NotificationsCount = Identifiers.init(2193);
+    public static final NodeId SubscriptionDiagnosticsType_Priority = Identifiers.init(2175);
+    public static final NodeId SubscriptionDiagnosticsType_PublishRequestCount = Identifiers.init(2190);
+    public static final NodeId SubscriptionDiagnosticsType_PublishingEnabled = Identifiers.init(2180);
+    public static final NodeId SubscriptionDiagnosticsType_PublishingInterval = Identifiers.init(2176);
+    public static final NodeId SubscriptionDiagnosticsType_RepublishMessageCount = Identifiers.init(2186);
+    public static final NodeId SubscriptionDiagnosticsType_RepublishMessageRequestCount = Identifiers.init(2185);
+    public static final NodeId SubscriptionDiagnosticsType_RepublishRequestCount = Identifiers.init(2184);
+    public static final NodeId SubscriptionDiagnosticsType_SessionId = Identifiers.init(2173);
+    public static final NodeId SubscriptionDiagnosticsType_SubscriptionId = Identifiers.init(2174);
+    public static final NodeId SubscriptionDiagnosticsType_TransferRequestCount = Identifiers.init(2187);
+    public static final NodeId SubscriptionDiagnosticsType_TransferredToAltClientCount = Identifiers.init(2188);
+    public static final NodeId SubscriptionDiagnosticsType_TransferredToSameClientCount = Identifiers.init(2189);
+    public static final NodeId SubscriptionDiagnosticsType_UnacknowledgedMessageCount = Identifiers.init(8892);
+    public static final NodeId SystemEventType_EventId = Identifiers.init(3653);
+    public static final NodeId SystemEventType_EventType = Identifiers.init(3654);
+    public static final NodeId SystemEventType_LocalTime = Identifiers.init(3659);
+    public static final NodeId SystemEventType_Message = Identifiers.init(3660);
+    public static final NodeId SystemEventType_ReceiveTime = Identifiers.init(3658);
+    public static final NodeId SystemEventType_Severity = Identifiers.init(3661);
+    public static final NodeId SystemEventType_SourceName = Identifiers.init(3656);
+    public static final NodeId SystemEventType_SourceNode = Identifiers.init(3655);
+    public static final NodeId SystemEventType_Time = Identifiers.init(3657);
+    public static final NodeId SystemOffNormalAlarmType_AckedState = Identifiers.init(11790);
+    public static final NodeId SystemOffNormalAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(11794);
+    public static final NodeId SystemOffNormalAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(11796);
+    public static final NodeId SystemOffNormalAlarmType_AckedState_FalseState = Identifiers.init(11798);
+    public static final NodeId SystemOffNormalAlarmType_AckedState_Id = Identifiers.init(11791);
+    public static final NodeId SystemOffNormalAlarmType_AckedState_Name = Identifiers.init(11792);
+    public static final NodeId SystemOffNormalAlarmType_AckedState_Number = Identifiers.init(11793);
+    public static final NodeId SystemOffNormalAlarmType_AckedState_TransitionTime = Identifiers.init(11795);
+    public static final NodeId SystemOffNormalAlarmType_AckedState_TrueState = Identifiers.init(11797);
+    public static final NodeId SystemOffNormalAlarmType_Acknowledge_InputArguments = Identifiers.init(11809);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState = Identifiers.init(11812);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(11816);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(11818);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState_FalseState = Identifiers.init(11820);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState_Id = Identifiers.init(11813);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState_Name = Identifiers.init(11814);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState_Number = Identifiers.init(11815);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState_TransitionTime = Identifiers.init(11817);
+    public static final NodeId SystemOffNormalAlarmType_ActiveState_TrueState = Identifiers.init(11819);
+    public static final NodeId SystemOffNormalAlarmType_AddComment_InputArguments = Identifiers.init(11787);
+    public static final NodeId SystemOffNormalAlarmType_BranchId = Identifiers.init(11766);
+    public static final NodeId SystemOffNormalAlarmType_ClientUserId = Identifiers.init(11783);
+    public static final NodeId SystemOffNormalAlarmType_Comment = Identifiers.init(11781);
+    public static final NodeId SystemOffNormalAlarmType_Comment_SourceTimestamp = Identifiers.init(11782);
+    public static final NodeId SystemOffNormalAlarmType_ConditionClassId = Identifiers.init(11763);
+    public static final NodeId SystemOffNormalAlarmType_ConditionClassName = Identifiers.init(11764);
+    public static final NodeId SystemOffNormalAlarmType_ConditionName = Identifiers.init(11765);
+    public static final NodeId SystemOffNormalAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(13009);
+    public static final NodeId SystemOffNormalAlarmType_ConditionRefresh_InputArguments = Identifiers.init(11789);
+    public static final NodeId SystemOffNormalAlarmType_Confirm_InputArguments = Identifiers.init(11811);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState = Identifiers.init(11799);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(11803);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(11805);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState_FalseState = Identifiers.init(11807);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState_Id = Identifiers.init(11800);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState_Name = Identifiers.init(11801);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState_Number = Identifiers.init(11802);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState_TransitionTime = Identifiers.init(11804);
+    public static final NodeId SystemOffNormalAlarmType_ConfirmedState_TrueState = Identifiers.init(11806);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState = Identifiers.init(11768);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(11772);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(11774);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState_FalseState = Identifiers.init(11776);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState_Id = Identifiers.init(11769);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState_Name = Identifiers.init(11770);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState_Number = Identifiers.init(11771);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState_TransitionTime = Identifiers.init(11773);
+    public static final NodeId SystemOffNormalAlarmType_EnabledState_TrueState = Identifiers.init(11775);
+    public static final NodeId SystemOffNormalAlarmType_EventId = Identifiers.init(11754);
+    public static final NodeId SystemOffNormalAlarmType_EventType = Identifiers.init(11755);
+    public static final NodeId SystemOffNormalAlarmType_InputNode = Identifiers.init(11821);
+    public static final NodeId SystemOffNormalAlarmType_LastSeverity = Identifiers.init(11779);
+    public static final NodeId SystemOffNormalAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(11780);
+    public static final NodeId SystemOffNormalAlarmType_LocalTime = Identifiers.init(11760);
+    public static final NodeId SystemOffNormalAlarmType_MaxTimeShelved = Identifiers.init(11849);
+    public static final NodeId SystemOffNormalAlarmType_Message = Identifiers.init(11761);
+    public static final NodeId SystemOffNormalAlarmType_NormalState = Identifiers.init(11850);
+    public static final NodeId SystemOffNormalAlarmType_Quality = Identifiers.init(11777);
+    public static final NodeId SystemOffNormalAlarmType_Quality_SourceTimestamp = Identifiers.init(11778);
+    public static final NodeId SystemOffNormalAlarmType_ReceiveTime = Identifiers.init(11759);
+    public static final NodeId SystemOffNormalAlarmType_Retain = Identifiers.init(11767);
+    public static final NodeId SystemOffNormalAlarmType_Severity = Identifiers.init(11762);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_CurrentState = Identifiers.init(11832);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(11836);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(11833);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(11834);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(11835);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_LastTransition = Identifiers.init(11837);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11842);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(11838);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(11839);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(11840);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(11841);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(11847);
+    public static final NodeId SystemOffNormalAlarmType_ShelvingState_UnshelveTime = Identifiers.init(11843);
+    public static final NodeId SystemOffNormalAlarmType_SourceName = Identifiers.init(11757);
+    public static final NodeId SystemOffNormalAlarmType_SourceNode = Identifiers.init(11756);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedOrShelved = Identifiers.init(11848);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState = Identifiers.init(11822);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(11826);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(11828);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState_FalseState = Identifiers.init(11830);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState_Id = Identifiers.init(11823);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState_Name = Identifiers.init(11824);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState_Number = Identifiers.init(11825);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState_TransitionTime = Identifiers.init(11827);
+    public static final NodeId SystemOffNormalAlarmType_SuppressedState_TrueState = Identifiers.init(11829);
+    public static final NodeId SystemOffNormalAlarmType_Time = Identifiers.init(11758);
+    public static final NodeId SystemStatusChangeEventType_EventId = Identifiers.init(11447);
+    public static final NodeId SystemStatusChangeEventType_EventType = Identifiers.init(11448);
+    public static final NodeId SystemStatusChangeEventType_LocalTime = Identifiers.init(11453);
+    public static final NodeId SystemStatusChangeEventType_Message = Identifiers.init(11454);
+    public static final NodeId SystemStatusChangeEventType_ReceiveTime = Identifiers.init(11452);
+    public static final NodeId SystemStatusChangeEventType_Severity = Identifiers.init(11455);
+    public static final NodeId SystemStatusChangeEventType_SourceName = Identifiers.init(11450);
+    public static final NodeId SystemStatusChangeEventType_SourceNode = Identifiers.init(11449);
+    public static final NodeId SystemStatusChangeEventType_SystemState = Identifiers.init(11696);
+    public static final NodeId SystemStatusChangeEventType_Time = Identifiers.init(11451);
+ 
+}
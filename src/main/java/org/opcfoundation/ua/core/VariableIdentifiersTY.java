@@ -0,0 +1,238 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard variables, of the types and instances starting with T-Y. Accessed through {@link Identifiers}.
+ */
+public interface VariableIdentifiersTY {
+	
+    public static final NodeId TimedShelveMethodType_InputArguments = Identifiers.init(6103);
+    public static final NodeId TimestampsToReturn_EnumStrings = Identifiers.init(7606);
+    public static final NodeId TransitionEventType_EventId = Identifiers.init(3737);
+    public static final NodeId TransitionEventType_EventType = Identifiers.init(3738);
+    public static final NodeId TransitionEventType_FromState = Identifiers.init(2775);
+    public static final NodeId TransitionEventType_FromState_EffectiveDisplayName = Identifiers.init(3749);
+    public static final NodeId TransitionEventType_FromState_Id = Identifiers.init(3746);
+    public static final NodeId TransitionEventType_FromState_Name = Identifiers.init(3747);
+    public static final NodeId TransitionEventType_FromState_Number = Identifiers.init(3748);
+    public static final NodeId TransitionEventType_LocalTime = Identifiers.init(3743);
+    public static final NodeId TransitionEventType_Message = Identifiers.init(3744);
+    public static final NodeId TransitionEventType_ReceiveTime = Identifiers.init(3742);
+    public static final NodeId TransitionEventType_Severity = Identifiers.init(3745);
+    public static final NodeId TransitionEventType_SourceName = Identifiers.init(3740);
+    public static final NodeId TransitionEventType_SourceNode = Identifiers.init(3739);
+    public static final NodeId TransitionEventType_Time = Identifiers.init(3741);
+    public static final NodeId TransitionEventType_ToState = Identifiers.init(2776);
+    public static final NodeId TransitionEventType_ToState_EffectiveDisplayName = Identifiers.init(3753);
+    public static final NodeId TransitionEventType_ToState_Id = Identifiers.init(3750);
+    public static final NodeId TransitionEventType_ToState_Name = Identifiers.init(3751);
+    public static final NodeId TransitionEventType_ToState_Number = Identifiers.init(3752);
+    public static final NodeId TransitionEventType_Transition = Identifiers.init(2774);
+    public static final NodeId TransitionEventType_Transition_EffectiveTransitionTime = Identifiers.init(11460);
+    public static final NodeId TransitionEventType_Transition_Id = Identifiers.init(3754);
+    public static final NodeId TransitionEventType_Transition_Name = Identifiers.init(3755);
+    public static final NodeId TransitionEventType_Transition_Number = Identifiers.init(3756);
+    public static final NodeId TransitionEventType_Transition_TransitionTime = Identifiers.init(3757);
+    public static final NodeId TransitionType_TransitionNumber = Identifiers.init(2312);
+    public static final NodeId TransitionVariableType_EffectiveTransitionTime = Identifiers.init(11456);
+    public static final NodeId TransitionVariableType_Id = Identifiers.init(2763);
+    public static final NodeId TransitionVariableType_Name = Identifiers.init(2764);
+    public static final NodeId TransitionVariableType_Number = Identifiers.init(2765);
+    public static final NodeId TransitionVariableType_TransitionTime = Identifiers.init(2766);
+    public static final NodeId TransparentRedundancyType_CurrentServerId = Identifiers.init(2037);
+    public static final NodeId TransparentRedundancyType_RedundancySupport = Identifiers.init(3188);
+    public static final NodeId TransparentRedundancyType_RedundantServerArray = Identifiers.init(2038);
+    public static final NodeId TripAlarmType_AckedState = Identifiers.init(10786);
+    public static final NodeId TripAlarmType_AckedState_EffectiveDisplayName = Identifiers.init(10790);
+    public static final NodeId TripAlarmType_AckedState_EffectiveTransitionTime = Identifiers.init(10792);
+    public static final NodeId TripAlarmType_AckedState_FalseState = Identifiers.init(10794);
+    public static final NodeId TripAlarmType_AckedState_Id = Identifiers.init(10787);
+    public static final NodeId TripAlarmType_AckedState_Name = Identifiers.init(10788);
+    public static final NodeId TripAlarmType_AckedState_Number = Identifiers.init(10789);
+    public static final NodeId TripAlarmType_AckedState_TransitionTime = Identifiers.init(10791);
+    public static final NodeId TripAlarmType_AckedState_TrueState = Identifiers.init(10793);
+    public static final NodeId TripAlarmType_Acknowledge_InputArguments = Identifiers.init(10805);
+    public static final NodeId TripAlarmType_ActiveState = Identifiers.init(10808);
+    public static final NodeId TripAlarmType_ActiveState_EffectiveDisplayName = Identifiers.init(10812);
+    public static final NodeId TripAlarmType_ActiveState_EffectiveTransitionTime = Identifiers.init(10814);
+    public static final NodeId TripAlarmType_ActiveState_FalseState = Identifiers.init(10816);
+    public static final NodeId TripAlarmType_ActiveState_Id = Identifiers.init(10809);
+    public static final NodeId TripAlarmType_ActiveState_Name = Identifiers.init(10810);
+    public static final NodeId TripAlarmType_ActiveState_Number = Identifiers.init(10811);
+    public static final NodeId TripAlarmType_ActiveState_TransitionTime = Identifiers.init(10813);
+    public static final NodeId TripAlarmType_ActiveState_TrueState = Identifiers.init(10815);
+    public static final NodeId TripAlarmType_AddComment_InputArguments = Identifiers.init(10783);
+    public static final NodeId TripAlarmType_BranchId = Identifiers.init(10762);
+    public static final NodeId TripAlarmType_ClientUserId = Identifiers.init(10779);
+    public static final NodeId TripAlarmType_Comment = Identifiers.init(10777);
+    public static final NodeId TripAlarmType_Comment_SourceTimestamp = Identifiers.init(10778);
+    public static final NodeId TripAlarmType_ConditionClassId = Identifiers.init(11159);
+    public static final NodeId TripAlarmType_ConditionClassName = Identifiers.init(11160);
+    public static final NodeId TripAlarmType_ConditionName = Identifiers.init(10761);
+    public static final NodeId TripAlarmType_ConditionRefresh2_InputArguments = Identifiers.init(13011);
+    public static final NodeId TripAlarmType_ConditionRefresh_InputArguments = Identifiers.init(10785);
+    public static final NodeId TripAlarmType_Confirm_InputArguments = Identifiers.init(10807);
+    public static final NodeId TripAlarmType_ConfirmedState = Identifiers.init(10795);
+    public static final NodeId TripAlarmType_ConfirmedState_EffectiveDisplayName = Identifiers.init(10799);
+    public static final NodeId TripAlarmType_ConfirmedState_EffectiveTransitionTime = Identifiers.init(10801);
+    public static final NodeId TripAlarmType_ConfirmedState_FalseState = Identifiers.init(10803);
+    public static final NodeId TripAlarmType_ConfirmedState_Id = Identifiers.init(10796);
+    public static final NodeId TripAlarmType_ConfirmedState_Name = Identifiers.init(10797);
+    public static final NodeId TripAlarmType_ConfirmedState_Number = Identifiers.init(10798);
+    public static final NodeId TripAlarmType_ConfirmedState_TransitionTime = Identifiers.init(10800);
+    public static final NodeId TripAlarmType_ConfirmedState_TrueState = Identifiers.init(10802);
+    public static final NodeId TripAlarmType_EnabledState = Identifiers.init(10764);
+    public static final NodeId TripAlarmType_EnabledState_EffectiveDisplayName = Identifiers.init(10768);
+    public static final NodeId TripAlarmType_EnabledState_EffectiveTransitionTime = Identifiers.init(10770);
+    public static final NodeId TripAlarmType_EnabledState_FalseState = Identifiers.init(10772);
+    public static final NodeId TripAlarmType_EnabledState_Id = Identifiers.init(10765);
+    public static final NodeId TripAlarmType_EnabledState_Name = Identifiers.init(10766);
+    public static final NodeId TripAlarmType_EnabledState_Number = Identifiers.init(10767);
+    public static final NodeId TripAlarmType_EnabledState_TransitionTime = Identifiers.init(10769);
+    public static final NodeId TripAlarmType_EnabledState_TrueState = Identifiers.init(10771);
+    public static final NodeId TripAlarmType_EventId = Identifiers.init(10752);
+    public static final NodeId TripAlarmType_EventType = Identifiers.init(10753);
+    public static final NodeId TripAlarmType_InputNode = Identifiers.init(11161);
+    public static final NodeId TripAlarmType_LastSeverity = Identifiers.init(10775);
+    public static final NodeId TripAlarmType_LastSeverity_SourceTimestamp = Identifiers.init(10776);
+    public static final NodeId TripAlarmType_LocalTime = Identifiers.init(10758);
+    public static final NodeId TripAlarmType_MaxTimeShelved = Identifiers.init(10864);
+    public static final NodeId TripAlarmType_Message = Identifiers.init(10759);
+    public static final NodeId TripAlarmType_NormalState = Identifiers.init(11162);
+    public static final NodeId TripAlarmType_Quality = Identifiers.init(10773);
+    public static final NodeId TripAlarmType_Quality_SourceTimestamp = Identifiers.init(10774);
+    public static final NodeId TripAlarmType_ReceiveTime = Identifiers.init(10757);
+    public static final NodeId TripAlarmType_Retain = Identifiers.init(10763);
+    public static final NodeId TripAlarmType_Severity = Identifiers.init(10760);
+    public static final NodeId TripAlarmType_ShelvingState_CurrentState = Identifiers.init(10827);
+    public static final NodeId TripAlarmType_ShelvingState_CurrentState_EffectiveDisplayName = Identifiers.init(10831);
+    public static final NodeId TripAlarmType_ShelvingState_CurrentState_Id = Identifiers.init(10828);
+    public static final NodeId TripAlarmType_ShelvingState_CurrentState_Name = Identifiers.init(10829);
+    public static final NodeId TripAlarmType_ShelvingState_CurrentState_Number = Identifiers.init(10830);
+    public static final NodeId TripAlarmType_ShelvingState_LastTransition = Identifiers.init(10832);
+    public static final NodeId TripAlarmType_ShelvingState_LastTransition_EffectiveTransitionTime = Identifiers.init(11483);
+    public static final NodeId TripAlarmType_ShelvingState_LastTransition_Id = Identifiers.init(10833);
+    public static final NodeId TripAlarmType_ShelvingState_LastTransition_Name = Identifiers.init(10834);
+    public static final NodeId TripAlarmType_ShelvingState_LastTransition_Number = Identifiers.init(10835);
+    public static final NodeId TripAlarmType_ShelvingState_LastTransition_TransitionTime = Identifiers.init(10836);
+    public static final NodeId TripAlarmType_ShelvingState_TimedShelve_InputArguments = Identifiers.init(10862);
+    public static final NodeId TripAlarmType_ShelvingState_UnshelveTime = Identifiers.init(10837);
+    public static final NodeId TripAlarmType_SourceName = Identifiers.init(10755);
+    public static final NodeId TripAlarmType_SourceNode = Identifiers.init(10754);
+    public static final NodeId TripAlarmType_SuppressedOrShelved = Identifiers.init(10863);
+    public static final NodeId TripAlarmType_SuppressedState = Identifiers.init(10817);
+    public static final NodeId TripAlarmType_SuppressedState_EffectiveDisplayName = Identifiers.init(10821);
+    public static final NodeId TripAlarmType_SuppressedState_EffectiveTransitionTime = Identifiers.init(10823);
+    public static final NodeId TripAlarmType_SuppressedState_FalseState = Identifiers.init(10825);
+    public static final NodeId TripAlarmType_SuppressedState_Id = Identifiers.init(10818);
+    public static final NodeId TripAlarmType_SuppressedState_Name = Identifiers.init(10819);
+    public static final NodeId TripAlarmType_SuppressedState_Number = Identifiers.init(10820);
+    public static final NodeId TripAlarmType_SuppressedState_TransitionTime = Identifiers.init(10822);
+    public static final NodeId TripAlarmType_SuppressedState_TrueState = Identifiers.init(10824);
+    public static final NodeId TripAlarmType_Time = Identifiers.init(10756);
+    public static final NodeId TrustListMasks_EnumValues = Identifiers.init(12553);
+    public static final NodeId TrustListType_AddCertificate_InputArguments = Identifiers.init(12549);
+    public static final NodeId TrustListType_CloseAndUpdate_InputArguments = Identifiers.init(12705);
+    public static final NodeId TrustListType_CloseAndUpdate_OutputArguments = Identifiers.init(12547);
+    public static final NodeId TrustListType_Close_InputArguments = Identifiers.init(12531);
+    public static final NodeId TrustListType_GetPosition_InputArguments = Identifiers.init(12538);
+    public static final NodeId TrustListType_GetPosition_OutputArguments = Identifiers.init(12539);
+    public static final NodeId TrustListType_LastUpdateTime = Identifiers.init(12542);
+    public static final NodeId TrustListType_MimeType = Identifiers.init(13403);
+    public static final NodeId TrustListType_OpenCount = Identifiers.init(12526);
+    public static final NodeId TrustListType_OpenWithMasks_InputArguments = Identifiers.init(12544);
+    public static final NodeId TrustListType_OpenWithMasks_OutputArguments = Identifiers.init(12545);
+    public static final NodeId TrustListType_Open_InputArguments = Identifiers.init(12528);
+    public static final NodeId TrustListType_Open_OutputArguments = Identifiers.init(12529);
+    public static final NodeId TrustListType_Read_InputArguments = Identifiers.init(12533);
+    public static final NodeId TrustListType_Read_OutputArguments = Identifiers.init(12534);
+    public static final NodeId TrustListType_RemoveCertificate_InputArguments = Identifiers.init(12551);
+    public static final NodeId TrustListType_SetPosition_InputArguments = Identifiers.init(12541);
+    public static final NodeId TrustListType_Size = Identifiers.init(12523);
+    public static final NodeId TrustListType_UserWritable = Identifiers.init(12699);
+    public static final NodeId TrustListType_Writable = Identifiers.init(12698);
+    public static final NodeId TrustListType_Write_InputArguments = Identifiers.init(12536);
+    public static final NodeId TrustListUpdatedAuditEventType_ActionTimeStamp = Identifiers.init(12571);
+    public static final NodeId TrustListUpdatedAuditEventType_ClientAuditEntryId = Identifiers.init(12574);
+    public static final NodeId TrustListUpdatedAuditEventType_ClientUserId = Identifiers.init(12575);
+    public static final NodeId TrustListUpdatedAuditEventType_EventId = Identifiers.init(12562);
+    public static final NodeId TrustListUpdatedAuditEventType_EventType = Identifiers.init(12563);
+    public static final NodeId TrustListUpdatedAuditEventType_InputArguments = Identifiers.init(12577);
+    public static final NodeId TrustListUpdatedAuditEventType_LocalTime = Identifiers.init(12568);
+    public static final NodeId TrustListUpdatedAuditEventType_Message = Identifiers.init(12569);
+    public static final NodeId TrustListUpdatedAuditEventType_MethodId = Identifiers.init(12576);
+    public static final NodeId TrustListUpdatedAuditEventType_ReceiveTime = Identifiers.init(12567);
+    public static final NodeId TrustListUpdatedAuditEventType_ServerId = Identifiers.init(12573);
+    public static final NodeId TrustListUpdatedAuditEventType_Severity = Identifiers.init(12570);
+    public static final NodeId TrustListUpdatedAuditEventType_SourceName = Identifiers.init(12565);
+    public static final NodeId TrustListUpdatedAuditEventType_SourceNode = Identifiers.init(12564);
+    public static final NodeId TrustListUpdatedAuditEventType_Status = Identifiers.init(12572);
+    public static final NodeId TrustListUpdatedAuditEventType_Time = Identifiers.init(12566);
+    public static final NodeId TwoStateDiscreteType_Definition = Identifiers.init(3778);
+    public static final NodeId TwoStateDiscreteType_FalseState = Identifiers.init(2374);
+    public static final NodeId TwoStateDiscreteType_TrueState = Identifiers.init(2375);
+    public static final NodeId TwoStateDiscreteType_ValuePrecision = Identifiers.init(3779);
+    public static final NodeId TwoStateVariableType_EffectiveDisplayName = Identifiers.init(8999);
+    public static final NodeId TwoStateVariableType_EffectiveTransitionTime = Identifiers.init(9001);
+    public static final NodeId TwoStateVariableType_FalseState = Identifiers.init(11111);
+    public static final NodeId TwoStateVariableType_Id = Identifiers.init(8996);
+    public static final NodeId TwoStateVariableType_Name = Identifiers.init(8997);
+    public static final NodeId TwoStateVariableType_Number = Identifiers.init(8998);
+    public static final NodeId TwoStateVariableType_TransitionTime = Identifiers.init(9000);
+    public static final NodeId TwoStateVariableType_TrueState = Identifiers.init(11110);
+    public static final NodeId UpdateCertificateMethodType_InputArguments = Identifiers.init(12579);
+    public static final NodeId UpdateCertificateMethodType_OutputArguments = Identifiers.init(12580);
+    public static final NodeId UserTokenType_EnumStrings = Identifiers.init(7596);
+    public static final NodeId ValueAsText = Identifiers.init(11433);
+    public static final NodeId ViewVersion = Identifiers.init(12170);
+    public static final NodeId WriteMethodType_InputArguments = Identifiers.init(11747);
+    public static final NodeId XYArrayItemType_AxisScaleType = Identifiers.init(12045);
+    public static final NodeId XYArrayItemType_Definition = Identifiers.init(12039);
+    public static final NodeId XYArrayItemType_EURange = Identifiers.init(12042);
+    public static final NodeId XYArrayItemType_EngineeringUnits = Identifiers.init(12043);
+    public static final NodeId XYArrayItemType_InstrumentRange = Identifiers.init(12041);
+    public static final NodeId XYArrayItemType_Title = Identifiers.init(12044);
+    public static final NodeId XYArrayItemType_ValuePrecision = Identifiers.init(12040);
+    public static final NodeId XYArrayItemType_XAxisDefinition = Identifiers.init(12046);
+    public static final NodeId YArrayItemType_AxisScaleType = Identifiers.init(12036);
+    public static final NodeId YArrayItemType_Definition = Identifiers.init(12030);
+    public static final NodeId YArrayItemType_EURange = Identifiers.init(12033);
+    public static final NodeId YArrayItemType_EngineeringUnits = Identifiers.init(12034);
+    public static final NodeId YArrayItemType_InstrumentRange = Identifiers.init(12032);
+    public static final NodeId YArrayItemType_Title = Identifiers.init(12035);
+    public static final NodeId YArrayItemType_ValuePrecision = Identifiers.init(12031);
+    public static final NodeId YArrayItemType_XAxisDefinition = Identifiers.init(12037);
+ 
+}
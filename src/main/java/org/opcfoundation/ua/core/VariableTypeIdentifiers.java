@@ -0,0 +1,79 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.core;
+
+import org.opcfoundation.ua.builtintypes.NodeId;
+
+
+
+/**
+ * NodeIds of the standard variable types. Accessed through {@link Identifiers}.
+ */
+public interface VariableTypeIdentifiers {
+	
+    public static final NodeId AnalogItemType = Identifiers.init(2368);
+    public static final NodeId ArrayItemType = Identifiers.init(12021);
+    public static final NodeId BaseDataVariableType = Identifiers.init(63);
+    public static final NodeId BaseVariableType = Identifiers.init(62);
+    public static final NodeId BuildInfoType = Identifiers.init(3051);
+    public static final NodeId ConditionVariableType = Identifiers.init(9002);
+    public static final NodeId CubeItemType = Identifiers.init(12057);
+    public static final NodeId DataItemType = Identifiers.init(2365);
+    public static final NodeId DataTypeDescriptionType = Identifiers.init(69);
+    public static final NodeId DataTypeDictionaryType = Identifiers.init(72);
+    public static final NodeId DiscreteItemType = Identifiers.init(2372);
+    public static final NodeId FiniteStateVariableType = Identifiers.init(2760);
+    public static final NodeId FiniteTransitionVariableType = Identifiers.init(2767);
+    public static final NodeId ImageItemType = Identifiers.init(12047);
+    public static final NodeId MultiStateDiscreteType = Identifiers.init(2376);
+    public static final NodeId MultiStateValueDiscreteType = Identifiers.init(11238);
+    public static final NodeId NDimensionArrayItemType = Identifiers.init(12068);
+    public static final NodeId OptionSetType = Identifiers.init(11487);
+    public static final NodeId ProgramDiagnosticType = Identifiers.init(2380);
+    public static final NodeId PropertyType = Identifiers.init(68);
+    public static final NodeId SamplingIntervalDiagnosticsArrayType = Identifiers.init(2164);
+    public static final NodeId SamplingIntervalDiagnosticsType = Identifiers.init(2165);
+    public static final NodeId ServerDiagnosticsSummaryType = Identifiers.init(2150);
+    public static final NodeId ServerStatusType = Identifiers.init(2138);
+    public static final NodeId ServerVendorCapabilityType = Identifiers.init(2137);
+    public static final NodeId SessionDiagnosticsArrayType = Identifiers.init(2196);
+    public static final NodeId SessionDiagnosticsVariableType = Identifiers.init(2197);
+    public static final NodeId SessionSecurityDiagnosticsArrayType = Identifiers.init(2243);
+    public static final NodeId SessionSecurityDiagnosticsType = Identifiers.init(2244);
+    public static final NodeId StateVariableType = Identifiers.init(2755);
+    public static final NodeId SubscriptionDiagnosticsArrayType = Identifiers.init(2171);
+    public static final NodeId SubscriptionDiagnosticsType = Identifiers.init(2172);
+    public static final NodeId TransitionVariableType = Identifiers.init(2762);
+    public static final NodeId TwoStateDiscreteType = Identifiers.init(2373);
+    public static final NodeId TwoStateVariableType = Identifiers.init(8995);
+    public static final NodeId XYArrayItemType = Identifiers.init(12038);
+    public static final NodeId YArrayItemType = Identifiers.init(12029);
+ 
+}
@@ -58,6 +58,13 @@ public class EncoderContext {
     @Setter
     private int maxArrayLength = 0;
 
+    /**
+     * Decode-time interning cache of strings, or null to decode every string
+     */
+    @Getter
+    @Setter
+    private StringCache stringCache;
+
     /**
      * <p>Getter for the field <code>DEFAULT_INSTANCE</code>.</p>
      *
@@ -0,0 +1,178 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.encoding;
+
+import java.nio.charset.Charset;
+
+import org.opcfoundation.ua.builtintypes.LocalizedText;
+import org.opcfoundation.ua.builtintypes.QualifiedName;
+import org.opcfoundation.ua.utils.ObjectUtils;
+
+/**
+ * Decode-time interning cache of strings, QualifiedNames and LocalizedTexts.
+ * <p>
+ * Strings are looked up with the raw UTF-8 bytes of the encoding, so a string
+ * that is already in the cache is returned without decoding or allocation. Each
+ * table is direct mapped with a fixed number of slots; a colliding value simply
+ * replaces the previous one, so the memory of the cache is bounded and lookups
+ * need no locking; the cached values are immutable, with final fields, so they
+ * are safely published through the plain tables. Only strings up to {@link #getMaxStringLength()} bytes are
+ * cached.
+ * <p>
+ * The cache is enabled by setting it to an {@link EncoderContext} with
+ * {@link EncoderContext#setStringCache(StringCache)}. It may be shared by
+ * decoders of several threads.
+ */
+public class StringCache {
+
+	private static final Charset UTF8 = Charset.forName("utf-8");
+
+	final Entry[] strings;
+	final QualifiedName[] qualifiedNames;
+	final LocalizedText[] localizedTexts;
+	final int mask;
+	final int maxStringLength;
+
+	/**
+	 * Create a new cache.
+	 *
+	 * @param size number of slots in each table, rounded up to a power of two
+	 * @param maxStringLength max length in bytes of a cached string
+	 */
+	public StringCache(int size, int maxStringLength)
+	{
+		if (size<=0 || size>(1<<30)) throw new IllegalArgumentException("size out of bounds");
+		if (maxStringLength<0) throw new IllegalArgumentException("negative maxStringLength");
+		int n = Integer.highestOneBit(size);
+		if (n<size) n <<= 1;
+		strings = new Entry[n];
+		qualifiedNames = new QualifiedName[n];
+		localizedTexts = new LocalizedText[n];
+		mask = n-1;
+		this.maxStringLength = maxStringLength;
+	}
+
+	/**
+	 * @return max length in bytes of a cached string
+	 */
+	public int getMaxStringLength()
+	{
+		return maxStringLength;
+	}
+
+	/**
+	 * Get the string of UTF-8 bytes. The bytes are not retained.
+	 *
+	 * @param buf buffer
+	 * @param off offset of the string
+	 * @param len length of the string in bytes
+	 * @return cached or decoded string
+	 */
+	public String getString(byte[] buf, int off, int len)
+	{
+		if (len>maxStringLength) return decodeUtf8(buf, off, len);
+		int hash = 1;
+		for (int i=off; i<off+len; i++)
+			hash = 31 * hash + buf[i];
+		int slot = spread(hash) & mask;
+		Entry e = strings[slot];
+		if (e!=null && e.hash==hash && e.matches(buf, off, len))
+			return e.value;
+		byte[] bytes = new byte[len];
+		System.arraycopy(buf, off, bytes, 0, len);
+		String value = decodeUtf8(bytes, 0, len);
+		strings[slot] = new Entry(hash, bytes, value);
+		return value;
+	}
+
+	/**
+	 * Get a QualifiedName.
+	 *
+	 * @param namespaceIndex namespace index
+	 * @param name name
+	 * @return cached or new QualifiedName
+	 */
+	public QualifiedName getQualifiedName(int namespaceIndex, String name)
+	{
+		int slot = spread(namespaceIndex * 31 + ObjectUtils.hashCode(name)) & mask;
+		QualifiedName q = qualifiedNames[slot];
+		if (q!=null && q.getNamespaceIndex()==namespaceIndex && ObjectUtils.objectEquals(q.getName(), name))
+			return q;
+		q = new QualifiedName(namespaceIndex, name);
+		qualifiedNames[slot] = q;
+		return q;
+	}
+
+	/**
+	 * Get a LocalizedText.
+	 *
+	 * @param text text
+	 * @param localeId locale id
+	 * @return cached or new LocalizedText
+	 */
+	public LocalizedText getLocalizedText(String text, String localeId)
+	{
+		int slot = spread(ObjectUtils.hashCode(text) * 31 + ObjectUtils.hashCode(localeId)) & mask;
+		LocalizedText t = localizedTexts[slot];
+		if (t!=null && ObjectUtils.objectEquals(t.getText(), text) && ObjectUtils.objectEquals(t.getLocaleId(), localeId))
+			return t;
+		t = new LocalizedText(text, localeId);
+		localizedTexts[slot] = t;
+		return t;
+	}
+
+	/**
+	 * Decode UTF-8 bytes. Strings of 7-bit ASCII characters are copied
+	 * directly without a charset decoder.
+	 *
+	 * @param buf buffer
+	 * @param off offset of the string
+	 * @param len length of the string in bytes
+	 * @return string
+	 */
+	@SuppressWarnings("deprecation")
+	public static String decodeUtf8(byte[] buf, int off, int len)
+	{
+		for (int i=off; i<off+len; i++)
+			if (buf[i]<0) return new String(buf, off, len, UTF8);
+		return new String(buf, 0, off, len);
+	}
+
+	private static int spread(int hash)
+	{
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Cached string and its encoding.
+	 */
+	static final class Entry {
+		final int hash;
+		final byte[] bytes;
+		final String value;
+
+		Entry(int hash, byte[] bytes, String value) {
+			this.hash = hash;
+			this.bytes = bytes;
+			this.value = value;
+		}
+
+		boolean matches(byte[] buf, int off, int len) {
+			if (bytes.length!=len) return false;
+			for (int i=0; i<len; i++)
+				if (bytes[i]!=buf[off+i]) return false;
+			return true;
+		}
+	}
+
+}
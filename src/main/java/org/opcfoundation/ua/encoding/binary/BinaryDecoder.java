@@ -16,14 +16,11 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.net.ConnectException;
 import java.net.SocketException;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ClosedChannelException;
-import java.nio.charset.Charset;
 import java.util.UUID;
 
 import org.opcfoundation.ua.builtintypes.ByteString;
@@ -34,6 +31,7 @@ import org.opcfoundation.ua.builtintypes.Enumeration;
 import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
 import org.opcfoundation.ua.builtintypes.ExtensionObject;
 import org.opcfoundation.ua.builtintypes.LocalizedText;
+import org.opcfoundation.ua.builtintypes.NDArray;
 import org.opcfoundation.ua.builtintypes.NodeId;
 import org.opcfoundation.ua.builtintypes.QualifiedName;
 import org.opcfoundation.ua.builtintypes.StatusCode;
@@ -47,8 +45,11 @@ import org.opcfoundation.ua.builtintypes.XmlElement;
 import org.opcfoundation.ua.core.StatusCodes;
 import org.opcfoundation.ua.encoding.DecodingException;
 import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.StringCache;
 import org.opcfoundation.ua.encoding.IDecoder;
 import org.opcfoundation.ua.encoding.IEncodeable;
+import org.opcfoundation.ua.encoding.utils.EnumerationValues;
+import org.opcfoundation.ua.encoding.utils.FieldCodecs;
 import org.opcfoundation.ua.utils.MultiDimensionArrayUtils;
 import org.opcfoundation.ua.utils.bytebuffer.ByteBufferReadable;
 import org.opcfoundation.ua.utils.bytebuffer.IBinaryReadable;
@@ -65,8 +66,9 @@ import org.slf4j.LoggerFactory;
  */
 public class BinaryDecoder implements IDecoder {
 
-	private static final Charset UTF8 = Charset.forName("utf-8");
 	private static final Logger logger = LoggerFactory.getLogger(BinaryDecoder.class);
+	/** Size of the buffer of bulk copies of arrays */
+	private static final int BULK_CHUNK_SIZE = 8192;
 
 	private static DecodingException toDecodingException(IOException e)
 	{
@@ -81,6 +83,12 @@ public class BinaryDecoder implements IDecoder {
 		return new DecodingException(StatusCodes.Bad_UnexpectedError, e);
 	}
 	IBinaryReadable in;
+	/** Buffer of strings decoded with a {@link StringCache} */
+	byte[] scratch;
+	/** Decode ByteStrings as views of the buffer that is read */
+	boolean byteStringViews;
+	/** Decode multi-dimension numeric Variant values as NDArrays */
+	boolean ndArrays;
 
 	EncoderContext ctx;
 
@@ -145,181 +153,8 @@ public class BinaryDecoder implements IDecoder {
 
 	/** {@inheritDoc} */
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> T get(String fieldName, Class<T> clazz) throws DecodingException {
-		if (clazz.equals(Boolean.class)) {
-			return (T) getBoolean(fieldName);
-		}
-		if (clazz.equals(Byte.class)) {
-			return (T) getSByte(fieldName);
-		}
-		if (clazz.equals(UnsignedByte.class)) {
-			return (T) getByte(fieldName);
-		}
-		if (clazz.equals(Short.class)) {
-			return (T) getInt16(fieldName);
-		}
-		if (clazz.equals(UnsignedShort.class)) {
-			return (T) getUInt16(fieldName);
-		}
-		if (clazz.equals(Integer.class)) {
-			return (T) getInt32(fieldName);
-		}
-		if (clazz.equals(UnsignedInteger.class)) {
-			return (T) getUInt32(fieldName);
-		}
-		if (clazz.equals(Long.class)) {
-			return (T) getInt64(fieldName);
-		}
-		if (clazz.equals(UnsignedLong.class)) {
-			return (T) getUInt64(fieldName);
-		}
-		if (clazz.equals(Float.class)) {
-			return (T) getFloat(fieldName);
-		}
-		if (clazz.equals(Double.class)) {
-			return (T) getDouble(fieldName);
-		}
-		if (clazz.equals(String.class)) {
-			return (T) getString(fieldName);
-		}
-		if (clazz.equals(DateTime.class)) {
-			return (T) getDateTime(fieldName);
-		}
-		if (clazz.equals(UUID.class)) {
-			return (T) getGuid(fieldName);
-		}
-		if (clazz.equals(ByteString.class)) {
-			return (T) getByteString(fieldName);
-		}
-		if (clazz.equals(XmlElement.class)) {
-			return (T) getXmlElement(fieldName);
-		}
-		if (clazz.equals(NodeId.class)) {
-			return (T) getNodeId(fieldName);
-		}
-		if (clazz.equals(ExpandedNodeId.class)) {
-			return (T) getExpandedNodeId(fieldName);
-		}
-		if (clazz.equals(StatusCode.class)) {
-			return (T) getStatusCode(fieldName);
-		}
-		if (clazz.equals(QualifiedName.class)) {
-			return (T) getQualifiedName(fieldName);
-		}
-		if (clazz.equals(LocalizedText.class)) {
-			return (T) getLocalizedText(fieldName);
-		}
-		if (clazz.equals(ExtensionObject.class)) {
-			return (T) getExtensionObject(fieldName);
-		}
-		if (Structure.class.isAssignableFrom(clazz)) {
-			return (T) getEncodeable(fieldName, (Class<? extends IEncodeable>) clazz);
-		}
-		if (clazz.equals(DataValue.class)) {
-			return (T) getDataValue(fieldName);
-		}
-		if (clazz.equals(Variant.class)) {
-			return (T) getVariant(fieldName);
-		}
-		if (clazz.equals(Object.class)) {
-			return (T) getVariant(fieldName).getValue();
-		}
-		if (clazz.equals(DiagnosticInfo.class)) {
-			return (T) getDiagnosticInfo(fieldName);
-		}
-		if (clazz.equals(Boolean[].class)) {
-			return (T) getBooleanArray(fieldName);
-		}
-		if (clazz.equals(Byte[].class)) {
-			return (T) getSByteArray(fieldName);
-		}
-		if (clazz.equals(UnsignedByte[].class)) {
-			return (T) getByteArray(fieldName);
-		}
-		if (clazz.equals(Short[].class)) {
-			return (T) getInt16Array(fieldName);
-		}
-		if (clazz.equals(UnsignedShort[].class)) {
-			return (T) getUInt16Array(fieldName);
-		}
-		if (clazz.equals(Integer[].class)) {
-			return (T) getInt32Array(fieldName);
-		}
-		if (clazz.equals(UnsignedInteger[].class)) {
-			return (T) getUInt32Array(fieldName);
-		}
-		if (clazz.equals(Long[].class)) {
-			return (T) getInt64Array(fieldName);
-		}
-		if (clazz.equals(UnsignedLong[].class)) {
-			return (T) getUInt64Array(fieldName);
-		}
-		if (clazz.equals(Float[].class)) {
-			return (T) getFloatArray(fieldName);
-		}
-		if (clazz.equals(Double[].class)) {
-			return (T) getDoubleArray(fieldName);
-		}
-		if (clazz.equals(String[].class)) {
-			return (T) getStringArray(fieldName);
-		}
-		if (clazz.equals(DateTime[].class)) {
-			return (T) getDateTimeArray(fieldName);
-		}
-		if (clazz.equals(UUID[].class)) {
-			return (T) getGuidArray(fieldName);
-		}
-		if (clazz.equals(ByteString[].class)) {
-			return (T) getByteStringArray(fieldName);
-		}
-		if (clazz.equals(XmlElement[].class)) {
-			return (T) getXmlElementArray(fieldName);
-		}
-		if (clazz.equals(NodeId[].class)) {
-			return (T) getNodeIdArray(fieldName);
-		}
-		if (clazz.equals(ExpandedNodeId[].class)) {
-			return (T) getExpandedNodeIdArray(fieldName);
-		}
-		if (clazz.equals(StatusCode[].class)) {
-			return (T) getStatusCodeArray(fieldName);
-		}
-		if (clazz.equals(QualifiedName[].class)) {
-			return (T) getQualifiedNameArray(fieldName);
-		}
-		if (clazz.equals(LocalizedText[].class)) {
-			return (T) getLocalizedTextArray(fieldName);
-		}
-		if (clazz.equals(ExtensionObject[].class)) {
-			return (T) getExtensionObjectArray(fieldName);
-		}
-		if (clazz.getComponentType() != null && Structure.class.isAssignableFrom(clazz.getComponentType())) {
-			return (T) getEncodeableArray(fieldName, (Class<? extends Structure>) clazz.getComponentType());
-		}
-		if (clazz.equals(DataValue[].class)) {
-			return (T) getDataValueArray(fieldName);
-		}
-		if (clazz.equals(Variant[].class)) {
-			return (T) getVariantArray(fieldName);
-		}
-		if (clazz.equals(Object[].class)) {
-			Variant[] varArray = getVariantArray(fieldName);
-			Object[] objArray = new Object[varArray.length];
-			for (int i = 0; i < varArray.length; i++)
-				objArray[i] = varArray[i].getValue();
-			return (T) objArray;
-		}
-		if (clazz.equals(DiagnosticInfo[].class)) {
-			return (T) getDiagnosticInfoArray(fieldName);
-		}
-		if (Enumeration.class.isAssignableFrom(clazz)) {
-			return (T) getEnumeration(fieldName, (Class<? extends Enumeration>) clazz);
-		}
-		if (clazz.getComponentType() != null && Enumeration.class.isAssignableFrom(clazz.getComponentType())) {
-			return (T) getEnumerationArray(fieldName, (Class<? extends Enumeration>) clazz);
-		}
-		throw new DecodingException("Cannot decode "+clazz);
+		return FieldCodecs.get(this, fieldName, clazz);
 	}
 
 	/** {@inheritDoc} */
@@ -427,9 +262,19 @@ public class BinaryDecoder implements IDecoder {
 			int len = in.getInt();
 			if (len==-1) return null;
 			assertByteStringLength(len);
+			if (byteStringViews && in instanceof ByteBufferReadable) {
+				ByteBuffer buf = ((ByteBufferReadable) in).getBuffer();
+				if (buf.hasArray()) {
+					if (len > buf.remaining())
+						throw new DecodingException(StatusCodes.Bad_DecodingError, "Byte string length "+len+" exceeds the remaining "+buf.remaining()+" bytes");
+					ByteString result = ByteString.view(buf.array(), buf.arrayOffset()+buf.position(), len);
+					buf.position(buf.position()+len);
+					return result;
+				}
+			}
 			byte data[] = new byte[len];
 			in.get(data);
-			return ByteString.valueOf(data);
+			return ByteString.view(data, 0, len);
 		} catch (IOException e) {
 			throw toDecodingException(e);
 		}
@@ -459,14 +304,19 @@ public class BinaryDecoder implements IDecoder {
 			throws DecodingException
 	{
 		try {
+			// Read the primitive values, the DataValue creates the objects on demand
 			int encodingMask = in.get();
-			Variant value					= (encodingMask &    1)!=0 ? getVariant(null) : null;
-			StatusCode status				= (encodingMask &    2)!=0 ? getStatusCode(null) : StatusCode.GOOD;
-			DateTime sourceTimeStamp		= (encodingMask &    4)!=0 ? getDateTime(null) : null;//DateTime.MIN_VALUE;
-			UnsignedShort sourcePicoSeconds	= (encodingMask & 0x10)!=0 ? getUInt16(null) : UnsignedShort.MIN_VALUE;
-			DateTime serverTimeStamp		= (encodingMask &    8)!=0 ? getDateTime(null) : null;//DateTime.MIN_VALUE;
-			UnsignedShort serverPicoSeconds	= (encodingMask & 0x20)!=0 ? getUInt16(null) : UnsignedShort.MIN_VALUE;
-			return new DataValue(value, status, sourceTimeStamp, sourcePicoSeconds, serverTimeStamp, serverPicoSeconds);
+			Variant value			= (encodingMask &    1)!=0 ? getVariant(null) : null;
+			int status				= (encodingMask &    2)!=0 ? in.getInt() : StatusCode.SEVERITY_GOOD;
+			long sourceTimeStamp	= (encodingMask &    4)!=0 ? getDateTimeValue() : 0;
+			int sourcePicoSeconds	= (encodingMask & 0x10)!=0 ? in.getShort() & 0xFFFF : 0;
+			long serverTimeStamp	= (encodingMask &    8)!=0 ? getDateTimeValue() : 0;
+			int serverPicoSeconds	= (encodingMask & 0x20)!=0 ? in.getShort() & 0xFFFF : 0;
+			DataValue result = new DataValue(value, status, sourceTimeStamp, sourcePicoSeconds, serverTimeStamp, serverPicoSeconds);
+			// An encoded timestamp of 0 is DateTime.MIN_VALUE, not null
+			if ((encodingMask & 4)!=0 && sourceTimeStamp==0) result.setSourceTimestamp(DateTime.MIN_VALUE);
+			if ((encodingMask & 8)!=0 && serverTimeStamp==0) result.setServerTimestamp(DateTime.MIN_VALUE);
+			return result;
 		} catch (IOException e) {
 			throw toDecodingException(e);
 		}
@@ -494,17 +344,31 @@ public class BinaryDecoder implements IDecoder {
 	@Override
 	public DateTime getDateTime(String fieldName)
 			throws DecodingException
+	{
+		long v = getDateTimeValue();
+		if (v == DateTime.MAX_VALUE.getValue())
+			return DateTime.MAX_VALUE;
+		if (v == 0)
+			return DateTime.MIN_VALUE;
+		return new DateTime(v);
+	}
+
+	/**
+	 * Read a DateTime value, limited to the range of MIN_VALUE..MAX_VALUE.
+	 *
+	 * @return the time value
+	 * @throws DecodingException
+	 */
+	private long getDateTimeValue()
+			throws DecodingException
 	{
 		try {
 			long v = in.getLong();
-			DateTime t = new DateTime(v);
-			if(t.compareTo(DateTime.MAX_VALUE) > 0) {
-				return DateTime.MAX_VALUE;
-			} else if (t.compareTo(DateTime.MIN_VALUE) < 0) {
-				return DateTime.MIN_VALUE;
-			} else {
-				return t;
-			}
+			if (v > DateTime.MAX_VALUE.getValue())
+				return DateTime.MAX_VALUE.getValue();
+			if (v < 0)
+				return 0;
+			return v;
 		} catch (IOException e) {
 			throw toDecodingException(e);
 		}
@@ -639,24 +503,12 @@ public class BinaryDecoder implements IDecoder {
 
 	/** {@inheritDoc} */
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T extends Enumeration> T getEnumeration(String fieldName, Class<T> enumerationClass)
 			throws DecodingException
 	{
 		try {
 			int value 					= in.getInt();
-			Method m = enumerationClass.getMethod("valueOf", int.class);
-			return (T) m.invoke(null, value);
-		} catch (SecurityException e) {
-			throw new DecodingException(e, "cannot decode "+enumerationClass);
-		} catch (NoSuchMethodException e) {
-			throw new DecodingException(e, "cannot decode "+enumerationClass);
-		} catch (IllegalArgumentException e) {
-			throw new DecodingException(e, "cannot decode "+enumerationClass);
-		} catch (IllegalAccessException e) {
-			throw new DecodingException(e, "cannot decode "+enumerationClass);
-		} catch (InvocationTargetException e) {
-			throw new DecodingException(e, "cannot decode "+enumerationClass);
+			return EnumerationValues.valueOf(enumerationClass, value);
 		} catch (IOException e) {
 			throw toDecodingException(e);
 		}
@@ -1025,6 +877,8 @@ public class BinaryDecoder implements IDecoder {
 			String text			= null;
 			if ((encodingMask & 1)==1) locale = getString(null);
 			if ((encodingMask & 2)==2) text = getString(null);
+			StringCache cache = ctx.getStringCache();
+			if (cache!=null) return cache.getLocalizedText(text, locale);
 			return new LocalizedText(text, locale);
 		} catch (IOException e) {
 			throw toDecodingException(e);
@@ -1079,22 +933,19 @@ public class BinaryDecoder implements IDecoder {
 			if (encoding == NodeIdEncoding.TwoByte)
 			{
 				namespaceIndex = 0;
-				UnsignedInteger id = UnsignedInteger.getFromBits( in.get() & 0xff );
-				result = new NodeId(namespaceIndex, id);
+				result = NodeId.numeric(namespaceIndex, in.get() & 0xff);
 			}
 			else
 				if (encoding == NodeIdEncoding.FourByte)
 				{
 					namespaceIndex = in.get() & 0xff;
-					UnsignedInteger id = UnsignedInteger.getFromBits( in.getShort() & 0xffff);
-					result = new NodeId(namespaceIndex, id);
+					result = NodeId.numeric(namespaceIndex, in.getShort() & 0xffff);
 				}
 				else
 					if (encoding == NodeIdEncoding.Numeric)
 					{
 						namespaceIndex = in.getShort() & 0xffff;
-						UnsignedInteger id = getUInt32(null);
-						result = new NodeId(namespaceIndex, id);
+						result = NodeId.numeric(namespaceIndex, in.getInt());
 					}
 					else
 						if (encoding == NodeIdEncoding.String)
@@ -1151,7 +1002,8 @@ public class BinaryDecoder implements IDecoder {
 		UnsignedShort namespaceIndex	= getUInt16(null);
 		String name						= getString(null);
 		//if (name==null) return null; //test 21.5.
-		if (name==null) return new QualifiedName( namespaceIndex, null );
+		StringCache cache = ctx.getStringCache();
+		if (cache!=null) return cache.getQualifiedName(namespaceIndex.intValue(), name);
 		return new QualifiedName( namespaceIndex, name );
 	}
 
@@ -1253,7 +1105,11 @@ public class BinaryDecoder implements IDecoder {
 	public StatusCode getStatusCode(String fieldName)
 			throws DecodingException
 	{
-		return new StatusCode( getUInt32(null) );
+		try {
+			return StatusCode.getFromBits( in.getInt() );
+		} catch (IOException e) {
+			throw toDecodingException(e);
+		}
 	}
 
 	/** {@inheritDoc} */
@@ -1283,9 +1139,15 @@ public class BinaryDecoder implements IDecoder {
 			int len = in.getInt();
 			if (len==-1) return null;
 			assertStringLength(len);
+			StringCache cache = ctx.getStringCache();
+			if (cache!=null && len<=cache.getMaxStringLength()) {
+				if (scratch==null || scratch.length<len) scratch = new byte[Math.max(len, 64)];
+				in.get(scratch, 0, len);
+				return cache.getString(scratch, 0, len);
+			}
 			byte dada[] = new byte[len];
 			in.get(dada);
-			return new String(dada, UTF8);
+			return StringCache.decodeUtf8(dada, 0, len);
 		} catch (IOException e) {
 			throw toDecodingException(e);
 		}
@@ -1451,6 +1313,10 @@ public class BinaryDecoder implements IDecoder {
 			boolean isArray					= (encodingMask & 0x80) == 0x80;
 			boolean hasDimensionLengths		= (encodingMask & 0x40) == 0x40;
 			boolean isNull					= builtinType == 0; // XXX Assumption. null in specs, not specified how.
+			if (ndArrays && isArray && hasDimensionLengths && NDArray.isSupported(builtinType)) {
+				NDArray array = getNDArray(builtinType);
+				return new Variant(array.getDimension() > 1 ? array : array.toArray());
+			}
 			Object value					= isNull ? null : isArray ? getArrayObject(null, builtinType) : getScalarObject(null, builtinType);
 			int[] dims						= hasDimensionLengths ? getInt32Array_(null) : null;
 			boolean multiDimension			= isArray && dims != null && dims.length>1;
@@ -1575,6 +1441,100 @@ public class BinaryDecoder implements IDecoder {
 		this.in = in;
 	}
 
+	/**
+	 * Decode ByteStrings as views of the array of the buffer that is read,
+	 * instead of copies. Use only when the buffer is not modified or reused
+	 * while the decoded values are in use, e.g. for a buffer that holds one
+	 * complete message.
+	 *
+	 * @param byteStringViews true to decode ByteStrings without copying
+	 */
+	public void setByteStringViews(boolean byteStringViews)
+	{
+		this.byteStringViews = byteStringViews;
+	}
+
+	/**
+	 * @return true if ByteStrings are decoded as views of the buffer
+	 */
+	public boolean isByteStringViews()
+	{
+		return byteStringViews;
+	}
+
+	/**
+	 * Decode multi-dimension Variant values of numeric and Boolean types as
+	 * {@link NDArray}s, which are read in bulk, instead of nested arrays.
+	 *
+	 * @param ndArrays true to decode NDArrays
+	 */
+	public void setNDArrays(boolean ndArrays)
+	{
+		this.ndArrays = ndArrays;
+	}
+
+	/**
+	 * @return true if multi-dimension Variant values are decoded as NDArrays
+	 */
+	public boolean isNDArrays()
+	{
+		return ndArrays;
+	}
+
+	/**
+	 * Read the elements and dimensions of a multi-dimension Variant value.
+	 *
+	 * @param builtinType builtin type of the elements
+	 * @return the array
+	 * @throws DecodingException
+	 * @throws IOException
+	 */
+	private NDArray getNDArray(int builtinType)
+			throws DecodingException, IOException
+	{
+		int len = in.getInt();
+		int size = NDArray.getElementSize(builtinType);
+		assertArrayLength(len, size);
+		if (len < 0)
+			throw new DecodingException("The ArrayDimensions do not match the ArrayLength in total size");
+		Object data = Array.newInstance(NDArray.getPrimitiveType(builtinType), len);
+		if (builtinType == 1) {
+			boolean[] values = (boolean[]) data;
+			for (int i = 0; i < len; i++)
+				values[i] = in.get() != 0;
+		} else if (size == 1) {
+			in.get((byte[]) data, 0, len);
+		} else {
+			// Copy in chunks through a little-endian buffer
+			ByteBuffer buf = ByteBuffer.allocate(Math.min(len, BULK_CHUNK_SIZE / size) * size).order(ByteOrder.LITTLE_ENDIAN);
+			int chunk = buf.capacity() / size;
+			for (int pos = 0; pos < len; pos += chunk) {
+				int n = Math.min(chunk, len - pos);
+				buf.clear();
+				in.get(buf, n * size);
+				buf.flip();
+				switch (builtinType) {
+				case 4: case 5: buf.asShortBuffer().get((short[]) data, pos, n); break;
+				case 6: case 7: buf.asIntBuffer().get((int[]) data, pos, n); break;
+				case 8: case 9: buf.asLongBuffer().get((long[]) data, pos, n); break;
+				case 10: buf.asFloatBuffer().get((float[]) data, pos, n); break;
+				default: buf.asDoubleBuffer().get((double[]) data, pos, n); break;
+				}
+			}
+		}
+		int[] dims = getInt32Array_(null);
+		long total = dims == null ? -1 : 1;
+		for (int i = 0; dims != null && i < dims.length; i++)
+			total = total * dims[i];
+		if (total != len)
+			throw new DecodingException("The ArrayDimensions do not match the ArrayLength in total size");
+		try {
+			return new NDArray(builtinType, data, dims);
+		} catch (IllegalArgumentException e) {
+			throw new DecodingException("The length of ArrayDimensions-field does not match Value-field");
+		}
+	}
+
 	/**
 	 * Assert array length is within restrictions
 	 * @param len
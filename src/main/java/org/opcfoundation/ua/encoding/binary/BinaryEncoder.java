@@ -37,6 +37,7 @@ import org.opcfoundation.ua.builtintypes.Enumeration;
 import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
 import org.opcfoundation.ua.builtintypes.ExtensionObject;
 import org.opcfoundation.ua.builtintypes.LocalizedText;
+import org.opcfoundation.ua.builtintypes.NDArray;
 import org.opcfoundation.ua.builtintypes.NodeId;
 import org.opcfoundation.ua.builtintypes.QualifiedName;
 import org.opcfoundation.ua.builtintypes.StatusCode;
@@ -49,6 +50,7 @@ import org.opcfoundation.ua.builtintypes.Variant;
 import org.opcfoundation.ua.builtintypes.XmlElement;
 import org.opcfoundation.ua.common.ServiceResultException;
 import org.opcfoundation.ua.core.IdType;
+import org.opcfoundation.ua.core.ResponseHeader;
 import org.opcfoundation.ua.core.StatusCodes;
 import org.opcfoundation.ua.encoding.EncodeType;
 import org.opcfoundation.ua.encoding.EncoderContext;
@@ -76,6 +78,8 @@ import org.opcfoundation.ua.utils.bytebuffer.OutputStreamWriteable;
  */
 public class BinaryEncoder implements IEncoder {
 	private static Logger logger = LoggerFactory.getLogger(BinaryEncoder.class);
+	/** Size of the buffer of bulk copies of arrays */
+	private static final int BULK_CHUNK_SIZE = 8192;
 
 	/** Constant <code>UTF8</code> */
 	public static final Charset UTF8 = Charset.forName("utf-8");
@@ -1199,19 +1203,32 @@ public class BinaryEncoder implements IEncoder {
 	/** {@inheritDoc} */
 	public void putDateTime(String fieldName, DateTime v)
     throws EncodingException	
+	{
+		if (v==null) {
+			assertNullOk(v);
+			putDateTimeValue(0);
+		} else {
+			putDateTimeValue(v.getValue());
+		}
+	}
+
+	/**
+	 * Write a DateTime value. Values from MAX_VALUE up are written as the max
+	 * value of the encoding and values up to MIN_VALUE as 0.
+	 *
+	 * @param v the time value
+	 * @throws EncodingException
+	 */
+	private void putDateTimeValue(long v)
+    throws EncodingException
 	{
 		try {
-			if (v==null) {
-				assertNullOk(v);
+			if (v >= DateTime.MAX_VALUE.getValue()) {
+				out.putLong(Long.MAX_VALUE);
+			} else if (v <= 0) {
 				out.putLong(0);
 			} else {
-				if (v.compareTo(DateTime.MAX_VALUE) >= 0) {
-					out.putLong(Long.MAX_VALUE);
-				} else if (v.compareTo(DateTime.MIN_VALUE) <= 0) {
-					out.putLong(0);
-				} else {
-					out.putLong(v.getValue());
-				}
+				out.putLong(v);
 			}
 		} catch (IOException e) {
 			throw toEncodingException(e);
@@ -1377,7 +1394,16 @@ public class BinaryEncoder implements IEncoder {
 	public void putByteString(String fieldName, ByteString v)
     throws EncodingException	
 	{		
-	  putByteString(fieldName, ByteString.asByteArray(v));
+		try {
+			if (v==null) out.putInt(-1);
+			else {
+				assertByteStringLength(v.getLength());
+				out.putInt(v.getLength());
+				out.put(v.asByteBuffer());
+			}
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
 	}
 	
 	/**
@@ -1507,23 +1533,22 @@ public class BinaryEncoder implements IEncoder {
 //			return;
 //		}
 		
-			Object o = v.getValue();
 			if (v.getIdType() == IdType.Numeric) {
-				UnsignedInteger i = (UnsignedInteger) o;
-				if (i.compareTo(UnsignedByte.MAX_VALUE)<=0 && v.getNamespaceIndex()==0)
+				int i = v.getNumericValue();
+				if ((i & 0xffffff00)==0 && v.getNamespaceIndex()==0)
 				{
 					out.put(NodeIdEncoding.TwoByte.getBits());
-					out.put(i.byteValue());
+					out.put((byte) i);
 				} else 
-				if (i.compareTo(UnsignedShort.MAX_VALUE)<=0 && v.getNamespaceIndex()<256)
+				if ((i & 0xffff0000)==0 && v.getNamespaceIndex()<256)
 				{
 					out.put(NodeIdEncoding.FourByte.getBits());
 					putSByte(null, v.getNamespaceIndex());
-					out.putShort(i.shortValue());
+					out.putShort((short) i);
 				} else {
 					out.put(NodeIdEncoding.Numeric.getBits());
 					out.putShort((short)v.getNamespaceIndex());
-					out.putInt(i.intValue());
+					out.putInt(i);
 				}
 			} else
 			
@@ -2074,22 +2099,27 @@ public class BinaryEncoder implements IEncoder {
 			putSByte(null, 0);
 			return;
 		}
+		// Null status code, timestamps and picoseconds have the default primitive values
 		int mask = 0;
 		if (v.getValue()!=null) mask |= 1;		
-		if (v.getStatusCode()!=null && !v.getStatusCode().equals(StatusCode.GOOD)) mask |= 2;
-		if (v.getSourceTimestamp()!=null && !v.getSourceTimestamp().equals(DateTime.MIN_VALUE)) mask |= 4; 
-		if (v.getServerTimestamp()!=null && !v.getServerTimestamp().equals(DateTime.MIN_VALUE)) mask |= 8;		
-		if (v.getSourcePicoseconds()!=null && !v.getSourcePicoseconds().equals(UnsignedShort.MIN_VALUE)) mask |= 0x10;
-		if (v.getServerPicoseconds()!=null && !v.getServerPicoseconds().equals(UnsignedShort.MIN_VALUE)) mask |= 0x20;
+		if (v.getStatusCodeAsIntBits()!=StatusCode.SEVERITY_GOOD) mask |= 2;
+		if (v.getSourceTimestampValue()!=0) mask |= 4; 
+		if (v.getServerTimestampValue()!=0) mask |= 8;		
+		if (v.getSourcePicosecondsValue()!=0) mask |= 0x10;
+		if (v.getServerPicosecondsValue()!=0) mask |= 0x20;
 		
 		putSByte(null, mask);
 		// NOTE!! The order of fields differ from the "order" of the mask, see spec 1.04 Part 6 section 5.2.2.17 for DataValue encoding
-		if ((mask & 1) == 1) putVariant(null, v.getValue());
-		if ((mask & 2) == 2) putStatusCode(null, v.getStatusCode());
-		if ((mask & 4) == 4) putDateTime(null, v.getSourceTimestamp());
-		if ((mask & 0x10) == 0x10) putUInt16(null, v.getSourcePicoseconds());
-		if ((mask & 8) == 8) putDateTime(null, v.getServerTimestamp());
-		if ((mask & 0x20) == 0x20) putUInt16(null, v.getServerPicoseconds());
+		try {
+			if ((mask & 1) == 1) putVariant(null, v.getValue());
+			if ((mask & 2) == 2) out.putInt(v.getStatusCodeAsIntBits());
+			if ((mask & 4) == 4) putDateTimeValue(v.getSourceTimestampValue());
+			if ((mask & 0x10) == 0x10) out.putShort((short) v.getSourcePicosecondsValue());
+			if ((mask & 8) == 8) putDateTimeValue(v.getServerTimestampValue());
+			if ((mask & 0x20) == 0x20) out.putShort((short) v.getServerPicosecondsValue());
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
 	}
 	
 	/**
@@ -2166,6 +2196,11 @@ public class BinaryEncoder implements IEncoder {
 			return;
 		} 
 		
+		if (o instanceof NDArray) {
+			putNDArray((NDArray) o);
+			return;
+		}
+		
 		// Array
 		int dim = v.getDimension();
 		if (dim==1) {
@@ -2191,6 +2226,57 @@ public class BinaryEncoder implements IEncoder {
 		}		
 	}	
 	
+	/**
+	 * Write the elements and dimensions of an NDArray Variant value. The
+	 * elements are copied in bulk.
+	 *
+	 * @param v the array
+	 * @throws EncodingException
+	 */
+	private void putNDArray(NDArray v)
+    throws EncodingException	
+	{
+		NDArray a = v.compact();
+		int builtinType = a.getBuiltinType();
+		int len = a.getLength();
+		int[] dims = a.getDimensions();
+		assertArrayLength(len);
+		try {
+			putSByte( null, (builtinType | (dims.length > 1 ? 0xC0 : 0x80)));
+			out.putInt(len);
+			int size = NDArray.getElementSize(builtinType);
+			int offset = a.getOffset();
+			if (builtinType == 1) {
+				boolean[] values = (boolean[]) a.getData();
+				for (int i = 0; i < len; i++)
+					out.put(values[offset + i] ? (byte) 1 : (byte) 0);
+			} else if (size == 1) {
+				out.put((byte[]) a.getData(), offset, len);
+			} else if (len > 0) {
+				// Copy in chunks through a little-endian buffer
+				ByteBuffer buf = ByteBuffer.allocate(Math.min(len, BULK_CHUNK_SIZE / size) * size).order(ByteOrder.LITTLE_ENDIAN);
+				int chunk = buf.capacity() / size;
+				for (int pos = 0; pos < len; pos += chunk) {
+					int n = Math.min(chunk, len - pos);
+					buf.clear();
+					switch (builtinType) {
+					case 4: case 5: buf.asShortBuffer().put((short[]) a.getData(), offset + pos, n); break;
+					case 6: case 7: buf.asIntBuffer().put((int[]) a.getData(), offset + pos, n); break;
+					case 8: case 9: buf.asLongBuffer().put((long[]) a.getData(), offset + pos, n); break;
+					case 10: buf.asFloatBuffer().put((float[]) a.getData(), offset + pos, n); break;
+					default: buf.asDoubleBuffer().put((double[]) a.getData(), offset + pos, n); break;
+					}
+					buf.limit(n * size);
+					out.put(buf);
+				}
+			}
+			if (dims.length > 1)
+				putInt32Array(null, dims);
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
+	}
+	
 	/**
 	 * <p>putVariantArray.</p>
 	 *
@@ -2557,6 +2643,10 @@ public class BinaryEncoder implements IEncoder {
 	public void putMessage(IEncodeable s)
     throws EncodingException	
 	{
+		if (s instanceof PreEncodedResponse) {
+			putPreEncodedResponse((PreEncodedResponse) s);
+			return;
+		}
 		Class<IEncodeable> clazz = (Class<IEncodeable>) s.getClass();
 		try {
 			putNodeId(null, ctx.getEncodeableNodeId(clazz, EncodeType.Binary));
@@ -2566,6 +2656,22 @@ public class BinaryEncoder implements IEncoder {
 		ctx.getEncodeableSerializer().putEncodeable(clazz, s, this);
 	}
 
+	private void putPreEncodedResponse(PreEncodedResponse r)
+	throws EncodingException
+	{
+		try {
+			putNodeId(null, ctx.getEncodeableNodeId(r.response.getClass(), EncodeType.Binary));
+		} catch (ServiceResultException e) {
+			throw new EncodingException("Could not get BinaryEncodeId for the class", e);
+		}
+		putEncodeable(null, ResponseHeader.class, r.getResponseHeader());
+		try {
+			out.put(r.body);
+		} catch (IOException e) {
+			throw toEncodingException(e);
+		}
+	}
+
 	/** {@inheritDoc} */
 	@Override
 	public void put(String fieldName, Object o) throws EncodingException {
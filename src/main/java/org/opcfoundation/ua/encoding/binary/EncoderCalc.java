@@ -693,7 +693,7 @@ public class EncoderCalc implements IEncoder {
      * @param v         an array of byte.
      */
     public void putByteString(String fieldName, ByteString v) {
-        putByteString(fieldName, ByteString.asByteArray(v));
+        length += v == null ? 4 : 4 + v.getLength();
     }
 
     /**
@@ -774,12 +774,11 @@ public class EncoderCalc implements IEncoder {
     public void putNodeId(String fieldName, NodeId v) {
         if (v == null) v = NodeId.NULL;
 
-        Object o = v.getValue();
         if (v.getIdType() == IdType.Numeric) {
-            UnsignedInteger i = (UnsignedInteger) o;
-            if (i.compareTo(UnsignedByte.MAX_VALUE) <= 0 && v.getNamespaceIndex() == 0) {
+            int i = v.getNumericValue();
+            if ((i & 0xffffff00) == 0 && v.getNamespaceIndex() == 0) {
                 length += 2;
-            } else if (i.compareTo(UnsignedShort.MAX_VALUE) <= 0 && v.getNamespaceIndex() < 256) {
+            } else if ((i & 0xffff0000) == 0 && v.getNamespaceIndex() < 256) {
                 length += 4;
             } else {
                 length += 7;
@@ -1164,19 +1163,19 @@ public class EncoderCalc implements IEncoder {
         }
         int mask = 0;
         if (v.getValue() != null) mask |= 1;
-        if (v.getStatusCode() != null && !v.getStatusCode().equals(StatusCode.GOOD)) mask |= 2;
-        if (v.getSourceTimestamp() != null && !v.getSourceTimestamp().equals(DateTime.MIN_VALUE)) mask |= 4;
-        if (v.getServerTimestamp() != null && !v.getServerTimestamp().equals(DateTime.MIN_VALUE)) mask |= 8;
-        if (v.getSourcePicoseconds() != null && !v.getSourcePicoseconds().equals(UnsignedShort.MIN_VALUE)) mask |= 0x10;
-        if (v.getServerPicoseconds() != null && !v.getServerPicoseconds().equals(UnsignedShort.MIN_VALUE)) mask |= 0x20;
+        if (v.getStatusCodeAsIntBits() != StatusCode.SEVERITY_GOOD) mask |= 2;
+        if (v.getSourceTimestampValue() != 0) mask |= 4;
+        if (v.getServerTimestampValue() != 0) mask |= 8;
+        if (v.getSourcePicosecondsValue() != 0) mask |= 0x10;
+        if (v.getServerPicosecondsValue() != 0) mask |= 0x20;
 
         length += 1;
         if ((mask & 1) == 1) putVariant(null, v.getValue());
-        if ((mask & 2) == 2) putStatusCode(null, v.getStatusCode());
-        if ((mask & 4) == 4) putDateTime(null, v.getSourceTimestamp());
-        if ((mask & 8) == 8) putDateTime(null, v.getServerTimestamp());
-        if ((mask & 0x10) == 0x10) putUInt16(null, v.getSourcePicoseconds());
-        if ((mask & 0x20) == 0x20) putUInt16(null, v.getServerPicoseconds());
+        if ((mask & 2) == 2) length += 4;
+        if ((mask & 4) == 4) length += 8;
+        if ((mask & 8) == 8) length += 8;
+        if ((mask & 0x10) == 0x10) length += 2;
+        if ((mask & 0x20) == 0x20) length += 2;
     }
 
     /**
@@ -1241,6 +1240,14 @@ public class EncoderCalc implements IEncoder {
             return;
         }
 
+        if (o instanceof NDArray) {
+            NDArray a = (NDArray) o;
+            length += 1 + 4 + a.getLength() * NDArray.getElementSize(a.getBuiltinType());
+            if (a.getDimension() > 1)
+                length += 4 + 4 * a.getDimension();
+            return;
+        }
+
         // Array
         int dim = v.getDimension();
         if (dim == 1) {
@@ -1735,6 +1742,17 @@ public class EncoderCalc implements IEncoder {
 //	}
     @SuppressWarnings("unchecked")
     public void putMessage(IEncodeable s) throws EncodingException {
+        if (s instanceof PreEncodedResponse) {
+            PreEncodedResponse r = (PreEncodedResponse) s;
+            try {
+                putNodeId(null, ctx.getEncodeableNodeId(r.response.getClass(), EncodeType.Binary));
+            } catch (ServiceResultException e) {
+                throw new EncodingException("Could not get BinaryEncodeId for the class", e);
+            }
+            putEncodeable(null, ResponseHeader.class, r.getResponseHeader());
+            length += r.body.length;
+            return;
+        }
         Class<IEncodeable> clazz = (Class<IEncodeable>) s.getClass();
         try {
             putNodeId(null, ctx.getEncodeableNodeId(clazz, EncodeType.Binary));
@@ -0,0 +1,150 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.encoding.binary;
+
+import java.util.Arrays;
+
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
+import org.opcfoundation.ua.builtintypes.ServiceResponse;
+import org.opcfoundation.ua.core.ResponseHeader;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.EncoderMode;
+import org.opcfoundation.ua.encoding.EncodingException;
+
+/**
+ * A service response whose fields after the ResponseHeader are encoded in
+ * advance, for responses that a server sends unchanged many times, such as
+ * GetEndpoints responses.
+ * <p>
+ * {@link BinaryEncoder#putMessage(org.opcfoundation.ua.encoding.IEncodeable)}
+ * encodes the type id and the ResponseHeader of this object and then copies
+ * the encoded fields as they are. {@link EncoderCalc} counts them the same
+ * way. Only the binary encoding is supported.
+ * <p>
+ * Typical use:
+ * <pre>
+ * PreEncodedResponse cached = PreEncodedResponse.encode(response, ctx);
+ * ...
+ * request.sendResponse(new AsyncWrite(cached.withResponseHeader(header)));
+ * </pre>
+ */
+public final class PreEncodedResponse implements ServiceResponse {
+
+	final ServiceResponse response;
+	/** Binary encoding of the fields after the ResponseHeader */
+	final byte[] body;
+	ResponseHeader responseHeader;
+
+	private PreEncodedResponse(ServiceResponse response, byte[] body, ResponseHeader responseHeader) {
+		this.response = response;
+		this.body = body;
+		this.responseHeader = responseHeader;
+	}
+
+	/**
+	 * Encode the fields of a response after its ResponseHeader.
+	 *
+	 * @param response the response, which must not be modified afterwards
+	 * @param ctx encoder context
+	 * @return the pre-encoded response, with the ResponseHeader of the response
+	 * @throws EncodingException if the response cannot be encoded
+	 */
+	public static PreEncodedResponse encode(ServiceResponse response, EncoderContext ctx)
+	throws EncodingException
+	{
+		IEncodeableSerializer serializer = ctx.getEncodeableSerializer();
+		EncoderCalc calc = new EncoderCalc();
+		calc.setEncoderContext(ctx);
+		calc.putEncodeable(null, ResponseHeader.class, response.getResponseHeader());
+		int headerLength = calc.getLength();
+		calc.reset();
+		serializer.calcEncodeable(response.getClass(), response, calc);
+		int length = calc.getLength();
+
+		byte[] data = new byte[length];
+		BinaryEncoder enc = new BinaryEncoder(data);
+		enc.setEncoderContext(ctx);
+		enc.setEncoderMode(EncoderMode.NonStrict);
+		serializer.putEncodeable(response.getClass(), response, enc);
+		return new PreEncodedResponse(response, Arrays.copyOfRange(data, headerLength, length), response.getResponseHeader());
+	}
+
+	/**
+	 * Get a copy of this response with another ResponseHeader. The copy
+	 * shares the encoded fields with this response.
+	 *
+	 * @param responseHeader the header
+	 * @return a new response
+	 */
+	public PreEncodedResponse withResponseHeader(ResponseHeader responseHeader)
+	{
+		return new PreEncodedResponse(response, body, responseHeader);
+	}
+
+	/**
+	 * <p>getResponse.</p>
+	 *
+	 * @return the response that was encoded
+	 */
+	public ServiceResponse getResponse()
+	{
+		return response;
+	}
+
+	/**
+	 * <p>getEncodedLength.</p>
+	 *
+	 * @return the length of the encoded fields after the ResponseHeader
+	 */
+	public int getEncodedLength()
+	{
+		return body.length;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ResponseHeader getResponseHeader() {
+		return responseHeader;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void setResponseHeader(ResponseHeader responseHeader) {
+		this.responseHeader = responseHeader;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ExpandedNodeId getTypeId() {
+		return response.getTypeId();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ExpandedNodeId getXmlEncodeId() {
+		return response.getXmlEncodeId();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ExpandedNodeId getBinaryEncodeId() {
+		return response.getBinaryEncodeId();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return "PreEncodedResponse: " + response;
+	}
+
+}
@@ -0,0 +1,1722 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.encoding.json;
+
+import java.lang.reflect.Array;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.opcfoundation.ua.builtintypes.ByteString;
+import org.opcfoundation.ua.builtintypes.DataValue;
+import org.opcfoundation.ua.builtintypes.DateTime;
+import org.opcfoundation.ua.builtintypes.DiagnosticInfo;
+import org.opcfoundation.ua.builtintypes.Enumeration;
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
+import org.opcfoundation.ua.builtintypes.ExtensionObject;
+import org.opcfoundation.ua.builtintypes.LocalizedText;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.QualifiedName;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.builtintypes.Structure;
+import org.opcfoundation.ua.builtintypes.UnsignedByte;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.builtintypes.UnsignedLong;
+import org.opcfoundation.ua.builtintypes.UnsignedShort;
+import org.opcfoundation.ua.builtintypes.Variant;
+import org.opcfoundation.ua.builtintypes.XmlElement;
+import org.opcfoundation.ua.common.NamespaceTable;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.encoding.DecodingException;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.IDecoder;
+import org.opcfoundation.ua.encoding.IEncodeable;
+import org.opcfoundation.ua.encoding.StringCache;
+import org.opcfoundation.ua.encoding.utils.EnumerationValues;
+import org.opcfoundation.ua.encoding.utils.FieldCodecs;
+import org.opcfoundation.ua.utils.MultiDimensionArrayUtils;
+
+/**
+ * Decodes the OPC UA JSON encoding (Part 6, 5.4).
+ * <p>
+ * The decoder is a pull parser over the UTF-8 bytes of a message. When a
+ * structure is read, the members of its JSON object are indexed by the offsets
+ * of their names and values, without decoding them, so the fields can be
+ * read by name in any order. Values are parsed directly from the bytes when
+ * they are read. The indices are reused, and the decoder can be reused for the
+ * next message with {@link #reset(byte[], int, int)}.
+ * <p>
+ * The reversible form of {@link JsonEncoder} is decoded. Missing fields are
+ * decoded as null, except Booleans, numbers and StatusCodes, which are decoded
+ * as false, 0 and Good. Of the non-reversible form, LocalizedTexts as text,
+ * StatusCodes as objects, enumerations as "Name_Value", namespace URIs and
+ * Variants of strings, numbers and Booleans are accepted.
+ */
+public class JsonDecoder implements IDecoder {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
+	private EncoderContext ctx = EncoderContext.getDefaultInstance();
+	private byte[] buf;
+	private int pos;
+	private int limit;
+	/** Indices of the objects being read */
+	private Member[] objects = new Member[8];
+	private int depth;
+	private byte[] scratch;
+
+	/**
+	 * Create a decoder of a message.
+	 *
+	 * @param buf UTF-8 bytes of the message
+	 */
+	public JsonDecoder(byte[] buf)
+	{
+		this(buf, 0, buf.length);
+	}
+
+	/**
+	 * Create a decoder of a message.
+	 *
+	 * @param buf buffer
+	 * @param off offset of the message
+	 * @param len length of the message in bytes
+	 */
+	public JsonDecoder(byte[] buf, int off, int len)
+	{
+		reset(buf, off, len);
+	}
+
+	/**
+	 * Create a decoder of a message.
+	 *
+	 * @param json the message
+	 */
+	public JsonDecoder(String json)
+	{
+		this(json.getBytes(UTF8));
+	}
+
+	/**
+	 * Start decoding the next message.
+	 *
+	 * @param buf buffer
+	 * @param off offset of the message
+	 * @param len length of the message in bytes
+	 */
+	public void reset(byte[] buf, int off, int len)
+	{
+		this.buf = buf;
+		this.pos = off;
+		this.limit = off + len;
+		this.depth = 0;
+	}
+
+	/**
+	 * <p>getEncoderContext.</p>
+	 *
+	 * @return a {@link org.opcfoundation.ua.encoding.EncoderContext} object.
+	 */
+	public EncoderContext getEncoderContext() {
+		return ctx;
+	}
+
+	/**
+	 * <p>setEncoderContext.</p>
+	 *
+	 * @param ctx a {@link org.opcfoundation.ua.encoding.EncoderContext} object.
+	 */
+	public void setEncoderContext(EncoderContext ctx) {
+		this.ctx = ctx;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T> T get(String fieldName, Class<T> clazz) throws DecodingException {
+		return FieldCodecs.get(this, fieldName, clazz);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Boolean getBoolean(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : Boolean.FALSE;
+		if (match("true")) return Boolean.TRUE;
+		if (match("false")) return Boolean.FALSE;
+		throw unexpected("a Boolean");
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Boolean[] getBooleanArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Boolean[] result = new Boolean[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getBoolean(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Byte getSByte(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : (byte) 0;
+		return (byte) readLong(Byte.MIN_VALUE, Byte.MAX_VALUE);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Byte[] getSByteArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Byte[] result = new Byte[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getSByte(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UnsignedByte getByte(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : UnsignedByte.valueOf(0);
+		return UnsignedByte.valueOf((int) readLong(0, 0xFF));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UnsignedByte[] getByteArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		UnsignedByte[] result = new UnsignedByte[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getByte(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Short getInt16(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : (short) 0;
+		return (short) readLong(Short.MIN_VALUE, Short.MAX_VALUE);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Short[] getInt16Array(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Short[] result = new Short[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getInt16(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UnsignedShort getUInt16(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : UnsignedShort.ZERO;
+		return UnsignedShort.getFromBits((short) readLong(0, 0xFFFF));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UnsignedShort[] getUInt16Array(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		UnsignedShort[] result = new UnsignedShort[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getUInt16(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Integer getInt32(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : 0;
+		return (int) readLong(Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Integer[] getInt32Array(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Integer[] result = new Integer[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getInt32(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int[] getInt32Array_(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		int[] result = new int[len];
+		for (int i = 0; i < len; i++)
+			result[i] = seek(null) ? (int) readLong(Integer.MIN_VALUE, Integer.MAX_VALUE) : 0;
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UnsignedInteger getUInt32(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : UnsignedInteger.ZERO;
+		return UnsignedInteger.getFromBits((int) readLong(0, 0xFFFFFFFFL));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UnsignedInteger[] getUInt32Array(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		UnsignedInteger[] result = new UnsignedInteger[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getUInt32(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Long getInt64(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : 0L;
+		return readLong();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Long[] getInt64Array(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Long[] result = new Long[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getInt64(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UnsignedLong getUInt64(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : UnsignedLong.getFromBits(0);
+		return UnsignedLong.getFromBits(readInteger(true));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UnsignedLong[] getUInt64Array(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		UnsignedLong[] result = new UnsignedLong[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getUInt64(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Float getFloat(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : 0f;
+		if (buf[pos] == '"') {
+			String s = readString();
+			try {
+				return Float.valueOf(s);
+			} catch (NumberFormatException e) {
+				throw new DecodingException("Invalid Float "+s, e);
+			}
+		}
+		int start = pos;
+		skipToken();
+		if (isIntegral(start, pos)) {
+			pos = start;
+			return (float) readLong();
+		}
+		return Float.valueOf(new String(buf, start, pos - start, ASCII));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Float[] getFloatArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Float[] result = new Float[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getFloat(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Double getDouble(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : 0.0;
+		return readDouble();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Double[] getDoubleArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Double[] result = new Double[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getDouble(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String getString(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		return readString();
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String[] getStringArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		String[] result = new String[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getString(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public DateTime getDateTime(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		long value = readDateTimeValue();
+		if (value <= 0) return DateTime.MIN_VALUE;
+		if (value >= DateTime.MAX_VALUE.getValue()) return DateTime.MAX_VALUE;
+		return new DateTime(value);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public DateTime[] getDateTimeArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		DateTime[] result = new DateTime[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getDateTime(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UUID getGuid(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		int start = pos + 1;
+		skipString();
+		int end = pos - 1;
+		// 8-4-4-4-12 hex digits
+		if (end - start != 36 || buf[start + 8] != '-' || buf[start + 13] != '-' || buf[start + 18] != '-' || buf[start + 23] != '-')
+			throw new DecodingException("Invalid Guid "+new String(buf, start, Math.max(end - start, 0), ASCII));
+		long msb = hex(start, 8) << 32 | hex(start + 9, 4) << 16 | hex(start + 14, 4);
+		long lsb = hex(start + 19, 4) << 48 | hex(start + 24, 12);
+		return new UUID(msb, lsb);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public UUID[] getGuidArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		UUID[] result = new UUID[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getGuid(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ByteString getByteString(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		if (buf[pos] != '"') throw unexpected("a base64 string");
+		int start = pos + 1;
+		boolean escaped = skipString();
+		if (escaped) {
+			byte[] value = readString(start, pos - 1, true).getBytes(ASCII);
+			return ByteString.valueOf(decodeBase64(value, 0, value.length));
+		}
+		return ByteString.valueOf(decodeBase64(buf, start, pos - 1));
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ByteString[] getByteStringArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		ByteString[] result = new ByteString[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getByteString(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public XmlElement getXmlElement(String fieldName)
+			throws DecodingException
+	{
+		String value = getString(fieldName);
+		return value == null ? null : new XmlElement(value);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public XmlElement[] getXmlElementArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		XmlElement[] result = new XmlElement[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getXmlElement(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public NodeId getNodeId(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		enterObject();
+		Object namespace = getNamespace("Namespace");
+		int namespaceIndex = namespace instanceof String ? toNamespaceIndex((String) namespace) : (Integer) namespace;
+		int idType = getInt32("IdType");
+		NodeId result;
+		if (idType == 0)
+			result = NodeId.numeric(namespaceIndex, getUInt32("Id").intValue());
+		else
+			result = NodeId.get(toIdType(idType), namespaceIndex, getIdentifier(idType));
+		exitObject();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public NodeId[] getNodeIdArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		NodeId[] result = new NodeId[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getNodeId(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ExpandedNodeId getExpandedNodeId(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		enterObject();
+		Object namespace = getNamespace("Namespace");
+		int idType = getInt32("IdType");
+		Object value = getIdentifier(idType);
+		UnsignedInteger serverIndex = getUInt32("ServerUri");
+		ExpandedNodeId result;
+		if (namespace instanceof String)
+			result = new ExpandedNodeId(serverIndex, (String) namespace, value);
+		else
+			result = new ExpandedNodeId(serverIndex, (Integer) namespace, value);
+		exitObject();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ExpandedNodeId[] getExpandedNodeIdArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		ExpandedNodeId[] result = new ExpandedNodeId[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getExpandedNodeId(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public StatusCode getStatusCode(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return fieldName == null ? null : StatusCode.GOOD;
+		if (buf[pos] != '{')
+			return StatusCode.getFromBits((int) readLong(0, 0xFFFFFFFFL));
+		// Non-reversible form
+		enterObject();
+		int code = getUInt32("Code").intValue();
+		exitObject();
+		return StatusCode.getFromBits(code);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public StatusCode[] getStatusCodeArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		StatusCode[] result = new StatusCode[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getStatusCode(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QualifiedName getQualifiedName(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		enterObject();
+		String name = getString("Name");
+		Object namespace = getNamespace("Uri");
+		int namespaceIndex = namespace instanceof String ? toNamespaceIndex((String) namespace) : (Integer) namespace;
+		exitObject();
+		StringCache cache = ctx.getStringCache();
+		if (cache != null) return cache.getQualifiedName(namespaceIndex, name);
+		return new QualifiedName(namespaceIndex, name);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public QualifiedName[] getQualifiedNameArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		QualifiedName[] result = new QualifiedName[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getQualifiedName(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public LocalizedText getLocalizedText(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		String locale = null;
+		String text;
+		if (buf[pos] == '"') {
+			// Non-reversible form
+			text = readString();
+		} else {
+			enterObject();
+			locale = getString("Locale");
+			text = getString("Text");
+			exitObject();
+		}
+		StringCache cache = ctx.getStringCache();
+		if (cache != null) return cache.getLocalizedText(text, locale);
+		return new LocalizedText(text, locale);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public LocalizedText[] getLocalizedTextArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		LocalizedText[] result = new LocalizedText[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getLocalizedText(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Structure getStructure(String fieldName)
+			throws DecodingException
+	{
+		ExtensionObject value = getExtensionObject(fieldName);
+		if (value == null) return null;
+		if (!value.isEncoded()) return (Structure) value.getObject();
+		return value.decode(ctx);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Structure[] getStructureArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Structure[] result = new Structure[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getStructure(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ExtensionObject getExtensionObject(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		enterObject();
+		NodeId typeId = getNodeId("TypeId");
+		int encoding = getInt32("Encoding");
+		ExtensionObject result;
+		if (typeId == null || typeId.isNullNodeId()) {
+			result = null;
+		} else if (encoding == 0) {
+			ExpandedNodeId expandedNodeId = ctx.getNamespaceTable().toExpandedNodeId(typeId);
+			Class<? extends IEncodeable> clazz = ctx.getEncodeableClass(typeId);
+			if (clazz == null) {
+				if (find("Body") >= 0)
+					throw new DecodingException("Cannot decode "+typeId);
+				result = new ExtensionObject(expandedNodeId);
+			} else {
+				Structure body = (Structure) getEncodeable("Body", clazz);
+				result = body == null ? new ExtensionObject(expandedNodeId) : new ExtensionObject(body);
+			}
+		} else {
+			ExpandedNodeId expandedNodeId = ctx.getNamespaceTable().toExpandedNodeId(typeId);
+			final ExtensionObject tmp;
+			if (encoding == 1)
+				tmp = new ExtensionObject(expandedNodeId, ByteString.asByteArray(getByteString("Body")));
+			else if (encoding == 2)
+				tmp = new ExtensionObject(expandedNodeId, getXmlElement("Body"));
+			else
+				throw new DecodingException("Unexpected encoding ("+encoding+") in ExtensionObject");
+			// Try decoding, but failing is allowed (might be e.g. unknown Structure)
+			ExtensionObject decoded;
+			try {
+				Structure structure = tmp.decode(ctx);
+				decoded = new ExtensionObject(structure);
+			} catch (DecodingException e) {
+				decoded = tmp;
+			}
+			result = decoded;
+		}
+		exitObject();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public ExtensionObject[] getExtensionObjectArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		ExtensionObject[] result = new ExtensionObject[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getExtensionObject(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public DataValue getDataValue(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		enterObject();
+		Variant value = find("Value") >= 0 ? getVariant("Value") : null;
+		int status = getStatusCode("Status").getValueAsIntBits();
+		DateTime sourceTimestamp = getDateTime("SourceTimestamp");
+		int sourcePicoseconds = getUInt16("SourcePicoseconds").intValue();
+		DateTime serverTimestamp = getDateTime("ServerTimestamp");
+		int serverPicoseconds = getUInt16("ServerPicoseconds").intValue();
+		exitObject();
+		DataValue result = new DataValue(value, status,
+				sourceTimestamp == null ? 0 : sourceTimestamp.getValue(), sourcePicoseconds,
+				serverTimestamp == null ? 0 : serverTimestamp.getValue(), serverPicoseconds);
+		// A timestamp of 0 is DateTime.MIN_VALUE, not null
+		if (sourceTimestamp != null && sourceTimestamp.getValue() == 0) result.setSourceTimestamp(sourceTimestamp);
+		if (serverTimestamp != null && serverTimestamp.getValue() == 0) result.setServerTimestamp(serverTimestamp);
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public DataValue[] getDataValueArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		DataValue[] result = new DataValue[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getDataValue(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Variant getVariant(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return Variant.NULL;
+		switch (buf[pos]) {
+		case '{':
+			break;
+		case '"':
+			// Non-reversible forms of scalar values
+			return new Variant(readString());
+		case 't':
+		case 'f':
+			return new Variant(getBoolean(null));
+		default:
+			return new Variant(readDouble());
+		}
+
+		enterObject();
+		int builtinType = getInt32("Type");
+		Object value = null;
+		int[] dims = null;
+		if (builtinType != 0) {
+			int body = find("Body");
+			boolean isArray = body >= 0 && buf[body] == '[';
+			value = isArray ? getArrayObject("Body", builtinType) : getScalarObject("Body", builtinType);
+			dims = getInt32Array_("Dimensions");
+		}
+		exitObject();
+
+		if (dims != null && dims.length > 1) {
+			long total = 1;
+			for (int i : dims)
+				total = total * i;
+			if (!(value instanceof Object[]) || ((Object[]) value).length != total)
+				throw new DecodingException("The ArrayDimensions do not match the ArrayLength in total size");
+			try {
+				value = MultiDimensionArrayUtils.demuxArray(value, dims);
+			} catch (IllegalArgumentException e) {
+				throw new DecodingException("The length of ArrayDimensions-field does not match Value-field");
+			}
+		}
+		if (value instanceof ExtensionObject) {
+			ExtensionObject extobj = (ExtensionObject) value;
+			if (!extobj.isEncoded())
+				value = extobj.getObject();
+		} else if (value instanceof ExtensionObject[]) {
+			ExtensionObject[] values = (ExtensionObject[]) value;
+			try {
+				value = ctx.decode(values);
+			} catch (Exception e) {
+				value = values;
+			}
+		}
+		return new Variant(value);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Variant[] getVariantArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		Variant[] result = new Variant[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getVariant(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public DiagnosticInfo getDiagnosticInfo(String fieldName)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		enterObject();
+		Integer symbolicId = find("SymbolicId") >= 0 ? getInt32("SymbolicId") : null;
+		Integer namespaceUri = find("NamespaceUri") >= 0 ? getInt32("NamespaceUri") : null;
+		Integer locale = find("Locale") >= 0 ? getInt32("Locale") : null;
+		Integer localizedText = find("LocalizedText") >= 0 ? getInt32("LocalizedText") : null;
+		String additionalInfo = getString("AdditionalInfo");
+		StatusCode innerStatusCode = find("InnerStatusCode") >= 0 ? getStatusCode("InnerStatusCode") : null;
+		DiagnosticInfo innerDiagnosticInfo = getDiagnosticInfo("InnerDiagnosticInfo");
+		exitObject();
+		return new DiagnosticInfo(additionalInfo, innerDiagnosticInfo, innerStatusCode, locale, localizedText, namespaceUri, symbolicId);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public DiagnosticInfo[] getDiagnosticInfoArray(String fieldName)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		DiagnosticInfo[] result = new DiagnosticInfo[len];
+		for (int i = 0; i < len; i++)
+			result[i] = getDiagnosticInfo(null);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends Enumeration> T[] getEnumerationArray(String fieldName, Class<T> enumerationClass)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		T[] result = (T[]) Array.newInstance(enumerationClass, len);
+		for (int i = 0; i < len; i++)
+			result[i] = getEnumeration(null, enumerationClass);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public <T extends Enumeration> T getEnumeration(String fieldName, Class<T> enumerationClass)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		if (buf[pos] != '"')
+			return EnumerationValues.valueOf(enumerationClass, (int) readLong(Integer.MIN_VALUE, Integer.MAX_VALUE));
+		// Non-reversible form
+		String s = readString();
+		try {
+			return EnumerationValues.valueOf(enumerationClass, Integer.parseInt(s.substring(s.lastIndexOf('_') + 1)));
+		} catch (NumberFormatException e) {
+			throw new DecodingException("Invalid enumeration value "+s, e);
+		}
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends IEncodeable> T[] getEncodeableArray(String fieldName, Class<? extends T> encodeableClass)
+			throws DecodingException
+	{
+		int len = beginArray(fieldName);
+		if (len < 0) return null;
+		T[] result = (T[]) Array.newInstance(encodeableClass, len);
+		for (int i = 0; i < len; i++)
+			result[i] = getEncodeable(null, encodeableClass);
+		endArray();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends IEncodeable> T getEncodeable(String fieldName, Class<? extends T> encodeableClass)
+			throws DecodingException
+	{
+		if (!seek(fieldName)) return null;
+		enterObject();
+		T result = (T) ctx.getEncodeableSerializer().getEncodeable(encodeableClass, this);
+		exitObject();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T extends IEncodeable> T getMessage()
+			throws DecodingException
+	{
+		if (!seek(null)) throw new DecodingException("Cannot decode null message");
+		enterObject();
+		NodeId id = getNodeId("TypeId");
+		Class<T> clazz = id == null ? null : (Class<T>) ctx.getEncodeableClass(id);
+		if (clazz == null) throw new DecodingException("Cannot decode "+id);
+		T result = getEncodeable("Body", clazz);
+		exitObject();
+		return result;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Object getScalarObject(String fieldName, int builtinTypeId)
+			throws DecodingException
+	{
+		switch (builtinTypeId) {
+		case 1: return getBoolean(fieldName);
+		case 2: return getSByte(fieldName);
+		case 3: return getByte(fieldName);
+		case 4: return getInt16(fieldName);
+		case 5: return getUInt16(fieldName);
+		case 6: return getInt32(fieldName);
+		case 7: return getUInt32(fieldName);
+		case 8: return getInt64(fieldName);
+		case 9: return getUInt64(fieldName);
+		case 10: return getFloat(fieldName);
+		case 11: return getDouble(fieldName);
+		case 12: return getString(fieldName);
+		case 13: return getDateTime(fieldName);
+		case 14: return getGuid(fieldName);
+		case 15: return getByteString(fieldName);
+		case 16: return getXmlElement(fieldName);
+		case 17: return getNodeId(fieldName);
+		case 18: return getExpandedNodeId(fieldName);
+		case 19: return getStatusCode(fieldName);
+		case 20: return getQualifiedName(fieldName);
+		case 21: return getLocalizedText(fieldName);
+		case 22: return getExtensionObject(fieldName);
+		case 23: return getDataValue(fieldName);
+		case 24: return getVariant(fieldName);
+		case 25: return getDiagnosticInfo(fieldName);
+		}
+		throw new DecodingException("Cannot decode builtin type id "+builtinTypeId);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public Object getArrayObject(String fieldName, int builtinTypeId)
+			throws DecodingException
+	{
+		switch (builtinTypeId) {
+		case 1: return getBooleanArray(fieldName);
+		case 2: return getSByteArray(fieldName);
+		case 3: return getByteArray(fieldName);
+		case 4: return getInt16Array(fieldName);
+		case 5: return getUInt16Array(fieldName);
+		case 6: return getInt32Array(fieldName);
+		case 7: return getUInt32Array(fieldName);
+		case 8: return getInt64Array(fieldName);
+		case 9: return getUInt64Array(fieldName);
+		case 10: return getFloatArray(fieldName);
+		case 11: return getDoubleArray(fieldName);
+		case 12: return getStringArray(fieldName);
+		case 13: return getDateTimeArray(fieldName);
+		case 14: return getGuidArray(fieldName);
+		case 15: return getByteStringArray(fieldName);
+		case 16: return getXmlElementArray(fieldName);
+		case 17: return getNodeIdArray(fieldName);
+		case 18: return getExpandedNodeIdArray(fieldName);
+		case 19: return getStatusCodeArray(fieldName);
+		case 20: return getQualifiedNameArray(fieldName);
+		case 21: return getLocalizedTextArray(fieldName);
+		case 22: return getExtensionObjectArray(fieldName);
+		case 23: return getDataValueArray(fieldName);
+		case 24: return getVariantArray(fieldName);
+		case 25: return getDiagnosticInfoArray(fieldName);
+		}
+		throw new DecodingException("Cannot decode builtin type id "+builtinTypeId);
+	}
+
+	/**
+	 * Move to the value of a field of the current object, or to the next value
+	 * if the field name is null.
+	 *
+	 * @return false if the value is missing or null
+	 */
+	private boolean seek(String fieldName) throws DecodingException {
+		if (fieldName == null) {
+			skipSeparators();
+			if (pos >= limit) throw new DecodingException("Unexpected end of JSON");
+		} else {
+			int value = find(fieldName);
+			if (value < 0) return false;
+			pos = value;
+		}
+		return !match("null");
+	}
+
+	/**
+	 * Find a field of the current object. The message is read as an object if
+	 * no object is being read.
+	 *
+	 * @return offset of the value, or -1 if the field is missing
+	 */
+	private int find(String fieldName) throws DecodingException {
+		if (depth == 0) {
+			skipSeparators();
+			if (pos >= limit || buf[pos] != '{') throw unexpected("an object");
+			enterObject();
+		}
+		return objects[depth - 1].find(buf, fieldName);
+	}
+
+	/**
+	 * Index the members of the object at the current position.
+	 */
+	private void enterObject() throws DecodingException {
+		if (buf[pos] != '{') throw unexpected("an object");
+		pos++;
+		if (depth == objects.length)
+			objects = Arrays.copyOf(objects, depth * 2);
+		Member object = objects[depth];
+		if (object == null)
+			object = objects[depth] = new Member();
+		object.count = 0;
+		object.next = 0;
+		while (true) {
+			skipSeparators();
+			if (pos >= limit) throw new DecodingException("Unexpected end of JSON");
+			if (buf[pos] == '}') {
+				pos++;
+				break;
+			}
+			if (buf[pos] != '"') throw unexpected("a field name");
+			int nameStart = pos + 1;
+			boolean escaped = skipString();
+			int nameEnd = pos - 1;
+			skipWhitespace();
+			if (pos >= limit || buf[pos] != ':') throw unexpected("':'");
+			pos++;
+			skipWhitespace();
+			object.add(nameStart, nameEnd, escaped, pos);
+			skipValue();
+		}
+		object.end = pos;
+		depth++;
+	}
+
+	/**
+	 * Continue after the current object.
+	 */
+	private void exitObject() {
+		pos = objects[--depth].end;
+	}
+
+	/**
+	 * Move into the array of a field.
+	 *
+	 * @return the number of elements, or -1 if the array is missing or null
+	 */
+	private int beginArray(String fieldName) throws DecodingException {
+		if (!seek(fieldName)) return -1;
+		if (buf[pos] != '[') throw unexpected("an array");
+		int start = ++pos;
+		int count = 0;
+		int maxLen = ctx.getMaxArrayLength();
+		while (true) {
+			skipSeparators();
+			if (pos >= limit) throw new DecodingException("Unexpected end of JSON");
+			if (buf[pos] == ']') break;
+			count++;
+			if (maxLen > 0 && count > maxLen)
+				throw new DecodingException(StatusCodes.Bad_EncodingLimitsExceeded, "MaxArrayLength="+maxLen+" < "+count);
+			skipValue();
+		}
+		pos = start;
+		return count;
+	}
+
+	private void endArray() throws DecodingException {
+		skipSeparators();
+		if (pos >= limit || buf[pos] != ']') throw unexpected("']'");
+		pos++;
+	}
+
+	/**
+	 * Read a namespace index or URI.
+	 *
+	 * @return a String, or an Integer which is 0 if the field is missing
+	 */
+	private Object getNamespace(String fieldName) throws DecodingException {
+		if (!seek(fieldName)) return 0;
+		if (buf[pos] == '"') return readString();
+		return (int) readLong(0, 0xFFFF);
+	}
+
+	private int toNamespaceIndex(String uri) throws DecodingException {
+		NamespaceTable table = ctx.getNamespaceTable();
+		int index = table.getIndex(uri);
+		if (index < 0) throw new DecodingException("Unknown namespace "+uri);
+		return index;
+	}
+
+	private Object getIdentifier(int idType) throws DecodingException {
+		switch (idType) {
+		case 0: return getUInt32("Id");
+		case 1: return getString("Id");
+		case 2: return getGuid("Id");
+		case 3: return getByteString("Id");
+		}
+		throw new DecodingException("Unexpected IdType "+idType);
+	}
+
+	private static org.opcfoundation.ua.core.IdType toIdType(int idType) {
+		switch (idType) {
+		case 1: return org.opcfoundation.ua.core.IdType.String;
+		case 2: return org.opcfoundation.ua.core.IdType.Guid;
+		case 3: return org.opcfoundation.ua.core.IdType.Opaque;
+		default: return org.opcfoundation.ua.core.IdType.Numeric;
+		}
+	}
+
+	/**
+	 * Read an integer in the range min..max.
+	 */
+	private long readLong(long min, long max) throws DecodingException {
+		int start = pos;
+		long v = readInteger(false);
+		if (v < min || v > max) throw outOfRange(start, min, max);
+		return v;
+	}
+
+	/**
+	 * Read a 64 bit integer.
+	 */
+	private long readLong() throws DecodingException {
+		return readInteger(false);
+	}
+
+	/**
+	 * Read an integer, which may be quoted. A number with a fraction or an
+	 * exponent is truncated.
+	 *
+	 * @param unsigned true to read an unsigned 64 bit value, which is returned
+	 *        as its bits
+	 */
+	private long readInteger(boolean unsigned) throws DecodingException {
+		int start = pos;
+		boolean quoted = buf[pos] == '"';
+		int p = quoted ? pos + 1 : pos;
+		boolean negative = p < limit && buf[p] == '-';
+		if (negative) p++;
+		int digits = p;
+		// Largest magnitude, as unsigned bits
+		long max = unsigned ? -1L : negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+		long v = 0;
+		while (p < limit) {
+			int d = buf[p] - '0';
+			if (d < 0 || d > 9) break;
+			// Up to 18 digits cannot overflow
+			if (p - digits >= 18 && Long.compareUnsigned(v, Long.divideUnsigned(max - d, 10)) > 0)
+				throw outOfRange(start, unsigned);
+			v = v * 10 + d;
+			p++;
+		}
+		if (p == digits) throw unexpected("a number");
+		if (p < limit && (buf[p] == '.' || buf[p] == 'e' || buf[p] == 'E')) {
+			double x = readDouble();
+			if (unsigned) {
+				if (!(x > -1 && x < 0x1p64)) throw outOfRange(start, true);
+				return x < 0x1p63 ? (long) x : (long) (x - 0x1p63) | Long.MIN_VALUE;
+			}
+			if (!(x >= -0x1p63 && x < 0x1p63)) throw outOfRange(start, false);
+			return (long) x;
+		}
+		if (negative && unsigned && v != 0) throw outOfRange(start, true);
+		if (quoted) {
+			if (p >= limit || buf[p] != '"') throw unexpected("'\"'");
+			p++;
+		}
+		pos = p;
+		return negative ? -v : v;
+	}
+
+	private DecodingException outOfRange(int start, boolean unsigned) {
+		return outOfRange(start, unsigned ? 0 : Long.MIN_VALUE, unsigned ? -1L : Long.MAX_VALUE);
+	}
+
+	private DecodingException outOfRange(int start, long min, long max) {
+		String range = max == -1L ? "0.."+Long.toUnsignedString(max) : min+".."+max;
+		return new DecodingException(StatusCodes.Bad_DecodingError, "Integer at offset "+start+" of JSON is out of the range "+range);
+	}
+
+	private double readDouble() throws DecodingException {
+		if (buf[pos] == '"') {
+			String s = readString();
+			if ("NaN".equals(s)) return Double.NaN;
+			if ("Infinity".equals(s)) return Double.POSITIVE_INFINITY;
+			if ("-Infinity".equals(s)) return Double.NEGATIVE_INFINITY;
+			try {
+				return Double.parseDouble(s);
+			} catch (NumberFormatException e) {
+				throw new DecodingException("Invalid Double "+s, e);
+			}
+		}
+		int start = pos;
+		skipToken();
+		// Integers of up to 15 digits are exact
+		if (isIntegral(start, pos) && pos - start <= 16) {
+			pos = start;
+			return readLong();
+		}
+		try {
+			return Double.parseDouble(new String(buf, start, pos - start, ASCII));
+		} catch (NumberFormatException e) {
+			throw new DecodingException("Invalid Double "+new String(buf, start, pos - start, ASCII), e);
+		}
+	}
+
+	private boolean isIntegral(int start, int end) {
+		if (start == end) return false;
+		for (int i = start; i < end; i++) {
+			byte c = buf[i];
+			if ((c < '0' || c > '9') && !(c == '-' && i == start)) return false;
+		}
+		return true;
+	}
+
+	private String readString() throws DecodingException {
+		if (buf[pos] != '"') throw unexpected("a string");
+		int start = pos + 1;
+		boolean escaped = skipString();
+		return readString(start, pos - 1, escaped);
+	}
+
+	private String readString(int start, int end, boolean escaped) throws DecodingException {
+		if (!escaped) {
+			assertStringLength(end - start);
+			StringCache cache = ctx.getStringCache();
+			if (cache != null && end - start <= cache.getMaxStringLength())
+				return cache.getString(buf, start, end - start);
+			return StringCache.decodeUtf8(buf, start, end - start);
+		}
+		// Unescape to UTF-8
+		if (scratch == null || scratch.length < end - start)
+			scratch = new byte[Math.max(end - start, 64)];
+		byte[] b = scratch;
+		int n = 0;
+		for (int i = start; i < end; i++) {
+			byte c = buf[i];
+			if (c != '\\') {
+				b[n++] = c;
+				continue;
+			}
+			c = buf[++i];
+			switch (c) {
+			case 'n': b[n++] = '\n'; break;
+			case 'r': b[n++] = '\r'; break;
+			case 't': b[n++] = '\t'; break;
+			case 'b': b[n++] = '\b'; break;
+			case 'f': b[n++] = '\f'; break;
+			case 'u': {
+				if (i + 4 >= end) throw new DecodingException("Invalid escape in JSON string");
+				int cp = (int) hex(i + 1, 4);
+				i += 4;
+				if (Character.isHighSurrogate((char) cp) && i + 6 < end && buf[i + 1] == '\\' && buf[i + 2] == 'u') {
+					int low = (int) hex(i + 3, 4);
+					if (Character.isLowSurrogate((char) low)) {
+						cp = Character.toCodePoint((char) cp, (char) low);
+						i += 6;
+					}
+				}
+				n = putUtf8(b, n, cp);
+				break;
+			}
+			default: b[n++] = c;
+			}
+		}
+		assertStringLength(n);
+		return StringCache.decodeUtf8(b, 0, n);
+	}
+
+	/**
+	 * Assert that a string of len UTF-8 bytes is within MaxStringLength.
+	 */
+	private void assertStringLength(int len) throws DecodingException {
+		int maxLen = ctx.getMaxStringLength();
+		if (maxLen > 0 && len > maxLen)
+			throw new DecodingException(StatusCodes.Bad_EncodingLimitsExceeded, "MaxStringLength "+maxLen+" < "+len);
+	}
+
+	private static int putUtf8(byte[] b, int n, int cp) {
+		if (cp < 0x80) {
+			b[n++] = (byte) cp;
+		} else if (cp < 0x800) {
+			b[n++] = (byte) (0xc0 | cp >> 6);
+			b[n++] = (byte) (0x80 | cp & 0x3f);
+		} else if (cp < 0x10000) {
+			b[n++] = (byte) (0xe0 | cp >> 12);
+			b[n++] = (byte) (0x80 | cp >> 6 & 0x3f);
+			b[n++] = (byte) (0x80 | cp & 0x3f);
+		} else {
+			b[n++] = (byte) (0xf0 | cp >> 18);
+			b[n++] = (byte) (0x80 | cp >> 12 & 0x3f);
+			b[n++] = (byte) (0x80 | cp >> 6 & 0x3f);
+			b[n++] = (byte) (0x80 | cp & 0x3f);
+		}
+		return n;
+	}
+
+	/**
+	 * Read an ISO 8601 time. A time without zone is UTC.
+	 *
+	 * @return 100 nanosecond intervals since 1601-01-01
+	 */
+	private long readDateTimeValue() throws DecodingException {
+		if (buf[pos] != '"') throw unexpected("a DateTime string");
+		int start = pos + 1;
+		skipString();
+		int end = pos - 1;
+		int p = start;
+		while (p < end && buf[p] >= '0' && buf[p] <= '9') p++;
+		if (p - start < 4 || p + 15 > end || buf[p] != '-' || buf[p + 3] != '-' || buf[p + 9] != ':' || buf[p + 12] != ':')
+			throw invalidDateTime(start, end);
+		long year = digits(start, p - start, start, end);
+		int month = (int) digits(p + 1, 2, start, end);
+		int day = (int) digits(p + 4, 2, start, end);
+		int hour = (int) digits(p + 7, 2, start, end);
+		int minute = (int) digits(p + 10, 2, start, end);
+		int second = (int) digits(p + 13, 2, start, end);
+		p += 15;
+		long fraction = 0;
+		if (p < end && buf[p] == '.') {
+			int digits = 0;
+			p++;
+			while (p < end && buf[p] >= '0' && buf[p] <= '9') {
+				if (digits++ < 7) fraction = fraction * 10 + buf[p] - '0';
+				p++;
+			}
+			for (; digits < 7; digits++)
+				fraction *= 10;
+		}
+		int offset = 0;
+		if (p < end && (buf[p] == '+' || buf[p] == '-')) {
+			if (p + 6 != end || buf[p + 3] != ':') throw invalidDateTime(start, end);
+			offset = (int) (digits(p + 1, 2, start, end) * 60 + digits(p + 4, 2, start, end));
+			if (buf[p] == '-') offset = -offset;
+			p += 6;
+		} else if (p < end && (buf[p] == 'Z' || buf[p] == 'z')) {
+			p++;
+		}
+		if (p != end || month < 1 || month > 12 || day < 1 || day > 31) throw invalidDateTime(start, end);
+		if (year <= 1) return 0;
+
+		// Days since 1970-01-01 of the civil date
+		long y = month <= 2 ? year - 1 : year;
+		long era = Math.floorDiv(y, 400L);
+		long yearOfEra = y - era * 400;
+		long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		long days = era * 146097 + dayOfEra - 719468;
+		long seconds = days * 86400 + hour * 3600 + minute * 60 + second - offset * 60;
+		return Math.max(0, seconds * 10000000L + fraction + DateTime.OffsetToGregorianCalendarZero);
+	}
+
+	private long digits(int p, int n, int start, int end) throws DecodingException {
+		long v = 0;
+		for (int i = p; i < p + n; i++) {
+			int d = buf[i] - '0';
+			if (d < 0 || d > 9) throw invalidDateTime(start, end);
+			v = v * 10 + d;
+		}
+		return v;
+	}
+
+	private DecodingException invalidDateTime(int start, int end) {
+		return new DecodingException("Invalid DateTime "+new String(buf, start, end - start, UTF8));
+	}
+
+	private long hex(int p, int n) throws DecodingException {
+		long v = 0;
+		for (int i = p; i < p + n; i++) {
+			int c = buf[i];
+			int d;
+			if (c >= '0' && c <= '9') d = c - '0';
+			else if (c >= 'a' && c <= 'f') d = c - 'a' + 10;
+			else if (c >= 'A' && c <= 'F') d = c - 'A' + 10;
+			else throw new DecodingException("Invalid hex digit '"+(char) c+"' at offset "+i+" of JSON");
+			v = v << 4 | d;
+		}
+		return v;
+	}
+
+	private byte[] decodeBase64(byte[] b, int start, int end) throws DecodingException {
+		while (end > start && b[end - 1] == '=') end--;
+		int len = (end - start) * 3 / 4;
+		int maxLen = ctx.getMaxByteStringLength();
+		if (maxLen > 0 && len > maxLen)
+			throw new DecodingException(StatusCodes.Bad_EncodingLimitsExceeded, "MaxByteStringLength "+maxLen+" < "+len);
+		byte[] result = new byte[len];
+		int n = 0;
+		int bits = 0;
+		int count = 0;
+		for (int i = start; i < end; i++) {
+			int c = b[i];
+			int d;
+			if (c >= 'A' && c <= 'Z') d = c - 'A';
+			else if (c >= 'a' && c <= 'z') d = c - 'a' + 26;
+			else if (c >= '0' && c <= '9') d = c - '0' + 52;
+			else if (c == '+' || c == '-') d = 62;
+			else if (c == '/' || c == '_') d = 63;
+			else throw new DecodingException("Invalid base64 character '"+(char) c+"'");
+			bits = bits << 6 | d;
+			if (++count == 4) {
+				result[n++] = (byte) (bits >> 16);
+				result[n++] = (byte) (bits >> 8);
+				result[n++] = (byte) bits;
+				bits = 0;
+				count = 0;
+			}
+		}
+		if (count == 3) {
+			result[n++] = (byte) (bits >> 10);
+			result[n++] = (byte) (bits >> 2);
+		} else if (count == 2) {
+			result[n++] = (byte) (bits >> 4);
+		} else if (count == 1) {
+			throw new DecodingException("Invalid base64 length");
+		}
+		return result;
+	}
+
+	/**
+	 * Skip a literal if it is at the current position.
+	 */
+	private boolean match(String literal) {
+		int len = literal.length();
+		if (pos + len > limit) return false;
+		for (int i = 0; i < len; i++)
+			if (buf[pos + i] != literal.charAt(i)) return false;
+		if (pos + len < limit && !isDelimiter(buf[pos + len])) return false;
+		pos += len;
+		return true;
+	}
+
+	/**
+	 * Skip a string at the current position.
+	 *
+	 * @return true if the string has escapes
+	 */
+	private boolean skipString() throws DecodingException {
+		if (buf[pos] != '"') throw unexpected("a string");
+		boolean escaped = false;
+		int p = pos + 1;
+		while (p < limit) {
+			byte c = buf[p];
+			if (c == '"') {
+				pos = p + 1;
+				return escaped;
+			}
+			if (c == '\\') {
+				escaped = true;
+				p++;
+			}
+			p++;
+		}
+		throw new DecodingException("Unterminated string in JSON");
+	}
+
+	private void skipValue() throws DecodingException {
+		if (pos >= limit) throw new DecodingException("Unexpected end of JSON");
+		byte c = buf[pos];
+		if (c == '"') {
+			skipString();
+		} else if (c == '{' || c == '[') {
+			int level = 0;
+			do {
+				if (pos >= limit) throw new DecodingException("Unexpected end of JSON");
+				c = buf[pos];
+				if (c == '"') {
+					skipString();
+					continue;
+				}
+				if (c == '{' || c == '[') level++;
+				else if (c == '}' || c == ']') level--;
+				pos++;
+			} while (level > 0);
+		} else {
+			int start = pos;
+			skipToken();
+			if (pos == start) throw unexpected("a value");
+		}
+	}
+
+	private void skipToken() {
+		while (pos < limit && !isDelimiter(buf[pos])) pos++;
+	}
+
+	private static boolean isDelimiter(byte c) {
+		return c == ',' || c == '}' || c == ']' || c == ':' || c == ' ' || c == '\t' || c == '\r' || c == '\n';
+	}
+
+	private void skipWhitespace() {
+		while (pos < limit) {
+			byte c = buf[pos];
+			if (c != ' ' && c != '\t' && c != '\r' && c != '\n') return;
+			pos++;
+		}
+	}
+
+	/**
+	 * Skip whitespace and commas between values.
+	 */
+	private void skipSeparators() {
+		while (pos < limit) {
+			byte c = buf[pos];
+			if (c != ' ' && c != '\t' && c != '\r' && c != '\n' && c != ',') return;
+			pos++;
+		}
+	}
+
+	private DecodingException unexpected(String expected) {
+		if (pos >= limit) return new DecodingException("Expected "+expected+" at end of JSON");
+		return new DecodingException("Expected "+expected+" at offset "+pos+" of JSON, found '"+(char) (buf[pos] & 0xff)+"'");
+	}
+
+	/**
+	 * Offsets of the names and values of the members of an object.
+	 */
+	static final class Member {
+		int[] nameStart = new int[16];
+		int[] nameEnd = new int[16];
+		int[] valueStart = new int[16];
+		boolean[] escaped = new boolean[16];
+		int count;
+		/** Index to start the next search from, fields are usually read in order */
+		int next;
+		/** Offset after the object */
+		int end;
+
+		void add(int start, int end, boolean escapedName, int value) {
+			if (count == nameStart.length) {
+				int size = count * 2;
+				nameStart = Arrays.copyOf(nameStart, size);
+				nameEnd = Arrays.copyOf(nameEnd, size);
+				valueStart = Arrays.copyOf(valueStart, size);
+				escaped = Arrays.copyOf(escaped, size);
+			}
+			nameStart[count] = start;
+			nameEnd[count] = end;
+			valueStart[count] = value;
+			escaped[count] = escapedName;
+			count++;
+		}
+
+		int find(byte[] buf, String name) {
+			for (int n = 0; n < count; n++) {
+				int i = next + n;
+				if (i >= count) i -= count;
+				if (matches(buf, i, name)) {
+					next = i + 1;
+					return valueStart[i];
+				}
+			}
+			return -1;
+		}
+
+		private boolean matches(byte[] buf, int i, String name) {
+			int start = nameStart[i];
+			int len = nameEnd[i] - start;
+			if (!escaped[i]) {
+				boolean ascii = true;
+				if (len == name.length()) {
+					for (int j = 0; j < len; j++) {
+						char c = name.charAt(j);
+						if (c >= 0x80) {
+							ascii = false;
+							break;
+						}
+						if (buf[start + j] != c) return false;
+					}
+					if (ascii) return true;
+				} else {
+					// Names of ASCII characters have as many bytes as characters
+					for (int j = start; j < nameEnd[i] && ascii; j++)
+						ascii = buf[j] >= 0;
+					if (ascii) return false;
+				}
+			}
+			return name.equals(unescape(buf, start, nameEnd[i]));
+		}
+
+		private static String unescape(byte[] buf, int start, int end) {
+			JsonDecoder decoder = new JsonDecoder(buf, start, end - start);
+			try {
+				return decoder.readString(start, end, true);
+			} catch (DecodingException e) {
+				return null;
+			}
+		}
+	}
+
+}
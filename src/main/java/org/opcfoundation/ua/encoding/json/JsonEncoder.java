@@ -0,0 +1,1880 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.encoding.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.opcfoundation.ua.builtintypes.BuiltinsMap;
+import org.opcfoundation.ua.builtintypes.ByteString;
+import org.opcfoundation.ua.builtintypes.DataValue;
+import org.opcfoundation.ua.builtintypes.DateTime;
+import org.opcfoundation.ua.builtintypes.DiagnosticInfo;
+import org.opcfoundation.ua.builtintypes.Enumeration;
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
+import org.opcfoundation.ua.builtintypes.ExtensionObject;
+import org.opcfoundation.ua.builtintypes.LocalizedText;
+import org.opcfoundation.ua.builtintypes.NDArray;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.QualifiedName;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.builtintypes.Structure;
+import org.opcfoundation.ua.builtintypes.UnsignedByte;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.builtintypes.UnsignedLong;
+import org.opcfoundation.ua.builtintypes.UnsignedShort;
+import org.opcfoundation.ua.builtintypes.Variant;
+import org.opcfoundation.ua.builtintypes.XmlElement;
+import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.common.StatusCodeDescriptions;
+import org.opcfoundation.ua.core.IdType;
+import org.opcfoundation.ua.encoding.EncodeType;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.EncodingException;
+import org.opcfoundation.ua.encoding.IEncodeable;
+import org.opcfoundation.ua.encoding.IEncoder;
+import org.opcfoundation.ua.encoding.binary.EncoderUtils;
+import org.opcfoundation.ua.utils.MultiDimensionArrayUtils;
+
+/**
+ * Encodes to the OPC UA JSON encoding (Part 6, 5.4).
+ * <p>
+ * The encoder writes UTF-8 directly into a byte buffer that grows as needed and
+ * is reused for the next message after {@link #reset()}. Integers and
+ * timestamps are formatted into the buffer digit by digit, and field names are
+ * written from a shared table of escaped name bytes, so encoding a message into
+ * a buffer of sufficient size allocates nothing, except for floating point
+ * values that are not integral, which are formatted with {@link Double#toString(double)}.
+ * <p>
+ * The reversible form can be decoded with {@link JsonDecoder}. The
+ * non-reversible form is for consumers that only read the values: Variants and
+ * ExtensionObjects are written as their bodies, LocalizedTexts as their text,
+ * StatusCodes with their symbolic names, enumerations as "Name_Value" and
+ * namespace indices above 1 as namespace URIs.
+ * <p>
+ * Fields with null values are omitted. Values without a field name, such as
+ * array elements, are written as null. Consecutive values written without a
+ * field name at the top level are separated by commas.
+ */
+public class JsonEncoder implements IEncoder {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final byte[] HEX = ascii("0123456789abcdef");
+	private static final byte[] BASE64 = ascii("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/");
+	private static final byte[] TRUE = ascii("true");
+	private static final byte[] FALSE = ascii("false");
+	private static final byte[] NULL = ascii("null");
+	private static final byte[] MIN_DATE_TIME = ascii("\"0001-01-01T00:00:00Z\"");
+	private static final byte[] MAX_DATE_TIME = ascii("\"9999-12-31T23:59:59Z\"");
+
+	/** Max number of field names in the shared table */
+	private static final int MAX_NAMES = 4096;
+	/** Field names as the bytes of "name": */
+	private static final ConcurrentHashMap<String, byte[]> NAMES = new ConcurrentHashMap<String, byte[]>();
+
+	private final boolean reversible;
+	private EncoderContext ctx = EncoderContext.getDefaultInstance();
+	private byte[] buf;
+	private int pos;
+	/** Whether a value has been written on each nesting level */
+	private boolean[] separator = new boolean[16];
+	private int depth;
+
+	/**
+	 * Create a reversible encoder.
+	 */
+	public JsonEncoder()
+	{
+		this(true);
+	}
+
+	/**
+	 * Create an encoder.
+	 *
+	 * @param reversible true for the reversible form, false for the non-reversible form
+	 */
+	public JsonEncoder(boolean reversible)
+	{
+		this(new byte[1024], reversible);
+	}
+
+	/**
+	 * Create an encoder that writes to a buffer. A larger buffer replaces the
+	 * buffer if the output does not fit, see {@link #getBuffer()}.
+	 *
+	 * @param buf initial buffer
+	 * @param reversible true for the reversible form, false for the non-reversible form
+	 */
+	public JsonEncoder(byte[] buf, boolean reversible)
+	{
+		this.buf = buf.length == 0 ? new byte[16] : buf;
+		this.reversible = reversible;
+	}
+
+	/**
+	 * @return true for the reversible form
+	 */
+	public boolean isReversible() {
+		return reversible;
+	}
+
+	/**
+	 * <p>getEncoderContext.</p>
+	 *
+	 * @return a {@link org.opcfoundation.ua.encoding.EncoderContext} object.
+	 */
+	public EncoderContext getEncoderContext() {
+		return ctx;
+	}
+
+	/**
+	 * <p>setEncoderContext.</p>
+	 *
+	 * @param ctx a {@link org.opcfoundation.ua.encoding.EncoderContext} object.
+	 */
+	public void setEncoderContext(EncoderContext ctx) {
+		this.ctx = ctx;
+	}
+
+	/**
+	 * Get the buffer. The output is at 0..{@link #getLength()}.
+	 *
+	 * @return the current buffer
+	 */
+	public byte[] getBuffer() {
+		return buf;
+	}
+
+	/**
+	 * @return the number of bytes written since the last reset
+	 */
+	public int getLength() {
+		return pos;
+	}
+
+	/**
+	 * @return a copy of the output
+	 */
+	public byte[] toByteArray() {
+		return Arrays.copyOf(buf, pos);
+	}
+
+	/**
+	 * Write the output to a stream.
+	 *
+	 * @param out the stream
+	 * @throws IOException if writing fails
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		out.write(buf, 0, pos);
+	}
+
+	/**
+	 * Discard the output to reuse the buffer for the next message.
+	 */
+	public void reset() {
+		pos = 0;
+		depth = 0;
+		separator[0] = false;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public String toString() {
+		return new String(buf, 0, pos, UTF8);
+	}
+
+	/** {@inheritDoc} */
+	public void putBoolean(String fieldName, Boolean v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		writeBytes(v ? TRUE : FALSE);
+	}
+
+	/** {@inheritDoc} */
+	public void putBooleanArray(String fieldName, Boolean[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Boolean o : v)
+			putBoolean(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putBooleanArray(String fieldName, Collection<Boolean> v)
+	throws EncodingException
+	{
+		putBooleanArray(fieldName, v == null ? null : v.toArray(new Boolean[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putSByte(String fieldName, Byte v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		putSByte(fieldName, v.intValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putSByte(String fieldName, byte v)
+	throws EncodingException
+	{
+		putSByte(fieldName, (int) v);
+	}
+
+	/** {@inheritDoc} */
+	public void putSByte(String fieldName, int v)
+	throws EncodingException
+	{
+		beginValue(fieldName);
+		writeLong(v);
+	}
+
+	/** {@inheritDoc} */
+	public void putSByteArray(String fieldName, Byte[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Byte o : v)
+			putSByte(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putSByteArray(String fieldName, Collection<Byte> v)
+	throws EncodingException
+	{
+		putSByteArray(fieldName, v == null ? null : v.toArray(new Byte[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putByte(String fieldName, UnsignedByte v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		writeLong(v.intValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putByteArray(String fieldName, UnsignedByte[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (UnsignedByte o : v)
+			putByte(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putByteArray(String fieldName, Collection<UnsignedByte> v)
+	throws EncodingException
+	{
+		putByteArray(fieldName, v == null ? null : v.toArray(new UnsignedByte[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt16(String fieldName, Short v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		putInt16(fieldName, v.shortValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putInt16(String fieldName, short v)
+	throws EncodingException
+	{
+		beginValue(fieldName);
+		writeLong(v);
+	}
+
+	/** {@inheritDoc} */
+	public void putInt16Array(String fieldName, Short[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Short o : v)
+			putInt16(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putInt16Array(String fieldName, Collection<Short> v)
+	throws EncodingException
+	{
+		putInt16Array(fieldName, v == null ? null : v.toArray(new Short[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt16(String fieldName, UnsignedShort v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		writeLong(v.getValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt16Array(String fieldName, UnsignedShort[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (UnsignedShort o : v)
+			putUInt16(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt16Array(String fieldName, Collection<UnsignedShort> v)
+	throws EncodingException
+	{
+		putUInt16Array(fieldName, v == null ? null : v.toArray(new UnsignedShort[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32(String fieldName, Integer v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		putInt32(fieldName, v.intValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32(String fieldName, int v)
+	throws EncodingException
+	{
+		beginValue(fieldName);
+		writeLong(v);
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32Array(String fieldName, int[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (int o : v)
+			putInt32(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32Array(String fieldName, Collection<Integer> v)
+	throws EncodingException
+	{
+		putInt32Array(fieldName, v == null ? null : v.toArray(new Integer[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32Array(String fieldName, Integer[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Integer o : v)
+			putInt32(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt32(String fieldName, UnsignedInteger v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		writeLong(v.getValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt32Array(String fieldName, UnsignedInteger[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (UnsignedInteger o : v)
+			putUInt32(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt32Array(String fieldName, Collection<UnsignedInteger> v)
+	throws EncodingException
+	{
+		putUInt32Array(fieldName, v == null ? null : v.toArray(new UnsignedInteger[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Int64 values are written as strings
+	 */
+	public void putInt64(String fieldName, Long v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		putInt64(fieldName, v.longValue());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Int64 values are written as strings
+	 */
+	public void putInt64(String fieldName, long v)
+	throws EncodingException
+	{
+		beginValue(fieldName);
+		writeByte('"');
+		writeLong(v);
+		writeByte('"');
+	}
+
+	/** {@inheritDoc} */
+	public void putInt64Array(String fieldName, Long[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Long o : v)
+			putInt64(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putInt64Array(String fieldName, Collection<Long> v)
+	throws EncodingException
+	{
+		putInt64Array(fieldName, v == null ? null : v.toArray(new Long[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * UInt64 values are written as strings
+	 */
+	public void putUInt64(String fieldName, UnsignedLong v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		writeByte('"');
+		writeUnsignedLong(v.toLongBits());
+		writeByte('"');
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt64Array(String fieldName, UnsignedLong[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (UnsignedLong o : v)
+			putUInt64(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt64Array(String fieldName, Collection<UnsignedLong> v)
+	throws EncodingException
+	{
+		putUInt64Array(fieldName, v == null ? null : v.toArray(new UnsignedLong[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putFloat(String fieldName, Float v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		putFloat(fieldName, v.floatValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putFloat(String fieldName, float v)
+	throws EncodingException
+	{
+		beginValue(fieldName);
+		if (!writeSpecial(v))
+			writeAscii(Float.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putFloatArray(String fieldName, Float[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Float o : v)
+			putFloat(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putFloatArray(String fieldName, Collection<Float> v)
+	throws EncodingException
+	{
+		putFloatArray(fieldName, v == null ? null : v.toArray(new Float[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putDouble(String fieldName, Double v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		putDouble(fieldName, v.doubleValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putDouble(String fieldName, double v)
+	throws EncodingException
+	{
+		beginValue(fieldName);
+		if (!writeSpecial(v))
+			writeAscii(Double.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putDoubleArray(String fieldName, Double[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Double o : v)
+			putDouble(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putDoubleArray(String fieldName, Collection<Double> v)
+	throws EncodingException
+	{
+		putDoubleArray(fieldName, v == null ? null : v.toArray(new Double[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putString(String fieldName, String v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		writeQuoted(v);
+	}
+
+	/** {@inheritDoc} */
+	public void putStringArray(String fieldName, Collection<String> v)
+	throws EncodingException
+	{
+		putStringArray(fieldName, v == null ? null : v.toArray(new String[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putStringArray(String fieldName, String[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (String o : v)
+			putString(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putDateTime(String fieldName, DateTime v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		writeDateTime(v.getValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putDateTimeArray(String fieldName, DateTime[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (DateTime o : v)
+			putDateTime(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putDateTimeArray(String fieldName, Collection<DateTime> v)
+	throws EncodingException
+	{
+		putDateTimeArray(fieldName, v == null ? null : v.toArray(new DateTime[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putGuid(String fieldName, UUID v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		long msb = v.getMostSignificantBits();
+		long lsb = v.getLeastSignificantBits();
+		ensure(38);
+		buf[pos++] = '"';
+		writeHex(msb >>> 32, 8);
+		buf[pos++] = '-';
+		writeHex(msb >>> 16, 4);
+		buf[pos++] = '-';
+		writeHex(msb, 4);
+		buf[pos++] = '-';
+		writeHex(lsb >>> 48, 4);
+		buf[pos++] = '-';
+		writeHex(lsb, 12);
+		buf[pos++] = '"';
+	}
+
+	/** {@inheritDoc} */
+	public void putGuidArray(String fieldName, UUID[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (UUID o : v)
+			putGuid(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putGuidArray(String fieldName, Collection<UUID> v)
+	throws EncodingException
+	{
+		putGuidArray(fieldName, v == null ? null : v.toArray(new UUID[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * ByteStrings are written as base64 strings
+	 */
+	public void putByteString(String fieldName, ByteString v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		ByteBuffer b = v.asByteBuffer();
+		if (b.hasArray())
+			writeBase64(b.array(), b.arrayOffset() + b.position(), b.remaining());
+		else {
+			byte[] value = v.getValue();
+			writeBase64(value, 0, value.length);
+		}
+	}
+
+	/** {@inheritDoc} */
+	public void putByteStringArray(String fieldName, ByteString[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (ByteString o : v)
+			putByteString(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putByteStringArray(String fieldName, Collection<ByteString> v)
+	throws EncodingException
+	{
+		putByteStringArray(fieldName, v == null ? null : v.toArray(new ByteString[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putXmlElement(String fieldName, XmlElement v)
+	throws EncodingException
+	{
+		putString(fieldName, v == null ? null : v.getValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putXmlElementArray(String fieldName, XmlElement[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (XmlElement o : v)
+			putXmlElement(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putXmlElementArray(String fieldName, Collection<XmlElement> v)
+	throws EncodingException
+	{
+		putXmlElementArray(fieldName, v == null ? null : v.toArray(new XmlElement[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putNodeId(String fieldName, NodeId v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openObject(fieldName);
+		putIdentifier(v.getIdType(), v.getValue());
+		putNamespace("Namespace", v.getNamespaceIndex(), null);
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putNodeIdArray(String fieldName, NodeId[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (NodeId o : v)
+			putNodeId(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putNodeIdArray(String fieldName, Collection<NodeId> v)
+	throws EncodingException
+	{
+		putNodeIdArray(fieldName, v == null ? null : v.toArray(new NodeId[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putExpandedNodeId(String fieldName, ExpandedNodeId v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openObject(fieldName);
+		putIdentifier(v.getIdType(), v.getValue());
+		putNamespace("Namespace", v.getNamespaceIndex(), v.getNamespaceUri());
+		UnsignedInteger serverIndex = v.getServerIndex();
+		if (serverIndex != null && serverIndex.intValue() != 0)
+			putUInt32("ServerUri", serverIndex);
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putExpandedNodeIdArray(String fieldName, ExpandedNodeId[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (ExpandedNodeId o : v)
+			putExpandedNodeId(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putExpandedNodeIdArray(String fieldName, Collection<ExpandedNodeId> v)
+	throws EncodingException
+	{
+		putExpandedNodeIdArray(fieldName, v == null ? null : v.toArray(new ExpandedNodeId[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * A Good field is omitted
+	 */
+	public void putStatusCode(String fieldName, StatusCode v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		putStatusCode(fieldName, v.getValueAsIntBits());
+	}
+
+	/** {@inheritDoc} */
+	public void putStatusCodeArray(String fieldName, StatusCode[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (StatusCode o : v)
+			putStatusCode(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putStatusCodeArray(String fieldName, Collection<StatusCode> v)
+	throws EncodingException
+	{
+		putStatusCodeArray(fieldName, v == null ? null : v.toArray(new StatusCode[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putQualifiedName(String fieldName, QualifiedName v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openObject(fieldName);
+		putString("Name", v.getName());
+		putNamespace("Uri", v.getNamespaceIndex(), null);
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putQualifiedNameArray(String fieldName, QualifiedName[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (QualifiedName o : v)
+			putQualifiedName(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putQualifiedNameArray(String fieldName, Collection<QualifiedName> v)
+	throws EncodingException
+	{
+		putQualifiedNameArray(fieldName, v == null ? null : v.toArray(new QualifiedName[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putLocalizedText(String fieldName, LocalizedText v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		if (!reversible) {
+			putString(fieldName, v.getText());
+			return;
+		}
+		openObject(fieldName);
+		putString("Locale", v.getLocaleId());
+		putString("Text", v.getText());
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putLocalizedTextArray(String fieldName, LocalizedText[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (LocalizedText o : v)
+			putLocalizedText(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putLocalizedTextArray(String fieldName, Collection<LocalizedText> v)
+	throws EncodingException
+	{
+		putLocalizedTextArray(fieldName, v == null ? null : v.toArray(new LocalizedText[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Encodes the structure as an ExtensionObject with a JSON body
+	 */
+	public void putStructure(String fieldName, Structure v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		if (!reversible) {
+			putEncodeable(fieldName, v.getClass(), v);
+			return;
+		}
+		openObject(fieldName);
+		putNodeId("TypeId", ctx.toNodeId(v.getTypeId()));
+		putEncodeable("Body", v.getClass(), v);
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putStructureArray(String fieldName, Structure[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Structure o : v)
+			putStructure(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putStructureArray(String fieldName, Collection<Structure> v)
+	throws EncodingException
+	{
+		putStructureArray(fieldName, v == null ? null : v.toArray(new Structure[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putExtensionObject(String fieldName, ExtensionObject v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		if (!v.isEncoded()) {
+			putStructure(fieldName, (Structure) v.getObject());
+			return;
+		}
+		Object o = v.getObject();
+		if (!reversible) {
+			if (o instanceof XmlElement)
+				putXmlElement(fieldName, (XmlElement) o);
+			else if (o != null) {
+				beginValue(fieldName);
+				byte[] body = (byte[]) o;
+				writeBase64(body, 0, body.length);
+			} else
+				putNull(fieldName);
+			return;
+		}
+		openObject(fieldName);
+		putNodeId("TypeId", ctx.toNodeId(v.getTypeId()));
+		if (o == null) {
+			// Type only
+		} else if (v.getEncodeType() == EncodeType.Binary) {
+			putInt32("Encoding", 1);
+			beginValue("Body");
+			byte[] body = (byte[]) o;
+			writeBase64(body, 0, body.length);
+		} else if (v.getEncodeType() == EncodeType.Xml) {
+			putInt32("Encoding", 2);
+			putXmlElement("Body", (XmlElement) o);
+		} else {
+			throw new EncodingException("Unexpected object "+v.getEncodeType());
+		}
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putExtensionObjectArray(String fieldName, ExtensionObject[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (ExtensionObject o : v)
+			putExtensionObject(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putExtensionObjectArray(String fieldName, Collection<ExtensionObject> v)
+	throws EncodingException
+	{
+		putExtensionObjectArray(fieldName, v == null ? null : v.toArray(new ExtensionObject[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putDataValue(String fieldName, DataValue v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		// Null status code, timestamps and picoseconds have the default primitive values
+		openObject(fieldName);
+		putVariant("Value", v.getValue());
+		putStatusCode("Status", v.getStatusCodeAsIntBits());
+		if (v.getSourceTimestampValue() != 0) {
+			beginValue("SourceTimestamp");
+			writeDateTime(v.getSourceTimestampValue());
+		}
+		if (v.getSourcePicosecondsValue() != 0)
+			putInt32("SourcePicoseconds", v.getSourcePicosecondsValue());
+		if (v.getServerTimestampValue() != 0) {
+			beginValue("ServerTimestamp");
+			writeDateTime(v.getServerTimestampValue());
+		}
+		if (v.getServerPicosecondsValue() != 0)
+			putInt32("ServerPicoseconds", v.getServerPicosecondsValue());
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putDataValueArray(String fieldName, DataValue[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (DataValue o : v)
+			putDataValue(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putDataValueArray(String fieldName, Collection<DataValue> v)
+	throws EncodingException
+	{
+		putDataValueArray(fieldName, v == null ? null : v.toArray(new DataValue[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The reversible form is an object with the Type, Body and Dimensions of
+	 * the value, the non-reversible form is the value with multi-dimension
+	 * arrays as nested arrays.
+	 */
+	public void putVariant(String fieldName, Variant v)
+	throws EncodingException
+	{
+		Object o = v == null ? null : v.getValue();
+		if (o == null) {
+			putNull(fieldName);
+			return;
+		}
+		int builtinType;
+		int[] dims = null;
+		if (o instanceof NDArray) {
+			NDArray a = (NDArray) o;
+			builtinType = a.getBuiltinType();
+			dims = a.getDimensions();
+			o = a.toArray();
+		} else {
+			Class<?> compositeClass = v.getCompositeClass();
+			if (Structure.class.isAssignableFrom(compositeClass))
+				builtinType = 22;
+			else
+				builtinType = BuiltinsMap.ID_MAP.get(compositeClass);
+			if (v.isArray())
+				dims = v.getArrayDimensions();
+		}
+
+		if (!reversible) {
+			if (dims == null)
+				putScalar(fieldName, builtinType, o);
+			else
+				putNestedArray(fieldName, builtinType, o, dims.length);
+			return;
+		}
+
+		openObject(fieldName);
+		putInt32("Type", builtinType);
+		if (dims == null)
+			putScalar("Body", builtinType, o);
+		else if (dims.length == 1)
+			putArray("Body", builtinType, o);
+		else {
+			openArray("Body");
+			try {
+				Iterator<Object> i = MultiDimensionArrayUtils.arrayIterator(o, dims);
+				while (i.hasNext())
+					putScalar(null, builtinType, i.next());
+			} catch (ArrayIndexOutOfBoundsException e) {
+				throw new EncodingException("The dimensions of inner array elements of a multi-dimension variable must be equal in length", e);
+			}
+			close(']');
+			putInt32Array("Dimensions", dims);
+		}
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putVariantArray(String fieldName, Variant[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (Variant o : v)
+			putVariant(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putVariantArray(String fieldName, Collection<Variant> v)
+	throws EncodingException
+	{
+		putVariantArray(fieldName, v == null ? null : v.toArray(new Variant[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putDiagnosticInfoArray(String fieldName, DiagnosticInfo[] v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		for (DiagnosticInfo o : v)
+			putDiagnosticInfo(null, o);
+		close(']');
+	}
+
+	/** {@inheritDoc} */
+	public void putDiagnosticInfoArray(String fieldName, Collection<DiagnosticInfo> v)
+	throws EncodingException
+	{
+		putDiagnosticInfoArray(fieldName, v == null ? null : v.toArray(new DiagnosticInfo[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putDiagnosticInfo(String fieldName, DiagnosticInfo v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		openObject(fieldName);
+		putInt32("SymbolicId", v.getSymbolicId());
+		putInt32("NamespaceUri", v.getNamespaceUri());
+		putInt32("Locale", v.getLocale());
+		putInt32("LocalizedText", v.getLocalizedText());
+		putString("AdditionalInfo", v.getAdditionalInfo());
+		if (v.getInnerStatusCode() != null)
+			putStatusCode("InnerStatusCode", v.getInnerStatusCode().getValueAsIntBits());
+		putDiagnosticInfo("InnerDiagnosticInfo", v.getInnerDiagnosticInfo());
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	public void putEnumerationArray(String fieldName, Object array)
+	throws EncodingException
+	{
+		if (array == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		int length = Array.getLength(array);
+		for (int i = 0; i < length; i++)
+			putEnumeration(null, (Enumeration) Array.get(array, i));
+		close(']');
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The non-reversible form is a string "Name_Value"
+	 */
+	public void putEnumeration(String fieldName, Enumeration v)
+	throws EncodingException
+	{
+		if (v == null) {
+			putNull(fieldName);
+			return;
+		}
+		beginValue(fieldName);
+		if (reversible)
+			writeLong(v.getValue());
+		else
+			writeQuoted((v instanceof Enum ? ((Enum<?>) v).name() : v.toString()) + "_" + v.getValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putObject(String fieldName, Object o)
+	throws EncodingException
+	{
+		if (o == null) throw new EncodingException("Cannot encode null value");
+		putObject(fieldName, o.getClass(), o);
+	}
+
+	/** {@inheritDoc} */
+	@SuppressWarnings("unchecked")
+	public void putObject(String fieldName, Class<?> c, Object o)
+	throws EncodingException
+	{
+		Integer bt = BuiltinsMap.ID_MAP.get(c);
+		boolean array = c.isArray();
+		if (bt != null) {
+			if (array)
+				putArray(fieldName, bt, o);
+			else
+				putScalar(fieldName, bt, o);
+			return;
+		}
+
+		if (!array && Enumeration.class.isAssignableFrom(c)) {
+			putEnumeration(fieldName, (Enumeration) o);
+			return;
+		}
+
+		if (array && Enumeration.class.isAssignableFrom(c.getComponentType())) {
+			putEnumerationArray(fieldName, o);
+			return;
+		}
+
+		if (array)
+			putEncodeableArray(fieldName, (Class<? extends IEncodeable>) c.getComponentType(), o);
+		else
+			putEncodeable(fieldName, (Class<? extends IEncodeable>) c, (IEncodeable) o);
+	}
+
+	/** {@inheritDoc} */
+	public void putScalar(String fieldName, int builtinType, Object o)
+	throws EncodingException
+	{
+		switch (builtinType) {
+		case 1: putBoolean(fieldName, (Boolean) o); break;
+		case 2: putSByte(fieldName, (Byte) o); break;
+		case 3: putByte(fieldName, (UnsignedByte) o); break;
+		case 4: putInt16(fieldName, (Short) o); break;
+		case 5: putUInt16(fieldName, (UnsignedShort) o); break;
+		case 6: putInt32(fieldName, (Integer) o); break;
+		case 7: putUInt32(fieldName, (UnsignedInteger) o); break;
+		case 8: putInt64(fieldName, (Long) o); break;
+		case 9: putUInt64(fieldName, (UnsignedLong) o); break;
+		case 10: putFloat(fieldName, (Float) o); break;
+		case 11: putDouble(fieldName, (Double) o); break;
+		case 12: putString(fieldName, (String) o); break;
+		case 13: putDateTime(fieldName, (DateTime) o); break;
+		case 14: putGuid(fieldName, (UUID) o); break;
+		case 15: putByteString(fieldName, (ByteString) o); break;
+		case 16: putXmlElement(fieldName, (XmlElement) o); break;
+		case 17: putNodeId(fieldName, (NodeId) o); break;
+		case 18: putExpandedNodeId(fieldName, (ExpandedNodeId) o); break;
+		case 19: putStatusCode(fieldName, (StatusCode) o); break;
+		case 20: putQualifiedName(fieldName, (QualifiedName) o); break;
+		case 21: putLocalizedText(fieldName, (LocalizedText) o); break;
+		case 22: {
+			if (o instanceof Structure)
+				putStructure(fieldName, (Structure) o);
+			else
+				putExtensionObject(fieldName, (ExtensionObject) o);
+			break;
+		}
+		case 23: putDataValue(fieldName, (DataValue) o); break;
+		case 24: putVariant(fieldName, (Variant) o); break;
+		case 25: putDiagnosticInfo(fieldName, (DiagnosticInfo) o); break;
+		default: throw new EncodingException("Cannot encode "+o);
+		}
+	}
+
+	/** {@inheritDoc} */
+	public void putArray(String fieldName, int builtinType, Object o)
+	throws EncodingException
+	{
+		switch (builtinType) {
+		case 1: putBooleanArray(fieldName, (Boolean[]) o); break;
+		case 2: putSByteArray(fieldName, (Byte[]) o); break;
+		case 3: putByteArray(fieldName, (UnsignedByte[]) o); break;
+		case 4: putInt16Array(fieldName, (Short[]) o); break;
+		case 5: putUInt16Array(fieldName, (UnsignedShort[]) o); break;
+		case 6: putInt32Array(fieldName, (Integer[]) o); break;
+		case 7: putUInt32Array(fieldName, (UnsignedInteger[]) o); break;
+		case 8: putInt64Array(fieldName, (Long[]) o); break;
+		case 9: putUInt64Array(fieldName, (UnsignedLong[]) o); break;
+		case 10: putFloatArray(fieldName, (Float[]) o); break;
+		case 11: putDoubleArray(fieldName, (Double[]) o); break;
+		case 12: putStringArray(fieldName, (String[]) o); break;
+		case 13: putDateTimeArray(fieldName, (DateTime[]) o); break;
+		case 14: putGuidArray(fieldName, (UUID[]) o); break;
+		case 15: putByteStringArray(fieldName, (ByteString[]) o); break;
+		case 16: putXmlElementArray(fieldName, (XmlElement[]) o); break;
+		case 17: putNodeIdArray(fieldName, (NodeId[]) o); break;
+		case 18: putExpandedNodeIdArray(fieldName, (ExpandedNodeId[]) o); break;
+		case 19: putStatusCodeArray(fieldName, (StatusCode[]) o); break;
+		case 20: putQualifiedNameArray(fieldName, (QualifiedName[]) o); break;
+		case 21: putLocalizedTextArray(fieldName, (LocalizedText[]) o); break;
+		case 22: {
+			if (o instanceof ExtensionObject[])
+				putExtensionObjectArray(fieldName, (ExtensionObject[]) o);
+			else if (o instanceof Structure[])
+				putStructureArray(fieldName, (Structure[]) o);
+			else
+				throw new EncodingException("Cannot encode "+o);
+			break;
+		}
+		case 23: putDataValueArray(fieldName, (DataValue[]) o); break;
+		case 24: putVariantArray(fieldName, (Variant[]) o); break;
+		case 25: putDiagnosticInfoArray(fieldName, (DiagnosticInfo[]) o); break;
+		default: throw new EncodingException("Cannot encode "+o);
+		}
+	}
+
+	/** {@inheritDoc} */
+	public void putEncodeableArray(String fieldName, Class<? extends IEncodeable> clazz, Object array)
+	throws EncodingException
+	{
+		if (array == null) {
+			putNull(fieldName);
+			return;
+		}
+		openArray(fieldName);
+		int length = Array.getLength(array);
+		for (int i = 0; i < length; i++)
+			putEncodeable(null, clazz, (IEncodeable) Array.get(array, i));
+		close(']');
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Encodes the structure as a JSON object of its fields
+	 */
+	public void putEncodeable(String fieldName, IEncodeable s)
+	throws EncodingException
+	{
+		if (s == null) {
+			putNull(fieldName);
+			return;
+		}
+		putEncodeable(fieldName, s.getClass(), s);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Encodes the structure as a JSON object of its fields
+	 */
+	public void putEncodeable(String fieldName, Class<? extends IEncodeable> clazz, IEncodeable s)
+	throws EncodingException
+	{
+		if (s == null) {
+			putNull(fieldName);
+			return;
+		}
+		openObject(fieldName);
+		ctx.getEncodeableSerializer().putEncodeable(clazz, s, this);
+		close('}');
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The message is an object with the binary encoding id of the message as
+	 * TypeId and the message as Body
+	 */
+	public void putMessage(IEncodeable s)
+	throws EncodingException
+	{
+		openObject(null);
+		try {
+			putNodeId("TypeId", ctx.getEncodeableNodeId(s.getClass(), EncodeType.Binary));
+		} catch (ServiceResultException e) {
+			throw new EncodingException("Could not get BinaryEncodeId for "+s.getClass(), e);
+		}
+		putEncodeable("Body", s.getClass(), s);
+		close('}');
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(String fieldName, Object o) throws EncodingException {
+		EncoderUtils.put(this, fieldName, o);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(String fieldName, Object o, Class<?> clazz) throws EncodingException {
+		EncoderUtils.put(this, fieldName, o, clazz);
+	}
+
+	private void putStatusCode(String fieldName, int bits)
+	throws EncodingException
+	{
+		if (bits == StatusCode.SEVERITY_GOOD && fieldName != null)
+			return;
+		if (reversible) {
+			beginValue(fieldName);
+			writeLong(bits & 0xFFFFFFFFL);
+			return;
+		}
+		openObject(fieldName);
+		beginValue("Code");
+		writeLong(bits & 0xFFFFFFFFL);
+		putString("Symbol", StatusCodeDescriptions.getStatusCode(bits));
+		close('}');
+	}
+
+	private void putIdentifier(IdType type, Object value)
+	throws EncodingException
+	{
+		if (type != IdType.Numeric)
+			putInt32("IdType", type.getValue());
+		switch (type) {
+		case Numeric: putUInt32("Id", (UnsignedInteger) value); break;
+		case String: putString("Id", (String) value); break;
+		case Guid: putGuid("Id", (UUID) value); break;
+		case Opaque: putByteString("Id", (ByteString) value); break;
+		}
+	}
+
+	/**
+	 * Write a namespace, in the non-reversible form as URI if the index is above 1.
+	 */
+	private void putNamespace(String fieldName, int index, String uri)
+	throws EncodingException
+	{
+		if (uri == null && index > 1 && !reversible)
+			uri = ctx.getNamespaceTable().getUri(index);
+		if (uri != null)
+			putString(fieldName, uri);
+		else if (index != 0)
+			putInt32(fieldName, index);
+	}
+
+	/**
+	 * Write a multi-dimension array as nested JSON arrays.
+	 */
+	private void putNestedArray(String fieldName, int builtinType, Object o, int dimension)
+	throws EncodingException
+	{
+		if (dimension == 1 || o == null) {
+			putArray(fieldName, builtinType, o);
+			return;
+		}
+		openArray(fieldName);
+		int length = Array.getLength(o);
+		for (int i = 0; i < length; i++)
+			putNestedArray(null, builtinType, Array.get(o, i), dimension - 1);
+		close(']');
+	}
+
+	/**
+	 * Write null for a value without field name, omit a field.
+	 */
+	private void putNull(String fieldName) {
+		if (fieldName != null)
+			return;
+		beginValue(null);
+		writeBytes(NULL);
+	}
+
+	/**
+	 * Write the separator and the name of a value.
+	 */
+	private void beginValue(String fieldName) {
+		if (separator[depth])
+			writeByte(',');
+		else
+			separator[depth] = true;
+		if (fieldName != null)
+			writeName(fieldName);
+	}
+
+	private void openObject(String fieldName) {
+		beginValue(fieldName);
+		writeByte('{');
+		push();
+	}
+
+	private void openArray(String fieldName) {
+		beginValue(fieldName);
+		writeByte('[');
+		push();
+	}
+
+	private void push() {
+		if (++depth == separator.length)
+			separator = Arrays.copyOf(separator, depth * 2);
+		separator[depth] = false;
+	}
+
+	private void close(char c) {
+		depth--;
+		writeByte(c);
+	}
+
+	private void writeName(String name) {
+		byte[] b = NAMES.get(name);
+		if (b != null) {
+			writeBytes(b);
+			return;
+		}
+		int start = pos;
+		writeQuoted(name);
+		writeByte(':');
+		if (NAMES.size() < MAX_NAMES)
+			NAMES.putIfAbsent(name, Arrays.copyOfRange(buf, start, pos));
+	}
+
+	private void ensure(int n) {
+		if (pos + n > buf.length)
+			buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+	}
+
+	private void writeByte(int b) {
+		ensure(1);
+		buf[pos++] = (byte) b;
+	}
+
+	private void writeBytes(byte[] b) {
+		ensure(b.length);
+		System.arraycopy(b, 0, buf, pos, b.length);
+		pos += b.length;
+	}
+
+	private void writeAscii(String s) {
+		int len = s.length();
+		ensure(len);
+		for (int i = 0; i < len; i++)
+			buf[pos++] = (byte) s.charAt(i);
+	}
+
+	private void writeLong(long v) {
+		ensure(20);
+		if (v < 0) {
+			if (v == Long.MIN_VALUE) {
+				writeAscii("-9223372036854775808");
+				return;
+			}
+			buf[pos++] = '-';
+			v = -v;
+		}
+		// Digits from the end, then reversed
+		int start = pos;
+		do {
+			buf[pos++] = (byte) ('0' + v % 10);
+			v /= 10;
+		} while (v != 0);
+		for (int i = start, j = pos - 1; i < j; i++, j--) {
+			byte t = buf[i];
+			buf[i] = buf[j];
+			buf[j] = t;
+		}
+	}
+
+	private void writeUnsignedLong(long v) {
+		if (v >= 0) {
+			writeLong(v);
+			return;
+		}
+		long quotient = (v >>> 1) / 5;
+		writeLong(quotient);
+		writeByte('0' + (int) (v - quotient * 10));
+	}
+
+	/**
+	 * Write NaN and infinity as strings, integral values as integers.
+	 *
+	 * @return true if the value was written
+	 */
+	private boolean writeSpecial(double v) {
+		if (Double.isNaN(v))
+			writeAscii("\"NaN\"");
+		else if (Double.isInfinite(v))
+			writeAscii(v > 0 ? "\"Infinity\"" : "\"-Infinity\"");
+		else if (v == (long) v && Math.abs(v) < 1e15 && (v != 0 || 1 / v > 0))
+			writeLong((long) v);
+		else
+			return false;
+		return true;
+	}
+
+	private void writeHex(long v, int digits) {
+		for (int i = digits - 1; i >= 0; i--) {
+			buf[pos + i] = HEX[(int) v & 0xf];
+			v >>>= 4;
+		}
+		pos += digits;
+	}
+
+	private void write2(int v) {
+		buf[pos++] = (byte) ('0' + v / 10);
+		buf[pos++] = (byte) ('0' + v % 10);
+	}
+
+	/**
+	 * Write an ISO 8601 UTC time with up to 7 fraction digits.
+	 *
+	 * @param value 100 nanosecond intervals since 1601-01-01
+	 */
+	private void writeDateTime(long value) {
+		if (value <= 0) {
+			writeBytes(MIN_DATE_TIME);
+			return;
+		}
+		if (value >= DateTime.MAX_VALUE.getValue()) {
+			writeBytes(MAX_DATE_TIME);
+			return;
+		}
+		long t = value - DateTime.OffsetToGregorianCalendarZero;
+		long seconds = Math.floorDiv(t, 10000000L);
+		int fraction = (int) Math.floorMod(t, 10000000L);
+		long days = Math.floorDiv(seconds, 86400L);
+		int secondOfDay = (int) Math.floorMod(seconds, 86400L);
+
+		// Civil date of days since 1970-01-01
+		long z = days + 719468;
+		long era = Math.floorDiv(z, 146097L);
+		int dayOfEra = (int) (z - era * 146097);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int mp = (5 * dayOfYear + 2) / 153;
+		int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+		ensure(30);
+		buf[pos++] = '"';
+		write2(year / 100);
+		write2(year % 100);
+		buf[pos++] = '-';
+		write2(month);
+		buf[pos++] = '-';
+		write2(day);
+		buf[pos++] = 'T';
+		write2(secondOfDay / 3600);
+		buf[pos++] = ':';
+		write2(secondOfDay / 60 % 60);
+		buf[pos++] = ':';
+		write2(secondOfDay % 60);
+		if (fraction != 0) {
+			buf[pos++] = '.';
+			int digits = 7;
+			while (fraction % 10 == 0) {
+				fraction /= 10;
+				digits--;
+			}
+			for (int i = digits - 1; i >= 0; i--) {
+				buf[pos + i] = (byte) ('0' + fraction % 10);
+				fraction /= 10;
+			}
+			pos += digits;
+		}
+		buf[pos++] = 'Z';
+		buf[pos++] = '"';
+	}
+
+	private void writeBase64(byte[] data, int off, int len) {
+		ensure((len + 2) / 3 * 4 + 2);
+		byte[] b = buf;
+		int p = pos;
+		b[p++] = '"';
+		int end = off + len - len % 3;
+		for (int i = off; i < end; i += 3) {
+			int v = (data[i] & 0xff) << 16 | (data[i + 1] & 0xff) << 8 | data[i + 2] & 0xff;
+			b[p++] = BASE64[v >>> 18];
+			b[p++] = BASE64[v >>> 12 & 0x3f];
+			b[p++] = BASE64[v >>> 6 & 0x3f];
+			b[p++] = BASE64[v & 0x3f];
+		}
+		int rest = len % 3;
+		if (rest != 0) {
+			int v = (data[end] & 0xff) << 16 | (rest == 2 ? (data[end + 1] & 0xff) << 8 : 0);
+			b[p++] = BASE64[v >>> 18];
+			b[p++] = BASE64[v >>> 12 & 0x3f];
+			b[p++] = rest == 2 ? BASE64[v >>> 6 & 0x3f] : (byte) '=';
+			b[p++] = '=';
+		}
+		b[p++] = '"';
+		pos = p;
+	}
+
+	/**
+	 * Write a string as UTF-8 in quotes, escaping quotes, backslashes, control
+	 * characters and unpaired surrogates.
+	 */
+	private void writeQuoted(String s) {
+		int len = s.length();
+		ensure(len * 6 + 2);
+		byte[] b = buf;
+		int p = pos;
+		b[p++] = '"';
+		for (int i = 0; i < len; i++) {
+			char c = s.charAt(i);
+			if (c < 0x80) {
+				if (c >= 0x20 && c != '"' && c != '\\') {
+					b[p++] = (byte) c;
+					continue;
+				}
+				b[p++] = '\\';
+				switch (c) {
+				case '"': b[p++] = '"'; break;
+				case '\\': b[p++] = '\\'; break;
+				case '\n': b[p++] = 'n'; break;
+				case '\r': b[p++] = 'r'; break;
+				case '\t': b[p++] = 't'; break;
+				case '\b': b[p++] = 'b'; break;
+				case '\f': b[p++] = 'f'; break;
+				default: p = writeUnicodeEscape(b, p, c);
+				}
+			} else if (c < 0x800) {
+				b[p++] = (byte) (0xc0 | c >> 6);
+				b[p++] = (byte) (0x80 | c & 0x3f);
+			} else if (!Character.isSurrogate(c)) {
+				b[p++] = (byte) (0xe0 | c >> 12);
+				b[p++] = (byte) (0x80 | c >> 6 & 0x3f);
+				b[p++] = (byte) (0x80 | c & 0x3f);
+			} else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+				int cp = Character.toCodePoint(c, s.charAt(++i));
+				b[p++] = (byte) (0xf0 | cp >> 18);
+				b[p++] = (byte) (0x80 | cp >> 12 & 0x3f);
+				b[p++] = (byte) (0x80 | cp >> 6 & 0x3f);
+				b[p++] = (byte) (0x80 | cp & 0x3f);
+			} else {
+				b[p++] = '\\';
+				p = writeUnicodeEscape(b, p, c);
+			}
+		}
+		b[p++] = '"';
+		pos = p;
+	}
+
+	private static int writeUnicodeEscape(byte[] b, int p, char c) {
+		b[p++] = 'u';
+		b[p++] = HEX[c >> 12];
+		b[p++] = HEX[c >> 8 & 0xf];
+		b[p++] = HEX[c >> 4 & 0xf];
+		b[p++] = HEX[c & 0xf];
+		return p;
+	}
+
+	private static byte[] ascii(String s) {
+		return s.getBytes(Charset.forName("US-ASCII"));
+	}
+
+}
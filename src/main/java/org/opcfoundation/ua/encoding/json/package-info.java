@@ -0,0 +1,4 @@
+/**
+ * The implementation of JSON serialization
+ */
+package org.opcfoundation.ua.encoding.json;
@@ -12,13 +12,17 @@
 
 package org.opcfoundation.ua.encoding.utils;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
 import org.opcfoundation.ua.builtintypes.NodeId;
-import org.opcfoundation.ua.core.Identifiers;
+import org.opcfoundation.ua.common.NamespaceTable;
+import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.core.EncodeableSerializer;
 import org.opcfoundation.ua.encoding.IEncodeable;
 
 /**
@@ -50,43 +54,25 @@ public class EncodeableDiscovery {
 	}
 	
 	/**
-	 * Discover default encodeables. Encodeables are discovered by inspecting
-	 * all fields from Identifiers class using reflection.
+	 * Discover default encodeables. Encodeables are discovered from the
+	 * generated {@link EncodeableSerializer}, which maps the type, binary
+	 * encoding and XML encoding ids of each class.
 	 *
 	 * @param map encodeable table to fill with builtin encodeables
 	 */
 	@SuppressWarnings("unchecked")
 	public static void discoverDefaultEncodeables(Map<NodeId, Class<IEncodeable>> map) 
 	{
-		// Discover builtin classes
-		Class<?> clazz = Identifiers.class;
-		ClassLoader cl = clazz.getClassLoader();
-		int index = clazz.getCanonicalName().lastIndexOf(".");
-		String prefix = clazz.getCanonicalName().substring(0, index);
-		for (Field f : clazz.getFields())
+		EncodeableSerializer serializer = EncodeableSerializer.getInstance();
+		List<ExpandedNodeId> ids = new ArrayList<ExpandedNodeId>();
+		serializer.getSupportedNodeIds(ids);
+		NamespaceTable namespaceTable = NamespaceTable.getDefaultInstance();
+		for (ExpandedNodeId id : ids)
 		{
-			f.setAccessible(true);
 			try {
-				String className = prefix+"."+f.getName();
-				Class<IEncodeable> c = (Class<IEncodeable>) cl.loadClass(className);
-				if (!IEncodeable.class.isAssignableFrom(c)) continue;
-				for (Field cf : c.getFields()) {
-					cf.setAccessible(true);
-					if (!cf.getType().equals(NodeId.class)) continue;
-					NodeId nodeId;
-					try {
-						nodeId = (NodeId) cf.get(null);
-					} catch (IllegalArgumentException e) {
-						throw new RuntimeException("Failed to load default identifiers", e);
-					} catch (IllegalAccessException e) {
-						throw new RuntimeException("Failed to load default identifiers", e);
-					}
-					if (nodeId==null)
-						throw new RuntimeException("Failed to load default identifiers");
-					map.put(nodeId, c);
-				}
-			} catch (ClassNotFoundException e) {
-				continue;
+				map.put(namespaceTable.toNodeId(id), (Class<IEncodeable>) serializer.getClass(id));
+			} catch (ServiceResultException e) {
+				throw new RuntimeException("Failed to load default identifiers", e);
 			}
 		}
 	}
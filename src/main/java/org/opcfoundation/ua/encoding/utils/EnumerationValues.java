@@ -0,0 +1,128 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.encoding.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.opcfoundation.ua.builtintypes.Enumeration;
+import org.opcfoundation.ua.encoding.DecodingException;
+
+/**
+ * Lookup of {@link Enumeration} constants by numeric value, used by the
+ * decoders.
+ * <p>
+ * The constants of an enum class are indexed once and cached in a
+ * {@link ClassValue}. Values that are not constants of the enum, and
+ * Enumeration classes that are not enums, are resolved with the static
+ * valueOf(int) method of the class, which is also looked up only once.
+ */
+public final class EnumerationValues {
+
+	/** Max value of a dense table of constants */
+	private static final int MAX_DENSE_VALUE = 1024;
+
+	private static final ClassValue<Lookup> LOOKUPS = new ClassValue<Lookup>() {
+		@Override
+		protected Lookup computeValue(Class<?> type) {
+			return new Lookup(type);
+		}
+	};
+
+	private EnumerationValues() {
+	}
+
+	/**
+	 * Get the constant of a numeric value.
+	 *
+	 * @param clazz the Enumeration class
+	 * @param value the numeric value
+	 * @param <T> the Enumeration class
+	 * @return the constant, or the result of valueOf(int) of the class for other values
+	 * @throws DecodingException if the class has no valueOf(int) method
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Enumeration> T valueOf(Class<T> clazz, int value) throws DecodingException {
+		return (T) LOOKUPS.get(clazz).valueOf(value);
+	}
+
+	static final class Lookup {
+		final Class<?> type;
+		/** Constants by value, if the values are small non-negative ints */
+		final Object[] dense;
+		final Map<Integer, Object> sparse;
+		volatile Method valueOf;
+
+		Lookup(Class<?> type) {
+			this.type = type;
+			Object[] constants = type.getEnumConstants();
+			int max = -1;
+			boolean denseValues = constants != null;
+			for (int i = 0; denseValues && i < constants.length; i++) {
+				int v = ((Enumeration) constants[i]).getValue();
+				denseValues = v >= 0 && v < MAX_DENSE_VALUE;
+				max = Math.max(max, v);
+			}
+			if (constants == null) {
+				dense = null;
+				sparse = null;
+			} else if (denseValues) {
+				Object[] table = new Object[max + 1];
+				// The last constant of a value wins, as with the maps of the generated enums
+				for (int i = 0; i < constants.length; i++)
+					table[((Enumeration) constants[i]).getValue()] = constants[i];
+				dense = table;
+				sparse = null;
+			} else {
+				dense = null;
+				sparse = new HashMap<Integer, Object>();
+				for (Object c : constants)
+					sparse.put(((Enumeration) c).getValue(), c);
+			}
+		}
+
+		Object valueOf(int value) throws DecodingException {
+			Object result = null;
+			if (dense != null) {
+				if (value >= 0 && value < dense.length)
+					result = dense[value];
+			} else if (sparse != null)
+				result = sparse.get(value);
+			return result != null ? result : invokeValueOf(value);
+		}
+
+		private Object invokeValueOf(int value) throws DecodingException {
+			try {
+				Method m = valueOf;
+				if (m == null) {
+					m = type.getMethod("valueOf", int.class);
+					valueOf = m;
+				}
+				return m.invoke(null, value);
+			} catch (SecurityException e) {
+				throw new DecodingException(e, "cannot decode "+type);
+			} catch (NoSuchMethodException e) {
+				throw new DecodingException(e, "cannot decode "+type);
+			} catch (IllegalArgumentException e) {
+				throw new DecodingException(e, "cannot decode "+type);
+			} catch (IllegalAccessException e) {
+				throw new DecodingException(e, "cannot decode "+type);
+			} catch (InvocationTargetException e) {
+				throw new DecodingException(e, "cannot decode "+type);
+			}
+		}
+	}
+
+}
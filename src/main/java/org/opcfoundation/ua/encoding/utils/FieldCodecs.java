@@ -0,0 +1,286 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.encoding.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.opcfoundation.ua.builtintypes.ByteString;
+import org.opcfoundation.ua.builtintypes.DataValue;
+import org.opcfoundation.ua.builtintypes.DateTime;
+import org.opcfoundation.ua.builtintypes.DiagnosticInfo;
+import org.opcfoundation.ua.builtintypes.Enumeration;
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
+import org.opcfoundation.ua.builtintypes.ExtensionObject;
+import org.opcfoundation.ua.builtintypes.LocalizedText;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.QualifiedName;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.builtintypes.Structure;
+import org.opcfoundation.ua.builtintypes.UnsignedByte;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.builtintypes.UnsignedLong;
+import org.opcfoundation.ua.builtintypes.UnsignedShort;
+import org.opcfoundation.ua.builtintypes.Variant;
+import org.opcfoundation.ua.builtintypes.XmlElement;
+import org.opcfoundation.ua.encoding.DecodingException;
+import org.opcfoundation.ua.encoding.EncodingException;
+import org.opcfoundation.ua.encoding.IDecoder;
+import org.opcfoundation.ua.encoding.IEncodeable;
+import org.opcfoundation.ua.encoding.IEncoder;
+
+/**
+ * Class keyed dispatch of field codecs, used by {@link IDecoder#get(String, Class)}
+ * and {@link IEncoder#put(String, Object, Class)} of the binary and XML codecs.
+ * <p>
+ * The codec of a class is resolved once, with the same rules as the former
+ * comparison chains, and cached in a {@link ClassValue}. Resolving the codec
+ * of a field is then a single lookup.
+ */
+public final class FieldCodecs {
+
+	/**
+	 * Reads a field of a class.
+	 */
+	interface Reader {
+		Object read(IDecoder decoder, String fieldName, Class<?> clazz) throws DecodingException;
+	}
+
+	/**
+	 * Writes a field of a class.
+	 */
+	interface Writer {
+		void write(IEncoder encoder, String fieldName, Object o, Class<?> clazz) throws EncodingException;
+	}
+
+	private static final Map<Class<?>, Reader> BUILTIN_READERS = new HashMap<Class<?>, Reader>();
+	/** Writers in the order of precedence, matched with isAssignableFrom */
+	private static final List<Class<?>> WRITER_CLASSES = new ArrayList<Class<?>>();
+	private static final List<Writer> WRITERS = new ArrayList<Writer>();
+
+	private static final ClassValue<Reader> READER = new ClassValue<Reader>() {
+		@Override
+		protected Reader computeValue(Class<?> clazz) {
+			return resolveReader(clazz);
+		}
+	};
+
+	private static final ClassValue<Writer> WRITER = new ClassValue<Writer>() {
+		@Override
+		protected Writer computeValue(Class<?> clazz) {
+			return resolveWriter(clazz);
+		}
+	};
+
+	private FieldCodecs() {}
+
+	/**
+	 * Decode a field.
+	 *
+	 * @param decoder decoder
+	 * @param fieldName field name
+	 * @param clazz class of the field
+	 * @return decoded value
+	 * @throws DecodingException on decoding error or if the class has no codec
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T get(IDecoder decoder, String fieldName, Class<T> clazz) throws DecodingException
+	{
+		return (T) READER.get(clazz).read(decoder, fieldName, clazz);
+	}
+
+	/**
+	 * Encode a field.
+	 *
+	 * @param encoder encoder
+	 * @param fieldName field name
+	 * @param o value
+	 * @param clazz class of the field
+	 * @throws EncodingException on encoding error or if the class has no codec
+	 */
+	public static void put(IEncoder encoder, String fieldName, Object o, Class<?> clazz) throws EncodingException
+	{
+		WRITER.get(clazz).write(encoder, fieldName, o, clazz);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Reader resolveReader(Class<?> clazz)
+	{
+		Reader reader = BUILTIN_READERS.get(clazz);
+		if (reader!=null) return reader;
+		if (Structure.class.isAssignableFrom(clazz))
+			return (d, f, c) -> d.getEncodeable(f, (Class<? extends IEncodeable>) c);
+		Class<?> component = clazz.getComponentType();
+		if (component!=null && Structure.class.isAssignableFrom(component))
+			return (d, f, c) -> d.getEncodeableArray(f, (Class<? extends IEncodeable>) c.getComponentType());
+		if (Enumeration.class.isAssignableFrom(clazz))
+			return (d, f, c) -> d.getEnumeration(f, (Class<? extends Enumeration>) c);
+		if (component!=null && Enumeration.class.isAssignableFrom(component))
+			return (d, f, c) -> d.getEnumerationArray(f, (Class<? extends Enumeration>) c.getComponentType());
+		return (d, f, c) -> {
+			throw new DecodingException("Cannot decode "+c);
+		};
+	}
+
+	private static Writer resolveWriter(Class<?> clazz)
+	{
+		for (int i=0; i<WRITER_CLASSES.size(); i++)
+			if (WRITER_CLASSES.get(i).isAssignableFrom(clazz)) return WRITERS.get(i);
+		return (e, f, o, c) -> {
+			throw new EncodingException("Cannot encode "+o);
+		};
+	}
+
+	private static void reader(Class<?> clazz, Reader reader)
+	{
+		BUILTIN_READERS.put(clazz, reader);
+	}
+
+	private static void writer(Class<?> clazz, Writer writer)
+	{
+		WRITER_CLASSES.add(clazz);
+		WRITERS.add(writer);
+	}
+
+	static {
+		reader(Boolean.class, (d, f, c) -> d.getBoolean(f));
+		reader(Byte.class, (d, f, c) -> d.getSByte(f));
+		reader(UnsignedByte.class, (d, f, c) -> d.getByte(f));
+		reader(Short.class, (d, f, c) -> d.getInt16(f));
+		reader(UnsignedShort.class, (d, f, c) -> d.getUInt16(f));
+		reader(Integer.class, (d, f, c) -> d.getInt32(f));
+		reader(UnsignedInteger.class, (d, f, c) -> d.getUInt32(f));
+		reader(Long.class, (d, f, c) -> d.getInt64(f));
+		reader(UnsignedLong.class, (d, f, c) -> d.getUInt64(f));
+		reader(Float.class, (d, f, c) -> d.getFloat(f));
+		reader(Double.class, (d, f, c) -> d.getDouble(f));
+		reader(String.class, (d, f, c) -> d.getString(f));
+		reader(DateTime.class, (d, f, c) -> d.getDateTime(f));
+		reader(UUID.class, (d, f, c) -> d.getGuid(f));
+		reader(ByteString.class, (d, f, c) -> d.getByteString(f));
+		reader(XmlElement.class, (d, f, c) -> d.getXmlElement(f));
+		reader(NodeId.class, (d, f, c) -> d.getNodeId(f));
+		reader(ExpandedNodeId.class, (d, f, c) -> d.getExpandedNodeId(f));
+		reader(StatusCode.class, (d, f, c) -> d.getStatusCode(f));
+		reader(QualifiedName.class, (d, f, c) -> d.getQualifiedName(f));
+		reader(LocalizedText.class, (d, f, c) -> d.getLocalizedText(f));
+		reader(ExtensionObject.class, (d, f, c) -> d.getExtensionObject(f));
+		reader(DataValue.class, (d, f, c) -> d.getDataValue(f));
+		reader(Variant.class, (d, f, c) -> d.getVariant(f));
+		reader(Object.class, (d, f, c) -> d.getVariant(f).getValue());
+		reader(DiagnosticInfo.class, (d, f, c) -> d.getDiagnosticInfo(f));
+		reader(Boolean[].class, (d, f, c) -> d.getBooleanArray(f));
+		reader(Byte[].class, (d, f, c) -> d.getSByteArray(f));
+		reader(UnsignedByte[].class, (d, f, c) -> d.getByteArray(f));
+		reader(Short[].class, (d, f, c) -> d.getInt16Array(f));
+		reader(UnsignedShort[].class, (d, f, c) -> d.getUInt16Array(f));
+		reader(Integer[].class, (d, f, c) -> d.getInt32Array(f));
+		reader(UnsignedInteger[].class, (d, f, c) -> d.getUInt32Array(f));
+		reader(Long[].class, (d, f, c) -> d.getInt64Array(f));
+		reader(UnsignedLong[].class, (d, f, c) -> d.getUInt64Array(f));
+		reader(Float[].class, (d, f, c) -> d.getFloatArray(f));
+		reader(Double[].class, (d, f, c) -> d.getDoubleArray(f));
+		reader(String[].class, (d, f, c) -> d.getStringArray(f));
+		reader(DateTime[].class, (d, f, c) -> d.getDateTimeArray(f));
+		reader(UUID[].class, (d, f, c) -> d.getGuidArray(f));
+		reader(ByteString[].class, (d, f, c) -> d.getByteStringArray(f));
+		reader(XmlElement[].class, (d, f, c) -> d.getXmlElementArray(f));
+		reader(NodeId[].class, (d, f, c) -> d.getNodeIdArray(f));
+		reader(ExpandedNodeId[].class, (d, f, c) -> d.getExpandedNodeIdArray(f));
+		reader(StatusCode[].class, (d, f, c) -> d.getStatusCodeArray(f));
+		reader(QualifiedName[].class, (d, f, c) -> d.getQualifiedNameArray(f));
+		reader(LocalizedText[].class, (d, f, c) -> d.getLocalizedTextArray(f));
+		reader(ExtensionObject[].class, (d, f, c) -> d.getExtensionObjectArray(f));
+		reader(DataValue[].class, (d, f, c) -> d.getDataValueArray(f));
+		reader(Variant[].class, (d, f, c) -> d.getVariantArray(f));
+		reader(Object[].class, (d, f, c) -> {
+			Variant[] varArray = d.getVariantArray(f);
+			Object[] objArray = new Object[varArray.length];
+			for (int i = 0; i < varArray.length; i++)
+				objArray[i] = varArray[i].getValue();
+			return objArray;
+		});
+		reader(DiagnosticInfo[].class, (d, f, c) -> d.getDiagnosticInfoArray(f));
+
+		writer(Boolean.class, (e, f, o, c) -> e.putBoolean(f, (Boolean) o));
+		writer(Byte.class, (e, f, o, c) -> e.putSByte(f, (Byte) o));
+		writer(UnsignedByte.class, (e, f, o, c) -> e.putByte(f, (UnsignedByte) o));
+		writer(Short.class, (e, f, o, c) -> e.putInt16(f, (Short) o));
+		writer(UnsignedShort.class, (e, f, o, c) -> e.putUInt16(f, (UnsignedShort) o));
+		writer(Integer.class, (e, f, o, c) -> e.putInt32(f, (Integer) o));
+		writer(UnsignedInteger.class, (e, f, o, c) -> e.putUInt32(f, (UnsignedInteger) o));
+		writer(Long.class, (e, f, o, c) -> e.putInt64(f, (Long) o));
+		writer(UnsignedLong.class, (e, f, o, c) -> e.putUInt64(f, (UnsignedLong) o));
+		writer(Float.class, (e, f, o, c) -> e.putFloat(f, (Float) o));
+		writer(Double.class, (e, f, o, c) -> e.putDouble(f, (Double) o));
+		writer(String.class, (e, f, o, c) -> e.putString(f, (String) o));
+		writer(DateTime.class, (e, f, o, c) -> e.putDateTime(f, (DateTime) o));
+		writer(UUID.class, (e, f, o, c) -> e.putGuid(f, (UUID) o));
+		writer(ByteString.class, (e, f, o, c) -> e.putByteString(f, (ByteString) o));
+		writer(XmlElement.class, (e, f, o, c) -> e.putXmlElement(f, (XmlElement) o));
+		writer(NodeId.class, (e, f, o, c) -> e.putNodeId(f, (NodeId) o));
+		writer(ExpandedNodeId.class, (e, f, o, c) -> e.putExpandedNodeId(f, (ExpandedNodeId) o));
+		writer(StatusCode.class, (e, f, o, c) -> e.putStatusCode(f, (StatusCode) o));
+		writer(QualifiedName.class, (e, f, o, c) -> e.putQualifiedName(f, (QualifiedName) o));
+		writer(LocalizedText.class, (e, f, o, c) -> e.putLocalizedText(f, (LocalizedText) o));
+		writer(ExtensionObject.class, (e, f, o, c) -> e.putExtensionObject(f, (ExtensionObject) o));
+		writer(Structure.class, FieldCodecs::putStructure);
+		writer(DataValue.class, (e, f, o, c) -> e.putDataValue(f, (DataValue) o));
+		writer(Variant.class, (e, f, o, c) -> e.putVariant(f, (Variant) o));
+		writer(DiagnosticInfo.class, (e, f, o, c) -> e.putDiagnosticInfo(f, (DiagnosticInfo) o));
+		writer(Boolean[].class, (e, f, o, c) -> e.putBooleanArray(f, (Boolean[]) o));
+		writer(Byte[].class, (e, f, o, c) -> e.putSByteArray(f, (Byte[]) o));
+		writer(UnsignedByte[].class, (e, f, o, c) -> e.putByteArray(f, (UnsignedByte[]) o));
+		writer(Short[].class, (e, f, o, c) -> e.putInt16Array(f, (Short[]) o));
+		writer(UnsignedShort[].class, (e, f, o, c) -> e.putUInt16Array(f, (UnsignedShort[]) o));
+		writer(Integer[].class, (e, f, o, c) -> e.putInt32Array(f, (Integer[]) o));
+		writer(UnsignedInteger[].class, (e, f, o, c) -> e.putUInt32Array(f, (UnsignedInteger[]) o));
+		writer(Long[].class, (e, f, o, c) -> e.putInt64Array(f, (Long[]) o));
+		writer(UnsignedLong[].class, (e, f, o, c) -> e.putUInt64Array(f, (UnsignedLong[]) o));
+		writer(Float[].class, (e, f, o, c) -> e.putFloatArray(f, (Float[]) o));
+		writer(Double[].class, (e, f, o, c) -> e.putDoubleArray(f, (Double[]) o));
+		writer(String[].class, (e, f, o, c) -> e.putStringArray(f, (String[]) o));
+		writer(DateTime[].class, (e, f, o, c) -> e.putDateTimeArray(f, (DateTime[]) o));
+		writer(UUID[].class, (e, f, o, c) -> e.putGuidArray(f, (UUID[]) o));
+		writer(ByteString[].class, (e, f, o, c) -> e.putByteStringArray(f, (ByteString[]) o));
+		writer(XmlElement[].class, (e, f, o, c) -> e.putXmlElementArray(f, (XmlElement[]) o));
+		writer(NodeId[].class, (e, f, o, c) -> e.putNodeIdArray(f, (NodeId[]) o));
+		writer(ExpandedNodeId[].class, (e, f, o, c) -> e.putExpandedNodeIdArray(f, (ExpandedNodeId[]) o));
+		writer(StatusCode[].class, (e, f, o, c) -> e.putStatusCodeArray(f, (StatusCode[]) o));
+		writer(QualifiedName[].class, (e, f, o, c) -> e.putQualifiedNameArray(f, (QualifiedName[]) o));
+		writer(LocalizedText[].class, (e, f, o, c) -> e.putLocalizedTextArray(f, (LocalizedText[]) o));
+		writer(ExtensionObject[].class, (e, f, o, c) -> e.putExtensionObjectArray(f, (ExtensionObject[]) o));
+		writer(Structure[].class, FieldCodecs::putStructureArray);
+		writer(DataValue[].class, (e, f, o, c) -> e.putDataValueArray(f, (DataValue[]) o));
+		writer(Variant[].class, (e, f, o, c) -> e.putVariantArray(f, (Variant[]) o));
+		writer(DiagnosticInfo[].class, (e, f, o, c) -> e.putDiagnosticInfoArray(f, (DiagnosticInfo[]) o));
+		writer(Enumeration.class, (e, f, o, c) -> e.putEnumeration(f, (Enumeration) o));
+		writer(Enumeration[].class, (e, f, o, c) -> e.putEnumerationArray(f, o));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void putStructure(IEncoder encoder, String fieldName, Object o, Class<?> clazz) throws EncodingException
+	{
+		encoder.putEncodeable(fieldName, (Class<? extends IEncodeable>) clazz, (Structure) o);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void putStructureArray(IEncoder encoder, String fieldName, Object o, Class<?> clazz) throws EncodingException
+	{
+		encoder.putEncodeableArray(fieldName, (Class<? extends IEncodeable>) clazz.getComponentType(), o);
+	}
+
+}
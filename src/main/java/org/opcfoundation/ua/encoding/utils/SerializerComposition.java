@@ -13,13 +13,17 @@
 package org.opcfoundation.ua.encoding.utils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.common.NamespaceTable;
+import org.opcfoundation.ua.core.IdType;
 import org.opcfoundation.ua.encoding.DecodingException;
 import org.opcfoundation.ua.encoding.EncodeType;
 import org.opcfoundation.ua.encoding.EncodingException;
@@ -30,15 +34,27 @@ import org.opcfoundation.ua.encoding.binary.IEncodeableSerializer;
 
 /**
  * A collection of serializers for Structure types. Used by the encoders and decoders.
+ * <p>
+ * Serializers can be added while the composition is in use. A subclass may
+ * add serializers lazily, when a class or id that is not yet known is looked
+ * up, see {@link #addSerializerOf(Class)}.
  */
 public class SerializerComposition implements IEncodeableSerializer {
 
-	Map<Class<? extends IEncodeable>, IEncodeableSerializer> serializers = new HashMap<Class<? extends IEncodeable>, IEncodeableSerializer>();
-	Map<ExpandedNodeId, Class<? extends IEncodeable>> idToClass = new HashMap<ExpandedNodeId, Class<? extends IEncodeable>>();
-	Map<Class<? extends IEncodeable>, ExpandedNodeId> classToBinId = new HashMap<Class<? extends IEncodeable>, ExpandedNodeId>();
-	Map<Class<? extends IEncodeable>, ExpandedNodeId> classToXmlId = new HashMap<Class<? extends IEncodeable>, ExpandedNodeId>();
+	Map<Class<? extends IEncodeable>, IEncodeableSerializer> serializers = new ConcurrentHashMap<Class<? extends IEncodeable>, IEncodeableSerializer>();
+	Map<ExpandedNodeId, Class<? extends IEncodeable>> idToClass = new ConcurrentHashMap<ExpandedNodeId, Class<? extends IEncodeable>>();
+	Map<Class<? extends IEncodeable>, ExpandedNodeId> classToBinId = new ConcurrentHashMap<Class<? extends IEncodeable>, ExpandedNodeId>();
+	Map<Class<? extends IEncodeable>, ExpandedNodeId> classToXmlId = new ConcurrentHashMap<Class<? extends IEncodeable>, ExpandedNodeId>();
 	Set<ExpandedNodeId> nodeIds = idToClass.keySet();
-	Set<Class<? extends IEncodeable>> classes = classToBinId.keySet();
+	Set<Class<? extends IEncodeable>> classes = serializers.keySet();
+
+	/** Dense type index, assigned in registration order */
+	Map<Class<? extends IEncodeable>, Integer> classToIndex = new ConcurrentHashMap<Class<? extends IEncodeable>, Integer>();
+	/** Numeric namespace 0 binary encoding id -&gt; type index + 1, 0 if unassigned */
+	volatile int[] binaryIdToIndex = new int[0];
+
+	/** Largest namespace 0 binary encoding id that is mapped to the dense table */
+	static final int MAX_DENSE_BINARY_ID = 0xFFFF;
 
 	/**
 	 * <p>Constructor for SerializerComposition.</p>
@@ -51,16 +67,19 @@ public class SerializerComposition implements IEncodeableSerializer {
 	 *
 	 * @param serializer a {@link org.opcfoundation.ua.encoding.binary.IEncodeableSerializer} object.
 	 */
-	public void addSerializer(IEncodeableSerializer serializer)
+	public synchronized void addSerializer(IEncodeableSerializer serializer)
 	{
 		List<Class<? extends IEncodeable>> classes = new ArrayList<Class<? extends IEncodeable>>();
 		serializer.getSupportedClasses(classes);
 		for (Class<? extends IEncodeable> clazz : classes)
 		{
 			ExpandedNodeId binId = serializer.getNodeId(clazz, EncodeType.Binary);
-			classToBinId.put(clazz, binId);
+			if (binId!=null)
+				classToBinId.put(clazz, binId);
+			assignTypeIndex(clazz, binId);
 			ExpandedNodeId xmlId = serializer.getNodeId(clazz, EncodeType.Xml);
-			classToXmlId.put(clazz, xmlId);
+			if (xmlId!=null)
+				classToXmlId.put(clazz, xmlId);
 			serializers.put(clazz, serializer);
 			if (binId!=null) 
 				idToClass.put(binId, clazz);			
@@ -82,9 +101,127 @@ public class SerializerComposition implements IEncodeableSerializer {
 		}
 	}
 
+	private void assignTypeIndex(Class<? extends IEncodeable> clazz, ExpandedNodeId binId)
+	{
+		Integer index = classToIndex.get(clazz);
+		if (index==null) {
+			index = classToIndex.size();
+			classToIndex.put(clazz, index);
+		}
+		int id = toDenseBinaryId(binId);
+		if (id<0) return;
+		int[] table = binaryIdToIndex;
+		if (id>=table.length)
+			table = Arrays.copyOf(table, Math.max(id+1, table.length*2));
+		table[id] = index+1;
+		binaryIdToIndex = table;
+	}
+
+	/**
+	 * Add the serializer of a class that has not been added. Called when a
+	 * class is looked up that is not known. Subclasses that add their
+	 * serializers lazily override this and the other addSerializerOf methods.
+	 *
+	 * @param clazz encodeable class
+	 * @return true if a serializer was added
+	 */
+	protected boolean addSerializerOf(Class<? extends IEncodeable> clazz)
+	{
+		return false;
+	}
+
+	/**
+	 * Add the serializer of a type, binary encoding or XML encoding id that
+	 * has not been added. Called when an id is looked up that is not known.
+	 *
+	 * @param id node id
+	 * @return true if a serializer was added
+	 */
+	protected boolean addSerializerOf(ExpandedNodeId id)
+	{
+		return false;
+	}
+
+	/**
+	 * Add all serializers that have not been added yet. Called before the
+	 * supported classes and ids are listed.
+	 */
+	protected void addAllSerializers()
+	{
+	}
+
+	private IEncodeableSerializer getSerializer(Class<? extends IEncodeable> clazz)
+	{
+		if (clazz==null) return null;
+		IEncodeableSerializer s = serializers.get(clazz);
+		if (s==null && addSerializerOf(clazz))
+			s = serializers.get(clazz);
+		return s;
+	}
+
+	private static int toDenseBinaryId(ExpandedNodeId id)
+	{
+		if (id==null || id.getNamespaceIndex()!=0 || id.getIdType()!=IdType.Numeric || !id.isLocal()) return -1;
+		// ExpandedNodeIds constructed with a namespace uri also have index 0
+		String uri = id.getNamespaceUri();
+		if (uri!=null && !uri.equals(NamespaceTable.OPCUA_NAMESPACE)) return -1;
+		long value = ((UnsignedInteger) id.getValue()).getValue();
+		return value > MAX_DENSE_BINARY_ID ? -1 : (int) value;
+	}
+
+	/**
+	 * Get the dense type index of a registered class. Indices are assigned in
+	 * registration order, starting from 0, and can be used to index arrays
+	 * of per-type data, see {@link #getTypeCount()}.
+	 *
+	 * @param clazz encodeable class
+	 * @return type index or -1 if the class is not registered
+	 */
+	public int getTypeIndex(Class<? extends IEncodeable> clazz)
+	{
+		if (clazz==null) return -1;
+		Integer index = classToIndex.get(clazz);
+		if (index==null && addSerializerOf(clazz))
+			index = classToIndex.get(clazz);
+		return index==null ? -1 : index;
+	}
+
+	/**
+	 * Get the dense type index of a registered class by its binary encoding id.
+	 * Namespace 0 numeric ids, i.e. all standard types, are resolved with
+	 * a single array load.
+	 *
+	 * @param binaryEncodeId binary encoding id, e.g. {@code ReadRequest.BINARY}
+	 * @return type index or -1 if no class is registered with the id
+	 */
+	public int getTypeIndex(ExpandedNodeId binaryEncodeId)
+	{
+		int id = toDenseBinaryId(binaryEncodeId);
+		if (id>=0) {
+			int[] table = binaryIdToIndex;
+			int index = id<table.length ? table[id]-1 : -1;
+			if (index>=0 || !addSerializerOf(binaryEncodeId)) return index;
+			table = binaryIdToIndex;
+			return id<table.length ? table[id]-1 : -1;
+		}
+		Class<? extends IEncodeable> clazz = binaryEncodeId==null ? null : getClass(binaryEncodeId);
+		return clazz==null ? -1 : getTypeIndex(clazz);
+	}
+
+	/**
+	 * Get the number of type indices assigned. The count grows if serializers
+	 * are added later.
+	 *
+	 * @return type count
+	 */
+	public int getTypeCount()
+	{
+		return classToIndex.size();
+	}
+
 	/** {@inheritDoc} */
 	public void putEncodeable(Class<? extends IEncodeable> clazz, IEncodeable encodeable, IEncoder encoder) throws EncodingException {
-		IEncodeableSerializer s = serializers.get(clazz);
+		IEncodeableSerializer s = getSerializer(clazz);
 		if (s==null) throw new EncodingException("Cannot encode "+clazz);
 		s.putEncodeable(clazz, encodeable, encoder);
 	}
@@ -92,25 +229,32 @@ public class SerializerComposition implements IEncodeableSerializer {
 	/** {@inheritDoc} */
 	public void calcEncodeable(Class<? extends IEncodeable> clazz, IEncodeable encodeable, IEncoder calculator)
 	throws EncodingException {
-		IEncodeableSerializer s = serializers.get(clazz);
+		IEncodeableSerializer s = getSerializer(clazz);
 		if (s==null) throw new EncodingException("Cannot encode "+clazz);
 		s.calcEncodeable(clazz, encodeable, calculator);		
 	}
 
 	/** {@inheritDoc} */
 	public IEncodeable getEncodeable(Class<? extends IEncodeable> clazz, IDecoder decoder) throws DecodingException {
-		IEncodeableSerializer s = serializers.get(clazz);
+		IEncodeableSerializer s = getSerializer(clazz);
 		if (s==null) throw new DecodingException("Cannot decode "+clazz);
 		return s.getEncodeable(clazz, decoder);
 	}
 
 	/** {@inheritDoc} */
 	public Class<? extends IEncodeable> getClass(ExpandedNodeId id) {
-		return idToClass.get(id);
+		if (id==null) return null;
+		Class<? extends IEncodeable> clazz = idToClass.get(id);
+		if (clazz==null && addSerializerOf(id))
+			clazz = idToClass.get(id);
+		return clazz;
 	}
 	
 	/** {@inheritDoc} */
 	public ExpandedNodeId getNodeId(Class<? extends IEncodeable> clazz, EncodeType type) {
+		if (clazz==null) return null;
+		if (!serializers.containsKey(clazz))
+			addSerializerOf(clazz);
 		if (type == EncodeType.Binary)
 			return classToBinId.get(clazz);
 		if (type == EncodeType.Xml)
@@ -120,11 +264,13 @@ public class SerializerComposition implements IEncodeableSerializer {
 
 	/** {@inheritDoc} */
 	public void getSupportedClasses(Collection<Class<? extends IEncodeable>> result) {
+		addAllSerializers();
 		result.addAll(classes);
 	}
 
 	/** {@inheritDoc} */
 	public void getSupportedNodeIds(Collection<ExpandedNodeId> result) {
+		addAllSerializers();
 		result.addAll(nodeIds);
 	}
 
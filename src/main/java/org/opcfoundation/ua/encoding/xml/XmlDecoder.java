@@ -13,8 +13,6 @@ package org.opcfoundation.ua.encoding.xml;
 
 import java.io.StringReader;
 import java.lang.reflect.Array;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.List;
@@ -51,6 +49,8 @@ import org.opcfoundation.ua.encoding.DecodingException;
 import org.opcfoundation.ua.encoding.EncoderContext;
 import org.opcfoundation.ua.encoding.IDecoder;
 import org.opcfoundation.ua.encoding.IEncodeable;
+import org.opcfoundation.ua.encoding.utils.EnumerationValues;
+import org.opcfoundation.ua.encoding.utils.FieldCodecs;
 import org.opcfoundation.ua.utils.CryptoUtil;
 import org.opcfoundation.ua.utils.MultiDimensionArrayUtils;
 import org.opcfoundation.ua.utils.XMLFactoryCache;
@@ -103,7 +103,11 @@ public class XmlDecoder implements IDecoder {
 			throw new NullPointerException("context");
 		initialize();
 		try {
-			this.reader  = XMLFactoryCache.getXMLInputFactory().createXMLStreamReader(new StringReader(element.toString()));
+			// Stream the text of the document, without a round trip through a DOM
+			String document = element.getValue();
+			if (document.startsWith(XmlElement.UTF8_BOM))
+				document = document.substring(XmlElement.UTF8_BOM.length());
+			this.reader  = XMLFactoryCache.getXMLInputFactory().createXMLStreamReader(new StringReader(document));
 		} catch (XMLStreamException e) {
 			throw new DecodingException(e);
 		}
@@ -170,184 +174,9 @@ public class XmlDecoder implements IDecoder {
 	}
 
 	/** {@inheritDoc} */
-	@SuppressWarnings("unchecked")
 	@Override
 	public <T> T get(String fieldName, Class<T> clazz) throws DecodingException {
-		if (clazz.equals(Boolean.class)) {
-			return (T) getBoolean(fieldName);
-		}
-		if (clazz.equals(Byte.class)) {
-			return (T) getSByte(fieldName);
-		}
-		if (clazz.equals(UnsignedByte.class)) {
-			return (T) getByte(fieldName);
-		}
-		if (clazz.equals(Short.class)) {
-			return (T) getInt16(fieldName);
-		}
-		if (clazz.equals(UnsignedShort.class)) {
-			return (T) getUInt16(fieldName);
-		}
-		if (clazz.equals(Integer.class)) {
-			return (T) getInt32(fieldName);
-		}
-		if (clazz.equals(UnsignedInteger.class)) {
-			return (T) getUInt32(fieldName);
-		}
-		if (clazz.equals(Long.class)) {
-			return (T) getInt64(fieldName);
-		}
-		if (clazz.equals(UnsignedLong.class)) {
-			return (T) getUInt64(fieldName);
-		}
-		if (clazz.equals(Float.class)) {
-			return (T) getFloat(fieldName);
-		}
-		if (clazz.equals(Double.class)) {
-			return (T) getDouble(fieldName);
-		}
-		if (clazz.equals(String.class)) {
-			return (T) getString(fieldName);
-		}
-		if (clazz.equals(DateTime.class)) {
-			return (T) getDateTime(fieldName);
-		}
-		if (clazz.equals(UUID.class)) {
-			return (T) getGuid(fieldName);
-		}
-		if (clazz.equals(ByteString.class)) {
-			return (T) getByteString(fieldName);
-		}
-		if (clazz.equals(XmlElement.class)) {
-			return (T) getXmlElement(fieldName);
-		}
-		if (clazz.equals(NodeId.class)) {
-			return (T) getNodeId(fieldName);
-		}
-		if (clazz.equals(ExpandedNodeId.class)) {
-			return (T) getExpandedNodeId(fieldName);
-		}
-		if (clazz.equals(StatusCode.class)) {
-			return (T) getStatusCode(fieldName);
-		}
-		if (clazz.equals(QualifiedName.class)) {
-			return (T) getQualifiedName(fieldName);
-		}
-		if (clazz.equals(LocalizedText.class)) {
-			return (T) getLocalizedText(fieldName);
-		}
-		if (clazz.equals(ExtensionObject.class)) {
-			return (T) getExtensionObject(fieldName);
-		}
-		if (Structure.class.isAssignableFrom(clazz)) {
-			return (T) getEncodeable(fieldName, (Class<? extends IEncodeable>) clazz);
-		}
-		if (clazz.equals(DataValue.class)) {
-			return (T) getDataValue(fieldName);
-		}
-		if (clazz.equals(Variant.class)) {
-			return (T) getVariant(fieldName);
-		}
-		if (clazz.equals(Object.class)) {
-			return (T) getVariant(fieldName).getValue();
-		}
-		if (clazz.equals(DiagnosticInfo.class)) {
-			return (T) getDiagnosticInfo(fieldName);
-		}
-		if (clazz.equals(Boolean[].class)) {
-			return (T) getBooleanArray(fieldName);
-		}
-		if (clazz.equals(Byte[].class)) {
-			return (T) getSByteArray(fieldName);
-		}
-		if (clazz.equals(UnsignedByte[].class)) {
-			return (T) getByteArray(fieldName);
-		}
-		if (clazz.equals(Short[].class)) {
-			return (T) getInt16Array(fieldName);
-		}
-		if (clazz.equals(UnsignedShort[].class)) {
-			return (T) getUInt16Array(fieldName);
-		}
-		if (clazz.equals(Integer[].class)) {
-			return (T) getInt32Array(fieldName);
-		}
-		if (clazz.equals(UnsignedInteger[].class)) {
-			return (T) getUInt32Array(fieldName);
-		}
-		if (clazz.equals(Long[].class)) {
-			return (T) getInt64Array(fieldName);
-		}
-		if (clazz.equals(UnsignedLong[].class)) {
-			return (T) getUInt64Array(fieldName);
-		}
-		if (clazz.equals(Float[].class)) {
-			return (T) getFloatArray(fieldName);
-		}
-		if (clazz.equals(Double[].class)) {
-			return (T) getDoubleArray(fieldName);
-		}
-		if (clazz.equals(String[].class)) {
-			return (T) getStringArray(fieldName);
-		}
-		if (clazz.equals(DateTime[].class)) {
-			return (T) getDateTimeArray(fieldName);
-		}
-		if (clazz.equals(UUID[].class)) {
-			return (T) getGuidArray(fieldName);
-		}
-		if (clazz.equals(ByteString[].class)) {
-			return (T) getByteStringArray(fieldName);
-		}
-		if (clazz.equals(XmlElement[].class)) {
-			return (T) getXmlElementArray(fieldName);
-		}
-		if (clazz.equals(NodeId[].class)) {
-			return (T) getNodeIdArray(fieldName);
-		}
-		if (clazz.equals(ExpandedNodeId[].class)) {
-			return (T) getExpandedNodeIdArray(fieldName);
-		}
-		if (clazz.equals(StatusCode[].class)) {
-			return (T) getStatusCodeArray(fieldName);
-		}
-		if (clazz.equals(QualifiedName[].class)) {
-			return (T) getQualifiedNameArray(fieldName);
-		}
-		if (clazz.equals(LocalizedText[].class)) {
-			return (T) getLocalizedTextArray(fieldName);
-		}
-		if (clazz.equals(ExtensionObject[].class)) {
-			return (T) getExtensionObjectArray(fieldName);
-		}
-		if (clazz.getComponentType() != null && Structure.class.isAssignableFrom(clazz.getComponentType())) {
-			final Class<? extends Structure> param = (Class<? extends Structure>) clazz.getComponentType();
-			Structure[] r = getEncodeableArray(fieldName, param);
-			return (T) r;
-		}
-		if (clazz.equals(DataValue[].class)) {
-			return (T) getDataValueArray(fieldName);
-		}
-		if (clazz.equals(Variant[].class)) {
-			return (T) getVariantArray(fieldName);
-		}
-		if (clazz.equals(Object[].class)) {
-			Variant[] varArray = getVariantArray(fieldName);
-			Object[] objArray = new Object[varArray.length];
-			for (int i = 0; i < varArray.length; i++)
-				objArray[i] = varArray[i].getValue();
-			return (T) objArray;
-		}
-		if (clazz.equals(DiagnosticInfo[].class)) {
-			return (T) getDiagnosticInfoArray(fieldName);
-		}
-		if (Enumeration.class.isAssignableFrom(clazz)) {
-			return (T) getEnumeration(fieldName, (Class<? extends Enumeration>) clazz);
-		}
-		if (clazz.getComponentType() != null && Enumeration.class.isAssignableFrom(clazz.getComponentType())) {
-			return (T) getEnumerationArray(fieldName, (Class<? extends Enumeration>) clazz);
-		}
-		throw new DecodingException("Cannot decode " + clazz);
+		return FieldCodecs.get(this, fieldName, clazz);
 	}
 
 	/** {@inheritDoc} */
@@ -592,9 +421,12 @@ public class XmlDecoder implements IDecoder {
 
 			value.setValue(getVariant("Value"));
 			value.setStatusCode(getStatusCode("StatusCode"));
-			value.setSourceTimestamp(getDateTime("SourceTimestamp"));
+			// Timestamps that are omitted are null
+			if (peek("SourceTimestamp"))
+				value.setSourceTimestamp(getDateTime("SourceTimestamp"));
 			value.setSourcePicoseconds(getUInt16("SourcePicoseconds"));
-			value.setServerTimestamp(getDateTime("ServerTimestamp"));
+			if (peek("ServerTimestamp"))
+				value.setServerTimestamp(getDateTime("ServerTimestamp"));
 			value.setServerPicoseconds(getUInt16("ServerPicoseconds"));
 
 			////popNamespace();
@@ -822,12 +654,12 @@ public class XmlDecoder implements IDecoder {
 
 				if (xml.length() == 3)
 				{
-					if (xml == "NaN")
+					if ("NaN".equals(xml))
 					{
 						value = Double.NaN;
 					}
 
-					if (xml == "INF")
+					if ("INF".equals(xml))
 					{
 						value = Double.POSITIVE_INFINITY;
 					}
@@ -835,7 +667,7 @@ public class XmlDecoder implements IDecoder {
 
 				if (xml.length() == 4)
 				{
-					if (xml == "-INF")
+					if ("-INF".equals(xml))
 					{
 						value = Double.NEGATIVE_INFINITY;
 					}
@@ -1037,7 +869,6 @@ public class XmlDecoder implements IDecoder {
 	/// </summary>
 	/** {@inheritDoc} */
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T extends Enumeration> T getEnumeration(String fieldName, Class<T> enumType)
 			throws DecodingException
 	{
@@ -1059,41 +890,12 @@ public class XmlDecoder implements IDecoder {
 				if (index != -1)
 				{
 					int numericValue = Integer.parseInt(xml.substring(index + 1));
-					Method m;
-					try {
-						m = enumType.getMethod("valueOf", int.class);
-						value = (T) m.invoke(null, numericValue);
-					} catch (SecurityException e) {
-						throw new DecodingException(e);
-					} catch (NoSuchMethodException e) {
-						throw new DecodingException(e);
-					} catch (IllegalArgumentException e) {
-						throw new DecodingException(e);
-					} catch (IllegalAccessException e) {
-						throw new DecodingException(e);
-					} catch (InvocationTargetException e) {
-						throw new DecodingException(e);
-					}
-
+					value = EnumerationValues.valueOf(enumType, numericValue);
 				}
 				else
 				{
 					int numericValue = Integer.parseInt(xml);
-					Method m;
-					try {
-						m = enumType.getMethod("valueOf", int.class);
-						value = (T) m.invoke(null, numericValue);
-					} catch (SecurityException e) {
-						throw new DecodingException(e);
-					} catch (NoSuchMethodException e) {
-						throw new DecodingException(e);
-					} catch (IllegalArgumentException e) {
-						throw new DecodingException(e);
-					} catch (IllegalAccessException e) {
-						throw new DecodingException(e);
-					} catch (InvocationTargetException e) {
-						throw new DecodingException(e);
-					}
+					value = EnumerationValues.valueOf(enumType, numericValue);
 
 					//					value = ((Enum)enumType). //parse(enumType, xml, false);
 				}
@@ -1116,13 +918,13 @@ public class XmlDecoder implements IDecoder {
 	{
 		if (enumerationClass == null) throw new IllegalArgumentException("enumerationClass");
 
-		List<Enumeration> enums = new ArrayList<Enumeration>();
+		List<T> enums = new ArrayList<T>();
 
 		if (beginFieldSafe(fieldName, true))
 		{
-			String name = enumerationClass.toString();
+			String name = enumerationClass.getSimpleName();
 
-			while (moveToElement(name));
+			while (moveToElement(name))
 			{
 				enums.add(getEnumeration(name, enumerationClass));
 			}
@@ -1136,7 +938,7 @@ public class XmlDecoder implements IDecoder {
 			endField(fieldName);
 		}
 
-		return (T[]) enums.toArray(new Enumeration[0]);
+		return enums.toArray((T[]) Array.newInstance(enumerationClass, enums.size()));
 	}
 
 	/// <summary>
@@ -1328,7 +1130,7 @@ public class XmlDecoder implements IDecoder {
 		moveToTag();
 
 		// check for binary encoded body.
-		if (reader.getLocalName() == "ByteString" && reader.getNamespaceURI() == OPC_UA_XSD_NAMESPACE)
+		if ("ByteString".equals(reader.getLocalName()) && OPC_UA_XSD_NAMESPACE.equals(reader.getNamespaceURI()))
 		{
 			//pushNamespace(OPC_UA_XSD_NAMESPACE);
 			ByteString bytes = getByteString("ByteString");
@@ -1390,12 +1192,12 @@ public class XmlDecoder implements IDecoder {
 
 				if (xml.length() == 3)
 				{
-					if (xml == "NaN")
+					if ("NaN".equals(xml))
 					{
 						value = Float.NaN;
 					}
 
-					if (xml == "INF")
+					if ("INF".equals(xml))
 					{
 						value = Float.POSITIVE_INFINITY;
 					}
@@ -1403,7 +1205,7 @@ public class XmlDecoder implements IDecoder {
 
 				if (xml.length() == 4)
 				{
-					if (xml == "-INF")
+					if ("-INF".equals(xml))
 					{
 						value = Float.NEGATIVE_INFINITY;
 					}
@@ -1794,13 +1596,7 @@ public class XmlDecoder implements IDecoder {
 			int[] dims = getInt32Array_("Dimensions");
 
 			if (beginFieldSafe("Elements", true)) {
-				try {
-					reader.next();
-				} catch (XMLStreamException e) {
-					logger.error(e.getMessage());
-				}
-
-				while (reader.getEventType() != XMLStreamConstants.END_ELEMENT) {
+				while (moveToElement(null)) {
 					Object value = null;
 					String typeName = reader.getLocalName();
 					if (typeName.equals("Boolean")) {
@@ -1859,16 +1655,11 @@ public class XmlDecoder implements IDecoder {
 						value = getDataValue(typeName);
 					} else if (typeName.equals("Variant")) {
 						value = getVariant(typeName);
+					} else {
+						throw new DecodingException(StatusCodes.Bad_DecodingError, "Element '" + typeName + "' is not allowed in a Matrix.");
 					}
 
 					list.add(value);
-
-					try {
-						reader.next();
-					} catch (XMLStreamException e) {
-						logger.error(e.getMessage());
-					}
-
 				}
 
 				endField("Elements");
@@ -2700,7 +2491,9 @@ public class XmlDecoder implements IDecoder {
 	{
 		if (beginFieldSafe(fieldName, true))
 		{
-			return new XmlElement(getInnerXml(""));
+			XmlElement value = new XmlElement(getInnerXml(""));
+			endField(fieldName);
+			return value;
 		}
 
 		return null;
@@ -3059,7 +2852,7 @@ public class XmlDecoder implements IDecoder {
 	}
 
 	private String getInnerXml(String fieldName) throws DecodingException {
-		String innerXml=""; // TODO refine and fix implementation
+		StringBuilder innerXml = new StringBuilder();
 		boolean isGetme=true;
 		int level = 0;
 		int eventType;
@@ -3072,24 +2865,30 @@ public class XmlDecoder implements IDecoder {
 						isGetme=true;
 					}
 					if(isGetme){
-						innerXml+="<"+reader.getLocalName()+">";
+						innerXml.append('<').append(reader.getLocalName());
+						for (int i = 0; i < reader.getAttributeCount(); i++) {
+							innerXml.append(' ').append(reader.getAttributeLocalName(i)).append("=\"");
+							appendEscaped(innerXml, reader.getAttributeValue(i));
+							innerXml.append('"');
+						}
+						innerXml.append('>');
 					}
 					level++;
 					break;
 				case XMLStreamConstants.CHARACTERS:
 					if(isGetme){
-						innerXml+=reader.getText();
+						appendEscaped(innerXml, reader.getText());
 					}
 					break;
 				case XMLStreamConstants.END_ELEMENT:
 					if (--level < 0)
-						return innerXml;
+						return innerXml.toString();
 					if(reader.getLocalName().equals(fieldName)){
-						innerXml+="</"+reader.getLocalName()+">";
+						innerXml.append("</").append(reader.getLocalName()).append('>');
 						isGetme=false;
 					}
 					if(isGetme && !reader.getLocalName().equals(fieldName)){
-						innerXml+="</"+reader.getLocalName()+">";
+						innerXml.append("</").append(reader.getLocalName()).append('>');
 					}
 					break;
 				default:
@@ -3100,7 +2899,20 @@ public class XmlDecoder implements IDecoder {
 		} catch (XMLStreamException e) {
 			throw new DecodingException(e);
 		}
-		return innerXml;
+		return innerXml.toString();
+	}
+
+	private static void appendEscaped(StringBuilder sb, String text) {
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+			case '<': sb.append("&lt;"); break;
+			case '>': sb.append("&gt;"); break;
+			case '&': sb.append("&amp;"); break;
+			case '"': sb.append("&quot;"); break;
+			default: sb.append(c);
+			}
+		}
 	}
 
 	/// <summary>
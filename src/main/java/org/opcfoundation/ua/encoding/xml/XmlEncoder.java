@@ -12,12 +12,1283 @@
 
 package org.opcfoundation.ua.encoding.xml;
 
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.Array;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.GregorianCalendar;
+import java.util.Iterator;
+import java.util.UUID;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.opcfoundation.ua.builtintypes.BuiltinsMap;
+import org.opcfoundation.ua.builtintypes.ByteString;
+import org.opcfoundation.ua.builtintypes.DataValue;
+import org.opcfoundation.ua.builtintypes.DateTime;
+import org.opcfoundation.ua.builtintypes.DiagnosticInfo;
+import org.opcfoundation.ua.builtintypes.Enumeration;
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
+import org.opcfoundation.ua.builtintypes.ExtensionObject;
+import org.opcfoundation.ua.builtintypes.LocalizedText;
+import org.opcfoundation.ua.builtintypes.NDArray;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.QualifiedName;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.builtintypes.Structure;
+import org.opcfoundation.ua.builtintypes.UnsignedByte;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.builtintypes.UnsignedLong;
+import org.opcfoundation.ua.builtintypes.UnsignedShort;
+import org.opcfoundation.ua.builtintypes.Variant;
+import org.opcfoundation.ua.builtintypes.XmlElement;
+import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.encoding.EncodeType;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.EncodingException;
+import org.opcfoundation.ua.encoding.IEncodeable;
+import org.opcfoundation.ua.encoding.IEncoder;
+import org.opcfoundation.ua.encoding.binary.EncoderUtils;
+import org.opcfoundation.ua.utils.CryptoUtil;
+import org.opcfoundation.ua.utils.MultiDimensionArrayUtils;
+import org.opcfoundation.ua.utils.XMLFactoryCache;
 
 /**
- * TODO Implement this
+ * Encodes to the OPC UA XML encoding (Part 6, 5.3), in the form that
+ * {@link XmlDecoder} reads.
+ * <p>
+ * Each field is an element named by the field, and the elements of an array
+ * field are named by their type, for example ListOfInt32 contains Int32
+ * elements and an array of a Structure contains elements named by the simple
+ * name of its class. The first element that is written declares the
+ * namespace of the OPC UA types.
+ * <p>
+ * Fields with null values are omitted, null array elements are written as
+ * empty elements. Values without a field name are written without an
+ * enclosing element.
  */
-public class XmlEncoder /*implements IEncoder*/ {
+public class XmlEncoder implements IEncoder {
+
+	static final String OPC_UA_XSD_NAMESPACE = "http://opcfoundation.org/UA/2008/02/Types.xsd";
+
+	/** Element names of the builtin types, by builtin type id */
+	private static final String[] TYPE_NAMES = {
+		null, "Boolean", "SByte", "Byte", "Int16", "UInt16", "Int32", "UInt32", "Int64", "UInt64",
+		"Float", "Double", "String", "DateTime", "Guid", "ByteString", "XmlElement", "NodeId",
+		"ExpandedNodeId", "StatusCode", "QualifiedName", "LocalizedText", "ExtensionObject",
+		"DataValue", "Variant", "DiagnosticInfo"
+	};
+
+	private final XMLStreamWriter writer;
+	/** The output, if the encoder created the writer */
+	private final StringWriter out;
+	private EncoderContext ctx = EncoderContext.getDefaultInstance();
+	private int depth;
+
+	/**
+	 * Create an encoder that writes to a string, see {@link #toXmlElement()}.
+	 *
+	 * @throws org.opcfoundation.ua.encoding.EncodingException if the writer cannot be created
+	 */
+	public XmlEncoder() throws EncodingException
+	{
+		this.out = new StringWriter();
+		try {
+			this.writer = XMLFactoryCache.getXMLOutputFactory().createXMLStreamWriter(out);
+		} catch (XMLStreamException e) {
+			throw new EncodingException(e);
+		}
+	}
+
+	/**
+	 * Create an encoder that writes to a stream writer.
+	 *
+	 * @param writer a {@link javax.xml.stream.XMLStreamWriter} object.
+	 */
+	public XmlEncoder(XMLStreamWriter writer)
+	{
+		if (writer == null)
+			throw new IllegalArgumentException("writer");
+		this.out = null;
+		this.writer = writer;
+	}
+
+	/**
+	 * <p>getEncoderContext.</p>
+	 *
+	 * @return a {@link org.opcfoundation.ua.encoding.EncoderContext} object.
+	 */
+	public EncoderContext getEncoderContext() {
+		return ctx;
+	}
+
+	/**
+	 * <p>setEncoderContext.</p>
+	 *
+	 * @param ctx a {@link org.opcfoundation.ua.encoding.EncoderContext} object.
+	 */
+	public void setEncoderContext(EncoderContext ctx) {
+		this.ctx = ctx;
+	}
+
+	/**
+	 * Flush the output to the writer.
+	 *
+	 * @throws org.opcfoundation.ua.encoding.EncodingException if any.
+	 */
+	public void flush() throws EncodingException
+	{
+		try {
+			writer.flush();
+		} catch (XMLStreamException e) {
+			throw new EncodingException(e);
+		}
+	}
+
+	/**
+	 * Get the output of an encoder that writes to a string.
+	 *
+	 * @return the elements written so far
+	 * @throws org.opcfoundation.ua.encoding.EncodingException if any.
+	 */
+	public XmlElement toXmlElement() throws EncodingException
+	{
+		if (out == null)
+			throw new IllegalStateException("The encoder writes to an XMLStreamWriter");
+		flush();
+		return new XmlElement(out.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putBoolean(String fieldName, Boolean v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v ? "true" : "false");
+	}
+
+	/** {@inheritDoc} */
+	public void putBooleanArray(String fieldName, Boolean[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 1, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putBooleanArray(String fieldName, Collection<Boolean> v)
+	throws EncodingException
+	{
+		putBooleanArray(fieldName, v == null ? null : v.toArray(new Boolean[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putSByte(String fieldName, Byte v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putSByte(String fieldName, byte v)
+	throws EncodingException
+	{
+		putText(fieldName, Byte.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putSByte(String fieldName, int v)
+	throws EncodingException
+	{
+		putText(fieldName, Integer.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putSByteArray(String fieldName, Byte[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 2, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putSByteArray(String fieldName, Collection<Byte> v)
+	throws EncodingException
+	{
+		putSByteArray(fieldName, v == null ? null : v.toArray(new Byte[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putByte(String fieldName, UnsignedByte v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putByteArray(String fieldName, UnsignedByte[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 3, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putByteArray(String fieldName, Collection<UnsignedByte> v)
+	throws EncodingException
+	{
+		putByteArray(fieldName, v == null ? null : v.toArray(new UnsignedByte[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt16(String fieldName, Short v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putInt16(String fieldName, short v)
+	throws EncodingException
+	{
+		putText(fieldName, Short.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt16Array(String fieldName, Short[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 4, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putInt16Array(String fieldName, Collection<Short> v)
+	throws EncodingException
+	{
+		putInt16Array(fieldName, v == null ? null : v.toArray(new Short[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt16(String fieldName, UnsignedShort v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt16Array(String fieldName, UnsignedShort[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 5, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt16Array(String fieldName, Collection<UnsignedShort> v)
+	throws EncodingException
+	{
+		putUInt16Array(fieldName, v == null ? null : v.toArray(new UnsignedShort[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32(String fieldName, Integer v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32(String fieldName, int v)
+	throws EncodingException
+	{
+		putText(fieldName, Integer.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32Array(String fieldName, int[] v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		assertArrayLength(v.length);
+		begin(fieldName);
+		for (int i : v)
+			putInt32("Int32", i);
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32Array(String fieldName, Collection<Integer> v)
+	throws EncodingException
+	{
+		putInt32Array(fieldName, v == null ? null : v.toArray(new Integer[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt32Array(String fieldName, Integer[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 6, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt32(String fieldName, UnsignedInteger v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt32Array(String fieldName, UnsignedInteger[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 7, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt32Array(String fieldName, Collection<UnsignedInteger> v)
+	throws EncodingException
+	{
+		putUInt32Array(fieldName, v == null ? null : v.toArray(new UnsignedInteger[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt64(String fieldName, Long v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putInt64(String fieldName, long v)
+	throws EncodingException
+	{
+		putText(fieldName, Long.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putInt64Array(String fieldName, Long[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 8, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putInt64Array(String fieldName, Collection<Long> v)
+	throws EncodingException
+	{
+		putInt64Array(fieldName, v == null ? null : v.toArray(new Long[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt64(String fieldName, UnsignedLong v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt64Array(String fieldName, UnsignedLong[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 9, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putUInt64Array(String fieldName, Collection<UnsignedLong> v)
+	throws EncodingException
+	{
+		putUInt64Array(fieldName, v == null ? null : v.toArray(new UnsignedLong[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putFloat(String fieldName, Float v)
+	throws EncodingException
+	{
+		if (v != null)
+			putFloat(fieldName, v.floatValue());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Infinities and NaN are written as INF, -INF and NaN
+	 */
+	public void putFloat(String fieldName, float v)
+	throws EncodingException
+	{
+		putText(fieldName, Float.isInfinite(v) ? (v > 0 ? "INF" : "-INF") : Float.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putFloatArray(String fieldName, Float[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 10, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putFloatArray(String fieldName, Collection<Float> v)
+	throws EncodingException
+	{
+		putFloatArray(fieldName, v == null ? null : v.toArray(new Float[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putDouble(String fieldName, Double v)
+	throws EncodingException
+	{
+		if (v != null)
+			putDouble(fieldName, v.doubleValue());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Infinities and NaN are written as INF, -INF and NaN
+	 */
+	public void putDouble(String fieldName, double v)
+	throws EncodingException
+	{
+		putText(fieldName, Double.isInfinite(v) ? (v > 0 ? "INF" : "-INF") : Double.toString(v));
+	}
+
+	/** {@inheritDoc} */
+	public void putDoubleArray(String fieldName, Double[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 11, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putDoubleArray(String fieldName, Collection<Double> v)
+	throws EncodingException
+	{
+		putDoubleArray(fieldName, v == null ? null : v.toArray(new Double[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putString(String fieldName, String v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putStringArray(String fieldName, Collection<String> v)
+	throws EncodingException
+	{
+		putStringArray(fieldName, v == null ? null : v.toArray(new String[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putStringArray(String fieldName, String[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 12, v);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The time is written in UTC, with the fraction of the second in 100
+	 * nanosecond precision
+	 */
+	public void putDateTime(String fieldName, DateTime v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		GregorianCalendar c = v.getUtcCalendar();
+		StringBuilder sb = new StringBuilder(28);
+		sb.append(String.format("%04d-%02d-%02dT%02d:%02d:%02d",
+				c.get(Calendar.YEAR), c.get(Calendar.MONTH) + 1, c.get(Calendar.DAY_OF_MONTH),
+				c.get(Calendar.HOUR_OF_DAY), c.get(Calendar.MINUTE), c.get(Calendar.SECOND)));
+		long ticks = v.getValue() % 10000000;
+		if (ticks != 0) {
+			String fraction = String.format("%07d", ticks);
+			int end = fraction.length();
+			while (fraction.charAt(end - 1) == '0')
+				end--;
+			sb.append('.').append(fraction, 0, end);
+		}
+		sb.append('Z');
+		putText(fieldName, sb.toString());
+	}
+
+	/** {@inheritDoc} */
+	public void putDateTimeArray(String fieldName, DateTime[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 13, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putDateTimeArray(String fieldName, Collection<DateTime> v)
+	throws EncodingException
+	{
+		putDateTimeArray(fieldName, v == null ? null : v.toArray(new DateTime[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putGuid(String fieldName, UUID v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putText("String", v.toString());
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putGuidArray(String fieldName, UUID[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 14, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putGuidArray(String fieldName, Collection<UUID> v)
+	throws EncodingException
+	{
+		putGuidArray(fieldName, v == null ? null : v.toArray(new UUID[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putByteString(String fieldName, ByteString v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, CryptoUtil.base64Encode(v.getValue()));
+	}
+
+	/** {@inheritDoc} */
+	public void putByteStringArray(String fieldName, ByteString[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 15, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putByteStringArray(String fieldName, Collection<ByteString> v)
+	throws EncodingException
+	{
+		putByteStringArray(fieldName, v == null ? null : v.toArray(new ByteString[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The elements of the document are copied into the field
+	 */
+	public void putXmlElement(String fieldName, XmlElement v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putXml(v.getValue());
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putXmlElementArray(String fieldName, XmlElement[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 16, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putXmlElementArray(String fieldName, Collection<XmlElement> v)
+	throws EncodingException
+	{
+		putXmlElementArray(fieldName, v == null ? null : v.toArray(new XmlElement[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putNodeId(String fieldName, NodeId v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putText("Identifier", v.toString());
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putNodeIdArray(String fieldName, NodeId[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 17, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putNodeIdArray(String fieldName, Collection<NodeId> v)
+	throws EncodingException
+	{
+		putNodeIdArray(fieldName, v == null ? null : v.toArray(new NodeId[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putExpandedNodeId(String fieldName, ExpandedNodeId v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putText("Identifier", v.toString());
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putExpandedNodeIdArray(String fieldName, ExpandedNodeId[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 18, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putExpandedNodeIdArray(String fieldName, Collection<ExpandedNodeId> v)
+	throws EncodingException
+	{
+		putExpandedNodeIdArray(fieldName, v == null ? null : v.toArray(new ExpandedNodeId[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putStatusCode(String fieldName, StatusCode v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putUInt32("Code", v.getValue());
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putStatusCodeArray(String fieldName, StatusCode[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 19, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putStatusCodeArray(String fieldName, Collection<StatusCode> v)
+	throws EncodingException
+	{
+		putStatusCodeArray(fieldName, v == null ? null : v.toArray(new StatusCode[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putQualifiedName(String fieldName, QualifiedName v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putInt32("NamespaceIndex", v.getNamespaceIndex());
+		putString("Name", v.getName());
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putQualifiedNameArray(String fieldName, QualifiedName[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 20, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putQualifiedNameArray(String fieldName, Collection<QualifiedName> v)
+	throws EncodingException
+	{
+		putQualifiedNameArray(fieldName, v == null ? null : v.toArray(new QualifiedName[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putLocalizedText(String fieldName, LocalizedText v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putString("Locale", v.getLocaleId());
+		putString("Text", v.getText());
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putLocalizedTextArray(String fieldName, LocalizedText[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 21, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putLocalizedTextArray(String fieldName, Collection<LocalizedText> v)
+	throws EncodingException
+	{
+		putLocalizedTextArray(fieldName, v == null ? null : v.toArray(new LocalizedText[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Encodes the structure as an ExtensionObject with an XML body
+	 */
+	public void putStructure(String fieldName, Structure v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putNodeId("TypeId", ctx.toNodeId(v.getXmlEncodeId()));
+		begin("Body");
+		putEncodeable(v.getClass().getSimpleName(), v.getClass(), v);
+		end("Body");
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putStructureArray(String fieldName, Structure[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 22, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putStructureArray(String fieldName, Collection<Structure> v)
+	throws EncodingException
+	{
+		putStructureArray(fieldName, v == null ? null : v.toArray(new Structure[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * A binary body is written as a ByteString element in the Body
+	 */
+	public void putExtensionObject(String fieldName, ExtensionObject v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		if (!v.isEncoded()) {
+			putStructure(fieldName, (Structure) v.getObject());
+			return;
+		}
+		Object o = v.getObject();
+		begin(fieldName);
+		putNodeId("TypeId", ctx.toNodeId(v.getTypeId()));
+		if (o == null) {
+			// Type only
+		} else if (v.getEncodeType() == EncodeType.Binary) {
+			begin("Body");
+			putText("ByteString", CryptoUtil.base64Encode((byte[]) o));
+			end("Body");
+		} else if (v.getEncodeType() == EncodeType.Xml) {
+			putXmlElement("Body", (XmlElement) o);
+		} else {
+			throw new EncodingException("Unexpected object "+v.getEncodeType());
+		}
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putExtensionObjectArray(String fieldName, ExtensionObject[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 22, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putExtensionObjectArray(String fieldName, Collection<ExtensionObject> v)
+	throws EncodingException
+	{
+		putExtensionObjectArray(fieldName, v == null ? null : v.toArray(new ExtensionObject[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putDataValue(String fieldName, DataValue v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putVariant("Value", v.getValue());
+		putStatusCode("StatusCode", v.getStatusCode());
+		putDateTime("SourceTimestamp", v.getSourceTimestamp());
+		putUInt16("SourcePicoseconds", v.getSourcePicoseconds());
+		putDateTime("ServerTimestamp", v.getServerTimestamp());
+		putUInt16("ServerPicoseconds", v.getServerPicoseconds());
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putDataValueArray(String fieldName, DataValue[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 23, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putDataValueArray(String fieldName, Collection<DataValue> v)
+	throws EncodingException
+	{
+		putDataValueArray(fieldName, v == null ? null : v.toArray(new DataValue[v.size()]));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The Value element of the variant contains an element named by the
+	 * type, ListOf and the type for arrays, or a Matrix of Dimensions and
+	 * Elements for multi-dimension arrays.
+	 */
+	public void putVariant(String fieldName, Variant v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		Object o = v.getValue();
+		begin(fieldName);
+		if (o != null) {
+			Integer builtinType;
+			int[] dims = null;
+			if (o instanceof NDArray) {
+				NDArray a = (NDArray) o;
+				builtinType = a.getBuiltinType();
+				dims = a.getDimensions();
+				o = a.toArray();
+			} else {
+				Class<?> compositeClass = v.getCompositeClass();
+				if (Structure.class.isAssignableFrom(compositeClass))
+					builtinType = 22;
+				else
+					builtinType = BuiltinsMap.ID_MAP.get(compositeClass);
+				if (v.isArray())
+					dims = v.getArrayDimensions();
+			}
+			if (builtinType == null)
+				throw new EncodingException("Cannot encode "+o);
+
+			begin("Value");
+			if (dims == null)
+				putScalar(TYPE_NAMES[builtinType], builtinType, o);
+			else if (dims.length == 1)
+				putArray("ListOf"+TYPE_NAMES[builtinType], builtinType, o);
+			else {
+				begin("Matrix");
+				putInt32Array("Dimensions", dims);
+				begin("Elements");
+				try {
+					Iterator<Object> i = MultiDimensionArrayUtils.arrayIterator(o, dims);
+					while (i.hasNext())
+						putScalar(TYPE_NAMES[builtinType], builtinType, i.next());
+				} catch (ArrayIndexOutOfBoundsException e) {
+					throw new EncodingException("The dimensions of inner array elements of a multi-dimension variable must be equal in length", e);
+				}
+				end("Elements");
+				end("Matrix");
+			}
+			end("Value");
+		}
+		end(fieldName);
+	}
+
+	/** {@inheritDoc} */
+	public void putVariantArray(String fieldName, Variant[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 24, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putVariantArray(String fieldName, Collection<Variant> v)
+	throws EncodingException
+	{
+		putVariantArray(fieldName, v == null ? null : v.toArray(new Variant[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putDiagnosticInfoArray(String fieldName, DiagnosticInfo[] v)
+	throws EncodingException
+	{
+		putElements(fieldName, 25, v);
+	}
+
+	/** {@inheritDoc} */
+	public void putDiagnosticInfoArray(String fieldName, Collection<DiagnosticInfo> v)
+	throws EncodingException
+	{
+		putDiagnosticInfoArray(fieldName, v == null ? null : v.toArray(new DiagnosticInfo[v.size()]));
+	}
+
+	/** {@inheritDoc} */
+	public void putDiagnosticInfo(String fieldName, DiagnosticInfo v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		begin(fieldName);
+		putInt32("SymbolicId", v.getSymbolicId());
+		putInt32("NamespaceUri", v.getNamespaceUri());
+		putInt32("Locale", v.getLocale());
+		putInt32("LocalizedText", v.getLocalizedText());
+		putString("AdditionalInfo", v.getAdditionalInfo());
+		putStatusCode("InnerStatusCode", v.getInnerStatusCode());
+		putDiagnosticInfo("InnerDiagnosticInfo", v.getInnerDiagnosticInfo());
+		end(fieldName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The elements are named by the simple name of the enumeration class
+	 */
+	public void putEnumerationArray(String fieldName, Object array)
+	throws EncodingException
+	{
+		if (array == null)
+			return;
+		String name = array.getClass().getComponentType().getSimpleName();
+		int length = Array.getLength(array);
+		assertArrayLength(length);
+		begin(fieldName);
+		for (int i = 0; i < length; i++) {
+			Enumeration e = (Enumeration) Array.get(array, i);
+			if (e == null)
+				putEmpty(name);
+			else
+				putEnumeration(name, e);
+		}
+		end(fieldName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The value is written as "Name_Value"
+	 */
+	public void putEnumeration(String fieldName, Enumeration v)
+	throws EncodingException
+	{
+		if (v != null)
+			putText(fieldName, (v instanceof Enum ? ((Enum<?>) v).name() : v.toString()) + "_" + v.getValue());
+	}
+
+	/** {@inheritDoc} */
+	public void putObject(String fieldName, Object o)
+	throws EncodingException
+	{
+		if (o == null) throw new EncodingException("Cannot encode null value");
+		putObject(fieldName, o.getClass(), o);
+	}
+
+	/** {@inheritDoc} */
+	@SuppressWarnings("unchecked")
+	public void putObject(String fieldName, Class<?> c, Object o)
+	throws EncodingException
+	{
+		Integer bt = BuiltinsMap.ID_MAP.get(c);
+		boolean array = c.isArray();
+		if (bt != null) {
+			if (array)
+				putArray(fieldName, bt, o);
+			else
+				putScalar(fieldName, bt, o);
+			return;
+		}
+
+		if (!array && Enumeration.class.isAssignableFrom(c)) {
+			putEnumeration(fieldName, (Enumeration) o);
+			return;
+		}
+
+		if (array && Enumeration.class.isAssignableFrom(c.getComponentType())) {
+			putEnumerationArray(fieldName, o);
+			return;
+		}
+
+		if (array)
+			putEncodeableArray(fieldName, (Class<? extends IEncodeable>) c.getComponentType(), o);
+		else
+			putEncodeable(fieldName, (Class<? extends IEncodeable>) c, (IEncodeable) o);
+	}
+
+	/** {@inheritDoc} */
+	public void putScalar(String fieldName, int builtinType, Object o)
+	throws EncodingException
+	{
+		switch (builtinType) {
+		case 1: putBoolean(fieldName, (Boolean) o); break;
+		case 2: putSByte(fieldName, (Byte) o); break;
+		case 3: putByte(fieldName, (UnsignedByte) o); break;
+		case 4: putInt16(fieldName, (Short) o); break;
+		case 5: putUInt16(fieldName, (UnsignedShort) o); break;
+		case 6: putInt32(fieldName, (Integer) o); break;
+		case 7: putUInt32(fieldName, (UnsignedInteger) o); break;
+		case 8: putInt64(fieldName, (Long) o); break;
+		case 9: putUInt64(fieldName, (UnsignedLong) o); break;
+		case 10: putFloat(fieldName, (Float) o); break;
+		case 11: putDouble(fieldName, (Double) o); break;
+		case 12: putString(fieldName, (String) o); break;
+		case 13: putDateTime(fieldName, (DateTime) o); break;
+		case 14: putGuid(fieldName, (UUID) o); break;
+		case 15: putByteString(fieldName, (ByteString) o); break;
+		case 16: putXmlElement(fieldName, (XmlElement) o); break;
+		case 17: putNodeId(fieldName, (NodeId) o); break;
+		case 18: putExpandedNodeId(fieldName, (ExpandedNodeId) o); break;
+		case 19: putStatusCode(fieldName, (StatusCode) o); break;
+		case 20: putQualifiedName(fieldName, (QualifiedName) o); break;
+		case 21: putLocalizedText(fieldName, (LocalizedText) o); break;
+		case 22: {
+			if (o instanceof Structure)
+				putStructure(fieldName, (Structure) o);
+			else
+				putExtensionObject(fieldName, (ExtensionObject) o);
+			break;
+		}
+		case 23: putDataValue(fieldName, (DataValue) o); break;
+		case 24: putVariant(fieldName, (Variant) o); break;
+		case 25: putDiagnosticInfo(fieldName, (DiagnosticInfo) o); break;
+		default: throw new EncodingException("Cannot encode "+o);
+		}
+	}
+
+	/** {@inheritDoc} */
+	public void putArray(String fieldName, int builtinType, Object o)
+	throws EncodingException
+	{
+		if (builtinType < 1 || builtinType >= TYPE_NAMES.length || !(o == null || o instanceof Object[]))
+			throw new EncodingException("Cannot encode "+o);
+		putElements(fieldName, builtinType, (Object[]) o);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The elements are named by the simple name of the class
+	 */
+	public void putEncodeableArray(String fieldName, Class<? extends IEncodeable> clazz, Object array)
+	throws EncodingException
+	{
+		if (array == null)
+			return;
+		String name = clazz.getSimpleName();
+		int length = Array.getLength(array);
+		assertArrayLength(length);
+		begin(fieldName);
+		for (int i = 0; i < length; i++) {
+			IEncodeable s = (IEncodeable) Array.get(array, i);
+			if (s == null)
+				putEmpty(name);
+			else
+				putEncodeable(name, clazz, s);
+		}
+		end(fieldName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Encodes the structure as an element of its fields
+	 */
+	public void putEncodeable(String fieldName, IEncodeable s)
+	throws EncodingException
+	{
+		if (s != null)
+			putEncodeable(fieldName, s.getClass(), s);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * Encodes the structure as an element of its fields
+	 */
+	public void putEncodeable(String fieldName, Class<? extends IEncodeable> clazz, IEncodeable s)
+	throws EncodingException
+	{
+		if (s == null)
+			return;
+		begin(fieldName);
+		ctx.getEncodeableSerializer().putEncodeable(clazz, s, this);
+		end(fieldName);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * The message is the Identifier of its XML encoding id followed by its
+	 * fields, see {@link XmlDecoder#getMessage()}
+	 */
+	public void putMessage(IEncodeable s)
+	throws EncodingException
+	{
+		try {
+			putNodeId(null, ctx.getEncodeableNodeId(s.getClass(), EncodeType.Xml));
+		} catch (ServiceResultException e) {
+			throw new EncodingException("Could not get XmlEncodeId for "+s.getClass(), e);
+		}
+		putEncodeable(null, s.getClass(), s);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(String fieldName, Object o) throws EncodingException {
+		EncoderUtils.put(this, fieldName, o);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void put(String fieldName, Object o, Class<?> clazz) throws EncodingException {
+		EncoderUtils.put(this, fieldName, o, clazz);
+	}
+
+	/**
+	 * Write an array of a builtin type, with the elements named by the type.
+	 */
+	private void putElements(String fieldName, int builtinType, Object[] v)
+	throws EncodingException
+	{
+		if (v == null)
+			return;
+		assertArrayLength(v.length);
+		String name = TYPE_NAMES[builtinType];
+		begin(fieldName);
+		for (Object o : v) {
+			if (o == null)
+				putEmpty(name);
+			else
+				putScalar(name, builtinType, o);
+		}
+		end(fieldName);
+	}
+
+	private void assertArrayLength(int length)
+	throws EncodingException
+	{
+		if (ctx.getMaxArrayLength() > 0 && ctx.getMaxArrayLength() < length)
+			throw new EncodingException(StatusCodes.Bad_EncodingLimitsExceeded, "MaxArrayLength "+ctx.getMaxArrayLength()+" < "+length);
+	}
+
+	private void putEmpty(String fieldName)
+	throws EncodingException
+	{
+		begin(fieldName);
+		end(fieldName);
+	}
+
+	private void putText(String fieldName, String text)
+	throws EncodingException
+	{
+		begin(fieldName);
+		try {
+			writer.writeCharacters(text);
+		} catch (XMLStreamException e) {
+			throw new EncodingException(e);
+		}
+		end(fieldName);
+	}
+
+	/**
+	 * Copy the elements and text of a document to the output.
+	 */
+	private void putXml(String document)
+	throws EncodingException
+	{
+		if (document.startsWith(XmlElement.UTF8_BOM))
+			document = document.substring(XmlElement.UTF8_BOM.length());
+		if (document.trim().isEmpty())
+			return;
+		try {
+			XMLStreamReader reader = XMLFactoryCache.getXMLInputFactory().createXMLStreamReader(new StringReader(document));
+			try {
+				while (reader.hasNext()) {
+					switch (reader.next()) {
+					case XMLStreamConstants.START_ELEMENT:
+						String prefix = reader.getPrefix();
+						String namespace = reader.getNamespaceURI();
+						writer.writeStartElement(prefix == null ? "" : prefix, reader.getLocalName(), namespace == null ? "" : namespace);
+						for (int i = 0; i < reader.getNamespaceCount(); i++) {
+							String p = reader.getNamespacePrefix(i);
+							if (p == null || p.isEmpty())
+								writer.writeDefaultNamespace(reader.getNamespaceURI(i));
+							else
+								writer.writeNamespace(p, reader.getNamespaceURI(i));
+						}
+						for (int i = 0; i < reader.getAttributeCount(); i++) {
+							String p = reader.getAttributePrefix(i);
+							String ns = reader.getAttributeNamespace(i);
+							if (p == null || p.isEmpty())
+								writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+							else
+								writer.writeAttribute(p, ns, reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+						}
+						break;
+					case XMLStreamConstants.END_ELEMENT:
+						writer.writeEndElement();
+						break;
+					case XMLStreamConstants.CHARACTERS:
+					case XMLStreamConstants.CDATA:
+					case XMLStreamConstants.SPACE:
+						writer.writeCharacters(reader.getText());
+						break;
+					default:
+						break;
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (XMLStreamException e) {
+			throw new EncodingException(StatusCodes.Bad_EncodingError, e);
+		}
+	}
+
+	/**
+	 * Write the start of a field. The first element declares the namespace of
+	 * the types.
+	 */
+	private void begin(String fieldName)
+	throws EncodingException
+	{
+		if (fieldName == null || fieldName.isEmpty())
+			return;
+		try {
+			if (depth++ == 0) {
+				writer.writeStartElement("", fieldName, OPC_UA_XSD_NAMESPACE);
+				writer.writeDefaultNamespace(OPC_UA_XSD_NAMESPACE);
+			} else
+				writer.writeStartElement(fieldName);
+		} catch (XMLStreamException e) {
+			throw new EncodingException(e);
+		}
+	}
 
-	// TODO IMPLEMENT
+	private void end(String fieldName)
+	throws EncodingException
+	{
+		if (fieldName == null || fieldName.isEmpty())
+			return;
+		depth--;
+		try {
+			writer.writeEndElement();
+		} catch (XMLStreamException e) {
+			throw new EncodingException(e);
+		}
+	}
 
 }
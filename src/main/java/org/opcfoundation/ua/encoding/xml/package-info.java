@@ -1,5 +1,5 @@
 /**
- * The implementation of xml serialization. XmlEncoder is still TODO.
+ * The implementation of xml serialization. {@link org.opcfoundation.ua.encoding.xml.XmlEncoder}
+ * writes the form that {@link org.opcfoundation.ua.encoding.xml.XmlDecoder} reads.
  */
 package org.opcfoundation.ua.encoding.xml;
-
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opcfoundation.ua.application.Server;
 import org.opcfoundation.ua.transport.Endpoint;
@@ -34,6 +35,9 @@ public class EndpointBindingCollection {
 	
 	CopyOnWriteArrayList<EndpointBindingListener> listeners = new CopyOnWriteArrayList<EndpointBindingListener>(); 
 	
+	/** Modification count of the bindings */
+	final AtomicInteger version = new AtomicInteger();
+	
 	/**
 	 * <p>Constructor for EndpointBindingCollection.</p>
 	 */
@@ -59,6 +63,7 @@ public class EndpointBindingCollection {
 		if ( bindings.contains(binding) ) return; 
 //			throw new RuntimeException("Collection already contains the endpoint binding");
 		bindings.add( binding );
+		version.incrementAndGet();
 	}
 	
 	/**
@@ -67,7 +72,8 @@ public class EndpointBindingCollection {
 	 * @param binding a {@link org.opcfoundation.ua.transport.EndpointBinding} object.
 	 */
 	public void remove(EndpointBinding binding) {
-		bindings.remove( binding );
+		if ( bindings.remove( binding ) )
+			version.incrementAndGet();
 	}
 	
 	/**
@@ -359,6 +365,17 @@ public class EndpointBindingCollection {
 	 */
 	public void clear() {
 		bindings.clear();
+		version.incrementAndGet();
+	}
+	
+	/**
+	 * Get the modification count of the collection, which changes when
+	 * bindings are added or removed.
+	 *
+	 * @return modification count
+	 */
+	public int getVersion() {
+		return version.get();
 	}
 	
 	/// Listener
@@ -182,6 +182,8 @@ class HttpsClientPendingRequest implements Runnable {
 						
 			BinaryDecoder dec = new BinaryDecoder( data );			
 			dec.setEncoderContext( httpsClient.encoderCtx );
+			// data holds one message and is not reused
+			dec.setByteStringViews( true );
 			IEncodeable response = dec.getMessage();
 			
 			// Client sent an error
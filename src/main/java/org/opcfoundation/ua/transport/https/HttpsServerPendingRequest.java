@@ -181,6 +181,8 @@ class HttpsServerPendingRequest extends EndpointServiceRequest<ServiceRequest, S
 				
 			BinaryDecoder dec = new BinaryDecoder( data );    		
 			dec.setEncoderContext( endpoint.getEncoderContext() );
+			// data holds one message and is not reused
+			dec.setByteStringViews( true );
 				
 			super.request = dec.getMessage();
 			logger.trace("request={}", super.request);
@@ -64,7 +64,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	/**
 	 * Secure channel id. If this value is -1 the secure channel is closed.
 	 */
-	int secureChannelId = -1;
+	volatile int secureChannelId = -1;
 	
 	/**
 	 * The time when token was issued in time system of {@link System#currentTimeMillis()}.
@@ -77,6 +77,23 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	 */
 	long tokenLifetime;
 	
+	/**
+	 * The time when the secure channel expires, unless the token is renewed.
+	 * Written together with the other token fields, read without locking.
+	 */
+	volatile long tokenExpireTime;
+	
+	/**
+	 * This lock is used whenever the current security token is changed
+	 */
+	final Object tokenLock = new Object();
+	
+	/**
+	 * The OpenSecureChannelRequest in progress, or null. The request is also
+	 * in pending requests.
+	 */
+	final AtomicReference<PendingRequest> openRequest = new AtomicReference<PendingRequest>(null);
+	
     IEncodeableSerializer serializer = EncodeableSerializer.getInstance();
 	TransportChannelSettings settings;
 	InetSocketAddress addr;
@@ -272,17 +289,9 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	/** {@inheritDoc} */
 	public ServiceResponse serviceRequest(ServiceRequest request, long operationTimeout)
 	throws ServiceFaultException, ServiceResultException {
-		// When the secure channel is renewed, it may be that the channel is temporarily closed.
-		// Let us try to wait a little bit, if that is the case.
-		int n=0;
-		while (!isOpen())
-			try {
-				if (n++ > 100)
-					throw new ServiceResultException(Bad_SecureChannelClosed);
-				Thread.sleep(10);
-			} catch (InterruptedException e1) {
-			}
-		
+		// The secure channel stays open while the security token is renewed
+		if (!isOpen())
+			throw new ServiceResultException(Bad_SecureChannelClosed);
 				
 		PendingRequest req = newPendingRequest(operationTimeout);
 		req.result = new AsyncResultImpl<ServiceResponse>();
@@ -562,7 +571,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	}
 	
 	/**
-	 * Create or renew secure channel.
+	 * Create or renew secure channel and wait for the new security token.
 	 *  
 	 * If the operation timeouts or user interrupts the thread with 
 	 * {@link Thread#interrupt()} a Bad_Timeout is thrown.
@@ -571,14 +580,75 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	 */
 	private void createSecureChannel(boolean renew)
 	throws ServiceResultException
+	{
+		final long startTime = System.currentTimeMillis();
+		PendingRequest pr = sendOpenSecureChannelRequest(renew);
+		AsyncResult<ServiceResponse> result = pr.result;
+		ServiceResponse res;
+		try {
+			long operationTimeout = getOperationTimeout();
+			if (operationTimeout>0) {
+				long waitTime = operationTimeout-(System.currentTimeMillis()-startTime);
+				res = result.waitForResult(Math.max(waitTime, 0), TimeUnit.MILLISECONDS);
+			} else {
+				res = result.waitForResult();
+			}
+		} catch (ServiceFaultException e) {
+			logger.error(secureChannelId+": CreateSecureChannel Fault", e);
+			throw e;
+		} finally {
+			clearOpenRequest(pr);
+		}
+		installSecurityToken(res, startTime, renew);
+	}
+
+	/**
+	 * Renew the security token without blocking. The OpenSecureChannelRequest is
+	 * sent in the calling thread and the new token is installed when the response
+	 * arrives. Until then service requests continue to use the current token.
+	 */
+	void renewSecurityToken()
+	{
+		final long startTime = System.currentTimeMillis();
+		final PendingRequest pr;
+		try {
+			pr = sendOpenSecureChannelRequest(true);
+		} catch (ServiceResultException e) {
+			logger.error(secureChannelId+" Failed to renew security token. ", e);
+			return;
+		}
+		pr.result.setListener(new ResultListener<ServiceResponse>() {
+			@Override
+			public void onCompleted(ServiceResponse response) {
+				clearOpenRequest(pr);
+				try {
+					installSecurityToken(response, startTime, true);
+				} catch (ServiceResultException e) {
+					logger.error(secureChannelId+" Failed to renew security token. ", e);
+				}
+			}
+			@Override
+			public void onError(ServiceResultException error) {
+				clearOpenRequest(pr);
+				logger.error(secureChannelId+" Failed to renew security token. ", error);
+			}
+		});
+	}
+
+	/**
+	 * Send OpenSecureChannelRequest. The request is added to the pending requests,
+	 * and the response is written to the result by {@link #onMessage(int, int, IEncodeable)}.
+	 * 
+	 * @param renew false to create new secure channel, true to renew
+	 * @return the pending request
+	 */
+	private PendingRequest sendOpenSecureChannelRequest(boolean renew)
+	throws ServiceResultException
 	{
 		final IConnection channel = getTransportChannel();
 		logger.debug("createSecureChannel: renew={} channel={}", renew, channel);
 		if (channel == null)
 			throw new ServiceResultException(StatusCodes.Bad_SecureChannelClosed);
-		final long startTime = System.currentTimeMillis();
-		int requestId = requestIdCounter.incrementAndGet();
-		logger.debug("createSecureChannel: requestId={}", requestId);
 		
 		OpenSecureChannelRequest req = new OpenSecureChannelRequest();								
 		
@@ -598,74 +668,68 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 
 		int chanId = renew ? this.secureChannelId : 0;
 		
-		final Semaphore s = new Semaphore(0);
-		final ServiceResultException[] errors = new ServiceResultException[1];
-		final IEncodeable[] result = new IEncodeable[1];
-		final int[] secureChannelId = new int[1];
-		final int __requestId = requestId;
-		IMessageListener opnListener = new IMessageListener() {
-			public void onMessage(int requestId_, int secureChannelId_, IEncodeable message) {						
-				if (requestId_!=__requestId) return;
-				result[0] = message;
-				secureChannelId[0] = secureChannelId_;
-				s.release(Integer.MAX_VALUE);
-			}
-		};
-		IConnectionListener cloListener = new IConnectionListener() {
-			public void onClosed(ServiceResultException closeError) {
-				if (closeError == null) closeError = new ServiceResultException(Bad_CommunicationError, "Connection Closed");					
-				errors[0] = closeError;
-				s.release(Integer.MAX_VALUE);
-			}
-			@Override
-			public void onOpen() {
-			}
-		};	
-		
-		channel.addConnectionListener( cloListener );
-		channel.addMessageListener( opnListener );			
+		long operationTimeout = getOperationTimeout();
+		PendingRequest pr = newPendingRequest(operationTimeout);
+		pr.result = new AsyncResultImpl<ServiceResponse>();
+		logger.debug("createSecureChannel: requestId={}", pr.requestId);
+		openRequest.set(pr);
+		requests.put(pr.requestId, pr);
 		try {
-			channel.sendRequest(req, chanId, requestId);
-		
-			// Wait for result
-			try {												
-				long operationTimeout = getOperationTimeout();
-				if (operationTimeout>0) {
-					long elapsedTime = (System.currentTimeMillis()-startTime)/1000;
-					long waitTime = operationTimeout-elapsedTime;				
-					s.tryAcquire(1, waitTime, TimeUnit.MILLISECONDS);
-				} else {
-					s.acquire();
-				}
-			} catch (InterruptedException e) {
-				// The user aborted the operation
-			}
-			
-			// Throw error
-			if (errors[0] != null) {
-				throw errors[0];
-			}				
-			
-			IEncodeable res = result[0];
-			if (res==null) {
-				throw new ServiceResultException(Bad_Timeout);
-			}			
+			channel.sendRequest(req, chanId, pr.requestId);
+		} catch (ServiceResultException e) {
+			clearOpenRequest(pr);
+			throw e;
+		}
+		if (renew && operationTimeout!=0)
+			scheduleTimeoutRequestsTimer();
+		return pr;
+	}
 
-			if (res instanceof ServiceFault) {
-				ServiceFaultException e = new ServiceFaultException((ServiceFault)res); 
-				logger.error(secureChannelId+": CreateSecureChannel Fault", e);
-				throw e;
-			}
-			
-			if (res instanceof OpenSecureChannelResponse==false) {
-				throw new ServiceResultException(Bad_UnexpectedError, "Unexpected result "+res.getClass().getName()+" OpenSecureChannelResponse expected");
-			}
-			
-			
-			// Successful Open secure channel
-			OpenSecureChannelResponse opn = (OpenSecureChannelResponse) res;
-			final ChannelSecurityToken token = opn.getSecurityToken();
-			this.secureChannelId = token.getChannelId().intValue();
+	/**
+	 * Remove an OpenSecureChannelRequest from pending requests. A newer request
+	 * that has replaced it, such as a reconnect overlapping a renew, is kept.
+	 * 
+	 * @param pr the request
+	 */
+	private void clearOpenRequest(PendingRequest pr)
+	{
+		openRequest.compareAndSet(pr, null);
+		requests.remove(pr.requestId, pr);
+	}
+
+	/**
+	 * Take a new security token into use. The previous token remains valid in the
+	 * transport channel until it expires, so responses to requests that were sent
+	 * with it are still accepted.
+	 * 
+	 * @param res response to OpenSecureChannelRequest
+	 * @param startTime the time when the request was sent
+	 * @param renew false if a new secure channel was created, true if renewed
+	 */
+	private void installSecurityToken(ServiceResponse res, long startTime, boolean renew)
+	throws ServiceResultException
+	{
+		if (res instanceof OpenSecureChannelResponse==false) {
+			throw new ServiceResultException(Bad_UnexpectedError, "Unexpected result "+res.getClass().getName()+" OpenSecureChannelResponse expected");
+		}
+		
+		// Successful Open secure channel
+		OpenSecureChannelResponse opn = (OpenSecureChannelResponse) res;
+		final ChannelSecurityToken token = opn.getSecurityToken();
+		
+		long currentTime = System.currentTimeMillis();
+		long lifetime = token.getRevisedLifetime().longValue();
+		synchronized(tokenLock) {
+			// A channel closed while renewing stays closed
+			if (renew && secureChannelId==-1) return;
+			this.tokenIssueTime = startTime/2 + currentTime/2;
+			this.tokenLifetime = lifetime;
+			this.tokenExpireTime = ((long)(lifetime*1.25)) + tokenIssueTime;
+			// HAX! In Reconnect to secure channel -situation, the C# Server implementation sends
+			// two conflicting secure channel id's. 
+			// The old channel (correct) in message header and a new channel id in the message body.
+			// Thus the id is taken from the body only, when the channel is created.
+			if (!renew) this.secureChannelId = token.getChannelId().intValue();
 			
 			if (renew) {
 				logger.debug("{} Secure channel renewed, SecureChannelId={}, TokenId={}", this.secureChannelId, this.secureChannelId, token.getTokenId().longValue());
@@ -673,16 +737,6 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 				logger.debug("{} Secure channel opened, SecureChannelId={}, TokenId={}", this.secureChannelId, this.secureChannelId, token.getTokenId().longValue());
 			}
 			
-			// HAX! In Reconnect to secure channel -situation, the C# Server implementation sends
-			// two conflicting secure channel id's. 
-			// The old channel (correct) in message header and a new channel id in the message body. 
-			// 
-			if (renew) this.secureChannelId = chanId;
-			
-			long currentTime = System.currentTimeMillis();
-			this.tokenIssueTime = startTime/2 + currentTime/2;
-			this.tokenLifetime = token.getRevisedLifetime().longValue();
-			
 			// Cancel token renewal
 			{
 				TimerTask t = renewSecurityTokenTask;
@@ -691,20 +745,11 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 			}
 			// Setup new token renewal
 			{
-				long renewTime = token.getRevisedLifetime().longValue();
-				logger.debug("RevisedLifetime: {}", renewTime);
+				logger.debug("RevisedLifetime: {}", lifetime);
 				renewSecurityTokenTask = TimerUtil.schedule(timer, renewSecurityTokenRunnable, executor, 
-						currentTime + (long)(renewTime* TcpMessageLimits.TokenRenewalPeriod ));
+						currentTime + (long)(lifetime* TcpMessageLimits.TokenRenewalPeriod ));
 			}
-			
-		} catch (ServiceResultException e) {
-			// Open failed
-			throw e;
-		} finally {
-			channel.removeConnectionListener( cloListener );
-			channel.removeMessageListener( opnListener );
 		}
-		
 	}
 
 	/**
@@ -825,7 +870,13 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 			if (secureChannelId!=-1) {
 				logger.info("{} Closed", secureChannelId);
 			}
-			secureChannelId = -1;	
+			synchronized(tokenLock) {
+				secureChannelId = -1;
+				// A renewal may have completed while closing
+				TimerTask t = renewSecurityTokenTask;
+				renewSecurityTokenTask = null;
+				if (t!=null) t.cancel();
+			}
 			
 			transport_channel.close();
 			transport_channel.removeMessageListener(this);
@@ -980,7 +1031,9 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	 */
 	@Override
 	public void onMessage(int requestId, int secureChannelId, IEncodeable message) {
-		if (secureChannelId!=this.secureChannelId) return;
+		// The response to OpenSecureChannelRequest(Issue) arrives before the channel id is known
+		PendingRequest open = openRequest.get();
+		if (secureChannelId!=this.secureChannelId && (open==null || open.requestId!=requestId)) return;
 		
 
 		// logger.debug("requests: "+requests.keySet());
@@ -1028,9 +1081,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	 */
 	public boolean isOpen() {
 		if (secureChannelId==-1) return false;
-		long expireTime = ((long)(tokenLifetime*1.25)) + tokenIssueTime;
-		long currentTime = System.currentTimeMillis();
-		return expireTime > currentTime; 
+		return tokenExpireTime > System.currentTimeMillis(); 
 	}
 
 	/**
@@ -1044,6 +1095,13 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	public void onClosed(ServiceResultException closeError) {
 		// The socket connection has been closed
 		
+		// OpenSecureChannelRequest in progress will not get a response
+		PendingRequest open = openRequest.get();
+		if (open!=null) {
+			requests.remove(open.requestId);
+			open.result.setError( closeError != null ? closeError : new ServiceResultException(Bad_CommunicationError, "Connection Closed") );
+		}
+		
 		// If secure channel is also closed, do nothing
 		if (secureChannelId==-1) return;
 		
@@ -1128,8 +1186,7 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 					errorRecoveryReconnectIndex++;
 					long currentTime = System.currentTimeMillis();
 					long waitTime = errorRecoveryReconnectIndex >= RECONNECT_WAIT_TIME.length ? RECONNECT_WAIT_TIME[RECONNECT_WAIT_TIME.length-1]*1000 : RECONNECT_WAIT_TIME[errorRecoveryReconnectIndex]*1000;
-					long expireTime = ((long)(tokenLifetime*1.25)) + tokenIssueTime;
-					if (currentTime + waitTime > expireTime) {
+					if (currentTime + waitTime > tokenExpireTime) {
 						logger.info("{}: Error recovery failed, security token has expired", secureChannelId);
 						close();
 						return;						
@@ -1164,12 +1221,8 @@ public class SecureChannelTcp implements IMessageListener, IConnectionListener,
 	
 	private Runnable renewSecurityTokenRunnable = new Runnable() {
 		public void run() {
-			try {
-				logger.debug("{} Renewing security token", secureChannelId);
-				createSecureChannel(true);
-			} catch (ServiceResultException e) {
-				logger.error(secureChannelId+" Failed to renew security token. ", e);
-			}
+			logger.debug("{} Renewing security token", secureChannelId);
+			renewSecurityToken();
 		};
 	};
 
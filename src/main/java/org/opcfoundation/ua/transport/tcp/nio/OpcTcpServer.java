@@ -41,6 +41,7 @@ import org.opcfoundation.ua.transport.endpoint.EndpointBindingCollection;
 import org.opcfoundation.ua.transport.impl.ConnectionCollection;
 import org.opcfoundation.ua.utils.AbstractState;
 import org.opcfoundation.ua.utils.StackUtils;
+import org.opcfoundation.ua.utils.TokenBucket;
 import org.opcfoundation.ua.utils.asyncsocket.AsyncServerSocket;
 import org.opcfoundation.ua.utils.asyncsocket.AsyncSocketImpl;
 import org.slf4j.Logger;
@@ -70,6 +71,14 @@ public class OpcTcpServer extends AbstractState<CloseableObjectState, ServiceRes
 	
 	private int receiveBufferSize = 0;
 
+	/** Default rate of new secure channels per second */
+	public static final double DEFAULT_HANDSHAKE_RATE = 100 * StackUtils.cores();
+
+	/** Limits the rate of new secure channels, null if unlimited */
+	private volatile TokenBucket handshakeLimiter = new TokenBucket(DEFAULT_HANDSHAKE_RATE, (int) DEFAULT_HANDSHAKE_RATE);
+	/** Number of secure channels rejected by the limiter */
+	private final AtomicInteger rejectedHandshakeCount = new AtomicInteger();
+
 	/** Endpoint handles */
 	Map<SocketAddress, SocketHandle> socketHandles = new HashMap<SocketAddress, SocketHandle>();
 
@@ -117,6 +126,45 @@ public class OpcTcpServer extends AbstractState<CloseableObjectState, ServiceRes
 		}
 	}
 	
+	/**
+	 * Limit the rate of new secure channels. A client that opens a secure
+	 * channel when the rate is exceeded gets Bad_TcpServerTooBusy before any
+	 * asymmetric cryptography is done, so a large number of reconnecting
+	 * clients does not slow down the established channels. Renewals of
+	 * existing channels are not limited.
+	 * <p>
+	 * Default: {@link #DEFAULT_HANDSHAKE_RATE} per second, with bursts of the same size.
+	 *
+	 * @param handshakesPerSecond the long term rate, or 0 for no limit
+	 * @param burst the max number of channels that are opened at once
+	 */
+	public void setHandshakeRateLimit(double handshakesPerSecond, int burst) {
+		handshakeLimiter = handshakesPerSecond > 0 ? new TokenBucket(handshakesPerSecond, burst) : null;
+	}
+
+	/**
+	 * @return the rate limit of new secure channels per second, or 0 if not limited
+	 */
+	public double getHandshakeRateLimit() {
+		TokenBucket limiter = handshakeLimiter;
+		return limiter == null ? 0 : limiter.getRate();
+	}
+
+	/**
+	 * @return the number of secure channels rejected because of the rate limit
+	 */
+	public int getRejectedHandshakeCount() {
+		return rejectedHandshakeCount.get();
+	}
+
+	boolean admitHandshake() {
+		TokenBucket limiter = handshakeLimiter;
+		if (limiter == null || limiter.tryAcquire())
+			return true;
+		rejectedHandshakeCount.incrementAndGet();
+		return false;
+	}
+
 	/** AsyncServerSocket Connect listener */
 	org.opcfoundation.ua.utils.asyncsocket.AsyncServerSocket.ConnectListener connectListener = new org.opcfoundation.ua.utils.asyncsocket.AsyncServerSocket.ConnectListener() {		
 		public void onConnected(AsyncServerSocket sender, AsyncSocketImpl newConnection) {
@@ -179,6 +227,7 @@ public class OpcTcpServer extends AbstractState<CloseableObjectState, ServiceRes
 						StackUtils.getNonBlockingWorkExecutor()//,
 						//new AsyncSelector(Selector.open())
 						,StackUtils.getSelector()
+						,StackUtils.getConnectionSelectors()
 						);
 				socketHandle.socket.bind(socketHandle.socketAddress, 0);
 				socketHandle.socket.addListener(connectListener);
@@ -15,6 +15,8 @@ import static org.opcfoundation.ua.core.StatusCodes.Bad_SecureChannelIdInvalid;
 import static org.opcfoundation.ua.core.StatusCodes.Bad_SecurityChecksFailed;
 import static org.opcfoundation.ua.core.StatusCodes.Bad_SecurityPolicyRejected;
 import static org.opcfoundation.ua.core.StatusCodes.Bad_TcpInternalError;
+import static org.opcfoundation.ua.core.StatusCodes.Bad_TcpNotEnoughResources;
+import static org.opcfoundation.ua.core.StatusCodes.Bad_TcpServerTooBusy;
 import static org.opcfoundation.ua.core.StatusCodes.Bad_Timeout;
 import static org.opcfoundation.ua.core.StatusCodes.Bad_UnexpectedError;
 
@@ -31,6 +33,9 @@ import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opcfoundation.ua.builtintypes.StatusCode;
@@ -82,12 +87,12 @@ import org.opcfoundation.ua.utils.ObjectUtils;
 import org.opcfoundation.ua.utils.StackUtils;
 import org.opcfoundation.ua.utils.StateListener;
 import org.opcfoundation.ua.utils.TimerUtil;
-import org.opcfoundation.ua.utils.asyncsocket.AsyncInputStream;
 import org.opcfoundation.ua.utils.asyncsocket.AsyncSocket;
 import org.opcfoundation.ua.utils.asyncsocket.AsyncSocketImpl;
 import org.opcfoundation.ua.utils.asyncsocket.BufferMonitorState;
-import org.opcfoundation.ua.utils.asyncsocket.MonitorListener;
+import org.opcfoundation.ua.utils.asyncsocket.FrameListener;
 import org.opcfoundation.ua.utils.asyncsocket.SocketState;
+import org.opcfoundation.ua.utils.asyncsocket.WritabilityListener;
 import org.opcfoundation.ua.utils.bytebuffer.ByteBufferArrayWriteable2;
 import org.opcfoundation.ua.utils.bytebuffer.ByteBufferArrayWriteable2.ChunkListener;
 import org.slf4j.Logger;
@@ -124,6 +129,76 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 	public static void setHandshakeTimeout(long handshakeTimeout) {
 		OpcTcpServerConnection.handshakeTimeout = handshakeTimeout;
 	}
+
+	// Write queue limits of new connections
+	private static long writeLowWatermark = 256 * 1024;
+	private static long writeHighWatermark = 1024 * 1024;
+	private static long maxWriteQueueSize = 16 * 1024 * 1024;
+	private static long maxUnwritableTime = 60 * 1000; // 1 minute
+
+	/**
+	 * Define the watermarks of the write queue of new connections. A
+	 * connection is not writable when more than highWatermark bytes are
+	 * waiting to be sent to the client, and becomes writable again when at
+	 * most lowWatermark bytes are waiting. See
+	 * {@link #addWritabilityListener(WritabilityListener)}.
+	 *
+	 * @param lowWatermark the low watermark in bytes. Default 256 kB.
+	 * @param highWatermark the high watermark in bytes. Default 1 MB. 0 disables the limits.
+	 */
+	public static void setWriteWatermarks(long lowWatermark, long highWatermark) {
+		OpcTcpServerConnection.writeLowWatermark = lowWatermark;
+		OpcTcpServerConnection.writeHighWatermark = highWatermark;
+	}
+
+	/**
+	 * @return the low watermark of the write queue of new connections
+	 */
+	public static long getWriteLowWatermark() {
+		return writeLowWatermark;
+	}
+
+	/**
+	 * @return the high watermark of the write queue of new connections
+	 */
+	public static long getWriteHighWatermark() {
+		return writeHighWatermark;
+	}
+
+	/**
+	 * Define the max number of bytes waiting to be sent to a client. If a
+	 * client reads so slowly that the limit is exceeded, the connection is
+	 * closed with Bad_TcpNotEnoughResources.
+	 *
+	 * @param maxWriteQueueSize the max size in bytes. Default 16 MB. 0 means no limit.
+	 */
+	public static void setMaxWriteQueueSize(long maxWriteQueueSize) {
+		OpcTcpServerConnection.maxWriteQueueSize = maxWriteQueueSize;
+	}
+
+	/**
+	 * @return the max number of bytes waiting to be sent to a client
+	 */
+	public static long getMaxWriteQueueSize() {
+		return maxWriteQueueSize;
+	}
+
+	/**
+	 * Define how long a connection may stay over its high watermark. After
+	 * that, the connection is closed with Bad_TcpNotEnoughResources.
+	 *
+	 * @param maxUnwritableTime the time in milliseconds. Default 60000 = 1 minute. 0 means no limit.
+	 */
+	public static void setMaxUnwritableTime(long maxUnwritableTime) {
+		OpcTcpServerConnection.maxUnwritableTime = maxUnwritableTime;
+	}
+
+	/**
+	 * @return the time in milliseconds that a connection may stay over its high watermark
+	 */
+	public static long getMaxUnwritableTime() {
+		return maxUnwritableTime;
+	}
 	/** Agreed protocol version */
 	int agreedProtocolVersion;
 	/**  Request id - Pending Request mapping */
@@ -149,80 +224,95 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 			setError(Bad_Timeout);
 		}};
 
+	/** Listeners of the writability of the connection */
+	List<WritabilityListener> writabilityListeners = new CopyOnWriteArrayList<WritabilityListener>();
+	/** Closes the connection, if it stays unwritable. Guarded by this. */
+	TimerTask unwritableTimer;
+	/** The time when the connection became unwritable. Guarded by this. */
+	long unwritableSince;
+	/** Set when the close of a connection with a full write queue has been submitted */
+	final AtomicBoolean writeQueueFull = new AtomicBoolean();
+	Runnable unwritableTimeout = new Runnable() {
+		@Override
+		public void run() {
+			closeSlowConnection("Not writable for "+(System.currentTimeMillis()-unwritableSince)+" ms");
+		}};
+	WritabilityListener outputListener = new WritabilityListener() {
+		@Override
+		public void onWritabilityChanged(Object sender, boolean writable) {
+			synchronized(OpcTcpServerConnection.this) {
+				if (!writable && unwritableTimer==null) {
+					unwritableSince = System.currentTimeMillis();
+					if (maxUnwritableTime > 0)
+						unwritableTimer = TimerUtil.schedule(
+								timer, unwritableTimeout,
+								StackUtils.getBlockingWorkExecutor(),
+								unwritableSince + maxUnwritableTime);
+				} else if (writable) {
+					cancelUnwritableTimer();
+				}
+			}
+			logger.debug("{}: writable={}", OpcTcpServerConnection.this, writable);
+			for (WritabilityListener l : writabilityListeners)
+				l.onWritabilityChanged(OpcTcpServerConnection.this, writable);
+		}};
+
 		EncoderContext encoderCtx;
 		EndpointConfiguration endpointConfiguration;
 
-		/// ??? ///
-		// Handles incoming data //
-		MonitorListener inputListener =
-				new MonitorListener() {
+		// Handles incoming chunks, ran in the selector thread //
+		FrameListener inputListener =
+				new FrameListener() {
 			@Override
-			public void onStateTransition(IStatefulObject<BufferMonitorState, ?> sender,
-					BufferMonitorState oldState, BufferMonitorState newState) {
-
-				// Trigger is unreachable
-				if (newState.isUnreachable()) {
-					if (secureMessageBuilder!=null) {
-						secureMessageBuilder.close();
-						secureMessageBuilder = null;
-					}
-					return;
-				}
+			public int getFrameLength(ByteBuffer header) {
+				header.order(ByteOrder.LITTLE_ENDIAN);
+				header.getInt();
+				int chunkSize = header.getInt();
+				if (chunkSize<12 || chunkSize > ctx.maxRecvChunkSize)
+					return -1;
+				return chunkSize;
+			}
 
-				if (newState != BufferMonitorState.Triggered)
-				{
-					logger.error("Unexpected trigger state {}", newState);
-					return;
+			@Override
+			public void onFrame(ByteBuffer chunk) {
+				chunk.rewind();
+				try {
+					try {
+						handleChunk(chunk);
+					} catch (RuntimeException e) {
+						logger.warn("Error in handleChunk", e);
+						throw StackUtils.toServiceResultException(e);
+					}
+				} catch (ServiceResultException se) {
+					logger.info("Error in handleChunk", se);
+					setError(se);
 				}
+			}
 
-				// -- assert -- atleast 8 bytes are available --
-
-				AsyncInputStream is = s.getInputStream();
-				ByteBuffer hdr = is.peek(8);
-				hdr.order(ByteOrder.LITTLE_ENDIAN);
-				hdr.getInt();
-				int chunkSize = hdr.getInt();
-
-				if (chunkSize<12) {
+			@Override
+			public void onFrameError(ByteBuffer header) {
+				header.order(ByteOrder.LITTLE_ENDIAN);
+				header.getInt();
+				int chunkSize = header.getInt();
+				if (chunkSize<12)
 					setError(StatusCodes.Bad_TcpInternalError);
-					if (secureMessageBuilder!=null)
-						secureMessageBuilder.close();
-					return;
-				}
-
-				if (chunkSize > ctx.maxRecvChunkSize)
-				{
+				else
 					setError(new ServiceResultException(StatusCodes.Bad_TcpMessageTooLarge, "Chunk size ("+chunkSize+") exceeded maximum ("+ctx.maxRecvChunkSize+")"));
-					if (secureMessageBuilder!=null)
-						secureMessageBuilder.close();
-					return;
-				}
+				closeSecureMessageBuilder();
+			}
 
-				if (is.available()>=chunkSize) {
-					// Chunk is readable
-					ByteBuffer chunk = is.read(chunkSize);
-					chunk.rewind();
-					try {
-						try {
-							handleChunk(chunk);
-						} catch (RuntimeException e) {
-							logger.warn("Error in handleChunk", e);
-							throw StackUtils.toServiceResultException(e);
-						}
-					} catch (ServiceResultException se) {
-						logger.info("Error in handleChunk", se);
-						setError(se);
-					}
-					// Wait for next chunk header
-					is.createMonitor(is.getPosition()+8, this);
+			@Override
+			public void onClosed() {
+				closeSecureMessageBuilder();
+			}
 
-				} else {
-					// Wake me up when the chunk is fully readable
-					is.createMonitor(is.getPosition()+chunkSize, this);
+			private void closeSecureMessageBuilder() {
+				if (secureMessageBuilder!=null) {
+					secureMessageBuilder.close();
+					secureMessageBuilder = null;
 				}
 			}
 		};
-		/// ??? ///
 
 		// Handle incoming messages, ran in BlockingWorkExecutor //
 		MessageListener messageListener = new MessageListener() {
@@ -250,7 +340,7 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					} else if (sender.getMessageType() == TcpMessageType.CLOSE) {
 						handleCloseSecureChannelRequest(sender);
 					} else if (sender.getMessageType() == TcpMessageType.OPEN) {
-						handleOpenSecureChannelRequest(sender);
+						executeOpenSecureChannelRequest(sender);
 					}
 				} catch (ServiceResultException e) {
 					setError(e);
@@ -283,7 +373,9 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 				setState(CloseableObjectState.Opening);
 
 				s.getStateMonitor().addStateListener(socketListener);
-				s.getInputStream().createMonitor(8, inputListener);
+				s.getOutputStream().setWatermarks(writeLowWatermark, writeHighWatermark);
+				s.getOutputStream().setWritabilityListener(outputListener);
+				s.getInputStream().setFrameListener(8, inputListener);
 
 				timeoutTimer = TimerUtil.schedule(
 						timer, timeout,
@@ -362,6 +454,59 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 				}
 			}
 
+			/**
+			 * Tells whether the responses are sent to the client about as fast as
+			 * they are produced. When the connection is not writable, a server
+			 * should stop producing optional data, such as publish responses,
+			 * until the connection becomes writable again.
+			 *
+			 * @return true if the write queue is below the watermarks
+			 * @see #setWriteWatermarks(long, long)
+			 */
+			public boolean isWritable() {
+				return s.getOutputStream().isWritable();
+			}
+
+			/**
+			 * Add a listener which is notified when the connection becomes
+			 * writable or not writable.
+			 *
+			 * @param listener the listener
+			 * @see #isWritable()
+			 */
+			public void addWritabilityListener(WritabilityListener listener) {
+				writabilityListeners.add(listener);
+			}
+
+			/**
+			 * <p>removeWritabilityListener.</p>
+			 *
+			 * @param listener the listener
+			 */
+			public void removeWritabilityListener(WritabilityListener listener) {
+				writabilityListeners.remove(listener);
+			}
+
+			protected synchronized void cancelUnwritableTimer() {
+				if (unwritableTimer!=null) {
+					unwritableTimer.cancel();
+					unwritableTimer = null;
+				}
+			}
+
+			/**
+			 * Close a connection whose client does not read the responses.
+			 *
+			 * @param reason the reason for the diagnostics
+			 */
+			protected void closeSlowConnection(String reason) {
+				if (hasError() || getState().isClosed())
+					return;
+				logger.warn("{}: closing connection to {}, which does not read its responses: {}, {} bytes waiting",
+						this, getRemoteAddress(), reason, s.getOutputStream().getUnflushedBytes());
+				setError(new ServiceResultException(Bad_TcpNotEnoughResources, reason));
+			}
+
 			/**
 			 * Flushes queued chunks (see startChunkSend())
 			 *
@@ -377,6 +522,15 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 						s.getOutputStream().offer(c);
 					}
 				}
+				if (maxWriteQueueSize > 0 && s.getOutputStream().getUnflushedBytes() > maxWriteQueueSize
+						&& writeQueueFull.compareAndSet(false, true)) {
+					final String reason = "Write queue exceeded "+maxWriteQueueSize+" bytes";
+					StackUtils.getBlockingWorkExecutor().execute(new Runnable() {
+						@Override
+						public void run() {
+							closeSlowConnection(reason);
+						}});
+				}
 			}
 
 			/**
@@ -426,6 +580,11 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 					//			int secureChannelId = chunk.getInt();
 					int secureChannelId = ChunkUtils.getSecureChannelId(chunk);
 					OpcTcpServerSecureChannel secureChannel =(OpcTcpServerSecureChannel) secureChannels.get(secureChannelId);
+					// Shed new channels before any asymmetric cryptography, if too many are being opened
+					if (secureChannel==null && !endpointServer.admitHandshake()) {
+						logger.debug("Secure channel rejected, too many handshakes");
+						throw new ServiceResultException(Bad_TcpServerTooBusy, "Too many secure channel handshakes");
+					}
 					String securityPolicyUri = ChunkUtils.getString(chunk);
 					SecurityPolicy securityPolicy = SecurityPolicy.getSecurityPolicy(securityPolicyUri);
 					if (securityPolicy==null)
@@ -685,6 +844,34 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 
 			}
 
+			/**
+			 * Handle an OpenSecureChannelRequest in the crypto executor, as
+			 * signing and encrypting the response is expensive. If the executor
+			 * is too busy, a new channel is rejected with Bad_TcpServerTooBusy,
+			 * but the token of an existing channel is renewed in this thread.
+			 *
+			 * @param mb the request message
+			 * @throws org.opcfoundation.ua.common.ServiceResultException if any.
+			 */
+			protected void executeOpenSecureChannelRequest(final InputMessage mb) throws ServiceResultException {
+				Runnable run = new Runnable() {
+					@Override
+					public void run() {
+						try {
+							handleOpenSecureChannelRequest(mb);
+						} catch (ServiceResultException e) {
+							setError(e);
+						}
+					}};
+				try {
+					StackUtils.getCryptoWorkExecutor().execute(run);
+				} catch (RejectedExecutionException e) {
+					if (!secureChannels.containsKey(mb.getSecureChannelId()))
+						throw new ServiceResultException(Bad_TcpServerTooBusy, "Too many secure channel handshakes in progress");
+					handleOpenSecureChannelRequest(mb);
+				}
+			}
+
 			/**
 			 * <p>handleRawChunk.</p>
 			 *
@@ -796,6 +983,9 @@ public class OpcTcpServerConnection extends AbstractServerConnection {
 				super.onStateTransition(oldState, newState);
 				logger.debug("onStateTransition: {}->{}", oldState, newState);
 
+				if (newState.isClosed() || newState == CloseableObjectState.Closing)
+					cancelUnwritableTimer();
+
 				if (newState == CloseableObjectState.Closing)
 				{
 					ServiceResultException err = getError();
@@ -17,6 +17,7 @@ import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opcfoundation.ua.common.ServiceResultException;
@@ -41,7 +42,9 @@ import org.slf4j.LoggerFactory;
  * SecureInputMessageBuilder deciphers and decodes chunks into messages.
  * <p>
  * Message is decoded and chunks are deciphered and validated in background threads.
- * Deciphering is executed in StackUtils.getNonBlockerExecutor() which has one thread for each CPU core.
+ * Deciphering is executed in StackUtils.getNonBlockerExecutor() which has one thread for each CPU core,
+ * or in StackUtils.getCryptoWorkExecutor() for asymmetric chunks. If the latter is too busy, the message
+ * fails with Bad_TcpServerTooBusy.
  * Decoding is executed in StackUtils.getBlockerExecutor() which creates new threads as needed.
  */
 public class SecureInputMessageBuilder implements InputMessage {
@@ -248,7 +251,15 @@ public class SecureInputMessageBuilder implements InputMessage {
 			}};
 			
 		// Validate chunk
-		StackUtils.getNonBlockingWorkExecutor().execute(handleChunkRun);
+		if (token instanceof SecurityConfiguration) {
+			try {
+				StackUtils.getCryptoWorkExecutor().execute(handleChunkRun);
+			} catch (RejectedExecutionException e) {
+				setError(new ServiceResultException(StatusCodes.Bad_TcpServerTooBusy, "Too many secure channel handshakes in progress"));
+				return;
+			}
+		} else
+			StackUtils.getNonBlockingWorkExecutor().execute(handleChunkRun);
 		
 		// Start decoding message
 		if (chunkNumber==0)
@@ -21,6 +21,7 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.Selector;
 import java.util.Random;
 import java.util.Timer;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -104,6 +105,14 @@ public class StackUtils {
 	 */
 	private static Executor BLOCKING_EXECUTOR;
 
+	/**
+	 * Use {@link #getCryptoWorkExecutor()} instead
+	 */
+	private static ThreadPoolExecutor CRYPTO_EXECUTOR;
+
+	/** Max number of queued tasks in the crypto executor */
+	private static final int CRYPTO_QUEUE_SIZE = 1024;
+
 	private static ExecutorService rejectionExecutor;
 
 	/**
@@ -111,6 +120,11 @@ public class StackUtils {
 	 */
 	private static AsyncSelector SELECTOR;
 
+	/**
+	 * Use #getConnectionSelectors() instead.
+	 */
+	private static AsyncSelector[] CONNECTION_SELECTORS;
+
 	/** Constant <code>RANDOM</code> */
 	public static Random RANDOM = new Random();
 
@@ -308,6 +322,43 @@ public class StackUtils {
 		return NON_BLOCKING_EXECUTOR;
 	}
 
+	/**
+	 * Get Executor for asymmetric cryptography of secure channel handshakes.
+	 * <p>
+	 * The executor uses half of the cores and has a bounded queue, so that a
+	 * large number of simultaneous handshakes does not take the CPU from the
+	 * established channels. When the queue is full, execute throws
+	 * {@link java.util.concurrent.RejectedExecutionException} and the caller
+	 * should reject the handshake.
+	 *
+	 * @return executor for asymmetric cryptography
+	 */
+	public static synchronized ThreadPoolExecutor getCryptoWorkExecutor() {
+		if (CRYPTO_EXECUTOR == null) {
+			final ThreadGroup tg = new ThreadGroup("Crypto-Work-Executor-Group");
+			final AtomicInteger counter = new AtomicInteger(0);
+			ThreadFactory tf = new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(tg, r, "Crypto-Work-Executor-"+(counter.incrementAndGet()));
+					t.setDaemon(true);
+					t.setUncaughtExceptionHandler(uncaughtExceptionHandler);
+					return t;
+				}};
+				int threads = Math.max(1, CORES / 2);
+				CRYPTO_EXECUTOR =
+						new ThreadPoolExecutor(
+								threads,
+								threads,
+								3L, TimeUnit.SECONDS,
+								new ArrayBlockingQueue<Runnable>(CRYPTO_QUEUE_SIZE),
+								tf,
+								new ThreadPoolExecutor.AbortPolicy());
+				CRYPTO_EXECUTOR.allowCoreThreadTimeOut(true);
+		}
+		return CRYPTO_EXECUTOR;
+	}
+
 	/**
 	 * Get Executor that handles tasks that are rejected by blocking work executor
 	 *
@@ -344,6 +395,29 @@ public class StackUtils {
 		return SELECTOR;
 	}
 
+	/**
+	 * Get the selectors of server connections, one for each core. The first
+	 * one is {@link #getSelector()}. Connections are spread over the
+	 * selectors so that reading and writing the sockets scale with the
+	 * number of cores.
+	 *
+	 * @return the selectors
+	 */
+	public static synchronized AsyncSelector[] getConnectionSelectors() {
+		if (CONNECTION_SELECTORS == null) {
+			AsyncSelector[] selectors = new AsyncSelector[CORES];
+			selectors[0] = getSelector();
+			try {
+				for (int i=1; i<selectors.length; i++)
+					selectors[i] = new AsyncSelector(Selector.open());
+			} catch (IOException e) {
+				throw new Error(e);
+			}
+			CONNECTION_SELECTORS = selectors;
+		}
+		return CONNECTION_SELECTORS.clone();
+	}
+
 	/**
 	 * The handler that is called, if any of the worker threads encounter an exception that is not handled.
 	 *
@@ -411,8 +485,8 @@ public class StackUtils {
 	/**
 	 * Perform a "context shutdown" to clean up the Stack resources. Necessary for web service modules, etc.
 	 * <p>
-	 * Shuts down {@link #BLOCKING_EXECUTOR} and {@link #NON_BLOCKING_EXECUTOR}, closes {@link #SELECTOR}
-	 * and cancels {@link TimerUtil#getTimer()}.
+	 * Shuts down {@link #BLOCKING_EXECUTOR}, {@link #NON_BLOCKING_EXECUTOR} and {@link #CRYPTO_EXECUTOR}, closes {@link #SELECTOR}
+	 * and the other {@link #CONNECTION_SELECTORS}, and cancels {@link TimerUtil#getTimer()}.
 	 */
 	public static void shutdown() {
 		if (BLOCKING_EXECUTOR != null) {
@@ -423,12 +497,32 @@ public class StackUtils {
 			((ThreadPoolExecutor)NON_BLOCKING_EXECUTOR).shutdown();
 			NON_BLOCKING_EXECUTOR = null;
 		}
+		synchronized (StackUtils.class) {
+			if (CRYPTO_EXECUTOR != null) {
+				CRYPTO_EXECUTOR.shutdown();
+				CRYPTO_EXECUTOR = null;
+			}
+		}
 
 		if(rejectionExecutor != null){
 			rejectionExecutor.shutdown();
 			rejectionExecutor = null;
 		}
 
+		AsyncSelector[] connectionSelectors;
+		synchronized (StackUtils.class) {
+			connectionSelectors = CONNECTION_SELECTORS;
+			CONNECTION_SELECTORS = null;
+		}
+		// The first one is SELECTOR
+		if (connectionSelectors != null)
+			for (int i=1; i<connectionSelectors.length; i++)
+				try {
+					connectionSelectors[i].close();
+				} catch (IOException e) {
+					logger.debug("CONNECTION_SELECTORS.close failed", e);
+				}
+
 		if (SELECTOR != null)
 			try {
 				SELECTOR.close();
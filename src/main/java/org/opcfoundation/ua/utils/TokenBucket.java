@@ -0,0 +1,80 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.utils;
+
+/**
+ * Token bucket rate limiter.
+ * <p>
+ * The bucket holds at most <code>capacity</code> tokens and is refilled with
+ * <code>rate</code> tokens per second. Each operation takes one token and is
+ * refused when the bucket is empty, so short bursts are allowed but the long
+ * term rate is bounded.
+ */
+public class TokenBucket {
+
+	private final double rate;
+	private final double capacity;
+	private double tokens;
+	private long lastRefill;
+
+	/**
+	 * Create a full bucket.
+	 *
+	 * @param rate tokens added per second
+	 * @param capacity max number of tokens, e.g. the size of a burst
+	 */
+	public TokenBucket(double rate, int capacity) {
+		if (rate <= 0 || capacity < 1)
+			throw new IllegalArgumentException("rate and capacity must be positive");
+		this.rate = rate;
+		this.capacity = capacity;
+		this.tokens = capacity;
+		this.lastRefill = System.nanoTime();
+	}
+
+	/**
+	 * Take a token, if one is available.
+	 *
+	 * @return true if a token was taken, false if the rate is exceeded
+	 */
+	public boolean tryAcquire() {
+		return tryAcquire(System.nanoTime());
+	}
+
+	synchronized boolean tryAcquire(long now) {
+		long elapsed = now - lastRefill;
+		if (elapsed > 0) {
+			tokens = Math.min(capacity, tokens + elapsed * rate / 1e9);
+			lastRefill = now;
+		}
+		if (tokens < 1)
+			return false;
+		tokens--;
+		return true;
+	}
+
+	/**
+	 * @return tokens added per second
+	 */
+	public double getRate() {
+		return rate;
+	}
+
+	/**
+	 * @return max number of tokens
+	 */
+	public int getCapacity() {
+		return (int) capacity;
+	}
+
+}
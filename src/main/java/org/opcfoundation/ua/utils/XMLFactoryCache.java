@@ -3,6 +3,7 @@ package org.opcfoundation.ua.utils;
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.sax.SAXTransformerFactory;
 
@@ -22,6 +23,7 @@ public class XMLFactoryCache {
 	private static final SAXTransformerFactory SAX_TRANSFORMER_FACTORY = (SAXTransformerFactory)SAXTransformerFactory.newInstance();
 	private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
 	private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newInstance();
+	private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
 
 	private static boolean ignoreErrorsOnDefaultInitialization = false;
 
@@ -128,4 +130,13 @@ public class XMLFactoryCache {
 		return XML_INPUT_FACTORY;
 	}
 
+	/**
+	 * <p>getXMLOutputFactory.</p>
+	 *
+	 * @return a {@link javax.xml.stream.XMLOutputFactory} object.
+	 */
+	public static XMLOutputFactory getXMLOutputFactory(){
+		return XML_OUTPUT_FACTORY;
+	}
+
 }
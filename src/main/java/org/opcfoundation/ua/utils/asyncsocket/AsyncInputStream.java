@@ -88,6 +88,18 @@ public abstract class AsyncInputStream extends InputStream {
 	 */
 	public abstract BufferMonitor createMonitor(long position, MonitorListener listener);
 
+	/**
+	 * Decode the stream into length-prefixed frames. The stream reads the
+	 * header of each frame, asks the listener for the length of the frame and
+	 * delivers the complete frame to the listener, without creating monitors.
+	 * The frames are read from the stream, so other reads should not be used
+	 * at the same time.
+	 *
+	 * @param headerLength the number of bytes needed to determine the length of a frame
+	 * @param listener frame listener, or null to stop decoding
+	 */
+	public abstract void setFrameListener(int headerLength, FrameListener listener);
+
 	/**
 	 * Get the number of bytes the stream buffers from TCP stack.
 	 *
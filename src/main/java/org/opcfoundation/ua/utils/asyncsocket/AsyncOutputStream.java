@@ -85,4 +85,32 @@ public abstract class AsyncOutputStream extends OutputStream {
 	 */
 	public abstract BufferMonitor createMonitor(long position, MonitorListener flushListener);	
 	
+	/**
+	 * Set the watermarks of the write queue. The stream becomes not writable
+	 * when more than highWatermark bytes are unflushed, and writable again
+	 * when at most lowWatermark bytes are unflushed. Writes are never
+	 * refused; the writer is expected to follow the writability.
+	 * <p>
+	 * Default: 0, 0 which means that the stream is always writable.
+	 *
+	 * @param lowWatermark the low watermark in bytes
+	 * @param highWatermark the high watermark in bytes, or 0 for no limit
+	 */
+	public abstract void setWatermarks(long lowWatermark, long highWatermark);
+	
+	/**
+	 * Tells whether the unflushed bytes are within the watermarks.
+	 *
+	 * @return true if the stream is writable
+	 * @see #setWatermarks(long, long)
+	 */
+	public abstract boolean isWritable();
+	
+	/**
+	 * Set the listener of writability changes.
+	 *
+	 * @param listener the listener, or null
+	 */
+	public abstract void setWritabilityListener(WritabilityListener listener);
+	
 }
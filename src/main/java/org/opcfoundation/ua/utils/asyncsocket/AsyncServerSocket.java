@@ -20,6 +20,7 @@ import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +36,9 @@ public class AsyncServerSocket extends AbstractState<ServerSocketState, IOExcept
 	ServerSocketChannel c;
 	ListenableServerSocketChannel ls;
 	Executor executor; // Teloittaja
+	/** Selectors of accepted connections, null if the selector of the server socket is used */
+	AsyncSelector[] connectionSelectors;
+	AtomicInteger nextSelector = new AtomicInteger();
 	CopyOnWriteArrayList<ConnectListener> listeners = new CopyOnWriteArrayList<ConnectListener>();
 	ServerSocketAcceptable listener = new ServerSocketAcceptable() {
 		@Override
@@ -42,7 +46,7 @@ public class AsyncServerSocket extends AbstractState<ServerSocketState, IOExcept
 			try {
 				SocketChannel chan = socket.getChannel().accept();
 				chan.configureBlocking(false);				
-				AsyncSocketImpl as = new AsyncSocketImpl(chan, executor, ls.getSelectorThread());
+				AsyncSocketImpl as = new AsyncSocketImpl(chan, executor, nextConnectionSelector());
 				fireConnected(as);
 			} catch (ClosedChannelException e) {
 				setState(ServerSocketState.Closed);
@@ -68,6 +72,25 @@ public class AsyncServerSocket extends AbstractState<ServerSocketState, IOExcept
 		this.c = chan;
 	}
 
+	/**
+	 * Constructor for AsyncServerSocket, which spreads the accepted
+	 * connections over several selectors in round-robin order.
+	 *
+	 * @param chan a {@link java.nio.channels.ServerSocketChannel} object.
+	 * @param e a {@link java.util.concurrent.Executor} object.
+	 * @param sel the selector of the server socket
+	 * @param connectionSelectors the selectors of the accepted connections
+	 * @throws java.nio.channels.ClosedChannelException if any.
+	 */
+	public AsyncServerSocket(ServerSocketChannel chan, Executor e, AsyncSelector sel, AsyncSelector[] connectionSelectors) 
+	throws ClosedChannelException
+	{
+		this(chan, e, sel);
+		if (connectionSelectors.length == 0)
+			throw new IllegalArgumentException("no connection selectors");
+		this.connectionSelectors = connectionSelectors.clone();
+	}
+
     /**
      * <p>Constructor for AsyncServerSocket.</p>
      *
@@ -84,6 +107,14 @@ public class AsyncServerSocket extends AbstractState<ServerSocketState, IOExcept
         this.c = chan;
     }
 
+    AsyncSelector nextConnectionSelector() {
+    	AsyncSelector[] selectors = connectionSelectors;
+    	if (selectors == null)
+    		return ls.getSelectorThread();
+    	int i = nextSelector.getAndIncrement() & Integer.MAX_VALUE;
+    	return selectors[i % selectors.length];
+    }
+
     public interface ConnectListener {
 		public void onConnected(AsyncServerSocket sender, AsyncSocketImpl newConnection);
 	}
@@ -297,6 +297,7 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 			} else {
 				is.readChannel();
 				is.prepareToReadMore();
+				is.deliverFrames();
 			}
 		}
 	};
@@ -316,6 +317,18 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 		long						recvTargetPos;	// Position where to stop reading more data
 		boolean						closed;
 		long						bufSize = BUF_SIZE;
+		// Frame decoding
+		FrameListener				frameListener;
+		int							frameHeaderLength;
+		int							frameLength = -1;	// Length of the next frame, if its header has been read
+		ByteBuffer					invalidFrameHeader;
+		boolean						delivering;		// A thread is delivering frames
+		
+		Runnable					frameDeliverer = new Runnable() {
+			@Override
+			public void run() {
+				deliverFrames();
+			}};
 		
 		@Override
 		public synchronized int read() throws IOException {
@@ -442,6 +455,9 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 			if (closed) return;
 			closed = true;
 			upRecvTarget(q.getBytesWritten()); // nulls readable listener
+			// Deliver the remaining frames and the close in another thread, as the caller may hold locks
+			if (frameListener != null)
+				triggerExecutor.execute(frameDeliverer);
 			// Trigger remaining alarms
 			long maxPos = getMaxRecvSize();
 			Iterator<BufferMonitor> i = alarms.iterator();
@@ -571,6 +587,98 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 		}
 		
 		
+		@Override
+		public void setFrameListener(int headerLength, FrameListener listener) {
+			if (headerLength<1) throw new IllegalArgumentException("header length must be over 0");
+			synchronized(this) {
+				frameListener = listener;
+				frameHeaderLength = headerLength;
+				frameLength = -1;
+				if (listener == null) return;
+				upRecvTarget(q.getBytesRead() + headerLength);
+			}
+			// Deliver the frames that have already been received
+			deliverFrames();
+		}
+		
+		/**
+		 * Deliver the complete frames to the frame listener. Only one thread
+		 * delivers at a time, and the listener is called outside the lock.
+		 */
+		void deliverFrames()
+		{
+			FrameListener l;
+			synchronized(this) {
+				if (delivering || frameListener == null) return;
+				delivering = true;
+				l = frameListener;
+			}
+			while (true) {
+				ByteBuffer frame;
+				ByteBuffer invalidHeader = null;
+				boolean end = false;
+				synchronized(this) {
+					frame = l == frameListener ? nextFrame() : null;
+					if (frame == null) {
+						delivering = false;
+						if (l != frameListener)
+							return;
+						invalidHeader = invalidFrameHeader;
+						invalidFrameHeader = null;
+						end = closed || invalidHeader != null;
+						if (end)
+							frameListener = null;
+					}
+				}
+				if (frame == null) {
+					if (invalidHeader != null)
+						l.onFrameError(invalidHeader);
+					else if (end)
+						l.onClosed();
+					return;
+				}
+				try {
+					l.onFrame(frame);
+				} catch (RuntimeException e) {
+					synchronized(this) {
+						delivering = false;
+					}
+					throw e;
+				}
+			}
+		}
+		
+		/**
+		 * Take the next complete frame from the buffer.
+		 * 
+		 * @return the frame, or null if no complete frame has been received
+		 */
+		private ByteBuffer nextFrame()
+		{
+			if (frameLength < 0) {
+				if (q.remaining() < frameHeaderLength) {
+					prepareToReadMore();
+					return null;
+				}
+				int length = frameListener.getFrameLength(q.peek(frameHeaderLength));
+				if (length < frameHeaderLength) {
+					invalidFrameHeader = q.peek(frameHeaderLength);
+					return null;
+				}
+				frameLength = length;
+				// Receive the whole frame, even if it is larger than the buffer
+				if (q.getBytesRead() + length > recvTargetPos)
+					upRecvTarget(q.getBytesRead() + length);
+			}
+			if (q.remaining() < frameLength) {
+				prepareToReadMore();
+				return null;
+			}
+			ByteBuffer frame = q.get(frameLength);
+			frameLength = -1;
+			return frame;
+		}
+		
 		synchronized void prepareToReadMore()
 		{
 			upRecvTarget(q.getBytesRead() + bufSize);
@@ -616,6 +724,24 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 		
 		ByteQueue q = new ByteQueue(16384);		
 		boolean closed;
+		// Write queue watermarks
+		long lowWatermark;
+		long highWatermark;
+		boolean writable = true;
+		WritabilityListener writabilityListener;
+		
+		Runnable writabilityEvent = new Runnable() {
+			@Override
+			public void run() {
+				WritabilityListener l;
+				boolean w;
+				synchronized(AsyncSocketOutputStream.this) {
+					l = writabilityListener;
+					w = writable;
+				}
+				if (l != null)
+					l.onWritabilityChanged(AsyncSocketOutputStream.this, w);
+			}};
 		
 		@Override
 		public synchronized void write(int b) throws IOException {
@@ -777,6 +903,8 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 					} else break;
 				}
 			}
+			
+			checkWritability();
 		}
 
 		@Override
@@ -784,6 +912,44 @@ public class AsyncSocketImpl extends AbstractState<SocketState, IOException> imp
 			return q.remaining();
 		}
 
+		@Override
+		public synchronized void setWatermarks(long lowWatermark, long highWatermark) {
+			if (lowWatermark<0 || highWatermark<0 || (highWatermark>0 && lowWatermark>highWatermark))
+				throw new IllegalArgumentException("invalid watermarks "+lowWatermark+", "+highWatermark);
+			this.lowWatermark = lowWatermark;
+			this.highWatermark = highWatermark;
+			checkWritability();
+		}
+
+		@Override
+		public synchronized boolean isWritable() {
+			return writable;
+		}
+
+		@Override
+		public synchronized void setWritabilityListener(WritabilityListener listener) {
+			this.writabilityListener = listener;
+		}
+		
+		/**
+		 * Update writability after the queue has changed, and notify the listener
+		 * in the trigger executor.
+		 */
+		private void checkWritability()
+		{
+			boolean w;
+			if (highWatermark<=0)
+				w = true;
+			else if (writable)
+				w = q.remaining() <= highWatermark;
+			else
+				w = q.remaining() <= lowWatermark;
+			if (w == writable) return;
+			writable = w;
+			if (writabilityListener != null)
+				triggerExecutor.execute(writabilityEvent);
+		}
+
 		
 	}
 	
@@ -0,0 +1,55 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.utils.asyncsocket;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Listener of length-prefixed frames of an {@link AsyncInputStream}.
+ * <p>
+ * The frames are delivered in order, by one thread at a time, and without
+ * holding the lock of the stream. Usually this is the selector thread.
+ *
+ * @see AsyncInputStream#setFrameListener(int, FrameListener)
+ */
+public interface FrameListener {
+
+	/**
+	 * Get the length of a frame from its header. This is called while the
+	 * stream is locked, and must not block or have side effects.
+	 *
+	 * @param header the header of the frame
+	 * @return the length of the frame including the header, or -1 if the header is invalid
+	 */
+	int getFrameLength(ByteBuffer header);
+
+	/**
+	 * A complete frame has been received.
+	 *
+	 * @param frame the frame including the header
+	 */
+	void onFrame(ByteBuffer frame);
+
+	/**
+	 * An invalid header has been received. No more frames are delivered.
+	 *
+	 * @param header the invalid header
+	 */
+	void onFrameError(ByteBuffer header);
+
+	/**
+	 * The stream has been closed. No more frames are delivered.
+	 */
+	void onClosed();
+
+}
@@ -0,0 +1,35 @@
+/* Copyright (c) 1996-2015, OPC Foundation. All rights reserved.
+   The source code in this file is covered under a dual-license scenario:
+     - RCL: for OPC Foundation members in good-standing
+     - GPL V2: everybody else
+   RCL license terms accompanied with this source code. See http://opcfoundation.org/License/RCL/1.00/
+   GNU General Public License as published by the Free Software Foundation;
+   version 2 of the License are accompanied with this source code. See http://opcfoundation.org/License/GPLv2
+   This source code is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+*/
+
+package org.opcfoundation.ua.utils.asyncsocket;
+
+/**
+ * Listener of the writability of an output, e.g. {@link AsyncOutputStream}.
+ * <p>
+ * The output is not writable when more data is queued than its high
+ * watermark, and becomes writable again when the queue has been drained
+ * to its low watermark. The events are asynchronous, so the listener should
+ * use the state given in the event, which is the latest state.
+ *
+ * @see AsyncOutputStream#setWatermarks(long, long)
+ */
+public interface WritabilityListener {
+
+	/**
+	 * The writability of the output has changed.
+	 *
+	 * @param sender the output
+	 * @param writable true if the output is writable
+	 */
+	void onWritabilityChanged(Object sender, boolean writable);
+
+}
@@ -184,5 +184,14 @@ public class ByteBufferReadable implements IBinaryReadable {
 		long newPosition = bytes + position();
 		position( newPosition );
 	}
+
+	/**
+	 * Get the underlying buffer. Reading the buffer advances this readable.
+	 *
+	 * @return the buffer
+	 */
+	public ByteBuffer getBuffer() {
+		return buf;
+	}
 	
 }
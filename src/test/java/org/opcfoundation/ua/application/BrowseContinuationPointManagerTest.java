@@ -0,0 +1,110 @@
+package org.opcfoundation.ua.application;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.core.*;
+
+import static org.junit.Assert.*;
+
+public class BrowseContinuationPointManagerTest {
+
+    final NodeId session1 = new NodeId(1, "session1");
+    final NodeId session2 = new NodeId(1, "session2");
+
+    static ReferenceDescription[] references(int count) {
+        ReferenceDescription[] result = new ReferenceDescription[count];
+        for (int i = 0; i < count; i++)
+            result[i] = new ReferenceDescription(Identifiers.Organizes, true, new ExpandedNodeId(new NodeId(2, i)),
+                    new QualifiedName(2, "Tag" + i), new LocalizedText("Tag" + i), NodeClass.Variable, null);
+        return result;
+    }
+
+    @Test
+    public void browseWithoutLimitReturnsAllReferences() {
+
+        BrowseContinuationPointManager target = new BrowseContinuationPointManager(5, 1 << 20, 1 << 24);
+        ReferenceDescription[] refs = references(10);
+        BrowseResult result = target.browse(session1, refs, 0);
+
+        assertTrue(result.getStatusCode().isGood());
+        assertNull(result.getContinuationPoint());
+        assertEquals(10, result.getReferences().length);
+        assertNotSame(refs, result.getReferences());
+        assertEquals(0, target.getContinuationPointCount());
+    }
+
+    @Test
+    public void browseNextPagesThroughSlice() {
+
+        BrowseContinuationPointManager target = new BrowseContinuationPointManager(5, 1 << 20, 1 << 24);
+        ReferenceDescription[] refs = references(100);
+        BrowseResult result = target.browse(session1, refs, 10, 35, 10);
+
+        assertSame(refs[10], result.getReferences()[0]);
+        assertEquals(10, result.getReferences().length);
+        assertNotNull(result.getContinuationPoint());
+
+        result = target.browseNext(session1, result.getContinuationPoint(), false);
+        assertSame(refs[20], result.getReferences()[0]);
+        assertNotNull(result.getContinuationPoint());
+
+        result = target.browseNext(session1, result.getContinuationPoint(), false);
+        assertEquals(5, result.getReferences().length);
+        assertSame(refs[34], result.getReferences()[4]);
+        assertNull(result.getContinuationPoint());
+        assertEquals(0, target.getContinuationPointCount());
+        assertEquals(0, target.getEstimatedBytes());
+    }
+
+    @Test
+    public void continuationPointIsScopedToSession() {
+
+        BrowseContinuationPointManager target = new BrowseContinuationPointManager(5, 1 << 20, 1 << 24);
+        ByteString cp = target.browse(session1, references(20), 10).getContinuationPoint();
+
+        BrowseResult result = target.browseNext(session2, cp, false);
+        assertEquals(StatusCodes.Bad_ContinuationPointInvalid, result.getStatusCode().getValue());
+
+        result = target.browseNext(session1, cp, true);
+        assertTrue(result.getStatusCode().isGood());
+        assertNull(result.getReferences());
+
+        result = target.browseNext(session1, cp, false);
+        assertEquals(StatusCodes.Bad_ContinuationPointInvalid, result.getStatusCode().getValue());
+    }
+
+    @Test
+    public void sessionLimitReturnsNoContinuationPoints() {
+
+        BrowseContinuationPointManager target = new BrowseContinuationPointManager(2, 1 << 20, 1 << 24);
+        target.browse(session1, references(20), 10);
+        target.browse(session1, references(20), 10);
+        BrowseResult result = target.browse(session1, references(20), 10);
+
+        assertEquals(StatusCodes.Bad_NoContinuationPoints, result.getStatusCode().getValue());
+        assertTrue(target.browse(session2, references(20), 10).getStatusCode().isGood());
+
+        target.closeSession(session1);
+        assertEquals(0, target.getContinuationPointCount(session1));
+        assertEquals(1, target.getContinuationPointCount());
+    }
+
+    @Test
+    public void globalBudgetEvictsLeastRecentlyUsed() {
+
+        long size = BrowseContinuationPointManager.CURSOR_OVERHEAD + 10 * BrowseContinuationPointManager.BYTES_PER_REFERENCE;
+        BrowseContinuationPointManager target = new BrowseContinuationPointManager(5, 1 << 20, 2 * size);
+        ByteString first = target.browse(session1, references(20), 10).getContinuationPoint();
+        ByteString second = target.browse(session2, references(20), 10).getContinuationPoint();
+        ByteString third = target.browse(session2, references(20), 10).getContinuationPoint();
+
+        assertNotNull(third);
+        assertEquals(1, target.getEvictions());
+        assertEquals(StatusCodes.Bad_ContinuationPointInvalid,
+                target.browseNext(session1, first, false).getStatusCode().getValue());
+        assertTrue(target.browseNext(session2, second, false).getStatusCode().isGood());
+
+        BrowseResult tooLarge = target.browse(session1, references(1000), 10);
+        assertEquals(StatusCodes.Bad_NoContinuationPoints, tooLarge.getStatusCode().getValue());
+    }
+}
@@ -0,0 +1,168 @@
+package org.opcfoundation.ua.application;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.core.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class BrowsePathResolverTest {
+
+    static final NodeId OBJECTS = Identifiers.ObjectsFolder;
+    static final NodeId DEVICE = new NodeId(2, "Device");
+    static final NodeId TEMPERATURE = new NodeId(2, "Device.Temperature");
+    static final NodeId UNIT = new NodeId(2, "Device.Temperature.Unit");
+
+    BrowsePathResolver resolver;
+
+    @Before
+    public void setUp() {
+        resolver = new BrowsePathResolver(null, 100);
+        resolver.addStandardReferenceTypes();
+        resolver.addNode(OBJECTS, new QualifiedName("Objects"));
+        resolver.addNode(DEVICE, new QualifiedName(2, "Device"));
+        resolver.addNode(TEMPERATURE, new QualifiedName(2, "Temperature"));
+        resolver.addNode(UNIT, new QualifiedName(2, "Unit"));
+        resolver.addReference(OBJECTS, Identifiers.Organizes, DEVICE);
+        resolver.addReference(DEVICE, Identifiers.HasComponent, TEMPERATURE);
+        resolver.addReference(TEMPERATURE, Identifiers.HasProperty, UNIT);
+    }
+
+    static RelativePathElement element(NodeId type, boolean inverse, boolean subtypes, QualifiedName name) {
+        return new RelativePathElement(type, inverse, subtypes, name);
+    }
+
+    static BrowsePath path(NodeId start, RelativePathElement... elements) {
+        return new BrowsePath(start, new RelativePath(elements));
+    }
+
+    static BrowsePath forwardPath(NodeId start, String... names) {
+        RelativePathElement[] elements = new RelativePathElement[names.length];
+        for (int i = 0; i < names.length; i++)
+            elements[i] = element(Identifiers.HierarchicalReferences, false, true, new QualifiedName(2, names[i]));
+        return path(start, elements);
+    }
+
+    @Test
+    public void translateResolvesHierarchicalPath() {
+        BrowsePathResult result = resolver.translate(forwardPath(OBJECTS, "Device", "Temperature", "Unit"));
+
+        assertTrue(result.getStatusCode().isGood());
+        assertEquals(1, result.getTargets().length);
+        assertEquals(new ExpandedNodeId(UNIT), result.getTargets()[0].getTargetId());
+        assertEquals(BrowsePathResolver.RESOLVED, result.getTargets()[0].getRemainingPathIndex());
+    }
+
+    @Test
+    public void translateChecksReferenceTypeAndDirection() {
+        // HasProperty is not a subtype of HasComponent
+        BrowsePathResult result = resolver.translate(path(DEVICE,
+                element(Identifiers.HasComponent, false, true, new QualifiedName(2, "Temperature")),
+                element(Identifiers.HasComponent, false, true, new QualifiedName(2, "Unit"))));
+        assertEquals(StatusCodes.Bad_NoMatch, result.getStatusCode().getValue());
+
+        // Without subtypes Aggregates does not match HasComponent
+        result = resolver.translate(path(DEVICE, element(Identifiers.Aggregates, false, false, new QualifiedName(2, "Temperature"))));
+        assertEquals(StatusCodes.Bad_NoMatch, result.getStatusCode().getValue());
+
+        result = resolver.translate(path(UNIT, element(Identifiers.HasProperty, true, false, new QualifiedName(2, "Temperature"))));
+        assertEquals(new ExpandedNodeId(TEMPERATURE), result.getTargets()[0].getTargetId());
+    }
+
+    @Test
+    public void translateReportsErrors() {
+        assertEquals(StatusCodes.Bad_NodeIdUnknown,
+                resolver.translate(forwardPath(new NodeId(2, "Missing"), "Device")).getStatusCode().getValue());
+        assertEquals(StatusCodes.Bad_NothingToDo,
+                resolver.translate(path(OBJECTS)).getStatusCode().getValue());
+        assertEquals(StatusCodes.Bad_BrowseNameInvalid,
+                resolver.translate(path(OBJECTS,
+                        element(Identifiers.Organizes, false, false, null),
+                        element(Identifiers.HasComponent, false, false, new QualifiedName(2, "Temperature"))))
+                        .getStatusCode().getValue());
+    }
+
+    @Test
+    public void cacheIsClearedOnModelChange() {
+        BrowsePath p = forwardPath(OBJECTS, "Device", "Temperature");
+        resolver.translate(p);
+        resolver.translate(p);
+        assertEquals(1, resolver.getHits());
+
+        resolver.removeReference(DEVICE, Identifiers.HasComponent, TEMPERATURE);
+        assertEquals(StatusCodes.Bad_NoMatch, resolver.translate(p).getStatusCode().getValue());
+
+        resolver.addNode(TEMPERATURE, new QualifiedName(2, "Temp"));
+        resolver.addReference(DEVICE, Identifiers.HasComponent, TEMPERATURE);
+        assertTrue(resolver.translate(forwardPath(OBJECTS, "Device", "Temp")).getStatusCode().isGood());
+        // Renaming reindexes the references to the node
+        assertTrue(resolver.translate(forwardPath(OBJECTS, "Device", "Temp", "Unit")).getStatusCode().isGood());
+    }
+
+    @Test
+    public void pathKeyComparesFlagsOfEachElement() {
+        RelativePathElement[] a = new RelativePathElement[40];
+        RelativePathElement[] b = new RelativePathElement[40];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = element(Identifiers.HierarchicalReferences, false, true, new QualifiedName(2, "N"));
+            b[i] = element(Identifiers.HierarchicalReferences, i == 0, true, new QualifiedName(2, "N"));
+        }
+        assertFalse(new BrowsePathResolver.PathKey(OBJECTS, a).equals(new BrowsePathResolver.PathKey(OBJECTS, b)));
+        assertEquals(new BrowsePathResolver.PathKey(OBJECTS, a), new BrowsePathResolver.PathKey(OBJECTS, a.clone()));
+
+        BrowsePath inverse = path(TEMPERATURE, element(Identifiers.HasComponent, true, false, new QualifiedName(2, "Device")));
+        BrowsePath forward = path(TEMPERATURE, element(Identifiers.HasComponent, false, false, new QualifiedName(2, "Device")));
+        assertTrue(resolver.translate(inverse).getStatusCode().isGood());
+        assertEquals(StatusCodes.Bad_NoMatch, resolver.translate(forward).getStatusCode().getValue());
+    }
+
+    @Test
+    public void fullCacheEvictsUnreferencedEntries() {
+        BrowsePathResolver small = new BrowsePathResolver(null, 2);
+        small.addStandardReferenceTypes();
+        small.addNode(OBJECTS, new QualifiedName("Objects"));
+        for (int i = 0; i < 3; i++) {
+            small.addNode(new NodeId(2, i), new QualifiedName(2, "N" + i));
+            small.addReference(OBJECTS, Identifiers.Organizes, new NodeId(2, i));
+        }
+        small.translate(forwardPath(OBJECTS, "N0"));
+        small.translate(forwardPath(OBJECTS, "N1"));
+        small.translate(forwardPath(OBJECTS, "N0"));
+        small.translate(forwardPath(OBJECTS, "N2"));
+        assertEquals(2, small.cache.size());
+
+        // N0 was referenced, so N1 was evicted
+        small.translate(forwardPath(OBJECTS, "N0"));
+        assertEquals(2, small.getHits());
+        small.translate(forwardPath(OBJECTS, "N1"));
+        assertEquals(2, small.getHits());
+    }
+
+    @Test
+    public void translateBatchInParallel() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            BrowsePathResolver parallel = new BrowsePathResolver(executor, 0);
+            parallel.addStandardReferenceTypes();
+            parallel.addNode(OBJECTS, new QualifiedName("Objects"));
+            for (int i = 0; i < 100; i++) {
+                NodeId node = new NodeId(2, i);
+                parallel.addNode(node, new QualifiedName(2, "N" + i));
+                parallel.addReference(OBJECTS, Identifiers.Organizes, node);
+            }
+            BrowsePath[] paths = new BrowsePath[1000];
+            for (int i = 0; i < paths.length; i++)
+                paths[i] = forwardPath(OBJECTS, "N" + (i % 100));
+
+            BrowsePathResult[] results = parallel.translate(paths);
+
+            for (int i = 0; i < paths.length; i++)
+                assertEquals(new ExpandedNodeId(new NodeId(2, i % 100)), results[i].getTargets()[0].getTargetId());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.opcfoundation.ua.application;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.core.*;
+
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class EndpointCacheTest {
+
+    static final byte[] CERT = { 1, 2, 3, 4 };
+    static final byte[] OTHER_CERT = { 5, 6, 7, 8 };
+
+    static EndpointDescription[] endpoints(byte[] cert) {
+        EndpointDescription e = new EndpointDescription();
+        e.setEndpointUrl("opc.tcp://localhost:4840");
+        e.setServerCertificate(ByteString.valueOf(cert));
+        return new EndpointDescription[] { e };
+    }
+
+    @Test
+    public void entriesExpire() {
+        EndpointCache cache = new EndpointCache(1000, 10);
+        EndpointDescription[] endpoints = endpoints(CERT);
+        long now = System.nanoTime();
+        cache.put("opc.tcp://a", endpoints, now);
+
+        assertSame(endpoints, cache.get("opc.tcp://a", now + TimeUnit.MILLISECONDS.toNanos(999)));
+        assertNull(cache.get("opc.tcp://a", now + TimeUnit.MILLISECONDS.toNanos(1000)));
+        assertNull(cache.get("opc.tcp://b", now));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    public void leastRecentlyUsedIsEvicted() {
+        EndpointCache cache = new EndpointCache(60000, 2);
+        cache.put("opc.tcp://a", endpoints(CERT));
+        cache.put("opc.tcp://b", endpoints(CERT));
+        assertNotNull(cache.get("opc.tcp://a"));
+        cache.put("opc.tcp://c", endpoints(CERT));
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("opc.tcp://a"));
+        assertNull(cache.get("opc.tcp://b"));
+        assertNotNull(cache.get("opc.tcp://c"));
+    }
+
+    @Test
+    public void changedServerCertificateInvalidates() {
+        EndpointCache cache = new EndpointCache();
+        cache.put("opc.tcp://a", endpoints(CERT));
+
+        assertTrue(cache.checkServerCertificate("opc.tcp://a", CERT.clone()));
+        assertNotNull(cache.get("opc.tcp://a"));
+        assertFalse(cache.checkServerCertificate("opc.tcp://a", OTHER_CERT));
+        assertNull(cache.get("opc.tcp://a"));
+        assertTrue(cache.checkServerCertificate("opc.tcp://b", OTHER_CERT));
+    }
+
+    @Test
+    public void endpointsWithoutCertificate() {
+        EndpointCache cache = new EndpointCache();
+        cache.put("opc.tcp://a", endpoints(null));
+
+        assertTrue(cache.checkServerCertificate("opc.tcp://a", null));
+        assertFalse(cache.checkServerCertificate("opc.tcp://a", CERT));
+    }
+
+    @Test
+    public void zeroSizeCachesNothing() {
+        EndpointCache cache = new EndpointCache(60000, 0);
+        cache.put("opc.tcp://a", endpoints(CERT));
+        assertNull(cache.get("opc.tcp://a"));
+    }
+}
@@ -0,0 +1,51 @@
+package org.opcfoundation.ua.application;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+import org.junit.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.core.*;
+import org.opcfoundation.ua.encoding.*;
+import org.opcfoundation.ua.encoding.binary.*;
+import org.opcfoundation.ua.utils.*;
+
+import static org.junit.Assert.*;
+
+public class EndpointDiscoveryServiceTest {
+
+    static final SocketAddress ADDRESS = new InetSocketAddress("127.0.0.1", 4840);
+
+    static GetEndpointsRequest request(String url) {
+        return new GetEndpointsRequest(null, url, null, null);
+    }
+
+    @Test
+    public void equivalentUrlsShareTheKey() {
+        EndpointDiscoveryService service = new EndpointDiscoveryService(null);
+        Object key = service.getCacheKey(ADDRESS, request("opc.tcp://host:4840/UAExample"));
+        assertEquals(key, service.getCacheKey(ADDRESS, request("opc.tcp://HOST:4841/UAExample/")));
+        assertFalse(key.equals(service.getCacheKey(ADDRESS, request("opc.tcp://other:4840/UAExample"))));
+        assertFalse(key.equals(service.getCacheKey(ADDRESS, request("opc.tcp://host:4840/Other"))));
+        assertEquals(service.getCacheKey(ADDRESS, request(null)), service.getCacheKey(ADDRESS, request("/")));
+    }
+
+    @Test
+    public void fullCacheEvictsLeastRecentlyUsed() throws Exception {
+        EndpointDiscoveryService service = new EndpointDiscoveryService(null);
+        EncoderContext ctx = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+        PreEncodedResponse response = PreEncodedResponse.encode(new GetEndpointsResponse(new ResponseHeader(), new EndpointDescription[0]), ctx);
+
+        EndpointDiscoveryService.ResponseCache cache = new EndpointDiscoveryService.ResponseCache(new long[] { 1 });
+        for (int i = 0; i < EndpointDiscoveryService.MAX_CACHED_RESPONSES; i++)
+            cache.put(service.getCacheKey(ADDRESS, request("opc.tcp://host" + i + ":4840")), response);
+        assertNotNull(cache.get(service.getCacheKey(ADDRESS, request("opc.tcp://host0:4840"))));
+
+        cache.put(service.getCacheKey(ADDRESS, request("opc.tcp://new:4840")), response);
+        assertEquals(EndpointDiscoveryService.MAX_CACHED_RESPONSES, cache.size());
+        assertNotNull(cache.get(service.getCacheKey(ADDRESS, request("opc.tcp://new:4840"))));
+        assertNotNull(cache.get(service.getCacheKey(ADDRESS, request("opc.tcp://host0:4840"))));
+        assertNull(cache.get(service.getCacheKey(ADDRESS, request("opc.tcp://host1:4840"))));
+    }
+
+}
@@ -0,0 +1,204 @@
+package org.opcfoundation.ua.application;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.core.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+public class ReadValueCacheTest {
+
+    static class CountingSource implements ReadValueCache.DataSource {
+
+        final AtomicInteger reads = new AtomicInteger();
+        final AtomicInteger values = new AtomicInteger();
+        volatile CountDownLatch gate;
+        volatile Error error;
+
+        @Override
+        public DataValue[] read(ReadValueId[] nodesToRead) throws ServiceResultException {
+            reads.incrementAndGet();
+            if (gate != null) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    throw new ServiceResultException(StatusCodes.Bad_Timeout);
+                }
+            }
+            if (error != null)
+                throw error;
+            DataValue[] result = new DataValue[nodesToRead.length];
+            for (int i = 0; i < result.length; i++)
+                result[i] = new DataValue(new Variant(values.incrementAndGet()), StatusCode.GOOD, DateTime.currentTime(), null);
+            return result;
+        }
+    }
+
+    static ReadValueId value(int id) {
+        return new ReadValueId(new NodeId(2, id), Attributes.Value, null, null);
+    }
+
+    @Test
+    public void maxAgeServedFromCache() throws ServiceResultException {
+
+        CountingSource source = new CountingSource();
+        ReadValueCache target = new ReadValueCache(source, 100, 1 << 20);
+
+        DataValue first = target.read(new ReadValueId[]{value(1)}, 0, TimestampsToReturn.Both)[0];
+        DataValue second = target.read(new ReadValueId[]{value(1)}, 60000, TimestampsToReturn.Both)[0];
+        DataValue third = target.read(new ReadValueId[]{value(1)}, 0, TimestampsToReturn.Both)[0];
+
+        assertEquals(2, source.reads.get());
+        assertSame(first, second);
+        assertNotEquals(first.getValue(), third.getValue());
+        assertEquals(1, target.getHits());
+        assertEquals(2, target.getMisses());
+    }
+
+    @Test
+    public void timestampsToReturnDoesNotModifyCachedValue() throws ServiceResultException {
+
+        ReadValueCache target = new ReadValueCache(new CountingSource(), 100, 1 << 20);
+
+        DataValue neither = target.read(new ReadValueId[]{value(1)}, 0, TimestampsToReturn.Neither)[0];
+        DataValue both = target.read(new ReadValueId[]{value(1)}, ReadValueCache.MAX_AGE_ANY, TimestampsToReturn.Both)[0];
+
+        assertNull(neither.getSourceTimestamp());
+        assertNull(neither.getServerTimestamp());
+        assertNotNull(both.getSourceTimestamp());
+        assertNotNull(both.getServerTimestamp());
+    }
+
+    @Test
+    public void overwritesKeepClockBounded() throws ServiceResultException {
+
+        ReadValueCache target = new ReadValueCache(new CountingSource(), 100, 1 << 20);
+
+        for (int i = 0; i < 10000; i++) {
+            target.read(new ReadValueId[]{value(1)}, 0, TimestampsToReturn.Both);
+            if (i % 100 == 0)
+                target.invalidate(value(1).getNodeId());
+        }
+
+        assertEquals(1, target.size());
+        assertTrue(target.clock.size() <= 2 * target.size() + 17);
+        assertEquals(target.clock.size(), target.clockSize.get());
+    }
+
+    @Test(expected = ServiceResultException.class)
+    public void negativeMaxAgeIsInvalid() throws ServiceResultException {
+
+        new ReadValueCache(new CountingSource(), 100, 1 << 20).read(new ReadValueId[]{value(1)}, -1, TimestampsToReturn.Both);
+    }
+
+    @Test
+    public void concurrentReadsAreCoalesced() throws Exception {
+
+        final CountingSource source = new CountingSource();
+        source.gate = new CountDownLatch(1);
+        final ReadValueCache target = new ReadValueCache(source, 100, 1 << 20);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<DataValue[]>> results = new ArrayList<Future<DataValue[]>>();
+            for (int i = 0; i < threads; i++)
+                results.add(executor.submit(new Callable<DataValue[]>() {
+                    @Override
+                    public DataValue[] call() throws Exception {
+                        return target.read(new ReadValueId[]{value(1)}, 0, TimestampsToReturn.Both);
+                    }
+                }));
+            // Wait until every reader has either started the fetch or joined it
+            long deadline = System.currentTimeMillis() + 5000;
+            while (target.getMisses() < threads && System.currentTimeMillis() < deadline)
+                Thread.sleep(1);
+            source.gate.countDown();
+
+            Variant expected = results.get(0).get(5, TimeUnit.SECONDS)[0].getValue();
+            for (Future<DataValue[]> f : results)
+                assertEquals(expected, f.get(5, TimeUnit.SECONDS)[0].getValue());
+            assertEquals(1, source.reads.get());
+            assertEquals(threads - 1, target.getCoalesced());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void errorInFetchReleasesReaders() throws Exception {
+
+        final CountingSource source = new CountingSource();
+        source.gate = new CountDownLatch(1);
+        source.error = new Error("data source failed");
+        final ReadValueCache target = new ReadValueCache(source, 100, 1 << 20);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<DataValue[]>> results = new ArrayList<Future<DataValue[]>>();
+            for (int i = 0; i < 2; i++)
+                results.add(executor.submit(new Callable<DataValue[]>() {
+                    @Override
+                    public DataValue[] call() throws Exception {
+                        return target.read(new ReadValueId[]{value(1)}, 0, TimestampsToReturn.Both);
+                    }
+                }));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (target.getMisses() < 2 && System.currentTimeMillis() < deadline)
+                Thread.sleep(1);
+            source.gate.countDown();
+
+            int failed = 0;
+            for (Future<DataValue[]> f : results) {
+                try {
+                    assertEquals(StatusCodes.Bad_InternalError, f.get(5, TimeUnit.SECONDS)[0].getStatusCode().getValue());
+                } catch (ExecutionException e) {
+                    assertSame(source.error, e.getCause());
+                    failed++;
+                }
+            }
+            assertEquals(1, failed);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // The key is not left in flight
+        source.gate = null;
+        source.error = null;
+        assertEquals(StatusCode.GOOD, target.read(new ReadValueId[]{value(1)}, 0, TimestampsToReturn.Both)[0].getStatusCode());
+        assertEquals(2, source.reads.get());
+    }
+
+    @Test
+    public void entriesAreEvictedWithinBounds() throws ServiceResultException {
+
+        ReadValueCache target = new ReadValueCache(new CountingSource(), 10, 1 << 20);
+        for (int i = 0; i < 100; i++)
+            target.read(new ReadValueId[]{value(i)}, 0, TimestampsToReturn.Both);
+
+        assertEquals(10, target.size());
+        assertEquals(90, target.getEvictions());
+
+        ReadValueCache small = new ReadValueCache(new CountingSource(), 100, 10 * ReadValueCache.ENTRY_OVERHEAD + 100);
+        for (int i = 0; i < 100; i++)
+            small.read(new ReadValueId[]{value(i)}, 0, TimestampsToReturn.Both);
+
+        assertTrue(small.getEstimatedBytes() <= 10 * ReadValueCache.ENTRY_OVERHEAD + 100);
+    }
+
+    @Test
+    public void invalidateRemovesNode() throws ServiceResultException {
+
+        CountingSource source = new CountingSource();
+        ReadValueCache target = new ReadValueCache(source, 100, 1 << 20);
+        target.read(new ReadValueId[]{value(1), value(2)}, 0, TimestampsToReturn.Both);
+        target.invalidate(new NodeId(2, 1));
+        target.read(new ReadValueId[]{value(1), value(2)}, ReadValueCache.MAX_AGE_ANY, TimestampsToReturn.Both);
+
+        assertEquals(2, source.reads.get());
+        assertEquals(1, target.getHits());
+    }
+}
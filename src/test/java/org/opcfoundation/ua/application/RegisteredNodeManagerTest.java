@@ -0,0 +1,110 @@
+package org.opcfoundation.ua.application;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.core.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class RegisteredNodeManagerTest {
+
+    static final int ALIAS_NS = 5;
+
+    final NodeId session1 = new NodeId(1, "session1");
+    final NodeId session2 = new NodeId(1, "session2");
+
+    final RegisteredNodeManager<String> target = new RegisteredNodeManager<String>(ALIAS_NS, 100,
+            new RegisteredNodeManager.NodeResolver<String>() {
+                @Override
+                public String resolve(NodeId nodeId) {
+                    return nodeId.getNamespaceIndex() == 2 ? "handle:" + nodeId.getValue() : null;
+                }
+            });
+
+    @Test
+    public void registerReturnsSessionScopedAliases() throws ServiceResultException {
+
+        NodeId tag = new NodeId(2, "Plant.Line1.Temperature");
+        NodeId numeric = new NodeId(2, 1234);
+        NodeId[] registered = target.register(session1, new NodeId[]{tag, numeric});
+
+        assertEquals(ALIAS_NS, registered[0].getNamespaceIndex());
+        assertEquals(IdType.Numeric, registered[0].getIdType());
+        assertSame(numeric, registered[1]);
+        assertEquals("handle:Plant.Line1.Temperature", target.resolve(session1, registered[0]));
+        assertEquals("handle:1234", target.resolve(session1, numeric));
+        assertEquals(tag, target.getRegisteredNodeId(session1, registered[0]));
+        assertNull(target.resolve(session2, registered[0]));
+    }
+
+    @Test
+    public void registeringTwiceReturnsSameAlias() throws ServiceResultException {
+
+        NodeId tag = new NodeId(2, "a");
+        NodeId first = target.register(session1, new NodeId[]{tag})[0];
+        NodeId second = target.register(session1, new NodeId[]{tag})[0];
+
+        assertEquals(first, second);
+        assertEquals(1, target.getRegisteredNodeCount(session1));
+    }
+
+    @Test
+    public void unregisterReleasesAlias() throws ServiceResultException {
+
+        NodeId a = target.register(session1, new NodeId[]{new NodeId(2, "a")})[0];
+        target.unregister(session1, new NodeId[]{a});
+
+        assertNull(target.resolve(session1, a));
+        assertEquals(0, target.getRegisteredNodeCount(session1));
+
+        // The slot is reused, but the stale alias does not resolve to the new node
+        NodeId b = target.register(session1, new NodeId[]{new NodeId(2, "b")})[0];
+        assertNotEquals(a, b);
+        assertNull(target.resolve(session1, a));
+        assertEquals("handle:b", target.resolve(session1, b));
+    }
+
+    @Test
+    public void closeSessionReleasesAliases() throws ServiceResultException {
+
+        NodeId a = target.register(session1, new NodeId[]{new NodeId(2, "a")})[0];
+        target.closeSession(session1);
+
+        assertNull(target.resolve(session1, a));
+        assertEquals(0, target.getRegisteredNodeCount(session1));
+    }
+
+    @Test
+    public void sessionLimitIsEnforced() throws ServiceResultException {
+
+        NodeId[] nodes = new NodeId[101];
+        for (int i = 0; i < nodes.length; i++)
+            nodes[i] = new NodeId(2, "tag" + i);
+        try {
+            target.register(session1, nodes);
+            fail();
+        } catch (ServiceResultException e) {
+            assertEquals(StatusCodes.Bad_TooManyOperations, e.getStatusCode().getValue());
+        }
+        assertEquals(0, target.getRegisteredNodeCount(session1));
+
+        NodeId[] registered = target.register(session1, Arrays.copyOf(nodes, 100));
+        for (int i = 0; i < registered.length; i++)
+            assertEquals(nodes[i], target.getRegisteredNodeId(session1, registered[i]));
+    }
+
+    @Test
+    public void duplicatesCountOnceAgainstLimit() throws ServiceResultException {
+        NodeId[] nodes = new NodeId[150];
+        for (int i = 0; i < nodes.length; i++)
+            nodes[i] = new NodeId(2, "tag" + (i % 100));
+
+        NodeId[] registered = target.register(session1, nodes);
+        assertEquals(100, target.getRegisteredNodeCount(session1));
+        assertEquals(registered[0], registered[100]);
+        assertEquals(nodes[149], target.getRegisteredNodeId(session1, registered[149]));
+    }
+}
@@ -0,0 +1,200 @@
+package org.opcfoundation.ua.application;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.core.*;
+import org.opcfoundation.ua.encoding.*;
+import org.opcfoundation.ua.transport.*;
+import org.opcfoundation.ua.transport.impl.*;
+import org.opcfoundation.ua.utils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+public class RequestChannelPoolTest {
+
+    static class FakeChannel implements RequestChannel {
+
+        final List<AsyncResultImpl<ServiceResponse>> pending = new CopyOnWriteArrayList<AsyncResultImpl<ServiceResponse>>();
+        volatile int requests;
+        volatile UnsignedInteger failWith;
+        volatile RuntimeException sendError;
+
+        @Override
+        public IEncodeable serviceRequest(ServiceRequest request) throws ServiceResultException {
+            requests++;
+            if (failWith != null)
+                throw new ServiceResultException(failWith);
+            return new ReadResponse();
+        }
+
+        @Override
+        public AsyncResult<ServiceResponse> serviceRequestAsync(ServiceRequest request) {
+            requests++;
+            if (sendError != null)
+                throw sendError;
+            AsyncResultImpl<ServiceResponse> result = new AsyncResultImpl<ServiceResponse>();
+            pending.add(result);
+            return result;
+        }
+    }
+
+    static class FakeFactory implements RequestChannelPool.ChannelFactory {
+
+        final List<FakeChannel> created = new CopyOnWriteArrayList<FakeChannel>();
+        final List<RequestChannel> closed = new CopyOnWriteArrayList<RequestChannel>();
+        volatile boolean fail;
+
+        @Override
+        public RequestChannel createChannel() throws ServiceResultException {
+            if (fail)
+                throw new ServiceResultException(StatusCodes.Bad_ConnectionRejected);
+            FakeChannel channel = new FakeChannel();
+            created.add(channel);
+            return channel;
+        }
+
+        @Override
+        public void closeChannel(RequestChannel channel) {
+            closed.add(channel);
+        }
+    }
+
+    FakeFactory factory;
+    RequestChannelPool pool;
+
+    @Before
+    public void setUp() throws ServiceResultException {
+        factory = new FakeFactory();
+        pool = new RequestChannelPool(factory, 3, CurrentThreadExecutor.INSTANCE);
+        pool.open();
+    }
+
+    @Test
+    public void openWarmsUpAllChannels() {
+        assertEquals(3, factory.created.size());
+        assertEquals(3, pool.getOpenChannelCount());
+    }
+
+    @Test
+    public void leastOutstandingSpreadsRequests() throws ServiceResultException {
+        List<AsyncResult<ServiceResponse>> results = new ArrayList<AsyncResult<ServiceResponse>>();
+        for (int i = 0; i < 6; i++)
+            results.add(pool.serviceRequestAsync(new ReadRequest()));
+        for (FakeChannel channel : factory.created)
+            assertEquals(2, channel.pending.size());
+        assertEquals(6, pool.getOutstandingRequestCount());
+
+        for (FakeChannel channel : factory.created)
+            for (AsyncResultImpl<ServiceResponse> r : channel.pending)
+                r.setResult(new ReadResponse());
+        for (AsyncResult<ServiceResponse> r : results)
+            assertNotNull(r.waitForResult());
+        assertEquals(0, pool.getOutstandingRequestCount());
+    }
+
+    @Test
+    public void affinityKeyKeepsChannel() throws ServiceResultException {
+        for (int i = 0; i < 10; i++)
+            pool.serviceRequest(new ReadRequest(), "key");
+        int used = 0;
+        for (FakeChannel channel : factory.created)
+            if (channel.requests > 0) {
+                used++;
+                assertEquals(10, channel.requests);
+            }
+        assertEquals(1, used);
+    }
+
+    @Test
+    public void threadAffinityStriping() throws ServiceResultException {
+        pool.setStriping(RequestChannelPool.Striping.ThreadAffinity);
+        for (int i = 0; i < 10; i++)
+            pool.Read(null, 0.0, TimestampsToReturn.Both);
+        int max = 0;
+        for (FakeChannel channel : factory.created)
+            max = Math.max(max, channel.requests);
+        assertEquals(10, max);
+    }
+
+    @Test
+    public void lostChannelIsReplaced() {
+        FakeChannel lost = factory.created.get(0);
+        lost.failWith = StatusCodes.Bad_ConnectionClosed;
+        try {
+            pool.serviceRequest(new ReadRequest(), Integer.valueOf(0));
+            fail("expected exception");
+        } catch (ServiceResultException e) {
+            assertEquals(StatusCodes.Bad_ConnectionClosed, e.getStatusCode().getValue());
+        }
+        assertTrue(factory.closed.contains(lost));
+        assertEquals(4, factory.created.size());
+        assertEquals(3, pool.getOpenChannelCount());
+        assertEquals(1, pool.getReplacementCount());
+    }
+
+    @Test
+    public void failedAsyncSendIsNotOutstanding() {
+        FakeChannel channel = factory.created.get(0);
+        channel.sendError = new IllegalStateException("closed");
+        try {
+            pool.serviceRequestAsync(new ReadRequest(), Integer.valueOf(0));
+            fail("expected exception");
+        } catch (IllegalStateException e) {
+        }
+        assertEquals(0, pool.getOutstandingRequestCount());
+    }
+
+    @Test
+    public void otherErrorsKeepChannel() {
+        FakeChannel channel = factory.created.get(0);
+        channel.failWith = StatusCodes.Bad_NodeIdUnknown;
+        try {
+            pool.serviceRequest(new ReadRequest(), Integer.valueOf(0));
+            fail("expected exception");
+        } catch (ServiceResultException e) {
+            assertEquals(StatusCodes.Bad_NodeIdUnknown, e.getStatusCode().getValue());
+        }
+        assertTrue(factory.closed.isEmpty());
+        assertEquals(0, pool.getReplacementCount());
+    }
+
+    @Test
+    public void failedReconnectIsRetriedLater() throws ServiceResultException {
+        factory.fail = true;
+        factory.created.get(1).failWith = StatusCodes.Bad_SecureChannelClosed;
+        try {
+            pool.serviceRequest(new ReadRequest(), Integer.valueOf(1));
+            fail("expected exception");
+        } catch (ServiceResultException e) {
+        }
+        assertEquals(2, pool.getOpenChannelCount());
+        assertTrue(pool.slots[1].retryTime > System.currentTimeMillis());
+
+        // Requests go to the other channels while the slot waits
+        pool.serviceRequest(new ReadRequest(), Integer.valueOf(1));
+        assertEquals(2, pool.getOpenChannelCount());
+
+        factory.fail = false;
+        pool.slots[1].retryTime = 0;
+        pool.serviceRequest(new ReadRequest());
+        assertEquals(3, pool.getOpenChannelCount());
+        assertEquals(4, factory.created.size());
+    }
+
+    @Test
+    public void closeClosesAllChannels() {
+        pool.close();
+        assertEquals(3, factory.closed.size());
+        assertEquals(0, pool.getOpenChannelCount());
+        try {
+            pool.serviceRequest(new ReadRequest());
+            fail("expected exception");
+        } catch (ServiceResultException e) {
+            assertEquals(StatusCodes.Bad_ServerNotConnected, e.getStatusCode().getValue());
+        }
+    }
+}
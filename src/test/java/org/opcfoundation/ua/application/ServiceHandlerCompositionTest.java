@@ -0,0 +1,115 @@
+package org.opcfoundation.ua.application;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.core.*;
+import org.opcfoundation.ua.transport.*;
+import org.opcfoundation.ua.transport.endpoint.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class ServiceHandlerCompositionTest {
+
+    public static class ReadHandler {
+
+        int calls;
+
+        public void onRead(EndpointServiceRequest<ReadRequest, ReadResponse> req) {
+            calls++;
+            req.sendResponse(new ReadResponse());
+        }
+
+        public void onWrite(EndpointServiceRequest<WriteRequest, WriteResponse> req) throws ServiceResultException {
+            throw new ServiceResultException(StatusCodes.Bad_NodeIdUnknown);
+        }
+    }
+
+    static class TestRequest<Req extends ServiceRequest, Res extends ServiceResponse> extends EndpointServiceRequest<Req, Res> {
+
+        List<Object> responses = new ArrayList<Object>();
+
+        TestRequest(Req request) {
+            super(request, null, null);
+        }
+
+        @Override
+        public void sendResponse(AsyncWrite response) {
+            responses.add(response.getMessage());
+        }
+
+        @Override
+        public AsyncWrite sendResponse(Res response) {
+            responses.add(response);
+            return null;
+        }
+
+        @Override
+        public ServerSecureChannel getChannel() {
+            return null;
+        }
+    }
+
+    @Test
+    public void serveDispatchesToReflectedMethod() throws ServiceResultException {
+
+        ReadHandler handler = new ReadHandler();
+        ServiceHandlerComposition target = new ServiceHandlerComposition();
+        target.add(handler);
+
+        TestRequest<ReadRequest, ReadResponse> req = new TestRequest<ReadRequest, ReadResponse>(new ReadRequest());
+        target.serve(req);
+
+        assertEquals(1, handler.calls);
+        assertEquals(1, req.responses.size());
+        assertTrue(req.responses.get(0) instanceof ReadResponse);
+        assertTrue(target.supportsService(ReadRequest.class));
+        assertSame(handler, target.getServiceHandlerByService(ReadRequest.class));
+    }
+
+    @Test
+    public void serveDispatchesToAnonymousHandler() throws ServiceResultException {
+
+        final int[] calls = new int[1];
+        ServiceHandlerComposition target = new ServiceHandlerComposition();
+        target.add(new Object() {
+            @SuppressWarnings("unused")
+            public void onBrowse(EndpointServiceRequest<BrowseRequest, BrowseResponse> req) {
+                calls[0]++;
+            }
+        });
+
+        target.serve(new TestRequest<BrowseRequest, BrowseResponse>(new BrowseRequest()));
+
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    public void serveSendsFaultOnServiceResultException() throws ServiceResultException {
+
+        ServiceHandlerComposition target = new ServiceHandlerComposition();
+        target.add(new ReadHandler());
+
+        TestRequest<WriteRequest, WriteResponse> req = new TestRequest<WriteRequest, WriteResponse>(new WriteRequest());
+        target.serve(req);
+
+        assertEquals(1, req.responses.size());
+        ServiceFault fault = (ServiceFault) req.responses.get(0);
+        assertEquals(StatusCodes.Bad_NodeIdUnknown, fault.getResponseHeader().getServiceResult().getValue());
+    }
+
+    @Test
+    public void serveSendsFaultForUnsupportedService() throws ServiceResultException {
+
+        ServiceHandlerComposition target = new ServiceHandlerComposition();
+        target.add(new ReadHandler());
+
+        TestRequest<CallRequest, CallResponse> req = new TestRequest<CallRequest, CallResponse>(new CallRequest());
+        target.serve(req);
+
+        ServiceFault fault = (ServiceFault) req.responses.get(0);
+        assertEquals(StatusCodes.Bad_ServiceUnsupported, fault.getResponseHeader().getServiceResult().getValue());
+    }
+}
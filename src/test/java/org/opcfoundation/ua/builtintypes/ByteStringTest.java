@@ -2,7 +2,13 @@ package org.opcfoundation.ua.builtintypes;
 
 import static org.junit.Assert.*;
 
+import java.nio.ByteBuffer;
+
 import org.junit.Test;
+import org.opcfoundation.ua.encoding.DecodingException;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.binary.BinaryDecoder;
+import org.opcfoundation.ua.encoding.binary.BinaryEncoder;
 
 public class ByteStringTest {
 
@@ -80,4 +86,65 @@ public class ByteStringTest {
   }
   
   
+  @Test
+  public void testByteStringView() throws Exception {
+    byte[] buf = new byte[]{0,1,2,3,4,5,6,7,8,9,0};
+    ByteString view = ByteString.view(buf, 1, 9);
+    ByteString value = ByteString.valueOf(new byte[]{1,2,3,4,5,6,7,8,9});
+    
+    assertEquals(value, view);
+    assertEquals(value.hashCode(), view.hashCode());
+    assertEquals(value.toString(), view.toString());
+    assertEquals(9, view.getLength());
+    assertArrayEquals(value.getValue(), view.getValue());
+    assertEquals(ByteBuffer.wrap(buf, 1, 9), view.asByteBuffer());
+    assertSame(ByteString.EMPTY, ByteString.view(buf, 3, 0));
+    assertEquals(value, ByteString.view(ByteBuffer.wrap(buf, 1, 9).asReadOnlyBuffer()));
+    
+    //the view is not a copy
+    buf[1] = 10;
+    assertNotEquals(value, view);
+  }
+  
+  @Test
+  public void testDecodeByteStringView() throws Exception {
+    ByteString value = ByteString.view(new byte[]{9,1,2,3,9}, 1, 3);
+    byte[] buf = new byte[7];
+    BinaryEncoder enc = new BinaryEncoder(buf);
+    enc.setEncoderContext(EncoderContext.getDefaultInstance());
+    enc.putByteString(null, value);
+    
+    BinaryDecoder copying = new BinaryDecoder(buf);
+    copying.setEncoderContext(EncoderContext.getDefaultInstance());
+    ByteString copy = copying.getByteString(null);
+    BinaryDecoder viewing = new BinaryDecoder(buf);
+    viewing.setEncoderContext(EncoderContext.getDefaultInstance());
+    viewing.setByteStringViews(true);
+    ByteString view = viewing.getByteString(null);
+    assertEquals(value, copy);
+    assertEquals(value, view);
+    
+    buf[4] = 10;
+    assertEquals(value, copy);
+    assertNotEquals(value, view);
+  }
+  
+  @Test
+  public void testDecodeByteStringViewPastEnd() throws Exception {
+    byte[] buf = new byte[7];
+    BinaryEncoder enc = new BinaryEncoder(buf);
+    enc.setEncoderContext(EncoderContext.getDefaultInstance());
+    enc.putInt32(null, 4);
+    
+    BinaryDecoder viewing = new BinaryDecoder(buf);
+    viewing.setEncoderContext(EncoderContext.getDefaultInstance());
+    viewing.setByteStringViews(true);
+    try {
+      viewing.getByteString(null);
+      fail("expected DecodingException");
+    } catch (DecodingException e) {
+      assertTrue(e.getStatusCode().isBad());
+    }
+  }
+  
 }
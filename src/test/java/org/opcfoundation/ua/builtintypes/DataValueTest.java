@@ -0,0 +1,74 @@
+package org.opcfoundation.ua.builtintypes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opcfoundation.ua.common.NamespaceTable;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.binary.BinaryDecoder;
+import org.opcfoundation.ua.encoding.binary.BinaryEncoder;
+import org.opcfoundation.ua.encoding.binary.EncoderCalc;
+import org.opcfoundation.ua.utils.StackUtils;
+
+public class DataValueTest {
+
+	@Test
+	public void statusCodesAreCanonical() {
+		assertSame(StatusCode.GOOD, StatusCode.getFromBits(0));
+		assertSame(StatusCode.BAD, StatusCode.getFromBits(StatusCode.SEVERITY_BAD));
+		int bits = StatusCodes.Bad_NodeIdUnknown.intValue();
+		assertSame(StatusCode.getFromBits(bits), StatusCode.getFromBits(bits));
+		assertEquals(new StatusCode(StatusCodes.Bad_NodeIdUnknown), StatusCode.getFromBits(bits));
+		assertEquals(bits | StatusCode.OVERFLOW_BIT, StatusCode.getFromBits(bits | StatusCode.OVERFLOW_BIT).getValueAsIntBits());
+	}
+
+	@Test
+	public void primitiveValues() {
+		DataValue v = new DataValue(new Variant(1), StatusCodes.Uncertain_LastUsableValue.intValue(), 1000, 7, 0, 0);
+		assertEquals(new DateTime(1000), v.getSourceTimestamp());
+		assertSame(v.getSourceTimestamp(), v.getSourceTimestamp());
+		assertEquals(UnsignedShort.valueOf(7), v.getSourcePicoseconds());
+		assertNull(v.getServerTimestamp());
+		assertEquals(new StatusCode(StatusCodes.Uncertain_LastUsableValue), v.getStatusCode());
+		assertEquals(new DataValue(new Variant(1), new StatusCode(StatusCodes.Uncertain_LastUsableValue),
+				new DateTime(1000), UnsignedShort.valueOf(7), null, null), v);
+		assertEquals(v, v.clone());
+
+		v.setStatusCode((StatusCode) null);
+		assertNull(v.getStatusCode());
+		assertEquals(StatusCode.SEVERITY_GOOD, v.getStatusCodeAsIntBits());
+		v.setSourceTimestamp(DateTime.MIN_VALUE);
+		assertEquals(DateTime.MIN_VALUE, v.getSourceTimestamp());
+		assertEquals(0, v.getSourceTimestampValue());
+	}
+
+	@Test
+	public void encodeDecode() throws Exception {
+		DataValue[] values = {
+				new DataValue(new Variant("text"), StatusCode.getFromBits(StatusCodes.Bad_NoData.intValue()),
+						new DateTime(123456789L), UnsignedShort.valueOf(10), DateTime.MAX_VALUE, UnsignedShort.valueOf(20)),
+				new DataValue(new Variant(1.5), StatusCode.GOOD, null, null),
+				new DataValue(new Variant(2), 0, 0, 0, 98765L, 0),
+		};
+		EncoderContext ctx = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+		EncoderCalc calc = new EncoderCalc();
+		calc.setEncoderContext(ctx);
+		calc.putDataValueArray(null, values);
+		byte[] buf = new byte[calc.getLength()];
+		BinaryEncoder enc = new BinaryEncoder(buf);
+		enc.setEncoderContext(ctx);
+		enc.putDataValueArray(null, values);
+
+		BinaryDecoder dec = new BinaryDecoder(buf);
+		dec.setEncoderContext(ctx);
+		DataValue[] decoded = dec.getDataValueArray(null);
+		assertEquals(values.length, decoded.length);
+		for (int i = 0; i < values.length; i++)
+			assertEquals(values[i], decoded[i]);
+		assertSame(values[0].getStatusCode(), decoded[0].getStatusCode());
+		assertSame(DateTime.MAX_VALUE, decoded[0].getServerTimestamp());
+	}
+}
@@ -0,0 +1,112 @@
+package org.opcfoundation.ua.builtintypes;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opcfoundation.ua.common.NamespaceTable;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.binary.BinaryDecoder;
+import org.opcfoundation.ua.encoding.binary.BinaryEncoder;
+import org.opcfoundation.ua.encoding.binary.EncoderCalc;
+import org.opcfoundation.ua.utils.NumericRange;
+import org.opcfoundation.ua.utils.StackUtils;
+
+public class NDArrayTest {
+
+	static NDArray matrix(int rows, int columns) {
+		float[] data = new float[rows * columns];
+		for (int i = 0; i < data.length; i++)
+			data[i] = i;
+		return new NDArray(data, rows, columns);
+	}
+
+	@Test
+	public void elementsAndNestedForm() {
+		NDArray a = matrix(3, 4);
+		assertEquals(Float.class, a.getElementClass());
+		assertEquals(10, a.getBuiltinType());
+		assertEquals(12, a.getLength());
+		assertEquals(6f, a.get(1, 2));
+		assertEquals(11.0, a.getDouble(2, 3), 0);
+		Float[][] nested = (Float[][]) a.toArray();
+		assertEquals(Float.valueOf(7), nested[1][3]);
+		assertSame(nested, a.toArray());
+		assertEquals(a, NDArray.fromArray(nested));
+		assertEquals(a, NDArray.fromArray(new float[][] { { 0, 1, 2, 3 }, { 4, 5, 6, 7 }, { 8, 9, 10, 11 } }));
+	}
+
+	@Test
+	public void unsignedElements() {
+		NDArray a = new NDArray(5, new short[] { 1, -1, 2, -2 }, 2, 2);
+		assertEquals(UnsignedShort.class, a.getElementClass());
+		assertEquals(UnsignedShort.valueOf(65535), a.get(0, 1));
+		UnsignedShort[][] nested = (UnsignedShort[][]) a.toArray();
+		assertEquals(UnsignedShort.valueOf(65534), nested[1][1]);
+		assertEquals(a, NDArray.fromArray(nested));
+	}
+
+	@Test
+	public void sliceSharesData() {
+		NDArray a = matrix(4, 5);
+		NDArray s = a.slice(new NumericRange(new int[] { 1, 2 }, new int[] { 2, 4 }));
+		assertSame(a.getData(), s.getData());
+		assertArrayEquals(new int[] { 2, 3 }, s.getDimensions());
+		assertFalse(s.isContiguous());
+		assertEquals(7f, s.get(0, 0));
+		assertEquals(14f, s.get(1, 2));
+		NDArray c = s.compact();
+		assertTrue(c.isContiguous());
+		assertEquals(s, c);
+		assertEquals(s.hashCode(), c.hashCode());
+		assertArrayEquals(new float[] { 7, 8, 9, 12, 13, 14 }, (float[]) c.getData(), 0);
+		NDArray row = a.slice(new NumericRange(new int[] { 3 }));
+		assertTrue(row.isContiguous());
+		assertEquals(15f, row.get(0, 0));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void sliceOutOfBounds() {
+		matrix(2, 2).slice(new NumericRange(new int[] { 0, 2 }));
+	}
+
+	@Test
+	public void encodeDecodeVariant() throws Exception {
+		NDArray a = matrix(40, 300).slice(new NumericRange(new int[] { 5, 34 }, new int[] { 10, 289 }));
+		Variant v = new Variant(a);
+		assertTrue(v.isArray());
+		assertEquals(2, v.getDimension());
+		assertEquals(Float.class, v.getCompositeClass());
+
+		EncoderContext ctx = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+		EncoderCalc calc = new EncoderCalc();
+		calc.setEncoderContext(ctx);
+		calc.putVariant(null, v);
+		byte[] buf = new byte[calc.getLength()];
+		BinaryEncoder enc = new BinaryEncoder(buf);
+		enc.setEncoderContext(ctx);
+		enc.putVariant(null, v);
+
+		// Same encoding as the nested form
+		EncoderCalc calc2 = new EncoderCalc();
+		calc2.setEncoderContext(ctx);
+		calc2.putVariant(null, new Variant(a.toArray()));
+		byte[] buf2 = new byte[calc2.getLength()];
+		BinaryEncoder enc2 = new BinaryEncoder(buf2);
+		enc2.setEncoderContext(ctx);
+		enc2.putVariant(null, new Variant(a.toArray()));
+		assertArrayEquals(buf2, buf);
+
+		BinaryDecoder dec = new BinaryDecoder(buf);
+		dec.setEncoderContext(ctx);
+		assertEquals(new Variant(a.toArray()), dec.getVariant(null));
+
+		dec = new BinaryDecoder(buf);
+		dec.setEncoderContext(ctx);
+		dec.setNDArrays(true);
+		assertEquals(v, dec.getVariant(null));
+	}
+}
@@ -0,0 +1,74 @@
+package org.opcfoundation.ua.builtintypes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.opcfoundation.ua.core.Identifiers;
+import org.opcfoundation.ua.encoding.binary.BinaryDecoder;
+import org.opcfoundation.ua.encoding.binary.BinaryEncoder;
+import org.opcfoundation.ua.encoding.binary.EncoderCalc;
+
+public class NodeIdTest {
+
+	@Test
+	public void numericReturnsStandardInstances() {
+		assertSame(Identifiers.ReadRequest_Encoding_DefaultBinary,
+				NodeId.numeric(0, Identifiers.ReadRequest_Encoding_DefaultBinary.getNumericValue()));
+		assertSame(Identifiers.Server, NodeId.numeric(0, 2253));
+		assertEquals(new NodeId(3, 2253), NodeId.numeric(3, 2253));
+	}
+
+	@Test
+	public void internReturnsSameInstance() {
+		NodeId hot = new NodeId(5, 123456);
+		assertNotSame(hot, NodeId.numeric(5, 123456));
+		assertSame(hot, NodeId.intern(hot));
+		assertSame(hot, NodeId.numeric(5, 123456));
+		assertSame(hot, NodeId.intern(new NodeId(5, 123456)));
+		NodeId string = new NodeId(5, "hot");
+		assertSame(string, NodeId.intern(string));
+	}
+
+	@Test
+	public void numericEqualsAndHashCode() {
+		NodeId big = new NodeId(1, UnsignedInteger.valueOf(0xFFFFFFF0L));
+		assertEquals(big, NodeId.numeric(1, 0xFFFFFFF0));
+		assertEquals(big.hashCode(), NodeId.numeric(1, 0xFFFFFFF0).hashCode());
+		assertNotEquals(new NodeId(1, 5), new NodeId(2, 5));
+		assertEquals(NodeId.NULL, NodeId.NULL_STRING);
+		assertTrue(new NodeId(1, 5).compareTo(big) < 0);
+		assertEquals(new ExpandedNodeId(Identifiers.Server), Identifiers.Server);
+	}
+
+	@Test
+	public void numericValueIsCreatedOnDemand() {
+		NodeId id = NodeId.numeric(7, 0xFFFFFFF0);
+		assertEquals(UnsignedInteger.valueOf(0xFFFFFFF0L), id.getValue());
+		assertSame(id.getValue(), id.getValue());
+		assertEquals("ns=7;i=4294967280", id.toString());
+		assertTrue(new NodeId(0, 0).isNullNodeId());
+		assertEquals(new ExpandedNodeId(null, 7, UnsignedInteger.valueOf(0xFFFFFFF0L)), id);
+	}
+
+	@Test
+	public void encodeDecodeNumeric() throws Exception {
+		NodeId[] ids = { Identifiers.Boolean, new NodeId(0, 300), new NodeId(200, 65535),
+				new NodeId(256, 1), new NodeId(1, UnsignedInteger.valueOf(0xFFFFFFFFL)) };
+		int[] lengths = { 2, 4, 4, 7, 7 };
+		for (int i = 0; i < ids.length; i++) {
+			EncoderCalc calc = new EncoderCalc();
+			calc.putNodeId(null, ids[i]);
+			assertEquals(lengths[i], calc.getLength());
+			byte[] buf = new byte[calc.getLength()];
+			new BinaryEncoder(buf).putNodeId(null, ids[i]);
+			assertEquals(ids[i], new BinaryDecoder(buf).getNodeId(null));
+		}
+		byte[] buf = new byte[2];
+		new BinaryEncoder(buf).putNodeId(null, Identifiers.Boolean);
+		assertSame(Identifiers.Boolean, new BinaryDecoder(buf).getNodeId(null));
+	}
+}
@@ -0,0 +1,185 @@
+package org.opcfoundation.ua.cert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.cert.X509CRL;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.core.ApplicationDescription;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.transport.security.Cert;
+import org.opcfoundation.ua.transport.security.KeyPair;
+import org.opcfoundation.ua.utils.CertificateUtils;
+
+public class DefaultCertificateValidatorTest {
+
+	private static KeyPair ca;
+	private static Cert issued;
+	private static Cert other;
+
+	@BeforeClass
+	public static void generateCertificates() throws Exception {
+		ca = CertificateUtils.createIssuerCertificate("testca", 365, null);
+		issued = CertificateUtils.createApplicationInstanceCertificate("issued", "test organization",
+				"urn:localhost:OPCUA:issued", 365, ca, "localhost").getCertificate();
+		other = CertificateUtils.createApplicationInstanceCertificate("other", "test organization",
+				"urn:localhost:OPCUA:other", 365, "localhost").getCertificate();
+	}
+
+	@Test
+	public void testIssuedCertificate() throws Exception {
+		CertificateStore store = mock(CertificateStore.class);
+		when(store.getTrustedCerts()).thenReturn(trusted(other, ca.getCertificate()));
+
+		DefaultCertificateValidator validator = new DefaultCertificateValidator(store);
+		assertTrue(validator.validateCertificate(issued).isGood());
+		verify(store).addCertificate(ValidationResult.AcceptPermanently, issued);
+	}
+
+	@Test
+	public void testIssuerNotTrusted() throws Exception {
+		CertificateStore store = mock(CertificateStore.class);
+		when(store.getTrustedCerts()).thenReturn(trusted(other));
+
+		DefaultCertificateValidator validator = new DefaultCertificateValidator(store);
+		assertStatus(StatusCodes.Bad_CertificateChainIncomplete, validator.validateCertificate(issued));
+		verify(store).addCertificate(ValidationResult.Reject, issued);
+	}
+
+	@Test
+	public void testKeyIdentifiers() throws Exception {
+		assertNotNull(DefaultCertificateValidator.getKeyIdentifier(ca.getCertificate().getCertificate(), false));
+		assertEquals(DefaultCertificateValidator.getKeyIdentifier(ca.getCertificate().getCertificate(), false),
+				DefaultCertificateValidator.getKeyIdentifier(issued.getCertificate(), true));
+	}
+
+	@Test
+	public void testRevocationIsCachedUntilStoreChanges() throws Exception {
+		X509CRL crl = mock(X509CRL.class);
+		when(crl.getIssuerX500Principal()).thenReturn(ca.getCertificate().getCertificate().getSubjectX500Principal());
+		when(crl.isRevoked(issued.getCertificate())).thenReturn(true);
+
+		CertificateStore store = mock(CertificateStore.class);
+		when(store.getTrustedCerts()).thenReturn(trusted(ca.getCertificate()));
+		when(store.getRevocationLists()).thenReturn(Collections.<X509CRL>emptySet());
+
+		DefaultCertificateValidator validator = new DefaultCertificateValidator(store);
+		assertTrue(validator.validateCertificate(issued).isGood());
+
+		when(store.getRevocationLists()).thenReturn(Collections.singleton(crl));
+		assertStatus(StatusCodes.Bad_CertificateRevoked, validator.validateCertificate(issued));
+		assertStatus(StatusCodes.Bad_CertificateRevoked, validator.validateCertificate(issued));
+		// The second validation used the cached result
+		verify(crl, times(1)).isRevoked(issued.getCertificate());
+	}
+
+	@Test
+	public void testIssuerRevoked() throws Exception {
+		X509CRL crl = mock(X509CRL.class);
+		when(crl.getIssuerX500Principal()).thenReturn(ca.getCertificate().getCertificate().getSubjectX500Principal());
+		when(crl.isRevoked(ca.getCertificate().getCertificate())).thenReturn(true);
+
+		CertificateStore store = mock(CertificateStore.class);
+		when(store.getTrustedCerts()).thenReturn(trusted(ca.getCertificate()));
+		when(store.getRevocationLists()).thenReturn(Collections.singleton(crl));
+
+		DefaultCertificateValidator validator = new DefaultCertificateValidator(store);
+		assertStatus(StatusCodes.Bad_CertificateIssuerRevoked, validator.validateCertificate(issued));
+	}
+
+	@Test
+	public void testStoreListenerInvalidates() throws Exception {
+		// A store that returns the same modifiable set
+		Set<Cert> trusted = new HashSet<Cert>();
+		CertificateStore store = mock(CertificateStore.class);
+		when(store.getTrustedCerts()).thenReturn(trusted);
+
+		DefaultCertificateValidator validator = new DefaultCertificateValidator(store);
+		assertStatus(StatusCodes.Bad_CertificateChainIncomplete, validator.validateCertificate(issued));
+
+		trusted.add(ca.getCertificate());
+		validator.getStoreListener().onTrustedCertificateAdded(ca.getCertificate());
+		assertTrue(validator.validateCertificate(issued).isGood());
+	}
+
+	@Test
+	public void testStoreReturningModifiedSet() throws Exception {
+		// A store that modifies the set it returns, without notifying listeners
+		Set<Cert> trusted = new HashSet<Cert>();
+		CertificateStore store = mock(CertificateStore.class);
+		when(store.getTrustedCerts()).thenReturn(trusted);
+
+		DefaultCertificateValidator validator = new DefaultCertificateValidator(store);
+		assertStatus(StatusCodes.Bad_CertificateChainIncomplete, validator.validateCertificate(issued));
+
+		trusted.add(ca.getCertificate());
+		assertTrue(validator.validateCertificate(issued).isGood());
+	}
+
+	@Test
+	public void testSameSetIsNotCompared() throws Exception {
+		// A store that returns the same snapshot while its contents do not change
+		final int[] iterations = new int[1];
+		Set<Cert> trusted = new HashSet<Cert>(trusted(ca.getCertificate())) {
+			private static final long serialVersionUID = 1L;
+			@Override
+			public Iterator<Cert> iterator() {
+				iterations[0]++;
+				return super.iterator();
+			}
+		};
+		CertificateStore store = mock(CertificateStore.class);
+		when(store.getTrustedCerts()).thenReturn(trusted);
+
+		DefaultCertificateValidator validator = new DefaultCertificateValidator(store);
+		assertTrue(validator.validateCertificate(issued).isGood());
+		int indexed = iterations[0];
+		assertTrue(validator.validateCertificate(issued).isGood());
+		assertEquals(indexed, iterations[0]);
+	}
+
+	@Test
+	public void testListenerValidatesIssuers() throws Exception {
+		CertificateStore store = mock(CertificateStore.class);
+		when(store.getTrustedCerts()).thenReturn(trusted(ca.getCertificate()));
+
+		DefaultCertificateValidator validator = new DefaultCertificateValidator(store);
+		validator.setValidationListener(new DefaultCertificateValidatorListener() {
+			@Override
+			public ValidationResult onValidate(Cert certificate, ApplicationDescription applicationDescription,
+					EnumSet<CertificateCheck> passedChecks) {
+				return certificate.equals(ca.getCertificate()) ? ValidationResult.Reject : ValidationResult.AcceptOnce;
+			}
+		});
+		assertStatus(StatusCodes.Bad_CertificateInvalid, validator.validateCertificate(issued));
+		verify(store).addCertificate(ValidationResult.Reject, ca.getCertificate());
+
+		// Opt out of asking the listener about issuers
+		validator.setValidateIssuersWithListener(false);
+		assertTrue(validator.validateCertificate(issued).isGood());
+	}
+
+	private static Set<Cert> trusted(Cert... certs) {
+		Set<Cert> set = new HashSet<Cert>();
+		Collections.addAll(set, certs);
+		return Collections.unmodifiableSet(set);
+	}
+
+	private static void assertStatus(org.opcfoundation.ua.builtintypes.UnsignedInteger expected, StatusCode actual) {
+		assertEquals(expected.intValue(), actual.getValue().intValue());
+	}
+
+}
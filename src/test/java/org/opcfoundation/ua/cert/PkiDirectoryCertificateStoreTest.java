@@ -0,0 +1,137 @@
+package org.opcfoundation.ua.cert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opcfoundation.ua.transport.security.Cert;
+import org.opcfoundation.ua.utils.CertificateUtils;
+
+public class PkiDirectoryCertificateStoreTest {
+
+	private static Cert first;
+	private static Cert second;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private PkiDirectoryCertificateStore store;
+
+	@BeforeClass
+	public static void generateCertificates() throws Exception {
+		first = CertificateUtils.createApplicationInstanceCertificate("first", "test organization",
+				"urn:localhost:OPCUA:first", 365, "localhost").getCertificate();
+		second = CertificateUtils.createApplicationInstanceCertificate("second", "test organization",
+				"urn:localhost:OPCUA:second", 365, "localhost").getCertificate();
+	}
+
+	@Before
+	public void createStore() throws Exception {
+		store = new PkiDirectoryCertificateStore(folder.getRoot().getPath());
+	}
+
+	@After
+	public void closeStore() {
+		store.close();
+	}
+
+	@Test
+	public void testSnapshotIsStableWithoutChanges() throws Exception {
+		store.addTrustedCertificate(first);
+		Set<Cert> trusted = store.getTrustedCerts();
+		assertEquals(1, trusted.size());
+		assertSame(trusted, store.getTrustedCerts());
+		store.refresh();
+		assertSame(trusted, store.getTrustedCerts());
+	}
+
+	@Test
+	public void testExternalFileIsFoundOnRefresh() throws Exception {
+		assertTrue(store.getTrustedCerts().isEmpty());
+		first.save(new File(store.getTrustedDir(), "first.der"));
+		store.refresh();
+		assertTrue(store.getTrustedCerts().contains(first));
+
+		new File(store.getTrustedDir(), "first.der").delete();
+		store.refresh();
+		assertTrue(store.getTrustedCerts().isEmpty());
+	}
+
+	@Test
+	public void testExternalFileIsFoundWithoutRefresh() throws Exception {
+		assertTrue(store.getTrustedCerts().isEmpty());
+		first.save(new File(store.getTrustedDir(), "first.der"));
+		long deadline = System.currentTimeMillis() + 30000;
+		while (!store.getTrustedCerts().contains(first) && System.currentTimeMillis() < deadline)
+			Thread.sleep(50);
+		assertTrue(store.getTrustedCerts().contains(first));
+	}
+
+	@Test
+	public void testChangedFileIsReadAgain() throws Exception {
+		File file = new File(store.getTrustedDir(), "cert.der");
+		first.save(file);
+		store.refresh();
+		assertTrue(store.getTrustedCerts().contains(first));
+
+		second.save(file);
+		file.setLastModified(file.lastModified() + 2000);
+		store.refresh();
+		assertEquals(1, store.getTrustedCerts().size());
+		assertTrue(store.getTrustedCerts().contains(second));
+	}
+
+	@Test
+	public void testRejectedCertificateIsWrittenInBackground() throws Exception {
+		store.addRejectedCertificate(first);
+		assertTrue(store.getRejectedCerts().contains(first));
+		File file = store.getFileForCert(first);
+		long deadline = System.currentTimeMillis() + 10000;
+		while (!file.exists() && System.currentTimeMillis() < deadline)
+			Thread.sleep(10);
+		assertTrue(file.exists());
+
+		// The written file is not read again
+		Set<Cert> rejected = store.getRejectedCerts();
+		store.refresh();
+		assertSame(rejected, store.getRejectedCerts());
+	}
+
+	@Test
+	public void testTrustingRemovesRejected() throws Exception {
+		store.addRejectedCertificate(first);
+		store.addTrustedCertificate(first);
+		assertTrue(store.getTrustedCerts().contains(first));
+		assertFalse(store.getRejectedCerts().contains(first));
+
+		store.close();
+		store.refresh();
+		assertFalse(store.getRejectedCerts().contains(first));
+		String[] rejectedFiles = store.getRejectedDir().list();
+		assertEquals(0, rejectedFiles.length);
+	}
+
+	@Test
+	public void testDroppedRejectedWriteIsNotPending() throws Exception {
+		// The writer of a closed store drops the write
+		store.close();
+		store.addRejectedCertificate(first);
+		assertTrue(store.getRejectedCerts().contains(first));
+		assertFalse(store.getFileForCert(first).exists());
+
+		// The file is missing, so the certificate is no longer rejected
+		store.refresh();
+		assertFalse(store.getRejectedCerts().contains(first));
+	}
+
+}
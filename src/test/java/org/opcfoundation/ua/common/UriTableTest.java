@@ -0,0 +1,73 @@
+package org.opcfoundation.ua.common;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class UriTableTest {
+
+	@Test
+	public void addAndLookup() {
+		UriTable table = new UriTable();
+		assertEquals(0, table.add("urn:a"));
+		assertEquals(1, table.add("urn:b"));
+		assertEquals(0, table.add("urn:a"));
+		assertEquals(5, table.add(5, "urn:c"));
+		assertEquals(6, table.add("urn:d"));
+
+		assertEquals(4, table.size());
+		assertEquals("urn:c", table.getUri(5));
+		assertNull(table.getUri(3));
+		assertNull(table.getUri(-1));
+		assertNull(table.getUri(100));
+		assertEquals(1, table.getIndex("urn:b"));
+		assertEquals(-1, table.getIndex("urn:x"));
+		assertArrayEquals(new String[] { "urn:a", "urn:b", null, null, null, "urn:c", "urn:d" }, table.toArray());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void addToUsedIndexFails() {
+		UriTable table = new UriTable();
+		table.add(0, "urn:a");
+		table.add(0, "urn:b");
+	}
+
+	@Test
+	public void removeAndAddAll() {
+		UriTable table = new UriTable();
+		assertArrayEquals(new String[1], table.toArray());
+		table.addAll(new String[] { "urn:a", "urn:b", "urn:c" });
+		table.remove("urn:c");
+		table.remove(0);
+		assertEquals(1, table.size());
+		assertEquals(-1, table.getIndex("urn:a"));
+		assertArrayEquals(new String[] { null, "urn:b" }, table.toArray());
+		assertEquals(2, table.add("urn:d"));
+	}
+
+	@Test
+	public void listenersAreNotifiedOfChanges() {
+		final AtomicInteger changes = new AtomicInteger();
+		UriTable.UriTableListener listener = new UriTable.UriTableListener() {
+			@Override
+			public void onChange(UriTable table) {
+				changes.incrementAndGet();
+			}
+		};
+		NamespaceTable table = new NamespaceTable();
+		table.addListener(listener);
+		table.add("urn:a");
+		table.add("urn:a");
+		table.remove("urn:x");
+		assertEquals(1, changes.get());
+		table.remove("urn:a");
+		assertEquals(2, changes.get());
+		table.removeListener(listener);
+		table.add("urn:b");
+		assertEquals(2, changes.get());
+	}
+}
@@ -0,0 +1,56 @@
+package org.opcfoundation.ua.core;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+import org.opcfoundation.ua.builtintypes.ExpandedNodeId;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.common.IdentifierDescriptions;
+import org.opcfoundation.ua.encoding.EncodeType;
+import org.opcfoundation.ua.encoding.IEncodeable;
+
+public class IdentifiersTest {
+
+	@Test
+	public void testGetStandardNodeId() throws Exception {
+		assertSame(Identifiers.Server_ServerStatus_State, Identifiers.getStandardNodeId(2259));
+		assertSame(ReferenceTypeIdentifiers.HasComponent, Identifiers.getStandardNodeId(47));
+		assertSame(Identifiers.Server, NodeId.intern(new NodeId(0, 2253)));
+		assertSame(Identifiers.Server, NodeId.numeric(0, 2253));
+	}
+
+	@Test
+	public void testGetStandardNodeIdOfUnknownValue() throws Exception {
+		assertNull(Identifiers.getStandardNodeId(-1));
+		assertNull(Identifiers.getStandardNodeId(Integer.MAX_VALUE));
+		assertNull(Identifiers.getStandardNodeId(0));
+	}
+
+	@Test
+	public void testToNodeId() throws Exception {
+		assertSame(Identifiers.BaseDataType, IdentifierDescriptions.toNodeId("BaseDataType"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testToNodeIdOfUnknownName() throws Exception {
+		IdentifierDescriptions.toNodeId("NoSuchIdentifier");
+	}
+
+	@Test
+	public void testSerializerLookups() throws Exception {
+		EncodeableSerializer serializer = new EncodeableSerializer();
+		assertEquals(ReadRequest.BINARY, serializer.getNodeId(ReadRequest.class, EncodeType.Binary));
+		assertEquals(ReadResponse.class, serializer.getClass(ReadResponse.BINARY));
+		assertEquals(ReadResponse.class, serializer.getClass(ReadResponse.XML));
+		assertNull(serializer.getClass(new ExpandedNodeId(new NodeId(0, 1))));
+
+		List<Class<? extends IEncodeable>> classes = new ArrayList<Class<? extends IEncodeable>>();
+		serializer.getSupportedClasses(classes);
+		assertTrue(classes.size() >= 220);
+		assertTrue(classes.contains(ReadRequest.class));
+	}
+
+}
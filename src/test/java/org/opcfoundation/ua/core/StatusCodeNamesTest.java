@@ -0,0 +1,37 @@
+package org.opcfoundation.ua.core;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+import org.opcfoundation.ua.builtintypes.StatusCode;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.common.StatusCodeDescriptions;
+
+public class StatusCodeNamesTest {
+
+	@Test
+	public void testTableMatchesStatusCodes() throws Exception {
+		int count = 0;
+		for (Field f : StatusCodes.class.getFields()) {
+			if (!f.getType().equals(UnsignedInteger.class)) continue;
+			int code = ((UnsignedInteger) f.get(null)).intValue();
+			int i = StatusCodeNames.indexOf(code);
+			assertTrue(f.getName(), i >= 0);
+			assertEquals(f.getName(), StatusCodeNames.getName(i));
+			assertEquals(code, StatusCodeNames.getCode(i));
+			count++;
+		}
+		assertEquals(count, StatusCodeNames.size());
+	}
+
+	@Test
+	public void testDescriptions() throws Exception {
+		assertEquals("Bad_UnexpectedError", StatusCodeDescriptions.getStatusCode(StatusCodes.Bad_UnexpectedError.intValue()));
+		assertEquals("An unexpected error occurred.", StatusCodeDescriptions.getStatusCodeDescription(new StatusCode(StatusCodes.Bad_UnexpectedError)));
+		assertEquals(StatusCodes.Bad_Timeout, StatusCodeDescriptions.getStatusCode("Bad_Timeout"));
+		assertNull(StatusCodeDescriptions.getStatusCode(0x12340000));
+	}
+
+}
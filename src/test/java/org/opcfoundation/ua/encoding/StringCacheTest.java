@@ -0,0 +1,83 @@
+package org.opcfoundation.ua.encoding;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.encoding.binary.*;
+import org.opcfoundation.ua.utils.*;
+
+import java.nio.charset.Charset;
+
+import static org.junit.Assert.*;
+
+public class StringCacheTest {
+
+    static final Charset UTF8 = Charset.forName("utf-8");
+
+    @Test
+    public void getStringReturnsCachedInstance() {
+        StringCache cache = new StringCache(16, 64);
+        byte[] buf = "xxBrowseNamexx".getBytes(UTF8);
+
+        String a = cache.getString(buf, 2, 10);
+        String b = cache.getString("BrowseName".getBytes(UTF8), 0, 10);
+
+        assertEquals("BrowseName", a);
+        assertSame(a, b);
+    }
+
+    @Test
+    public void getStringDecodesUtf8() {
+        StringCache cache = new StringCache(16, 64);
+        String text = "Lämpötila 温度";
+        byte[] buf = text.getBytes(UTF8);
+
+        assertEquals(text, cache.getString(buf, 0, buf.length));
+        assertEquals(text, StringCache.decodeUtf8(buf, 0, buf.length));
+        assertEquals("", cache.getString(buf, 0, 0));
+    }
+
+    @Test
+    public void longStringsAreNotCached() {
+        StringCache cache = new StringCache(16, 4);
+        byte[] buf = "Temperature".getBytes(UTF8);
+
+        String a = cache.getString(buf, 0, buf.length);
+        String b = cache.getString(buf, 0, buf.length);
+
+        assertEquals(a, b);
+        assertNotSame(a, b);
+    }
+
+    @Test
+    public void decoderInternsStringsAndQualifiedNames() throws Exception {
+        QualifiedName name = new QualifiedName(2, "Temperature");
+        LocalizedText text = new LocalizedText("Temperature", "en");
+        EncoderContext ctx = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+        EncoderCalc calc = new EncoderCalc();
+        calc.putQualifiedName(null, name);
+        calc.putLocalizedText(null, text);
+        byte[] buf = new byte[calc.getLength() * 2];
+        BinaryEncoder enc = new BinaryEncoder(buf);
+        enc.setEncoderContext(ctx);
+        for (int i = 0; i < 2; i++) {
+            enc.putQualifiedName(null, name);
+            enc.putLocalizedText(null, text);
+        }
+
+        ctx.setStringCache(new StringCache(64, 256));
+        BinaryDecoder dec = new BinaryDecoder(buf);
+        dec.setEncoderContext(ctx);
+
+        QualifiedName q1 = dec.getQualifiedName(null);
+        LocalizedText t1 = dec.getLocalizedText(null);
+        QualifiedName q2 = dec.getQualifiedName(null);
+        LocalizedText t2 = dec.getLocalizedText(null);
+
+        assertEquals(name, q1);
+        assertEquals(text, t1);
+        assertSame(q1, q2);
+        assertSame(t1, t2);
+        assertSame(q1.getName(), t1.getText());
+    }
+}
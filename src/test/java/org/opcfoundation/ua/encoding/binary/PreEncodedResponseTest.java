@@ -0,0 +1,68 @@
+package org.opcfoundation.ua.encoding.binary;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.opcfoundation.ua.builtintypes.ByteString;
+import org.opcfoundation.ua.builtintypes.DateTime;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.common.NamespaceTable;
+import org.opcfoundation.ua.core.EndpointDescription;
+import org.opcfoundation.ua.core.GetEndpointsResponse;
+import org.opcfoundation.ua.core.MessageSecurityMode;
+import org.opcfoundation.ua.core.ResponseHeader;
+import org.opcfoundation.ua.core.UserTokenPolicy;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.EncoderMode;
+import org.opcfoundation.ua.encoding.IEncodeable;
+import org.opcfoundation.ua.utils.StackUtils;
+
+public class PreEncodedResponseTest {
+
+	static final EncoderContext CTX = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+
+	static GetEndpointsResponse response(ResponseHeader header) {
+		EndpointDescription ed = new EndpointDescription();
+		ed.setEndpointUrl("opc.tcp://localhost:4840/server");
+		ed.setSecurityMode(MessageSecurityMode.SignAndEncrypt);
+		ed.setServerCertificate(ByteString.valueOf(new byte[] { 1, 2, 3, 4, 5 }));
+		ed.setUserIdentityTokens(new UserTokenPolicy[] { UserTokenPolicy.ANONYMOUS });
+		return new GetEndpointsResponse(header, new EndpointDescription[] { ed, ed });
+	}
+
+	static byte[] encode(IEncodeable message) throws Exception {
+		EncoderCalc calc = new EncoderCalc();
+		calc.setEncoderContext(CTX);
+		calc.putMessage(message);
+		byte[] data = new byte[calc.getLength()];
+		BinaryEncoder enc = new BinaryEncoder(data);
+		enc.setEncoderContext(CTX);
+		enc.setEncoderMode(EncoderMode.NonStrict);
+		enc.putMessage(message);
+		return data;
+	}
+
+	@Test
+	public void encodedLikeTheResponse() throws Exception {
+		PreEncodedResponse cached = PreEncodedResponse.encode(response(new ResponseHeader()), CTX);
+		ResponseHeader header = new ResponseHeader(new DateTime(131000000000000000L), UnsignedInteger.valueOf(42), null, null, null, null);
+
+		assertArrayEquals(encode(response(header)), encode(cached.withResponseHeader(header)));
+	}
+
+	@Test
+	public void decodedAsTheResponse() throws Exception {
+		PreEncodedResponse cached = PreEncodedResponse.encode(response(new ResponseHeader()), CTX);
+		ResponseHeader header = new ResponseHeader(new DateTime(131000000000000000L), UnsignedInteger.valueOf(7), null, null, null, null);
+
+		assertEquals(decode(encode(response(header))), decode(encode(cached.withResponseHeader(header))));
+	}
+
+	static GetEndpointsResponse decode(byte[] data) throws Exception {
+		BinaryDecoder dec = new BinaryDecoder(data);
+		dec.setEncoderContext(CTX);
+		return dec.getMessage();
+	}
+
+}
@@ -0,0 +1,185 @@
+package org.opcfoundation.ua.encoding.json;
+
+import java.util.UUID;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.core.*;
+import org.opcfoundation.ua.encoding.*;
+import org.opcfoundation.ua.utils.*;
+
+import static org.junit.Assert.*;
+
+public class JsonEncoderTest {
+
+    static final EncoderContext CTX = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+
+    static final Object[] VALUES = {
+            Boolean.TRUE,
+            Byte.valueOf((byte) -5),
+            UnsignedByte.valueOf(200),
+            Short.valueOf((short) -300),
+            UnsignedShort.valueOf(65535),
+            Integer.valueOf(Integer.MIN_VALUE),
+            UnsignedInteger.MAX_VALUE,
+            Long.valueOf(Long.MIN_VALUE),
+            UnsignedLong.MAX_VALUE,
+            Float.valueOf(1.25f),
+            Double.valueOf(-0.1),
+            "quote \" backslash \\ tab \t unicode ä€😀",
+            new DateTime(131000000001234567L),
+            UUID.fromString("72962b91-fa75-4ae6-8d28-b404dc7daf63"),
+            ByteString.valueOf((byte) 1, (byte) 2, (byte) 3, (byte) 4),
+            new NodeId(0, 2253),
+            new NodeId(2, "node"),
+            new NodeId(1, UUID.fromString("72962b91-fa75-4ae6-8d28-b404dc7daf63")),
+            new NodeId(3, new byte[] { 9, 8, 7 }),
+            new ExpandedNodeId(UnsignedInteger.valueOf(2), "urn:test", "id"),
+            StatusCode.BAD,
+            new QualifiedName(1, "name"),
+            new LocalizedText("text", "en"),
+            new LocalizedText("text", (String) null),
+            new DataValue(new Variant(Integer.valueOf(42)), StatusCode.getFromBits(0x40000000), new DateTime(131000000000000000L), UnsignedShort.valueOf(10), new DateTime(131000000010000000L), UnsignedShort.valueOf(20)),
+            new Variant(new Integer[] { 1, 2, 3 }),
+            new Variant(new String[][] { { "a", "b" }, { "c", "d" } }),
+            new Variant(new Variant[] { new Variant("x"), new Variant(1.5) }),
+            new ReadValueId(Identifiers.Server, Attributes.Value, "", QualifiedName.DEFAULT_BINARY_ENCODING),
+            NodeClass.Variable,
+    };
+
+    @Test
+    public void roundTripOfValues() throws Exception {
+        JsonEncoder enc = new JsonEncoder();
+        enc.setEncoderContext(CTX);
+        for (Object value : VALUES)
+            enc.put(null, value, value.getClass());
+
+        JsonDecoder dec = new JsonDecoder(enc.toByteArray());
+        dec.setEncoderContext(CTX);
+        for (Object value : VALUES)
+            assertEquals(value, dec.get(null, value.getClass()));
+    }
+
+    @Test
+    public void roundTripOfMessage() throws Exception {
+        ReadRequest request = new ReadRequest(
+                new RequestHeader(new NodeId(0, 1), new DateTime(), UnsignedInteger.valueOf(3), UnsignedInteger.ZERO, null, UnsignedInteger.valueOf(1000), null),
+                0.0, TimestampsToReturn.Both,
+                new ReadValueId[] {
+                        new ReadValueId(Identifiers.Server_ServerStatus, Attributes.Value, null, null),
+                        new ReadValueId(new NodeId(2, "a"), Attributes.BrowseName, "1:2", QualifiedName.DEFAULT_BINARY_ENCODING) });
+        JsonEncoder enc = new JsonEncoder();
+        enc.setEncoderContext(CTX);
+        enc.putMessage(request);
+
+        JsonDecoder dec = new JsonDecoder(enc.toString());
+        dec.setEncoderContext(CTX);
+        ReadRequest decoded = dec.getMessage();
+        assertEquals(request, decoded);
+    }
+
+    @Test
+    public void reversibleForm() throws Exception {
+        assertEquals("\"-9223372036854775808\"", encode(true, Long.MIN_VALUE));
+        assertEquals("\"18446744073709551615\"", encode(true, UnsignedLong.MAX_VALUE));
+        assertEquals("\"2016-02-29T12:34:56.789Z\"", encode(true, new DateTime(131012228967890000L)));
+        assertEquals("\"1601-01-01T00:00:00.0000001Z\"", encode(true, new DateTime(1)));
+        assertEquals("\"0001-01-01T00:00:00Z\"", encode(true, DateTime.MIN_VALUE));
+        assertEquals("{\"Id\":2253}", encode(true, Identifiers.Server));
+        assertEquals("{\"IdType\":1,\"Id\":\"node\",\"Namespace\":2}", encode(true, new NodeId(2, "node")));
+        assertEquals("\"NaN\"", encode(true, Double.NaN));
+        assertEquals("{\"Type\":6,\"Body\":[1,2,3,4],\"Dimensions\":[2,2]}", encode(true, new Variant(new Integer[][] { { 1, 2 }, { 3, 4 } })));
+    }
+
+    @Test
+    public void nonReversibleForm() throws Exception {
+        assertEquals("\"text\"", encode(false, new LocalizedText("text", "en")));
+        assertEquals("[[1,2],[3,4]]", encode(false, new Variant(new Integer[][] { { 1, 2 }, { 3, 4 } })));
+        assertEquals("\"Variable_2\"", encode(false, NodeClass.Variable));
+        assertEquals("{\"Code\":2147549184,\"Symbol\":\"Bad_UnexpectedError\"}", encode(false, new StatusCode(StatusCodes.Bad_UnexpectedError)));
+    }
+
+    @Test
+    public void decodeFieldsInAnyOrder() throws Exception {
+        JsonDecoder dec = new JsonDecoder(
+                "{ \"AttributeId\" : 13, \"DataEncoding\": {\"Name\":\"Default Binary\"}, \"Extra\": [1, {\"a\": null}],\n"
+                + "  \"NodeId\": {\"Namespace\": 2, \"Id\": \"a\\\"b\", \"IdType\": 1} }");
+        dec.setEncoderContext(CTX);
+        ReadValueId value = dec.getEncodeable(null, ReadValueId.class);
+        assertEquals(new NodeId(2, "a\"b"), value.getNodeId());
+        assertEquals(Attributes.Value, value.getAttributeId());
+        assertEquals(QualifiedName.DEFAULT_BINARY_ENCODING, value.getDataEncoding());
+        assertNull(value.getIndexRange());
+    }
+
+    @Test
+    public void decodeDateTimeWithOffset() throws Exception {
+        JsonDecoder dec = new JsonDecoder("\"2016-02-29T14:34:56.789+02:00\"");
+        assertEquals(new DateTime(131012228967890000L), dec.getDateTime(null));
+    }
+
+    @Test(expected = DecodingException.class)
+    public void decodeInvalidJson() throws Exception {
+        new JsonDecoder("{\"Id\": 1").getNodeId(null);
+    }
+
+    @Test
+    public void decodeIntegerRanges() throws Exception {
+        assertEquals(Byte.valueOf((byte) -128), new JsonDecoder("-128").getSByte(null));
+        assertEquals(UnsignedInteger.MAX_VALUE, new JsonDecoder("4294967295").getUInt32(null));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), new JsonDecoder("-9223372036854775808").getInt64(null));
+        assertEquals(UnsignedLong.MAX_VALUE, new JsonDecoder("\"18446744073709551615\"").getUInt64(null));
+        assertOutOfRange("300", Byte.class);
+        assertOutOfRange("-1", UnsignedByte.class);
+        assertOutOfRange("-32769", Short.class);
+        assertOutOfRange("65536", UnsignedShort.class);
+        assertOutOfRange("2147483648", Integer.class);
+        assertOutOfRange("-1", UnsignedInteger.class);
+        assertOutOfRange("9223372036854775808", Long.class);
+        assertOutOfRange("1e19", Long.class);
+        assertOutOfRange("18446744073709551616", UnsignedLong.class);
+    }
+
+    @Test
+    public void decodeWithinLimits() throws Exception {
+        EncoderContext ctx = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+        ctx.setMaxArrayLength(2);
+        ctx.setMaxStringLength(3);
+        ctx.setMaxByteStringLength(3);
+        assertLimitExceeded(ctx, "[1, 2, 3]", Integer[].class);
+        assertLimitExceeded(ctx, "\"abcd\"", String.class);
+        assertLimitExceeded(ctx, "\"a\\u0062cd\"", String.class);
+        assertLimitExceeded(ctx, "\"AQIDBA==\"", ByteString.class);
+        JsonDecoder dec = new JsonDecoder("[\"abc\", 1]");
+        dec.setEncoderContext(ctx);
+        assertEquals(2, dec.getVariantArray(null).length);
+    }
+
+    private static void assertOutOfRange(String json, Class<?> type) throws Exception {
+        try {
+            new JsonDecoder(json).get(null, type);
+            fail(json + " decoded as " + type.getSimpleName());
+        } catch (DecodingException e) {
+            assertEquals(StatusCodes.Bad_DecodingError, e.getStatusCode().getValue());
+        }
+    }
+
+    private static void assertLimitExceeded(EncoderContext ctx, String json, Class<?> type) throws Exception {
+        JsonDecoder dec = new JsonDecoder(json);
+        dec.setEncoderContext(ctx);
+        try {
+            dec.get(null, type);
+            fail(json + " decoded within the limits");
+        } catch (DecodingException e) {
+            assertEquals(StatusCodes.Bad_EncodingLimitsExceeded, e.getStatusCode().getValue());
+        }
+    }
+
+    private static String encode(boolean reversible, Object value) throws Exception {
+        JsonEncoder enc = new JsonEncoder(reversible);
+        enc.setEncoderContext(CTX);
+        enc.put(null, value, value.getClass());
+        return enc.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package org.opcfoundation.ua.encoding.utils;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.opcfoundation.ua.builtintypes.Enumeration;
+import org.opcfoundation.ua.core.NodeClass;
+import org.opcfoundation.ua.encoding.DecodingException;
+
+public class EnumerationValuesTest {
+
+	public enum Sparse implements Enumeration {
+		Low(-5), High(1000000);
+
+		private final int value;
+
+		Sparse(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public int getValue() {
+			return value;
+		}
+
+		public static Sparse valueOf(int value) {
+			return value == 7 ? Low : null;
+		}
+	}
+
+	public enum NoValueOf implements Enumeration {
+		One;
+
+		@Override
+		public int getValue() {
+			return 1;
+		}
+	}
+
+	@Test
+	public void denseValues() throws Exception {
+		assertSame(NodeClass.Unspecified, EnumerationValues.valueOf(NodeClass.class, 0));
+		assertSame(NodeClass.Variable, EnumerationValues.valueOf(NodeClass.class, 2));
+		assertSame(NodeClass.View, EnumerationValues.valueOf(NodeClass.class, 128));
+		assertNull(EnumerationValues.valueOf(NodeClass.class, 3));
+		assertNull(EnumerationValues.valueOf(NodeClass.class, -1));
+	}
+
+	@Test
+	public void sparseValuesAndFallback() throws Exception {
+		assertSame(Sparse.Low, EnumerationValues.valueOf(Sparse.class, -5));
+		assertSame(Sparse.High, EnumerationValues.valueOf(Sparse.class, 1000000));
+		// Other values are resolved with valueOf(int)
+		assertSame(Sparse.Low, EnumerationValues.valueOf(Sparse.class, 7));
+		assertNull(EnumerationValues.valueOf(Sparse.class, 8));
+	}
+
+	@Test(expected = DecodingException.class)
+	public void missingValueOf() throws Exception {
+		assertSame(NoValueOf.One, EnumerationValues.valueOf(NoValueOf.class, 1));
+		EnumerationValues.valueOf(NoValueOf.class, 2);
+	}
+}
@@ -0,0 +1,61 @@
+package org.opcfoundation.ua.encoding.utils;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.core.*;
+import org.opcfoundation.ua.encoding.*;
+import org.opcfoundation.ua.encoding.binary.*;
+import org.opcfoundation.ua.utils.*;
+
+import static org.junit.Assert.*;
+
+public class FieldCodecsTest {
+
+    static final Object[] VALUES = {
+            Boolean.TRUE,
+            UnsignedInteger.valueOf(7),
+            "text",
+            new NodeId(2, "node"),
+            new LocalizedText("text", "en"),
+            new String[] { "a", "", "c" },
+            new ReadValueId(Identifiers.Server, Attributes.Value, "", QualifiedName.DEFAULT_BINARY_ENCODING),
+            new ReadValueId[] { new ReadValueId(Identifiers.Server, Attributes.BrowseName, "", QualifiedName.DEFAULT_BINARY_ENCODING) },
+            NodeClass.Variable,
+            new NodeClass[] { NodeClass.Object, NodeClass.Method },
+    };
+
+    @Test
+    public void roundTripThroughBinaryCodec() throws Exception {
+        EncoderContext ctx = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+        EncoderCalc calc = new EncoderCalc();
+        calc.setEncoderContext(ctx);
+        for (Object value : VALUES)
+            calc.put(null, value, value.getClass());
+        byte[] buf = new byte[calc.getLength()];
+        BinaryEncoder enc = new BinaryEncoder(buf);
+        enc.setEncoderContext(ctx);
+        for (Object value : VALUES)
+            enc.put(null, value, value.getClass());
+
+        BinaryDecoder dec = new BinaryDecoder(buf);
+        dec.setEncoderContext(ctx);
+        for (Object value : VALUES) {
+            Object decoded = dec.get(null, value.getClass());
+            if (value instanceof Object[])
+                assertArrayEquals((Object[]) value, (Object[]) decoded);
+            else
+                assertEquals(value, decoded);
+        }
+    }
+
+    @Test(expected = DecodingException.class)
+    public void getFailsForUnknownClass() throws Exception {
+        FieldCodecs.get(new BinaryDecoder(new byte[4]), null, Thread.class);
+    }
+
+    @Test(expected = EncodingException.class)
+    public void putFailsForUnknownClass() throws Exception {
+        FieldCodecs.put(new EncoderCalc(), null, Thread.currentThread(), Thread.class);
+    }
+}
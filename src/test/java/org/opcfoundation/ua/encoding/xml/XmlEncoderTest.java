@@ -0,0 +1,110 @@
+package org.opcfoundation.ua.encoding.xml;
+
+import java.util.UUID;
+
+import org.junit.*;
+import org.opcfoundation.ua.builtintypes.*;
+import org.opcfoundation.ua.common.*;
+import org.opcfoundation.ua.core.*;
+import org.opcfoundation.ua.encoding.*;
+import org.opcfoundation.ua.utils.*;
+
+import static org.junit.Assert.*;
+
+public class XmlEncoderTest {
+
+    static final EncoderContext CTX = new EncoderContext(NamespaceTable.getDefaultInstance(), null, StackUtils.getDefaultSerializer());
+
+    static final Variant[] VARIANTS = {
+            new Variant(Boolean.TRUE),
+            new Variant(Byte.valueOf((byte) -5)),
+            new Variant(UnsignedByte.valueOf(200)),
+            new Variant(Short.valueOf((short) -300)),
+            new Variant(UnsignedShort.valueOf(65535)),
+            new Variant(Integer.valueOf(Integer.MIN_VALUE)),
+            new Variant(UnsignedInteger.MAX_VALUE),
+            new Variant(Long.valueOf(Long.MIN_VALUE)),
+            new Variant(UnsignedLong.MAX_VALUE),
+            new Variant(Float.valueOf(Float.NEGATIVE_INFINITY)),
+            new Variant(Double.valueOf(Double.NaN)),
+            new Variant("markup <a> & \"quotes\""),
+            new Variant(new DateTime(131000000001234567L)),
+            new Variant(UUID.fromString("72962b91-fa75-4ae6-8d28-b404dc7daf63")),
+            new Variant(ByteString.valueOf((byte) 1, (byte) 2, (byte) 3, (byte) 4)),
+            new Variant(new XmlElement("<a><b>text &amp; more</b></a>")),
+            new Variant(new NodeId(2, "node")),
+            new Variant(new ExpandedNodeId(UnsignedInteger.valueOf(2), 1, "id")),
+            new Variant(StatusCode.BAD),
+            new Variant(new QualifiedName(1, "name")),
+            new Variant(new LocalizedText("text", "en")),
+            new Variant(new DataValue(new Variant(Integer.valueOf(42)), StatusCode.getFromBits(0x40000000), new DateTime(131000000000000000L), UnsignedShort.valueOf(10), null, null)),
+            new Variant(new ReadValueId(Identifiers.Server, Attributes.Value, "1:2", QualifiedName.DEFAULT_BINARY_ENCODING)),
+            new Variant(new Integer[] { 1, 2, 3 }),
+            new Variant(new String[] { "a", null, "c" }),
+            new Variant(new LocalizedText[] { new LocalizedText("a", "en"), new LocalizedText("b", "fi") }),
+            new Variant(new String[][] { { "a", "b" }, { "c", "d" } }),
+            new Variant(new Variant[] { new Variant("x"), new Variant(1.5) }),
+    };
+
+    @Test
+    public void roundTripOfVariants() throws Exception {
+        for (Variant v : VARIANTS) {
+            XmlEncoder enc = new XmlEncoder();
+            enc.setEncoderContext(CTX);
+            enc.putVariant("Value", v);
+
+            XmlDecoder dec = new XmlDecoder(enc.toXmlElement(), CTX);
+            assertEquals(v, dec.getVariant("Value"));
+        }
+    }
+
+    @Test
+    public void roundTripOfStructures() throws Exception {
+        Structure[] structures = {
+                new ReadValueId(new NodeId(2, 1000), Attributes.BrowseName, "1:2", new QualifiedName(0, "Default XML")),
+                new WriteValue(Identifiers.Server_ServerStatus, Attributes.Value, null,
+                        new DataValue(new Variant(2.5), StatusCode.GOOD, new DateTime(131000000001234567L), new DateTime(131000000010000000L))),
+                new Argument("Input", Identifiers.Double, 1, new UnsignedInteger[] { UnsignedInteger.valueOf(3) }, new LocalizedText("input", "en")),
+                new ServerStatusDataType(new DateTime(131000000000000000L), new DateTime(131000000010000000L), ServerState.Suspended,
+                        new BuildInfo("urn:product", "manufacturer", "product", "1.0", "42", new DateTime(130000000000000000L)),
+                        UnsignedInteger.valueOf(10), new LocalizedText("", "en")),
+                new BrowseDescription(Identifiers.ObjectsFolder, BrowseDirection.Inverse, Identifiers.HierarchicalReferences, true,
+                        UnsignedInteger.valueOf(1), UnsignedInteger.valueOf(63)),
+                new RelativePath(new RelativePathElement[] {
+                        new RelativePathElement(Identifiers.HasComponent, false, true, new QualifiedName(0, "Server")),
+                        new RelativePathElement(Identifiers.HasProperty, true, false, new QualifiedName(2, "a & b")) }),
+                new AddNodesItem(new ExpandedNodeId(Identifiers.ObjectsFolder), Identifiers.Organizes, new ExpandedNodeId(UnsignedInteger.ZERO, 2, "new"),
+                        new QualifiedName(2, "New"), NodeClass.Object, null, new ExpandedNodeId(Identifiers.FolderType)),
+        };
+        for (Structure s : structures) {
+            ExtensionObject eo = ExtensionObject.encode(s, QualifiedName.DEFAULT_XML_ENCODING, CTX);
+            assertEquals(s.getXmlEncodeId(), eo.getTypeId());
+            assertEquals(EncodeType.Xml, eo.getEncodeType());
+            assertEquals(s, eo.decode(CTX));
+        }
+    }
+
+    @Test
+    public void roundTripOfEnumerationArray() throws Exception {
+        NodeClass[] classes = { NodeClass.Object, NodeClass.Variable, NodeClass.Method };
+        XmlEncoder enc = new XmlEncoder();
+        enc.setEncoderContext(CTX);
+        enc.putEnumerationArray("Classes", classes);
+
+        XmlDecoder dec = new XmlDecoder(enc.toXmlElement(), CTX);
+        assertArrayEquals(classes, dec.getEnumerationArray("Classes", NodeClass.class));
+    }
+
+    @Test
+    public void binaryBodyOfExtensionObject() throws Exception {
+        ReadValueId s = new ReadValueId(Identifiers.Server, Attributes.Value, "1:2", QualifiedName.DEFAULT_BINARY_ENCODING);
+        ExtensionObject binary = ExtensionObject.binaryEncode(s, CTX);
+        XmlEncoder enc = new XmlEncoder();
+        enc.setEncoderContext(CTX);
+        enc.putExtensionObject("Value", binary);
+
+        XmlDecoder dec = new XmlDecoder(enc.toXmlElement(), CTX);
+        assertEquals(s, dec.getExtensionObject("Value").decode(CTX));
+    }
+
+}
@@ -0,0 +1,86 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+package org.opcfoundation.ua.transport.tcp.io;
+
+import java.net.ServerSocket;
+import java.util.Arrays;
+
+import org.opcfoundation.ua.application.Client;
+import org.opcfoundation.ua.application.Server;
+import org.opcfoundation.ua.core.GetEndpointsRequest;
+import org.opcfoundation.ua.transport.security.SecurityMode;
+
+/**
+ * Token renewal bench. Runs requests over a loopback secure channel whose
+ * security token is renewed every few hundred milliseconds, and prints the
+ * p99 and max request latency across the renewals.
+ */
+public class SecureChannelTcpBench {
+
+	static final int TOKEN_LIFETIME = 400;
+	static final int LIFETIMES = 5;
+
+	public static void main(String[] args) throws Exception {
+		ServerSocket socket = new ServerSocket(0);
+		int port = socket.getLocalPort();
+		socket.close();
+		String url = "opc.tcp://127.0.0.1:" + port + "/SecureChannelTcpBench";
+
+		Server server = Server.createServerApplication();
+		server.bind(url, url, SecurityMode.NONE);
+
+		Client client = Client.createClientApplication(null);
+		client.getEndpointConfiguration().setSecurityTokenLifetime(TOKEN_LIFETIME);
+		SecureChannelTcp channel = (SecureChannelTcp) client.createSecureChannel(url, url, SecurityMode.NONE, null);
+
+		for (int round = 0; round < 3; round++) {
+			long[] latencies = new long[1000000];
+			int n = 0;
+			int renewals = 0;
+			long expireTime = channel.tokenExpireTime;
+			long end = System.currentTimeMillis() + TOKEN_LIFETIME * LIFETIMES;
+			while (System.currentTimeMillis() < end && n < latencies.length) {
+				long start = System.nanoTime();
+				channel.serviceRequest(new GetEndpointsRequest(null, url, null, null));
+				latencies[n++] = System.nanoTime() - start;
+				if (channel.tokenExpireTime != expireTime) {
+					expireTime = channel.tokenExpireTime;
+					renewals++;
+				}
+			}
+			Arrays.sort(latencies, 0, n);
+			System.out.printf("%d requests, %d renewals: p99 %.2f ms, max %.2f ms%n", n, renewals, latencies[(int) (n * 0.99)] / 1e6, latencies[n - 1] / 1e6);
+		}
+
+		channel.close();
+		server.close();
+		System.exit(0);
+	}
+
+}
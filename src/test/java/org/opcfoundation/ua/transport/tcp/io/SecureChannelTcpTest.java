@@ -0,0 +1,172 @@
+package org.opcfoundation.ua.transport.tcp.io;
+
+import static org.junit.Assert.*;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimerTask;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opcfoundation.ua.builtintypes.DateTime;
+import org.opcfoundation.ua.builtintypes.ServiceRequest;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.core.ChannelSecurityToken;
+import org.opcfoundation.ua.core.EndpointConfiguration;
+import org.opcfoundation.ua.core.EndpointDescription;
+import org.opcfoundation.ua.core.MessageSecurityMode;
+import org.opcfoundation.ua.core.OpenSecureChannelRequest;
+import org.opcfoundation.ua.core.OpenSecureChannelResponse;
+import org.opcfoundation.ua.core.SecurityTokenRequestType;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.transport.IConnectionListener;
+import org.opcfoundation.ua.transport.TransportChannelSettings;
+import org.opcfoundation.ua.transport.security.SecurityPolicy;
+
+public class SecureChannelTcpTest {
+
+	static final int CHANNEL_ID = 5;
+
+	SecureChannelTcp channel;
+	RecordingConnection connection = new RecordingConnection();
+
+	@Before
+	public void setUp() throws Exception {
+		EndpointDescription description = new EndpointDescription();
+		description.setEndpointUrl("opc.tcp://localhost:4840");
+		description.setSecurityPolicyUri(SecurityPolicy.NONE.getPolicyUri());
+		description.setSecurityMode(MessageSecurityMode.None);
+		EndpointConfiguration configuration = EndpointConfiguration.defaults();
+		configuration.setOperationTimeout(0);
+		TransportChannelSettings settings = new TransportChannelSettings(description, configuration, null, null, null, null);
+
+		channel = new SecureChannelTcp();
+		channel.initialize(settings, EncoderContext.getDefaultInstance());
+		channel.setTransportChannel(connection);
+		// An open channel with a token that has not been renewed yet
+		channel.secureChannelId = CHANNEL_ID;
+		channel.tokenExpireTime = System.currentTimeMillis() + 60000;
+	}
+
+	@After
+	public void tearDown() {
+		TimerTask t = channel.renewSecurityTokenTask;
+		if (t != null)
+			t.cancel();
+	}
+
+	@Test
+	public void renewReturnsBeforeTheResponse() throws Exception {
+		long expireTime = channel.tokenExpireTime;
+		channel.renewSecurityToken();
+
+		// The request is outstanding and the current token stays in use
+		assertEquals(1, connection.requests.size());
+		OpenSecureChannelRequest req = connection.requests.get(0);
+		assertEquals(SecurityTokenRequestType.Renew, req.getRequestType());
+		assertEquals(CHANNEL_ID, connection.secureChannelIds.get(0).intValue());
+		assertNotNull(channel.openRequest.get());
+		assertEquals(expireTime, channel.tokenExpireTime);
+		assertTrue(channel.isOpen());
+
+		respond(0, 120000);
+		assertNull(channel.openRequest.get());
+		assertTrue(channel.tokenExpireTime > expireTime);
+		assertNotNull(channel.renewSecurityTokenTask);
+		assertEquals(CHANNEL_ID, channel.getSecureChannelId());
+	}
+
+	@Test
+	public void responseToOlderRequestKeepsNewerRequest() throws Exception {
+		channel.renewSecurityToken();
+		channel.renewSecurityToken();
+		assertEquals(2, connection.requests.size());
+		SecureChannelTcp.PendingRequest newer = channel.openRequest.get();
+		assertEquals(connection.requestIds.get(1).intValue(), newer.requestId);
+
+		respond(0, 120000);
+		assertSame(newer, channel.openRequest.get());
+		assertSame(newer, channel.requests.get(newer.requestId));
+
+		respond(1, 150000);
+		assertNull(channel.openRequest.get());
+		assertTrue(channel.requests.isEmpty());
+	}
+
+	/**
+	 * Deliver the response to a sent request, and wait until its token is installed.
+	 */
+	private void respond(int index, long lifetime) throws InterruptedException {
+		ChannelSecurityToken token = new ChannelSecurityToken();
+		token.setChannelId(UnsignedInteger.getFromBits(CHANNEL_ID));
+		token.setTokenId(UnsignedInteger.getFromBits(index + 2));
+		token.setCreatedAt(DateTime.currentTime());
+		token.setRevisedLifetime(UnsignedInteger.valueOf(lifetime));
+		OpenSecureChannelResponse res = new OpenSecureChannelResponse();
+		res.setSecurityToken(token);
+
+		long expireTime = channel.tokenExpireTime;
+		channel.onMessage(connection.requestIds.get(index), CHANNEL_ID, res);
+		long end = System.currentTimeMillis() + 5000;
+		while (channel.tokenExpireTime == expireTime && System.currentTimeMillis() < end)
+			Thread.sleep(1);
+		assertNotEquals("token was not installed", expireTime, channel.tokenExpireTime);
+	}
+
+	/**
+	 * Connection that records the requests sent to it and never responds.
+	 */
+	static class RecordingConnection implements IConnection {
+		final List<OpenSecureChannelRequest> requests = new ArrayList<OpenSecureChannelRequest>();
+		final List<Integer> requestIds = new ArrayList<Integer>();
+		final List<Integer> secureChannelIds = new ArrayList<Integer>();
+
+		@Override
+		public void initialize(InetSocketAddress addr, TransportChannelSettings settings, EncoderContext ctx) {
+		}
+
+		@Override
+		public synchronized void sendRequest(ServiceRequest request, int secureChannelId, int requestId)
+				throws ServiceResultException {
+			requests.add((OpenSecureChannelRequest) request);
+			requestIds.add(requestId);
+			secureChannelIds.add(secureChannelId);
+		}
+
+		@Override
+		public void addMessageListener(IMessageListener listener) {
+		}
+
+		@Override
+		public void removeMessageListener(IMessageListener listener) {
+		}
+
+		@Override
+		public void addConnectionListener(IConnectionListener listener) {
+		}
+
+		@Override
+		public void removeConnectionListener(IConnectionListener listener) {
+		}
+
+		@Override
+		public void open() {
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public void reconnect() {
+		}
+
+		@Override
+		public void dispose() {
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+package org.opcfoundation.ua.transport.tcp.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.net.ServerSocket;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opcfoundation.ua.application.Client;
+import org.opcfoundation.ua.application.Server;
+import org.opcfoundation.ua.common.ServiceResultException;
+import org.opcfoundation.ua.core.GetEndpointsRequest;
+import org.opcfoundation.ua.core.GetEndpointsResponse;
+import org.opcfoundation.ua.core.StatusCodes;
+import org.opcfoundation.ua.transport.SecureChannel;
+import org.opcfoundation.ua.transport.security.SecurityMode;
+
+public class OpcTcpServerTest {
+
+	Server server;
+	Client client;
+	String url;
+
+	@Before
+	public void setUp() throws Exception {
+		ServerSocket socket = new ServerSocket(0);
+		int port = socket.getLocalPort();
+		socket.close();
+		url = "opc.tcp://127.0.0.1:" + port + "/OpcTcpServerTest";
+
+		server = Server.createServerApplication();
+		server.bind(url, url, SecurityMode.NONE);
+		client = Client.createClientApplication(null);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		server.close();
+	}
+
+	@Test
+	public void handshakesAboveRateAreRejected() throws Exception {
+		OpcTcpServer tcpServer = server.getApplication().getOpctcpServer();
+		tcpServer.setHandshakeRateLimit(0.001, 1);
+
+		SecureChannel channel = client.createSecureChannel(url, url, SecurityMode.NONE, null);
+		try {
+			try {
+				client.createSecureChannel(url, url, SecurityMode.NONE, null).close();
+				fail("second channel was accepted");
+			} catch (ServiceResultException e) {
+				assertEquals(StatusCodes.Bad_TcpServerTooBusy, e.getStatusCode().getValue());
+			}
+			assertEquals(1, tcpServer.getRejectedHandshakeCount());
+
+			// The established channel is not affected
+			GetEndpointsResponse res = (GetEndpointsResponse) channel.serviceRequest(new GetEndpointsRequest(null, url, null, null));
+			assertNotNull(res.getEndpoints());
+		} finally {
+			channel.close();
+		}
+
+		tcpServer.setHandshakeRateLimit(0, 0);
+		client.createSecureChannel(url, url, SecurityMode.NONE, null).close();
+	}
+
+}
@@ -0,0 +1,149 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.unittests;
+
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.opcfoundation.ua.utils.IStatefulObject;
+import org.opcfoundation.ua.utils.StackUtils;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncInputStream;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncSocketImpl;
+import org.opcfoundation.ua.utils.asyncsocket.BufferMonitorState;
+import org.opcfoundation.ua.utils.asyncsocket.FrameListener;
+import org.opcfoundation.ua.utils.asyncsocket.MonitorListener;
+
+/**
+ * Chunk decoding bench. Sends length-prefixed chunks over loopback and
+ * measures the chunks per second that an {@link AsyncSocketImpl} delivers,
+ * reading them either with a {@link FrameListener} on the selector thread or
+ * with a pair of buffer monitors per chunk.
+ */
+public class ChunkDecodeBench {
+
+	static final int CHUNKS = 200000;
+
+	public static void main(String[] args) throws Exception {
+		for (int size : new int[] { 64, 1024, 8192 }) {
+			for (int round = 0; round < 3; round++) {
+				double monitors = run(size, false);
+				double frames = run(size, true);
+				System.out.printf("chunk size %5d: monitors %9.0f chunks/s, frames %9.0f chunks/s%n", size, monitors, frames);
+			}
+		}
+		System.exit(0);
+	}
+
+	static double run(final int size, boolean frames) throws Exception {
+		final ServerSocket server = new ServerSocket(0);
+		Thread sender = new Thread() {
+			public void run() {
+				try {
+					Socket s = server.accept();
+					OutputStream out = s.getOutputStream();
+					byte[] buf = new byte[size * 64];
+					ByteBuffer bb = ByteBuffer.wrap(buf).order(ByteOrder.LITTLE_ENDIAN);
+					for (int i = 0; i < 64; i++) {
+						bb.putInt(i * size, 0x464E534D);
+						bb.putInt(i * size + 4, size);
+					}
+					for (int i = 0; i < CHUNKS / 64; i++)
+						out.write(buf);
+					out.flush();
+					Thread.sleep(1000);
+					s.close();
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+		};
+		sender.start();
+
+		final CountDownLatch done = new CountDownLatch(CHUNKS / 64 * 64);
+		SocketChannel chan = SocketChannel.open(server.getLocalSocketAddress());
+		chan.configureBlocking(false);
+		long start = System.nanoTime();
+		AsyncSocketImpl s = new AsyncSocketImpl(chan, StackUtils.getNonBlockingWorkExecutor(), StackUtils.getSelector());
+		final AsyncInputStream is = s.getInputStream();
+		if (frames) {
+			is.setFrameListener(8, new FrameListener() {
+				@Override
+				public int getFrameLength(ByteBuffer header) {
+					header.order(ByteOrder.LITTLE_ENDIAN);
+					header.getInt();
+					return header.getInt();
+				}
+				@Override
+				public void onFrame(ByteBuffer frame) {
+					done.countDown();
+				}
+				@Override
+				public void onFrameError(ByteBuffer header) {
+				}
+				@Override
+				public void onClosed() {
+				}
+			});
+		} else {
+			// The reading loop that the server connection used before frame listeners
+			is.createMonitor(8, new MonitorListener() {
+				@Override
+				public void onStateTransition(IStatefulObject<BufferMonitorState, ?> sender, BufferMonitorState oldState, BufferMonitorState newState) {
+					if (newState != BufferMonitorState.Triggered)
+						return;
+					ByteBuffer hdr = is.peek(8);
+					hdr.order(ByteOrder.LITTLE_ENDIAN);
+					hdr.getInt();
+					int chunkSize = hdr.getInt();
+					if (is.available() >= chunkSize) {
+						is.read(chunkSize);
+						done.countDown();
+						is.createMonitor(is.getPosition() + 8, this);
+					} else
+						is.createMonitor(is.getPosition() + chunkSize, this);
+				}
+			});
+		}
+		if (!done.await(60, TimeUnit.SECONDS))
+			throw new IllegalStateException("chunks not received: " + done.getCount());
+		long elapsed = System.nanoTime() - start;
+		s.close();
+		server.close();
+		sender.join();
+		return CHUNKS / 64 * 64 / (elapsed / 1e9);
+	}
+
+}
@@ -0,0 +1,110 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+
+package org.opcfoundation.ua.unittests;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.opcfoundation.ua.builtintypes.DataValue;
+import org.opcfoundation.ua.builtintypes.DateTime;
+import org.opcfoundation.ua.builtintypes.NodeId;
+import org.opcfoundation.ua.builtintypes.UnsignedInteger;
+import org.opcfoundation.ua.builtintypes.Variant;
+import org.opcfoundation.ua.common.NamespaceTable;
+import org.opcfoundation.ua.common.ServerTable;
+import org.opcfoundation.ua.core.Attributes;
+import org.opcfoundation.ua.core.Identifiers;
+import org.opcfoundation.ua.core.ReadRequest;
+import org.opcfoundation.ua.core.ReadResponse;
+import org.opcfoundation.ua.core.ReadValueId;
+import org.opcfoundation.ua.core.RequestHeader;
+import org.opcfoundation.ua.core.ResponseHeader;
+import org.opcfoundation.ua.core.ServerState;
+import org.opcfoundation.ua.core.TimestampsToReturn;
+import org.opcfoundation.ua.encoding.EncoderContext;
+import org.opcfoundation.ua.encoding.EncoderMode;
+import org.opcfoundation.ua.encoding.binary.BinaryDecoder;
+import org.opcfoundation.ua.encoding.binary.BinaryEncoder;
+import org.opcfoundation.ua.utils.StackUtils;
+
+/**
+ * Cold start bench. Measures the time of the first Read round trip in a
+ * fresh JVM: the encoding and decoding of a ReadRequest and its
+ * ReadResponse, including the initialization of the identifiers and the
+ * serializers of the stack. Run as a separate process, e.g.
+ * <pre>
+ * java -cp target/classes:target/test-classes:slf4j-api.jar org.opcfoundation.ua.unittests.ColdStartBench
+ * </pre>
+ */
+public class ColdStartBench {
+
+	public static void main(String[] args) throws Exception {
+		long start = System.nanoTime();
+		long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+		EncoderContext ctx = new EncoderContext(NamespaceTable.getDefaultInstance(), new ServerTable(), StackUtils.getDefaultSerializer());
+		ByteBuffer buf = ByteBuffer.allocate(64*1024).order(ByteOrder.LITTLE_ENDIAN);
+
+		ReadRequest request = new ReadRequest(
+				new RequestHeader(NodeId.NULL, DateTime.currentTime(), UnsignedInteger.ONE, UnsignedInteger.ZERO, null, UnsignedInteger.valueOf(10000), null),
+				0.0, TimestampsToReturn.Both,
+				new ReadValueId[] { new ReadValueId(Identifiers.Server_ServerStatus_State, Attributes.Value, null, null) });
+		BinaryEncoder enc = new BinaryEncoder(buf);
+		enc.setEncoderContext(ctx);
+		enc.setEncoderMode(EncoderMode.NonStrict);
+		enc.putMessage(request);
+		buf.flip();
+		BinaryDecoder dec = new BinaryDecoder(buf);
+		dec.setEncoderContext(ctx);
+		ReadRequest decodedRequest = dec.getMessage();
+		long requestTime = System.nanoTime();
+
+		buf.clear();
+		ReadResponse response = new ReadResponse(
+				new ResponseHeader(DateTime.currentTime(), decodedRequest.getRequestHeader().getRequestHandle(), null, null, null, null),
+				new DataValue[] { new DataValue(new Variant(Integer.valueOf(ServerState.Running.getValue()))) }, null);
+		enc = new BinaryEncoder(buf);
+		enc.setEncoderContext(ctx);
+		enc.setEncoderMode(EncoderMode.NonStrict);
+		enc.putMessage(response);
+		buf.flip();
+		dec = new BinaryDecoder(buf);
+		dec.setEncoderContext(ctx);
+		dec.getMessage();
+		long end = System.nanoTime();
+
+		System.out.println("Read request round trip:  " + (requestTime - start) / 1000000 + " ms");
+		System.out.println("Read response round trip: " + (end - requestTime) / 1000000 + " ms");
+		System.out.println("First Read round trip:    " + (end - start) / 1000000 + " ms");
+		System.out.println("Since JVM start:          " + (System.currentTimeMillis() - jvmStart) + " ms");
+	}
+
+}
@@ -0,0 +1,146 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+package org.opcfoundation.ua.unittests;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opcfoundation.ua.utils.StackUtils;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncSelector;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncServerSocket;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncServerSocket.ConnectListener;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncSocketImpl;
+import org.opcfoundation.ua.utils.asyncsocket.FrameListener;
+
+/**
+ * Selector bench. Runs a loopback echo server of length-prefixed frames on
+ * an {@link AsyncServerSocket} and measures the round trips per second of
+ * many ping-ponging clients, with all connections on one selector and with
+ * the connections spread over {@link StackUtils#getConnectionSelectors()}.
+ */
+public class SelectorBench {
+
+	static final int CLIENTS = 64;
+	static final int FRAME_SIZE = 1024;
+	static final long DURATION = 3000;
+
+	public static void main(String[] args) throws Exception {
+		AsyncSelector[] single = { StackUtils.getSelector() };
+		AsyncSelector[] perCore = StackUtils.getConnectionSelectors();
+		for (int round = 0; round < 3; round++) {
+			double one = run(single);
+			double many = run(perCore);
+			System.out.printf("%d clients: 1 selector %9.0f round trips/s, %d selectors %9.0f round trips/s%n", CLIENTS, one, perCore.length, many);
+		}
+		System.exit(0);
+	}
+
+	static double run(AsyncSelector[] selectors) throws Exception {
+		ServerSocketChannel channel = ServerSocketChannel.open();
+		channel.configureBlocking(false);
+		AsyncServerSocket server = new AsyncServerSocket(channel, StackUtils.getNonBlockingWorkExecutor(), StackUtils.getSelector(), selectors);
+		server.addListener(new ConnectListener() {
+			@Override
+			public void onConnected(AsyncServerSocket sender, final AsyncSocketImpl connection) {
+				connection.getInputStream().setFrameListener(8, new FrameListener() {
+					@Override
+					public int getFrameLength(ByteBuffer header) {
+						header.order(ByteOrder.LITTLE_ENDIAN);
+						header.getInt();
+						return header.getInt();
+					}
+					@Override
+					public void onFrame(ByteBuffer frame) {
+						ByteBuffer copy = ByteBuffer.allocate(frame.remaining());
+						copy.put(frame).flip();
+						connection.getOutputStream().write(copy);
+					}
+					@Override
+					public void onFrameError(ByteBuffer header) {
+						try {
+							connection.close();
+						} catch (IOException e) {
+						}
+					}
+					@Override
+					public void onClosed() {
+					}
+				});
+			}
+		});
+		server.bind(new InetSocketAddress("127.0.0.1", 0), 0);
+		final int port = server.socket().getLocalPort();
+
+		final AtomicLong roundTrips = new AtomicLong();
+		final CountDownLatch started = new CountDownLatch(CLIENTS);
+		final long[] end = new long[1];
+		Thread[] clients = new Thread[CLIENTS];
+		for (int i = 0; i < CLIENTS; i++) {
+			clients[i] = new Thread() {
+				public void run() {
+					try {
+						Socket s = new Socket("127.0.0.1", port);
+						s.setTcpNoDelay(true);
+						byte[] frame = new byte[FRAME_SIZE];
+						ByteBuffer.wrap(frame).order(ByteOrder.LITTLE_ENDIAN).putInt(0x464E534D).putInt(FRAME_SIZE);
+						byte[] reply = new byte[FRAME_SIZE];
+						OutputStream out = s.getOutputStream();
+						DataInputStream in = new DataInputStream(s.getInputStream());
+						started.countDown();
+						started.await();
+						while (System.currentTimeMillis() < end[0]) {
+							out.write(frame);
+							in.readFully(reply);
+							roundTrips.incrementAndGet();
+						}
+						s.close();
+					} catch (Exception e) {
+						e.printStackTrace();
+					}
+				}
+			};
+		}
+		end[0] = System.currentTimeMillis() + DURATION;
+		for (Thread t : clients)
+			t.start();
+		for (Thread t : clients)
+			t.join();
+		server.close();
+		return roundTrips.get() / (DURATION / 1000.0);
+	}
+
+}
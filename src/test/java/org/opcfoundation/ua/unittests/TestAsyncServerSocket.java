@@ -0,0 +1,97 @@
+/* ========================================================================
+ * Copyright (c) 2005-2015 The OPC Foundation, Inc. All rights reserved.
+ *
+ * OPC Foundation MIT License 1.00
+ * 
+ * Permission is hereby granted, free of charge, to any person
+ * obtaining a copy of this software and associated documentation
+ * files (the "Software"), to deal in the Software without
+ * restriction, including without limitation the rights to use,
+ * copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following
+ * conditions:
+ * 
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES
+ * OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT
+ * HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY,
+ * WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR
+ * OTHER DEALINGS IN THE SOFTWARE.
+ *
+ * The complete license agreement can be found here:
+ * http://opcfoundation.org/License/MIT/1.00/
+ * ======================================================================*/
+package org.opcfoundation.ua.unittests;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import junit.framework.TestCase;
+
+import org.opcfoundation.ua.utils.CurrentThreadExecutor;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncSelector;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncServerSocket;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncServerSocket.ConnectListener;
+import org.opcfoundation.ua.utils.asyncsocket.AsyncSocketImpl;
+
+/**
+ * Tests that accepted connections are spread over the connection selectors
+ * of an {@link AsyncServerSocket}.
+ */
+public class TestAsyncServerSocket extends TestCase {
+
+	public void testConnectionsAreSpreadOverSelectors()
+	throws Exception
+	{
+		AsyncSelector acceptSelector = new AsyncSelector();
+		AsyncSelector[] selectors = { new AsyncSelector(), new AsyncSelector() };
+		ServerSocketChannel channel = ServerSocketChannel.open();
+		channel.configureBlocking(false);
+		AsyncServerSocket server = new AsyncServerSocket(channel, CurrentThreadExecutor.INSTANCE, acceptSelector, selectors);
+		final List<AsyncSocketImpl> accepted = new CopyOnWriteArrayList<AsyncSocketImpl>();
+		server.addListener(new ConnectListener() {
+			@Override
+			public void onConnected(AsyncServerSocket sender, AsyncSocketImpl newConnection) {
+				accepted.add(newConnection);
+			}});
+		server.bind(new InetSocketAddress("127.0.0.1", 0), 0);
+		
+		List<Socket> clients = new ArrayList<Socket>();
+		try {
+			for (int i=0; i<4; i++)
+				clients.add(new Socket("127.0.0.1", server.socket().getLocalPort()));
+			long deadline = System.currentTimeMillis() + 10000;
+			while (accepted.size() < 4 && System.currentTimeMillis() < deadline)
+				Thread.sleep(10);
+			assertEquals(4, accepted.size());
+			
+			int[] counts = new int[selectors.length];
+			for (AsyncSocketImpl s : accepted) {
+				assertNull(s.socketChannel().keyFor(acceptSelector.getSelector()));
+				for (int i=0; i<selectors.length; i++)
+					if (s.socketChannel().keyFor(selectors[i].getSelector()) != null)
+						counts[i]++;
+			}
+			assertEquals(2, counts[0]);
+			assertEquals(2, counts[1]);
+		} finally {
+			for (Socket c : clients)
+				c.close();
+			for (AsyncSocketImpl s : accepted)
+				s.close();
+			server.close();
+			acceptSelector.close();
+			for (AsyncSelector s : selectors)
+				s.close();
+		}
+	}
+	
+}
@@ -28,7 +28,14 @@
  * ======================================================================*/
 
 package org.opcfoundation.ua.unittests;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 
@@ -37,6 +44,8 @@ import org.opcfoundation.ua.utils.asyncsocket.AsyncInputStream;
 import org.opcfoundation.ua.utils.asyncsocket.AsyncOutputStream;
 import org.opcfoundation.ua.utils.asyncsocket.AsyncSocketImpl;
 import org.opcfoundation.ua.utils.asyncsocket.BufferMonitorState;
+import org.opcfoundation.ua.utils.asyncsocket.FrameListener;
+import org.opcfoundation.ua.utils.asyncsocket.WritabilityListener;
 import org.opcfoundation.ua.utils.asyncsocket.MonitorListener;
 
 /**
@@ -167,5 +176,118 @@ public class TestAsyncSocket extends SocketTestBench {
 		
 	}
 	
+	public void testFrames()
+	throws Exception
+	{
+		s.syncConnect(addr);
+		final Semaphore closed = new Semaphore(0);
+		final List<ByteBuffer> frames = new ArrayList<ByteBuffer>();
+		s.getInputStream().setFrameListener(8, new FrameListener() {
+			@Override
+			public int getFrameLength(ByteBuffer header) {
+				header.order(ByteOrder.LITTLE_ENDIAN);
+				header.getInt();
+				return header.getInt();
+			}
+			@Override
+			public void onFrame(ByteBuffer frame) {
+				synchronized(frames) {
+					frames.add(frame);
+				}
+			}
+			@Override
+			public void onFrameError(ByteBuffer header) {
+				fail();
+			}
+			@Override
+			public void onClosed() {
+				closed.release();
+			}});
+		
+		// Frames of different sizes, written in pieces which do not match the frames
+		int[] sizes = { 8, 100, 200000, 12, 65536, 9000 };
+		ByteBuffer data = ByteBuffer.allocate(300000).order(ByteOrder.LITTLE_ENDIAN);
+		for (int i=0; i<sizes.length; i++) {
+			data.putInt(i);
+			data.putInt(sizes[i]);
+			data.put(testData, 0, sizes[i]-8);
+		}
+		data.flip();
+		AsyncOutputStream out = s.getOutputStream();
+		while (data.hasRemaining()) {
+			int len = Math.min(data.remaining(), 7777);
+			out.write(data, len);
+			out.flush();
+		}
+		
+		long deadline = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < deadline) {
+			synchronized(frames) {
+				if (frames.size() == sizes.length) break;
+			}
+			Thread.sleep(10);
+		}
+		synchronized(frames) {
+			assertEquals(sizes.length, frames.size());
+			for (int i=0; i<sizes.length; i++) {
+				ByteBuffer frame = frames.get(i).order(ByteOrder.LITTLE_ENDIAN);
+				assertEquals(sizes[i], frame.remaining());
+				assertEquals(i, frame.getInt());
+				assertEquals(sizes[i], frame.getInt());
+				byte[] body = new byte[sizes[i]-8];
+				frame.get(body);
+				assertTrue(Arrays.equals(Arrays.copyOf(testData, sizes[i]-8), body));
+			}
+		}
+		
+		s.close();
+		assertTrue( closed.tryAcquire(10, TimeUnit.SECONDS) );
+	}
+	
+	public void testWatermarks()
+	throws Exception
+	{
+		// A peer that does not read until told to
+		ServerSocket slowServer = new ServerSocket(0);
+		try {
+			s.syncConnect(slowServer.getLocalSocketAddress());
+			Socket peer = slowServer.accept();
+			final List<Boolean> events = new ArrayList<Boolean>();
+			AsyncOutputStream out = s.getOutputStream();
+			out.setWatermarks(64*1024, 256*1024);
+			out.setWritabilityListener(new WritabilityListener() {
+				@Override
+				public void onWritabilityChanged(Object sender, boolean writable) {
+					synchronized(events) {
+						events.add(writable);
+					}
+				}});
+			assertTrue(out.isWritable());
+			
+			// Fill the socket buffers and the write queue
+			while (out.getUnflushedBytes() <= 256*1024)
+				out.write(testData, 0, 65536);
+			assertFalse(out.isWritable());
+			synchronized(events) {
+				assertEquals(Arrays.asList(false), events);
+			}
+			
+			// Drain
+			InputStream in = peer.getInputStream();
+			byte[] buf = new byte[65536];
+			long deadline = System.currentTimeMillis() + 10000;
+			while (!out.isWritable() && System.currentTimeMillis() < deadline)
+				in.read(buf);
+			assertTrue(out.isWritable());
+			assertTrue(out.getUnflushedBytes() <= 64*1024);
+			synchronized(events) {
+				assertEquals(Arrays.asList(false, true), events);
+			}
+			peer.close();
+		} finally {
+			slowServer.close();
+		}
+	}
+	
 	
 }
@@ -200,6 +200,7 @@ public class TestCertificates extends TestCase {
 			myCertStore.clear(true);
 		} catch (Exception e) {
 		}
+		myCertStore.close();
 	}
 
 	public void testHttpsCert() throws IllegalStateException, IOException,
@@ -30,6 +30,7 @@
 package org.opcfoundation.ua.unittests;
 
 import org.opcfoundation.ua.core.EndpointDescription;
+import org.opcfoundation.ua.core.UserTokenPolicy;
 import org.opcfoundation.ua.utils.EndpointUtil;
 
 
@@ -81,4 +82,22 @@ public class TestGetEndpoints extends EndpointsTestBench {
 		}
 	}
 	
+	public void testCachedResponsesFollowUserTokenPolicies() throws Exception {
+		String url = "opc.tcp://" + EndpointUtil.getHostname() + ":8666/UAExample";
+		EndpointDescription[] endpoints = client.discoverEndpoints("opc.tcp://127.0.0.1:8666", url);
+		int count = endpoints.length;
+		int policies = length(endpoints[0].getUserIdentityTokens());
+		assertEquals(count, client.discoverEndpoints("opc.tcp://127.0.0.1:8666", url).length);
+
+		server.addUserTokenPolicy(UserTokenPolicy.SECURE_USERNAME_PASSWORD);
+		endpoints = client.discoverEndpoints("opc.tcp://127.0.0.1:8666", url);
+		assertEquals(count, endpoints.length);
+		for (EndpointDescription ed : endpoints)
+			assertEquals(policies + 1, length(ed.getUserIdentityTokens()));
+	}
+	
+	static int length(UserTokenPolicy[] policies) {
+		return policies == null ? 0 : policies.length;
+	}
+	
 }
\ No newline at end of file
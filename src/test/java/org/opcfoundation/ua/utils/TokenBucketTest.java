@@ -0,0 +1,33 @@
+package org.opcfoundation.ua.utils;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TokenBucketTest {
+
+	@Test
+	public void burstIsLimitedByCapacity() {
+		TokenBucket bucket = new TokenBucket(1, 3);
+		long now = System.nanoTime();
+		assertTrue(bucket.tryAcquire(now));
+		assertTrue(bucket.tryAcquire(now));
+		assertTrue(bucket.tryAcquire(now));
+		assertFalse(bucket.tryAcquire(now));
+	}
+
+	@Test
+	public void tokensAreRefilledAtRate() {
+		TokenBucket bucket = new TokenBucket(10, 1);
+		long now = System.nanoTime();
+		assertTrue(bucket.tryAcquire(now));
+		assertFalse(bucket.tryAcquire(now + 50000000L));
+		assertTrue(bucket.tryAcquire(now + 100000000L));
+		assertFalse(bucket.tryAcquire(now + 100000000L));
+		// Refill does not exceed the capacity
+		assertTrue(bucket.tryAcquire(now + 10000000000L));
+		assertFalse(bucket.tryAcquire(now + 10000000000L));
+	}
+
+}